@@ -274,6 +274,48 @@ public class ClimateGlobal {
     public ClimateGlobal() {
     }
 
+    /**
+     * Copy constructor. The station maps and sets are unmodifiable, so they are
+     * shared.
+     * 
+     * @param other
+     */
+    public ClimateGlobal(ClimateGlobal other) {
+        noAsterisk = other.noAsterisk;
+        noColon = other.noColon;
+        noMinus = other.noMinus;
+        noSmallLetters = other.noSmallLetters;
+        validIm = other.validIm == null ? null : new ClimateTime(other.validIm);
+        validPm = other.validPm == null ? null : new ClimateTime(other.validPm);
+        useValidIm = other.useValidIm;
+        useValidPm = other.useValidPm;
+        t1 = other.t1;
+        t2 = other.t2;
+        t3 = other.t3;
+        t4 = other.t4;
+        t5 = other.t5;
+        t6 = other.t6;
+        p1 = other.p1;
+        p2 = other.p2;
+        s1 = other.s1;
+        displayWait = other.displayWait;
+        reviewWait = other.reviewWait;
+        allowAutoSend = other.allowAutoSend;
+        copyNWRTo = other.copyNWRTo;
+        allowDisseminate = other.allowDisseminate;
+        officeName = other.officeName;
+        timezone = other.timezone;
+        autoF6 = other.autoF6;
+        autoAM = other.autoAM;
+        autoIM = other.autoIM;
+        autoPM = other.autoPM;
+        autoCLM = other.autoCLM;
+        autoCLS = other.autoCLS;
+        autoCLA = other.autoCLA;
+        stationDesignatorOverrides = other.stationDesignatorOverrides;
+        snowReportingStations = other.snowReportingStations;
+    }
+
     public int getDisplayWait() {
         return displayWait;
     }
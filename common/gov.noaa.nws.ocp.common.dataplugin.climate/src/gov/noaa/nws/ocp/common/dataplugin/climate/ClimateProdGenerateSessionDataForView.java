@@ -55,8 +55,23 @@ public class ClimateProdGenerateSessionDataForView
     @DynamicSerializeElement
     private String status_desc;
 
+    /**
+     * Status of the NWR product set, null if there is no product data.
+     */
+    @DynamicSerializeElement
+    private ProductSetStatus nwrStatus;
+
+    /**
+     * Status of the NWWS product set, null if there is no product data.
+     */
     @DynamicSerializeElement
-    private ClimateProdData prod_data;
+    private ProductSetStatus nwwsStatus;
+
+    @DynamicSerializeElement
+    private int nwrProdCount;
+
+    @DynamicSerializeElement
+    private int nwwsProdCount;
 
     @Column(nullable = false)
     @DynamicSerializeElement
@@ -82,10 +97,6 @@ public class ClimateProdGenerateSessionDataForView
         rval.put("status",
                 stateStatus == null ? null : stateStatus.getStatus());
         rval.put("status_desc", status_desc);
-
-        // nullable
-        rval.put("prod_data", prod_data);
-
         rval.put("start_at", start_at);
         rval.put("last_updated", last_updated);
 
@@ -200,18 +211,81 @@ public class ClimateProdGenerateSessionDataForView
     }
 
     /**
-     * @return the prod_data
+     * @param prodType
+     * @return the status of the product set, null if there is no product
+     *         data.
+     */
+    public ProductSetStatus getProductSetStatus(ClimateProductType prodType) {
+        return prodType == ClimateProductType.NWR ? nwrStatus : nwwsStatus;
+    }
+
+    /**
+     * @param prodType
+     * @return true if the product set has products.
+     */
+    public boolean hasProducts(ClimateProductType prodType) {
+        return (prodType == ClimateProductType.NWR ? nwrProdCount
+                : nwwsProdCount) > 0;
+    }
+
+    /**
+     * @return the nwrStatus
+     */
+    public ProductSetStatus getNwrStatus() {
+        return nwrStatus;
+    }
+
+    /**
+     * @param nwrStatus
+     *            the nwrStatus to set
+     */
+    public void setNwrStatus(ProductSetStatus nwrStatus) {
+        this.nwrStatus = nwrStatus;
+    }
+
+    /**
+     * @return the nwwsStatus
+     */
+    public ProductSetStatus getNwwsStatus() {
+        return nwwsStatus;
+    }
+
+    /**
+     * @param nwwsStatus
+     *            the nwwsStatus to set
+     */
+    public void setNwwsStatus(ProductSetStatus nwwsStatus) {
+        this.nwwsStatus = nwwsStatus;
+    }
+
+    /**
+     * @return the nwrProdCount
+     */
+    public int getNwrProdCount() {
+        return nwrProdCount;
+    }
+
+    /**
+     * @param nwrProdCount
+     *            the nwrProdCount to set
+     */
+    public void setNwrProdCount(int nwrProdCount) {
+        this.nwrProdCount = nwrProdCount;
+    }
+
+    /**
+     * @return the nwwsProdCount
      */
-    public ClimateProdData getProd_data() {
-        return prod_data;
+    public int getNwwsProdCount() {
+        return nwwsProdCount;
     }
 
     /**
-     * @param prod_data
-     *            the prod_data to set
+     * @param nwwsProdCount
+     *            the nwwsProdCount to set
      */
-    public void setProd_data(ClimateProdData prod_data) {
-        this.prod_data = prod_data;
+    public void setNwwsProdCount(int nwwsProdCount) {
+        this.nwwsProdCount = nwwsProdCount;
     }
 
     /**
@@ -0,0 +1,70 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.common.dataplugin.climate.request.initclimate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDayNorm;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodClimo;
+
+/**
+ *
+ * Request to import a batch of records into the day_climate_norm and
+ * mon_climate_norm tables, inserting new records and updating existing ones
+ * with non-missing values only. The records of each table are imported in one
+ * transaction. Returns an ImportClimateNormsResponse.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date        Ticket#   Engineer    Description
+ * ----------- --------- ----------- --------------------------
+ * 10/17/2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+@DynamicSerialize
+public class ImportClimateNormsRequest implements IServerRequest {
+
+    @DynamicSerializeElement
+    private List<ClimateDayNorm> dayRecords = new ArrayList<>();
+
+    @DynamicSerializeElement
+    private List<PeriodClimo> monthRecords = new ArrayList<>();
+
+    public ImportClimateNormsRequest() {
+    }
+
+    public ImportClimateNormsRequest(List<ClimateDayNorm> dayRecords,
+            List<PeriodClimo> monthRecords) {
+        this.dayRecords = dayRecords;
+        this.monthRecords = monthRecords;
+    }
+
+    public List<ClimateDayNorm> getDayRecords() {
+        return dayRecords;
+    }
+
+    public void setDayRecords(List<ClimateDayNorm> dayRecords) {
+        this.dayRecords = dayRecords;
+    }
+
+    public List<PeriodClimo> getMonthRecords() {
+        return monthRecords;
+    }
+
+    public void setMonthRecords(List<PeriodClimo> monthRecords) {
+        this.monthRecords = monthRecords;
+    }
+
+}
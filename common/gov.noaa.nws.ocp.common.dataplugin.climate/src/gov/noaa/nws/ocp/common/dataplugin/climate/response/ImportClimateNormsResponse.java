@@ -0,0 +1,94 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.common.dataplugin.climate.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+
+/**
+ *
+ * Response to an ImportClimateNormsRequest.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+@DynamicSerialize
+public class ImportClimateNormsResponse extends ClimateServiceResponse {
+
+    @DynamicSerializeElement
+    private int savedCount;
+
+    @DynamicSerializeElement
+    private List<String> errors = new ArrayList<>();
+
+    /**
+     * Empty constructor.
+     */
+    public ImportClimateNormsResponse() {
+        super();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param savedCount
+     *            number of records saved.
+     * @param errors
+     *            messages for records that were not saved.
+     * @param iSuccess
+     *            task was successful or not.
+     * @param iMessage
+     *            task message.
+     */
+    public ImportClimateNormsResponse(int savedCount, List<String> errors,
+            boolean iSuccess, String iMessage) {
+        super(iSuccess, iMessage);
+        this.savedCount = savedCount;
+        this.errors = errors;
+    }
+
+    /**
+     * @return the number of records saved.
+     */
+    public int getSavedCount() {
+        return savedCount;
+    }
+
+    /**
+     * @param savedCount
+     *            number of records saved to set.
+     */
+    public void setSavedCount(int savedCount) {
+        this.savedCount = savedCount;
+    }
+
+    /**
+     * @return messages for records that were not saved.
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * @param errors
+     *            messages for records that were not saved to set.
+     */
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+
+}
@@ -4,6 +4,8 @@
 package gov.noaa.nws.ocp.common.dataplugin.psh;
 
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.Map;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -58,6 +60,11 @@ public class StormDataRecord extends PersistablePluginDataObject {
 
     public static final String STORMDATA_XML = "StormDataXML";
 
+    /**
+     * Dataset listing the version and hash of each stored storm data part.
+     */
+    public static final String STORMDATA_VERSIONS = "StormDataVersions";
+
     @DataURI(position = 1)
     @Column(nullable = false)
     @DynamicSerializeElement
@@ -81,6 +88,14 @@ public class StormDataRecord extends PersistablePluginDataObject {
     @Transient
     private String stormDataXML;
 
+    /* serialized PshData parts to store, by dataset name */
+    @Transient
+    private Map<String, String> stormDataParts = Collections.emptyMap();
+
+    /* versions of all stored parts */
+    @Transient
+    private String[] stormDataVersions;
+
     /**
      * Empty constructor
      */
@@ -177,6 +192,45 @@ public class StormDataRecord extends PersistablePluginDataObject {
         this.stormDataXML = stormDataXML;
     }
 
+    /**
+     * @param part
+     *            storm data part name
+     * @return the name of the dataset holding the part
+     */
+    public static String getPartDataset(String part) {
+        return STORMDATA_XML + "_" + part;
+    }
+
+    /**
+     * @return the serialized parts to store, by dataset name
+     */
+    public Map<String, String> getStormDataParts() {
+        return stormDataParts;
+    }
+
+    /**
+     * @param stormDataParts
+     *            the serialized parts to store, by dataset name
+     */
+    public void setStormDataParts(Map<String, String> stormDataParts) {
+        this.stormDataParts = stormDataParts;
+    }
+
+    /**
+     * @return the versions of all stored parts
+     */
+    public String[] getStormDataVersions() {
+        return stormDataVersions;
+    }
+
+    /**
+     * @param stormDataVersions
+     *            the versions of all stored parts
+     */
+    public void setStormDataVersions(String[] stormDataVersions) {
+        this.stormDataVersions = stormDataVersions;
+    }
+
     /**
      * @return the forecaster
      */
@@ -0,0 +1,66 @@
+package gov.noaa.nws.ocp.common.dataplugin.psh.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+
+/**
+ * MetarStormDataMultiRetrieveRequest
+ *
+ * Retrieve the Metar storm data of several stations in one request. The
+ * response is a list of MetarDataEntry, one for each station request, in the
+ * same order.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+@DynamicSerialize
+public class MetarStormDataMultiRetrieveRequest implements IServerRequest {
+
+    @DynamicSerializeElement
+    private List<MetarStormDataRetrieveRequest> stationRequests = new ArrayList<>();
+
+    /**
+     * Empty constructor
+     */
+    public MetarStormDataMultiRetrieveRequest() {
+
+    }
+
+    public MetarStormDataMultiRetrieveRequest(
+            List<MetarStormDataRetrieveRequest> stationRequests) {
+
+        this.stationRequests = stationRequests;
+
+    }
+
+    /**
+     * @return the station requests
+     */
+    public List<MetarStormDataRetrieveRequest> getStationRequests() {
+        return stationRequests;
+    }
+
+    /**
+     * @param stationRequests
+     *            the station requests to set
+     */
+    public void setStationRequests(
+            List<MetarStormDataRetrieveRequest> stationRequests) {
+        this.stationRequests = stationRequests;
+    }
+
+}
@@ -3,10 +3,13 @@
  **/
 package gov.noaa.nws.ocp.common.dataplugin.psh.request;
 
+import java.util.List;
+
 import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
 import com.raytheon.uf.common.serialization.comm.IServerRequest;
 
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
 import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
 
 /**
@@ -38,6 +41,13 @@ public class RetrievePSHDataRequest implements IServerRequest {
     @DynamicSerializeElement
     private String stormName;
 
+    /*
+     * Categories of entries to retrieve. All categories are retrieved if null
+     * or empty.
+     */
+    @DynamicSerializeElement
+    private List<PshDataCategory> categories;
+
     
     /**
      * Empty Constructor
@@ -124,6 +134,22 @@ public class RetrievePSHDataRequest implements IServerRequest {
         this.stormName = stormName;
     }
 
+
+    /**
+     * @return the categories to retrieve, all if null or empty
+     */
+    public List<PshDataCategory> getCategories() {
+        return categories;
+    }
+
+
+    /**
+     * @param categories the categories to retrieve, all if null or empty
+     */
+    public void setCategories(List<PshDataCategory> categories) {
+        this.categories = categories;
+    }
+
 }
 
 
@@ -15,6 +15,7 @@ import org.geotools.data.store.ContentDataStore;
 import org.geotools.data.store.ContentEntry;
 import org.geotools.data.store.ContentFeatureSource;
 import org.geotools.feature.NameImpl;
+import org.locationtech.jts.geom.Envelope;
 import org.opengis.feature.simple.SimpleFeature;
 import org.opengis.feature.simple.SimpleFeatureType;
 import org.opengis.feature.type.Name;
@@ -87,6 +88,22 @@ public class GeoJSONDataStore extends ContentDataStore
         return gjson.getFeatures();
     }
 
+    /**
+     * GeoJSONFeatureCollection
+     * 
+     * @param envelope
+     *            envelope the features must intersect, or null for all
+     * @return features that may intersect the envelope
+     * @throws IOException
+     */
+    public GeoJSONFeatureCollection read(Envelope envelope)
+            throws IOException {
+        if (gjson == null) {
+            return null;
+        }
+        return gjson.getFeatures(envelope);
+    }
+
     /**
      * getOriginalFile
      * 
@@ -159,7 +176,7 @@ public class GeoJSONDataStore extends ContentDataStore
      */
     @Override
     public SimpleFeatureType getSchema() throws IOException {
-        return gjson.getFeatures().getSchema();
+        return gjson.buildFeatureType();
     }
 
     /**
@@ -7,9 +7,12 @@ import org.geotools.data.FeatureReader;
 import org.geotools.data.Query;
 import org.geotools.data.store.ContentState;
 import org.geotools.feature.FeatureIterator;
+import org.geotools.filter.visitor.ExtractBoundsFilterVisitor;
+import org.locationtech.jts.geom.Envelope;
 import org.opengis.feature.IllegalAttributeException;
 import org.opengis.feature.simple.SimpleFeature;
 import org.opengis.feature.simple.SimpleFeatureType;
+import org.opengis.filter.Filter;
 
 import gov.noaa.nws.ocp.common.geojson.datastore.util.GeoJSONFeatureCollection;
 
@@ -42,6 +45,9 @@ public class GeoJSONFeatureReader
 
     private FeatureIterator<SimpleFeature> featureIter;
 
+    /** Filter features must pass */
+    private Filter filter;
+
     /** The next feature */
     private SimpleFeature next;
 
@@ -57,7 +63,8 @@ public class GeoJSONFeatureReader
         this.state = contentState;
         GeoJSONDataStore gjsonStore = (GeoJSONDataStore) contentState.getEntry()
                 .getDataStore();
-        gjsonFeatures = gjsonStore.read();
+        filter = query == null ? Filter.INCLUDE : query.getFilter();
+        gjsonFeatures = gjsonStore.read(getEnvelope(filter));
 
         if (hasValidFeatureCollection()) {
             featureIter = gjsonFeatures.features();
@@ -65,6 +72,43 @@ public class GeoJSONFeatureReader
 
     }
 
+    /**
+     * getEnvelope
+     * 
+     * @param filter
+     * @return envelope features must intersect to pass the filter, or null if
+     *         the filter does not limit them to one
+     */
+    private static Envelope getEnvelope(Filter filter) {
+        if (filter == null || filter == Filter.INCLUDE) {
+            return null;
+        }
+        Envelope envelope = (Envelope) filter
+                .accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, null);
+        if (envelope == null || envelope.isNull()
+                || Double.isInfinite(envelope.getWidth())
+                || Double.isInfinite(envelope.getHeight())) {
+            return null;
+        }
+        return envelope;
+    }
+
+    /**
+     * readNext Advance to the next feature passing the filter
+     * 
+     * @return true if there is one
+     */
+    private boolean readNext() {
+        while (featureIter.hasNext()) {
+            SimpleFeature feature = featureIter.next();
+            if (filter == null || filter.evaluate(feature)) {
+                next = feature;
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * hasValidFeatureCollection Check if geojson file has been parsed and
      * populated
@@ -90,8 +134,8 @@ public class GeoJSONFeatureReader
             return null;
         }
 
-        if (next == null) {
-            next = featureIter.next();
+        if (next == null && !readNext()) {
+            return gjsonFeatures.getSchema();
         }
         return (SimpleFeatureType) next.getFeatureType();
     }
@@ -109,13 +153,11 @@ public class GeoJSONFeatureReader
      */
     public SimpleFeature next() throws IOException, IllegalArgumentException,
             NoSuchElementException {
-        SimpleFeature feature;
-        if (next != null) {
-            feature = next;
-            next = null;
-        } else {
-            feature = featureIter.next();
+        if (!hasNext()) {
+            throw new NoSuchElementException();
         }
+        SimpleFeature feature = next;
+        next = null;
         return feature;
     }
 
@@ -131,7 +173,7 @@ public class GeoJSONFeatureReader
         } else if (featureIter == null) {
             return false;
         } else {
-            return featureIter.hasNext();
+            return readNext();
         }
     }
 
@@ -142,6 +184,9 @@ public class GeoJSONFeatureReader
      */
     public void close() throws IOException {
         next = null;
+        if (featureIter != null) {
+            featureIter.close();
+        }
     }
 
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.opengis.feature.FeatureVisitor;
 import org.opengis.feature.simple.SimpleFeature;
 import org.opengis.feature.simple.SimpleFeatureType;
+import org.opengis.filter.Filter;
 
 import gov.noaa.nws.ocp.common.geojson.datastore.util.GeoJSONFile;
 
@@ -55,6 +56,10 @@ public class GeoJSONFeatureSource extends ContentFeatureSource {
     @Override
     protected ReferencedEnvelope getBoundsInternal(Query query)
             throws IOException {
+        if (!isAll(query)) {
+            // Computed from the filtered reader
+            return null;
+        }
         return gjson.getBounds();
     }
 
@@ -65,9 +70,33 @@ public class GeoJSONFeatureSource extends ContentFeatureSource {
      */
     @Override
     protected int getCountInternal(Query query) throws IOException {
+        if (!isAll(query)) {
+            // Counted from the filtered reader
+            return -1;
+        }
         return gjson.getCount();
     }
 
+    /**
+     * isAll
+     * @param query
+     * @return true if the query selects every feature
+     */
+    private static boolean isAll(Query query) {
+        return query == null || query.getFilter() == null
+                || query.getFilter() == Filter.INCLUDE;
+    }
+
+    /**
+     * canFilter
+     * GeoJSONFeatureReader applies the query filter itself
+     * @return true
+     */
+    @Override
+    protected boolean canFilter() {
+        return true;
+    }
+
     /**
      * getReaderInternal
      * @param Query
@@ -0,0 +1,497 @@
+package gov.noaa.nws.ocp.common.geojson.datastore.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Index of the features in a GeoJSON FeatureCollection file
+ *
+ * Records the byte range and envelope of each feature in the "features" array,
+ * found by a single streaming pass over the file that does not build any
+ * features. Count and bounds come from the index, features intersecting an
+ * envelope are found through an STRtree, and only those features need to be
+ * read back from the file and parsed.
+ *
+ * The index is persisted next to the file as a sidecar, and is only used
+ * while the file's modification time and length are unchanged.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date           Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026              agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public class GeoJSONFeatureIndex {
+
+    /** Appended to the GeoJSON file name to name the sidecar */
+    public static final String SIDECAR_EXTENSION = ".gjidx";
+
+    private static final int MAGIC = 0x474A4958;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte[] COLLECTION_START = "{\"type\":\"FeatureCollection\",\"features\":["
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] COLLECTION_END = "]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final long sourceModified;
+
+    private final long sourceLength;
+
+    private final long[] offsets;
+
+    private final int[] lengths;
+
+    /** minX, maxX, minY, maxY of each feature; NaN if it has no coordinates */
+    private final double[] envelopes;
+
+    private final Envelope bounds;
+
+    private STRtree tree;
+
+    private GeoJSONFeatureIndex(long sourceModified, long sourceLength,
+            long[] offsets, int[] lengths, double[] envelopes) {
+        this.sourceModified = sourceModified;
+        this.sourceLength = sourceLength;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.envelopes = envelopes;
+        this.bounds = new Envelope();
+        for (int i = 0; i < offsets.length; i++) {
+            if (!Double.isNaN(envelopes[4 * i])) {
+                bounds.expandToInclude(getEnvelope(i));
+            }
+        }
+    }
+
+    /**
+     * Scan a GeoJSON file and index its features
+     *
+     * @param source
+     * @return the index, or null if the file is not a FeatureCollection
+     * @throws IOException
+     */
+    public static GeoJSONFeatureIndex build(File source) throws IOException {
+        long modified = source.lastModified();
+        long length = source.length();
+        Scanner scanner = new Scanner();
+        try (InputStream is = new BufferedInputStream(
+                new FileInputStream(source), 64 * 1024)) {
+            scanner.scan(is);
+        }
+        if (!scanner.foundFeatures) {
+            return null;
+        }
+        return new GeoJSONFeatureIndex(modified, length,
+                Arrays.copyOf(scanner.offsets, scanner.count),
+                Arrays.copyOf(scanner.lengths, scanner.count),
+                Arrays.copyOf(scanner.envelopes, 4 * scanner.count));
+    }
+
+    /**
+     * Load the sidecar index of a GeoJSON file
+     *
+     * @param source
+     * @return the index, or null if there is no sidecar or it is out of date
+     * @throws IOException
+     */
+    public static GeoJSONFeatureIndex load(File source) throws IOException {
+        File sidecar = getSidecar(source);
+        if (!sidecar.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(sidecar)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            long modified = in.readLong();
+            long length = in.readLong();
+            if (modified != source.lastModified()
+                    || length != source.length()) {
+                return null;
+            }
+            int count = in.readInt();
+            long[] offsets = new long[count];
+            int[] lengths = new int[count];
+            double[] envelopes = new double[4 * count];
+            for (int i = 0; i < count; i++) {
+                offsets[i] = in.readLong();
+                lengths[i] = in.readInt();
+                for (int j = 0; j < 4; j++) {
+                    envelopes[4 * i + j] = in.readDouble();
+                }
+            }
+            return new GeoJSONFeatureIndex(modified, length, offsets, lengths,
+                    envelopes);
+        }
+    }
+
+    /**
+     * Persist the index as the sidecar of a GeoJSON file
+     *
+     * @param source
+     * @throws IOException
+     */
+    public void save(File source) throws IOException {
+        File sidecar = getSidecar(source);
+        File tmp = new File(sidecar.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(sourceModified);
+            out.writeLong(sourceLength);
+            out.writeInt(offsets.length);
+            for (int i = 0; i < offsets.length; i++) {
+                out.writeLong(offsets[i]);
+                out.writeInt(lengths[i]);
+                for (int j = 0; j < 4; j++) {
+                    out.writeDouble(envelopes[4 * i + j]);
+                }
+            }
+        }
+        try {
+            Files.move(tmp.toPath(), sidecar.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp.toPath(), sidecar.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * getSidecar
+     *
+     * @param source
+     * @return the sidecar file of a GeoJSON file
+     */
+    public static File getSidecar(File source) {
+        return new File(source.getPath() + SIDECAR_EXTENSION);
+    }
+
+    /**
+     * isCurrent
+     *
+     * @param source
+     * @return true if the index matches the file as it is now
+     */
+    public boolean isCurrent(File source) {
+        return sourceModified == source.lastModified()
+                && sourceLength == source.length();
+    }
+
+    /**
+     * getCount counts of features
+     *
+     * @return
+     */
+    public int getCount() {
+        return offsets.length;
+    }
+
+    /**
+     * getBounds
+     *
+     * @return bounds of all feature coordinates; null envelope if none
+     */
+    public Envelope getBounds() {
+        return new Envelope(bounds);
+    }
+
+    /**
+     * Find the features whose envelope intersects an envelope. Features
+     * without coordinates never match.
+     *
+     * @param env
+     * @return ordinals of the features, in file order
+     */
+    public int[] query(Envelope env) {
+        @SuppressWarnings("unchecked")
+        List<Integer> hits = getTree().query(env);
+        int[] ordinals = new int[hits.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = hits.get(i);
+        }
+        Arrays.sort(ordinals);
+        return ordinals;
+    }
+
+    /**
+     * Read features from the file as a FeatureCollection document holding
+     * only those features
+     *
+     * @param source
+     * @param ordinals
+     *            feature ordinals, in file order
+     * @return the document, UTF-8 encoded
+     * @throws IOException
+     */
+    public byte[] readFeatures(File source, int[] ordinals)
+            throws IOException {
+        long size = COLLECTION_START.length + COLLECTION_END.length;
+        for (int ordinal : ordinals) {
+            size += lengths[ordinal] + 1;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                (int) Math.min(size, Integer.MAX_VALUE - 8));
+        out.write(COLLECTION_START);
+        try (RandomAccessFile raf = new RandomAccessFile(source, "r")) {
+            byte[] buf = new byte[0];
+            for (int i = 0; i < ordinals.length; i++) {
+                int len = lengths[ordinals[i]];
+                if (buf.length < len) {
+                    buf = new byte[len];
+                }
+                raf.seek(offsets[ordinals[i]]);
+                raf.readFully(buf, 0, len);
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(buf, 0, len);
+            }
+        }
+        out.write(COLLECTION_END);
+        return out.toByteArray();
+    }
+
+    private Envelope getEnvelope(int ordinal) {
+        int i = 4 * ordinal;
+        return new Envelope(envelopes[i], envelopes[i + 1], envelopes[i + 2],
+                envelopes[i + 3]);
+    }
+
+    private synchronized STRtree getTree() {
+        if (tree == null) {
+            STRtree strTree = new STRtree();
+            for (int i = 0; i < offsets.length; i++) {
+                if (!Double.isNaN(envelopes[4 * i])) {
+                    strTree.insert(getEnvelope(i), i);
+                }
+            }
+            strTree.build();
+            tree = strTree;
+        }
+        return tree;
+    }
+
+    /**
+     * Single pass over the bytes of a GeoJSON document, tracking nesting and
+     * strings, that records the byte range of each member of the top-level
+     * "features" array and the envelope of the positions under any
+     * "coordinates" key within it. Only structural characters are examined, so
+     * multi-byte UTF-8 content needs no decoding.
+     */
+    private static class Scanner {
+
+        private static final int MAX_KEY_LENGTH = 32;
+
+        private boolean foundFeatures;
+
+        private int count;
+
+        private long[] offsets = new long[256];
+
+        private int[] lengths = new int[256];
+
+        private double[] envelopes = new double[1024];
+
+        private int depth;
+
+        private boolean inString;
+
+        private boolean escaped;
+
+        private final StringBuilder string = new StringBuilder();
+
+        private boolean stringTooLong;
+
+        private String lastString;
+
+        private String pendingKey;
+
+        private final StringBuilder number = new StringBuilder();
+
+        private int featuresDepth = -1;
+
+        private long featureStart = -1;
+
+        private int coordinatesDepth = -1;
+
+        private int positionIndex;
+
+        private double x;
+
+        private void scan(InputStream is) throws IOException {
+            long pos = -1;
+            int b;
+            while ((b = is.read()) != -1) {
+                pos++;
+                if (inString) {
+                    readStringByte(b);
+                    continue;
+                }
+                if (number.length() > 0) {
+                    if ((b >= '0' && b <= '9') || b == '.' || b == 'e'
+                            || b == 'E' || b == '+' || b == '-') {
+                        number.append((char) b);
+                        continue;
+                    }
+                    endNumber();
+                }
+                switch (b) {
+                case '"':
+                    startValue();
+                    inString = true;
+                    string.setLength(0);
+                    stringTooLong = false;
+                    break;
+                case ':':
+                    pendingKey = lastString;
+                    break;
+                case '{':
+                    startValue();
+                    if (depth == featuresDepth) {
+                        featureStart = pos;
+                        addFeature();
+                    }
+                    depth++;
+                    break;
+                case '[':
+                    String key = pendingKey;
+                    startValue();
+                    if (featuresDepth < 0 && depth == 1
+                            && "features".equals(key)) {
+                        featuresDepth = depth + 1;
+                        foundFeatures = true;
+                    } else if (featureStart >= 0 && coordinatesDepth < 0
+                            && "coordinates".equals(key)) {
+                        coordinatesDepth = depth;
+                    }
+                    depth++;
+                    positionIndex = 0;
+                    break;
+                case '}':
+                    depth--;
+                    if (featureStart >= 0 && depth == featuresDepth) {
+                        lengths[count - 1] = (int) (pos - featureStart + 1);
+                        featureStart = -1;
+                    }
+                    break;
+                case ']':
+                    depth--;
+                    if (depth == coordinatesDepth) {
+                        coordinatesDepth = -1;
+                    } else if (depth + 1 == featuresDepth) {
+                        featuresDepth = -1;
+                    }
+                    break;
+                default:
+                    if (b == '-' || (b >= '0' && b <= '9')) {
+                        startValue();
+                        number.append((char) b);
+                    } else if (b == 't' || b == 'f' || b == 'n') {
+                        startValue();
+                    }
+                    break;
+                }
+            }
+            if (number.length() > 0) {
+                endNumber();
+            }
+        }
+
+        private void readStringByte(int b) {
+            if (escaped) {
+                escaped = false;
+            } else if (b == '\\') {
+                escaped = true;
+            } else if (b == '"') {
+                inString = false;
+                lastString = stringTooLong ? null : string.toString();
+                return;
+            }
+            if (string.length() < MAX_KEY_LENGTH) {
+                string.append((char) b);
+            } else {
+                stringTooLong = true;
+            }
+        }
+
+        private void startValue() {
+            pendingKey = null;
+            lastString = null;
+        }
+
+        private void endNumber() {
+            if (coordinatesDepth >= 0) {
+                try {
+                    double value = Double.parseDouble(number.toString());
+                    if (positionIndex == 0) {
+                        x = value;
+                    } else if (positionIndex == 1) {
+                        expandFeature(x, value);
+                    }
+                } catch (NumberFormatException e) {
+                    // Not a coordinate; leave the envelope as is
+                }
+                positionIndex++;
+            }
+            number.setLength(0);
+        }
+
+        private void addFeature() {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, 2 * count);
+                lengths = Arrays.copyOf(lengths, 2 * count);
+                envelopes = Arrays.copyOf(envelopes, 8 * count);
+            }
+            offsets[count] = featureStart;
+            Arrays.fill(envelopes, 4 * count, 4 * count + 4, Double.NaN);
+            count++;
+        }
+
+        private void expandFeature(double px, double py) {
+            int i = 4 * (count - 1);
+            if (Double.isNaN(envelopes[i])) {
+                envelopes[i] = px;
+                envelopes[i + 1] = px;
+                envelopes[i + 2] = py;
+                envelopes[i + 3] = py;
+            } else {
+                envelopes[i] = Math.min(envelopes[i], px);
+                envelopes[i + 1] = Math.max(envelopes[i + 1], px);
+                envelopes[i + 2] = Math.min(envelopes[i + 2], py);
+                envelopes[i + 3] = Math.max(envelopes[i + 3], py);
+            }
+        }
+    }
+}
@@ -1,22 +1,26 @@
 package gov.noaa.nws.ocp.common.geojson.datastore.util;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.SoftReference;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.geotools.data.DataUtilities;
 import org.geotools.data.memory.MemoryFeatureCollection;
 import org.geotools.feature.FeatureIterator;
 import org.geotools.feature.NameImpl;
 import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.locationtech.jts.geom.Envelope;
 import org.opengis.feature.Property;
 import org.opengis.feature.simple.SimpleFeature;
 import org.opengis.feature.simple.SimpleFeatureType;
@@ -70,6 +74,41 @@ public class GeoJSONFile {
 
     private static final String NAME_VERSION_SEPARATE = "_";
 
+    /**
+     * Parsed files by absolute path, shared by all data stores, replaced when
+     * the file's modification time or length changes
+     */
+    private static final Map<String, CachedFile> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Index, schema and features of one version of a GeoJSON file. Features
+     * are softly referenced so they can be reclaimed and parsed again.
+     */
+    private static class CachedFile {
+
+        private final long modified;
+
+        private final long length;
+
+        private boolean indexLoaded;
+
+        private GeoJSONFeatureIndex index;
+
+        private SimpleFeatureType schema;
+
+        private SoftReference<GeoJSONFeatureCollection> features = new SoftReference<>(
+                null);
+
+        private CachedFile(long modified, long length) {
+            this.modified = modified;
+            this.length = length;
+        }
+
+        private boolean isCurrent(long modified, long length) {
+            return this.modified == modified && this.length == length;
+        }
+    }
+
     private File file;
 
     private String name;
@@ -88,8 +127,6 @@ public class GeoJSONFile {
 
     private boolean memoryMapped = false;
 
-    private GeoJSONFeatureCollection features;
-
     /**
      * GeoJSONFile constructor
      * 
@@ -115,35 +152,182 @@ public class GeoJSONFile {
     }
 
     /**
-     * init GeoJSON file
+     * init GeoJSON file. Features are parsed on first use.
      * 
      * @param gjson
      * @return
      */
     private boolean init(File gjson) {
-        boolean ok = true;
-        try (InputStream is = new FileInputStream(gjson)) {
-            if (is != null) {
-                IGeoJsonService json = new SimpleGeoJsonService();
-                List<MemoryFeatureCollection> colls = new ArrayList<MemoryFeatureCollection>();
-                colls.add((MemoryFeatureCollection) json
-                        .deserializeFeatureCollection(is));
-                features = new GeoJSONFeatureCollection(colls);
+        if (gjson == null || !gjson.isFile()) {
+            logger.error("GeoJSON file is not find: "
+                    + (gjson == null ? null : gjson.getAbsolutePath()));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * getCachedFile
+     * 
+     * @return the cache entry for the file as it is now
+     */
+    private CachedFile getCachedFile() {
+        long modified = file.lastModified();
+        long length = file.length();
+        return cache.compute(file.getAbsolutePath(),
+                (path, cached) -> cached != null
+                        && cached.isCurrent(modified, length) ? cached
+                                : new CachedFile(modified, length));
+    }
+
+    /**
+     * getIndex Load the sidecar index, or scan the file and save one
+     * 
+     * @param cached
+     * @return the index, or null if the file is not a FeatureCollection
+     */
+    private GeoJSONFeatureIndex getIndex(CachedFile cached) {
+        synchronized (cached) {
+            if (!cached.indexLoaded) {
+                cached.indexLoaded = true;
+                try {
+                    cached.index = GeoJSONFeatureIndex.load(file);
+                } catch (IOException e) {
+                    logger.warn("Failed to read feature index for: "
+                            + file.getAbsolutePath(), e);
+                }
+                if (cached.index == null) {
+                    buildIndex(cached);
+                }
             }
-        } catch (FileNotFoundException e) {
-            logger.error("GeoJSON file is not find: " + gjson.getAbsolutePath(),
-                    e);
-            ok = false;
+            return cached.index;
+        }
+    }
+
+    /**
+     * buildIndex
+     * 
+     * @param cached
+     */
+    private void buildIndex(CachedFile cached) {
+        try {
+            cached.index = GeoJSONFeatureIndex.build(file);
+        } catch (IOException e) {
+            logger.error("Failed to index features in the file: "
+                    + file.getAbsolutePath(), e);
+            return;
+        }
+        if (cached.index == null || !cached.index.isCurrent(file)) {
+            // Not a FeatureCollection, or changed while being scanned
+            cached.index = null;
+            return;
+        }
+        try {
+            cached.index.save(file);
+        } catch (IOException e) {
+            logger.debug("Feature index not saved for: "
+                    + file.getAbsolutePath() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * parse GeoJSON content
+     * 
+     * @param is
+     * @return the features, or null if it could not be decoded
+     */
+    private GeoJSONFeatureCollection parse(InputStream is) {
+        try {
+            IGeoJsonService json = new SimpleGeoJsonService();
+            List<MemoryFeatureCollection> colls = new ArrayList<MemoryFeatureCollection>();
+            colls.add((MemoryFeatureCollection) json
+                    .deserializeFeatureCollection(is));
+            return new GeoJSONFeatureCollection(colls);
         } catch (JsonException je) {
-            logger.error("decoding json failed: " + gjson.getAbsolutePath(),
+            logger.error("decoding json failed: " + file.getAbsolutePath(),
                     je);
-            ok = false;
-        } catch (IOException ioe) {
-            logger.error("Create InputStream failed for the file: "
-                    + gjson.getAbsolutePath(), ioe);
-            ok = false;
         }
-        return ok;
+        return null;
+    }
+
+    /**
+     * getAllFeatures Parse the whole file, unless the cache still holds it
+     * 
+     * @param cached
+     * @return
+     */
+    private GeoJSONFeatureCollection getAllFeatures(CachedFile cached) {
+        synchronized (cached) {
+            GeoJSONFeatureCollection all = cached.features.get();
+            if (all == null) {
+                try (InputStream is = new FileInputStream(file)) {
+                    all = parse(is);
+                } catch (FileNotFoundException e) {
+                    logger.error("GeoJSON file is not find: "
+                            + file.getAbsolutePath(), e);
+                } catch (IOException ioe) {
+                    logger.error("Create InputStream failed for the file: "
+                            + file.getAbsolutePath(), ioe);
+                }
+                if (all != null) {
+                    cached.features = new SoftReference<>(all);
+                }
+            }
+            return all;
+        }
+    }
+
+    /**
+     * getFeatures Features that may intersect an envelope. Only the indexed
+     * features in the envelope are parsed, unless they are most of the file,
+     * in which case the whole file is parsed and cached. The result can
+     * include features outside the envelope, so callers still apply their
+     * filter.
+     * 
+     * @param envelope
+     *            null for all features
+     * @return
+     */
+    public GeoJSONFeatureCollection getFeatures(Envelope envelope) {
+        if (file == null) {
+            return null;
+        }
+        CachedFile cached = getCachedFile();
+        GeoJSONFeatureIndex index = envelope == null ? null
+                : getIndex(cached);
+        if (index == null || cached.features.get() != null) {
+            return getAllFeatures(cached);
+        }
+
+        int[] ordinals = index.query(envelope);
+        if (ordinals.length * 2 > index.getCount()) {
+            return getAllFeatures(cached);
+        }
+        if (ordinals.length == 0) {
+            return new GeoJSONFeatureCollection(
+                    new ArrayList<MemoryFeatureCollection>());
+        }
+        return parseFeatures(index, ordinals);
+    }
+
+    /**
+     * parseFeatures Read and parse indexed features only
+     * 
+     * @param index
+     * @param ordinals
+     *            feature ordinals, in file order
+     * @return
+     */
+    private GeoJSONFeatureCollection parseFeatures(GeoJSONFeatureIndex index,
+            int[] ordinals) {
+        try {
+            return parse(new ByteArrayInputStream(
+                    index.readFeatures(file, ordinals)));
+        } catch (IOException e) {
+            logger.error("Failed to read features from the file: "
+                    + file.getAbsolutePath(), e);
+        }
+        return null;
     }
 
     /**
@@ -200,7 +384,22 @@ public class GeoJSONFile {
      * @return
      */
     public ReferencedEnvelope getBounds() {
-        return features.getBounds();
+        if (file == null) {
+            return new ReferencedEnvelope();
+        }
+        CachedFile cached = getCachedFile();
+        GeoJSONFeatureIndex index = getIndex(cached);
+        if (index == null) {
+            GeoJSONFeatureCollection all = getAllFeatures(cached);
+            return all == null ? new ReferencedEnvelope() : all.getBounds();
+        }
+        Envelope bounds = index.getBounds();
+        if (bounds.isNull()) {
+            return new ReferencedEnvelope();
+        }
+        SimpleFeatureType schema = buildFeatureType();
+        return new ReferencedEnvelope(bounds,
+                schema == null ? null : schema.getCoordinateReferenceSystem());
     }
 
     /**
@@ -209,8 +408,17 @@ public class GeoJSONFile {
      * @return
      */
     public int getCount() {
+        if (file == null) {
+            return 0;
+        }
+        CachedFile cached = getCachedFile();
+        GeoJSONFeatureIndex index = getIndex(cached);
+        if (index != null) {
+            return index.getCount();
+        }
         try {
-            return features.getCount();
+            GeoJSONFeatureCollection all = getAllFeatures(cached);
+            return all == null ? 0 : all.getCount();
         } catch (IOException e) {
             logger.error("Failed to get count of features in the file: ", e);
         }
@@ -223,7 +431,25 @@ public class GeoJSONFile {
      * @return
      */
     public SimpleFeatureType buildFeatureType() {
-        return features.getSchema();
+        if (file == null) {
+            return null;
+        }
+        CachedFile cached = getCachedFile();
+        synchronized (cached) {
+            if (cached.schema == null) {
+                GeoJSONFeatureCollection all = cached.features.get();
+                GeoJSONFeatureIndex index = getIndex(cached);
+                if (all == null && index != null && index.getCount() > 0) {
+                    // Assume all features share the schema of the first
+                    all = parseFeatures(index, new int[] { 0 });
+                }
+                if (all == null) {
+                    all = getAllFeatures(cached);
+                }
+                cached.schema = all == null ? null : all.getSchema();
+            }
+            return cached.schema;
+        }
     }
 
     /**
@@ -310,7 +536,7 @@ public class GeoJSONFile {
      * @return the features
      */
     public GeoJSONFeatureCollection getFeatures() {
-        return features;
+        return getFeatures(null);
     }
 
     /**
@@ -318,7 +544,14 @@ public class GeoJSONFile {
      *            the features to set
      */
     public void setFeatures(GeoJSONFeatureCollection features) {
-        this.features = features;
+        if (file == null) {
+            return;
+        }
+        CachedFile cached = getCachedFile();
+        synchronized (cached) {
+            cached.features = new SoftReference<>(features);
+            cached.schema = null;
+        }
     }
 
     /**
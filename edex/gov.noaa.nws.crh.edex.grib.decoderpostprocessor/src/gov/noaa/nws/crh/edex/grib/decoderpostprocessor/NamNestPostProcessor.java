@@ -3,6 +3,7 @@ package gov.noaa.nws.crh.edex.grib.decoderpostprocessor;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 
 import com.raytheon.edex.plugin.grib.exception.GribException;
@@ -118,74 +119,102 @@ public class NamNestPostProcessor extends OneHrPrecipGridProcessor {
      * precipitation grids. This function will look in the inventory and
      * generate any 1 hr grids that can be generated.
      *
+     * The inventories are cached per model run, and only grids of the same
+     * run are processed one at a time. The previous and 1hr inventories can
+     * also be filled by grids that do not pass through this post processor,
+     * so they are reloaded from the database whenever the grid preceding this
+     * one is not in the cached inventory.
+     *
      * @param record
      *            The grib record for which to generate the 1 hour accumulated
      *            precipitation grid
      * @return The generated 1-hr precipitation grids
      * @throws GribException
      */
-    protected synchronized GridRecord[] generate1hrPrecipGrids(GridRecord record)
+    @Override
+    protected GridRecord[] generate1hrPrecipGrids(GridRecord record)
             throws GribException {
 
-    	List<GridRecord> currInventory;
-    	List<GridRecord> prevInventory;
-    	HashSet<Integer> precip1hrInventory;
-    	
-    	if (record.getParameter().getAbbreviation().equals("TP3hr")) {
-    		// Get an inventory of TP3hr grids
-    		currInventory = getPrecipInventory(record.getDatasetId(), "TP3hr",
-        			record.getDataTime().getRefTime());
-        	
-        	// Get an inventory of TP2hr grids
-        	prevInventory = getPrecipInventory(record.getDatasetId(), "TP2hr", 
-        			record.getDataTime().getRefTime());
-        	
-        	// The current 1hr precip inventory
-        	precip1hrInventory = getPrecip1hrInventory(record.getDatasetId(),
-        			record.getDataTime().getRefTime());
-        	
-    	} else if (record.getParameter().getAbbreviation().equals("TP2hr")) {
-    		// Get an inventory of TP2hr grids
-        	currInventory = getPrecipInventory(record.getDatasetId(), "TP2hr",
-        			record.getDataTime().getRefTime());
-        	// Get an inventory of TP1hr grids
-        	prevInventory = getPrecipInventory(record.getDatasetId(), "TP1hr", 
-        			record.getDataTime().getRefTime());
-        	
-        	precip1hrInventory = new HashSet<Integer>();
-        	for (GridRecord rec : prevInventory) {
-        		precip1hrInventory.add(rec.getDataTime().getFcstTime());
-        	}
-    	} else {
-    		throw new GribException("Didn't get TP3hr or TP2hr grid");
-    	}
-
-        // Adds the current record to the precip inventory
-        float[] currentData = (float[]) record.getMessageData();
-        record.setMessageData(currentData);
-        currInventory.add(record);
-
-        // Examine each grid in the inventory and generate the 1hr precipitation
-        // grid if possible
-        List<GridRecord> generatedRecords = new ArrayList<GridRecord>();
-        for (GridRecord currRecord : currInventory) {
-        	// Check if the 1hr precipitation grid has already been produced
-        	if (! precip1hrInventory.contains(currRecord.getDataTime()
-        			.getFcstTime())) {
-        		List<GridRecord> generated1hrPrecips = generate1hrPrecip(
-        				currRecord, prevInventory);
-        		for (GridRecord newRecord : generated1hrPrecips) {
-        			// Add the generated grid to the current inventory
-        			if (newRecord != null) {
-        				precip1hrInventory.add(newRecord.getDataTime()
-        						.getFcstTime());
-        				generatedRecords.add(newRecord);
-        			}
-        		}
-        	}
+        String currParm = record.getParameter().getAbbreviation();
+        String prevParm;
+        if (currParm.equals("TP3hr")) {
+            prevParm = "TP2hr";
+        } else if (currParm.equals("TP2hr")) {
+            prevParm = "TP1hr";
+        } else {
+            throw new GribException("Didn't get TP3hr or TP2hr grid");
         }
 
-        return generatedRecords.toArray(new GridRecord[] {});
+        String datasetId = record.getDatasetId();
+        Date refTime = record.getDataTime().getRefTime();
+        int prevFcstTime = record.getDataTime().getFcstTime()
+                - SECONDS_IN_1_HR;
+
+        PrecipInventoryCache cache = PrecipInventoryCache.getInstance();
+        PrecipInventoryCache.Run run = cache.getRun(datasetId, refTime);
+        synchronized (run) {
+            if (!run.isLoaded(currParm)) {
+                run.setInventory(currParm,
+                        getPrecipInventory(datasetId, currParm, refTime));
+            }
+            if (!run.contains(prevParm, prevFcstTime)) {
+                run.setInventory(prevParm,
+                        getPrecipInventory(datasetId, prevParm, refTime));
+                if (!prevParm.equals("TP1hr")) {
+                    run.setInventory("TP1hr",
+                            getPrecipInventory(datasetId, "TP1hr", refTime));
+                }
+            } else if (!run.isLoaded("TP1hr")) {
+                run.setInventory("TP1hr",
+                        getPrecipInventory(datasetId, "TP1hr", refTime));
+            }
+
+            List<GridRecord> currInventory = run.getInventory(currParm);
+            List<GridRecord> prevInventory = run.getInventory(prevParm);
+            // The current 1hr precip inventory
+            HashSet<Integer> precip1hrInventory = run.getFcstTimes("TP1hr");
+
+            // Adds the current record to the precip inventory, in place of
+            // any earlier copy of it
+            float[] currentData = (float[]) record.getMessageData();
+            int fcstTime = record.getDataTime().getFcstTime();
+            Iterator<GridRecord> iter = currInventory.iterator();
+            while (iter.hasNext()) {
+                if (iter.next().getDataTime().getFcstTime() == fcstTime) {
+                    iter.remove();
+                }
+            }
+            currInventory.add(record);
+            run.add(record);
+            if (currentData != null) {
+                cache.putData(record, PrecipInventoryCache.DECODED_LEVEL,
+                        currentData);
+            }
+
+            // Examine each grid in the inventory and generate the 1hr
+            // precipitation grid if possible
+            List<GridRecord> generatedRecords = new ArrayList<GridRecord>();
+            for (GridRecord currRecord : currInventory) {
+                // Check if the 1hr precipitation grid has already been
+                // produced
+                if (!precip1hrInventory.contains(currRecord.getDataTime()
+                        .getFcstTime())) {
+                    List<GridRecord> generated1hrPrecips = generate1hrPrecip(
+                            currRecord, prevInventory);
+                    for (GridRecord newRecord : generated1hrPrecips) {
+                        // Add the generated grid to the current inventory
+                        if (newRecord != null) {
+                            precip1hrInventory.add(newRecord.getDataTime()
+                                    .getFcstTime());
+                            run.add(newRecord);
+                            generatedRecords.add(newRecord);
+                        }
+                    }
+                }
+            }
+
+            return generatedRecords.toArray(new GridRecord[] {});
+        }
     }
 
 	/**
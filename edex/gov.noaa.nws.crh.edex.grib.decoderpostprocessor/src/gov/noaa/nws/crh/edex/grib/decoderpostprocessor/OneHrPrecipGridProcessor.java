@@ -97,21 +97,10 @@ public abstract class OneHrPrecipGridProcessor extends DecoderPostProcessor {
         // recognize it as a new record
         GridRecord tp1hrRecord = new GridRecord(currentRecord);
         tp1hrRecord.setId(0);
-        if (currentRecord.getMessageData() == null) {
-            GridDao dao = null;
-            try {
-                dao = new GridDao();
-                currentRecord.setMessageData(((FloatDataRecord) dao
-                        .getHDF5Data(currentRecord, -1)[0]).getFloatData());
-            } catch (PluginException e) {
-                throw new GribException("Error populating grib data!", e);
-            }
-        }
 
         // Copy the data to the new record so the data from the original record
         // does not get modified
-        float[] currentData = (float[]) currentRecord.getMessageData();
-        currentRecord.setMessageData(currentData);
+        float[] currentData = getFloatData(currentRecord, -1);
         float[] newData = new float[currentData.length];
         System.arraycopy(currentData, 0, newData, 0, currentData.length);
         tp1hrRecord.setMessageData(newData);
@@ -127,23 +116,46 @@ public abstract class OneHrPrecipGridProcessor extends DecoderPostProcessor {
 
         // Calculate the new data values
         if (inventoryRecord != null) {
-            if (inventoryRecord.getMessageData() == null) {
-                GridDao dao = null;
-                try {
-                    dao = new GridDao();
-                    inventoryRecord
-                            .setMessageData(((FloatDataRecord) dao.getHDF5Data(
-                                    inventoryRecord, 0)[0]).getFloatData());
-                } catch (PluginException e) {
-                    throw new GribException("Error populating grib data!", e);
-                }
-            }
-            calculatePrecipValues((float[]) inventoryRecord.getMessageData(),
+            calculatePrecipValues(getFloatData(inventoryRecord, 0),
                     (float[]) tp1hrRecord.getMessageData());
         }
         return tp1hrRecord;
     }
 
+    /**
+     * Gets the data of a grid from the record, the PrecipInventoryCache, or
+     * the datastore, in that order. Data read from the datastore is cached,
+     * but not set on the record, since inventory records may be shared by the
+     * cache.
+     *
+     * @param record
+     *            The grid to get the data for
+     * @param level
+     *            The datastore retrieval level
+     * @return The grid data
+     * @throws GribException
+     */
+    protected float[] getFloatData(GridRecord record, int level)
+            throws GribException {
+        if (record.getMessageData() != null) {
+            return (float[]) record.getMessageData();
+        }
+        PrecipInventoryCache cache = PrecipInventoryCache.getInstance();
+        float[] data = cache.getData(record, level);
+        if (data == null) {
+            GridDao dao = null;
+            try {
+                dao = new GridDao();
+                data = ((FloatDataRecord) dao.getHDF5Data(record, level)[0])
+                        .getFloatData();
+            } catch (PluginException e) {
+                throw new GribException("Error populating grib data!", e);
+            }
+            cache.putData(record, level, data);
+        }
+        return data;
+    }
+
     /**
      * Calculates the new data by subtracting the previous inventory data from
      * the current data
@@ -0,0 +1,412 @@
+package gov.noaa.nws.crh.edex.grib.decoderpostprocessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.raytheon.uf.common.dataplugin.grid.GridRecord;
+
+/**
+ * Cache of precipitation grid inventories and data for the model runs being
+ * post processed, so that generating a 1-hr precip grid does not need to query
+ * the database for the inventory or read back from the datastore a grid that
+ * was decoded moments earlier.
+ *
+ * Each model run (dataset and reference time) has its own {@link Run}, which
+ * callers lock while working on that run, so different runs are post processed
+ * concurrently. A run is evicted once no grid for it has been seen for
+ * {@value #RUN_IDLE_MINUTES_PROPERTY} minutes (default
+ * {@value #DEFAULT_RUN_IDLE_MINUTES}), or once {@value #MAX_RUNS_PER_DATASET}
+ * newer runs of its dataset are cached.
+ *
+ * Grid data is held separately from the inventories, least recently used
+ * first out, within {@value #MAX_DATA_MB_PROPERTY} MB (default
+ * {@value #DEFAULT_MAX_DATA_MB}). Setting it to 0 disables data caching.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date          Ticket#  Engineer      Description
+ * ------------- -------- ------------- --------------------------
+ * Oct 17, 2026           agent         Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ *
+ */
+public final class PrecipInventoryCache {
+
+    /** System property for the maximum MB of grid data cached */
+    public static final String MAX_DATA_MB_PROPERTY = "grib.precip.cache.maxMB";
+
+    /** System property for the minutes after which an idle run is evicted */
+    public static final String RUN_IDLE_MINUTES_PROPERTY = "grib.precip.cache.runIdleMinutes";
+
+    /** Default maximum MB of grid data cached */
+    public static final long DEFAULT_MAX_DATA_MB = 256;
+
+    /** Default minutes after which an idle run is evicted */
+    public static final long DEFAULT_RUN_IDLE_MINUTES = 60;
+
+    /** Number of runs of a dataset kept, newest first */
+    public static final int MAX_RUNS_PER_DATASET = 2;
+
+    /**
+     * Datastore retrieval level of the data of a decoded grid: the full
+     * dataset rather than an interpolation level
+     */
+    public static final int DECODED_LEVEL = -1;
+
+    private static final PrecipInventoryCache instance = new PrecipInventoryCache();
+
+    /**
+     * The cached inventory of one model run. Inventory records never hold
+     * grid data; that is kept in the data cache.
+     */
+    public static final class Run {
+
+        private final RunKey key;
+
+        /** Inventory by parameter abbreviation, keyed by forecast time */
+        private final Map<String, Map<Integer, GridRecord>> inventories = new HashMap<String, Map<Integer, GridRecord>>();
+
+        private volatile long lastUsed = System.currentTimeMillis();
+
+        private Run(RunKey key) {
+            this.key = key;
+        }
+
+        /**
+         * @param parm
+         *            parameter abbreviation
+         * @return true if the inventory for the parameter has been loaded
+         */
+        public boolean isLoaded(String parm) {
+            return inventories.containsKey(parm);
+        }
+
+        /**
+         * @param parm
+         *            parameter abbreviation
+         * @param fcstTime
+         *            forecast time in seconds
+         * @return true if the parameter's inventory has a grid at the forecast
+         *         time
+         */
+        public boolean contains(String parm, int fcstTime) {
+            Map<Integer, GridRecord> inventory = inventories.get(parm);
+            return inventory != null && inventory.containsKey(fcstTime);
+        }
+
+        /**
+         * Replace the inventory for a parameter with one from the database.
+         *
+         * @param parm
+         *            parameter abbreviation
+         * @param records
+         *            the inventory
+         */
+        public void setInventory(String parm, List<GridRecord> records) {
+            Map<Integer, GridRecord> inventory = new LinkedHashMap<Integer, GridRecord>();
+            for (GridRecord record : records) {
+                inventory.put(record.getDataTime().getFcstTime(), record);
+            }
+            inventories.put(parm, inventory);
+        }
+
+        /**
+         * Add a grid that was just decoded or generated. A copy without its
+         * data is kept, replacing any grid at the same forecast time.
+         *
+         * @param record
+         *            the grid
+         */
+        public void add(GridRecord record) {
+            String parm = record.getParameter().getAbbreviation();
+            Map<Integer, GridRecord> inventory = inventories.get(parm);
+            if (inventory != null) {
+                GridRecord copy = new GridRecord(record);
+                copy.setMessageData(null);
+                inventory.put(record.getDataTime().getFcstTime(), copy);
+            }
+        }
+
+        /**
+         * @param parm
+         *            parameter abbreviation
+         * @return a modifiable copy of the parameter's inventory, in forecast
+         *         time order; empty if not loaded
+         */
+        public List<GridRecord> getInventory(String parm) {
+            Map<Integer, GridRecord> inventory = inventories.get(parm);
+            if (inventory == null) {
+                return new ArrayList<GridRecord>();
+            }
+            List<GridRecord> records = new ArrayList<GridRecord>(
+                    inventory.values());
+            sortByFcstTime(records);
+            return records;
+        }
+
+        /**
+         * @param parm
+         *            parameter abbreviation
+         * @return a modifiable set of the forecast times in the parameter's
+         *         inventory
+         */
+        public HashSet<Integer> getFcstTimes(String parm) {
+            Map<Integer, GridRecord> inventory = inventories.get(parm);
+            if (inventory == null) {
+                return new HashSet<Integer>();
+            }
+            return new HashSet<Integer>(inventory.keySet());
+        }
+    }
+
+    /** Identifies a model run */
+    private static final class RunKey {
+
+        private final String datasetId;
+
+        private final long refTime;
+
+        private RunKey(String datasetId, long refTime) {
+            this.datasetId = datasetId;
+            this.refTime = refTime;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * datasetId.hashCode()
+                    + (int) (refTime ^ (refTime >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof RunKey)) {
+                return false;
+            }
+            RunKey other = (RunKey) obj;
+            return refTime == other.refTime
+                    && datasetId.equals(other.datasetId);
+        }
+    }
+
+    /**
+     * Identifies the data of one grid in a model run, as read at one
+     * datastore retrieval level
+     */
+    private static final class DataKey {
+
+        private final RunKey run;
+
+        private final String parm;
+
+        private final int fcstTime;
+
+        private final int level;
+
+        private DataKey(RunKey run, String parm, int fcstTime, int level) {
+            this.run = run;
+            this.parm = parm;
+            this.fcstTime = fcstTime;
+            this.level = level;
+        }
+
+        @Override
+        public int hashCode() {
+            return ((31 * run.hashCode() + parm.hashCode()) * 31 + fcstTime)
+                    * 31 + level;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof DataKey)) {
+                return false;
+            }
+            DataKey other = (DataKey) obj;
+            return fcstTime == other.fcstTime && level == other.level
+                    && parm.equals(other.parm) && run.equals(other.run);
+        }
+    }
+
+    /** Cached runs */
+    private final Map<RunKey, Run> runs = new HashMap<RunKey, Run>();
+
+    /** Cached grid data, least recently used first */
+    private final LinkedHashMap<DataKey, float[]> data = new LinkedHashMap<DataKey, float[]>(
+            64, 0.75f, true);
+
+    /** Bytes of grid data cached */
+    private long dataBytes;
+
+    private final long maxDataBytes;
+
+    private final long runIdleMillis;
+
+    private PrecipInventoryCache() {
+        maxDataBytes = Math.max(0,
+                Long.getLong(MAX_DATA_MB_PROPERTY, DEFAULT_MAX_DATA_MB))
+                * 1024 * 1024;
+        runIdleMillis = Math.max(1, Long.getLong(RUN_IDLE_MINUTES_PROPERTY,
+                DEFAULT_RUN_IDLE_MINUTES)) * 60 * 1000;
+    }
+
+    /**
+     * @return the cache instance
+     */
+    public static PrecipInventoryCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the cached run, creating it if needed, and evict runs that have
+     * completed.
+     *
+     * @param datasetId
+     *            the datasetid of the model
+     * @param refTime
+     *            the refTime (cycle time) of the model
+     * @return the run; lock it while using it
+     */
+    public synchronized Run getRun(String datasetId, Date refTime) {
+        RunKey key = new RunKey(datasetId, refTime.getTime());
+        Run run = runs.get(key);
+        if (run == null) {
+            run = new Run(key);
+            runs.put(key, run);
+        }
+        run.lastUsed = System.currentTimeMillis();
+        evictRuns(datasetId);
+        return run;
+    }
+
+    /**
+     * @param record
+     *            the grid
+     * @param level
+     *            the datastore retrieval level
+     * @return the cached data for the grid at the level, or null if not
+     *         cached
+     */
+    public synchronized float[] getData(GridRecord record, int level) {
+        return data.get(getDataKey(record, level));
+    }
+
+    /**
+     * Cache the data for a grid, evicting the least recently used data if
+     * needed.
+     *
+     * @param record
+     *            the grid
+     * @param level
+     *            the datastore retrieval level the data was read at, or
+     *            {@link #DECODED_LEVEL} for decoded data
+     * @param floats
+     *            the grid data
+     */
+    public synchronized void putData(GridRecord record, int level,
+            float[] floats) {
+        long bytes = 4L * floats.length;
+        if (bytes > maxDataBytes) {
+            return;
+        }
+        float[] old = data.put(getDataKey(record, level), floats);
+        if (old != null) {
+            dataBytes -= 4L * old.length;
+        }
+        dataBytes += bytes;
+
+        Iterator<float[]> iter = data.values().iterator();
+        while (dataBytes > maxDataBytes && iter.hasNext()) {
+            dataBytes -= 4L * iter.next().length;
+            iter.remove();
+        }
+    }
+
+    /**
+     * Evict runs not used within the idle time, and runs of the dataset older
+     * than the newest {@value #MAX_RUNS_PER_DATASET}, with their data.
+     *
+     * @param datasetId
+     *            the dataset of the run just used
+     */
+    private void evictRuns(String datasetId) {
+        long idleCutoff = System.currentTimeMillis() - runIdleMillis;
+        List<Long> refTimes = new ArrayList<Long>();
+        for (RunKey key : runs.keySet()) {
+            if (key.datasetId.equals(datasetId)) {
+                refTimes.add(key.refTime);
+            }
+        }
+        long oldestKept = Long.MIN_VALUE;
+        if (refTimes.size() > MAX_RUNS_PER_DATASET) {
+            Collections.sort(refTimes);
+            oldestKept = refTimes.get(refTimes.size() - MAX_RUNS_PER_DATASET);
+        }
+
+        Set<RunKey> evicted = new HashSet<RunKey>();
+        Iterator<Run> runIter = runs.values().iterator();
+        while (runIter.hasNext()) {
+            Run run = runIter.next();
+            boolean superseded = run.key.datasetId.equals(datasetId)
+                    && run.key.refTime < oldestKept;
+            if (superseded || run.lastUsed < idleCutoff) {
+                evicted.add(run.key);
+                runIter.remove();
+            }
+        }
+
+        if (!evicted.isEmpty()) {
+            Iterator<Map.Entry<DataKey, float[]>> dataIter = data.entrySet()
+                    .iterator();
+            while (dataIter.hasNext()) {
+                Map.Entry<DataKey, float[]> entry = dataIter.next();
+                if (evicted.contains(entry.getKey().run)) {
+                    dataBytes -= 4L * entry.getValue().length;
+                    dataIter.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * @param record
+     *            the grid
+     * @param level
+     *            the datastore retrieval level
+     * @return key for the grid's data at the level
+     */
+    private static DataKey getDataKey(GridRecord record, int level) {
+        return new DataKey(new RunKey(record.getDatasetId(), record
+                .getDataTime().getRefTime().getTime()), record.getParameter()
+                .getAbbreviation(), record.getDataTime().getFcstTime(), level);
+    }
+
+    /**
+     * Sort grids by forecast time
+     *
+     * @param records
+     *            the grids
+     */
+    private static void sortByFcstTime(List<GridRecord> records) {
+        Collections.sort(records, new Comparator<GridRecord>() {
+            @Override
+            public int compare(GridRecord r1, GridRecord r2) {
+                return Integer.compare(r1.getDataTime().getFcstTime(), r2
+                        .getDataTime().getFcstTime());
+            }
+        });
+    }
+}
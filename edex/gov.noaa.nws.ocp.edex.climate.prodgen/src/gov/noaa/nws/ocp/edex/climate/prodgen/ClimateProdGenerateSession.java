@@ -13,8 +13,6 @@ import java.util.Map;
 import java.util.Set;
 
 import com.raytheon.uf.common.message.StatusMessage;
-import com.raytheon.uf.common.serialization.DynamicSerializationManager;
-import com.raytheon.uf.common.serialization.DynamicSerializationManager.SerializationType;
 import com.raytheon.uf.common.serialization.SerializationException;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
@@ -50,6 +48,7 @@ import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductTy
 import gov.noaa.nws.ocp.edex.climate.creator.ClimateCreator;
 import gov.noaa.nws.ocp.edex.climate.formatter.ClimateFormatter;
 import gov.noaa.nws.ocp.edex.climate.prodgen.dao.ClimateProdGenerateSessionDAO;
+import gov.noaa.nws.ocp.edex.climate.prodgen.dao.ClimateSessionPayload;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.CheckResult;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.DefinedDataQualityCheck;
 import gov.noaa.nws.ocp.edex.climate.prodgen.transmit.ClimateProductNWWSSender;
@@ -131,6 +130,9 @@ public final class ClimateProdGenerateSession {
     // Climate Product Data created by ClimateFormatter
     private ClimateProdData prodData = null;
 
+    // Product edits appended to the stored product data
+    private int prodDeltaCount = 0;
+
     private LocalDateTime startedAt;
 
     private LocalDateTime lastUpdated;
@@ -193,32 +195,22 @@ public final class ClimateProdGenerateSession {
         // deserialize staved objects
         try {
             // GlobalConfig
-            this.globalConfig = (ClimateGlobal) DynamicSerializationManager
-                    .getManager(SerializationType.Thrift)
-                    .deserialize(sessionData.getGlobal_config());
+            this.globalConfig = (ClimateGlobal) ClimateSessionPayload
+                    .decode(sessionData.getGlobal_config());
 
             // Settings
-            this.prodSetting = (ClimateProdSetting) DynamicSerializationManager
-                    .getManager(SerializationType.Thrift)
-                    .deserialize(sessionData.getProd_setting());
+            this.prodSetting = (ClimateProdSetting) ClimateSessionPayload
+                    .decode(sessionData.getProd_setting());
 
             // Created ReportData
-            if (null == sessionData.getReport_data()) {
-                this.reportData = null;
-            } else {
-                this.reportData = (ClimateRunData) DynamicSerializationManager
-                        .getManager(SerializationType.Thrift)
-                        .deserialize(sessionData.getReport_data());
-            }
+            this.reportData = (ClimateRunData) ClimateSessionPayload
+                    .decode(sessionData.getReport_data());
 
-            // Formatted ProdData
-            if (null == sessionData.getProd_data()) {
-                this.prodData = null;
-            } else {
-                this.prodData = (ClimateProdData) DynamicSerializationManager
-                        .getManager(SerializationType.Thrift)
-                        .deserialize(sessionData.getProd_data());
-            }
+            // Formatted ProdData, with any product edits applied
+            this.prodData = ClimateSessionPayload
+                    .decodeProdData(sessionData.getProd_data());
+            this.prodDeltaCount = ClimateSessionPayload
+                    .getDeltaCount(sessionData.getProd_data());
 
             this.startedAt = sessionData.getStart_at().toLocalDateTime();
             this.lastUpdated = sessionData.getLast_updated().toLocalDateTime();
@@ -251,32 +243,20 @@ public final class ClimateProdGenerateSession {
 
         try {
             // GlobalConfig is not null
-            sessionData.setGlobal_config(DynamicSerializationManager
-                    .getManager(SerializationType.Thrift)
-                    .serialize(this.globalConfig));
+            sessionData.setGlobal_config(
+                    ClimateSessionPayload.encode(this.globalConfig));
 
             // ClimateProdSetting is not null
-            sessionData.setProd_setting(DynamicSerializationManager
-                    .getManager(SerializationType.Thrift)
-                    .serialize(this.prodSetting));
+            sessionData.setProd_setting(
+                    ClimateSessionPayload.encode(this.prodSetting));
 
             // ReportData created by ClimateCreater
-            if (null == this.reportData) {
-                sessionData.setReport_data(null);
-            } else {
-                sessionData.setReport_data(DynamicSerializationManager
-                        .getManager(SerializationType.Thrift)
-                        .serialize(this.reportData));
-            }
+            sessionData.setReport_data(
+                    ClimateSessionPayload.encode(this.reportData));
 
-            // ReportData created by ClimateCreater
-            if (null == this.prodData) {
-                sessionData.setProd_data(null);
-            } else {
-                sessionData.setProd_data(DynamicSerializationManager
-                        .getManager(SerializationType.Thrift)
-                        .serialize(this.prodData));
-            }
+            // ProdData created by ClimateFormatter
+            sessionData.setProd_data(
+                    ClimateSessionPayload.encodeProdData(this.prodData));
 
         } catch (SerializationException se) {
             logger.error("Serialization failed ", se);
@@ -396,6 +376,8 @@ public final class ClimateProdGenerateSession {
 
     /**
      * is designated to be called by cron job. Automatically run Creator.
+     * Returns once the session waits for Display; the rest of the auto
+     * processing is run by {@link ClimateProdGenerateSessionScheduler}.
      * 
      */
     public void autoCreateClimate() {
@@ -439,10 +421,7 @@ public final class ClimateProdGenerateSession {
         }
 
         // Check if cancelled
-        if (this.getCurrentStatus().getStatus()
-                .equals(StateStatus.Status.CANCELLED)) {
-            logger.info("The CPG session: " + this.getCPGSessionId()
-                    + " has been cancelled");
+        if (isCancelled()) {
             return;
         }
 
@@ -457,30 +436,19 @@ public final class ClimateProdGenerateSession {
         }
         // Min to seconds
         dispWait *= 60;
-        int secondsLeft = dispWait;
-
-        Object waiter = new Object();
-        synchronized (waiter) {
-            while (!this.getCurrentStatus().getStatus()
-                    .equals(StateStatus.Status.CANCELLED)
-                    && this.getCurrentState() != SessionState.DISPLAY
-                    && secondsLeft-- > 0) {
-                // send time countdown info to the client
-                this.sendTimeCountdownMessage(dispWait, dispWait - secondsLeft);
-
-                try {
-                    waiter.wait(1000);
-                } catch (InterruptedException e) {
-                    ;
-                }
-            }
-        }
 
+        ClimateProdGenerateSessionScheduler.park(this, SessionState.DISPLAY,
+                dispWait, this::displayWaitExpired);
+    }
+
+    /**
+     * No user started Display before the display wait ran out. Unless the
+     * session was taken over or cancelled on another EDEX, run Display
+     * headless and Format, then wait for Review.
+     */
+    private void displayWaitExpired() {
         // Check if cancelled
-        if (this.getCurrentStatus().getStatus()
-                .equals(StateStatus.Status.CANCELLED)) {
-            logger.info("The CPG session: " + this.getCPGSessionId()
-                    + " has been cancelled");
+        if (isCancelled()) {
             return;
         }
 
@@ -490,37 +458,34 @@ public final class ClimateProdGenerateSession {
             // User participated before timeout and reviewed
             // exit, hand the control to user
             return;
-        } else if (secondsLeft <= 0) {
-            // timed out, move on and calling HeadlessDispaly
-            try {
-                this.executeHeadlessDisplayCimate();
-            } catch (ClimateSessionException e) {
-                logger.error("Failed to execute Headless Display", e);
-                failCPGSession("Failed to execute Headless Display! "
-                        + e.getMessage());
-                return;
-            }
+        }
 
-            try {
-                this.executeFormatClimate();
-            } catch (ClimateSessionException e) {
-                logger.error("Failed to execute Format Climate", e);
-                failCPGSession(
-                        "Failed to execute Format Climate! " + e.getMessage());
-                return;
-            }
+        // timed out, move on and calling HeadlessDispaly
+        try {
+            this.executeHeadlessDisplayCimate();
+        } catch (ClimateSessionException e) {
+            logger.error("Failed to execute Headless Display", e);
+            failCPGSession(
+                    "Failed to execute Headless Display! " + e.getMessage());
+            return;
+        }
+
+        try {
+            this.executeFormatClimate();
+        } catch (ClimateSessionException e) {
+            logger.error("Failed to execute Format Climate", e);
+            failCPGSession(
+                    "Failed to execute Format Climate! " + e.getMessage());
+            return;
         }
 
         // Check if cancelled
-        if (this.getCurrentStatus().getStatus()
-                .equals(StateStatus.Status.CANCELLED)) {
-            logger.info("The CPG session: " + this.getCPGSessionId()
-                    + " has been cancelled");
+        if (isCancelled()) {
             return;
         }
 
         // Alert User for review
-        msgDesc = "Formatted Climate Product generated, waiting for review. CPG Session ID = "
+        String msgDesc = "Formatted Climate Product generated, waiting for review. CPG Session ID = "
                 + this.cpgSessionId;
         sendAlertVizMessage(Priority.INFO, msgDesc, "");
 
@@ -530,31 +495,18 @@ public final class ClimateProdGenerateSession {
         }
         // Minutes to seconds
         revWait *= 60;
-        secondsLeft = revWait;
-
-        Object waiter2 = new Object();
-        synchronized (waiter2) {
-            while (!this.getCurrentStatus().getStatus()
-                    .equals(StateStatus.Status.CANCELLED)
-                    && this.getCurrentState() != SessionState.REVIEW
-                    && secondsLeft-- > 0) {
-
-                // send time countdown info to the client
-                this.sendTimeCountdownMessage(revWait, revWait - secondsLeft);
-
-                try {
-                    waiter2.wait(1000);
-                } catch (InterruptedException e) {
-                    ;
-                }
-            }
-        }
 
+        ClimateProdGenerateSessionScheduler.park(this, SessionState.REVIEW,
+                revWait, this::reviewWaitExpired);
+    }
+
+    /**
+     * No user started Review before the review wait ran out. Unless the
+     * session was taken over or cancelled on another EDEX, send the products.
+     */
+    private void reviewWaitExpired() {
         // Check if cancelled
-        if (this.getCurrentStatus().getStatus()
-                .equals(StateStatus.Status.CANCELLED)) {
-            logger.info("The CPG session: " + this.getCPGSessionId()
-                    + " has been cancelled");
+        if (isCancelled()) {
             return;
         }
 
@@ -564,19 +516,43 @@ public final class ClimateProdGenerateSession {
             // User participated before timeout and reviewed
             // exit, hand the control to user
             return;
-        } else if (secondsLeft <= 0) {
-            // Timed out without user response
-            // Go ahead to send the product
-            try {
-                this.autoSendClimateProducts();
-            } catch (Exception e) {
-                logger.error("Send climate products for "
-                        + this.getCPGSessionId() + " failed!", e);
-                failCPGSession("Send climate products for "
-                        + this.getCPGSessionId() + " failed!");
-            }
         }
 
+        // Timed out without user response
+        // Go ahead to send the product
+        try {
+            this.autoSendClimateProducts();
+        } catch (Exception e) {
+            logger.error("Send climate products for " + this.getCPGSessionId()
+                    + " failed!", e);
+            failCPGSession("Send climate products for "
+                    + this.getCPGSessionId() + " failed!");
+        }
+    }
+
+    /**
+     * @return true if the session has been cancelled, per the database.
+     */
+    private boolean isCancelled() {
+        if (this.getCurrentStatus().getStatus()
+                .equals(StateStatus.Status.CANCELLED)) {
+            logger.info("The CPG session: " + this.getCPGSessionId()
+                    + " has been cancelled");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check the database for a user taking over or cancelling this session
+     * while it waits, possibly on another EDEX.
+     * 
+     * @param userState
+     *            state a user moves the session to, DISPLAY or REVIEW.
+     * @return true if the session has been moved to userState or cancelled.
+     */
+    boolean isUserWaitOver(SessionState userState) {
+        return isCancelled() || this.getCurrentState() == userState;
     }
 
     /**
@@ -1171,6 +1147,13 @@ public final class ClimateProdGenerateSession {
         return state;
     }
 
+    /**
+     * @return the stateStatus
+     */
+    public StateStatus getStateStatus() {
+        return stateStatus;
+    }
+
     /**
      * 
      * 
@@ -1294,9 +1277,7 @@ public final class ClimateProdGenerateSession {
         this.reportData = reportData;
 
         try {
-            byte[] rData = DynamicSerializationManager
-                    .getManager(SerializationType.Thrift)
-                    .serialize(this.reportData);
+            byte[] rData = ClimateSessionPayload.encode(this.reportData);
             dao.updateReportData(this.cpgSessionId, rData);
         } catch (SerializationException se) {
             logger.error("Serialization failed ", se);
@@ -1338,13 +1319,13 @@ public final class ClimateProdGenerateSession {
      */
     private void updateWithNewProdData() throws Exception {
         try {
-            byte[] pData = DynamicSerializationManager
-                    .getManager(SerializationType.Thrift)
-                    .serialize(this.prodData);
+            byte[] pData = ClimateSessionPayload
+                    .encodeProdData(this.prodData);
             // update pendingExpiration
             this.pendingExpiration = this.prodData.getMaxExpiration();
             dao.updateProdData(this.cpgSessionId, pData,
                     this.pendingExpiration);
+            this.prodDeltaCount = 0;
         } catch (SerializationException se) {
             logger.error("Serialization failed ", se);
             throw new Exception(
@@ -1363,6 +1344,48 @@ public final class ClimateProdGenerateSession {
         sendClimateNotifyMessage(msgDesc, actions);
     }
 
+    /**
+     * Update this session's product data with a single product edit,
+     * appending the edit to the stored product data. The product data is
+     * written whole instead if it already has the maximum number of edits
+     * appended, or is in the legacy format.
+     * 
+     * @param delta
+     *            frame of the edit, already applied to prodData.
+     * @throws Exception
+     */
+    private void updateWithProdDelta(byte[] delta) throws Exception {
+        if (this.prodDeltaCount >= ClimateSessionPayload.MAX_DELTAS) {
+            this.updateWithNewProdData();
+            return;
+        }
+
+        boolean appended;
+        try {
+            // update pendingExpiration
+            this.pendingExpiration = this.prodData.getMaxExpiration();
+            appended = dao.appendProdDataDelta(this.cpgSessionId,
+                    ClimateSessionPayload.summarize(this.prodData), delta,
+                    this.pendingExpiration);
+        } catch (Exception de) {
+            logger.error("Update table failed ", de);
+            throw new Exception(
+                    "Failed to update database for modified climate product",
+                    de);
+        }
+
+        if (!appended) {
+            this.updateWithNewProdData();
+            return;
+        }
+        this.prodDeltaCount++;
+
+        String msgDesc = "Climate Product Data is created or updated";
+        Map<String, String> actions = new HashMap<>();
+        actions.put("ACTION", "New Products");
+        sendClimateNotifyMessage(msgDesc, actions);
+    }
+
     /**
      * Check if the session has one of terminated states
      * 
@@ -1401,7 +1424,8 @@ public final class ClimateProdGenerateSession {
 
         this.prodData.replaceClimateProd(prodType, prodKey, modifiedProd);
 
-        this.updateWithNewProdData();
+        this.updateWithProdDelta(ClimateSessionPayload.replaceDelta(prodType,
+                prodKey, modifiedProd));
     }
 
     /**
@@ -1422,7 +1446,8 @@ public final class ClimateProdGenerateSession {
 
         this.prodData.deleteClimateProd(prodType, prodKey);
 
-        this.updateWithNewProdData();
+        this.updateWithProdDelta(
+                ClimateSessionPayload.deleteDelta(prodType, prodKey));
     }
 
     /**
@@ -0,0 +1,345 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.prodgen;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.SessionState;
+import gov.noaa.nws.ocp.common.dataplugin.climate.StateStatus;
+
+/**
+ * ClimateProdGenerateSessionScheduler Parks auto CPG sessions while they wait
+ * for a user to Display or Review, without holding a thread per session.
+ *
+ * A parked session leaves the wait when a request handler reports that the
+ * user has taken the session over or cancelled it, or when its wait times out.
+ * Timeouts and countdown messages are run by one timer thread shared by all
+ * sessions; the work that follows a timeout is run on a small worker pool.
+ *
+ * Handlers on other EDEX instances do not report to this one, so the session
+ * state is also read from the database once per countdown interval and once
+ * at the timeout. The countdown interval is read from system property
+ * {@value #COUNTDOWN_PROPERTY} (seconds, default
+ * {@value #DEFAULT_COUNTDOWN_SECONDS}).
+ *
+ * Parked sessions are held only in memory. If EDEX restarts while a session
+ * is parked, that session is not resumed: it stays in its waiting state in
+ * the session table until a user takes it over or cancels it.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public final class ClimateProdGenerateSessionScheduler {
+    /** The logger */
+    private static final IUFStatusHandler logger = UFStatus
+            .getHandler(ClimateProdGenerateSessionScheduler.class);
+
+    /**
+     * System property for the seconds between countdown messages.
+     */
+    private static final String COUNTDOWN_PROPERTY = "climate.cpg.countdown.interval";
+
+    /**
+     * Default seconds between countdown messages.
+     */
+    private static final int DEFAULT_COUNTDOWN_SECONDS = 30;
+
+    /**
+     * Number of threads running the work that follows a timeout.
+     */
+    private static final int WORKER_THREADS = 2;
+
+    /**
+     * Parked sessions by CPG session ID.
+     */
+    private static final Map<String, ParkedSession> parked = new ConcurrentHashMap<>();
+
+    /**
+     * Shared timer, created on first use.
+     */
+    private static ScheduledThreadPoolExecutor timer;
+
+    /**
+     * Shared worker pool, created on first use.
+     */
+    private static ExecutorService worker;
+
+    /**
+     * A session waiting for a user.
+     */
+    private static final class ParkedSession {
+        private final ClimateProdGenerateSession session;
+
+        private final SessionState userState;
+
+        private final int totalSeconds;
+
+        private final long startNanos = System.nanoTime();
+
+        private volatile ScheduledFuture<?> countdown;
+
+        private volatile ScheduledFuture<?> timeout;
+
+        private ParkedSession(ClimateProdGenerateSession session,
+                SessionState userState, int totalSeconds) {
+            this.session = session;
+            this.userState = userState;
+            this.totalSeconds = totalSeconds;
+        }
+
+        /**
+         * Stop the countdown and timeout, if scheduled yet.
+         */
+        private void cancel() {
+            ScheduledFuture<?> future = countdown;
+            if (future != null) {
+                future.cancel(false);
+            }
+            future = timeout;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Constructor.
+     */
+    private ClimateProdGenerateSessionScheduler() {
+    }
+
+    /**
+     * Park a session until a user moves it to the given state or cancels it,
+     * or until the wait times out. Returns immediately. A wait of 0 seconds or
+     * less times out right away.
+     *
+     * @param session
+     *            session waiting for a user.
+     * @param userState
+     *            state the user moves the session to, DISPLAY or REVIEW.
+     * @param totalSeconds
+     *            seconds to wait.
+     * @param onTimeout
+     *            run on a worker thread if the wait times out.
+     */
+    public static void park(ClimateProdGenerateSession session,
+            SessionState userState, int totalSeconds, Runnable onTimeout) {
+        ParkedSession wait = new ParkedSession(session, userState,
+                totalSeconds);
+
+        /*
+         * Parked before anything is scheduled, so that the timeout and a
+         * user's change always find the session in the map.
+         */
+        ParkedSession previous = parked.put(session.getCPGSessionId(), wait);
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        if (totalSeconds <= 0) {
+            expire(wait, onTimeout);
+            return;
+        }
+
+        session.sendTimeCountdownMessage(totalSeconds, 0);
+
+        ScheduledThreadPoolExecutor pool = getTimer();
+        int interval = Math.max(1, getCountdownSeconds());
+        wait.countdown = pool.scheduleAtFixedRate(() -> countdown(wait),
+                interval, interval, TimeUnit.SECONDS);
+        wait.timeout = pool.schedule(() -> expire(wait, onTimeout),
+                totalSeconds, TimeUnit.SECONDS);
+
+        if (parked.get(session.getCPGSessionId()) != wait) {
+            // Taken over or cancelled while being scheduled
+            wait.cancel();
+            return;
+        }
+
+        logger.debug("CPG session: " + session.getCPGSessionId()
+                + " is waiting up to " + totalSeconds + " seconds for "
+                + userState);
+    }
+
+    /**
+     * Report that a request handler changed a session. A parked session
+     * leaves its wait if it was moved to the state it waits for, or was
+     * cancelled.
+     *
+     * @param cpgSessionId
+     * @param state
+     *            state of the session after the change.
+     * @param status
+     *            status of the session after the change.
+     */
+    public static void stateChanged(String cpgSessionId, SessionState state,
+            StateStatus.Status status) {
+        ParkedSession wait = parked.get(cpgSessionId);
+        if (wait == null) {
+            return;
+        }
+
+        if ((state == wait.userState
+                || StateStatus.Status.CANCELLED.equals(status))
+                && unpark(wait)) {
+            logger.info("The CPG session: " + cpgSessionId + " is now "
+                    + state + " with status " + status
+                    + ", auto processing ends");
+        }
+    }
+
+    /**
+     * Send a countdown message, unless the session was taken over or
+     * cancelled on another EDEX.
+     *
+     * @param wait
+     */
+    private static void countdown(ParkedSession wait) {
+        if (parked.get(wait.session.getCPGSessionId()) != wait) {
+            wait.cancel();
+            return;
+        }
+
+        try {
+            if (wait.session.isUserWaitOver(wait.userState)) {
+                unpark(wait);
+                return;
+            }
+
+            int secondsPassed = (int) Math.min(wait.totalSeconds,
+                    TimeUnit.NANOSECONDS
+                            .toSeconds(System.nanoTime() - wait.startNanos));
+            wait.session.sendTimeCountdownMessage(wait.totalSeconds,
+                    secondsPassed);
+        } catch (Throwable t) {
+            logger.error("Countdown failed for CPG session: "
+                    + wait.session.getCPGSessionId(), t);
+        }
+    }
+
+    /**
+     * The wait of a session timed out.
+     *
+     * @param wait
+     * @param onTimeout
+     */
+    private static void expire(ParkedSession wait, Runnable onTimeout) {
+        if (!unpark(wait)) {
+            // A user took over at the same time
+            return;
+        }
+
+        getWorker().execute(() -> {
+            try {
+                onTimeout.run();
+            } catch (Throwable t) {
+                logger.error("Auto processing failed for CPG session: "
+                        + wait.session.getCPGSessionId(), t);
+            }
+        });
+    }
+
+    /**
+     * Remove a session from the parked sessions and stop its timers.
+     *
+     * @param wait
+     * @return true if this call removed the session, false if it was already
+     *         removed.
+     */
+    private static boolean unpark(ParkedSession wait) {
+        if (!parked.remove(wait.session.getCPGSessionId(), wait)) {
+            return false;
+        }
+        wait.cancel();
+        return true;
+    }
+
+    /**
+     * @return the shared timer, creating it if needed.
+     */
+    private static synchronized ScheduledThreadPoolExecutor getTimer() {
+        if (timer == null) {
+            ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(
+                    1, new ThreadFactory() {
+                        private final AtomicInteger count = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r,
+                                    "cpgTimer-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            // Drop timeouts of sessions taken over by a user right away
+            pool.setRemoveOnCancelPolicy(true);
+            timer = pool;
+        }
+        return timer;
+    }
+
+    /**
+     * @return the shared worker pool, creating it if needed.
+     */
+    private static synchronized ExecutorService getWorker() {
+        if (worker == null) {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(WORKER_THREADS,
+                    WORKER_THREADS, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                        private final AtomicInteger count = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r,
+                                    "cpgSession-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            worker = pool;
+        }
+        return worker;
+    }
+
+    /**
+     * @return seconds between countdown messages, or the default if the
+     *         property is unset or invalid.
+     */
+    private static int getCountdownSeconds() {
+        String value = System.getProperty(COUNTDOWN_PROPERTY, "");
+        if (value.isEmpty()) {
+            return DEFAULT_COUNTDOWN_SECONDS;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value [" + value + "] for property ["
+                    + COUNTDOWN_PROPERTY + "]. Using default ["
+                    + DEFAULT_COUNTDOWN_SECONDS + "].");
+            return DEFAULT_COUNTDOWN_SECONDS;
+        }
+    }
+}
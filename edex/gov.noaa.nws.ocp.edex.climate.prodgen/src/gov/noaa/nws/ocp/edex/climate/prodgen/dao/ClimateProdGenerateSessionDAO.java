@@ -12,20 +12,18 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
-import com.raytheon.uf.common.serialization.DynamicSerializationManager;
-import com.raytheon.uf.common.serialization.DynamicSerializationManager.SerializationType;
 import com.raytheon.uf.common.serialization.SerializationException;
 import com.raytheon.uf.common.status.UFStatus.Priority;
 import com.raytheon.uf.edex.database.dao.CoreDao;
 import com.raytheon.uf.edex.database.dao.DaoConfig;
 
-import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateProdData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateProdGenerateSessionData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateProdGenerateSessionDataForView;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
 import gov.noaa.nws.ocp.common.dataplugin.climate.SessionState;
 import gov.noaa.nws.ocp.common.dataplugin.climate.StateStatus;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+import gov.noaa.nws.ocp.edex.climate.prodgen.dao.ClimateSessionPayload.ProdDataSummary;
 
 /**
  * ClimateProdGenerateSessionDAO
@@ -66,6 +64,18 @@ public class ClimateProdGenerateSessionDAO extends CoreDao {
 
     public static final String PROD_DATA_COLUMN = "prod_data";
 
+    /**
+     * Select expression for the summary of the product data: the start of the
+     * column for payloads with a summary, else the whole legacy column.
+     */
+    private static final String PROD_SUMMARY_SELECT = "CASE WHEN substring("
+            + PROD_DATA_COLUMN + " from 1 for "
+            + ClimateSessionPayload.HEADER_LENGTH + ") = decode('"
+            + toHex(ClimateSessionPayload.PROD_DATA_HEADER)
+            + "', 'hex') THEN substring(" + PROD_DATA_COLUMN + " from 1 for "
+            + ClimateSessionPayload.SUMMARY_LENGTH + ") ELSE "
+            + PROD_DATA_COLUMN + " END";
+
     private static final Object LOCK = new Object();
 
     /**
@@ -163,10 +173,8 @@ public class ClimateProdGenerateSessionDAO extends CoreDao {
             throws ClimateQueryException {
         List<ClimateProdGenerateSessionDataForView> sessionList = new ArrayList<>();
 
-        ClimateProdGenerateSessionDataForView cpgs = new ClimateProdGenerateSessionDataForView();
-        Map<String, Object> columns = cpgs.getColumnValues();
         String sql = getAllCPGSessionStatement(CPG_SESSION_TABLE_NAME,
-                columns.keySet());
+                getViewColumns());
 
         Object[] results = executeSQLQuery(sql, null);
         for (Object result : results) {
@@ -181,9 +189,9 @@ public class ClimateProdGenerateSessionDAO extends CoreDao {
                 rec.setStateStatus(new StateStatus(((Number) oa[4]).intValue(),
                         (String) oa[5]));
                 rec.setStatus_desc((String) oa[5]);
-                rec.setProd_data(bytesToClimateProdData((byte[]) oa[6]));
-                rec.setStart_at((Timestamp) oa[7]);
-                rec.setLast_updated((Timestamp) oa[8]);
+                rec.setStart_at((Timestamp) oa[6]);
+                rec.setLast_updated((Timestamp) oa[7]);
+                setProdSummary(rec, (byte[]) oa[8]);
 
                 sessionList.add(rec);
             } else {
@@ -249,10 +257,8 @@ public class ClimateProdGenerateSessionDAO extends CoreDao {
      */
     public ClimateProdGenerateSessionDataForView getCPGSessionForView(
             String cpgSessionId) throws ClimateQueryException {
-        ClimateProdGenerateSessionDataForView cpgData = new ClimateProdGenerateSessionDataForView();
-        Map<String, Object> cols = cpgData.getColumnValues();
         String sql = getCPGSessionStatementByID(CPG_SESSION_TABLE_NAME,
-                cols.keySet(), cpgSessionId);
+                getViewColumns(), cpgSessionId);
 
         Object[] results = executeSQLQuery(sql, null);
         if (results == null || results.length < 1 || results.length > 1) {
@@ -271,9 +277,9 @@ public class ClimateProdGenerateSessionDAO extends CoreDao {
             rec.setStateStatus(new StateStatus(((Number) oa[4]).intValue(),
                     (String) oa[5]));
             rec.setStatus_desc((String) oa[5]);
-            rec.setProd_data(bytesToClimateProdData((byte[]) oa[6]));
-            rec.setStart_at((Timestamp) oa[7]);
-            rec.setLast_updated((Timestamp) oa[8]);
+            rec.setStart_at((Timestamp) oa[6]);
+            rec.setLast_updated((Timestamp) oa[7]);
+            setProdSummary(rec, (byte[]) oa[8]);
 
             return rec;
         } else {
@@ -476,6 +482,55 @@ public class ClimateProdGenerateSessionDAO extends CoreDao {
         return rows;
     }
 
+    /**
+     * Append a product edit to the product data of a session, and replace the
+     * summary of the product data.
+     * 
+     * @param cpgSessionId
+     * @param summary
+     *            header and summary of the edited product data.
+     * @param delta
+     *            frame of the edit.
+     * @param pendingExp
+     * @return false if the stored product data is not a payload an edit can
+     *         be appended to.
+     * @throws ClimateQueryException
+     */
+    public boolean appendProdDataDelta(String cpgSessionId, byte[] summary,
+            byte[] delta, LocalDateTime pendingExp)
+            throws ClimateQueryException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("UPDATE ").append(CPG_SESSION_TABLE_NAME);
+        sb.append(" SET ").append(PROD_DATA_COLUMN).append("=overlay(");
+        sb.append(PROD_DATA_COLUMN)
+                .append(" placing :summary from 1) || :delta");
+        sb.append(", ").append(PENDING_EXP_COLUMN).append("=:")
+                .append(PENDING_EXP_COLUMN);
+        sb.append(" WHERE ");
+        sb.append(CPG_SESSION_ID_COLUMN).append("='").append(cpgSessionId);
+        sb.append("' AND substring(").append(PROD_DATA_COLUMN)
+                .append(" from 1 for ")
+                .append(ClimateSessionPayload.HEADER_LENGTH)
+                .append(")=:header;");
+
+        // Parameters used by setXXX
+        Map<String, Object> parameters = new HashMap<>();
+
+        parameters.put("summary", summary);
+        parameters.put("delta", delta);
+        parameters.put("header", ClimateSessionPayload.PROD_DATA_HEADER);
+        parameters.put(PENDING_EXP_COLUMN, Timestamp.valueOf(pendingExp));
+
+        try {
+            return executeSQLUpdate(sb.toString(), parameters) > 0;
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Error appending product edit to table: "
+                            + CPG_SESSION_TABLE_NAME,
+                    e);
+        }
+    }
+
     /**
      * retrieve current Session State value from Database by given CPG Session
      * ID
@@ -711,30 +766,53 @@ public class ClimateProdGenerateSessionDAO extends CoreDao {
     }
 
     /**
-     * Convert bytes to CPG products.
+     * @return columns of the view data, the product data summary last.
+     */
+    private static List<String> getViewColumns() {
+        List<String> columns = new ArrayList<>(
+                new ClimateProdGenerateSessionDataForView().getColumnValues()
+                        .keySet());
+        columns.add(PROD_SUMMARY_SELECT);
+        return columns;
+    }
+
+    /**
+     * Set the product data summary of view data.
      * 
-     * @param cpBytes
-     * @return
+     * @param rec
+     * @param summaryBytes
+     *            result of {@link #PROD_SUMMARY_SELECT}.
      * @throws ClimateQueryException
      */
-    private ClimateProdData bytesToClimateProdData(byte[] cpBytes)
+    private void setProdSummary(
+            ClimateProdGenerateSessionDataForView rec, byte[] summaryBytes)
             throws ClimateQueryException {
-        ClimateProdData cpd = null;
+        ProdDataSummary summary;
         try {
-
-            // Formatted ProdData
-            if (null != cpBytes) {
-                cpd = (ClimateProdData) DynamicSerializationManager
-                        .getManager(SerializationType.Thrift)
-                        .deserialize(cpBytes);
-            }
-
+            summary = ClimateSessionPayload.getSummary(summaryBytes);
         } catch (SerializationException se) {
-            String errMsg = "Failed to deserialize bytes to ClimateProdData.";
+            String errMsg = "Failed to read the summary of ClimateProdData.";
             logger.error(errMsg, se);
             throw new ClimateQueryException(errMsg, se);
         }
 
-        return cpd;
+        if (summary != null) {
+            rec.setNwrStatus(summary.getNwrStatus());
+            rec.setNwwsStatus(summary.getNwwsStatus());
+            rec.setNwrProdCount(summary.getNwrProdCount());
+            rec.setNwwsProdCount(summary.getNwwsProdCount());
+        }
+    }
+
+    /**
+     * @param bytes
+     * @return the bytes as a hex string.
+     */
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
     }
 }
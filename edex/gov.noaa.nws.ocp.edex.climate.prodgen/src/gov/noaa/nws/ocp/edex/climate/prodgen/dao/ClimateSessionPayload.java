@@ -0,0 +1,455 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.prodgen.dao;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.raytheon.uf.common.serialization.DynamicSerializationManager;
+import com.raytheon.uf.common.serialization.DynamicSerializationManager.SerializationType;
+import com.raytheon.uf.common.serialization.SerializationException;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateProdData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateProduct;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateProductSet;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateProductType;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ProductSetStatus;
+
+/**
+ * ClimateSessionPayload Storage format of the CPG session byte columns.
+ *
+ * A payload starts with a 4 byte header: "CPG" and the payload kind. It is
+ * followed by frames, each a kind byte, a length and the frame body. The first
+ * frame is the gzipped Thrift serialization of the stored object.
+ *
+ * Product data payloads also have a fixed size summary after the header, with
+ * the status and product count of the NWR and NWWS product sets, so that the
+ * CPG view can read only the start of the column. Edits to single products are
+ * appended to product data payloads as replace or delete frames, which are
+ * applied in order when the payload is read.
+ *
+ * Payloads written before this format are plain Thrift serializations, and
+ * are still read.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public final class ClimateSessionPayload {
+
+    /**
+     * Payload holding any object.
+     */
+    private static final byte KIND_OBJECT = 1;
+
+    /**
+     * Payload holding product data, with a summary.
+     */
+    private static final byte KIND_PROD_DATA = 2;
+
+    /**
+     * Header of a product data payload.
+     */
+    public static final byte[] PROD_DATA_HEADER = new byte[] { 'C', 'P', 'G',
+            KIND_PROD_DATA };
+
+    /**
+     * Length of the payload header.
+     */
+    public static final int HEADER_LENGTH = 4;
+
+    /**
+     * Length of the header and summary of a product data payload.
+     */
+    public static final int SUMMARY_LENGTH = HEADER_LENGTH + 16;
+
+    /**
+     * Number of product edits appended to a payload before it is written
+     * whole again.
+     */
+    public static final int MAX_DELTAS = 32;
+
+    private static final byte FRAME_BASE = 0;
+
+    private static final byte FRAME_REPLACE = 1;
+
+    private static final byte FRAME_DELETE = 2;
+
+    /**
+     * Summary of a product data payload.
+     */
+    public static final class ProdDataSummary {
+        private final ProductSetStatus nwrStatus;
+
+        private final ProductSetStatus nwwsStatus;
+
+        private final int nwrProdCount;
+
+        private final int nwwsProdCount;
+
+        private ProdDataSummary(ProductSetStatus nwrStatus,
+                ProductSetStatus nwwsStatus, int nwrProdCount,
+                int nwwsProdCount) {
+            this.nwrStatus = nwrStatus;
+            this.nwwsStatus = nwwsStatus;
+            this.nwrProdCount = nwrProdCount;
+            this.nwwsProdCount = nwwsProdCount;
+        }
+
+        /**
+         * @return the NWR product set status
+         */
+        public ProductSetStatus getNwrStatus() {
+            return nwrStatus;
+        }
+
+        /**
+         * @return the NWWS product set status
+         */
+        public ProductSetStatus getNwwsStatus() {
+            return nwwsStatus;
+        }
+
+        /**
+         * @return the number of NWR products
+         */
+        public int getNwrProdCount() {
+            return nwrProdCount;
+        }
+
+        /**
+         * @return the number of NWWS products
+         */
+        public int getNwwsProdCount() {
+            return nwwsProdCount;
+        }
+    }
+
+    private ClimateSessionPayload() {
+    }
+
+    /**
+     * @param obj
+     * @return the payload of the object, null if the object is null.
+     * @throws SerializationException
+     */
+    public static byte[] encode(Object obj) throws SerializationException {
+        if (obj == null) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('C');
+        out.write('P');
+        out.write('G');
+        out.write(KIND_OBJECT);
+        writeFrame(out, FRAME_BASE, compress(serialize(obj)));
+        return out.toByteArray();
+    }
+
+    /**
+     * @param prodData
+     * @return the payload of the product data, null if it is null.
+     * @throws SerializationException
+     */
+    public static byte[] encodeProdData(ClimateProdData prodData)
+            throws SerializationException {
+        if (prodData == null) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] summary = summarize(prodData);
+        out.write(summary, 0, summary.length);
+        writeFrame(out, FRAME_BASE, compress(serialize(prodData)));
+        return out.toByteArray();
+    }
+
+    /**
+     * @param prodData
+     * @return the header and summary of a payload of the product data, to
+     *         replace those of a stored payload an edit is appended to.
+     */
+    public static byte[] summarize(ClimateProdData prodData) {
+        ByteBuffer buf = ByteBuffer.allocate(SUMMARY_LENGTH);
+        buf.put(PROD_DATA_HEADER);
+        buf.putInt(getStatusCode(prodData.getNwrProd()));
+        buf.putInt(getStatusCode(prodData.getNwwsProd()));
+        buf.putInt(getCount(prodData.getNwrProd()));
+        buf.putInt(getCount(prodData.getNwwsProd()));
+        return buf.array();
+    }
+
+    /**
+     * @param prodType
+     * @param prodKey
+     * @param prod
+     * @return frame to append for a replaced product.
+     * @throws SerializationException
+     */
+    public static byte[] replaceDelta(ClimateProductType prodType,
+            String prodKey, ClimateProduct prod)
+            throws SerializationException {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream dos = new DataOutputStream(body);
+            dos.writeUTF(prodType.name());
+            dos.writeUTF(prodKey);
+            dos.write(compress(serialize(prod)));
+            dos.flush();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeFrame(out, FRAME_REPLACE, body.toByteArray());
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "Failed to write replaced product " + prodKey, e);
+        }
+    }
+
+    /**
+     * @param prodType
+     * @param prodKey
+     * @return frame to append for a deleted product.
+     * @throws SerializationException
+     */
+    public static byte[] deleteDelta(ClimateProductType prodType,
+            String prodKey) throws SerializationException {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream dos = new DataOutputStream(body);
+            dos.writeUTF(prodType.name());
+            dos.writeUTF(prodKey);
+            dos.flush();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeFrame(out, FRAME_DELETE, body.toByteArray());
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "Failed to write deleted product " + prodKey, e);
+        }
+    }
+
+    /**
+     * @param bytes
+     *            a payload, or a plain Thrift serialization.
+     * @return the stored object, null if bytes is null.
+     * @throws SerializationException
+     */
+    public static Object decode(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        if (!isPayload(bytes)) {
+            return deserialize(bytes);
+        }
+
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        buf.position(bytes[3] == KIND_PROD_DATA ? SUMMARY_LENGTH
+                : HEADER_LENGTH);
+        if (buf.get() != FRAME_BASE) {
+            throw new SerializationException(
+                    "CPG session payload does not start with its object");
+        }
+        byte[] body = new byte[buf.getInt()];
+        buf.get(body);
+        return deserialize(decompress(body));
+    }
+
+    /**
+     * @param bytes
+     *            a product data payload, or a plain Thrift serialization.
+     * @return the product data with all appended edits applied, null if bytes
+     *         is null.
+     * @throws SerializationException
+     */
+    public static ClimateProdData decodeProdData(byte[] bytes)
+            throws SerializationException {
+        ClimateProdData prodData = (ClimateProdData) decode(bytes);
+        if (prodData == null || !isProdDataPayload(bytes)) {
+            return prodData;
+        }
+
+        try {
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            buf.position(SUMMARY_LENGTH);
+            // Skip the base frame
+            buf.get();
+            buf.position(buf.getInt() + buf.position());
+
+            while (buf.hasRemaining()) {
+                byte frame = buf.get();
+                byte[] body = new byte[buf.getInt()];
+                buf.get(body);
+
+                DataInputStream dis = new DataInputStream(
+                        new ByteArrayInputStream(body));
+                ClimateProductType prodType = ClimateProductType
+                        .valueOf(dis.readUTF());
+                String prodKey = dis.readUTF();
+                if (frame == FRAME_REPLACE) {
+                    byte[] prod = new byte[dis.available()];
+                    dis.readFully(prod);
+                    prodData.replaceClimateProd(prodType, prodKey,
+                            (ClimateProduct) deserialize(decompress(prod)));
+                } else if (frame == FRAME_DELETE) {
+                    prodData.deleteClimateProd(prodType, prodKey);
+                } else {
+                    throw new SerializationException(
+                            "Unknown CPG session payload frame " + frame);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException(
+                    "Failed to apply product edits of CPG session payload",
+                    e);
+        }
+        return prodData;
+    }
+
+    /**
+     * @param bytes
+     * @return number of product edits appended to a product data payload; 0
+     *         for other or plain Thrift bytes.
+     */
+    public static int getDeltaCount(byte[] bytes) {
+        if (bytes == null || !isProdDataPayload(bytes)) {
+            return 0;
+        }
+        int count = -1;
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        buf.position(SUMMARY_LENGTH);
+        while (buf.remaining() >= 5) {
+            buf.get();
+            buf.position(buf.getInt() + buf.position());
+            count++;
+        }
+        return Math.max(0, count);
+    }
+
+    /**
+     * @param bytes
+     *            start of a stored product data column, at least
+     *            {@link #SUMMARY_LENGTH} bytes for payloads, or a whole plain
+     *            Thrift serialization.
+     * @return the summary, null if bytes is null.
+     * @throws SerializationException
+     */
+    public static ProdDataSummary getSummary(byte[] bytes)
+            throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        if (!isProdDataPayload(bytes)) {
+            bytes = summarize((ClimateProdData) deserialize(bytes));
+        }
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        buf.position(HEADER_LENGTH);
+        return new ProdDataSummary(getStatus(buf.getInt()),
+                getStatus(buf.getInt()), buf.getInt(), buf.getInt());
+    }
+
+    /**
+     * @param bytes
+     * @return true if the bytes start with a product data payload header.
+     */
+    private static boolean isProdDataPayload(byte[] bytes) {
+        return isPayload(bytes) && bytes[3] == KIND_PROD_DATA
+                && bytes.length >= SUMMARY_LENGTH;
+    }
+
+    /**
+     * @param bytes
+     * @return true if the bytes start with a payload header, false for plain
+     *         Thrift.
+     */
+    private static boolean isPayload(byte[] bytes) {
+        return bytes.length >= HEADER_LENGTH && bytes[0] == 'C'
+                && bytes[1] == 'P' && bytes[2] == 'G'
+                && (bytes[3] == KIND_OBJECT || bytes[3] == KIND_PROD_DATA);
+    }
+
+    private static void writeFrame(ByteArrayOutputStream out, byte frame,
+            byte[] body) {
+        out.write(frame);
+        byte[] length = ByteBuffer.allocate(4).putInt(body.length).array();
+        out.write(length, 0, length.length);
+        out.write(body, 0, body.length);
+    }
+
+    private static byte[] serialize(Object obj) throws SerializationException {
+        return DynamicSerializationManager.getManager(SerializationType.Thrift)
+                .serialize(obj);
+    }
+
+    private static Object deserialize(byte[] bytes)
+            throws SerializationException {
+        return DynamicSerializationManager.getManager(SerializationType.Thrift)
+                .deserialize(bytes);
+    }
+
+    private static byte[] compress(byte[] bytes)
+            throws SerializationException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "Failed to compress CPG session data", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] bytes)
+            throws SerializationException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                bytes.length * 4);
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(bytes))) {
+            byte[] buf = new byte[8192];
+            int read;
+            while ((read = gzip.read(buf)) > 0) {
+                out.write(buf, 0, read);
+            }
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "Failed to decompress CPG session data", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static int getStatusCode(ClimateProductSet prodSet) {
+        return prodSet == null || prodSet.getProdStatus() == null
+                ? ProductSetStatus.UNKNOWN.getCode()
+                : prodSet.getProdStatus().getCode();
+    }
+
+    private static ProductSetStatus getStatus(int code) {
+        for (ProductSetStatus status : ProductSetStatus.values()) {
+            if (status.getCode() == code) {
+                return status;
+            }
+        }
+        return ProductSetStatus.UNKNOWN;
+    }
+
+    private static int getCount(ClimateProductSet prodSet) {
+        return prodSet == null || prodSet.getProdData() == null ? 0
+                : prodSet.getProdData().size();
+    }
+}
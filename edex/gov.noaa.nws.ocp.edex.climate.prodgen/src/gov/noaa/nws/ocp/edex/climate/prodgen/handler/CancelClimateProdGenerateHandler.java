@@ -8,6 +8,7 @@ import com.raytheon.uf.common.serialization.comm.IRequestHandler;
 import gov.noaa.nws.ocp.common.dataplugin.climate.request.prodgen.CancelClimateProdGenerateRequest;
 import gov.noaa.nws.ocp.edex.climate.prodgen.ClimateProdGenerateSession;
 import gov.noaa.nws.ocp.edex.climate.prodgen.ClimateProdGenerateSessionFactory;
+import gov.noaa.nws.ocp.edex.climate.prodgen.ClimateProdGenerateSessionScheduler;
 
 /**
  * Handler for when user cancels a CPG session.
@@ -43,9 +44,14 @@ public class CancelClimateProdGenerateHandler
                     "Missing CPG Session for the ID: " + cpgSessionId);
         }
 
-        return session.cancelCPGSession(request.getUserId(),
+        int status = session.cancelCPGSession(request.getUserId(),
                 request.getReason());
 
+        ClimateProdGenerateSessionScheduler.stateChanged(cpgSessionId,
+                session.getState(), session.getStateStatus().getStatus());
+
+        return status;
+
     }
 
 }
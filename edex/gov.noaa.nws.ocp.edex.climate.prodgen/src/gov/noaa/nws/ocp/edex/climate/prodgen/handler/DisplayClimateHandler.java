@@ -8,8 +8,10 @@ import com.raytheon.uf.common.status.UFStatus.Priority;
 
 import gov.noaa.nws.ocp.common.dataplugin.climate.SessionState;
 import gov.noaa.nws.ocp.common.dataplugin.climate.request.prodgen.DisplayClimateRequest;
+import gov.noaa.nws.ocp.common.dataplugin.climate.response.DisplayClimateResponse;
 import gov.noaa.nws.ocp.edex.climate.prodgen.ClimateProdGenerateSession;
 import gov.noaa.nws.ocp.edex.climate.prodgen.ClimateProdGenerateSessionFactory;
+import gov.noaa.nws.ocp.edex.climate.prodgen.ClimateProdGenerateSessionScheduler;
 
 /**
  * DisplayClimateHandler
@@ -54,7 +56,13 @@ public class DisplayClimateHandler
                     null);
         }
 
-        return session.startDisplayReportData(request.getUserId());
+        DisplayClimateResponse response = session
+                .startDisplayReportData(request.getUserId());
+
+        ClimateProdGenerateSessionScheduler.stateChanged(cpgSessionId,
+                session.getState(), session.getStateStatus().getStatus());
+
+        return response;
 
     }
 
@@ -11,6 +11,7 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.SessionState;
 import gov.noaa.nws.ocp.common.dataplugin.climate.request.prodgen.ReviewClimateProdRequest;
 import gov.noaa.nws.ocp.edex.climate.prodgen.ClimateProdGenerateSession;
 import gov.noaa.nws.ocp.edex.climate.prodgen.ClimateProdGenerateSessionFactory;
+import gov.noaa.nws.ocp.edex.climate.prodgen.ClimateProdGenerateSessionScheduler;
 
 /**
  * ReviewClimateProdHandler ReviewClimateProdHandler will only be issued when
@@ -50,8 +51,13 @@ public class ReviewClimateProdHandler
                     null);
         }
 
-        return session.startReviewProdData(ClimateProductType.NWWS,
-                request.getUserId());
+        Object response = session.startReviewProdData(
+                ClimateProductType.NWWS, request.getUserId());
+
+        ClimateProdGenerateSessionScheduler.stateChanged(cpgSessionId,
+                session.getState(), session.getStateStatus().getStatus());
+
+        return response;
 
     }
 
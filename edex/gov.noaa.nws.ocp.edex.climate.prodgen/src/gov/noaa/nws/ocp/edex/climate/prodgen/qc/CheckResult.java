@@ -4,6 +4,7 @@
 package gov.noaa.nws.ocp.edex.climate.prodgen.qc;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,11 +32,15 @@ public class CheckResult {
     /* detailed information if one or more checking failed */
     private final List<String> details;
 
+    /* result of each check performed */
+    private final List<FieldCheckResult> fieldResults;
+
     /**
      * Constructor
      */
     public CheckResult() {
         details = new ArrayList<>();
+        fieldResults = new ArrayList<>();
     }
 
     /**
@@ -84,4 +89,31 @@ public class CheckResult {
         return this.details.size();
     }
 
+    /**
+     * addFieldResult
+     * 
+     * @param result
+     */
+    public void addFieldResult(FieldCheckResult result) {
+        this.fieldResults.add(result);
+    }
+
+    /**
+     * @return the result of each check performed, in order.
+     */
+    public List<FieldCheckResult> getFieldResults() {
+        return Collections.unmodifiableList(fieldResults);
+    }
+
+    /**
+     * Add the details and field results of another result, such as that of
+     * one station, to this one. This result fails if the other failed.
+     * 
+     * @param other
+     */
+    public void merge(CheckResult other) {
+        this.passed = this.passed && other.passed;
+        this.details.addAll(other.details);
+        this.fieldResults.addAll(other.fieldResults);
+    }
 }
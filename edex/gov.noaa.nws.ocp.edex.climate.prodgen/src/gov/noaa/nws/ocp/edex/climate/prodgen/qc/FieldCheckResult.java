@@ -0,0 +1,122 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.prodgen.qc;
+
+/**
+ * FieldCheckResult Result of one site defined QC check on one parameter of one
+ * station's data
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+
+public class FieldCheckResult {
+
+    /**
+     * Outcome of a check.
+     */
+    public enum Outcome {
+        /* value met the check */
+        PASSED,
+        /* value failed the check */
+        FAILED,
+        /* check could not be applied to the value */
+        NOT_CHECKED
+    }
+
+    // Name of the station checked
+    private final String stationName;
+
+    // Site defined parameter checked
+    private final String paramName;
+
+    private final QCOperator checkOp;
+
+    // Value of the parameter, NaN if not read
+    private final double value;
+
+    private final Outcome outcome;
+
+    // Detail message, null if the check passed
+    private final String detail;
+
+    /**
+     * Constructor
+     *
+     * @param stationName
+     * @param paramName
+     * @param checkOp
+     * @param value
+     * @param outcome
+     * @param detail
+     */
+    public FieldCheckResult(String stationName, String paramName,
+            QCOperator checkOp, double value, Outcome outcome,
+            String detail) {
+        this.stationName = stationName;
+        this.paramName = paramName;
+        this.checkOp = checkOp;
+        this.value = value;
+        this.outcome = outcome;
+        this.detail = detail;
+    }
+
+    /**
+     * @return the stationName
+     */
+    public String getStationName() {
+        return stationName;
+    }
+
+    /**
+     * @return the paramName
+     */
+    public String getParamName() {
+        return paramName;
+    }
+
+    /**
+     * @return the checkOp
+     */
+    public QCOperator getCheckOp() {
+        return checkOp;
+    }
+
+    /**
+     * @return the value
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * @return the outcome
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * @return the detail
+     */
+    public String getDetail() {
+        return detail;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + stationName + "] [" + paramName + "] " + checkOp + " "
+                + outcome + (detail == null ? "" : ": " + detail);
+    }
+}
@@ -3,8 +3,6 @@
  **/
 package gov.noaa.nws.ocp.edex.climate.prodgen.qc.checker;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -12,7 +10,6 @@ import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
 
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunData;
-import gov.noaa.nws.ocp.edex.climate.prodgen.qc.CheckDataType;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.CheckResult;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.DataQualityCheckTriple;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.FieldTypeAndValue;
@@ -85,65 +82,8 @@ public abstract class ClimateDataQualityChecker {
      */
     protected FieldTypeAndValue getFieldValue(Object obj, String name)
             throws Exception {
-
-        FieldTypeAndValue tv = new FieldTypeAndValue();
-        Object rval = null;
-        Field f = null;
-
-        String method = Character.toUpperCase(name.charAt(0))
-                + name.substring(1);
-        Class<?> clazz = obj.getClass();
-        try {
-            Method m;
-            try {
-                f = clazz.getDeclaredField(name);
-                // Try common 'get' first...
-                m = clazz.getMethod("get" + method);
-            } catch (NoSuchMethodException e) {
-                // Try 'is' as a prefix
-                m = clazz.getMethod("is" + method);
-            }
-
-            rval = m.invoke(obj);
-        } catch (Exception e) {
-            throw new Exception(e);
-        }
-
-        if (f != null) {
-            tv.setType(getFieldDataType(f));
-            tv.setValue(rval);
-        }
-
-        return tv;
-    }
-
-    /**
-     * Map the filed type to enum CheckDataType
-     * 
-     * @param f
-     * @return
-     */
-    private CheckDataType getFieldDataType(Field f) {
-
-        CheckDataType type = CheckDataType.UNKNOWN;
-
-        String typeName = f.getType().getSimpleName();
-        if (typeName.equalsIgnoreCase("Short")) {
-            type = CheckDataType.SHORT;
-        } else if (typeName.equalsIgnoreCase("Integer")
-                || typeName.equalsIgnoreCase("int")) {
-            type = CheckDataType.INT;
-        } else if (typeName.equalsIgnoreCase("Long")) {
-            type = CheckDataType.LONG;
-        } else if (typeName.equalsIgnoreCase("Float")) {
-            type = CheckDataType.FLOAT;
-        } else if (typeName.equalsIgnoreCase("Double")) {
-            type = CheckDataType.DOUBLE;
-        } else if (typeName.equalsIgnoreCase("ClimateWind")) {
-            type = CheckDataType.WINDOBJ;
-        }
-
-        return type;
+        FieldAccessor accessor = FieldAccessor.forField(obj.getClass(), name);
+        return new FieldTypeAndValue(accessor.getType(), accessor.get(obj));
     }
 
 }
@@ -3,10 +3,11 @@
  **/
 package gov.noaa.nws.ocp.edex.climate.prodgen.qc.checker;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateWind;
 import gov.noaa.nws.ocp.common.dataplugin.climate.DailyClimateData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
 import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
@@ -16,14 +17,16 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunData;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.CheckDataType;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.CheckResult;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.DataQualityCheckTriple;
-import gov.noaa.nws.ocp.edex.climate.prodgen.qc.FieldTypeAndValue;
+import gov.noaa.nws.ocp.edex.climate.prodgen.qc.FieldCheckResult;
+import gov.noaa.nws.ocp.edex.climate.prodgen.qc.FieldCheckResult.Outcome;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.QCOperator;
 
 /**
  * DailyClimateDataQualityChecker
  * 
  * All DSM parameters defined in the qcparams.properties will be handled by this
- * checker
+ * checker. The check list is compiled once into field accessors and parsed
+ * limits, and values are compared without boxing.
  * 
  * <pre>
  *
@@ -81,6 +84,38 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
                 String.valueOf(ParameterFormatClimate.MISSING) });
     }
 
+    /**
+     * A check from the check list, with its field accessor and limits.
+     */
+    private static final class CompiledCheck {
+        private final DataQualityCheckTriple qcInfo;
+
+        /* null if the check cannot be performed */
+        private final FieldAccessor accessor;
+
+        private final double missing;
+
+        private final double limit;
+
+        /* limit printed as the type of the field */
+        private final String limitText;
+
+        private CompiledCheck(DataQualityCheckTriple qcInfo,
+                FieldAccessor accessor, double missing, double limit,
+                String limitText) {
+            this.qcInfo = qcInfo;
+            this.accessor = accessor;
+            this.missing = missing;
+            this.limit = limit;
+            this.limitText = limitText;
+        }
+    }
+
+    /**
+     * Checks compiled from the check list, built on first use.
+     */
+    private volatile List<CompiledCheck> compiledChecks;
+
     /**
      * Constructor
      */
@@ -88,17 +123,31 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
         super();
     }
 
+    @Override
+    public void setCheckList(List<DataQualityCheckTriple> checkList) {
+        super.setCheckList(checkList);
+        compiledChecks = null;
+    }
+
+    @Override
+    public void addOneDataQualityCheckTriple(DataQualityCheckTriple dqc) {
+        super.addOneDataQualityCheckTriple(dqc);
+        compiledChecks = null;
+    }
+
     @Override
     public CheckResult check(ClimateRunData data) throws Exception {
-        CheckResult cresult = new CheckResult();
+        List<CompiledCheck> checks = getCompiledChecks();
 
         Map<Integer, ClimateDailyReportData> reportData = ((ClimateRunDailyData) data)
                 .getReportMap();
+        CheckResult cresult = new CheckResult();
         // Check each stations's data
         for (ClimateDailyReportData entry : reportData.values()) {
-            boolean checkPassed = checkDefinedParameters(entry, cresult);
+            CheckResult stationResult = checkDefinedParameters(entry, checks);
+            cresult.merge(stationResult);
 
-            if (!checkPassed) {
+            if (!stationResult.isPassed()) {
                 logger.debug("Some Climate QC checks did not pass: "
                         + cresult.getDetails());
                 /*
@@ -114,331 +163,246 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
     }
 
     /**
-     * checkDefinedParameters
-     * 
-     * Check each defined parameter against given ClimateDailyReportData
-     * 
-     * @param report
-     * @return true if passed all checks
+     * @return the compiled checks, compiling the check list if needed.
+     * @throws Exception
      */
-    private boolean checkDefinedParameters(ClimateDailyReportData report,
-            CheckResult cresult) throws Exception {
-        DailyClimateData data = report.getData();
-        Station station = report.getStation();
-
-        // Check each defined QC param on the report data
-        for (DataQualityCheckTriple qcInfo : checkList) {
-            boolean currCheckPass = true;
-
-            if (qcInfo.getParamName() == null
-                    || qcInfo.getParamName().isEmpty()) {
-                // No parameter defined, ignore to check
-                String msg = "Undefined parameter [" + qcInfo.getParamName()
-                        + "] is not able to be checked for station ["
-                        + station.getStationName() + "].";
-                logger.warn(msg);
-                cresult.addDetail(msg);
-                continue;
-            }
-
-            QCOperator op = qcInfo.getCheckOp();
-            Object checkValue = null;
-            if (op == QCOperator.GT || op == QCOperator.LT) {
-                checkValue = qcInfo.getParamValue();
-            }
-
-            switch (op) {
-            case M:
-                currCheckPass = isMissing(data, station, qcInfo.getParamName(),
-                        cresult) ? false : true;
-                break;
-            case GT:
-                if (!isMissing(data, station, qcInfo.getParamName(),
-                        new CheckResult())) {
-                    currCheckPass = isGreaterThan(data, station,
-                            qcInfo.getParamName(), checkValue, cresult) ? false
-                                    : true;
-                } else {
-                    String msg = "Parameter [" + qcInfo.getParamName()
-                            + "] for station [" + station.getStationName()
-                            + "] will not be checked for [>"
-                            + checkValue.toString()
-                            + "] as the parameter is missing.";
-
-                    cresult.addDetail(msg);
-                    logger.debug(msg);
-                }
-                break;
-            case LT:
-                if (!isMissing(data, station, qcInfo.getParamName(),
-                        new CheckResult())) {
-                    currCheckPass = isLessThan(data, station,
-                            qcInfo.getParamName(), checkValue, cresult) ? false
-                                    : true;
-                } else {
-                    String msg = "Parameter [" + qcInfo.getParamName()
-                            + "] for station [" + station.getStationName()
-                            + "] will not be checked for [<"
-                            + checkValue.toString()
-                            + "] as the parameter is missing.";
-
-                    cresult.addDetail(msg);
-                    logger.debug(msg);
-                }
-                break;
-            default:
-                String msg = "Unknown operand for parameter ["
-                        + qcInfo.getParamName()
-                        + "] will not be checked for station ["
-                        + station.getStationName() + "]";
-                cresult.addDetail(msg);
-                break;
-            }
-
-            /*
-             * Currently break out after first failed check, but
-             * user-requirements may expand later to show all failed checks for
-             * a station.
-             */
-            if (!currCheckPass) {
-                return false;
+    private List<CompiledCheck> getCompiledChecks() throws Exception {
+        List<CompiledCheck> checks = compiledChecks;
+        if (checks == null) {
+            checks = new ArrayList<>(checkList.size());
+            for (DataQualityCheckTriple qcInfo : checkList) {
+                checks.add(compile(qcInfo));
             }
+            compiledChecks = checks;
         }
-
-        return true;
+        return checks;
     }
 
     /**
-     * getWindValue
+     * compile
      * 
-     * Get real type and value for Wind parameters, including: twomin_wspd,
-     * max2min_wspd, pkwnd_dir, pkwnd_spd
+     * Look up the accessor of the checked parameter and parse its missing
+     * value and limit as the type of the parameter.
      * 
-     * @param checkParamName
-     * @param ftv
-     */
-    private void getWindValue(String checkParamName, FieldTypeAndValue ftv) {
-        ClimateWind wind = (ClimateWind) ftv.getValue();
-        String ds = checkParamName.substring(checkParamName.length() - 3);
-        if (ds.equalsIgnoreCase("dir")) {
-            ftv.setValue(wind.getDir());
-            ftv.setType(CheckDataType.INT);
-        } else if (ds.equalsIgnoreCase("spd")) {
-            ftv.setValue(wind.getSpeed());
-            ftv.setType(CheckDataType.FLOAT);
-        }
-    }
-
-    /**
-     * check if given param is missing
-     * 
-     * @param data
-     * @param station
-     * @param checkParam
-     * @param cresult
-     * @return
+     * @param qcInfo
+     * @return the compiled check
      * @throws Exception
+     *             if the parameter is not supported or the limit is invalid.
      */
-    private boolean isMissing(DailyClimateData data, Station station,
-            String checkParamName, CheckResult cresult) throws Exception {
-        boolean missing = false;
-        FieldTypeAndValue value = null;
+    private static CompiledCheck compile(DataQualityCheckTriple qcInfo)
+            throws Exception {
+        String checkParamName = qcInfo.getParamName();
+        QCOperator op = qcInfo.getCheckOp();
+        if (checkParamName == null || checkParamName.isEmpty()
+                || (op != QCOperator.M && op != QCOperator.GT
+                        && op != QCOperator.LT)) {
+            // Reported for each station when checked
+            return new CompiledCheck(qcInfo, null, 0, 0, null);
+        }
 
-        String checkFieldName = PARAM_ATTRIBUTE_MAP.get(checkParamName)[0];
+        String[] attribute = PARAM_ATTRIBUTE_MAP.get(checkParamName);
+        if (attribute == null) {
+            throw new Exception("Parameter [" + checkParamName
+                    + "] is not supported for Climate QC check");
+        }
 
+        FieldAccessor accessor;
         try {
-            value = this.getFieldValue(data, checkFieldName);
+            accessor = FieldAccessor.forField(DailyClimateData.class,
+                    attribute[0]);
+
+            /*
+             * Wind dir and speed are encapsulated in ClimateWind
+             */
+            if (accessor.getType() == CheckDataType.WINDOBJ) {
+                accessor = getWindAccessor(checkParamName, accessor);
+            }
         } catch (Exception e) {
             throw new Exception("Failed to get value for the attribute: "
-                    + checkParamName + " from DailyClimateData");
+                    + checkParamName + " from DailyClimateData", e);
         }
 
-        /*
-         * Wind dir and speed are encapsulated in ClimateWind
-         * 
-         * Following call extracted their real type and value
-         */
-        if (value.getType() == CheckDataType.WINDOBJ) {
-            getWindValue(checkParamName, value);
+        if (!accessor.isNumeric()) {
+            throw new Exception("Data Type of the parameter " + checkParamName
+                    + " is not supported for Climate QC check");
         }
 
-        if (PARAM_ATTRIBUTE_MAP.get(checkParamName)[1]
-                .equals(value.getValue().toString())) {
-            String msg = "The parameter [" + checkParamName
-                    + "] is missing for station [" + station.getStationName()
-                    + "]";
-            cresult.setPassed(false);
-            cresult.addDetail(msg);
-            missing = true;
+        double limit = 0;
+        String limitText = null;
+        if (op != QCOperator.M) {
+            String value = String.valueOf(qcInfo.getParamValue()).trim();
+            try {
+                limit = accessor.parse(value);
+            } catch (NumberFormatException e) {
+                throw new Exception("Invalid value [" + value
+                        + "] to check parameter " + checkParamName, e);
+            }
+            limitText = accessor.format(limit);
         }
-        return missing;
+
+        return new CompiledCheck(qcInfo, accessor,
+                accessor.parse(attribute[1]), limit, limitText);
     }
 
     /**
-     * isGreaterThan
+     * getWindAccessor
      * 
-     * @param data
-     * @param station
-     * @param checkParam
-     * @param checkValue
+     * Get accessor of the real type and value for Wind parameters, including:
+     * max2min_wdir, max2min_wspd, pkwnd_dir, pkwnd_spd
+     * 
+     * @param checkParamName
+     * @param windAccessor
      * @return
      * @throws Exception
      */
-    private boolean isGreaterThan(DailyClimateData data, Station station,
-            String checkParamName, Object checkValue, CheckResult cresult)
-                    throws Exception {
-
-        boolean greaterThan = false;
-        String checkFieldName = PARAM_ATTRIBUTE_MAP.get(checkParamName)[0];
-        FieldTypeAndValue tv = getFieldValue(data, checkFieldName);
-
-        if (tv.getType() == CheckDataType.UNKNOWN || tv.getValue() == null) {
-            throw new Exception("Data Type of the parameter " + checkParamName
-                    + " is not supported for greater-than check");
+    private static FieldAccessor getWindAccessor(String checkParamName,
+            FieldAccessor windAccessor) throws Exception {
+        String ds = checkParamName.substring(checkParamName.length() - 3);
+        if (ds.equalsIgnoreCase("dir")) {
+            return windAccessor.andThen("dir");
+        } else if (ds.equalsIgnoreCase("spd")) {
+            return windAccessor.andThen("speed");
         }
+        return windAccessor;
+    }
 
-        /*
-         * Wind dir and speed are encapsulated in ClimateWind Following call
-         * extracted their real type and value
-         */
-        if (tv.getType() == CheckDataType.WINDOBJ) {
-            getWindValue(checkParamName, tv);
-        }
+    /**
+     * checkDefinedParameters
+     * 
+     * Check each defined parameter against given ClimateDailyReportData
+     * 
+     * @param report
+     * @param checks
+     * @return result of the station's checks
+     */
+    private CheckResult checkDefinedParameters(ClimateDailyReportData report,
+            List<CompiledCheck> checks) throws Exception {
+        CheckResult cresult = new CheckResult();
+        DailyClimateData data = report.getData();
+        Station station = report.getStation();
 
-        String msg = "The value of [" + checkParamName + "] is greater than ";
-
-        switch (tv.getType()) {
-        case SHORT:
-        case INT:
-            int iv = (int) tv.getValue();
-            int iV = Integer.valueOf((String) checkValue);
-            if (iv > iV) {
-                greaterThan = true;
-                msg = msg + iV;
-                cresult.setPassed(false);
-            }
-            break;
-        case LONG:
-            long lv = (long) tv.getValue();
-            long lV = Long.valueOf((String) checkValue);
-            if (lv > lV) {
-                greaterThan = true;
-                msg = msg + lV;
-                cresult.setPassed(false);
-            }
-            break;
-        case FLOAT:
-            float fv = (float) tv.getValue();
-            float fV = Float.valueOf((String) checkValue);
-            if (fv > fV) {
-                greaterThan = true;
-                msg = msg + fV;
-                cresult.setPassed(false);
-            }
-            break;
-        case DOUBLE:
-            double dv = (double) tv.getValue();
-            double dV = Double.valueOf((String) checkValue);
-            if (dv > dV) {
-                greaterThan = true;
-                msg = msg + dV;
-                cresult.setPassed(false);
+        // Check each defined QC param on the report data
+        for (CompiledCheck check : checks) {
+            FieldCheckResult fieldResult = checkParameter(check, data,
+                    station, cresult);
+            cresult.addFieldResult(fieldResult);
 
+            /*
+             * Currently break out after first failed check, but
+             * user-requirements may expand later to show all failed checks for
+             * a station.
+             */
+            if (fieldResult.getOutcome() == Outcome.FAILED) {
+                break;
             }
-            break;
-        default:
-            break;
-        }
-
-        if (greaterThan) {
-            cresult.addDetail(
-                    msg + " for station [" + station.getStationName() + "]");
         }
 
-        return greaterThan;
+        return cresult;
     }
 
     /**
-     * isLessThan
+     * checkParameter
+     * 
+     * Perform one check on a station's data: 1) simply check missing value 2)
+     * check if the value exceeds the limit ( >, < ). A failed check sets the
+     * given result to not passed; details are added to it.
      * 
+     * @param check
      * @param data
      * @param station
-     * @param checkParamName
-     * @param checkValue
-     * @param cresult:
-     *            a reference of CheckResult object,
-     * @return
+     * @param cresult
+     * @return result of the check
      * @throws Exception
      */
-    private boolean isLessThan(DailyClimateData data, Station station,
-            String checkParamName, Object checkValue, CheckResult cresult)
+    private FieldCheckResult checkParameter(CompiledCheck check,
+            DailyClimateData data, Station station, CheckResult cresult)
                     throws Exception {
-
-        boolean lessThan = false;
-        String checkFieldName = PARAM_ATTRIBUTE_MAP.get(checkParamName)[0];
-        FieldTypeAndValue tv = getFieldValue(data, checkFieldName);
-
-        if (tv.getType() == CheckDataType.UNKNOWN || tv.getValue() == null) {
-            throw new Exception("Data Type of the parameter " + checkParamName
-                    + " is not supported for less-than check");
+        DataQualityCheckTriple qcInfo = check.qcInfo;
+        String checkParamName = qcInfo.getParamName();
+        QCOperator op = qcInfo.getCheckOp();
+        String stationName = station.getStationName();
+
+        if (checkParamName == null || checkParamName.isEmpty()) {
+            // No parameter defined, ignore to check
+            String msg = "Undefined parameter [" + checkParamName
+                    + "] is not able to be checked for station ["
+                    + stationName + "].";
+            logger.warn(msg);
+            cresult.addDetail(msg);
+            return new FieldCheckResult(stationName, checkParamName, op,
+                    Double.NaN, Outcome.NOT_CHECKED, msg);
         }
 
-        /*
-         * Wind dir and speed are encapsulated in ClimateWind Following call
-         * extracted their real type and value
-         */
-        if (tv.getType() == CheckDataType.WINDOBJ) {
-            getWindValue(checkParamName, tv);
+        if (check.accessor == null) {
+            String msg = "Unknown operand for parameter [" + checkParamName
+                    + "] will not be checked for station [" + stationName
+                    + "]";
+            cresult.addDetail(msg);
+            return new FieldCheckResult(stationName, checkParamName, op,
+                    Double.NaN, Outcome.NOT_CHECKED, msg);
         }
 
-        String msg = "The value of [" + checkParamName + "] is less than ";
-        switch (tv.getType()) {
-        case SHORT:
-        case INT:
-            int iv = (int) tv.getValue();
-            int iV = Integer.valueOf((String) checkValue);
-            if (iv < iV) {
-                lessThan = true;
-                msg = msg + iV;
-                cresult.setPassed(false);
-            }
-            break;
-        case LONG:
-            long lv = (long) tv.getValue();
-            long lV = Long.valueOf((String) checkValue);
-            if (lv < lV) {
-                lessThan = true;
-                msg = msg + lV;
-                cresult.setPassed(false);
+        double value;
+        try {
+            value = check.accessor.getDouble(data);
+        } catch (Exception e) {
+            throw new Exception("Failed to get value for the attribute: "
+                    + checkParamName + " from DailyClimateData", e);
+        }
+        boolean missing = value == check.missing;
+
+        String msg = null;
+        Outcome outcome = Outcome.PASSED;
+        switch (op) {
+        case M:
+            if (missing) {
+                msg = "The parameter [" + checkParamName
+                        + "] is missing for station [" + stationName + "]";
+                outcome = Outcome.FAILED;
             }
             break;
-        case FLOAT:
-            float fv = (float) tv.getValue();
-            float fV = Float.valueOf((String) checkValue);
-            if (fv < fV) {
-                lessThan = true;
-                msg = msg + fV;
-                cresult.setPassed(false);
+        case GT:
+            if (missing) {
+                msg = "Parameter [" + checkParamName + "] for station ["
+                        + stationName + "] will not be checked for [>"
+                        + qcInfo.getParamValue()
+                        + "] as the parameter is missing.";
+                outcome = Outcome.NOT_CHECKED;
+            } else if (value > check.limit) {
+                msg = "The value of [" + checkParamName
+                        + "] is greater than " + check.limitText
+                        + " for station [" + stationName + "]";
+                outcome = Outcome.FAILED;
             }
             break;
-        case DOUBLE:
-            double dv = (double) tv.getValue();
-            double dV = Double.valueOf((String) checkValue);
-            if (dv < dV) {
-                lessThan = true;
-                msg = msg + dV;
-                cresult.setPassed(false);
+        case LT:
+            if (missing) {
+                msg = "Parameter [" + checkParamName + "] for station ["
+                        + stationName + "] will not be checked for [<"
+                        + qcInfo.getParamValue()
+                        + "] as the parameter is missing.";
+                outcome = Outcome.NOT_CHECKED;
+            } else if (value < check.limit) {
+                msg = "The value of [" + checkParamName + "] is less than "
+                        + check.limitText + " for station [" + stationName
+                        + "]";
+                outcome = Outcome.FAILED;
             }
             break;
         default:
             break;
         }
 
-        if (lessThan) {
-            cresult.addDetail(
-                    msg + " for station [" + station.getStationName() + "]");
+        if (outcome == Outcome.FAILED) {
+            cresult.setPassed(false);
+        } else if (msg != null) {
+            logger.debug(msg);
+        }
+        if (msg != null) {
+            cresult.addDetail(msg);
         }
 
-        return lessThan;
+        return new FieldCheckResult(stationName, checkParamName, op, value,
+                outcome, msg);
     }
 }
@@ -0,0 +1,280 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.prodgen.qc.checker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateWind;
+import gov.noaa.nws.ocp.edex.climate.prodgen.qc.CheckDataType;
+
+/**
+ * FieldAccessor A getter of a climate data field, looked up once and kept as a
+ * method handle so that QC checks do not use reflection on every value.
+ * Numeric fields can be read without boxing.
+ *
+ * Accessors are cached per class and field name.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+final class FieldAccessor {
+
+    /**
+     * Accessors by class, then by field name.
+     */
+    private static final Map<Class<?>, Map<String, FieldAccessor>> ACCESSORS = new ConcurrentHashMap<>();
+
+    /**
+     * Name of the field.
+     */
+    private final String name;
+
+    /**
+     * Data type of the field.
+     */
+    private final CheckDataType type;
+
+    /**
+     * Class of the field value.
+     */
+    private final Class<?> valueClass;
+
+    /**
+     * Getter with its declared types.
+     */
+    private final MethodHandle handle;
+
+    /**
+     * Getter taking Object, returning the boxed value.
+     */
+    private final MethodHandle objectGetter;
+
+    /**
+     * Getter taking Object, returning the value as a double. Null if the field
+     * is not numeric.
+     */
+    private final MethodHandle doubleGetter;
+
+    /**
+     * Constructor
+     *
+     * @param name
+     * @param handle
+     *            getter, taking one argument.
+     */
+    private FieldAccessor(String name, MethodHandle handle) {
+        this.name = name;
+        this.handle = handle;
+        this.valueClass = handle.type().returnType();
+        this.type = getDataType(valueClass);
+        this.objectGetter = handle
+                .asType(MethodType.methodType(Object.class, Object.class));
+        if (isNumeric()) {
+            this.doubleGetter = handle
+                    .asType(MethodType.methodType(double.class, Object.class));
+        } else {
+            this.doubleGetter = null;
+        }
+    }
+
+    /**
+     * Get the accessor of a field, by its "get" method or, failing that, its
+     * "is" method.
+     *
+     * @param clazz
+     * @param name
+     * @return the accessor
+     * @throws Exception
+     *             if the class has no public getter for the field.
+     */
+    static FieldAccessor forField(Class<?> clazz, String name)
+            throws Exception {
+        Map<String, FieldAccessor> classAccessors = ACCESSORS
+                .computeIfAbsent(clazz, k -> new ConcurrentHashMap<>());
+        FieldAccessor accessor = classAccessors.get(name);
+        if (accessor == null) {
+            accessor = new FieldAccessor(name, findGetter(clazz, name));
+            FieldAccessor previous = classAccessors.putIfAbsent(name, accessor);
+            if (previous != null) {
+                accessor = previous;
+            }
+        }
+        return accessor;
+    }
+
+    /**
+     * Get the accessor of a field of the value of this field, such as the
+     * speed of a wind.
+     *
+     * @param fieldName
+     * @return the accessor, taking the same object as this accessor.
+     * @throws Exception
+     *             if the value has no public getter for the field.
+     */
+    FieldAccessor andThen(String fieldName) throws Exception {
+        FieldAccessor inner = forField(valueClass, fieldName);
+        return new FieldAccessor(name + "." + fieldName,
+                MethodHandles.filterReturnValue(handle, inner.handle));
+    }
+
+    /**
+     * @return the name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @return the type
+     */
+    CheckDataType getType() {
+        return type;
+    }
+
+    /**
+     * @return true if the value can be read as a double.
+     */
+    boolean isNumeric() {
+        switch (type) {
+        case SHORT:
+        case INT:
+        case LONG:
+        case FLOAT:
+        case DOUBLE:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * @param obj
+     * @return the value of the field
+     * @throws Exception
+     */
+    Object get(Object obj) throws Exception {
+        try {
+            return objectGetter.invokeExact(obj);
+        } catch (Error | Exception e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new Exception(t);
+        }
+    }
+
+    /**
+     * @param obj
+     * @return the value of a numeric field, without boxing.
+     * @throws Exception
+     */
+    double getDouble(Object obj) throws Exception {
+        try {
+            return (double) doubleGetter.invokeExact(obj);
+        } catch (Error | Exception e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new Exception(t);
+        }
+    }
+
+    /**
+     * Parse a value as the type of this field. A float is parsed as a float,
+     * so that it compares to field values as it did before being widened.
+     *
+     * @param value
+     * @return the value, as a double.
+     * @throws NumberFormatException
+     */
+    double parse(String value) {
+        switch (type) {
+        case SHORT:
+        case INT:
+            return Integer.parseInt(value);
+        case LONG:
+            return Long.parseLong(value);
+        case FLOAT:
+            return Float.parseFloat(value);
+        default:
+            return Double.parseDouble(value);
+        }
+    }
+
+    /**
+     * @param value
+     *            a value returned by {@link #parse(String)}.
+     * @return the value, printed as the type of this field.
+     */
+    String format(double value) {
+        switch (type) {
+        case SHORT:
+        case INT:
+            return String.valueOf((int) value);
+        case LONG:
+            return String.valueOf((long) value);
+        case FLOAT:
+            return String.valueOf((float) value);
+        default:
+            return String.valueOf(value);
+        }
+    }
+
+    /**
+     * @param clazz
+     * @param name
+     * @return a handle to the getter of the field.
+     * @throws Exception
+     */
+    private static MethodHandle findGetter(Class<?> clazz, String name)
+            throws Exception {
+        String method = Character.toUpperCase(name.charAt(0))
+                + name.substring(1);
+        Method m;
+        try {
+            // Try common 'get' first...
+            m = clazz.getMethod("get" + method);
+        } catch (NoSuchMethodException e) {
+            // Try 'is' as a prefix
+            m = clazz.getMethod("is" + method);
+        }
+        return MethodHandles.publicLookup().unreflect(m);
+    }
+
+    /**
+     * Map the value class to enum CheckDataType
+     *
+     * @param clazz
+     * @return
+     */
+    private static CheckDataType getDataType(Class<?> clazz) {
+        if (clazz == short.class || clazz == Short.class) {
+            return CheckDataType.SHORT;
+        } else if (clazz == int.class || clazz == Integer.class) {
+            return CheckDataType.INT;
+        } else if (clazz == long.class || clazz == Long.class) {
+            return CheckDataType.LONG;
+        } else if (clazz == float.class || clazz == Float.class) {
+            return CheckDataType.FLOAT;
+        } else if (clazz == double.class || clazz == Double.class) {
+            return CheckDataType.DOUBLE;
+        } else if (ClimateWind.class.isAssignableFrom(clazz)) {
+            return CheckDataType.WINDOBJ;
+        }
+        return CheckDataType.UNKNOWN;
+    }
+}
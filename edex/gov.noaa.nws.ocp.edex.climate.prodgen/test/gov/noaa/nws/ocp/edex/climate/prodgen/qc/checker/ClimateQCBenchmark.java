@@ -0,0 +1,178 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.prodgen.qc.checker;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateWind;
+import gov.noaa.nws.ocp.common.dataplugin.climate.DailyClimateData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.report.ClimateDailyReportData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunDailyData;
+import gov.noaa.nws.ocp.edex.climate.prodgen.qc.CheckResult;
+import gov.noaa.nws.ocp.edex.climate.prodgen.qc.DataQualityCheckTriple;
+import gov.noaa.nws.ocp.edex.climate.prodgen.qc.QCOperator;
+
+/**
+ * Compares the daily Climate QC check before and after compiling the checks:
+ * the earlier path, which looked up each field by reflection and compared
+ * values through boxed objects and strings for every station and check,
+ * against {@link DailyClimateDataQualityChecker#check}. Every station passes
+ * every check, so all of them are performed. Both paths must give the same
+ * result; the time and bytes allocated per check of each are printed.
+ *
+ * Usage: ClimateQCBenchmark [stations] [iterations]
+ */
+public class ClimateQCBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200;
+
+    /**
+     * Checks: DSM parameter, DailyClimateData field, operator, limit, missing
+     * value.
+     */
+    private static final String[][] CHECKS = {
+            { "maxtemp_cal", "maxTemp", "GT", "130",
+                    String.valueOf(ParameterFormatClimate.MISSING) },
+            { "mintemp_cal", "minTemp", "LT", "-80",
+                    String.valueOf(ParameterFormatClimate.MISSING) },
+            { "max2min_wspd", "maxWind", "GT", "200",
+                    String.valueOf(ParameterFormatClimate.MISSING_SPEED) } };
+
+    public static void main(String[] args) throws Exception {
+        int stations = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        ClimateRunDailyData data = buildData(stations);
+        DailyClimateDataQualityChecker checker = new DailyClimateDataQualityChecker();
+        for (String[] check : CHECKS) {
+            checker.addOneDataQualityCheckTriple(new DataQualityCheckTriple(
+                    check[0], QCOperator.valueOf(check[2]), check[3]));
+        }
+
+        if (!checker.check(data).isPassed() || !checkLegacy(data)) {
+            throw new IllegalStateException("Checks did not pass");
+        }
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            checkLegacy(data);
+            checker.check(data);
+        }
+
+        System.out.println(stations + " stations, " + CHECKS.length
+                + " checks, " + iterations + " iterations");
+        long checks = (long) stations * CHECKS.length * iterations;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int run = 0; run < 2; run++) {
+            long startBytes = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                if (run == 0) {
+                    checkLegacy(data);
+                } else {
+                    checker.check(data);
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocated = threads.getThreadAllocatedBytes(threadId)
+                    - startBytes;
+
+            String label = run == 0 ? "Reflection" : "Compiled";
+            System.out.println(label + ": "
+                    + String.format("%.3f", elapsed / 1e3 / checks)
+                    + " us/check, " + (allocated / checks) + " bytes/check");
+        }
+    }
+
+    /**
+     * @param stations
+     * @return daily run data of stations that pass every check.
+     */
+    private static ClimateRunDailyData buildData(int stations) {
+        HashMap<Integer, ClimateDailyReportData> reports = new HashMap<>();
+        for (int i = 0; i < stations; i++) {
+            Station station = new Station();
+            station.setInformId(i);
+            station.setStationName("Station " + i);
+
+            DailyClimateData day = new DailyClimateData();
+            day.setDataToMissing();
+            day.setInformId(i);
+            day.setMaxTemp(60 + (i % 40));
+            day.setMinTemp(20 + (i % 30));
+            day.setMaxWind(new ClimateWind(10 * (i % 36), 10 + (i % 25)));
+
+            ClimateDailyReportData report = new ClimateDailyReportData();
+            report.setStation(station);
+            report.setData(day);
+            reports.put(i, report);
+        }
+        ClimateRunDailyData data = new ClimateRunDailyData();
+        data.setReportMap(reports);
+        return data;
+    }
+
+    /**
+     * The checks as done before they were compiled: each value is read by
+     * reflection, its missing value compared as a string and its limit parsed
+     * for every station.
+     *
+     * @param data
+     * @return true if every station passed.
+     * @throws Exception
+     */
+    private static boolean checkLegacy(ClimateRunDailyData data)
+            throws Exception {
+        CheckResult cresult = new CheckResult();
+        for (ClimateDailyReportData report : data.getReportMap().values()) {
+            for (String[] check : CHECKS) {
+                Object value = getFieldValue(report.getData(), check[1]);
+                if (value instanceof ClimateWind) {
+                    value = ((ClimateWind) value).getSpeed();
+                }
+                if (check[4].equals(value.toString())) {
+                    cresult.setPassed(false);
+                    continue;
+                }
+                double limit = (value instanceof Float)
+                        ? Float.valueOf(check[3]) : Integer.valueOf(check[3]);
+                double v = ((Number) value).doubleValue();
+                if ("GT".equals(check[2]) ? v > limit : v < limit) {
+                    cresult.setPassed(false);
+                }
+            }
+        }
+        return cresult.isPassed();
+    }
+
+    /**
+     * The reflective getter lookup used before accessors were cached.
+     *
+     * @param obj
+     * @param name
+     * @return the field value.
+     * @throws Exception
+     */
+    private static Object getFieldValue(Object obj, String name)
+            throws Exception {
+        String method = Character.toUpperCase(name.charAt(0))
+                + name.substring(1);
+        Class<?> clazz = obj.getClass();
+        Method m;
+        try {
+            clazz.getDeclaredField(name);
+            m = clazz.getMethod("get" + method);
+        } catch (NoSuchMethodException e) {
+            m = clazz.getMethod("is" + method);
+        }
+        return m.invoke(obj);
+    }
+
+}
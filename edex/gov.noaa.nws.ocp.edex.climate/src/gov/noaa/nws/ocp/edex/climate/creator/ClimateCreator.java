@@ -163,7 +163,7 @@ public class ClimateCreator {
         ClimateDate aDate = ClimateDate.getMissingClimateDate();
 
         List<Station> climateStations = climateStationsSetupDao
-                .getMasterStations();
+                .getStationIndex().getStationList();
 
         buildSetUpInfo(periodType, climateStations, aDate, validTime);
 
@@ -192,7 +192,7 @@ public class ClimateCreator {
          * holds list of stations
          */
         List<Station> climateStations = climateStationsSetupDao
-                .getMasterStations();
+                .getStationIndex().getStationList();
 
         return new DailyClimateCreator().createDailyClimate(iPeriodType, aDate,
                 ClimateTime.getDailyValidTime(iPeriodType,
@@ -227,7 +227,7 @@ public class ClimateCreator {
          * holds list of stations
          */
         List<Station> climateStations = climateStationsSetupDao
-                .getMasterStations();
+                .getStationIndex().getStationList();
 
         return new PeriodClimateCreator().createPeriodClimate(iPeriodType,
                 beginDate, endDate, ClimateGlobalConfiguration.getGlobal(),
@@ -269,7 +269,7 @@ public class ClimateCreator {
          * holds list of stations
          */
         List<Station> climateStations = climateStationsSetupDao
-                .getMasterStations();
+                .getStationIndex().getStationList();
 
         /*
          * daily climatology product
@@ -5,6 +5,7 @@ package gov.noaa.nws.ocp.edex.climate.creator;
 
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
@@ -32,8 +33,10 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.report.ClimateDailyReportData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunDailyData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
 import gov.noaa.nws.ocp.common.dataplugin.climate.util.QCValues;
+import gov.noaa.nws.ocp.edex.climate.creator.StationTaskExecutor.StationTask;
 import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateCreatorDAO;
 import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateCreatorDAO.FSSReportResult;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateCreatorDAO.HourlyFSSResults;
 import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDailyNormDAO;
 import gov.noaa.nws.ocp.edex.common.climate.dao.ClimatePeriodNormDAO;
 import gov.noaa.nws.ocp.edex.common.climate.dao.DailyClimateDAO;
@@ -161,10 +164,55 @@ public final class DailyClimateCreator {
      * @return
      * @throws Exception
      */
-    protected ClimateRunDailyData createDailyClimate(PeriodType periodType,
-            ClimateDate beginDate, ClimateTime validTime,
-            List<Station> climateStations, boolean cronOrManualMostRecent)
-            throws Exception {
+    protected ClimateRunDailyData createDailyClimate(
+            final PeriodType periodType, final ClimateDate beginDate,
+            final ClimateTime validTime, List<Station> climateStations,
+            final boolean cronOrManualMostRecent) throws Exception {
+        /*
+         * Each station's data is independent, so build the stations
+         * concurrently. Each task gets its own copies of the mutable date and
+         * time.
+         */
+        List<StationTask<ClimateDailyReportData, Exception>> tasks = new ArrayList<>();
+        for (final Station station : climateStations) {
+            tasks.add(() -> createDailyClimate(periodType,
+                    new ClimateDate(beginDate), new ClimateTime(validTime),
+                    station, cronOrManualMostRecent));
+        }
+
+        List<ClimateDailyReportData> reports = StationTaskExecutor.runAll(
+                climateStations, tasks,
+                DailyClimateCreator::getMissingReportData);
+
+        /*
+         * Organize report data, in station order.
+         */
+        HashMap<Integer, ClimateDailyReportData> reportMap = new HashMap<>();
+        for (int i = 0; i < climateStations.size(); i++) {
+            reportMap.put(climateStations.get(i).getInformId(),
+                    reports.get(i));
+        }
+
+        return new ClimateRunDailyData(periodType, beginDate, reportMap);
+    }
+
+    /**
+     * Build the daily report data for one station.
+     * 
+     * @param periodType
+     * @param beginDate
+     * @param validTime
+     * @param station
+     * @param cronOrManualMostRecent
+     *            True if initiated as cronjob or user selected most recent
+     *            date(s) option.
+     * @return report data for the station.
+     * @throws Exception
+     */
+    private ClimateDailyReportData createDailyClimate(PeriodType periodType,
+            ClimateDate beginDate, ClimateTime validTime, Station station,
+            boolean cronOrManualMostRecent) throws Exception {
+        List<Station> climateStations = Collections.singletonList(station);
 
         List<ClimateTime[]> sunrise = new ArrayList<ClimateTime[]>();
         List<ClimateTime[]> sunset = new ArrayList<ClimateTime[]>();
@@ -200,14 +248,12 @@ public final class DailyClimateCreator {
                 yesterday);
 
         if (!cronOrManualMostRecent) {
-            for (int i = 0; i < climateStations.size(); i++) {
-                // Using snowGround from ASOS rather than from daily_climate.
-                float asosSnowGround = yesterday.get(i).getSnowGround();
-                dailyClimateDao.getLastYear(beginDate,
-                        climateStations.get(i).getInformId(), yesterday.get(i));
-                if (asosSnowGround != ParameterFormatClimate.MISSING_SNOW) {
-                    yesterday.get(i).setSnowGround(asosSnowGround);
-                }
+            // Using snowGround from ASOS rather than from daily_climate.
+            float asosSnowGround = yesterday.get(0).getSnowGround();
+            dailyClimateDao.getLastYear(beginDate, station.getInformId(),
+                    yesterday.get(0));
+            if (asosSnowGround != ParameterFormatClimate.MISSING_SNOW) {
+                yesterday.get(0).setSnowGround(asosSnowGround);
             }
         }
 
@@ -222,19 +268,34 @@ public final class DailyClimateCreator {
 
         riseAndSet(beginDate, climateStations, sunrise, sunset, periodType);
 
-        /*
-         * Organize report data. Already organized by station in lists. TODO
-         * organize above code to use the map from the start.
-         */
-        HashMap<Integer, ClimateDailyReportData> reportMap = new HashMap<>();
-        for (int i = 0; i < climateStations.size(); i++) {
-            reportMap.put(climateStations.get(i).getInformId(),
-                    new ClimateDailyReportData(climateStations.get(i),
-                            sunrise.get(i), sunset.get(i), yesterday.get(i),
-                            lastYear.get(i), yClimate.get(i), tClimate.get(i)));
-        }
+        return new ClimateDailyReportData(station, sunrise.get(0),
+                sunset.get(0), yesterday.get(0), lastYear.get(0),
+                yClimate.get(0), tClimate.get(0));
+    }
 
-        return new ClimateRunDailyData(periodType, beginDate, reportMap);
+    /**
+     * @param station
+     * @return report data with all values missing, for a station whose data
+     *         was not built in time.
+     */
+    private static ClimateDailyReportData getMissingReportData(
+            Station station) {
+        DailyClimateData yesterday = DailyClimateData
+                .getMissingDailyClimateData();
+        yesterday.setInformId(station.getInformId());
+
+        DailyClimateData lastYear = DailyClimateData
+                .getMissingDailyClimateData();
+        lastYear.setInformId(station.getInformId());
+
+        return new ClimateDailyReportData(station,
+                new ClimateTime[] { ClimateTime.getMissingClimateTime(),
+                        ClimateTime.getMissingClimateTime() },
+                new ClimateTime[] { ClimateTime.getMissingClimateTime(),
+                        ClimateTime.getMissingClimateTime() },
+                yesterday, lastYear,
+                ClimateRecordDay.getMissingClimateRecordDay(),
+                ClimateRecordDay.getMissingClimateRecordDay());
     }
 
     /**
@@ -806,11 +867,13 @@ public final class DailyClimateCreator {
      * @param dailyClimateData
      *            data to set, assumed to already have inform ID (station ID)
      *            set.
+     * @param hourlyResults
+     *            hourly results for the station.
      * @throws ClimateQueryException
      */
     private void buildDailyObsWind(ClimateDates window, PeriodType itype,
-            short numOffUTC, DailyClimateData dailyClimateData)
-            throws ClimateQueryException {
+            short numOffUTC, DailyClimateData dailyClimateData,
+            HourlyFSSResults hourlyResults) throws ClimateQueryException {
         /*
          * Retrieve up to 24 hours of wind directions and speeds from the data
          * base. Build the array of wind directions and speeds one hour at a
@@ -933,7 +996,7 @@ public final class DailyClimateCreator {
                  * speed and to calculate the resultant wind.
                  */
                 climateCreatorDAO.getHourlyWinds(currDate, currTime,
-                        dailyClimateData.getInformId(), winds.get(i));
+                        hourlyResults, winds.get(i));
 
                 /*
                  * Now test to see if the most recent wind is greater than a
@@ -966,7 +1029,7 @@ public final class DailyClimateCreator {
                  */
                 ClimateWind aGust = ClimateWind.getMissingClimateWind();
                 climateCreatorDAO.getAllHourlyGusts(currDate, currTime,
-                        dailyClimateData.getInformId(), aGust);
+                        hourlyResults, aGust);
 
                 /*
                  * Now test against to see if the most recent hourly gust is
@@ -1003,8 +1066,7 @@ public final class DailyClimateCreator {
                 ClimateWind aPeakWind = ClimateWind.getMissingClimateWind();
                 ClimateTime aPeakWindTime = ClimateTime.getMissingClimateTime();
                 climateCreatorDAO.getHourlyPeakWinds(currDate, currTime,
-                        dailyClimateData.getInformId(), aPeakWind,
-                        aPeakWindTime);
+                        hourlyResults, aPeakWind, aPeakWindTime);
 
                 /*
                  * Now test to see if the most recent hourly peak wind is
@@ -1152,10 +1214,12 @@ public final class DailyClimateCreator {
      * @param dailyClimateData
      *            data to set. Assumed to already have inform ID (station ID)
      *            set.
+     * @param hourlyResults
+     *            hourly results for the station.
      */
     private void buildDailyObsRh(ClimateDates window, PeriodType itype,
-            DailyClimateData dailyClimateData) {
-        int stationID = dailyClimateData.getInformId();
+            DailyClimateData dailyClimateData,
+            HourlyFSSResults hourlyResults) {
 
         int hourMaxRH = 0;
         int hourMinRH = 0;
@@ -1206,9 +1270,10 @@ public final class DailyClimateCreator {
 
             currTime.setHour(ihour);
 
-            List<Double> temperature = getTemp(tempDate, currTime, stationID);
+            List<Double> temperature = getTemp(tempDate, currTime,
+                    hourlyResults);
 
-            List<Double> dewpoint = getDew(tempDate, currTime, stationID);
+            List<Double> dewpoint = getDew(tempDate, currTime, hourlyResults);
 
             for (int jj = 0; jj < temperature.size()
                     && jj < dewpoint.size(); jj++) {
@@ -1336,9 +1401,12 @@ public final class DailyClimateCreator {
      * @param dailyClimateData
      *            data to set. Assumed to already have inform ID (station ID)
      *            set.
+     * @param hourlyResults
+     *            hourly results for the station.
      */
     private void buildDailyObsPrecip(ClimateDates window,
-            DailyClimateData dailyClimateData) {
+            DailyClimateData dailyClimateData,
+            HourlyFSSResults hourlyResults) {
         /*
          * Contains the beginning base time in UNIX ticks representation.
          */
@@ -1426,8 +1494,7 @@ public final class DailyClimateCreator {
             nominalTimeCal.setTimeInMillis(nominalMilliTicks);
 
             try {
-                FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                        dailyClimateData.getInformId(),
+                FSSReportResult result = hourlyResults.getMetarConreal(
                         MetarUtils.METAR_6HR_PRECIP, nominalTimeCal);
 
                 if (!result.isMissing()
@@ -1463,8 +1530,7 @@ public final class DailyClimateCreator {
                 nominalTimeCal.setTimeInMillis(nominalMilliTicks);
 
                 try {
-                    FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                            dailyClimateData.getInformId(),
+                    FSSReportResult result = hourlyResults.getMetarConreal(
                             MetarUtils.METAR_3HR_PRECIP, nominalTimeCal);
 
                     if (!result.isMissing()
@@ -1479,7 +1545,7 @@ public final class DailyClimateCreator {
                                         result.getValue()));
 
                         dailyClimateData.setPrecip(getPrecipRainAmount(-2, 0,
-                                dailyClimateData.getInformId(), baseMilliTicks,
+                                hourlyResults, baseMilliTicks,
                                 dailyClimateData.getPrecip()));
 
                         threeHour = true;
@@ -1502,7 +1568,7 @@ public final class DailyClimateCreator {
                      * hourly reports for the entire 6 hour period.
                      */
                     dailyClimateData.setPrecip(getPrecipRainAmount(-5, 0,
-                            dailyClimateData.getInformId(), baseMilliTicks,
+                            hourlyResults, baseMilliTicks,
                             dailyClimateData.getPrecip()));
 
                     oneHour = true;
@@ -1529,9 +1595,8 @@ public final class DailyClimateCreator {
 
                 boolean sixHourMissingOrError = false;
                 try {
-                    FSSReportResult sixHourResult = climateCreatorDAO
-                            .getMetarConreal(dailyClimateData.getInformId(),
-                                    MetarUtils.METAR_6HR_PRECIP,
+                    FSSReportResult sixHourResult = hourlyResults
+                            .getMetarConreal(MetarUtils.METAR_6HR_PRECIP,
                                     nominalTimeCal);
 
                     if (sixHourResult.isMissing() || sixHourResult
@@ -1555,9 +1620,8 @@ public final class DailyClimateCreator {
 
                         boolean threeHourMissingOrError = false;
                         try {
-                            FSSReportResult threeHourResult = climateCreatorDAO
+                            FSSReportResult threeHourResult = hourlyResults
                                     .getMetarConreal(
-                                            dailyClimateData.getInformId(),
                                             MetarUtils.METAR_3HR_PRECIP,
                                             nominalTimeCal);
 
@@ -1585,7 +1649,7 @@ public final class DailyClimateCreator {
 
                                         rainAmount = getPrecipRainAmount(
                                                 -1 * (beginOffset - 1), 0,
-                                                dailyClimateData.getInformId(),
+                                                hourlyResults,
                                                 beginBaseMilliTicks,
                                                 rainAmount);
                                         oneHour = true;
@@ -1600,7 +1664,7 @@ public final class DailyClimateCreator {
                                          */
                                         rainAmount = getPrecipRainAmount(
                                                 -1 * (beginOffset - 1), -3,
-                                                dailyClimateData.getInformId(),
+                                                hourlyResults,
                                                 beginBaseMilliTicks,
                                                 rainAmount);
                                         oneHour = true;
@@ -1614,7 +1678,7 @@ public final class DailyClimateCreator {
                                          */
                                         rainAmount = getPrecipRainAmount(
                                                 -1 * (beginOffset - 1), -3,
-                                                dailyClimateData.getInformId(),
+                                                hourlyResults,
                                                 beginBaseMilliTicks,
                                                 rainAmount);
                                         oneHour = true;
@@ -1631,7 +1695,7 @@ public final class DailyClimateCreator {
 
                                     rainAmount = getPrecipRainAmount(
                                             -1 * (beginOffset - 1), -3,
-                                            dailyClimateData.getInformId(),
+                                            hourlyResults,
                                             beginBaseMilliTicks,
                                             ClimateCreatorDAO.R_MISS);
                                 }
@@ -1650,7 +1714,7 @@ public final class DailyClimateCreator {
                              */
                             rainAmount = getPrecipRainAmount(
                                     -1 * (beginOffset - 1), 0,
-                                    dailyClimateData.getInformId(),
+                                    hourlyResults,
                                     beginBaseMilliTicks,
                                     ClimateCreatorDAO.R_MISS);
                             oneHour = true;
@@ -1668,7 +1732,7 @@ public final class DailyClimateCreator {
                      * individually.
                      */
                     rainAmount = getPrecipRainAmount(-1 * (beginOffset - 1), 0,
-                            dailyClimateData.getInformId(), beginBaseMilliTicks,
+                            hourlyResults, beginBaseMilliTicks,
                             ClimateCreatorDAO.R_MISS);
                     oneHour = true;
                 }
@@ -1678,7 +1742,7 @@ public final class DailyClimateCreator {
                  * individually.
                  */
                 rainAmount = getPrecipRainAmount(-1 * (beginOffset - 1), 0,
-                        dailyClimateData.getInformId(), beginBaseMilliTicks,
+                        hourlyResults, beginBaseMilliTicks,
                         rainAmount);
                 oneHour = true;
             }
@@ -1701,9 +1765,8 @@ public final class DailyClimateCreator {
 
                 boolean threeHourMissingOrError = false;
                 try {
-                    FSSReportResult threeHourResult = climateCreatorDAO
-                            .getMetarConreal(dailyClimateData.getInformId(),
-                                    MetarUtils.METAR_3HR_PRECIP,
+                    FSSReportResult threeHourResult = hourlyResults
+                            .getMetarConreal(MetarUtils.METAR_3HR_PRECIP,
                                     nominalTimeCal);
 
                     if (threeHourResult.isMissing() || threeHourResult
@@ -1717,7 +1780,7 @@ public final class DailyClimateCreator {
                         /* Process the remaining hours... if there are any... */
                         if (endOffset > 3) {
                             rainAmount = getPrecipRainAmount(4, endOffset,
-                                    dailyClimateData.getInformId(),
+                                    hourlyResults,
                                     endBaseMilliTicks, rainAmount);
                             oneHour = true;
                         }
@@ -1734,7 +1797,7 @@ public final class DailyClimateCreator {
                      * individually.
                      */
                     rainAmount = getPrecipRainAmount(1, endOffset,
-                            dailyClimateData.getInformId(), endBaseMilliTicks,
+                            hourlyResults, endBaseMilliTicks,
                             rainAmount);
                     oneHour = true;
                 }
@@ -1744,7 +1807,7 @@ public final class DailyClimateCreator {
                  * There is under 3 hours worth of additional data to retrieve.
                  */
                 rainAmount = getPrecipRainAmount(1, endOffset,
-                        dailyClimateData.getInformId(), endBaseMilliTicks,
+                        hourlyResults, endBaseMilliTicks,
                         rainAmount);
                 oneHour = true;
             }
@@ -2493,6 +2556,10 @@ public final class DailyClimateCreator {
             ClimateDates window = determineWindow(aDate, currStation, itype,
                     validTime);
 
+            // Retrieve the station's hourly reports for the window at once
+            HourlyFSSResults hourlyResults = getHourlyFSSResults(window,
+                    currStation.getInformId());
+
             // *************************************************************************
             // 7-19-99
             // Routine retrieves the weather values from ASOS daily summary
@@ -2569,7 +2636,7 @@ public final class DailyClimateCreator {
                     .getPrecip() != ParameterFormatClimate.MISSING_PRECIP) {
                 yesterdayQC.setPrecipQc(QCValues.PRECIP_FROM_DSM);
             } else {
-                buildDailyObsPrecip(window, yesterday);
+                buildDailyObsPrecip(window, yesterday, hourlyResults);
             }
 
             // Build/retrieve the daily observed snow climatology
@@ -2616,7 +2683,7 @@ public final class DailyClimateCreator {
             }
 
             // Build/retrieve the daily observed RH climatology
-            buildDailyObsRh(window, itype, yesterday);
+            buildDailyObsRh(window, itype, yesterday, hourlyResults);
 
             // Build/retrieve the daily observed wind climatology
             if (yesterday.getMaxWind()
@@ -2639,7 +2706,7 @@ public final class DailyClimateCreator {
                 yesterdayQC.setAvgWindQc(ParameterFormatClimate.MISSING);
             }
             buildDailyObsWind(window, itype, currStation.getNumOffUTC(),
-                    yesterday);
+                    yesterday, hourlyResults);
 
             // Build/retrieve the daily observed sky condition climatology
             if (yesterday.getSkyCover() != ParameterFormatClimate.MISSING) {
@@ -2685,6 +2752,40 @@ public final class DailyClimateCreator {
 
     }
 
+    /**
+     * Retrieve the hourly METAR and SPECI elements used by the precip, RH and
+     * wind calculations for the given window in one query. The span covers the
+     * 6-hour synoptic alignment of precip before the window and the peak wind
+     * hour after it. On failure, returns results that query each hour
+     * separately.
+     * 
+     * @param window
+     *            datetime range to process.
+     * @param informId
+     *            station ID.
+     * @return hourly results for the station.
+     */
+    private HourlyFSSResults getHourlyFSSResults(ClimateDates window,
+            int informId) {
+        Calendar startCal = window.getStart().getCalendarFromClimateDate();
+        startCal.set(Calendar.HOUR_OF_DAY, window.getStartTime().getHour());
+        startCal.add(Calendar.HOUR_OF_DAY, -6);
+
+        Calendar endCal = window.getEnd().getCalendarFromClimateDate();
+        endCal.set(Calendar.HOUR_OF_DAY, window.getEndTime().getHour());
+        endCal.add(Calendar.HOUR_OF_DAY, 2);
+
+        try {
+            return climateCreatorDAO.getHourlyFSSResults(informId, startCal,
+                    endCal);
+        } catch (ClimateQueryException e) {
+            logger.error("Failed to retrieve hourly reports for station ID ["
+                    + informId + "] and window " + window.toString()
+                    + ". Hourly values will be queried individually.", e);
+            return climateCreatorDAO.getHourlyFSSResults(informId);
+        }
+    }
+
     /**
      * Migrated from rise_and_set.f
      * 
@@ -3169,11 +3270,12 @@ public final class DailyClimateCreator {
      * 
      * @param date
      * @param time
-     * @param stationID
+     * @param hourlyResults
+     *            hourly results for the station.
      * @return
      */
     private List<Double> getDew(ClimateDate date, ClimateTime time,
-            int stationID) {
+            HourlyFSSResults hourlyResults) {
         Calendar cal = date.getCalendarFromClimateDate();
         cal.set(Calendar.HOUR_OF_DAY, time.getHour());
         cal.set(Calendar.MINUTE, time.getMin());
@@ -3188,8 +3290,8 @@ public final class DailyClimateCreator {
              * been determined, a quality check done on the data to see whether
              * or not the data is legitimate.
              */
-            List<FSSReportResult> results = climateCreatorDAO.getMetarConreal(
-                    stationID, MetarUtils.METAR_DEWPOINT_2_TENTHS, cal, true);
+            List<FSSReportResult> results = hourlyResults.getMetarConreal(
+                    MetarUtils.METAR_DEWPOINT_2_TENTHS, cal, true);
             for (FSSReportResult result : results) {
                 if (result.isMissing()) {
                     dewpoint.add((double) ParameterFormatClimate.MISSING);
@@ -3207,9 +3309,8 @@ public final class DailyClimateCreator {
              * report but no dew_point_in_tenths (i.e., STATUS_FAILURE)
              */
             try {
-                List<FSSReportResult> results = climateCreatorDAO
-                        .getMetarConreal(stationID, MetarUtils.METAR_DEWPOINT,
-                                cal, true);
+                List<FSSReportResult> results = hourlyResults
+                        .getMetarConreal(MetarUtils.METAR_DEWPOINT, cal, true);
                 for (FSSReportResult result : results) {
                     if (result.isMissing()) {
                         dewpoint.add((double) ParameterFormatClimate.MISSING);
@@ -3267,11 +3368,12 @@ public final class DailyClimateCreator {
      * 
      * @param date
      * @param time
-     * @param stationID
+     * @param hourlyResults
+     *            hourly results for the station.
      * @return
      */
     private List<Double> getTemp(ClimateDate date, ClimateTime time,
-            int stationID) {
+            HourlyFSSResults hourlyResults) {
         Calendar cal = date.getCalendarFromClimateDate();
         cal.set(Calendar.HOUR_OF_DAY, time.getHour());
         cal.set(Calendar.MINUTE, time.getMin());
@@ -3286,8 +3388,8 @@ public final class DailyClimateCreator {
              * status has been determined, a quality check done on the data to
              * see whether or not the data is legitimate.
              */
-            List<FSSReportResult> results = climateCreatorDAO.getMetarConreal(
-                    stationID, MetarUtils.METAR_TEMP_2_TENTHS, cal, true);
+            List<FSSReportResult> results = hourlyResults.getMetarConreal(
+                    MetarUtils.METAR_TEMP_2_TENTHS, cal, true);
 
             for (FSSReportResult result : results) {
                 if (result.isMissing()) {
@@ -3307,9 +3409,8 @@ public final class DailyClimateCreator {
              * then we will try to get the hourly temp in whole deg. C
              */
             try {
-                List<FSSReportResult> results = climateCreatorDAO
-                        .getMetarConreal(stationID, MetarUtils.METAR_TEMP, cal,
-                                true);
+                List<FSSReportResult> results = hourlyResults
+                        .getMetarConreal(MetarUtils.METAR_TEMP, cal, true);
                 for (FSSReportResult result : results) {
                     if (result.isMissing()) {
                         temperature
@@ -3712,15 +3813,17 @@ public final class DailyClimateCreator {
      * 
      * @param bottomTime
      * @param topTime
-     * @param informId
+     * @param hourlyResults
+     *            hourly results for the station.
      * @param baseMilliTicks
      * @param precip
      *            current precip value
      * @return new precip value
      */
 
-    private float getPrecipRainAmount(int bottomTime, int topTime, int informId,
-            long baseMilliTicks, float precip) {
+    private float getPrecipRainAmount(int bottomTime, int topTime,
+            HourlyFSSResults hourlyResults, long baseMilliTicks,
+            float precip) {
         try {
             for (int i = topTime; i >= bottomTime; i--) {
                 long nominalMilliTicks = baseMilliTicks
@@ -3731,8 +3834,8 @@ public final class DailyClimateCreator {
                 String nominalTimeString = ClimateDate.getFullDateTimeFormat()
                         .format(nominalTimeCal.getTime());
 
-                FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                        informId, MetarUtils.METAR_1HR_PRECIP, nominalTimeCal);
+                FSSReportResult result = hourlyResults.getMetarConreal(
+                        MetarUtils.METAR_1HR_PRECIP, nominalTimeCal);
 
                 if (!result.isMissing()
                         && result.getValue() != MetarUtils.PNO_PRESENT) {
@@ -3740,7 +3843,7 @@ public final class DailyClimateCreator {
                 } else {
                     logger.warn("The [" + nominalTimeString
                             + "]Z observed rain amount could not be retrieved for station ID ["
-                            + informId + "].");
+                            + hourlyResults.getInformId() + "].");
                 }
             }
         } catch (ClimateQueryException e) {
@@ -22,6 +22,7 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryExceptio
 import gov.noaa.nws.ocp.common.dataplugin.climate.report.ClimatePeriodReportData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunPeriodData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
+import gov.noaa.nws.ocp.edex.climate.creator.StationTaskExecutor.StationTask;
 import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateFreezeDatesDAO;
 import gov.noaa.nws.ocp.edex.common.climate.dao.ClimatePeriodDAO;
 import gov.noaa.nws.ocp.edex.common.climate.dao.ClimatePeriodNormDAO;
@@ -89,47 +90,11 @@ public final class PeriodClimateCreator {
      * @throws ClimateInvalidParameterException
      * @throws ClimateQueryException
      */
-    protected ClimateRunPeriodData createPeriodClimate(PeriodType periodType,
-            ClimateDate beginDate, ClimateDate endDate,
-            ClimateGlobal globalValues, List<Station> climateStations,
-            boolean cronOrManualMostRecent)
+    protected ClimateRunPeriodData createPeriodClimate(
+            final PeriodType periodType, ClimateDate beginDate,
+            ClimateDate endDate, final ClimateGlobal globalValues,
+            List<Station> climateStations, boolean cronOrManualMostRecent)
             throws ClimateInvalidParameterException, ClimateQueryException {
-
-        List<PeriodData> lastYearPeriodDatas = new ArrayList<>();
-
-        /*
-         * historical period data structure
-         */
-        List<PeriodClimo> periodClimos = new ArrayList<>();
-
-        /*
-         * period climate data structures
-         */
-        List<PeriodData> periodDatas = new ArrayList<>();
-
-        /****************************************
-         * Monthly, seasonal, yearly reports
-         *****************************************/
-
-        /*
-         * initialize structures to missing values and set the station ids
-         */
-        for (Station currStation : climateStations) {
-            int currStationID = currStation.getInformId();
-
-            PeriodData lastYearPeriodData = PeriodData.getMissingPeriodData();
-            lastYearPeriodData.setInformId(currStationID);
-            lastYearPeriodDatas.add(lastYearPeriodData);
-
-            PeriodClimo periodClimo = PeriodClimo.getMissingPeriodClimo();
-            periodClimo.setInformId(currStationID);
-            periodClimos.add(periodClimo);
-
-            PeriodData periodData = PeriodData.getMissingPeriodData();
-            periodData.setInformId(currStationID);
-            periodDatas.add(periodData);
-        }
-
         /*
          * Legacy comment:
          * 
@@ -243,70 +208,127 @@ public final class PeriodClimateCreator {
             }
         }
 
-        ClimateDates lastYear = getLastYearsDates(beginDate, endDate);
+        final ClimateDates lastYear = getLastYearsDates(beginDate, endDate);
+        final ClimateDate periodBegin = beginDate;
+        final ClimateDate periodEnd = endDate;
+        final boolean isMonthly = monthly;
 
         /*
-         * loop through number of stations and build the observed period
-         * climatology for each station.
+         * build the observed period climatology for each station. Stations are
+         * independent, so they are built concurrently. Each task gets its own
+         * copies of the mutable dates.
          */
-        for (int i = 0; i < climateStations.size(); i++) {
-            PeriodData currPeriodData = periodDatas.get(i);
-            int currStationID = climateStations.get(i).getInformId();
-            PeriodClimo currPeriodClimo = periodClimos.get(i);
-
-            /*
-             * If monthly, build from daily tables (period type 0)
-             */
-            climatePeriodDAO.buildPeriodObsClimo(beginDate, endDate,
-                    currPeriodData, globalValues, periodType, monthly);
-            // freeze dates, originally a part of build_period_obs_climo
-            buildPeriodObsFreezeDates(monthly ? PeriodType.OTHER : periodType,
-                    beginDate, endDate, currPeriodData, currStationID);
-            /*
-             * End special monthly logic
-             */
-
-            if (!monthly) {
-                climatePeriodDAO.buildPeriodSumClimo(beginDate, endDate,
-                        currPeriodData, periodType,
-                        globalValues.getSnowReportingStations()
-                                .contains(climateStations.get(i).getIcaoId()));
-            }
-
-            dailyClimateDao.buildPResultantWind(beginDate, endDate,
-                    currPeriodData, PeriodType.OTHER);
-
-            /* build last year's monthly data */
-            climatePeriodDAO.getPeriodData(periodType, lastYear.getStart(),
-                    lastYear.getEnd(), lastYearPeriodDatas.get(i),
-                    lastYearPeriodDatas.get(i).getDataMethods());
-
-            /* next historical data */
-            climatePeriodNormDAO.getPeriodHistClimo(beginDate, endDate,
-                    currPeriodClimo, periodType);
-
-            climateFreezeDatesDAO.getFreezeDates(FREEZE_DATE_MODULE,
-                    currStationID, currPeriodClimo.getEarlyFreezeNorm(),
-                    currPeriodClimo.getLateFreezeNorm(),
-                    currPeriodClimo.getEarlyFreezeRec(),
-                    currPeriodClimo.getLateFreezeRec());
+        List<StationTask<ClimatePeriodReportData, ClimateQueryException>> tasks = new ArrayList<>();
+        for (final Station station : climateStations) {
+            tasks.add(() -> buildPeriodReportData(periodType,
+                    new ClimateDate(periodBegin), new ClimateDate(periodEnd),
+                    new ClimateDates(lastYear), globalValues, station,
+                    isMonthly));
         }
 
+        List<ClimatePeriodReportData> reports = StationTaskExecutor.runAll(
+                climateStations, tasks,
+                PeriodClimateCreator::getMissingReportData);
+
         /*
-         * Organize report data. Already organized by station in lists. TODO
-         * organize above code to use the map from the start.
+         * Organize report data, in station order.
          */
         HashMap<Integer, ClimatePeriodReportData> reportMap = new HashMap<>();
         for (int i = 0; i < climateStations.size(); i++) {
             reportMap.put(climateStations.get(i).getInformId(),
-                    new ClimatePeriodReportData(climateStations.get(i),
-                            periodDatas.get(i), lastYearPeriodDatas.get(i),
-                            periodClimos.get(i)));
+                    reports.get(i));
         }
         return new ClimateRunPeriodData(periodType, beginDate, endDate,
                 reportMap);
     }
 
+    /**
+     * Build the period report data for one station.
+     * 
+     * @param periodType
+     * @param beginDate
+     * @param endDate
+     * @param lastYear
+     *            last year's dates for the period.
+     * @param globalValues
+     * @param station
+     * @param monthly
+     *            true to build from daily tables.
+     * @return report data for the station.
+     * @throws ClimateQueryException
+     */
+    private ClimatePeriodReportData buildPeriodReportData(
+            PeriodType periodType, ClimateDate beginDate, ClimateDate endDate,
+            ClimateDates lastYear, ClimateGlobal globalValues, Station station,
+            boolean monthly) throws ClimateQueryException {
+        ClimatePeriodReportData report = getMissingReportData(station);
+        PeriodData currPeriodData = report.getData();
+        PeriodData lastYearPeriodData = report.getLastYearData();
+        PeriodClimo currPeriodClimo = report.getClimo();
+        int currStationID = station.getInformId();
+
+        /*
+         * If monthly, build from daily tables (period type 0)
+         */
+        climatePeriodDAO.buildPeriodObsClimo(beginDate, endDate,
+                currPeriodData, globalValues, periodType, monthly);
+        // freeze dates, originally a part of build_period_obs_climo
+        buildPeriodObsFreezeDates(monthly ? PeriodType.OTHER : periodType,
+                beginDate, endDate, currPeriodData, currStationID);
+        /*
+         * End special monthly logic
+         */
+
+        if (!monthly) {
+            climatePeriodDAO.buildPeriodSumClimo(beginDate, endDate,
+                    currPeriodData, periodType, globalValues
+                            .getSnowReportingStations()
+                            .contains(station.getIcaoId()));
+        }
+
+        dailyClimateDao.buildPResultantWind(beginDate, endDate,
+                currPeriodData, PeriodType.OTHER);
+
+        /* build last year's monthly data */
+        climatePeriodDAO.getPeriodData(periodType, lastYear.getStart(),
+                lastYear.getEnd(), lastYearPeriodData,
+                lastYearPeriodData.getDataMethods());
+
+        /* next historical data */
+        climatePeriodNormDAO.getPeriodHistClimo(beginDate, endDate,
+                currPeriodClimo, periodType);
+
+        climateFreezeDatesDAO.getFreezeDates(FREEZE_DATE_MODULE,
+                currStationID, currPeriodClimo.getEarlyFreezeNorm(),
+                currPeriodClimo.getLateFreezeNorm(),
+                currPeriodClimo.getEarlyFreezeRec(),
+                currPeriodClimo.getLateFreezeRec());
+
+        return report;
+    }
+
+    /**
+     * @param station
+     * @return report data initialized to missing values with the station id
+     *         set.
+     */
+    private static ClimatePeriodReportData getMissingReportData(
+            Station station) {
+        int currStationID = station.getInformId();
+
+        PeriodData periodData = PeriodData.getMissingPeriodData();
+        periodData.setInformId(currStationID);
+
+        PeriodData lastYearPeriodData = PeriodData.getMissingPeriodData();
+        lastYearPeriodData.setInformId(currStationID);
+
+        PeriodClimo periodClimo = PeriodClimo.getMissingPeriodClimo();
+        periodClimo.setInformId(currStationID);
+
+        return new ClimatePeriodReportData(station, periodData,
+                lastYearPeriodData, periodClimo);
+    }
+
     /**
      * Migrated from build_period_obs_climo.ecpp, separated from Climate Period
      * DAO since functionality deals with a different table and is more
@@ -0,0 +1,203 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.creator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
+import gov.noaa.nws.ocp.edex.common.climate.util.ClimateWorkerPool;
+
+/**
+ * Runs per-station Climate Creator work on a fixed pool of worker threads
+ * shared by all daily and period runs. Results are returned in station order
+ * regardless of completion order.
+ *
+ * A station that fails fails the run: the first failure, in station order, is
+ * thrown and the remaining stations are cancelled. A station that is not done
+ * within the run timeout, counted from the start of the run, is cancelled,
+ * interrupting it if running, and logged and given a fallback result, so that
+ * it does not hold up the rest of the run. A worker that does not respond to
+ * the interrupt, for example one blocked in a database call, stays busy until
+ * its task returns; the pool is not grown to replace it.
+ *
+ * The pool size and timeout are read from system properties
+ * {@value #THREADS_PROPERTY} (default {@value #DEFAULT_THREADS}) and
+ * {@value #TIMEOUT_PROPERTY} (seconds, default
+ * {@value #DEFAULT_TIMEOUT_SECONDS}). A pool size of 1 processes stations one
+ * at a time, as before.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+final class StationTaskExecutor {
+    /** The logger */
+    private static final IUFStatusHandler logger = UFStatus
+            .getHandler(StationTaskExecutor.class);
+
+    /**
+     * System property for the number of stations processed concurrently.
+     */
+    private static final String THREADS_PROPERTY = "climate.creator.threads";
+
+    /**
+     * System property for the seconds to wait for the stations of a run.
+     */
+    private static final String TIMEOUT_PROPERTY = "climate.creator.run.timeout";
+
+    /**
+     * Default number of stations processed concurrently.
+     */
+    private static final int DEFAULT_THREADS = 4;
+
+    /**
+     * Default seconds to wait for the stations of a run.
+     */
+    private static final int DEFAULT_TIMEOUT_SECONDS = 600;
+
+    /**
+     * Shared worker pool.
+     */
+    private static final ClimateWorkerPool POOL = new ClimateWorkerPool(
+            "climateStation", THREADS_PROPERTY, DEFAULT_THREADS);
+
+    /**
+     * A station's work.
+     *
+     * @param <T>
+     *            result type.
+     * @param <E>
+     *            exception thrown by the work.
+     */
+    interface StationTask<T, E extends Exception> {
+        /**
+         * @return the station's result.
+         * @throws E
+         */
+        T call() throws E;
+    }
+
+    /**
+     * Fallback for a station whose task timed out.
+     *
+     * @param <T>
+     *            result type.
+     */
+    interface StationFallback<T> {
+        /**
+         * @param station
+         *            station whose task did not complete.
+         * @return result to use for the station.
+         */
+        T getFallback(Station station);
+    }
+
+    /**
+     * Constructor.
+     */
+    private StationTaskExecutor() {
+    }
+
+    /**
+     * Run one task per station and collect the results.
+     *
+     * @param stations
+     *            stations, in report order.
+     * @param tasks
+     *            task for each station, parallel to stations.
+     * @param fallback
+     *            result for a station whose task timed out.
+     * @return results, parallel to stations.
+     * @throws E
+     *             the first failure of a station's task, in station order.
+     */
+    static <T, E extends Exception> List<T> runAll(List<Station> stations,
+            List<StationTask<T, E>> tasks, StationFallback<T> fallback)
+            throws E {
+        ExecutorService pool = POOL.getExecutor();
+        int timeoutSeconds = ClimateWorkerPool
+                .getIntProperty(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT_SECONDS);
+        long deadline = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (StationTask<T, E> task : tasks) {
+            futures.add(pool.submit(task::call));
+        }
+
+        List<T> results = new ArrayList<>(tasks.size());
+        boolean done = false;
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                Station station = stations.get(i);
+                Future<T> future = futures.get(i);
+                try {
+                    // a station already done is used even once past the
+                    // deadline
+                    long remaining = Math.max(0,
+                            deadline - System.nanoTime());
+                    results.add(future.get(remaining, TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    logger.error("Climate data for station ["
+                            + station.getIcaoId() + "], ID ["
+                            + station.getInformId()
+                            + "] was not built within [" + timeoutSeconds
+                            + "] seconds and was cancelled. Missing values will be used.");
+                    results.add(fallback.getFallback(station));
+                } catch (ExecutionException e) {
+                    logger.error("Failed to build climate data for station ["
+                            + station.getIcaoId() + "], ID ["
+                            + station.getInformId() + "].", e.getCause());
+                    throw StationTaskExecutor.<E> rethrow(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(
+                            "Interrupted while building climate data for station ["
+                                    + station.getIcaoId() + "]",
+                            e);
+                }
+            }
+            done = true;
+        } finally {
+            if (!done) {
+                for (Future<T> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @param cause
+     *            failure of a station's task, which may only throw E or
+     *            unchecked exceptions.
+     * @return never returns.
+     * @throws E
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Exception> E rethrow(Throwable cause) throws E {
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw (E) cause;
+    }
+}
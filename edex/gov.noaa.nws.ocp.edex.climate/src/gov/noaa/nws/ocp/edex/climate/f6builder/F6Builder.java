@@ -8,10 +8,14 @@ import java.io.StringWriter;
 import java.sql.Timestamp;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
@@ -50,7 +54,6 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.DailyClimateData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodClimo;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
-import gov.noaa.nws.ocp.common.dataplugin.climate.QueryData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.SLP;
 import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
@@ -67,6 +70,7 @@ import gov.noaa.nws.ocp.edex.common.climate.dataaccess.ClimateGlobalConfiguratio
 import gov.noaa.nws.ocp.edex.common.climate.util.ClimateAlertUtils;
 import gov.noaa.nws.ocp.edex.common.climate.util.ClimateDAOUtils;
 import gov.noaa.nws.ocp.edex.common.climate.util.ClimateFileUtils;
+import gov.noaa.nws.ocp.edex.common.climate.util.ClimateWorkerPool;
 
 /**
  * Build F6 Report(s) for given station(s) and month. Based on Legacy
@@ -162,6 +166,27 @@ public class F6Builder {
     private static final IUFStatusHandler logger = UFStatus
             .getHandler(F6Builder.class);
 
+    /**
+     * System property for the number of station reports built concurrently.
+     */
+    private static final String THREADS_PROPERTY = "climate.f6.threads";
+
+    /**
+     * Default number of station reports built concurrently.
+     */
+    private static final int DEFAULT_THREADS = 4;
+
+    /**
+     * Worker pool for building station reports.
+     */
+    private static final ClimateWorkerPool POOL = new ClimateWorkerPool(
+            "climateF6", THREADS_PROPERTY, DEFAULT_THREADS);
+
+    /**
+     * Velocity engine, created on first use.
+     */
+    private static VelocityEngine velocityEngine;
+
     /**
      * Middle part of an F6 LCD PIL.
      * 
@@ -202,7 +227,8 @@ public class F6Builder {
     public F6ServiceResponse buildF6() throws ClimateQueryException {
         List<Station> stations;
         try {
-            stations = climateStationsSetupDao.getMasterStations();
+            stations = climateStationsSetupDao.getStationIndex()
+                    .getStationList();
         } catch (Exception e) {
             logger.error(
                     "Failed to get master stations! Check database connection.",
@@ -272,14 +298,17 @@ public class F6Builder {
                     "Note: Transmission was requested, but is disabled by configuration.\n");
         }
 
-        for (Station station : stations) {
+        List<Future<List<String>>> reports = submitF6Reports(stations, aDate,
+                remarks);
+
+        for (int i = 0; i < stations.size(); i++) {
+            Station station = stations.get(i);
             // File name to match legacy
             String fileName = OUTPUT_F6_PREFIX + station.getIcaoId();
 
             try {
 
-                List<String> reportContent = buildF6ForStation(station, aDate,
-                        remarks);
+                List<String> reportContent = getF6Report(reports.get(i));
 
                 if (print) {
                     fileMap.put(fileName, F6_OUTPUT_LOCATION + fileName);
@@ -516,18 +545,254 @@ public class F6Builder {
                 messages.toString());
     }
 
+    /**
+     * Load the month's daily data and normals for all of the stations, and
+     * start building their reports on the F6 worker pool.
+     * 
+     * @param stations
+     * @param aDate
+     * @param remarks
+     * @return the report for each station, parallel to stations.
+     */
+    private List<Future<List<String>>> submitF6Reports(List<Station> stations,
+            ClimateDate aDate, String remarks) {
+        List<Integer> stationIds = new ArrayList<>(stations.size());
+        for (Station station : stations) {
+            stationIds.add(station.getInformId());
+        }
+
+        Map<Integer, DailyClimateData[]> monthData = null;
+        try {
+            monthData = dailyClimateDao.getLastYearForMonth(aDate, stationIds);
+        } catch (ClimateQueryException e) {
+            logger.error(
+                    "Failed to get daily data for all F6 stations. Each station will be queried separately.",
+                    e);
+        }
+
+        Map<Integer, ClimateRecordDay[]> monthNorms = null;
+        try {
+            monthNorms = climateDailyNormDao.getHistoricalNormsForMonth(aDate,
+                    stationIds);
+        } catch (ClimateQueryException e) {
+            logger.error(
+                    "Failed to get historical data for all F6 stations. Each station will be queried separately.",
+                    e);
+        }
+
+        ExecutorService pool = POOL.getExecutor();
+        List<Future<List<String>>> reports = new ArrayList<>(stations.size());
+        for (Station station : stations) {
+            // stations without a row in the month have no daily data
+            DailyClimateData[] data = monthData == null ? null
+                    : monthData.getOrDefault(station.getInformId(),
+                            new DailyClimateData[0]);
+            ClimateRecordDay[] norms = monthNorms == null ? null
+                    : monthNorms.get(station.getInformId());
+            reports.add(pool.submit(() -> buildF6ForStation(station, aDate,
+                    remarks, data, norms)));
+        }
+        return reports;
+    }
+
+    /**
+     * Wait for a report submitted by {@link #submitF6Reports}.
+     * 
+     * @param report
+     * @return the report content.
+     * @throws Exception
+     *             if building the report failed.
+     */
+    private static List<String> getF6Report(Future<List<String>> report)
+            throws Exception {
+        try {
+            return report.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            report.cancel(true);
+            throw new ClimateQueryException(
+                    "Interrupted while building F6 report.", e);
+        }
+    }
+
+    /**
+     * Add degree days to a total, skipping missing values.
+     * 
+     * @param sum
+     *            total, or missing if nothing added yet.
+     * @param degreeDays
+     * @return the new total, missing if both are missing.
+     */
+    private static int addDegreeDays(int sum, int degreeDays) {
+        if (degreeDays == ParameterFormatClimate.MISSING_DEGREE_DAY) {
+            return sum;
+        } else if (sum == ParameterFormatClimate.MISSING_DEGREE_DAY) {
+            return degreeDays;
+        }
+        return sum + degreeDays;
+    }
+
+    /**
+     * Get the monthly heating and cooling degree day totals through the last
+     * day of the report: the stored values of the days before it plus the
+     * day's own values derived from its temperatures, as
+     * ClimateDAOUtils#buildDerivedData sums them. The month data is not
+     * changed.
+     * 
+     * @param monthData
+     *            the station's daily data for the month, indexed from 0 for
+     *            the first day, as loaded.
+     * @param lastDay
+     *            last day of the report.
+     * @return data of the last day, with its derived fields and the monthly
+     *         degree day totals set.
+     */
+    static DailyClimateData getMonthDegreeDays(DailyClimateData[] monthData,
+            int lastDay) {
+        int sumHeat = ParameterFormatClimate.MISSING_DEGREE_DAY;
+        int sumCool = ParameterFormatClimate.MISSING_DEGREE_DAY;
+        for (int i = 0; i < lastDay - 1 && i < monthData.length; i++) {
+            if (monthData[i] != null) {
+                sumHeat = addDegreeDays(sumHeat, monthData[i].getNumHeat());
+                sumCool = addDegreeDays(sumCool, monthData[i].getNumCool());
+            }
+        }
+
+        DailyClimateData lastDayData = DailyClimateData
+                .getMissingDailyClimateData();
+        if (lastDay <= monthData.length && monthData[lastDay - 1] != null) {
+            lastDayData.setMaxTemp(monthData[lastDay - 1].getMaxTemp());
+            lastDayData.setMinTemp(monthData[lastDay - 1].getMinTemp());
+        }
+        ClimateDAOUtils.buildDailyDerivedData(lastDayData);
+
+        lastDayData.setNumHeatMonth(
+                addDegreeDays(sumHeat, lastDayData.getNumHeat()));
+        lastDayData.setNumCoolMonth(
+                addDegreeDays(sumCool, lastDayData.getNumCool()));
+        return lastDayData;
+    }
+
+    /**
+     * Place the monthly heating and cooling degree day totals and their
+     * departures from normal.
+     * 
+     * @param context
+     * @param monthDegreeDays
+     *            monthly totals, from {@link #getMonthDegreeDays}.
+     * @param pClimo
+     *            monthly normals.
+     */
+    static void putMonthDegreeDays(VelocityContext context,
+            DailyClimateData monthDegreeDays, PeriodClimo pClimo) {
+        if (monthDegreeDays
+                .getNumHeatMonth() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
+            context.put("ttm",
+                    String.format("%6s", monthDegreeDays.getNumHeatMonth()));
+        } else {
+            context.put("ttm", String.format("%6s", "M"));
+        }
+
+        if (pClimo
+                .getNumHeatPeriodNorm() != ParameterFormatClimate.MISSING_DEGREE_DAY
+                && monthDegreeDays
+                        .getNumHeatMonth() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
+            int dptrheat = monthDegreeDays.getNumHeatMonth()
+                    - pClimo.getNumHeatPeriodNorm();
+            context.put("dfn", String.format("%6s", dptrheat));
+        } else {
+            context.put("dfn", String.format("%6s", "M"));
+        }
+
+        if (monthDegreeDays
+                .getNumCoolMonth() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
+            context.put("ttm2",
+                    String.format("%6s", monthDegreeDays.getNumCoolMonth()));
+        } else {
+            context.put("ttm2", String.format("%6s", "M"));
+        }
+
+        if (pClimo
+                .getNumCoolPeriodNorm() != ParameterFormatClimate.MISSING_DEGREE_DAY
+                && monthDegreeDays
+                        .getNumCoolMonth() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
+            int dptrcool = monthDegreeDays.getNumCoolMonth()
+                    - pClimo.getNumCoolPeriodNorm();
+            context.put("dfn3", String.format("%6s", dptrcool));
+        } else {
+            context.put("dfn3", String.format("%6s", "M"));
+        }
+    }
+
+    /**
+     * @return the shared Velocity engine, creating it if needed. The engine is
+     *         thread safe once initialized, and caches parsed templates.
+     */
+    private static synchronized VelocityEngine getVelocityEngine() {
+        if (velocityEngine == null) {
+            VelocityEngine ve = new VelocityEngine();
+            ve.setProperty(RuntimeConstants.RESOURCE_LOADER, "classpath");
+            ve.setProperty("classpath.resource.loader.class",
+                    ClasspathResourceLoader.class.getName());
+            ve.setProperty("classpath.resource.loader.cache", "true");
+
+            ve.init();
+            velocityEngine = ve;
+        }
+        return velocityEngine;
+    }
+
     /**
      * 
      * @param station
      * @param aDate
      * @param remarks
+     * @param monthData
+     *            the station's daily data for the month, indexed from 0 for
+     *            the first day, from
+     *            {@link DailyClimateDAO#getLastYearForMonth}. If null, it is
+     *            queried for this station alone.
+     * @param monthNorms
+     *            the station's daily normals for the month, indexed from 0 for
+     *            the first day, from
+     *            {@link ClimateDailyNormDAO#getHistoricalNormsForMonth}. If
+     *            null, they are queried for this station alone.
      * @return
      * @throws ClimateQueryException
      */
     private List<String> buildF6ForStation(Station station, ClimateDate aDate,
-            String remarks) throws ClimateQueryException {
+            String remarks, DailyClimateData[] monthData,
+            ClimateRecordDay[] monthNorms) throws ClimateQueryException {
         List<String> lines = new ArrayList<>();
 
+        if (monthData == null) {
+            monthData = dailyClimateDao
+                    .getLastYearForMonth(aDate,
+                            Collections.singletonList(station.getInformId()))
+                    .get(station.getInformId());
+            if (monthData == null) {
+                monthData = new DailyClimateData[0];
+            }
+        }
+        if (monthNorms == null) {
+            try {
+                monthNorms = climateDailyNormDao
+                        .getHistoricalNormsForMonth(aDate,
+                                Collections
+                                        .singletonList(station.getInformId()))
+                        .get(station.getInformId());
+            } catch (ClimateQueryException e) {
+                logger.error("Error getting historical data.", e);
+                monthNorms = new ClimateRecordDay[0];
+            }
+        }
+
         // create latitude/longitude in degrees/minutes
         int latdeg = (int) station.getDlat();
         int latmin = (int) ((station.getDlat() - latdeg) * 60.);
@@ -549,12 +814,7 @@ public class F6Builder {
          */
 
         // use template
-        VelocityEngine ve = new VelocityEngine();
-        ve.setProperty(RuntimeConstants.RESOURCE_LOADER, "classpath");
-        ve.setProperty("classpath.resource.loader.class",
-                ClasspathResourceLoader.class.getName());
-
-        ve.init();
+        VelocityEngine ve = getVelocityEngine();
 
         VelocityContext context = new VelocityContext();
 
@@ -623,6 +883,13 @@ public class F6Builder {
         DailyClimateData dailyData = DailyClimateData
                 .getMissingDailyClimateData();
 
+        /*
+         * Monthly degree day totals, from the month as loaded, before the
+         * days' derived fields are rebuilt below.
+         */
+        DailyClimateData monthDegreeDays = getMonthDegreeDays(monthData,
+                aDate.getDay());
+
         for (int i = 0; i < aDate.getDay(); i++) {
 
             Map<String, String> dailyValueMap = new HashMap<>();
@@ -633,10 +900,8 @@ public class F6Builder {
 
             f6Date.setDay(i + 1);
 
-            QueryData queryData = dailyClimateDao.getLastYear(f6Date,
-                    station.getInformId());
-            if (queryData.getExists()) {
-                dailyData = (DailyClimateData) queryData.getData();
+            if (i < monthData.length && monthData[i] != null) {
+                dailyData = monthData[i];
             } else {
                 logger.warn("No data for day: [" + f6Date.toFullDateString()
                         + "] for station ID: [" + station.getInformId() + "]");
@@ -644,16 +909,18 @@ public class F6Builder {
             }
 
             ClimateRecordDay historyData;
-            try {
-                historyData = climateDailyNormDao.getHistoricalNorms(f6Date,
-                        station.getInformId());
-            } catch (ClimateQueryException e) {
-                logger.error("Error getting historical data.", e);
+            if (i < monthNorms.length) {
+                historyData = monthNorms[i];
+            } else {
                 historyData = ClimateRecordDay.getMissingClimateRecordDay();
             }
 
-            ClimateDAOUtils.buildDerivedData(f6Date, station.getInformId(),
-                    dailyData);
+            /*
+             * Only the day's own derived fields are set here; the monthly
+             * degree day totals were taken from the loaded month before the
+             * loop, rather than with a query per day.
+             */
+            ClimateDAOUtils.buildDailyDerivedData(dailyData);
 
             // begin to handle values:
             if (dailyData.getMaxTemp() != ParameterFormatClimate.MISSING) {
@@ -1434,16 +1701,10 @@ public class F6Builder {
             context.put("min0i", "  M");
         }
 
-        // place derived data, built from the last data instance in the loop
-        /* place heating degree days and sky cover information */
+        // place monthly degree day totals and departures
+        putMonthDegreeDays(context, monthDegreeDays, pClimo);
 
-        if (dailyData
-                .getNumHeatMonth() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
-            context.put("ttm",
-                    String.format("%6s", dailyData.getNumHeatMonth()));
-        } else {
-            context.put("ttm", String.format("%6s", "M"));
-        }
+        /* place heating degree days and sky cover information */
 
         if (periodData.getNumFairDays() != ParameterFormatClimate.MISSING) {
             context.put("s03",
@@ -1452,17 +1713,6 @@ public class F6Builder {
             context.put("s03", " M");
         }
 
-        if (pClimo
-                .getNumHeatPeriodNorm() != ParameterFormatClimate.MISSING_DEGREE_DAY
-                && dailyData
-                        .getNumHeatMonth() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
-            int dptrheat = dailyData.getNumHeatMonth()
-                    - pClimo.getNumHeatPeriodNorm();
-            context.put("dfn", String.format("%6s", dptrheat));
-        } else {
-            context.put("dfn", String.format("%6s", "M"));
-        }
-
         if (periodData
                 .getNumPartlyCloudyDays() != ParameterFormatClimate.MISSING) {
             context.put("s47",
@@ -1499,25 +1749,6 @@ public class F6Builder {
         }
 
         /* place cooling degree days and pressure information the month */
-        if (dailyData
-                .getNumCoolMonth() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
-            context.put("ttm2",
-                    String.format("%6s", dailyData.getNumCoolMonth()));
-        } else {
-            context.put("ttm2", String.format("%6s", "M"));
-        }
-
-        if (pClimo
-                .getNumCoolPeriodNorm() != ParameterFormatClimate.MISSING_DEGREE_DAY
-                && dailyData
-                        .getNumCoolMonth() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
-            int dptrcool = dailyData.getNumCoolMonth()
-                    - pClimo.getNumCoolPeriodNorm();
-            context.put("dfn3", String.format("%6s", dptrcool));
-        } else {
-            context.put("dfn3", String.format("%6s", "M"));
-        }
-
         if (periodData
                 .getNumCool1Jan() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
             context.put("tfj2",
@@ -350,7 +350,8 @@ public abstract class ClimateFormat {
         this.globalConfig = globalConfig;
         this.currentSettings = currentSettings;
 
-        List<Station> stations = climateStationsSetupDao.getMasterStations();
+        List<Station> stations = climateStationsSetupDao.getStationIndex()
+                .getStationList();
 
         if (stations.isEmpty()) {
             logger.error("No stations returned from getMasterStations query.");
@@ -0,0 +1,85 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.service.handler.initclimate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.raytheon.uf.common.serialization.comm.IRequestHandler;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDayNorm;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodClimo;
+import gov.noaa.nws.ocp.common.dataplugin.climate.request.initclimate.ImportClimateNormsRequest;
+import gov.noaa.nws.ocp.common.dataplugin.climate.response.ImportClimateNormsResponse;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDailyNormDAO;
+import gov.noaa.nws.ocp.edex.common.climate.dao.MonthClimateNormDAO;
+
+/**
+ * Service handler to import a batch of records into the day_climate_norm and
+ * mon_climate_norm tables, with non-missing values only for existing records.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date        Ticket#  Engineer    Description
+ * ----------- -------- ----------- --------------------------
+ * 10/17/2026           agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+
+public class ImportClimateNormsServiceHandler
+        implements IRequestHandler<ImportClimateNormsRequest> {
+
+    private static final IUFStatusHandler logger = UFStatus
+            .getHandler(ImportClimateNormsServiceHandler.class);
+
+    @Override
+    public Object handleRequest(ImportClimateNormsRequest request)
+            throws Exception {
+        List<String> errors = new ArrayList<>();
+        int savedCount = 0;
+        boolean success = true;
+        StringBuilder message = new StringBuilder();
+
+        List<ClimateDayNorm> dayRecords = request.getDayRecords();
+        if (dayRecords != null && !dayRecords.isEmpty()) {
+            try {
+                savedCount += new ClimateDailyNormDAO()
+                        .importClimateDayNormsNoMissing(dayRecords, errors);
+            } catch (Exception e) {
+                logger.error("Failed to import " + dayRecords.size()
+                        + " daily norm records", e);
+                success = false;
+                message.append(e.getMessage());
+            }
+        }
+
+        List<PeriodClimo> monthRecords = request.getMonthRecords();
+        if (monthRecords != null && !monthRecords.isEmpty()) {
+            try {
+                savedCount += new MonthClimateNormDAO()
+                        .importClimateMonthNormsNoMissing(monthRecords,
+                                errors);
+            } catch (Exception e) {
+                logger.error("Failed to import " + monthRecords.size()
+                        + " month norm records", e);
+                success = false;
+                if (message.length() > 0) {
+                    message.append("\n");
+                }
+                message.append(e.getMessage());
+            }
+        }
+
+        return new ImportClimateNormsResponse(savedCount, errors,
+                success && errors.isEmpty(), message.toString());
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.f6builder;
+
+import org.apache.velocity.VelocityContext;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.DailyClimateData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodClimo;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+
+/**
+ * Checks the monthly heating and cooling degree day totals and departures
+ * placed in F6 reports ({@link F6Builder#getMonthDegreeDays} and
+ * {@link F6Builder#putMonthDegreeDays}) for known months: the stored values
+ * of the days before the last day are summed, skipping missing days, and the
+ * last day's own values are derived from its temperatures. Any field that
+ * differs from the expected report text throws an exception.
+ *
+ * Usage: F6BuilderTest
+ */
+public class F6BuilderTest {
+
+    private static final int MISSING = ParameterFormatClimate.MISSING;
+
+    private static final int MISSING_DEGREE_DAY = ParameterFormatClimate.MISSING_DEGREE_DAY;
+
+    public static void main(String[] args) throws Exception {
+        int months = 0;
+
+        /*
+         * January through the 31st. Days 1-30 store 590 heating and 2 cooling
+         * degree days, with the 21st missing. The 31st averages 30F, 35
+         * heating degree days, though 99 is stored for it.
+         */
+        DailyClimateData[] january = new DailyClimateData[31];
+        for (int i = 0; i < january.length; i++) {
+            int heat = i < 10 ? 30 : i < 20 ? 20 : 10;
+            january[i] = day(50, 20, heat, i == 24 ? 2 : 0);
+        }
+        january[20] = day(MISSING, MISSING, MISSING_DEGREE_DAY,
+                MISSING_DEGREE_DAY);
+        january[30] = day(40, 20, 99, 0);
+        check("January", january, 31, normals(1000, 0), "   625", "  -375",
+                "     2", "     2");
+        if (january[30].getNumHeat() != 99) {
+            throw new IllegalStateException(
+                    "The loaded month data was changed");
+        }
+        months++;
+
+        /*
+         * July through the 10th, with no row for the 4th. Days 1-9 store 5
+         * cooling degree days each, 40 in all. The 10th averages 85F, 20
+         * cooling degree days. There is no heating normal.
+         */
+        DailyClimateData[] july = new DailyClimateData[10];
+        for (int i = 0; i < july.length; i++) {
+            july[i] = day(90, 70, 0, 5);
+        }
+        july[3] = null;
+        july[9] = day(95, 75, 0, 0);
+        check("July", july, 10, normals(MISSING_DEGREE_DAY, 100),
+                "     0", "     M", "    60", "   -40");
+        months++;
+
+        /*
+         * March through the 5th, with rows only for the first 3 days, which
+         * store 10 heating degree days each.
+         */
+        DailyClimateData[] march = new DailyClimateData[3];
+        for (int i = 0; i < march.length; i++) {
+            march[i] = day(55, 35, 10, 0);
+        }
+        check("March", march, 5, normals(50, 0), "    30", "   -20",
+                "     0", "     0");
+        months++;
+
+        /*
+         * October through the 15th, every value missing.
+         */
+        DailyClimateData[] october = new DailyClimateData[15];
+        for (int i = 0; i < october.length; i++) {
+            october[i] = DailyClimateData.getMissingDailyClimateData();
+        }
+        check("October", october, 15, normals(200, 10), "     M", "     M",
+                "     M", "     M");
+        months++;
+
+        /*
+         * February with no rows at all.
+         */
+        check("February", new DailyClimateData[0], 28, normals(900, 0),
+                "     M", "     M", "     M", "     M");
+        months++;
+
+        System.out.println("Months: " + months);
+        System.out.println(
+                "F6 degree day totals and departures match the expected report text");
+    }
+
+    /**
+     * @return a loaded day with the given temperatures and stored degree
+     *         days.
+     */
+    private static DailyClimateData day(int maxTemp, int minTemp, int heat,
+            int cool) {
+        DailyClimateData data = DailyClimateData.getMissingDailyClimateData();
+        data.setMaxTemp(maxTemp);
+        data.setMinTemp(minTemp);
+        data.setNumHeat(heat);
+        data.setNumCool(cool);
+        return data;
+    }
+
+    /**
+     * @return monthly normals with the given degree day normals.
+     */
+    private static PeriodClimo normals(int heat, int cool) {
+        PeriodClimo pClimo = PeriodClimo.getMissingPeriodClimo();
+        pClimo.setNumHeatPeriodNorm(heat);
+        pClimo.setNumCoolPeriodNorm(cool);
+        return pClimo;
+    }
+
+    /**
+     * Place the degree day fields of a month and compare them to the
+     * expected report text.
+     */
+    private static void check(String month, DailyClimateData[] monthData,
+            int lastDay, PeriodClimo pClimo, String ttm, String dfn,
+            String ttm2, String dfn3) {
+        VelocityContext context = new VelocityContext();
+        F6Builder.putMonthDegreeDays(context,
+                F6Builder.getMonthDegreeDays(monthData, lastDay), pClimo);
+
+        String[][] expected = { { "ttm", ttm }, { "dfn", dfn },
+                { "ttm2", ttm2 }, { "dfn3", dfn3 } };
+        for (String[] field : expected) {
+            Object actual = context.get(field[0]);
+            if (!field[1].equals(actual)) {
+                throw new IllegalStateException(month + " " + field[0]
+                        + " is [" + actual + "], expected [" + field[1]
+                        + "]");
+            }
+        }
+    }
+}
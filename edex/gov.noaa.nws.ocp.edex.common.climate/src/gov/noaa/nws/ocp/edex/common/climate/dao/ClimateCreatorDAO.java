@@ -81,6 +81,21 @@ import gov.noaa.nws.ocp.edex.common.climate.util.MetarUtils;
  * @version 1.0
  */
 public class ClimateCreatorDAO extends ClimateDAO {
+    /**
+     * Order of the reports of one nominal time in the single hour METAR and
+     * SPECI queries: earliest valid time first, corrections over their
+     * originals, then the most recently ingested.
+     */
+    static final String HOUR_REPORT_ORDER = "f.valid_dtime ASC, f.correction DESC, f.origin_dtime DESC";
+
+    /**
+     * Order of the reports of {@link #getHourlyFSSResults}: by nominal time,
+     * then as in the single hour queries, keeping the rows of each report
+     * together.
+     */
+    static final String HOURLY_REPORTS_ORDER = "f.nominal_dtime ASC, "
+            + HOUR_REPORT_ORDER + ", f.fss_rpt_instance ASC";
+
     /*
      * Constants from build_daily_obs_weather.ec and build_daily_obs_weather.h.
      */
@@ -1344,8 +1359,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
         query.append(" WHERE f.nominal_dtime = :dateTime");
         query.append(" AND f.station_id = :informId");
         query.append(" AND f.report_subtype = 'MTR' ");
-        query.append(" ORDER BY f.valid_dtime ASC, f.correction DESC, ");
-        query.append(" f.origin_dtime DESC");
+        query.append(" ORDER BY ").append(HOUR_REPORT_ORDER);
 
         Map<String, Object> paramMap = new HashMap<>();
         paramMap.put("elementID", elementID);
@@ -1856,8 +1870,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
         } else {
             query.append(") ");
         }
-        query.append(" ORDER BY f.valid_dtime ASC, f.correction DESC, ");
-        query.append(" f.origin_dtime DESC");
+        query.append(" ORDER BY ").append(HOUR_REPORT_ORDER);
 
         Map<String, Object> paramMap = new HashMap<>();
         paramMap.put("elementID", elementID);
@@ -1951,6 +1964,405 @@ public class ClimateCreatorDAO extends ClimateDAO {
         }
     }
 
+    /**
+     * Retrieve, in one query, the hourly METAR and SPECI values of the elements
+     * used to build daily temperature, humidity, wind and precipitation for a
+     * station over a span of nominal times. The returned results answer the
+     * same lookups as {@link #getMetarConreal(int, int, Calendar, boolean)},
+     * {@link #getMetarConreal(int, int, Calendar)} and
+     * {@link #getMetarCategSingle(int, int, Calendar, String)} from memory,
+     * falling back to those queries for elements or times not covered.
+     * 
+     * @param informId
+     *            station ID.
+     * @param startTime
+     *            earliest nominal time to retrieve, inclusive.
+     * @param endTime
+     *            latest nominal time to retrieve, inclusive.
+     * @return hourly results for the station.
+     * @throws ClimateQueryException
+     */
+    public HourlyFSSResults getHourlyFSSResults(int informId,
+            Calendar startTime, Calendar endTime)
+            throws ClimateQueryException {
+        StringBuilder query = new StringBuilder(
+                "SELECT f.fss_rpt_instance, f.nominal_dtime, f.report_subtype, ");
+        query.append(" x.table_name, x.element_id, x.element_value, x.dqd FROM ");
+        query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
+        query.append(" AS f LEFT OUTER JOIN (SELECT fss_rpt_instance, ");
+        query.append(" 'contin_real' AS table_name, element_id, ");
+        query.append(" CAST(element_value AS double precision) AS element_value,");
+        query.append(" dqd FROM ");
+        query.append(ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME);
+        query.append(" WHERE element_id IN (");
+        appendElementIDs(query, HourlyFSSResults.CONTIN_REAL_ELEMENTS);
+        query.append(") UNION ALL SELECT fss_rpt_instance, ");
+        query.append(" 'categ_single' AS table_name, element_id, ");
+        query.append(" CAST(element_value AS double precision) AS element_value,");
+        query.append(" dqd FROM ");
+        query.append(ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME);
+        query.append(" WHERE element_id IN (");
+        appendElementIDs(query, HourlyFSSResults.CATEG_SINGLE_ELEMENTS);
+        query.append(")) AS x USING (fss_rpt_instance) ");
+        query.append(" WHERE f.nominal_dtime BETWEEN :startTime AND :endTime");
+        query.append(" AND f.station_id = :informId");
+        query.append(" AND (f.report_subtype = 'MTR' ");
+        query.append(" OR f.report_subtype = 'SPECI') ");
+        // same report ordering as the single hour queries
+        query.append(" ORDER BY ").append(HOURLY_REPORTS_ORDER);
+
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("startTime", startTime);
+        paramMap.put("endTime", endTime);
+        paramMap.put("informId", informId);
+
+        HourlyFSSResults hourlyResults = new HourlyFSSResults(this, informId,
+                HourlyFSSResults.getNominalKey(startTime),
+                HourlyFSSResults.getNominalKey(endTime));
+
+        try {
+            Object[] results = getDao().executeSQLQuery(query.toString(),
+                    paramMap);
+            if (results != null) {
+                for (Object result : results) {
+                    if (result instanceof Object[]) {
+                        hourlyResults.addRow((Object[]) result);
+                    } else {
+                        throw new ClimateQueryException(
+                                "Unexpected return type from query, expected Object[], got "
+                                        + result.getClass().getName());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "An error was encountered retrieving hourly reports from"
+                            + " the METAR DB.\n"
+                            + "Error querying the climate database with query: ["
+                            + query + "] and map: [" + paramMap + "]",
+                    e);
+        }
+
+        return hourlyResults;
+    }
+
+    /**
+     * Get hourly results for the station that hold no data, so that every
+     * lookup is done with its own query.
+     * 
+     * @param informId
+     *            station ID.
+     * @return hourly results that always query the database.
+     */
+    public HourlyFSSResults getHourlyFSSResults(int informId) {
+        return new HourlyFSSResults(this, informId, 0, -1);
+    }
+
+    /**
+     * Append a comma-separated list of element IDs to the query.
+     * 
+     * @param query
+     * @param elementIDs
+     */
+    private static void appendElementIDs(StringBuilder query,
+            int[] elementIDs) {
+        for (int i = 0; i < elementIDs.length; i++) {
+            if (i > 0) {
+                query.append(", ");
+            }
+            query.append(elementIDs[i]);
+        }
+    }
+
+    /**
+     * Hourly METAR and SPECI element values for a station, keyed by nominal
+     * time, as retrieved by
+     * {@link ClimateCreatorDAO#getHourlyFSSResults(int, Calendar, Calendar)}.
+     * Lookups for elements or nominal times that were not retrieved are
+     * delegated to the single hour queries of {@link ClimateCreatorDAO}.
+     * 
+     * Nominal times are keyed by their date and time fields, as the single
+     * hour queries match them, rather than by instant: a time read from the
+     * database holds its fields in the JVM time zone, while a lookup holds
+     * them in the zone of its calendar.
+     * 
+     * <pre>
+     * 
+     * SOFTWARE HISTORY
+     * 
+     * Date         Ticket#    Engineer    Description
+     * ------------ ---------- ----------- --------------------------
+     * 17 OCT 2026             agent       Initial creation
+     * 
+     * </pre>
+     * 
+     * @author agent
+     * @version 1.0
+     */
+    public static class HourlyFSSResults {
+
+        /**
+         * Continuous real elements retrieved in bulk.
+         */
+        private static final int[] CONTIN_REAL_ELEMENTS = {
+                MetarUtils.METAR_TEMP, MetarUtils.METAR_TEMP_2_TENTHS,
+                MetarUtils.METAR_DEWPOINT, MetarUtils.METAR_DEWPOINT_2_TENTHS,
+                MetarUtils.METAR_WIND_SPEED, MetarUtils.METAR_MAX_WIND_GUST,
+                MetarUtils.METAR_PEAK_WIND_SPEED,
+                MetarUtils.METAR_PEAK_WIND_TIME, MetarUtils.METAR_1HR_PRECIP,
+                MetarUtils.METAR_3HR_PRECIP, MetarUtils.METAR_6HR_PRECIP };
+
+        /**
+         * Single category elements retrieved in bulk.
+         */
+        private static final int[] CATEG_SINGLE_ELEMENTS = {
+                MetarUtils.METAR_WIND_DIRECTION,
+                MetarUtils.METAR_PEAK_WIND_DIR };
+
+        /**
+         * DAO to delegate lookups that were not retrieved.
+         */
+        private final ClimateCreatorDAO dao;
+
+        /**
+         * Station ID.
+         */
+        private final int informId;
+
+        /**
+         * Key of the earliest nominal time retrieved.
+         */
+        private final long startKey;
+
+        /**
+         * Key of the latest nominal time retrieved.
+         */
+        private final long endKey;
+
+        /**
+         * Continuous real values from METARs, by nominal time then element ID,
+         * in report order.
+         */
+        private final Map<Long, Map<Integer, List<FSSReportResult>>> metarConreal = new HashMap<>();
+
+        /**
+         * Continuous real values from METARs and SPECIs, by nominal time then
+         * element ID, in report order.
+         */
+        private final Map<Long, Map<Integer, List<FSSReportResult>>> allConreal = new HashMap<>();
+
+        /**
+         * Single category values from the first METAR of each nominal time, by
+         * nominal time then element ID.
+         */
+        private final Map<Long, Map<Integer, FSSReportResult>> metarCategSingle = new HashMap<>();
+
+        /**
+         * Report instance of the first METAR of each nominal time.
+         */
+        private final Map<Long, Integer> firstMetarInstance = new HashMap<>();
+
+        /**
+         * Constructor.
+         * 
+         * @param iDao
+         * @param iInformId
+         * @param iStartKey
+         *            key of the earliest nominal time retrieved.
+         * @param iEndKey
+         *            key of the latest nominal time retrieved.
+         */
+        HourlyFSSResults(ClimateCreatorDAO iDao, int iInformId,
+                long iStartKey, long iEndKey) {
+            dao = iDao;
+            informId = iInformId;
+            startKey = iStartKey;
+            endKey = iEndKey;
+        }
+
+        /**
+         * @param dateTime
+         *            nominal time.
+         * @return key of the nominal time: its date and time fields, in the
+         *         calendar's zone, as a time in UTC.
+         */
+        static long getNominalKey(Calendar dateTime) {
+            Calendar key = TimeUtil.newGmtCalendar();
+            key.clear();
+            key.set(dateTime.get(Calendar.YEAR), dateTime.get(Calendar.MONTH),
+                    dateTime.get(Calendar.DAY_OF_MONTH),
+                    dateTime.get(Calendar.HOUR_OF_DAY),
+                    dateTime.get(Calendar.MINUTE),
+                    dateTime.get(Calendar.SECOND));
+            return key.getTimeInMillis();
+        }
+
+        /**
+         * Add one row of the bulk query. Rows must be added in the query's
+         * report order.
+         * 
+         * @param oa
+         *            row of fss_rpt_instance, nominal_dtime, report_subtype,
+         *            table_name, element_id, element_value, dqd.
+         */
+        void addRow(Object[] oa) {
+            int rptInstance = ((Number) oa[0]).intValue();
+            Long nominalTime = getNominalKey(
+                    TimeUtil.newCalendar((Date) oa[1]));
+            boolean metar = "MTR".equals(oa[2]);
+
+            if (metar && !firstMetarInstance.containsKey(nominalTime)) {
+                firstMetarInstance.put(nominalTime, rptInstance);
+            }
+
+            // element value could be null, on no matching element
+            if (oa[3] == null || oa[4] == null || oa[5] == null) {
+                return;
+            }
+
+            int elementID = ((Number) oa[4]).intValue();
+            // dqd could be null
+            FSSReportResult result = new FSSReportResult(
+                    ((Number) oa[5]).doubleValue(),
+                    oa[6] == null ? "" : (String) oa[6]);
+
+            if ("categ_single".equals(oa[3])) {
+                if (metar && firstMetarInstance.get(nominalTime)
+                        .intValue() == rptInstance) {
+                    getElementMap(metarCategSingle, nominalTime)
+                            .put(elementID, result);
+                }
+            } else {
+                addResult(allConreal, nominalTime, elementID, result);
+                if (metar) {
+                    addResult(metarConreal, nominalTime, elementID, result);
+                }
+            }
+        }
+
+        private static void addResult(
+                Map<Long, Map<Integer, List<FSSReportResult>>> resultMap,
+                Long nominalTime, int elementID, FSSReportResult result) {
+            Map<Integer, List<FSSReportResult>> elementMap = getElementMap(
+                    resultMap, nominalTime);
+            List<FSSReportResult> results = elementMap.get(elementID);
+            if (results == null) {
+                results = new ArrayList<>();
+                elementMap.put(elementID, results);
+            }
+            results.add(result);
+        }
+
+        private static <T> Map<Integer, T> getElementMap(
+                Map<Long, Map<Integer, T>> resultMap, Long nominalTime) {
+            Map<Integer, T> elementMap = resultMap.get(nominalTime);
+            if (elementMap == null) {
+                elementMap = new HashMap<>();
+                resultMap.put(nominalTime, elementMap);
+            }
+            return elementMap;
+        }
+
+        /**
+         * @param elementIDs
+         * @param elementID
+         * @param dateTime
+         * @return true if the element at the nominal time was retrieved.
+         */
+        private boolean isRetrieved(int[] elementIDs, int elementID,
+                Calendar dateTime) {
+            long key = getNominalKey(dateTime);
+            if (key < startKey || key > endKey) {
+                return false;
+            }
+            for (int retrievedID : elementIDs) {
+                if (retrievedID == elementID) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return the station ID.
+         */
+        public int getInformId() {
+            return informId;
+        }
+
+        /**
+         * See {@link ClimateCreatorDAO#getMetarConreal(int, int, Calendar, boolean)}.
+         * 
+         * @param elementID
+         * @param dateTime
+         * @param includeSPECI
+         * @return values of the element for the nominal time, in report order.
+         * @throws ClimateQueryException
+         */
+        public List<FSSReportResult> getMetarConreal(int elementID,
+                Calendar dateTime, boolean includeSPECI)
+                throws ClimateQueryException {
+            if (!isRetrieved(CONTIN_REAL_ELEMENTS, elementID, dateTime)) {
+                return dao.getMetarConreal(informId, elementID, dateTime,
+                        includeSPECI);
+            }
+            Map<Integer, List<FSSReportResult>> elementMap = (includeSPECI
+                    ? allConreal : metarConreal)
+                            .get(getNominalKey(dateTime));
+            if (elementMap == null || !elementMap.containsKey(elementID)) {
+                return new ArrayList<>();
+            }
+            return new ArrayList<>(elementMap.get(elementID));
+        }
+
+        /**
+         * See {@link ClimateCreatorDAO#getMetarConreal(int, int, Calendar)}.
+         * 
+         * @param elementID
+         * @param dateTime
+         * @return value of the element for the nominal time, or the missing
+         *         value.
+         * @throws ClimateQueryException
+         */
+        public FSSReportResult getMetarConreal(int elementID,
+                Calendar dateTime) throws ClimateQueryException {
+            List<FSSReportResult> result = getMetarConreal(elementID, dateTime,
+                    false);
+
+            if (!result.isEmpty()) {
+                return result.get(0);
+            } else {
+                return new FSSReportResult();
+            }
+        }
+
+        /**
+         * See
+         * {@link ClimateCreatorDAO#getMetarCategSingle(int, int, Calendar, String)}.
+         * 
+         * @param elementID
+         * @param dateTime
+         * @param dateTimeString
+         * @return value of the element in the first METAR for the nominal time,
+         *         or the missing value.
+         * @throws ClimateQueryException
+         */
+        public FSSReportResult getMetarCategSingle(int elementID,
+                Calendar dateTime, String dateTimeString)
+                throws ClimateQueryException {
+            if (!isRetrieved(CATEG_SINGLE_ELEMENTS, elementID, dateTime)) {
+                return dao.getMetarCategSingle(informId, elementID, dateTime,
+                        dateTimeString);
+            }
+            Map<Integer, FSSReportResult> elementMap = metarCategSingle
+                    .get(getNominalKey(dateTime));
+            if (elementMap == null || !elementMap.containsKey(elementID)) {
+                return new FSSReportResult();
+            }
+            return elementMap.get(elementID);
+        }
+    }
+
     /**
      * Inner class to wrap multiple return types from FSS-related queries.
      * 
@@ -2337,6 +2749,22 @@ public class ClimateCreatorDAO extends ClimateDAO {
 
     public void getHourlyWinds(ClimateDate date, ClimateTime time, int informId,
             ClimateWind aWind) {
+        getHourlyWinds(date, time, getHourlyFSSResults(informId), aWind);
+    }
+
+    /**
+     * Overload for the above, looking up element values in the given hourly
+     * results instead of querying each one.
+     * 
+     * @param date
+     * @param time
+     * @param hourlyResults
+     *            hourly results for the station.
+     * @param aWind
+     */
+    public void getHourlyWinds(ClimateDate date, ClimateTime time,
+            HourlyFSSResults hourlyResults, ClimateWind aWind) {
+        int informId = hourlyResults.getInformId();
         Calendar dateTime = combine(date, time);
         String dateTimeString = date.toFullDateString() + " "
                 + time.toHourMinString();
@@ -2350,7 +2778,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
          * attempt.
          */
         try {
-            float windSpeed = (float) getMetarConreal(informId,
+            float windSpeed = (float) hourlyResults.getMetarConreal(
                     MetarUtils.METAR_WIND_SPEED, dateTime).getValue();
 
             /*
@@ -2368,7 +2796,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
 
                 /* We look for direction only if we have a good speed value. */
                 try {
-                    int direction = (int) getMetarCategSingle(informId,
+                    int direction = (int) hourlyResults.getMetarCategSingle(
                             MetarUtils.METAR_WIND_DIRECTION, dateTime,
                             dateTimeString).getValue();
 
@@ -2429,6 +2857,22 @@ public class ClimateCreatorDAO extends ClimateDAO {
 
     public void getAllHourlyGusts(ClimateDate date, ClimateTime time,
             int informId, ClimateWind aGust) {
+        getAllHourlyGusts(date, time, getHourlyFSSResults(informId), aGust);
+    }
+
+    /**
+     * Overload for the above, looking up element values in the given hourly
+     * results instead of querying each one.
+     * 
+     * @param date
+     * @param time
+     * @param hourlyResults
+     *            hourly results for the station.
+     * @param aGust
+     */
+    public void getAllHourlyGusts(ClimateDate date, ClimateTime time,
+            HourlyFSSResults hourlyResults, ClimateWind aGust) {
+        int informId = hourlyResults.getInformId();
         Calendar dateTime = combine(date, time);
         String dateTimeString = date.toFullDateString() + " "
                 + time.toHourMinString();
@@ -2444,7 +2888,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
          * the data is legitimate.
          */
         try {
-            float gustSpeed = (float) getMetarConreal(informId,
+            float gustSpeed = (float) hourlyResults.getMetarConreal(
                     MetarUtils.METAR_MAX_WIND_GUST, dateTime).getValue();
 
             /*
@@ -2466,7 +2910,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
                  * direction
                  */
                 try {
-                    int direction = (int) getMetarCategSingle(informId,
+                    int direction = (int) hourlyResults.getMetarCategSingle(
                             MetarUtils.METAR_WIND_DIRECTION, dateTime,
                             dateTimeString).getValue();
 
@@ -2524,6 +2968,25 @@ public class ClimateCreatorDAO extends ClimateDAO {
 
     public void getHourlyPeakWinds(ClimateDate date, ClimateTime time,
             int informId, ClimateWind peakWind, ClimateTime peakWindTime) {
+        getHourlyPeakWinds(date, time, getHourlyFSSResults(informId),
+                peakWind, peakWindTime);
+    }
+
+    /**
+     * Overload for the above, looking up element values in the given hourly
+     * results instead of querying each one.
+     * 
+     * @param date
+     * @param time
+     * @param hourlyResults
+     *            hourly results for the station.
+     * @param peakWind
+     * @param peakWindTime
+     */
+    public void getHourlyPeakWinds(ClimateDate date, ClimateTime time,
+            HourlyFSSResults hourlyResults, ClimateWind peakWind,
+            ClimateTime peakWindTime) {
+        int informId = hourlyResults.getInformId();
         Calendar dateTime = combine(date, time);
         String dateTimeString = date.toFullDateString() + " "
                 + time.toHourMinString();
@@ -2544,7 +3007,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
          * retrieval attempt.
          */
         try {
-            float windSpeed = (float) getMetarConreal(informId,
+            float windSpeed = (float) hourlyResults.getMetarConreal(
                     MetarUtils.METAR_PEAK_WIND_SPEED, dateTime).getValue();
 
             /*
@@ -2567,7 +3030,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
                  * legitimate.
                  */
                 try {
-                    int direction = (int) getMetarCategSingle(informId,
+                    int direction = (int) hourlyResults.getMetarCategSingle(
                             MetarUtils.METAR_PEAK_WIND_DIR, dateTime,
                             dateTimeString).getValue();
 
@@ -2590,7 +3053,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
                     try {
                         // time stored in HHmm format as integer (not actual
                         // time datatype)
-                        int metarTime = (int) getMetarConreal(informId,
+                        int metarTime = (int) hourlyResults.getMetarConreal(
                                 MetarUtils.METAR_PEAK_WIND_TIME, dateTime)
                                         .getValue();
 
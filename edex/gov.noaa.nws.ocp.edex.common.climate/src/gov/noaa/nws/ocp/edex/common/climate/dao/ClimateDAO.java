@@ -170,8 +170,98 @@ public class ClimateDAO {
     public final Object queryForOneValue(String keyQuery,
             Map<String, Object> keyParamMap, Object missingValue,
             boolean warnNull) {
+        return queryForOneValue(keyQuery, keyParamMap, missingValue, warnNull,
+                false);
+    }
+
+    /**
+     * Query for a single value of the normals tables, through
+     * {@link ClimateNormsCache}. See
+     * {@link #queryForOneValue(String, Map, Object, boolean)}.
+     * 
+     * @param keyQuery
+     * @param keyParamMap
+     * @param missingValue
+     * @param warnNull
+     *            log a warning if query result is empty or value is null
+     * @return resulting value, or the missing value provided on any error.
+     */
+    protected final Object queryNormsForOneValue(String keyQuery,
+            Map<String, Object> keyParamMap, Object missingValue,
+            boolean warnNull) {
+        return queryForOneValue(keyQuery, keyParamMap, missingValue, warnNull,
+                true);
+    }
+
+    /**
+     * Query for a single value of the normals tables, through
+     * {@link ClimateNormsCache}. See
+     * {@link #queryForOneValue(String, Map, Object)}.
+     * 
+     * @param keyQuery
+     * @param keyParamMap
+     * @param missingValue
+     * @return resulting value, or the missing value provided on any error.
+     */
+    protected final Object queryNormsForOneValue(String keyQuery,
+            Map<String, Object> keyParamMap, Object missingValue) {
+        return queryForOneValue(keyQuery, keyParamMap, missingValue, true,
+                true);
+    }
+
+    /**
+     * Run a query of the normals tables (day_climate_norm or
+     * mon_climate_norm), returning cached results if the same query has been
+     * run since the normals last changed.
+     * 
+     * @param query
+     * @param paramMap
+     * @return query results.
+     */
+    protected final Object[] executeNormsQuery(String query,
+            Map<String, Object> paramMap) {
+        ClimateNormsCache cache = ClimateNormsCache.getInstance();
+        Object[] results = cache.getQueryResults(query, paramMap);
+        if (results == null) {
+            long generation = cache.getGeneration();
+            results = dao.executeSQLQuery(query, paramMap);
+            cache.putQueryResults(query, paramMap, results, generation);
+        }
+        return results;
+    }
+
+    /**
+     * Run an insert, update or delete on the normals tables, invalidating
+     * {@link ClimateNormsCache} whether or not it succeeds.
+     * 
+     * @param query
+     * @param paramMap
+     * @return number of rows changed.
+     */
+    protected final int executeNormsUpdate(String query,
+            Map<String, Object> paramMap) {
+        try {
+            return dao.executeSQLUpdate(query, paramMap);
+        } finally {
+            ClimateNormsCache.getInstance().invalidateAll();
+        }
+    }
+
+    /**
+     * @param keyQuery
+     * @param keyParamMap
+     * @param missingValue
+     * @param warnNull
+     * @param norms
+     *            true to query the normals tables through the cache.
+     * @return resulting value, or the missing value provided on any error.
+     */
+    private Object queryForOneValue(String keyQuery,
+            Map<String, Object> keyParamMap, Object missingValue,
+            boolean warnNull, boolean norms) {
         try {
-            Object[] res = dao.executeSQLQuery(keyQuery, keyParamMap);
+            Object[] res = norms ? executeNormsQuery(keyQuery, keyParamMap)
+                    : dao.executeSQLQuery(keyQuery, keyParamMap);
             if ((res != null) && (res.length >= 1)) {
                 if (res[0] != null) {
                     return res[0];
@@ -5,6 +5,8 @@ package gov.noaa.nws.ocp.edex.common.climate.dao;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +19,7 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
 import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
 import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateNormsCache.StationDayNorms;
 
 /**
  * Implementations converted from SUBROUTINES under
@@ -71,6 +74,62 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
  * @version 1.0
  */
 public class ClimateDailyNormDAO extends ClimateDAO {
+    /**
+     * day_climate_norm columns held in {@link ClimateNormsCache}, in the order
+     * of the column indices below.
+     */
+    private static final String[] DAY_NORM_COLUMNS = { "mean_temp",
+            "max_temp_mean", "min_temp_mean", "max_temp_record",
+            "min_temp_record", "max_temp_rec_yr1", "max_temp_rec_yr2",
+            "max_temp_rec_yr3", "min_temp_rec_yr1", "min_temp_rec_yr2",
+            "min_temp_rec_yr3", "precip_mean", "precip_day_max",
+            "precip_day_max_yr1", "precip_day_max_yr2", "precip_day_max_yr3",
+            "snow_mean", "snow_day_max", "snow_day_max_yr1",
+            "snow_day_max_yr2", "snow_day_max_yr3", "snow_ground_mean",
+            "heat_day_mean", "cool_day_mean" };
+
+    private static final int MEAN_TEMP = 0;
+
+    private static final int MAX_TEMP_MEAN = 1;
+
+    private static final int MIN_TEMP_MEAN = 2;
+
+    private static final int MAX_TEMP_RECORD = 3;
+
+    private static final int MIN_TEMP_RECORD = 4;
+
+    /** First of three consecutive record year columns */
+    private static final int MAX_TEMP_REC_YR1 = 5;
+
+    /** First of three consecutive record year columns */
+    private static final int MIN_TEMP_REC_YR1 = 8;
+
+    private static final int PRECIP_MEAN = 11;
+
+    private static final int PRECIP_DAY_MAX = 12;
+
+    /** First of three consecutive record year columns */
+    private static final int PRECIP_DAY_MAX_YR1 = 13;
+
+    private static final int SNOW_MEAN = 16;
+
+    private static final int SNOW_DAY_MAX = 17;
+
+    /** First of three consecutive record year columns */
+    private static final int SNOW_DAY_MAX_YR1 = 18;
+
+    private static final int SNOW_GROUND_MEAN = 21;
+
+    private static final int HEAT_DAY_MEAN = 22;
+
+    private static final int COOL_DAY_MEAN = 23;
+
+    /**
+     * day_climate_norm key columns.
+     */
+    private static final String[] DAY_NORM_KEY_COLUMNS = { "station_id",
+            "day_of_year" };
+
     /**
      * Constructor.
      */
@@ -112,169 +171,97 @@ public class ClimateDailyNormDAO extends ClimateDAO {
 
     public ClimateRecordDay getHistoricalNorms(ClimateDate iDate, int stationId)
             throws ClimateQueryException {
+        return buildHistoricalNorms(getDayNorms(stationId),
+                iDate.toMonthDayDateString(), stationId);
+    }
+
+    /**
+     * Get the historical normals of the given stations for each day of a
+     * month up to the given date, as {@link #getHistoricalNorms} would return
+     * them, loading the stations' normals together.
+     * 
+     * @param endDate
+     *            last date of the month to get normals for.
+     * @param stationIds
+     *            IDs to query for.
+     * @return for each station ID, the normals of each day of the month,
+     *         indexed from 0 for the first day.
+     * @throws ClimateQueryException
+     *             on error getting data.
+     */
+    public Map<Integer, ClimateRecordDay[]> getHistoricalNormsForMonth(
+            ClimateDate endDate, Collection<Integer> stationIds)
+            throws ClimateQueryException {
+        Map<Integer, StationDayNorms> stationNorms = getDayNorms(stationIds);
+        ClimateDate date = new ClimateDate(endDate);
+
+        Map<Integer, ClimateRecordDay[]> monthNorms = new HashMap<>();
+        for (Integer stationId : stationIds) {
+            ClimateRecordDay[] days = new ClimateRecordDay[endDate.getDay()];
+            for (int i = 0; i < days.length; i++) {
+                date.setDay(i + 1);
+                days[i] = buildHistoricalNorms(stationNorms.get(stationId),
+                        date.toMonthDayDateString(), stationId);
+            }
+            monthNorms.put(stationId, days);
+        }
+        return monthNorms;
+    }
+
+    /**
+     * @param norms
+     *            the station's daily normals.
+     * @param dayOfYear
+     *            day of year in the format "MM-dd".
+     * @param stationId
+     * @return {@link ClimateRecordDay} instance, which may have missing data
+     *         (except for station ID).
+     */
+    private ClimateRecordDay buildHistoricalNorms(StationDayNorms norms,
+            String dayOfYear, int stationId) {
         ClimateRecordDay yClimate = ClimateRecordDay
                 .getMissingClimateRecordDay();
         yClimate.setInformId(stationId);
 
-        StringBuilder query = new StringBuilder(
-                "SELECT mean_temp, max_temp_mean, min_temp_mean,");
-        query.append(" max_temp_record, min_temp_record, max_temp_rec_yr1,");
-        query.append(" max_temp_rec_yr2, max_temp_rec_yr3, min_temp_rec_yr1,");
-        query.append(" min_temp_rec_yr2, min_temp_rec_yr3, precip_mean,");
-        query.append(
-                " precip_day_max, precip_day_max_yr1, precip_day_max_yr2,");
-        query.append(" precip_day_max_yr3, snow_mean, snow_day_max,");
-        query.append(" snow_day_max_yr1, snow_day_max_yr2, snow_day_max_yr3,");
-        query.append(" snow_ground_mean, heat_day_mean, cool_day_mean FROM ");
-        query.append(ClimateDAOValues.DAY_CLIMATE_NORM_TABLE_NAME);
-        query.append(" WHERE station_id = :stationId")
-                .append(" AND day_of_year = ");
-        query.append(":dayOfYear");
+        int day = StationDayNorms.getDayIndex(dayOfYear);
 
-        Map<String, Object> paramMap = new HashMap<>();
-        paramMap.put("stationId", stationId);
-        paramMap.put("dayOfYear", iDate.toMonthDayDateString());
-
-        try {
-            Object[] results = getDao().executeSQLQuery(query.toString(),
-                    paramMap);
-            if ((results != null) && (results.length >= 1)) {
-                Object result = results[0];
-                if (result instanceof Object[]) {
-                    try {
-                        Object[] oa = (Object[]) result;
-
-                        // any values could be null
-                        float ecMeanTemp = oa[0] != null
-                                ? ((Number) oa[0]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMaxTempMean = oa[1] != null
-                                ? ((Number) oa[1]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMinTempMean = oa[2] != null
-                                ? ((Number) oa[2]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMaxTempRecord = oa[3] != null
-                                ? ((Number) oa[3]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMinTempRecord = oa[4] != null
-                                ? ((Number) oa[4]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMaxTempRecordYear1 = oa[5] != null
-                                ? ((Number) oa[5]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMaxTempRecordYear2 = oa[6] != null
-                                ? ((Number) oa[6]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMaxTempRecordYear3 = oa[7] != null
-                                ? ((Number) oa[7]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMinTempRecordYear1 = oa[8] != null
-                                ? ((Number) oa[8]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMinTempRecordYear2 = oa[9] != null
-                                ? ((Number) oa[9]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMinTempRecordYear3 = oa[10] != null
-                                ? ((Number) oa[10]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        float ecPrecipMean = oa[11] != null
-                                ? ((Number) oa[11]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        float ecPrecipDayRecord = oa[12] != null
-                                ? ((Number) oa[12]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecPrecipDayRecordYear1 = oa[13] != null
-                                ? ((Number) oa[13]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecPrecipDayRecordYear2 = oa[14] != null
-                                ? ((Number) oa[14]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecPrecipDayRecordYear3 = oa[15] != null
-                                ? ((Number) oa[15]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        float ecSnowDayMean = oa[16] != null
-                                ? ((Number) oa[16]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        float ecSnowDayRecord = oa[17] != null
-                                ? ((Number) oa[17]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecSnowDayRecordYear1 = oa[18] != null
-                                ? ((Number) oa[18]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecSnowDayRecordYear2 = oa[19] != null
-                                ? ((Number) oa[19]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecSnowDayRecordYear3 = oa[20] != null
-                                ? ((Number) oa[20]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        /* unused */
-                        @SuppressWarnings("unused")
-                        float ecSnowGroundMean = oa[21] != null
-                                ? ((Number) oa[21]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        int ecNumHeatMean = oa[22] != null
-                                ? ((Number) oa[22]).intValue()
-                                : ParameterFormatClimate.MISSING;
-                        int ecNumCoolMean = oa[23] != null
-                                ? ((Number) oa[23]).intValue()
-                                : ParameterFormatClimate.MISSING;
-
-                        yClimate.setMaxTempYear(new int[] {
-                                ecMaxTempRecordYear1, ecMaxTempRecordYear2,
-                                ecMaxTempRecordYear3 });
-                        yClimate.setMinTempYear(new int[] {
-                                ecMinTempRecordYear1, ecMinTempRecordYear2,
-                                ecMinTempRecordYear3 });
-                        yClimate.setPrecipDayRecordYear(new int[] {
-                                ecPrecipDayRecordYear1, ecPrecipDayRecordYear2,
-                                ecPrecipDayRecordYear3 });
-                        yClimate.setSnowDayRecordYear(new int[] {
-                                ecSnowDayRecordYear1, ecSnowDayRecordYear2,
-                                ecSnowDayRecordYear3 });
-
-                        yClimate.setMeanTemp(ecMeanTemp);
-                        yClimate.setMaxTempMean(ecMaxTempMean);
-                        yClimate.setMinTempMean(ecMinTempMean);
-                        yClimate.setMaxTempRecord(ecMaxTempRecord);
-                        yClimate.setMinTempRecord(ecMinTempRecord);
-                        yClimate.setPrecipMean(ecPrecipMean);
-                        yClimate.setPrecipDayRecord(ecPrecipDayRecord);
-                        yClimate.setSnowDayMean(ecSnowDayMean);
-                        yClimate.setSnowDayRecord(ecSnowDayRecord);
-                        yClimate.setNumHeatMean(ecNumHeatMean);
-                        yClimate.setNumCoolMean(ecNumCoolMean);
-
-                    } catch (Exception e) {
-                        // if casting failed
-                        throw new ClimateQueryException(
-                                "Unexpected return column type from query: ["
-                                        + query + "] and map: [" + paramMap
-                                        + "]",
-                                e);
-                    }
-
-                } else {
-                    throw new ClimateQueryException(
-                            "Unexpected return type from query, expected Object[], got "
-                                    + result.getClass().getName());
-                }
-
-            } else {
-                // no results
-                logger.warn("No historical normals data for date: ["
-                        + iDate.toMonthDayDateString() + "] and station ID: ["
-                        + stationId
-                        + "]. Empty or null normals query result from: ["
-                        + query + "] and map: [" + paramMap + "]");
-            }
-        } catch (Exception e) {
-            throw new ClimateQueryException(
-                    "Error querying the climate database with: [" + query
-                            + "] and map: [" + paramMap + "]",
-                    e);
+        if (!norms.hasDay(day)) {
+            // no results
+            logger.warn("No historical normals data for date: [" + dayOfYear
+                    + "] and station ID: [" + stationId + "].");
+            return yClimate;
         }
 
+        // any values could be null
+        yClimate.setMaxTempYear(new int[] {
+                getShort(norms, day, MAX_TEMP_REC_YR1),
+                getShort(norms, day, MAX_TEMP_REC_YR1 + 1),
+                getShort(norms, day, MAX_TEMP_REC_YR1 + 2) });
+        yClimate.setMinTempYear(new int[] {
+                getShort(norms, day, MIN_TEMP_REC_YR1),
+                getShort(norms, day, MIN_TEMP_REC_YR1 + 1),
+                getShort(norms, day, MIN_TEMP_REC_YR1 + 2) });
+        yClimate.setPrecipDayRecordYear(new int[] {
+                getShort(norms, day, PRECIP_DAY_MAX_YR1),
+                getShort(norms, day, PRECIP_DAY_MAX_YR1 + 1),
+                getShort(norms, day, PRECIP_DAY_MAX_YR1 + 2) });
+        yClimate.setSnowDayRecordYear(new int[] {
+                getShort(norms, day, SNOW_DAY_MAX_YR1),
+                getShort(norms, day, SNOW_DAY_MAX_YR1 + 1),
+                getShort(norms, day, SNOW_DAY_MAX_YR1 + 2) });
+
+        yClimate.setMeanTemp(getFloat(norms, day, MEAN_TEMP));
+        yClimate.setMaxTempMean(getShort(norms, day, MAX_TEMP_MEAN));
+        yClimate.setMinTempMean(getShort(norms, day, MIN_TEMP_MEAN));
+        yClimate.setMaxTempRecord(getShort(norms, day, MAX_TEMP_RECORD));
+        yClimate.setMinTempRecord(getShort(norms, day, MIN_TEMP_RECORD));
+        yClimate.setPrecipMean(getFloat(norms, day, PRECIP_MEAN));
+        yClimate.setPrecipDayRecord(getFloat(norms, day, PRECIP_DAY_MAX));
+        yClimate.setSnowDayMean(getFloat(norms, day, SNOW_MEAN));
+        yClimate.setSnowDayRecord(getFloat(norms, day, SNOW_DAY_MAX));
+        yClimate.setNumHeatMean(getInt(norms, day, HEAT_DAY_MEAN));
+        yClimate.setNumCoolMean(getInt(norms, day, COOL_DAY_MEAN));
+
         return yClimate;
     }
 
@@ -288,167 +275,214 @@ public class ClimateDailyNormDAO extends ClimateDAO {
      */
     public ClimateDayNorm fetchClimateDayRecord(int stationId, String dayOfYear)
             throws ClimateQueryException {
-        ClimateDayNorm climateRcd = ClimateDayNorm.getMissingClimateDayNorm();
-
-        StringBuilder sql = new StringBuilder("SELECT ");
-        sql.append(
-                "mean_temp, max_temp_record, max_temp_mean, min_temp_record, min_temp_mean,");
-        sql.append("max_temp_rec_yr1, max_temp_rec_yr2, max_temp_rec_yr3,");
-        sql.append("min_temp_rec_yr1, min_temp_rec_yr2, min_temp_rec_yr3,");
-        sql.append("precip_mean, precip_day_max,");
-        sql.append(
-                "precip_day_max_yr1, precip_day_max_yr2, precip_day_max_yr3,");
-        sql.append("snow_mean, snow_day_max,");
-        sql.append("snow_day_max_yr1, snow_day_max_yr2, snow_day_max_yr3,");
-        sql.append("snow_ground_mean, heat_day_mean, cool_day_mean");
-        sql.append(" FROM ");
-        sql.append(ClimateDAOValues.DAY_CLIMATE_NORM_TABLE_NAME);
-        sql.append(" WHERE station_id= :stationId");
-        sql.append(" AND day_of_year= :dayOfYear");
+        StationDayNorms norms = getDayNorms(stationId);
+        int day = StationDayNorms.getDayIndex(dayOfYear);
+
+        if (!norms.hasDay(day)) {
+            logger.warn("No normals for station ID: [" + stationId
+                    + "] and day of year: [" + dayOfYear + "]");
+            return ClimateDayNorm.getMissingClimateDayNorm();
+        }
+
+        ClimateDayNorm climateRcd = new ClimateDayNorm();
+        climateRcd.setDataToMissing();
+        climateRcd.setStationId(stationId);
+        climateRcd.setDayOfYear(dayOfYear);
+
+        // any values could be null
+        if (!norms.isNull(day, MEAN_TEMP)) {
+            climateRcd.setMeanTemp(norms.getFloat(day, MEAN_TEMP));
+        }
+        if (!norms.isNull(day, MAX_TEMP_RECORD)) {
+            climateRcd.setMaxTempRecord(norms.getShort(day, MAX_TEMP_RECORD));
+        }
+        if (!norms.isNull(day, MAX_TEMP_MEAN)) {
+            climateRcd.setMaxTempMean(norms.getShort(day, MAX_TEMP_MEAN));
+        }
+        if (!norms.isNull(day, MIN_TEMP_RECORD)) {
+            climateRcd.setMinTempRecord(norms.getShort(day, MIN_TEMP_RECORD));
+        }
+        if (!norms.isNull(day, MIN_TEMP_MEAN)) {
+            climateRcd.setMinTempMean(norms.getShort(day, MIN_TEMP_MEAN));
+        }
+        setYears(climateRcd.getMaxTempYear(), norms, day, MAX_TEMP_REC_YR1);
+        setYears(climateRcd.getMinTempYear(), norms, day, MIN_TEMP_REC_YR1);
+
+        if (!norms.isNull(day, PRECIP_MEAN)) {
+            climateRcd.setPrecipMean(norms.getFloat(day, PRECIP_MEAN));
+        }
+        if (!norms.isNull(day, PRECIP_DAY_MAX)) {
+            climateRcd.setPrecipDayRecord(norms.getFloat(day, PRECIP_DAY_MAX));
+        }
+        setYears(climateRcd.getPrecipDayRecordYear(), norms, day,
+                PRECIP_DAY_MAX_YR1);
+
+        if (!norms.isNull(day, SNOW_MEAN)) {
+            climateRcd.setSnowDayMean(norms.getFloat(day, SNOW_MEAN));
+        }
+        if (!norms.isNull(day, SNOW_DAY_MAX)) {
+            climateRcd.setSnowDayRecord(norms.getFloat(day, SNOW_DAY_MAX));
+        }
+        setYears(climateRcd.getSnowDayRecordYear(), norms, day,
+                SNOW_DAY_MAX_YR1);
+
+        if (!norms.isNull(day, SNOW_GROUND_MEAN)) {
+            climateRcd.setSnowGround(norms.getFloat(day, SNOW_GROUND_MEAN));
+        }
+        if (!norms.isNull(day, HEAT_DAY_MEAN)) {
+            climateRcd.setNumHeatMean(norms.getInt(day, HEAT_DAY_MEAN));
+        }
+        if (!norms.isNull(day, COOL_DAY_MEAN)) {
+            climateRcd.setNumCoolMean(norms.getInt(day, COOL_DAY_MEAN));
+        }
+
+        return climateRcd;
+    }
+
+    /**
+     * @param stationId
+     * @return the station's daily normals, from {@link ClimateNormsCache}.
+     * @throws ClimateQueryException
+     *             on error loading the normals.
+     */
+    private StationDayNorms getDayNorms(int stationId)
+            throws ClimateQueryException {
+        return getDayNorms(Collections.singleton(stationId)).get(stationId);
+    }
+
+    /**
+     * @param stationIds
+     * @return the daily normals of each of the stations, by station ID, from
+     *         {@link ClimateNormsCache}.
+     * @throws ClimateQueryException
+     *             on error loading the normals.
+     */
+    private Map<Integer, StationDayNorms> getDayNorms(
+            Collection<Integer> stationIds) throws ClimateQueryException {
+        return ClimateNormsCache.getInstance().getDayNorms(stationIds,
+                this::loadDayNorms);
+    }
+
+    /**
+     * Load all daily normals of the given stations with a single query.
+     * 
+     * @param stationIds
+     * @return the daily normals of each of the stations, by station ID.
+     *         Stations without normals have empty normals.
+     * @throws ClimateQueryException
+     *             on error getting data.
+     */
+    private Map<Integer, StationDayNorms> loadDayNorms(
+            Collection<Integer> stationIds) throws ClimateQueryException {
+        Map<Integer, StationDayNorms> stationNorms = new HashMap<>();
+        StringBuilder ids = new StringBuilder();
+        for (Integer stationId : stationIds) {
+            stationNorms.put(stationId,
+                    new StationDayNorms(DAY_NORM_COLUMNS.length));
+            if (ids.length() > 0) {
+                ids.append(", ");
+            }
+            ids.append(stationId.intValue());
+        }
+        if (stationNorms.isEmpty()) {
+            return stationNorms;
+        }
+
+        StringBuilder query = new StringBuilder(
+                "SELECT station_id, day_of_year, ");
+        query.append(String.join(", ", DAY_NORM_COLUMNS));
+        query.append(" FROM ");
+        query.append(ClimateDAOValues.DAY_CLIMATE_NORM_TABLE_NAME);
+        query.append(" WHERE station_id IN (").append(ids).append(")");
 
         Map<String, Object> paramMap = new HashMap<>();
-        paramMap.put("stationId", stationId);
-        paramMap.put("dayOfYear", dayOfYear);
 
+        Object[] results;
         try {
-            Object[] results = getDao().executeSQLQuery(sql.toString(),
-                    paramMap);
-            if (results != null && results.length >= 1) {
-                Object result = results[0];
-                if (result instanceof Object[]) {
-                    Object[] rowData = (Object[]) result; // expect one only
-                    try {
-                        climateRcd = new ClimateDayNorm();
-                        climateRcd.setDataToMissing();
-                        climateRcd.setStationId(stationId);
-                        climateRcd.setDayOfYear(dayOfYear);
-
-                        // any values could be null
-                        if (rowData[0] != null) {
-                            climateRcd.setMeanTemp(
-                                    ((Number) rowData[0]).floatValue());
-                        }
-                        if (rowData[1] != null) {
-                            climateRcd.setMaxTempRecord(
-                                    ((Number) rowData[1]).shortValue());
-                        }
-                        if (rowData[2] != null) {
-                            climateRcd.setMaxTempMean(
-                                    ((Number) rowData[2]).shortValue());
-                        }
-                        if (rowData[3] != null) {
-                            climateRcd.setMinTempRecord(
-                                    ((Number) rowData[3]).shortValue());
-                        }
-                        if (rowData[4] != null) {
-                            climateRcd.setMinTempMean(
-                                    ((Number) rowData[4]).shortValue());
-                        }
-
-                        short[] maxTempYear = climateRcd.getMaxTempYear();
-                        if (rowData[5] != null) {
-                            maxTempYear[0] = ((Number) rowData[5]).shortValue();
-                        }
-                        if (rowData[6] != null) {
-                            maxTempYear[1] = ((Number) rowData[6]).shortValue();
-                        }
-                        if (rowData[7] != null) {
-                            maxTempYear[2] = ((Number) rowData[7]).shortValue();
-                        }
-
-                        short[] minTempYear = climateRcd.getMinTempYear();
-                        if (rowData[8] != null) {
-                            minTempYear[0] = ((Number) rowData[8]).shortValue();
-                        }
-                        if (rowData[9] != null) {
-                            minTempYear[1] = ((Number) rowData[9]).shortValue();
-                        }
-                        if (rowData[10] != null) {
-                            minTempYear[2] = ((Number) rowData[10])
-                                    .shortValue();
-                        }
-
-                        if (rowData[11] != null) {
-                            climateRcd.setPrecipMean(
-                                    ((Number) rowData[11]).floatValue());
-                        }
-                        if (rowData[12] != null) {
-                            climateRcd.setPrecipDayRecord(
-                                    ((Number) rowData[12]).floatValue());
-                        }
-
-                        short[] precipDayRecordYear = climateRcd
-                                .getPrecipDayRecordYear();
-                        if (rowData[13] != null) {
-                            precipDayRecordYear[0] = ((Number) rowData[13])
-                                    .shortValue();
-                        }
-                        if (rowData[14] != null) {
-                            precipDayRecordYear[1] = ((Number) rowData[14])
-                                    .shortValue();
-                        }
-                        if (rowData[15] != null) {
-                            precipDayRecordYear[2] = ((Number) rowData[15])
-                                    .shortValue();
-                        }
-
-                        if (rowData[16] != null) {
-                            climateRcd.setSnowDayMean(
-                                    ((Number) rowData[16]).floatValue());
-                        }
-                        if (rowData[17] != null) {
-                            climateRcd.setSnowDayRecord(
-                                    ((Number) rowData[17]).floatValue());
-                        }
-
-                        short[] snowDayRecordYear = climateRcd
-                                .getSnowDayRecordYear();
-                        if (rowData[18] != null) {
-                            snowDayRecordYear[0] = ((Number) rowData[18])
-                                    .shortValue();
-                        }
-                        if (rowData[19] != null) {
-                            snowDayRecordYear[1] = ((Number) rowData[19])
-                                    .shortValue();
-                        }
-                        if (rowData[20] != null) {
-                            snowDayRecordYear[2] = ((Number) rowData[20])
-                                    .shortValue();
-                        }
-
-                        if (rowData[21] != null) {
-                            climateRcd.setSnowGround(
-                                    ((Number) rowData[21]).floatValue());
-                        }
-                        if (rowData[22] != null) {
-                            climateRcd.setNumHeatMean(
-                                    ((Number) rowData[22]).intValue());
-                        }
-                        if (rowData[23] != null) {
-                            climateRcd.setNumCoolMean(
-                                    ((Number) rowData[23]).intValue());
-                        }
-                    } catch (Exception e) {
-                        throw new ClimateQueryException(
-                                "Unexpected return column type from query: ["
-                                        + sql + "] and map: [" + paramMap + "]",
-                                e);
-                    }
-                } else {
+            results = getDao().executeSQLQuery(query.toString(), paramMap);
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Error querying the climate database with: [" + query
+                            + "] and map: [" + paramMap + "]",
+                    e);
+        }
+
+        if (results != null) {
+            for (Object result : results) {
+                if (!(result instanceof Object[])) {
                     throw new ClimateQueryException(
                             "Unexpected return type from query, expected Object[], got "
-                                    + result.getClass().getName());
+                                    + (result == null ? null
+                                            : result.getClass().getName()));
+                }
+                try {
+                    Object[] oa = (Object[]) result;
+                    StationDayNorms norms = stationNorms
+                            .get(((Number) oa[0]).intValue());
+                    if (norms != null) {
+                        norms.setRow((String) oa[1], oa, 2);
+                    }
+                } catch (Exception e) {
+                    // if casting failed
+                    throw new ClimateQueryException(
+                            "Unexpected return column type from query: ["
+                                    + query + "] and map: [" + paramMap + "]",
+                            e);
                 }
-            } else {
-                logger.warn("Empty or null normals result from query: [" + sql
-                        + "] and map: [" + paramMap + "]");
             }
-        } catch (Exception e) {
-            throw new ClimateQueryException("Error querying with: [" + sql
-                    + "] and map: [" + paramMap + "]", e);
         }
+        return stationNorms;
+    }
 
-        return climateRcd;
+    /**
+     * @param norms
+     * @param day
+     * @param column
+     * @return the value, or missing if null.
+     */
+    private static float getFloat(StationDayNorms norms, int day, int column) {
+        return norms.isNull(day, column) ? ParameterFormatClimate.MISSING
+                : norms.getFloat(day, column);
+    }
+
+    /**
+     * @param norms
+     * @param day
+     * @param column
+     * @return the value, or missing if null.
+     */
+    private static short getShort(StationDayNorms norms, int day, int column) {
+        return norms.isNull(day, column) ? ParameterFormatClimate.MISSING
+                : norms.getShort(day, column);
+    }
+
+    /**
+     * @param norms
+     * @param day
+     * @param column
+     * @return the value, or missing if null.
+     */
+    private static int getInt(StationDayNorms norms, int day, int column) {
+        return norms.isNull(day, column) ? ParameterFormatClimate.MISSING
+                : norms.getInt(day, column);
+    }
+
+    /**
+     * Set the three record years from consecutive columns, leaving years
+     * whose value is null.
+     * 
+     * @param years
+     * @param norms
+     * @param day
+     * @param firstColumn
+     */
+    private static void setYears(short[] years, StationDayNorms norms, int day,
+            int firstColumn) {
+        for (int i = 0; i < 3; i++) {
+            if (!norms.isNull(day, firstColumn + i)) {
+                years[i] = norms.getShort(day, firstColumn + i);
+            }
+        }
     }
 
     /**
@@ -520,7 +554,7 @@ public class ClimateDailyNormDAO extends ClimateDAO {
 
         int numRow = 0;
         try {
-            numRow = getDao().executeSQLUpdate(sql.toString(), paramMap);
+            numRow = executeNormsUpdate(sql.toString(), paramMap);
         } catch (Exception e) {
             throw new ClimateQueryException(
                     "Failed to delete record station ID=" + stationId
@@ -613,7 +647,7 @@ public class ClimateDailyNormDAO extends ClimateDAO {
         sql.append(")");
 
         try {
-            int numRow = getDao().executeSQLUpdate(sql.toString(), paramMap);
+            int numRow = executeNormsUpdate(sql.toString(), paramMap);
             isInserted = (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException(
@@ -703,7 +737,7 @@ public class ClimateDailyNormDAO extends ClimateDAO {
         paramMap.put("day_of_year", record.getDayOfYear());
 
         try {
-            int numRow = getDao().executeSQLUpdate(sql.toString(), paramMap);
+            int numRow = executeNormsUpdate(sql.toString(), paramMap);
             isUpdated = (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException(
@@ -871,7 +905,7 @@ public class ClimateDailyNormDAO extends ClimateDAO {
         paramMap.put("dayOfYear", record.getDayOfYear());
 
         try {
-            int numRow = getDao().executeSQLUpdate(sql.toString(), paramMap);
+            int numRow = executeNormsUpdate(sql.toString(), paramMap);
             return (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException(
@@ -883,6 +917,93 @@ public class ClimateDailyNormDAO extends ClimateDAO {
         }
     }
 
+    /**
+     * Import daily norms: insert each record whose row does not exist, else
+     * update only the columns with non-missing values, as
+     * {@link #updateClimateDayNormNoMissing(ClimateDayNorm)} does. All records
+     * are written in one transaction, with a few set-based statements.
+     * 
+     * @param records
+     *            records to import, merged in order if a station and day
+     *            appears more than once.
+     * @param errors
+     *            list to add a message to for each record that is invalid and
+     *            so not imported.
+     * @return the number of records imported.
+     * @throws ClimateQueryException
+     *             if the import failed, in which case no records were
+     *             imported.
+     */
+    public int importClimateDayNormsNoMissing(List<ClimateDayNorm> records,
+            List<String> errors) throws ClimateQueryException {
+        String[] missingValues = new String[DAY_NORM_COLUMNS.length];
+        Arrays.fill(missingValues,
+                String.valueOf(ParameterFormatClimate.MISSING));
+        String missingPrecip = String
+                .valueOf(ParameterFormatClimate.MISSING_PRECIP);
+        String missingSnow = String
+                .valueOf(ParameterFormatClimate.MISSING_SNOW);
+        missingValues[PRECIP_MEAN] = missingPrecip;
+        missingValues[PRECIP_DAY_MAX] = missingPrecip;
+        missingValues[SNOW_MEAN] = missingSnow;
+        missingValues[SNOW_DAY_MAX] = missingSnow;
+        missingValues[SNOW_GROUND_MEAN] = missingSnow;
+
+        MultiRowInsertBatch batch = new MultiRowInsertBatch(
+                ClimateDAOValues.DAY_CLIMATE_NORM_TABLE_NAME, "n",
+                DAY_NORM_KEY_COLUMNS, DAY_NORM_COLUMNS);
+        batch.setNoMissingMerge(missingValues);
+
+        for (ClimateDayNorm record : records) {
+            if (StationDayNorms.getDayIndex(record.getDayOfYear()) < 0) {
+                errors.add("Invalid day_of_year=" + record.getDayOfYear()
+                        + " for record with station ID="
+                        + record.getStationId());
+                continue;
+            }
+
+            Object[] values = new Object[DAY_NORM_COLUMNS.length];
+            values[MEAN_TEMP] = record.getMeanTemp();
+            values[MAX_TEMP_MEAN] = record.getMaxTempMean();
+            values[MIN_TEMP_MEAN] = record.getMinTempMean();
+            values[MAX_TEMP_RECORD] = record.getMaxTempRecord();
+            values[MIN_TEMP_RECORD] = record.getMinTempRecord();
+            values[PRECIP_MEAN] = record.getPrecipMean();
+            values[PRECIP_DAY_MAX] = record.getPrecipDayRecord();
+            values[SNOW_MEAN] = record.getSnowDayMean();
+            values[SNOW_DAY_MAX] = record.getSnowDayRecord();
+            values[SNOW_GROUND_MEAN] = record.getSnowGround();
+            values[HEAT_DAY_MEAN] = record.getNumHeatMean();
+            values[COOL_DAY_MEAN] = record.getNumCoolMean();
+            for (int i = 0; i < 3; i++) {
+                values[MAX_TEMP_REC_YR1 + i] = record.getMaxTempYear()[i];
+                values[MIN_TEMP_REC_YR1 + i] = record.getMinTempYear()[i];
+                values[PRECIP_DAY_MAX_YR1 + i] = record
+                        .getPrecipDayRecordYear()[i];
+                values[SNOW_DAY_MAX_YR1 + i] = record
+                        .getSnowDayRecordYear()[i];
+            }
+
+            batch.add(new Object[] { (int) record.getStationId(),
+                    record.getDayOfYear() }, values);
+        }
+
+        if (batch.size() == 0) {
+            return 0;
+        }
+
+        Map<String, Object> paramMap = new HashMap<>();
+        String sql = batch.toSQL(paramMap);
+        try {
+            executeNormsUpdate(sql, paramMap);
+        } catch (Exception e) {
+            throw new ClimateQueryException("Failed to import "
+                    + batch.size() + " records into table "
+                    + ClimateDAOValues.DAY_CLIMATE_NORM_TABLE_NAME, e);
+        }
+        return batch.size();
+    }
+
     /**
      * Migrated from check_daily_records.ec
      * 
@@ -0,0 +1,395 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+
+/**
+ * Read-through cache of the climate normals and records tables
+ * (day_climate_norm and mon_climate_norm), which change only through the
+ * init-climate dialogs.
+ *
+ * Each station's daily normals are loaded with a single query into
+ * {@link StationDayNorms}, indexed by day of year, and serve the daily norm
+ * lookups. Results of the period norm queries are kept by query and parameters,
+ * least recently used first out, up to {@value #MAX_QUERIES_PROPERTY} results
+ * (default {@value #DEFAULT_MAX_QUERIES}).
+ *
+ * The norm DAOs invalidate the cache on every insert, update or delete. As a
+ * safety net for changes made outside this JVM, entries older than
+ * {@value #MAX_AGE_PROPERTY} minutes (default {@value #DEFAULT_MAX_AGE_MINUTES}
+ * ) are reloaded. A maximum age of 0 disables caching.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+final class ClimateNormsCache {
+
+    /**
+     * System property for the minutes after which cached norms are reloaded.
+     */
+    static final String MAX_AGE_PROPERTY = "climate.norms.cache.maxAgeMinutes";
+
+    /**
+     * System property for the maximum number of cached query results.
+     */
+    static final String MAX_QUERIES_PROPERTY = "climate.norms.cache.maxQueries";
+
+    /**
+     * Default minutes after which cached norms are reloaded.
+     */
+    static final long DEFAULT_MAX_AGE_MINUTES = 60;
+
+    /**
+     * Default maximum number of cached query results.
+     */
+    static final int DEFAULT_MAX_QUERIES = 5000;
+
+    private static final ClimateNormsCache instance = new ClimateNormsCache();
+
+    /**
+     * Loads the daily normals of stations.
+     */
+    interface DayNormsLoader {
+        /**
+         * @param stationIds
+         * @return the daily normals of each of the stations, by station ID.
+         * @throws ClimateQueryException
+         */
+        Map<Integer, StationDayNorms> load(Collection<Integer> stationIds)
+                throws ClimateQueryException;
+    }
+
+    /**
+     * Daily normals of one station, one row per day of year, held column by
+     * column in a primitive array. Null column values are stored as NaN.
+     */
+    static final class StationDayNorms {
+
+        /**
+         * Row slots, 31 per month so that a month-day string maps directly to
+         * a slot.
+         */
+        private static final int DAY_SLOTS = 12 * 31;
+
+        private final int columns;
+
+        private final float[] values;
+
+        private final boolean[] present = new boolean[DAY_SLOTS];
+
+        private final long loadTime = System.currentTimeMillis();
+
+        /**
+         * @param columns
+         *            number of columns per day.
+         */
+        StationDayNorms(int columns) {
+            this.columns = columns;
+            values = new float[DAY_SLOTS * columns];
+        }
+
+        /**
+         * @param dayOfYear
+         *            day of year in the format "MM-dd".
+         * @return the row slot for the day, or -1 if not a valid day.
+         */
+        static int getDayIndex(String dayOfYear) {
+            if (dayOfYear == null || dayOfYear.length() != 5
+                    || dayOfYear.charAt(2) != '-') {
+                return -1;
+            }
+            int month = getTwoDigits(dayOfYear, 0);
+            int day = getTwoDigits(dayOfYear, 3);
+            if (month < 1 || month > 12 || day < 1 || day > 31) {
+                return -1;
+            }
+            return (month - 1) * 31 + day - 1;
+        }
+
+        private static int getTwoDigits(String s, int start) {
+            char tens = s.charAt(start);
+            char ones = s.charAt(start + 1);
+            if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+                return -1;
+            }
+            return (tens - '0') * 10 + ones - '0';
+        }
+
+        /**
+         * Store one queried row.
+         *
+         * @param dayOfYear
+         *            day of year in the format "MM-dd".
+         * @param row
+         *            query result row.
+         * @param firstColumn
+         *            index in the row of the first normals column.
+         */
+        void setRow(String dayOfYear, Object[] row, int firstColumn) {
+            int dayIndex = getDayIndex(dayOfYear);
+            if (dayIndex < 0) {
+                return;
+            }
+            present[dayIndex] = true;
+            for (int i = 0; i < columns; i++) {
+                Object value = row[firstColumn + i];
+                values[dayIndex * columns + i] = value == null ? Float.NaN
+                        : ((Number) value).floatValue();
+            }
+        }
+
+        /**
+         * @param dayIndex
+         * @return true if the station has a row for the day.
+         */
+        boolean hasDay(int dayIndex) {
+            return dayIndex >= 0 && present[dayIndex];
+        }
+
+        /**
+         * @param dayIndex
+         * @param column
+         * @return true if the column value was null.
+         */
+        boolean isNull(int dayIndex, int column) {
+            return Float.isNaN(values[dayIndex * columns + column]);
+        }
+
+        /**
+         * @param dayIndex
+         * @param column
+         * @return column value, as {@link Number#floatValue()}.
+         */
+        float getFloat(int dayIndex, int column) {
+            return values[dayIndex * columns + column];
+        }
+
+        /**
+         * @param dayIndex
+         * @param column
+         * @return column value, as {@link Number#shortValue()}.
+         */
+        short getShort(int dayIndex, int column) {
+            return (short) getInt(dayIndex, column);
+        }
+
+        /**
+         * @param dayIndex
+         * @param column
+         * @return column value, as {@link Number#intValue()}.
+         */
+        int getInt(int dayIndex, int column) {
+            return (int) values[dayIndex * columns + column];
+        }
+    }
+
+    /**
+     * Key of a cached query result.
+     */
+    private static final class QueryKey {
+        private final String query;
+
+        private final Map<String, Object> params;
+
+        private QueryKey(String query, Map<String, Object> params) {
+            this.query = query;
+            this.params = params == null ? new HashMap<String, Object>()
+                    : new HashMap<>(params);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * query.hashCode() + params.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof QueryKey)) {
+                return false;
+            }
+            QueryKey other = (QueryKey) obj;
+            return query.equals(other.query) && params.equals(other.params);
+        }
+    }
+
+    /**
+     * A cached query result.
+     */
+    private static final class QueryResult {
+        private final Object[] results;
+
+        private final long loadTime = System.currentTimeMillis();
+
+        private QueryResult(Object[] results) {
+            this.results = results;
+        }
+    }
+
+    /**
+     * Daily normals by station ID.
+     */
+    private final Map<Integer, StationDayNorms> dayNorms = new HashMap<>();
+
+    /**
+     * Query results, least recently used first.
+     */
+    private final LinkedHashMap<QueryKey, QueryResult> queryResults = new LinkedHashMap<>(
+            256, 0.75f, true);
+
+    /**
+     * Incremented on every invalidation, so that data loaded while the tables
+     * were being changed is not cached.
+     */
+    private long generation;
+
+    private final long maxAgeMillis;
+
+    private final int maxQueries;
+
+    /**
+     * Constructor.
+     */
+    private ClimateNormsCache() {
+        maxAgeMillis = Math.max(0, Long.getLong(MAX_AGE_PROPERTY,
+                DEFAULT_MAX_AGE_MINUTES)) * 60 * 1000;
+        maxQueries = Math.max(0,
+                Integer.getInteger(MAX_QUERIES_PROPERTY, DEFAULT_MAX_QUERIES));
+    }
+
+    /**
+     * @return the cache instance.
+     */
+    static ClimateNormsCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the daily normals of stations, loading those not cached together.
+     *
+     * @param stationIds
+     * @param loader
+     *            loads the normals of the stations that are not cached.
+     * @return the daily normals of each of the stations, by station ID.
+     * @throws ClimateQueryException
+     *             on error loading the normals.
+     */
+    Map<Integer, StationDayNorms> getDayNorms(Collection<Integer> stationIds,
+            DayNormsLoader loader) throws ClimateQueryException {
+        Map<Integer, StationDayNorms> stationNorms = new HashMap<>();
+        List<Integer> uncached = new ArrayList<>();
+        long loadGeneration;
+        synchronized (this) {
+            for (Integer stationId : stationIds) {
+                StationDayNorms norms = dayNorms.get(stationId);
+                if (norms != null && !isExpired(norms.loadTime)) {
+                    stationNorms.put(stationId, norms);
+                } else {
+                    dayNorms.remove(stationId);
+                    uncached.add(stationId);
+                }
+            }
+            loadGeneration = generation;
+        }
+
+        if (!uncached.isEmpty()) {
+            Map<Integer, StationDayNorms> loaded = loader.load(uncached);
+            stationNorms.putAll(loaded);
+
+            synchronized (this) {
+                if (maxAgeMillis > 0 && loadGeneration == generation) {
+                    dayNorms.putAll(loaded);
+                }
+            }
+        }
+        return stationNorms;
+    }
+
+    /**
+     * @param query
+     * @param params
+     * @return the cached results of the query, or null if not cached.
+     */
+    synchronized Object[] getQueryResults(String query,
+            Map<String, Object> params) {
+        QueryKey key = new QueryKey(query, params);
+        QueryResult result = queryResults.get(key);
+        if (result == null) {
+            return null;
+        }
+        if (isExpired(result.loadTime)) {
+            queryResults.remove(key);
+            return null;
+        }
+        return result.results.clone();
+    }
+
+    /**
+     * @return the current generation, to be passed to
+     *         {@link #putQueryResults} for results queried after this call.
+     */
+    synchronized long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Cache the results of a query, unless the norms were invalidated since
+     * the query was run.
+     *
+     * @param query
+     * @param params
+     * @param results
+     * @param queryGeneration
+     *            generation from before the query was run.
+     */
+    synchronized void putQueryResults(String query, Map<String, Object> params,
+            Object[] results, long queryGeneration) {
+        if (results == null || maxAgeMillis == 0 || maxQueries == 0
+                || queryGeneration != generation) {
+            return;
+        }
+        queryResults.put(new QueryKey(query, params),
+                new QueryResult(results.clone()));
+        Iterator<QueryResult> iter = queryResults.values().iterator();
+        while (queryResults.size() > maxQueries && iter.hasNext()) {
+            iter.next();
+            iter.remove();
+        }
+    }
+
+    /**
+     * Drop all cached norms, after a normals table was changed. Query results
+     * are not tracked by station, and the tables change rarely, so there is no
+     * finer grained invalidation.
+     */
+    synchronized void invalidateAll() {
+        generation++;
+        dayNorms.clear();
+        queryResults.clear();
+    }
+
+    /**
+     * @param loadTime
+     * @return true if data loaded at the time should be reloaded.
+     */
+    private boolean isExpired(long loadTime) {
+        return System.currentTimeMillis() - loadTime >= maxAgeMillis;
+    }
+}
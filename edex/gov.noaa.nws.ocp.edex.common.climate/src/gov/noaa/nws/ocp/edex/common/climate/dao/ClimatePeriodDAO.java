@@ -24,7 +24,6 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodDataMethod;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
 import gov.noaa.nws.ocp.common.dataplugin.climate.QueryData;
-import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateInvalidParameterException;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateSessionException;
@@ -32,6 +31,7 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClima
 import gov.noaa.nws.ocp.common.dataplugin.climate.report.ClimatePeriodReportData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
 import gov.noaa.nws.ocp.common.dataplugin.climate.util.QCValues;
+import gov.noaa.nws.ocp.edex.common.climate.dataaccess.ClimateDataAccessConfiguration;
 
 /**
  * Implementations converted from SUBROUTINES under
@@ -152,6 +152,12 @@ public class ClimatePeriodDAO extends ClimateDAO {
             ClimateDate endDate, PeriodData periodData,
             ClimateGlobal globalValues, PeriodType itype, boolean monthly)
             throws ClimateQueryException, ClimateInvalidParameterException {
+        if (monthly
+                && ClimateDataAccessConfiguration.isPeriodSinglePassEnabled()) {
+            return buildMonthlyPeriodObsClimo(beginDate, endDate, periodData,
+                    globalValues, itype);
+        }
+
         // interval of days (add 1 to account for first day)
         int numDays = (int) TimeUnit.DAYS
                 .convert(
@@ -167,12 +173,10 @@ public class ClimatePeriodDAO extends ClimateDAO {
         // daily_climate table should be queried for CLM.
         PeriodType currentType = monthly ? PeriodType.OTHER : itype;
 
-        String icaoId = new String();
-        for (Station station : new ClimateStationsSetupDAO()
-                .getMasterStations()) {
-            if (station.getInformId() == stationID) {
-                icaoId = station.getIcaoId();
-            }
+        String icaoId = new ClimateStationsSetupDAO().getStationIndex()
+                .getIcaoId(stationID);
+        if (icaoId == null) {
+            icaoId = "";
         }
 
         // temperature section
@@ -443,37 +447,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
          * snow since July 1 - need to find out which month it is and then
          * decrease the year by 1 if necessary
          */
-        ClimateDate july1Date = new ClimateDate(1, 7, beginDate.getYear());
-        switch (itype) {
-        case OTHER:
-        case MONTHLY_NWWS:
-        case MONTHLY_RAD:
-            // monthly, or other, and begin month is before July, decrease
-            // year
-            // by 1
-            if (beginDate.getMon() < 7) {
-                july1Date.setYear(july1Date.getYear() - 1);
-            }
-            break;
-        case SEASONAL_NWWS:
-        case SEASONAL_RAD:
-            // seasonal and begin month is before June and end month is
-            // before July
-            if ((beginDate.getMon() < 6) && (endDate.getMon() < 7)) {
-                july1Date.setYear(july1Date.getYear() - 1);
-            }
-            break;
-        case ANNUAL_NWWS:
-        case ANNUAL_RAD:
-            // annual, and end month is before July
-            if (endDate.getMon() < 7) {
-                july1Date.setYear(july1Date.getYear() - 1);
-            }
-            break;
-        default:
-            throw new ClimateInvalidParameterException(
-                    "Unhandled period type [" + itype + "]");
-        }
+        ClimateDate july1Date = getJuly1Date(beginDate, endDate, itype);
 
         // Snow values should remain missing if the station doesn't report snow.
         if (globalValues.getSnowReportingStations().contains(icaoId)) {
@@ -634,35 +608,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
                 stationID, currentType));
 
         // sum January 1st cooling degrees
-        ClimateDate jan1Date = ClimateDate.getMissingClimateDate();
-        switch (itype) {
-        case OTHER:
-        case MONTHLY_NWWS:
-        case MONTHLY_RAD:
-            // monthly, or other; use the begin date year
-            jan1Date = new ClimateDate(1, 1, beginDate.getYear());
-            break;
-        case SEASONAL_NWWS:
-        case SEASONAL_RAD:
-            // seasonal, use end date year
-            jan1Date = new ClimateDate(1, 1, endDate.getYear());
-            break;
-        case ANNUAL_NWWS:
-        case ANNUAL_RAD:
-            // annual
-            if (beginDate.getMon() > endDate.getMon()) {
-                // begin date is later month than end date, use end date year
-                jan1Date = new ClimateDate(1, 1, endDate.getYear());
-            } else {
-                // begin date is same or earlier month than end date, use begin
-                // date year
-                jan1Date = new ClimateDate(1, 1, beginDate.getYear());
-            }
-            break;
-        default:
-            throw new ClimateInvalidParameterException(
-                    "Unhandled period type [" + itype + "]");
-        }
+        ClimateDate jan1Date = getJan1Date(beginDate, endDate, itype);
 
         periodData.setNumCool1Jan(getSumCoolDegreeDays(jan1Date, endDate,
                 stationID, currentType));
@@ -790,6 +736,443 @@ public class ClimatePeriodDAO extends ClimateDAO {
         return periodData;
     }
 
+    /**
+     * Build monthly period data for the given station from a single fetch of
+     * its daily climate rows, aggregated in memory by
+     * {@link DailyClimatePeriodScan}. Produces the same data as the monthly
+     * path of
+     * {@link #buildPeriodObsClimo(ClimateDate, ClimateDate, PeriodData, ClimateGlobal, PeriodType, boolean)}
+     * , which ran one query per element. Storm dates, max 24-hour snow and the
+     * ASOS 24-hour precip search still use their own queries, as they do not
+     * come from the daily climate table.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param periodData
+     *            data to fill out, which has at least inform ID (station ID)
+     *            filled in.
+     * @param globalValues
+     * @param itype
+     * @return
+     * @throws ClimateQueryException
+     * @throws ClimateInvalidParameterException
+     */
+    private PeriodData buildMonthlyPeriodObsClimo(ClimateDate beginDate,
+            ClimateDate endDate, PeriodData periodData,
+            ClimateGlobal globalValues, PeriodType itype)
+            throws ClimateQueryException, ClimateInvalidParameterException {
+        // interval of days (add 1 to account for first day)
+        int numDays = (int) TimeUnit.DAYS
+                .convert(
+                        endDate.getCalendarFromClimateDate().getTimeInMillis()
+                                - beginDate.getCalendarFromClimateDate()
+                                        .getTimeInMillis(),
+                        TimeUnit.MILLISECONDS)
+                + 1;
+
+        int stationID = periodData.getInformId();
+
+        String icaoId = new ClimateStationsSetupDAO().getStationIndex()
+                .getIcaoId(stationID);
+        if (icaoId == null) {
+            icaoId = "";
+        }
+
+        ClimateDate july1Date = getJuly1Date(beginDate, endDate, itype);
+        ClimateDate jan1Date = getJan1Date(beginDate, endDate, itype);
+
+        // fetch every row needed, from the earliest of the period and season
+        // starts
+        ClimateDate scanBeginDate = beginDate;
+        if (july1Date.before(scanBeginDate)) {
+            scanBeginDate = july1Date;
+        }
+        if (jan1Date.before(scanBeginDate)) {
+            scanBeginDate = jan1Date;
+        }
+
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("stationID", stationID);
+        queryParams.put("beginDate",
+                scanBeginDate.getCalendarFromClimateDate());
+        queryParams.put("endDate", endDate.getCalendarFromClimateDate());
+
+        String query = DailyClimatePeriodScan.getSelectQuery();
+        DailyClimatePeriodScan scan;
+        try {
+            Object[] results = getDao().executeSQLQuery(query, queryParams);
+            scan = new DailyClimatePeriodScan(results);
+        } catch (ClimateQueryException e) {
+            throw new ClimateQueryException("Unexpected results from query ["
+                    + query + "] and map: [" + queryParams + "]", e);
+        } catch (Exception e) {
+            throw new ClimateQueryException("An error was encountered retrieving"
+                    + " daily climate data with query [" + query
+                    + "] and map: [" + queryParams + "]", e);
+        }
+
+        scan.aggregate(beginDate, endDate, july1Date, jan1Date, globalValues);
+
+        // temperature section
+        periodData.setMaxTemp(scan.getMaxMaxTemp());
+
+        /* dates with max temp */
+        if (periodData.getMaxTemp() != ParameterFormatClimate.MISSING) {
+            periodData.setDayMaxTempList(
+                    scan.getMaxTempOccurrences(periodData.getMaxTemp()));
+        }
+
+        periodData.setMaxTempMean(scan.getAvgMaxTemp());
+
+        periodData.setNumMaxGreaterThan90F(scan.getNumMaxGreaterThan90F());
+        periodData.setNumMaxLessThan32F(scan.getNumMaxLessThan32F());
+        periodData.setNumMaxGreaterThanT1F(scan.getNumMaxGreaterThanT1F());
+        periodData.setNumMaxGreaterThanT2F(scan.getNumMaxGreaterThanT2F());
+        periodData.setNumMaxLessThanT3F(scan.getNumMaxLessThanT3F());
+
+        periodData.setMinTemp(scan.getMinMinTemp());
+
+        /* dates with min temp */
+        if (periodData.getMinTemp() != ParameterFormatClimate.MISSING) {
+            periodData.setDayMinTempList(
+                    scan.getMinTempOccurrences(periodData.getMinTemp()));
+        }
+
+        periodData.setMinTempMean(scan.getAvgMinTemp());
+
+        periodData.setNumMinLessThan32F(scan.getNumMinLessThan32F());
+        periodData.setNumMinLessThan0F(scan.getNumMinLessThan0F());
+        periodData.setNumMinGreaterThanT4F(scan.getNumMinGreaterThanT4F());
+        periodData.setNumMinLessThanT5F(scan.getNumMinLessThanT5F());
+        periodData.setNumMinLessThanT6F(scan.getNumMinLessThanT6F());
+
+        if ((periodData
+                .getMaxTempMean() != (float) ParameterFormatClimate.MISSING)
+                && (periodData
+                        .getMinTempMean() != (float) ParameterFormatClimate.MISSING)) {
+            periodData.setMeanTemp(
+                    (periodData.getMaxTempMean() + periodData.getMinTempMean())
+                            / 2);
+        }
+
+        // cumulative precipitation section
+        periodData.setPrecipTotal(scan.getSumTotalPrecip());
+
+        float averagePrecip = scan.getAvgTotalPrecip();
+        if (averagePrecip != ParameterFormatClimate.MISSING_PRECIP) {
+            periodData.setPrecipMeanDay(averagePrecip);
+        } else {
+            periodData.setPrecipMeanDay(ParameterFormatClimate.TRACE);
+        }
+
+        // threshold precipitation
+        periodData.setNumPrcpGreaterThan01(scan.getNumPrcpGreaterThan01());
+        periodData.setNumPrcpGreaterThan10(scan.getNumPrcpGreaterThan10());
+        periodData.setNumPrcpGreaterThan50(scan.getNumPrcpGreaterThan50());
+        periodData.setNumPrcpGreaterThan100(scan.getNumPrcpGreaterThan100());
+        periodData.setNumPrcpGreaterThanP1(scan.getNumPrcpGreaterThanP1());
+        periodData.setNumPrcpGreaterThanP2(scan.getNumPrcpGreaterThanP2());
+
+        // max 24-hr precip from stored daily data first
+        periodData.setPrecipMax24H(scan.getMaxTotalPrecip());
+
+        if (periodData.getPrecipMax24H() == 0) {
+            /* check for trace amounts */
+            int traceReports = scan.getNumTotalPrecipTrace();
+            if ((traceReports == 0)
+                    || (traceReports == ParameterFormatClimate.MISSING)) {
+                // no reports with trace precipitation
+                periodData
+                        .setPrecipMax24H(ParameterFormatClimate.MISSING_PRECIP);
+            } else {
+                // at least one report with trace precipitation
+                periodData.setPrecipMax24H(ParameterFormatClimate.TRACE);
+            }
+        }
+
+        /* dates with max 24H precip */
+        if ((periodData
+                .getPrecipMax24H() != ParameterFormatClimate.MISSING_PRECIP)) {
+            periodData.setPrecip24HDates(scan
+                    .getMaxTotalPrecipOccurrences(periodData.getPrecipMax24H()));
+        }
+
+        // max 24 hour precip using DSM from cli_asos_daily table
+        Calendar searchRange24HoursBeginCal = beginDate
+                .getCalendarFromClimateDate();
+        searchRange24HoursBeginCal.add(Calendar.DATE, -1);
+        int searchRange24HoursNumDays = numDays + 1;
+        if (searchRange24HoursNumDays <= 32) {
+            calculate24HMaxPrecip(periodData, searchRange24HoursNumDays,
+                    getStationCodeByID(stationID),
+                    new ClimateDate(searchRange24HoursBeginCal));
+        }
+
+        // storm total precipitation
+        periodData.setPrecipStormMax(scan.getMaxTotalPrecip());
+
+        if (periodData
+                .getPrecipStormMax() != ParameterFormatClimate.MISSING_PRECIP) {
+            periodData.setPrecipStormList(
+                    getMaxStormPrecipOccurrences(beginDate, endDate, stationID,
+                            periodData.getPrecipStormMax(), PeriodType.OTHER));
+        }
+
+        // Snow values should remain missing if the station doesn't report snow.
+        if (globalValues.getSnowReportingStations().contains(icaoId)) {
+
+            // cumulative snowfall
+            periodData.setSnowTotal(scan.getSumTotalSnow());
+
+            // snow - water equivalent; if snow total is trace, so is water
+            if (ClimateUtilities.floatingEquals(periodData.getSnowTotal(),
+                    ParameterFormatClimate.TRACE)) {
+                periodData.setSnowWater(ParameterFormatClimate.TRACE);
+            } else if (periodData
+                    .getSnowTotal() != ParameterFormatClimate.MISSING_SNOW) {
+                periodData.setSnowWater(periodData.getSnowTotal() / 10);
+            } else {
+                periodData.setSnowWater(ParameterFormatClimate.MISSING_SNOW);
+            }
+
+            periodData.setSnowJuly1(scan.getSumTotalSnowSinceJuly1());
+
+            if (periodData
+                    .getSnowJuly1() != ParameterFormatClimate.MISSING_SNOW) {
+                periodData.setSnowWaterJuly1(periodData.getSnowJuly1() / 10);
+            } else {
+                periodData
+                        .setSnowWaterJuly1(ParameterFormatClimate.MISSING_SNOW);
+            }
+
+            // get days of different snow amounts
+            periodData.setNumSnowGreaterThanTR(scan.getNumSnowGreaterThanTR());
+            periodData.setNumSnowGreaterThan1(scan.getNumSnowGreaterThan1());
+            periodData.setNumSnowGreaterThanS1(scan.getNumSnowGreaterThanS1());
+
+            // 24 hour snow, using total snow column
+            periodData.setSnowMax24H(
+                    getMaxTotalSnow(beginDate, endDate, stationID));
+
+            if (periodData.getSnowMax24H() == 0) {
+                /* check for trace amounts */
+                int traceReports = scan.getNumTotalSnowTrace();
+
+                if (traceReports != 0
+                        && traceReports != ParameterFormatClimate.MISSING) {
+                    periodData.setSnowMax24H(ParameterFormatClimate.TRACE);
+                }
+            }
+            // dates with max 24H snow
+            if ((periodData
+                    .getSnowMax24H() != ParameterFormatClimate.MISSING_SNOW)
+                    && (periodData
+                            .getSnowMax24H() != ParameterFormatClimate.TRACE)
+                    && (periodData.getSnowMax24H() != 0)) {
+                periodData.setSnow24HDates(scan
+                        .getMaxTotalSnowOccurrences(periodData.getSnowMax24H()));
+            }
+
+            // snow storm totals
+            periodData.setSnowMaxStorm(scan.getMaxSnow());
+
+            if (periodData
+                    .getSnowMaxStorm() != ParameterFormatClimate.MISSING_SNOW) {
+                // get start and end dates of max snow storm
+                periodData.setSnowStormList(getMaxSnowStormOccurrences(
+                        beginDate, endDate, stationID,
+                        periodData.getSnowMaxStorm(), PeriodType.OTHER));
+            }
+
+            // snow depth information
+            periodData.setSnowGroundMean(scan.getAvgMeanSnowOnGround());
+
+            periodData.setSnowGroundMax(scan.getMaxSnowGround());
+
+            if ((periodData
+                    .getSnowGroundMax() != ParameterFormatClimate.MISSING_SNOW_VALUE)
+                    && ((periodData.getSnowGroundMax() > 0) || (periodData
+                            .getSnowGroundMax() == ParameterFormatClimate.TRACE))) {
+                periodData.setSnowGroundMaxDateList(scan
+                        .getMaxSnowGroundOccurrences(
+                                periodData.getSnowGroundMax()));
+            }
+        }
+
+        // heating and cooling degree days
+        periodData.setNumHeatTotal(scan.getSumHeatDegreeDays());
+        periodData.setNumHeat1July(scan.getSumHeatDegreeDaysSinceJuly1());
+        periodData.setNumCoolTotal(scan.getSumCoolDegreeDays());
+        periodData.setNumCool1Jan(scan.getSumCoolDegreeDaysSinceJan1());
+
+        // maximum wind
+        float maxWindSpeed = scan.getMaxWindSpeed();
+        if (maxWindSpeed != ParameterFormatClimate.MISSING_SPEED) {
+            int missingDirs = scan.getMaxWindSpeedOccurrencesAndDir(
+                    maxWindSpeed, periodData.getMaxWindDayList(),
+                    periodData.getMaxWindList());
+            if (missingDirs > 0) {
+                logger.warn("Could not find expected non-missing direction for ["
+                        + missingDirs + "] max wind date(s) between ["
+                        + beginDate.toFullDateString() + "] and ["
+                        + endDate.toFullDateString() + "], station ID ["
+                        + stationID + "]. Using missing value.");
+            }
+        }
+
+        // maximum gust
+        float maxGustSpeed = scan.getMaxGustSpeed();
+        if (maxGustSpeed != ParameterFormatClimate.MISSING_SPEED) {
+            int missingDirs = scan.getMaxGustSpeedOccurrencesAndDir(
+                    maxGustSpeed, periodData.getMaxGustDayList(),
+                    periodData.getMaxGustList());
+            if (missingDirs > 0) {
+                logger.warn("Could not find expected non-missing direction for ["
+                        + missingDirs + "] max gust date(s) between ["
+                        + beginDate.toFullDateString() + "] and ["
+                        + endDate.toFullDateString() + "], station ID ["
+                        + stationID + "]. Using missing value.");
+            }
+        }
+
+        // sun and sky cover
+        periodData.setPossSun(scan.getAvgPossSun());
+        periodData.setMeanSkyCover(scan.getAvgMeanSkyCover());
+        periodData.setNumMostlyCloudyDays(scan.getNumMostlyCloudy());
+        periodData.setNumPartlyCloudyDays(scan.getNumPartlyCloudy());
+        periodData.setNumFairDays(scan.getNumFair());
+
+        // summing weather elements
+        periodData.setNumThunderStorms(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_1));
+        periodData.setNumMixedPrecip(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_2));
+        periodData.setNumHeavyRain(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_3));
+        periodData.setNumRain(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_4));
+        periodData.setNumLightRain(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_5));
+        periodData.setNumFreezingRain(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_6));
+        periodData.setNumLightFreezingRain(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_7));
+        periodData.setNumHail(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_8));
+        periodData.setNumHeavySnow(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_9));
+        periodData.setNumSnow(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_10));
+        periodData.setNumLightSnow(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_11));
+        periodData.setNumIcePellets(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_12));
+        periodData.setNumFog(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_13));
+        periodData.setNumFogQuarterSM(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_14));
+        periodData.setNumHaze(
+                scan.getSumWeather(DailyClimatePeriodScan.Column.WX_15));
+
+        // average humidity and wind speed
+        periodData.setMeanRh(scan.getAvgMeanRh());
+        periodData.setAvgWindSpd(scan.getAvgWindSpeed());
+
+        return periodData;
+    }
+
+    /**
+     * Get the July 1 start of the snow and heating season for the period.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param itype
+     * @return July 1 date.
+     * @throws ClimateInvalidParameterException
+     */
+    private static ClimateDate getJuly1Date(ClimateDate beginDate,
+            ClimateDate endDate, PeriodType itype)
+            throws ClimateInvalidParameterException {
+        ClimateDate july1Date = new ClimateDate(1, 7, beginDate.getYear());
+        switch (itype) {
+        case OTHER:
+        case MONTHLY_NWWS:
+        case MONTHLY_RAD:
+            // monthly, or other, and begin month is before July, decrease
+            // year
+            // by 1
+            if (beginDate.getMon() < 7) {
+                july1Date.setYear(july1Date.getYear() - 1);
+            }
+            break;
+        case SEASONAL_NWWS:
+        case SEASONAL_RAD:
+            // seasonal and begin month is before June and end month is
+            // before July
+            if ((beginDate.getMon() < 6) && (endDate.getMon() < 7)) {
+                july1Date.setYear(july1Date.getYear() - 1);
+            }
+            break;
+        case ANNUAL_NWWS:
+        case ANNUAL_RAD:
+            // annual, and end month is before July
+            if (endDate.getMon() < 7) {
+                july1Date.setYear(july1Date.getYear() - 1);
+            }
+            break;
+        default:
+            throw new ClimateInvalidParameterException(
+                    "Unhandled period type [" + itype + "]");
+        }
+
+        return july1Date;
+    }
+
+    /**
+     * Get the January 1 start of the cooling season for the period.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param itype
+     * @return January 1 date.
+     * @throws ClimateInvalidParameterException
+     */
+    private static ClimateDate getJan1Date(ClimateDate beginDate,
+            ClimateDate endDate, PeriodType itype)
+            throws ClimateInvalidParameterException {
+        ClimateDate jan1Date = ClimateDate.getMissingClimateDate();
+        switch (itype) {
+        case OTHER:
+        case MONTHLY_NWWS:
+        case MONTHLY_RAD:
+            // monthly, or other; use the begin date year
+            jan1Date = new ClimateDate(1, 1, beginDate.getYear());
+            break;
+        case SEASONAL_NWWS:
+        case SEASONAL_RAD:
+            // seasonal, use end date year
+            jan1Date = new ClimateDate(1, 1, endDate.getYear());
+            break;
+        case ANNUAL_NWWS:
+        case ANNUAL_RAD:
+            // annual
+            if (beginDate.getMon() > endDate.getMon()) {
+                // begin date is later month than end date, use end date year
+                jan1Date = new ClimateDate(1, 1, endDate.getYear());
+            } else {
+                // begin date is same or earlier month than end date, use begin
+                // date year
+                jan1Date = new ClimateDate(1, 1, beginDate.getYear());
+            }
+            break;
+        default:
+            throw new ClimateInvalidParameterException(
+                    "Unhandled period type [" + itype + "]");
+        }
+
+        return jan1Date;
+    }
+
     /**
      * Overload - Station id and ClimateDates parameters
      * 
@@ -178,8 +178,8 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_month", ecMonth);
                 keyParamMap.put("ec_period_type", periodType.getValue());
 
-                Object[] results = getDao()
-                        .executeSQLQuery(fullQuery.toString(), keyParamMap);
+                Object[] results = executeNormsQuery(
+                        fullQuery.toString(), keyParamMap);
                 if ((results != null) && (results.length >= 1)) {
                     Object result = results[0];
                     if (result instanceof Object[]) {
@@ -560,7 +560,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_missing_int",
                         ParameterFormatClimate.MISSING);
 
-                short maxTempRecord = ((Number) queryForOneValue(
+                short maxTempRecord = ((Number) queryNormsForOneValue(
                         maxTempQuery.toString(), keyParamMap,
                         ParameterFormatClimate.MISSING)).shortValue();
                 periodClimo.setMaxTempRecord(maxTempRecord);
@@ -603,7 +603,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_missing_int",
                         ParameterFormatClimate.MISSING);
 
-                short minTempRecord = ((Number) queryForOneValue(
+                short minTempRecord = ((Number) queryNormsForOneValue(
                         minTempQuery.toString(), keyParamMap,
                         ParameterFormatClimate.MISSING)).shortValue();
                 periodClimo.setMinTempRecord(minTempRecord);
@@ -925,7 +925,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.clear();
                 keyParamMap.put("station_id", stationId);
                 keyParamMap.put("month_of_year", i);
-                Object[] results = getDao().executeSQLQuery(ecSelect.toString(),
+                Object[] results = executeNormsQuery(ecSelect.toString(),
                         keyParamMap);
                 if ((results != null) && (results.length >= 1)) {
                     daySum = daySum + MAX_DAYS_PER_MONTH[begin - 1];
@@ -954,14 +954,14 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("station_id", stationId);
                 keyParamMap.put("ecBegin", ecBegin);
                 keyParamMap.put("ecEnd", ecEnd);
-                Object[] results = getDao().executeSQLQuery(ecCount.toString(),
+                Object[] results = executeNormsQuery(ecCount.toString(),
                         keyParamMap);
                 if ((results != null) && (results.length >= 1)) {
 
                     if (((Number) results[0]).intValue() == numberOfDays) {
 
                         try {
-                            Object[] results2 = getDao().executeSQLQuery(
+                            Object[] results2 = executeNormsQuery(
                                     ecSum.toString(), keyParamMap);
                             // result could be null
                             if ((results2 != null) && (results2.length >= 1)
@@ -1002,14 +1002,14 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("station_id", stationId);
                 keyParamMap.put("ecBegin", ecBegin);
                 keyParamMap.put("ecEnd", ecEnd);
-                Object[] results = getDao().executeSQLQuery(ecCount.toString(),
+                Object[] results = executeNormsQuery(ecCount.toString(),
                         keyParamMap);
                 if ((results != null) && (results.length >= 1)) {
 
                     if (((Number) results[0]).intValue() == numberOfDays) {
 
                         try {
-                            Object[] results2 = getDao().executeSQLQuery(
+                            Object[] results2 = executeNormsQuery(
                                     ecSum.toString(), keyParamMap);
                             // result could be null
                             if ((results2 != null) && (results2.length >= 1)
@@ -1115,14 +1115,14 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("station_id", stationId);
                 keyParamMap.put("ecBegin", ecBegin);
                 keyParamMap.put("ecEnd", ecEnd);
-                Object[] results = getDao().executeSQLQuery(ecCount.toString(),
+                Object[] results = executeNormsQuery(ecCount.toString(),
                         keyParamMap);
                 if ((results != null) && (results.length >= 1)) {
 
                     if (((Number) results[0]).intValue() == numberOfDays) {
 
                         try {
-                            Object[] results2 = getDao().executeSQLQuery(
+                            Object[] results2 = executeNormsQuery(
                                     ecSum.toString(), keyParamMap);
                             // result could be null
                             if ((results2 != null) && (results2.length >= 1)
@@ -1209,11 +1209,12 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
             ecStmt.append(" != ").append(ParameterFormatClimate.TRACE);
         }
 
-        StringBuilder ecSum = new StringBuilder("SELECT SUM( ").append(colName)
-                .append(")").append(ecStmt);
-
-        StringBuilder ecCount = new StringBuilder("SELECT COUNT(*) ")
-                .append(ecStmt);
+        /*
+         * Count and sum together, so that one round trip (or one cached result)
+         * serves both.
+         */
+        StringBuilder ecCountSum = new StringBuilder("SELECT COUNT(*), SUM( ")
+                .append(colName).append(")").append(ecStmt);
 
         // EXEC SQL BEGIN WORK;
         Map<String, Object> keyParamMap = new HashMap<>();
@@ -1224,36 +1225,23 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
             keyParamMap.put("stationId", stationId);
             keyParamMap.put("ecBegin", beginDate);
             keyParamMap.put("ecEnd", endDate);
-            Object[] results = getDao().executeSQLQuery(ecCount.toString(),
+            Object[] results = executeNormsQuery(ecCountSum.toString(),
                     keyParamMap);
-            if ((results != null) && (results.length >= 1)) {
-                int countReturn = ((Number) results[0]).intValue();
-
-                if (countReturn == numMos) {
-
-                    try {
-                        Object[] sumResults = getDao()
-                                .executeSQLQuery(ecSum.toString(), keyParamMap);
-                        // result could be null
-                        if ((sumResults != null) && (sumResults.length >= 1)
-                                && (sumResults[0] != null)) {
-                            returnVal = ((Number) sumResults[0]).intValue();
-                        }
-                    } catch (Exception e) {
-                        logger.error("Error querying sum the climate database ["
-                                + ecSum + "] with map: [" + keyParamMap + "]",
-                                e);
-                    }
-                } else {
-                    returnVal = ParameterFormatClimate.MISSING;
+            if ((results != null) && (results.length >= 1)
+                    && (results[0] instanceof Object[])) {
+                Object[] countSum = (Object[]) results[0];
+                int countReturn = ((Number) countSum[0]).intValue();
+
+                // sum could be null
+                if ((countReturn == numMos) && (countSum[1] != null)) {
+                    returnVal = ((Number) countSum[1]).intValue();
                 }
-
             } else {
-                logger.warn("Expected some result from count query: [" + ecCount
-                        + "] using map: [" + keyParamMap + "]");
+                logger.warn("Expected some result from count query: ["
+                        + ecCountSum + "] using map: [" + keyParamMap + "]");
             }
         } catch (Exception e) {
-            logger.error("Error querying the climate database: [" + ecCount
+            logger.error("Error querying the climate database: [" + ecCountSum
                     + "] with map: [" + keyParamMap + "]", e);
         }
 
@@ -1364,8 +1352,8 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_end_mo", ecEndMo);
                 keyParamMap.put("ec_station_id", stationId);
 
-                int results = ((Number) queryForOneValue(countQuery.toString(),
-                        keyParamMap, -1)).intValue();
+                int results = ((Number) queryNormsForOneValue(
+                        countQuery.toString(), keyParamMap, -1)).intValue();
                 if (results != -1) {
                     int ecCountCool = results;
                     if (ecCountCool == numMos) {
@@ -1389,7 +1377,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         sumQuery.append(" AND cool_pd_mean != ").append(
                                 ParameterFormatClimate.MISSING_DEGREE_DAY);
 
-                        int sumcoolRes = ((Number) queryForOneValue(
+                        int sumcoolRes = ((Number) queryNormsForOneValue(
                                 sumQuery.toString(), keyParamMap, -1))
                                         .intValue();
                         if (sumcoolRes != -1) {
@@ -1447,8 +1435,8 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_end_date", ecEndDate);
                 keyParamMap.put("ec_station_id", stationId);
             }
-            int results = ((Number) queryForOneValue(coolingQuery.toString(),
-                    keyParamMap, -1)).intValue();
+            int results = ((Number) queryNormsForOneValue(
+                    coolingQuery.toString(), keyParamMap, -1)).intValue();
             if (results != -1) {
                 tempSum += results;
             } else {
@@ -1508,8 +1496,8 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
             countQuery2.append(" AND day_of_year != '02-29'");
 
             try {
-                Object[] results = getDao()
-                        .executeSQLQuery(countQuery2.toString(), keyParamMap);
+                Object[] results = executeNormsQuery(
+                        countQuery2.toString(), keyParamMap);
                 if ((results != null) && (results.length >= 1)) {
                     int ecCountCool = ((Number) results[0]).intValue();
 
@@ -1535,7 +1523,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         sumQuery.append(" AND day_of_year != '02-29'");
 
                         try {
-                            Object[] ecsumObjects = getDao().executeSQLQuery(
+                            Object[] ecsumObjects = executeNormsQuery(
                                     sumQuery.toString(), keyParamMap);
                             // result could be null
                             if ((ecsumObjects != null)
@@ -1590,7 +1578,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                                 ParameterFormatClimate.MISSING);
 
                         try {
-                            Object[] ecsumRes = getDao().executeSQLQuery(
+                            Object[] ecsumRes = executeNormsQuery(
                                     maxTempQuery.toString(), keyParamMap);
                             // result could be null
                             if ((ecsumRes != null) && (ecsumRes.length >= 1)
@@ -1636,7 +1624,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         minTempQuery.append(" AND day_of_year != '02-29'");
 
                         try {
-                            Object[] ecsumRes = getDao().executeSQLQuery(
+                            Object[] ecsumRes = executeNormsQuery(
                                     minTempQuery.toString(), keyParamMap);
                             // result could be null
                             if ((ecsumRes != null) && (ecsumRes.length >= 1)
@@ -1685,7 +1673,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         tempCountQuery.append(" AND day_of_year != '02-29'");
 
                         try {
-                            Object[] ecsumObjects = getDao().executeSQLQuery(
+                            Object[] ecsumObjects = executeNormsQuery(
                                     tempCountQuery.toString(), keyParamMap);
                             if ((ecsumObjects != null)
                                     && (ecsumObjects.length >= 1)) {
@@ -1761,8 +1749,8 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 leapQuery.append(" AND cool_day_mean != ")
                         .append(ParameterFormatClimate.MISSING_DEGREE_DAY);
                 try {
-                    Object[] ecsumRes = getDao()
-                            .executeSQLQuery(leapQuery.toString(), keyParamMap);
+                    Object[] ecsumRes = executeNormsQuery(
+                            leapQuery.toString(), keyParamMap);
                     // result could be null
                     if ((ecsumRes != null) && (ecsumRes.length >= 1)
                             && (ecsumRes[0] != null)) {
@@ -1884,8 +1872,8 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_end_mo", ecEndMo);
                 keyParamMap.put("ec_station_id", stationId);
 
-                int results = ((Number) queryForOneValue(countQuery.toString(),
-                        keyParamMap, -1)).intValue();
+                int results = ((Number) queryNormsForOneValue(
+                        countQuery.toString(), keyParamMap, -1)).intValue();
                 if (results != -1) {
                     int ecCountHeat = results;
 
@@ -1910,7 +1898,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         sumQuery.append(" AND heat_pd_mean != ").append(
                                 ParameterFormatClimate.MISSING_DEGREE_DAY);
 
-                        int res = ((Number) queryForOneValue(
+                        int res = ((Number) queryNormsForOneValue(
                                 sumQuery.toString(), keyParamMap, -1))
                                         .intValue();
                         // result could be null
@@ -1966,7 +1954,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_month_begin", ecMonthBegin);
             }
 
-            int results = ((Number) queryForOneValue(heatQuery.toString(),
+            int results = ((Number) queryNormsForOneValue(heatQuery.toString(),
                     keyParamMap, -1)).intValue();
             if (results != -1) {
                 tempSum += results;
@@ -2024,8 +2012,8 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
             countQuery.append(" AND day_of_year != '02-29'");
 
             try {
-                Object[] results = getDao()
-                        .executeSQLQuery(countQuery.toString(), keyParamMap);
+                Object[] results = executeNormsQuery(
+                        countQuery.toString(), keyParamMap);
                 if ((results != null) && (results.length >= 1)) {
                     int ecCountHeat = ((Number) results[0]).intValue();
 
@@ -2052,7 +2040,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         sumQuery.append(" AND day_of_year != '02-29'");
 
                         try {
-                            Object[] res = getDao().executeSQLQuery(
+                            Object[] res = executeNormsQuery(
                                     sumQuery.toString(), keyParamMap);
                             // result could be null
                             if ((res != null) && (res.length >= 1)
@@ -2116,7 +2104,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                                 ParameterFormatClimate.MISSING);
 
                         try {
-                            Object[] ecsumRes = getDao().executeSQLQuery(
+                            Object[] ecsumRes = executeNormsQuery(
                                     maxTempQuery.toString(), keyParamMap);
                             // result could be null
                             if ((ecsumRes != null) && (ecsumRes.length >= 1)
@@ -2160,7 +2148,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         minTempQuery.append(" AND day_of_year != '02-29'");
 
                         try {
-                            Object[] res = getDao().executeSQLQuery(
+                            Object[] res = executeNormsQuery(
                                     minTempQuery.toString(), keyParamMap);
                             // result could be null
                             if ((res != null) && (res.length >= 1)
@@ -2207,7 +2195,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         tempCountQuery.append(" AND day_of_year != '02-29'");
 
                         try {
-                            Object[] res = getDao().executeSQLQuery(
+                            Object[] res = executeNormsQuery(
                                     tempCountQuery.toString(), keyParamMap);
                             if ((res != null) && (res.length >= 1)) {
                                 int ecCountTemp = ((Number) res[0]).intValue();
@@ -2275,7 +2263,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
             try {
                 keyParamMap.clear();
                 keyParamMap.put("ec_station_id", stationId);
-                Object[] results = getDao().executeSQLQuery(query.toString(),
+                Object[] results = executeNormsQuery(query.toString(),
                         keyParamMap);
                 // result could be null
                 if ((results != null) && (results.length >= 1)
@@ -2411,7 +2399,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
             keyParamMap.put("ec_missing_value",
                     ParameterFormatClimate.MISSING_SNOW);
 
-            int res = ((Number) queryForOneValue(countQuery.toString(),
+            int res = ((Number) queryNormsForOneValue(countQuery.toString(),
                     keyParamMap, -1)).intValue();
             if (res != -1) {
                 if (res > 0) {
@@ -2476,7 +2464,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_station_id", stationId);
                 keyParamMap.put("ec_trace_value", ParameterFormatClimate.TRACE);
 
-                Object[] res = getDao().executeSQLQuery(snowSumQuery.toString(),
+                Object[] res = executeNormsQuery(snowSumQuery.toString(),
                         keyParamMap);
                 // result could be null
                 if ((res != null) && (res.length >= 1) && (res[0] != null)) {
@@ -2514,7 +2502,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         countQuery
                                 .append(" AND snow_pd_mean = :ec_trace_value");
 
-                        int sumsnowRes = ((Number) queryForOneValue(
+                        int sumsnowRes = ((Number) queryNormsForOneValue(
                                 countQuery.toString(), keyParamMap, -1))
                                         .intValue();
                         if (sumsnowRes != -1) {
@@ -2577,7 +2565,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                     keyParamMap.put("ec_end_mo", ecEndMo);
                     keyParamMap.put("ec_station_id", stationId);
 
-                    Object[] res = getDao().executeSQLQuery(query.toString(),
+                    Object[] res = executeNormsQuery(query.toString(),
                             keyParamMap);
                     // result could be null
                     if ((res != null) && (res.length >= 1)
@@ -2634,7 +2622,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                     keyParamMap.put("ec_end_date", ecEndDate);
                     keyParamMap.put("ec_month_begin", ecMonthBegin);
 
-                    Object[] sumSnowRes = getDao().executeSQLQuery(
+                    Object[] sumSnowRes = executeNormsQuery(
                             snowSumQuery.toString(), keyParamMap);
 
                     if ((sumSnowRes != null) && (sumSnowRes.length >= 1)) {
@@ -2662,9 +2650,10 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                                         ParameterFormatClimate.TRACE);
                                 keyParamMap.put("ec_end_date", ecEndDate);
                                 keyParamMap.put("ec_month_begin", ecMonthBegin);
-                                int countSnowRes = ((Number) queryForOneValue(
-                                        snowCountQuery.toString(), keyParamMap,
-                                        -1)).intValue();
+                                int countSnowRes = ((Number)
+                                        queryNormsForOneValue(
+                                                snowCountQuery.toString(),
+                                                keyParamMap, -1)).intValue();
                                 if (countSnowRes != -1) {
                                     if (countSnowRes > 0) {
                                         ecSumSnow = ParameterFormatClimate.TRACE;
@@ -2705,7 +2694,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                                     ParameterFormatClimate.TRACE);
                             keyParamMap.put("ec_end_date", ecEndDate);
                             keyParamMap.put("ec_month_begin", ecMonthBegin);
-                            Object[] countSnowRes = getDao().executeSQLQuery(
+                            Object[] countSnowRes = executeNormsQuery(
                                     snowCountQuery.toString(), keyParamMap);
                             if ((countSnowRes != null)
                                     && (countSnowRes.length >= 1)) {
@@ -2781,8 +2770,8 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_start_date", ecStartDate);
                 keyParamMap.put("ec_end_date", ecEndDate);
 
-                Object[] results = getDao()
-                        .executeSQLQuery(snowSumQuery.toString(), keyParamMap);
+                Object[] results = executeNormsQuery(
+                        snowSumQuery.toString(), keyParamMap);
                 // result could be null
                 if ((results != null) && (results.length >= 1)
                         && (results[0] != null)) {
@@ -2818,7 +2807,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         keyParamMap.put("ec_start_date", ecStartDate);
                         keyParamMap.put("ec_end_date", ecEndDate);
 
-                        int res = ((Number) queryForOneValue(
+                        int res = ((Number) queryNormsForOneValue(
                                 snowCountQuery.toString(), keyParamMap, -1))
                                         .intValue();
                         if (res != -1) {
@@ -2865,7 +2854,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                             ParameterFormatClimate.TRACE);
                     keyParamMap.put("ec_start_date", ecStartDate);
                     keyParamMap.put("ec_end_date", ecEndDate);
-                    int res = ((Number) queryForOneValue(
+                    int res = ((Number) queryNormsForOneValue(
                             snowCountQuery.toString(), keyParamMap, -1))
                                     .intValue();
                     if (res != -1) {
@@ -3014,7 +3003,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
             keyParamMap.put("ec_missing_value",
                     ParameterFormatClimate.MISSING_PRECIP);
 
-            int res = ((Number) queryForOneValue(countQuery.toString(),
+            int res = ((Number) queryNormsForOneValue(countQuery.toString(),
                     keyParamMap, -1)).intValue();
 
             if (res != -1) {
@@ -3075,7 +3064,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_station_id", stationId);
                 keyParamMap.put("ec_trace_value", ParameterFormatClimate.TRACE);
 
-                Object[] res = getDao().executeSQLQuery(
+                Object[] res = executeNormsQuery(
                         precipSumQuery.toString(), keyParamMap);
 
                 // result could be null
@@ -3122,7 +3111,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         keyParamMap.put("ec_trace_value",
                                 ParameterFormatClimate.TRACE);
 
-                        int res2 = ((Number) queryForOneValue(
+                        int res2 = ((Number) queryNormsForOneValue(
                                 precipCountQuery.toString(), keyParamMap, -1))
                                         .intValue();
 
@@ -3193,7 +3182,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                     keyParamMap.put("ec_end_mo", ecEndMo);
                     keyParamMap.put("ec_station_id", stationId);
 
-                    Object[] res = getDao().executeSQLQuery(query.toString(),
+                    Object[] res = executeNormsQuery(query.toString(),
                             keyParamMap);
 
                     // result could be null
@@ -3250,7 +3239,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                     keyParamMap.put("ec_end_date", ecEndDate);
                     keyParamMap.put("ec_month_begin", ecMonthBegin);
 
-                    Object[] sumPrecipRes = getDao().executeSQLQuery(
+                    Object[] sumPrecipRes = executeNormsQuery(
                             sumPrecipQuery.toString(), keyParamMap);
 
                     // result could be null
@@ -3285,9 +3274,10 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                                         ParameterFormatClimate.TRACE);
                                 keyParamMap.put("ec_end_date", ecEndDate);
                                 keyParamMap.put("ec_month_begin", ecMonthBegin);
-                                int countPrecipRes = ((Number) queryForOneValue(
-                                        sumCountQuery.toString(), keyParamMap,
-                                        -1)).intValue();
+                                int countPrecipRes = ((Number)
+                                        queryNormsForOneValue(
+                                                sumCountQuery.toString(),
+                                                keyParamMap, -1)).intValue();
 
                                 if (countPrecipRes != -1) {
                                     if (countPrecipRes > 0) {
@@ -3337,7 +3327,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                                     ParameterFormatClimate.TRACE);
                             keyParamMap.put("ec_end_date", ecEndDate);
                             keyParamMap.put("ec_month_begin", ecMonthBegin);
-                            Object[] countPrecipRes = getDao().executeSQLQuery(
+                            Object[] countPrecipRes = executeNormsQuery(
                                     sumCountQuery.toString(), keyParamMap);
 
                             if ((countPrecipRes != null)
@@ -3419,7 +3409,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                 keyParamMap.put("ec_start_date", ecStartDate);
                 keyParamMap.put("ec_end_date", ecEndDate);
 
-                Object[] results = getDao().executeSQLQuery(
+                Object[] results = executeNormsQuery(
                         sumPrecipQuery.toString(), keyParamMap);
 
                 // result could be null
@@ -3459,7 +3449,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                         keyParamMap.put("ec_start_date", ecStartDate);
                         keyParamMap.put("ec_end_date", ecEndDate);
 
-                        int res = ((Number) queryForOneValue(
+                        int res = ((Number) queryNormsForOneValue(
                                 sumCountQuery.toString(), keyParamMap, -1))
                                         .intValue();
 
@@ -3511,7 +3501,7 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
                     keyParamMap.put("ec_start_date", ecStartDate);
                     keyParamMap.put("ec_end_date", ecEndDate);
 
-                    int res = ((Number) queryForOneValue(
+                    int res = ((Number) queryNormsForOneValue(
                             precipCountQuery.toString(), keyParamMap, -1))
                                     .intValue();
 
@@ -0,0 +1,152 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
+
+/**
+ * Immutable snapshot of the climate master stations (cli_sta_setup), indexed
+ * by station ID (inform ID) and by ICAO ID. Safe to share between threads;
+ * stations are handed out as copies, so callers may modify what they get,
+ * except through {@link #getStationList()}, which is read-only.
+ *
+ * Obtained from {@link ClimateStationsSetupDAO#getStationIndex()}, which
+ * replaces the snapshot when the stations are replaced.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+public final class ClimateStationIndex {
+
+    /**
+     * Stations in database order.
+     */
+    private final List<Station> stations;
+
+    /**
+     * Stations by station ID (inform ID).
+     */
+    private final Map<Integer, Station> byInformId;
+
+    /**
+     * Stations by ICAO ID.
+     */
+    private final Map<String, Station> byIcaoId;
+
+    /**
+     * Time the stations were queried.
+     */
+    private final long loadTime = System.currentTimeMillis();
+
+    /**
+     * Constructor.
+     *
+     * @param stations
+     *            stations to index. Copied, so later changes to them have no
+     *            effect.
+     */
+    ClimateStationIndex(List<Station> stations) {
+        List<Station> copies = new ArrayList<>(stations.size());
+        Map<Integer, Station> informIds = new HashMap<>();
+        Map<String, Station> icaoIds = new HashMap<>();
+        for (Station station : stations) {
+            Station copy = new Station(station);
+            copies.add(copy);
+            informIds.put(copy.getInformId(), copy);
+            if (copy.getIcaoId() != null) {
+                icaoIds.put(copy.getIcaoId(), copy);
+            }
+        }
+        this.stations = Collections.unmodifiableList(copies);
+        byInformId = Collections.unmodifiableMap(informIds);
+        byIcaoId = Collections.unmodifiableMap(icaoIds);
+    }
+
+    /**
+     * @return all stations, in database order, as an unmodifiable list of the
+     *         indexed stations themselves. The stations are shared and must
+     *         not be modified; use {@link #getStations()} for copies.
+     */
+    public List<Station> getStationList() {
+        return stations;
+    }
+
+    /**
+     * @return copies of all stations, in database order, in a new list.
+     */
+    public List<Station> getStations() {
+        List<Station> copies = new ArrayList<>(stations.size());
+        for (Station station : stations) {
+            copies.add(new Station(station));
+        }
+        return copies;
+    }
+
+    /**
+     * @param informId
+     *            station ID (inform ID).
+     * @return a copy of the station, or null if not a master station.
+     */
+    public Station getStation(int informId) {
+        Station station = byInformId.get(informId);
+        return station == null ? null : new Station(station);
+    }
+
+    /**
+     * @param icaoId
+     * @return a copy of the station, or null if not a master station.
+     */
+    public Station getStation(String icaoId) {
+        Station station = byIcaoId.get(icaoId);
+        return station == null ? null : new Station(station);
+    }
+
+    /**
+     * @param informId
+     *            station ID (inform ID).
+     * @return the station's ICAO ID, or null if not a master station.
+     */
+    public String getIcaoId(int informId) {
+        Station station = byInformId.get(informId);
+        return station == null ? null : station.getIcaoId();
+    }
+
+    /**
+     * @param icaoId
+     * @return the station ID (inform ID) of the station, or null if not a
+     *         master station.
+     */
+    public Integer getInformId(String icaoId) {
+        Station station = byIcaoId.get(icaoId);
+        return station == null ? null : station.getInformId();
+    }
+
+    /**
+     * @return the number of stations.
+     */
+    public int size() {
+        return stations.size();
+    }
+
+    /**
+     * @return the time the stations were queried, in milliseconds.
+     */
+    long getLoadTime() {
+        return loadTime;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
@@ -56,6 +57,33 @@ public class ClimateStationsSetupDAO extends ClimateDAO {
     private static final String MASTER_STATIONS_IDS_QUERY = "SELECT station_id FROM "
             + ClimateDAOValues.CLIMATE_STATION_SETUP_TABLE_NAME;
 
+    /**
+     * System property for the minutes after which the station index is
+     * queried again, to pick up changes made by other EDEX servers. 0 queries
+     * the stations every time.
+     */
+    private static final String MAX_AGE_PROPERTY = "climate.stations.cache.maxAgeMinutes";
+
+    /**
+     * Default minutes after which the station index is queried again.
+     */
+    private static final long DEFAULT_MAX_AGE_MINUTES = 10;
+
+    private static final long MAX_AGE_MILLIS = Math.max(0,
+            Long.getLong(MAX_AGE_PROPERTY, DEFAULT_MAX_AGE_MINUTES)) * 60
+            * 1000;
+
+    /**
+     * Current station index, or null if it must be queried.
+     */
+    private static volatile ClimateStationIndex stationIndex;
+
+    /**
+     * Incremented whenever the stations are replaced, so that an index
+     * queried during a replacement is not kept.
+     */
+    private static final AtomicInteger stationsVersion = new AtomicInteger();
+
     /**
      * Constructor.
      */
@@ -63,7 +91,46 @@ public class ClimateStationsSetupDAO extends ClimateDAO {
         super();
     }
 
-     /**
+    /**
+     * @return the index of the master stations, queried if not cached or
+     *         older than {@value #MAX_AGE_PROPERTY} minutes (default
+     *         {@value #DEFAULT_MAX_AGE_MINUTES}).
+     * @throws ClimateQueryException
+     */
+    public ClimateStationIndex getStationIndex() throws ClimateQueryException {
+        ClimateStationIndex index = stationIndex;
+        if (index == null || System.currentTimeMillis()
+                - index.getLoadTime() >= MAX_AGE_MILLIS) {
+            int version = stationsVersion.get();
+            index = new ClimateStationIndex(queryMasterStations());
+            if (version == stationsVersion.get()) {
+                stationIndex = index;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Drop the cached station index, so that it is queried again on next use.
+     */
+    public static void invalidateStationIndex() {
+        stationsVersion.incrementAndGet();
+        stationIndex = null;
+    }
+
+    /**
+     * @return list of stations in the DB, from the cached station index. The
+     *         list and stations are copies, which may be modified. Callers
+     *         that only read the stations should use
+     *         {@link ClimateStationIndex#getStationList()} of
+     *         {@link #getStationIndex()} instead.
+     * @throws ClimateQueryException
+     */
+    public List<Station> getMasterStations() throws ClimateQueryException {
+        return getStationIndex().getStations();
+    }
+
+    /**
      * Converted from get_master_stations.ecpp
      * 
      * Original comments:
@@ -90,8 +157,7 @@ public class ClimateStationsSetupDAO extends ClimateDAO {
      * @return list of stations in the DB.
      * @throws ClimateQueryException
      */
-    
-    public List<Station> getMasterStations() throws ClimateQueryException {
+    private List<Station> queryMasterStations() throws ClimateQueryException {
         List<Station> stations = new ArrayList<>();
         try {
             Object[] results = getDao().executeSQLQuery(MASTER_STATIONS_QUERY);
@@ -303,6 +369,9 @@ public class ClimateStationsSetupDAO extends ClimateDAO {
         } catch (Exception e) {
             throw new Exception("Error with query: [" + delete + "] and map: ["
                     + deleteParams + "]", e);
+        } finally {
+            // some or all of the changes may have been made
+            invalidateStationIndex();
         }
 
         return success;
@@ -6,6 +6,7 @@ package gov.noaa.nws.ocp.edex.common.climate.dao;
 import java.sql.Date;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -221,315 +222,413 @@ public class DailyClimateDAO extends ClimateDAO {
             if ((results != null) && (results.length >= 1)) {
                 Object result = results[0];
                 if (result instanceof Object[]) {
-                    Object[] oa = (Object[]) result;
-                    // all data from the query is allowed to be null
-                    int index = 0;
+                    setLastYearData((Object[]) result, 0, data);
 
-                    // max temp
-                    Object maxTempObj = oa[index++];
-                    if (maxTempObj != null) {
-                        data.setMaxTemp(((Number) maxTempObj).intValue());
-                    }
-                    // max temp time
-                    data.setMaxTempTime(new ClimateTime((String) oa[index++]));
-
-                    // max temp data method
-                    Object maxTempMethObj = oa[index++];
-                    if (maxTempMethObj != null) {
-                        data.getDataMethods().setMaxTempQc(
-                                ((Number) maxTempMethObj).intValue());
-                    }
+                    // The query was successful - set the exists flag to
+                    // true.
+                    queryData.setData(data);
+                } else {
+                    throw new ClimateQueryException(
+                            "Unexpected return type from query, expected Object[], got "
+                                    + result.getClass().getName());
+                }
+            } else {
+                logger.warn("No data available for station ID [" + stationId
+                        + "] on date [" + date.toFullDateString()
+                        + "] using query [" + query + "] and map: [" + paramMap
+                        + "]");
+            }
+        } catch (ClimateQueryException e) {
+            throw new ClimateQueryException("Error with query: [" + query
+                    + "] and map: [" + paramMap + "]", e);
+        }
 
-                    // min temp
-                    Object minTempObj = oa[index++];
-                    if (minTempObj != null) {
-                        data.setMinTemp(((Number) minTempObj).intValue());
-                    }
+        return queryData;
+    }
 
-                    // min temp time
-                    data.setMinTempTime(new ClimateTime((String) oa[index++]));
+    /**
+     * Overloaded {@link #getLastYear(ClimateDate, int, DailyClimateData)}, with
+     * no original data to overwrite.
+     * 
+     * @param date
+     * @param stationId
+     * @return QueryData
+     * @throws ClimateQueryException
+     */
+    public QueryData getLastYear(ClimateDate date, int stationId)
+            throws ClimateQueryException {
 
-                    // min temp data method
-                    Object minTempMethObj = oa[index++];
-                    if (minTempMethObj != null) {
-                        data.getDataMethods().setMinTempQc(
-                                ((Number) minTempMethObj).intValue());
-                    }
+        DailyClimateData data = DailyClimateData.getMissingDailyClimateData();
 
-                    // precip
-                    Object precipObj = oa[index++];
-                    if (precipObj != null) {
-                        data.setPrecip(((Number) precipObj).floatValue());
-                    }
+        data.setInformId(stationId);
+        return getLastYear(date, stationId, data);
+    }
 
-                    // precip data method
-                    Object precipMethObj = oa[index++];
-                    if (precipMethObj != null) {
-                        data.getDataMethods().setPrecipQc(
-                                ((Number) precipMethObj).intValue());
-                    }
+    /**
+     * Get the daily data of the given stations for each day of a month up to
+     * the given date with a single query, as
+     * {@link #getLastYear(ClimateDate, int)} would return it.
+     * 
+     * @param endDate
+     *            last date of the month to get data for.
+     * @param stationIds
+     *            station IDs (inform IDs) to get data for.
+     * @return for each station ID with any data in the month, the daily data
+     *         of each day of the month, indexed from 0 for the first day. Days
+     *         without data are null.
+     * @throws ClimateQueryException
+     */
+    public Map<Integer, DailyClimateData[]> getLastYearForMonth(
+            ClimateDate endDate, Collection<Integer> stationIds)
+            throws ClimateQueryException {
+        Map<Integer, DailyClimateData[]> monthData = new HashMap<>();
+        if (stationIds.isEmpty()) {
+            return monthData;
+        }
 
-                    // snow day
-                    Object snowDayObj = oa[index++];
-                    if (snowDayObj != null) {
-                        data.setSnowDay(((Number) snowDayObj).floatValue());
-                    }
+        StringBuilder query = new StringBuilder(
+                "SELECT station_id, CAST(EXTRACT(DAY FROM date) AS int), ");
+        appendLastYearColumns(query);
+        query.append(" WHERE station_id IN (");
+        boolean first = true;
+        for (Integer stationId : stationIds) {
+            if (!first) {
+                query.append(", ");
+            }
+            query.append(stationId.intValue());
+            first = false;
+        }
+        query.append(") AND date >= :beginDate AND date <= :endDate");
 
-                    // snow day data method
-                    Object snowMethObj = oa[index++];
-                    if (snowMethObj != null) {
-                        data.getDataMethods()
-                                .setSnowQc(((Number) snowMethObj).intValue());
-                    }
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("beginDate", new ClimateDate(1, endDate.getMon(),
+                endDate.getYear()).getCalendarFromClimateDate());
+        paramMap.put("endDate", endDate.getCalendarFromClimateDate());
 
-                    // snow ground
-                    Object snowGroundObj = oa[index++];
-                    if (snowGroundObj != null) {
-                        data.setSnowGround(
-                                ((Number) snowGroundObj).floatValue());
+        try {
+            Object[] results = getDao().executeSQLQuery(query.toString(),
+                    paramMap);
+            if (results != null) {
+                for (Object result : results) {
+                    if (!(result instanceof Object[])) {
+                        throw new ClimateQueryException(
+                                "Unexpected return type from query, expected Object[], got "
+                                        + (result == null ? null
+                                                : result.getClass()
+                                                        .getName()));
                     }
-
-                    // snow ground data method
-                    Object snowGroundDepthMethObj = oa[index++];
-                    if (snowGroundDepthMethObj != null) {
-                        data.getDataMethods().setDepthQc(
-                                ((Number) snowGroundDepthMethObj).intValue());
+                    Object[] oa = (Object[]) result;
+                    int stationId = ((Number) oa[0]).intValue();
+                    int day = ((Number) oa[1]).intValue();
+                    if (day < 1 || day > endDate.getDay()) {
+                        continue;
                     }
 
-                    // heating days
-                    Object numHeatObj = oa[index++];
-                    if (numHeatObj != null) {
-                        data.setNumHeat(((Number) numHeatObj).intValue());
+                    DailyClimateData[] days = monthData.get(stationId);
+                    if (days == null) {
+                        days = new DailyClimateData[endDate.getDay()];
+                        monthData.put(stationId, days);
                     }
+                    DailyClimateData data = DailyClimateData
+                            .getMissingDailyClimateData();
+                    data.setInformId(stationId);
+                    setLastYearData(oa, 2, data);
+                    days[day - 1] = data;
+                }
+            }
+        } catch (ClimateQueryException e) {
+            throw new ClimateQueryException("Error with query: [" + query
+                    + "] and map: [" + paramMap + "]", e);
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Error querying the climate database with: [" + query
+                            + "] and map: [" + paramMap + "]",
+                    e);
+        }
 
-                    // cooling days
-                    Object numCoolObj = oa[index++];
-                    if (numCoolObj != null) {
-                        data.setNumCool(((Number) numCoolObj).intValue());
-                    }
+        return monthData;
+    }
 
-                    // max wind direction and speed
-                    Object maxWindDirObj = oa[index++];
-                    Object maxWindSpdObj = oa[index++];
-                    ClimateWind maxWind = ClimateWind.getMissingClimateWind();
-                    if (maxWindDirObj != null) {
-                        maxWind.setDir(((Number) maxWindDirObj).intValue());
-                    }
-                    if (maxWindSpdObj != null) {
-                        maxWind.setSpeed(((Number) maxWindSpdObj).floatValue());
-                    }
-                    data.setMaxWind(maxWind);
-
-                    // max wind times
-                    data.setMaxWindTime(new ClimateTime((String) oa[index++]));
-                    Object maxWindMethObj = oa[index++];
-                    if (maxWindMethObj != null) {
-                        data.getDataMethods().setMaxWindQc(
-                                ((Number) maxWindMethObj).intValue());
-                    }
+    /**
+     * Fill out daily data from a row of the daily data query.
+     * 
+     * @param oa
+     *            query row.
+     * @param index
+     *            index in the row of the first daily data column.
+     * @param data
+     *            daily data to fill out.
+     */
+    private static void setLastYearData(Object[] oa, int index,
+            DailyClimateData data) {
+        // all data from the query is allowed to be null
+
+        // max temp
+        Object maxTempObj = oa[index++];
+        if (maxTempObj != null) {
+            data.setMaxTemp(((Number) maxTempObj).intValue());
+        }
+        // max temp time
+        data.setMaxTempTime(new ClimateTime((String) oa[index++]));
+
+        // max temp data method
+        Object maxTempMethObj = oa[index++];
+        if (maxTempMethObj != null) {
+            data.getDataMethods().setMaxTempQc(
+                    ((Number) maxTempMethObj).intValue());
+        }
 
-                    // max gust direction and speed
-                    Object maxGustDirObj = oa[index++];
-                    Object maxGustSpdObj = oa[index++];
-                    ClimateWind maxGust = ClimateWind.getMissingClimateWind();
-                    if (maxGustDirObj != null) {
-                        maxGust.setDir(((Number) maxGustDirObj).intValue());
-                    }
-                    if (maxGustSpdObj != null) {
-                        maxGust.setSpeed(((Number) maxGustSpdObj).floatValue());
-                    }
-                    data.setMaxGust(maxGust);
-
-                    // max gust times
-                    data.setMaxGustTime(new ClimateTime((String) oa[index++]));
-                    Object maxGustMethObj = oa[index++];
-                    if (maxGustMethObj != null) {
-                        data.getDataMethods().setMaxGustQc(
-                                ((Number) maxGustMethObj).intValue());
-                    }
+        // min temp
+        Object minTempObj = oa[index++];
+        if (minTempObj != null) {
+            data.setMinTemp(((Number) minTempObj).intValue());
+        }
 
-                    // resultant wind direction and speed
-                    Object resultWindDirObj = oa[index++];
-                    Object resultWindSpdObj = oa[index++];
-                    ClimateWind resultWind = ClimateWind
-                            .getMissingClimateWind();
-                    if (resultWindDirObj != null) {
-                        resultWind
-                                .setDir(((Number) resultWindDirObj).intValue());
-                    }
-                    if (resultWindSpdObj != null) {
-                        resultWind.setSpeed(
-                                ((Number) resultWindSpdObj).intValue());
-                    }
-                    data.setResultWind(resultWind);
+        // min temp time
+        data.setMinTempTime(new ClimateTime((String) oa[index++]));
 
-                    // result x and y
-                    Object resultXObj = oa[index++];
-                    if (resultXObj != null) {
-                        data.setResultX(((Number) resultXObj).doubleValue());
-                    }
-                    Object resultYObj = oa[index++];
-                    if (resultYObj != null) {
-                        data.setResultY(((Number) resultYObj).doubleValue());
-                    }
+        // min temp data method
+        Object minTempMethObj = oa[index++];
+        if (minTempMethObj != null) {
+            data.getDataMethods().setMinTempQc(
+                    ((Number) minTempMethObj).intValue());
+        }
 
-                    // number of wind observations
-                    Object numWndObsObj = oa[index++];
-                    if (numWndObsObj != null) {
-                        data.setNumWndObs(((Number) numWndObsObj).intValue());
-                    }
+        // precip
+        Object precipObj = oa[index++];
+        if (precipObj != null) {
+            data.setPrecip(((Number) precipObj).floatValue());
+        }
 
-                    // average wind speed
-                    Object avgWindSpeedObj = oa[index++];
-                    if (avgWindSpeedObj != null) {
-                        data.setAvgWindSpeed(
-                                ((Number) avgWindSpeedObj).floatValue());
-                    }
+        // precip data method
+        Object precipMethObj = oa[index++];
+        if (precipMethObj != null) {
+            data.getDataMethods().setPrecipQc(
+                    ((Number) precipMethObj).intValue());
+        }
 
-                    // average wind data method
-                    Object avgWindMethObj = oa[index++];
-                    if (avgWindMethObj != null) {
-                        data.getDataMethods().setAvgWindQc(
-                                ((Number) avgWindMethObj).intValue());
-                    }
+        // snow day
+        Object snowDayObj = oa[index++];
+        if (snowDayObj != null) {
+            data.setSnowDay(((Number) snowDayObj).floatValue());
+        }
 
-                    // minutes of sun
-                    Object minSunObj = oa[index++];
-                    if (minSunObj != null) {
-                        data.setMinutesSun(((Number) minSunObj).intValue());
-                    }
+        // snow day data method
+        Object snowMethObj = oa[index++];
+        if (snowMethObj != null) {
+            data.getDataMethods()
+                    .setSnowQc(((Number) snowMethObj).intValue());
+        }
 
-                    // minutes of sun data method
-                    Object minSunMethObj = oa[index++];
-                    if (minSunMethObj != null) {
-                        data.getDataMethods().setMinSunQc(
-                                ((Number) minSunMethObj).intValue());
-                    }
+        // snow ground
+        Object snowGroundObj = oa[index++];
+        if (snowGroundObj != null) {
+            data.setSnowGround(
+                    ((Number) snowGroundObj).floatValue());
+        }
 
-                    // percent possible sun
-                    Object possSunObj = oa[index++];
-                    if (possSunObj != null) {
-                        data.setMinutesSun(((Number) possSunObj).intValue());
-                    }
+        // snow ground data method
+        Object snowGroundDepthMethObj = oa[index++];
+        if (snowGroundDepthMethObj != null) {
+            data.getDataMethods().setDepthQc(
+                    ((Number) snowGroundDepthMethObj).intValue());
+        }
 
-                    // percent possible sun data method
-                    Object possSunMethObj = oa[index++];
-                    if (possSunMethObj != null) {
-                        data.getDataMethods().setPossSunQc(
-                                ((Number) possSunMethObj).intValue());
-                    }
+        // heating days
+        Object numHeatObj = oa[index++];
+        if (numHeatObj != null) {
+            data.setNumHeat(((Number) numHeatObj).intValue());
+        }
 
-                    // average sky cover
-                    Object skyCoverObj = oa[index++];
-                    if (skyCoverObj != null) {
-                        data.setSkyCover(((Number) skyCoverObj).floatValue());
-                    }
+        // cooling days
+        Object numCoolObj = oa[index++];
+        if (numCoolObj != null) {
+            data.setNumCool(((Number) numCoolObj).intValue());
+        }
 
-                    // average sky cover data method
-                    Object skyCoverMethObj = oa[index++];
-                    if (skyCoverMethObj != null) {
-                        data.getDataMethods().setSkyCoverQc(
-                                ((Number) skyCoverMethObj).intValue());
-                    }
+        // max wind direction and speed
+        Object maxWindDirObj = oa[index++];
+        Object maxWindSpdObj = oa[index++];
+        ClimateWind maxWind = ClimateWind.getMissingClimateWind();
+        if (maxWindDirObj != null) {
+            maxWind.setDir(((Number) maxWindDirObj).intValue());
+        }
+        if (maxWindSpdObj != null) {
+            maxWind.setSpeed(((Number) maxWindSpdObj).floatValue());
+        }
+        data.setMaxWind(maxWind);
+
+        // max wind times
+        data.setMaxWindTime(new ClimateTime((String) oa[index++]));
+        Object maxWindMethObj = oa[index++];
+        if (maxWindMethObj != null) {
+            data.getDataMethods().setMaxWindQc(
+                    ((Number) maxWindMethObj).intValue());
+        }
 
-                    // mix relative humidity
-                    Object maxRhObj = oa[index++];
-                    if (maxRhObj != null) {
-                        data.setMaxRelHumid(((Number) maxRhObj).intValue());
-                    }
+        // max gust direction and speed
+        Object maxGustDirObj = oa[index++];
+        Object maxGustSpdObj = oa[index++];
+        ClimateWind maxGust = ClimateWind.getMissingClimateWind();
+        if (maxGustDirObj != null) {
+            maxGust.setDir(((Number) maxGustDirObj).intValue());
+        }
+        if (maxGustSpdObj != null) {
+            maxGust.setSpeed(((Number) maxGustSpdObj).floatValue());
+        }
+        data.setMaxGust(maxGust);
+
+        // max gust times
+        data.setMaxGustTime(new ClimateTime((String) oa[index++]));
+        Object maxGustMethObj = oa[index++];
+        if (maxGustMethObj != null) {
+            data.getDataMethods().setMaxGustQc(
+                    ((Number) maxGustMethObj).intValue());
+        }
 
-                    // time of max relative humidity
-                    Object maxRhTimeObj = oa[index++];
-                    if (maxRhTimeObj != null) {
-                        data.setMaxRelHumidHour(
-                                ((Number) maxRhTimeObj).intValue());
-                    }
+        // resultant wind direction and speed
+        Object resultWindDirObj = oa[index++];
+        Object resultWindSpdObj = oa[index++];
+        ClimateWind resultWind = ClimateWind
+                .getMissingClimateWind();
+        if (resultWindDirObj != null) {
+            resultWind
+                    .setDir(((Number) resultWindDirObj).intValue());
+        }
+        if (resultWindSpdObj != null) {
+            resultWind.setSpeed(
+                    ((Number) resultWindSpdObj).intValue());
+        }
+        data.setResultWind(resultWind);
 
-                    // min relative humidity
-                    Object minRhObj = oa[index++];
-                    if (minRhObj != null) {
-                        data.setMinRelHumid(((Number) minRhObj).intValue());
-                    }
+        // result x and y
+        Object resultXObj = oa[index++];
+        if (resultXObj != null) {
+            data.setResultX(((Number) resultXObj).doubleValue());
+        }
+        Object resultYObj = oa[index++];
+        if (resultYObj != null) {
+            data.setResultY(((Number) resultYObj).doubleValue());
+        }
 
-                    // time of min relative humidity
-                    Object minRhTimeObj = oa[index++];
-                    if (minRhTimeObj != null) {
-                        data.setMinRelHumidHour(
-                                ((Number) minRhTimeObj).intValue());
-                    }
+        // number of wind observations
+        Object numWndObsObj = oa[index++];
+        if (numWndObsObj != null) {
+            data.setNumWndObs(((Number) numWndObsObj).intValue());
+        }
 
-                    // max pressure
-                    Object maxSlpObj = oa[index++];
-                    if (maxSlpObj != null) {
-                        data.setMaxSlp(((Number) maxSlpObj).floatValue());
-                    }
+        // average wind speed
+        Object avgWindSpeedObj = oa[index++];
+        if (avgWindSpeedObj != null) {
+            data.setAvgWindSpeed(
+                    ((Number) avgWindSpeedObj).floatValue());
+        }
 
-                    // min pressure
-                    Object minSlpObj = oa[index++];
-                    if (minSlpObj != null) {
-                        data.setMinSlp(((Number) minSlpObj).floatValue());
-                    }
+        // average wind data method
+        Object avgWindMethObj = oa[index++];
+        if (avgWindMethObj != null) {
+            data.getDataMethods().setAvgWindQc(
+                    ((Number) avgWindMethObj).intValue());
+        }
 
-                    // weather data method
-                    Object weatherMethObj = oa[index++];
-                    if (weatherMethObj != null) {
-                        data.getDataMethods().setWeatherQc(
-                                ((Number) weatherMethObj).shortValue());
-                    }
+        // minutes of sun
+        Object minSunObj = oa[index++];
+        if (minSunObj != null) {
+            data.setMinutesSun(((Number) minSunObj).intValue());
+        }
 
-                    // number of wx observations
-                    Object numberObsWxObj = oa[index++];
-                    if (numberObsWxObj != null) {
-                        data.setNumWx(((Number) numberObsWxObj).intValue());
-                    }
+        // minutes of sun data method
+        Object minSunMethObj = oa[index++];
+        if (minSunMethObj != null) {
+            data.getDataMethods().setMinSunQc(
+                    ((Number) minSunMethObj).intValue());
+        }
 
-                    for (int i = 0; i < DailyClimateData.TOTAL_WX_TYPES; i++) {
-                        Object wxObj = oa[index++];
-                        if (wxObj != null) {
-                            data.setWxType(i, ((Number) wxObj).intValue());
-                        }
-                    }
+        // percent possible sun
+        Object possSunObj = oa[index++];
+        if (possSunObj != null) {
+            data.setMinutesSun(((Number) possSunObj).intValue());
+        }
 
-                    data.setDataMethods(data.getDataMethods());
+        // percent possible sun data method
+        Object possSunMethObj = oa[index++];
+        if (possSunMethObj != null) {
+            data.getDataMethods().setPossSunQc(
+                    ((Number) possSunMethObj).intValue());
+        }
 
-                    // The query was successful - set the exists flag to
-                    // true.
-                    queryData.setData(data);
-                } else {
-                    throw new ClimateQueryException(
-                            "Unexpected return type from query, expected Object[], got "
-                                    + result.getClass().getName());
-                }
-            } else {
-                logger.warn("No data available for station ID [" + stationId
-                        + "] on date [" + date.toFullDateString()
-                        + "] using query [" + query + "] and map: [" + paramMap
-                        + "]");
-            }
-        } catch (ClimateQueryException e) {
-            throw new ClimateQueryException("Error with query: [" + query
-                    + "] and map: [" + paramMap + "]", e);
+        // average sky cover
+        Object skyCoverObj = oa[index++];
+        if (skyCoverObj != null) {
+            data.setSkyCover(((Number) skyCoverObj).floatValue());
         }
 
-        return queryData;
-    }
+        // average sky cover data method
+        Object skyCoverMethObj = oa[index++];
+        if (skyCoverMethObj != null) {
+            data.getDataMethods().setSkyCoverQc(
+                    ((Number) skyCoverMethObj).intValue());
+        }
 
-    /**
-     * Overloaded {@link #getLastYear(ClimateDate, int, DailyClimateData)}, with
-     * no original data to overwrite.
-     * 
-     * @param date
-     * @param stationId
-     * @return QueryData
-     * @throws ClimateQueryException
-     */
-    public QueryData getLastYear(ClimateDate date, int stationId)
-            throws ClimateQueryException {
+        // mix relative humidity
+        Object maxRhObj = oa[index++];
+        if (maxRhObj != null) {
+            data.setMaxRelHumid(((Number) maxRhObj).intValue());
+        }
 
-        DailyClimateData data = DailyClimateData.getMissingDailyClimateData();
+        // time of max relative humidity
+        Object maxRhTimeObj = oa[index++];
+        if (maxRhTimeObj != null) {
+            data.setMaxRelHumidHour(
+                    ((Number) maxRhTimeObj).intValue());
+        }
 
-        data.setInformId(stationId);
-        return getLastYear(date, stationId, data);
+        // min relative humidity
+        Object minRhObj = oa[index++];
+        if (minRhObj != null) {
+            data.setMinRelHumid(((Number) minRhObj).intValue());
+        }
+
+        // time of min relative humidity
+        Object minRhTimeObj = oa[index++];
+        if (minRhTimeObj != null) {
+            data.setMinRelHumidHour(
+                    ((Number) minRhTimeObj).intValue());
+        }
+
+        // max pressure
+        Object maxSlpObj = oa[index++];
+        if (maxSlpObj != null) {
+            data.setMaxSlp(((Number) maxSlpObj).floatValue());
+        }
+
+        // min pressure
+        Object minSlpObj = oa[index++];
+        if (minSlpObj != null) {
+            data.setMinSlp(((Number) minSlpObj).floatValue());
+        }
+
+        // weather data method
+        Object weatherMethObj = oa[index++];
+        if (weatherMethObj != null) {
+            data.getDataMethods().setWeatherQc(
+                    ((Number) weatherMethObj).shortValue());
+        }
+
+        // number of wx observations
+        Object numberObsWxObj = oa[index++];
+        if (numberObsWxObj != null) {
+            data.setNumWx(((Number) numberObsWxObj).intValue());
+        }
+
+        for (int i = 0; i < DailyClimateData.TOTAL_WX_TYPES; i++) {
+            Object wxObj = oa[index++];
+            if (wxObj != null) {
+                data.setWxType(i, ((Number) wxObj).intValue());
+            }
+        }
+
+        data.setDataMethods(data.getDataMethods());
     }
 
     /**
@@ -543,8 +642,27 @@ public class DailyClimateDAO extends ClimateDAO {
      */
     private static String getLastYearQueryString(ClimateDate date,
             int stationId, Map<String, Object> paramMap) {
-        StringBuilder query = new StringBuilder(
-                "SELECT max_temp, to_char(max_temp_time, 'HH24:MI') as max_temp_time, ");
+        StringBuilder query = new StringBuilder("SELECT ");
+        appendLastYearColumns(query);
+        query.append(" WHERE station_id = :stationId");
+        query.append(" AND date = :date");
+
+        paramMap.put("stationId", stationId);
+        paramMap.put("date", date.getCalendarFromClimateDate());
+
+        return query.toString();
+    }
+
+    /**
+     * Append the daily data columns read by
+     * {@link #setLastYearData(Object[], int, DailyClimateData)}, and the FROM
+     * clause, to a query.
+     * 
+     * @param query
+     */
+    private static void appendLastYearColumns(StringBuilder query) {
+        query.append(
+                " max_temp, to_char(max_temp_time, 'HH24:MI') as max_temp_time, ");
         query.append(" max_temp_meth, min_temp, ");
         query.append(
                 " to_char(min_temp_time, 'HH24:MI') as min_temp_time, min_temp_meth, precip, precip_meth, ");
@@ -566,13 +684,6 @@ public class DailyClimateDAO extends ClimateDAO {
                 " wx_1, wx_2, wx_3, wx_4, wx_5, wx_6, wx_7, wx_8, wx_9, wx_10, wx_11, wx_12,");
         query.append(" wx_13, wx_14, wx_15, wx_16, wx_17, wx_18 FROM ");
         query.append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
-        query.append(" WHERE station_id = :stationId");
-        query.append(" AND date = :date");
-
-        paramMap.put("stationId", stationId);
-        paramMap.put("date", date.getCalendarFromClimateDate());
-
-        return query.toString();
     }
 
     /**
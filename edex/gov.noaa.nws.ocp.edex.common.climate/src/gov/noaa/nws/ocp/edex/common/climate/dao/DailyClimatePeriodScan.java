@@ -0,0 +1,1109 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDates;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateGlobal;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateWind;
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
+
+/**
+ * Columnar, in-memory copy of a single station's daily_climate rows over a
+ * date window, with a single-pass aggregation of every statistic that
+ * {@link ClimatePeriodDAO#buildPeriodObsClimo} derives from the daily table
+ * for a monthly period.
+ *
+ * The rows are fetched once with {@link #getSelectQuery()}. Each accessor
+ * mirrors one of the legacy aggregate helpers ({@link ClimateDAO#buildElement}
+ * , {@link ClimateDAO#daysPastThresh}, {@link ClimateDAO#buildElementEquality}
+ * and the occurrence date queries), including their missing value, trace and
+ * rounding semantics, so that the resulting {@code PeriodData} is the same as
+ * the one built by the per-element queries.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+final class DailyClimatePeriodScan {
+
+    /**
+     * Daily climate columns used for period aggregation, with the missing value
+     * the legacy queries filter each column by.
+     */
+    enum Column {
+        MAX_TEMP("max_temp", ParameterFormatClimate.MISSING),
+
+        MIN_TEMP("min_temp", ParameterFormatClimate.MISSING),
+
+        PRECIP("precip", ParameterFormatClimate.MISSING_PRECIP),
+
+        SNOW("snow", ParameterFormatClimate.MISSING_SNOW),
+
+        SNOW_GROUND("snow_ground", ParameterFormatClimate.MISSING_SNOW),
+
+        HEAT("heat", ParameterFormatClimate.MISSING_DEGREE_DAY),
+
+        COOL("cool", ParameterFormatClimate.MISSING_DEGREE_DAY),
+
+        MAX_WIND_SPD("max_wind_spd", ParameterFormatClimate.MISSING_SPEED),
+
+        MAX_WIND_DIR("max_wind_dir", ParameterFormatClimate.MISSING),
+
+        MAX_GUST_SPD("max_gust_spd", ParameterFormatClimate.MISSING_SPEED),
+
+        MAX_GUST_DIR("max_gust_dir", ParameterFormatClimate.MISSING),
+
+        AVG_WIND_SPEED("avg_wind_speed", ParameterFormatClimate.MISSING_SPEED),
+
+        MAX_RH("max_rh", ParameterFormatClimate.MISSING),
+
+        MIN_RH("min_rh", ParameterFormatClimate.MISSING),
+
+        AVG_SKY_COVER("avg_sky_cover", ParameterFormatClimate.MISSING),
+
+        PERCENT_POS_SUN("percent_pos_sun", ParameterFormatClimate.MISSING),
+
+        WX_1("wx_1", ParameterFormatClimate.MISSING),
+
+        WX_2("wx_2", ParameterFormatClimate.MISSING),
+
+        WX_3("wx_3", ParameterFormatClimate.MISSING),
+
+        WX_4("wx_4", ParameterFormatClimate.MISSING),
+
+        WX_5("wx_5", ParameterFormatClimate.MISSING),
+
+        WX_6("wx_6", ParameterFormatClimate.MISSING),
+
+        WX_7("wx_7", ParameterFormatClimate.MISSING),
+
+        WX_8("wx_8", ParameterFormatClimate.MISSING),
+
+        WX_9("wx_9", ParameterFormatClimate.MISSING),
+
+        WX_10("wx_10", ParameterFormatClimate.MISSING),
+
+        WX_11("wx_11", ParameterFormatClimate.MISSING),
+
+        WX_12("wx_12", ParameterFormatClimate.MISSING),
+
+        WX_13("wx_13", ParameterFormatClimate.MISSING),
+
+        WX_14("wx_14", ParameterFormatClimate.MISSING),
+
+        WX_15("wx_15", ParameterFormatClimate.MISSING);
+
+        private final String columnName;
+
+        private final float missing;
+
+        private Column(String iColumnName, float iMissing) {
+            columnName = iColumnName;
+            missing = iMissing;
+        }
+
+        /**
+         * @return the daily_climate column name.
+         */
+        public String getColumnName() {
+            return columnName;
+        }
+
+        /**
+         * @return the missing value for this column.
+         */
+        public float getMissing() {
+            return missing;
+        }
+    }
+
+    /**
+     * Running aggregates of one column over one date window. Null database
+     * values are stored as NaN and, as in SQL, never match any condition.
+     */
+    private static final class ColumnStats {
+
+        private final float missing;
+
+        /** Number of non-null, non-missing values. */
+        private int count;
+
+        /** Sum of non-missing values, for averages and integer sums. */
+        private double sum;
+
+        /** Sum of non-missing values accumulated as SUM(real) does. */
+        private float floatSum;
+
+        /** Number of non-missing, non-trace values. */
+        private int noTraceCount;
+
+        /** Sum of non-missing, non-trace values accumulated as real. */
+        private float noTraceFloatSum;
+
+        /** Sum of non-missing values, counting trace as 0. */
+        private double traceAsZeroSum;
+
+        /** Number of trace values, regardless of missing filter. */
+        private int traceCount;
+
+        private float max = Float.NEGATIVE_INFINITY;
+
+        private float min = Float.POSITIVE_INFINITY;
+
+        private ColumnStats(float iMissing) {
+            missing = iMissing;
+        }
+
+        private void accept(float value) {
+            if (Float.isNaN(value)) {
+                return;
+            }
+            if (value == ParameterFormatClimate.TRACE) {
+                traceCount++;
+            }
+            if (value == missing) {
+                return;
+            }
+            count++;
+            sum += value;
+            floatSum += value;
+            if (value > max) {
+                max = value;
+            }
+            if (value < min) {
+                min = value;
+            }
+            if (value != ParameterFormatClimate.TRACE) {
+                noTraceCount++;
+                noTraceFloatSum += value;
+                traceAsZeroSum += value;
+            }
+        }
+
+        /**
+         * @param missingValue
+         * @return MAX of the column, or the given missing value.
+         */
+        private float max(float missingValue) {
+            return count == 0 ? missingValue : max;
+        }
+
+        /**
+         * @param missingValue
+         * @return MIN of the column, or the given missing value.
+         */
+        private float min(float missingValue) {
+            return count == 0 ? missingValue : min;
+        }
+
+        /**
+         * @param missingValue
+         * @return AVG of the column, or the given missing value.
+         */
+        private float avg(float missingValue) {
+            return count == 0 ? missingValue : (float) (sum / count);
+        }
+
+        /**
+         * @param missingValue
+         * @return SUM of the column, or the given missing value.
+         */
+        private double sum(double missingValue) {
+            return count == 0 ? missingValue : sum;
+        }
+
+        /**
+         * Follows the trace handling of
+         * {@link ClimateDAO#buildElement(ClimateDate, ClimateDate, int, gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType, String, String, ClimateDAO.BuildElementType, Number, boolean)}
+         * for SUM of precip or snow.
+         *
+         * @param missingValue
+         * @return sum excluding trace, trace if there are only trace or zero
+         *         values, or the given missing value.
+         */
+        private float sumPrecipOrSnow(float missingValue) {
+            float base = count == 0 ? missingValue : floatSum;
+            if (ClimateUtilities.floatingEquals(base, missingValue)) {
+                return base;
+            }
+            float noTrace = noTraceCount == 0 ? missingValue
+                    : noTraceFloatSum;
+            if ((noTrace == 0
+                    || ClimateUtilities.floatingEquals(noTrace, missingValue))
+                    && base < 0) {
+                return ParameterFormatClimate.TRACE;
+            }
+            return noTrace;
+        }
+
+        /**
+         * Follows the trace handling of
+         * {@link ClimateDAO#buildElement(ClimateDate, ClimateDate, int, gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType, String, String, ClimateDAO.BuildElementType, Number, boolean)}
+         * for AVG of precip or snow.
+         *
+         * @param missingValue
+         * @return average counting trace as zero, trace if there are only trace
+         *         or zero values, or the given missing value.
+         */
+        private float avgPrecipOrSnow(float missingValue) {
+            if (count == 0) {
+                return missingValue;
+            }
+            double base = sum / count;
+            double noTrace = traceAsZeroSum / count;
+            if (noTrace == 0 && base < 0) {
+                return ParameterFormatClimate.TRACE;
+            }
+            return (float) noTrace;
+        }
+    }
+
+    /**
+     * Count of values past a threshold, as in
+     * {@link ClimateDAO#daysPastThresh(ClimateDate, ClimateDate, int, gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType, String, String, Number, Number, boolean, boolean)}
+     * .
+     */
+    private static final class ThresholdCount {
+
+        private final int column;
+
+        private final float missing;
+
+        private final double threshold;
+
+        private final boolean greaterOrLess;
+
+        private final boolean excludeTrace;
+
+        private int count;
+
+        private ThresholdCount(Column column, double iThreshold,
+                boolean iGreaterOrLess, boolean precipOrSnow) {
+            this.column = column.ordinal();
+            missing = column.getMissing();
+            threshold = iThreshold;
+            greaterOrLess = iGreaterOrLess;
+            excludeTrace = precipOrSnow
+                    && (iThreshold != ParameterFormatClimate.TRACE);
+        }
+
+        private void accept(float value) {
+            if (Float.isNaN(value) || value == missing) {
+                return;
+            }
+            if (excludeTrace && value == ParameterFormatClimate.TRACE) {
+                return;
+            }
+            if (greaterOrLess ? value >= threshold : value <= threshold) {
+                count++;
+            }
+        }
+    }
+
+    /** Columns selected, in order after the leading date column. */
+    private static final Column[] COLUMNS = Column.values();
+
+    /** Scale of the ROUND(x::numeric, 2) comparisons of the legacy queries. */
+    private static final int ROUND_SCALE = 2;
+
+    /** Significant digits of a real to numeric cast. */
+    private static final MathContext REAL_TO_NUMERIC = new MathContext(6);
+
+    private final int numRows;
+
+    private final ClimateDate[] dates;
+
+    private final int[] dateKeys;
+
+    /** Column values, indexed by column ordinal then row. */
+    private final float[][] values;
+
+    /** Aggregates over the main window, indexed by column ordinal. */
+    private ColumnStats[] stats;
+
+    private ColumnStats snowJuly1;
+
+    private ColumnStats heatJuly1;
+
+    private ColumnStats coolJan1;
+
+    private ThresholdCount maxGe90;
+
+    private ThresholdCount maxLe32;
+
+    private ThresholdCount maxGeT1;
+
+    private ThresholdCount maxGeT2;
+
+    private ThresholdCount maxLeT3;
+
+    private ThresholdCount minLe32;
+
+    private ThresholdCount minLe0;
+
+    private ThresholdCount minGeT4;
+
+    private ThresholdCount minLeT5;
+
+    private ThresholdCount minLeT6;
+
+    private ThresholdCount snowGroundGeTrace;
+
+    private ThresholdCount[] precipGe01;
+
+    private ThresholdCount[] precipGe10;
+
+    private ThresholdCount[] precipGe50;
+
+    private ThresholdCount[] precipGe100;
+
+    private ThresholdCount[] precipGeP1;
+
+    private ThresholdCount[] precipGeP2;
+
+    private ThresholdCount[] snowGeTrace;
+
+    private ThresholdCount[] snowGe1;
+
+    private ThresholdCount[] snowGeS1;
+
+    private int numFair;
+
+    private int numPartlyCloudy;
+
+    private int numMostlyCloudy;
+
+    private int beginKey;
+
+    private int endKey;
+
+    /**
+     * @return query for all aggregated columns of a station's daily_climate
+     *         rows between two dates, ordered by date. Parameters are
+     *         stationID, beginDate and endDate.
+     */
+    static String getSelectQuery() {
+        StringBuilder query = new StringBuilder("SELECT date");
+        for (Column column : COLUMNS) {
+            query.append(", ").append(column.getColumnName());
+        }
+        query.append(" FROM ").append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
+        query.append(" WHERE station_id = :stationID");
+        query.append(" AND date >= :beginDate AND date <= :endDate");
+        query.append(" ORDER BY date");
+        return query.toString();
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param results
+     *            rows returned by {@link #getSelectQuery()}. May be null.
+     * @throws ClimateQueryException
+     *             on unexpected row contents.
+     */
+    DailyClimatePeriodScan(Object[] results) throws ClimateQueryException {
+        int size = results == null ? 0 : results.length;
+        dates = new ClimateDate[size];
+        dateKeys = new int[size];
+        values = new float[COLUMNS.length][size];
+
+        int row = 0;
+        for (int i = 0; i < size; i++) {
+            if (!(results[i] instanceof Object[])) {
+                throw new ClimateQueryException(
+                        "Unexpected return type from query, expected Object[], got "
+                                + (results[i] == null ? "null"
+                                        : results[i].getClass().getName()));
+            }
+            Object[] oa = (Object[]) results[i];
+            if (oa[0] == null) {
+                continue;
+            }
+            ClimateDate date = new ClimateDate(oa[0]);
+            if (date.isMissing()) {
+                continue;
+            }
+            dates[row] = date;
+            dateKeys[row] = dateKey(date);
+            for (int c = 0; c < COLUMNS.length; c++) {
+                Object value = oa[c + 1];
+                values[c][row] = value == null ? Float.NaN
+                        : ((Number) value).floatValue();
+            }
+            row++;
+        }
+        numRows = row;
+    }
+
+    /**
+     * Aggregate all statistics in one pass over the rows.
+     *
+     * @param beginDate
+     *            start of the period.
+     * @param endDate
+     *            end of the period.
+     * @param july1Date
+     *            start of the snow and heating season.
+     * @param jan1Date
+     *            start of the cooling season.
+     * @param globalValues
+     *            custom thresholds. May be null.
+     */
+    void aggregate(ClimateDate beginDate, ClimateDate endDate,
+            ClimateDate july1Date, ClimateDate jan1Date,
+            ClimateGlobal globalValues) {
+        beginKey = dateKey(beginDate);
+        endKey = dateKey(endDate);
+        int july1Key = dateKey(july1Date);
+        int jan1Key = dateKey(jan1Date);
+
+        stats = new ColumnStats[COLUMNS.length];
+        for (Column column : COLUMNS) {
+            stats[column.ordinal()] = new ColumnStats(column.getMissing());
+        }
+        snowJuly1 = new ColumnStats(Column.SNOW.getMissing());
+        heatJuly1 = new ColumnStats(Column.HEAT.getMissing());
+        coolJan1 = new ColumnStats(Column.COOL.getMissing());
+
+        List<ThresholdCount> counts = new ArrayList<>();
+        maxGe90 = addCount(counts, Column.MAX_TEMP, 90, true, false);
+        maxLe32 = addCount(counts, Column.MAX_TEMP, 32, false, false);
+        minLe32 = addCount(counts, Column.MIN_TEMP, 32, false, false);
+        minLe0 = addCount(counts, Column.MIN_TEMP, 0, false, false);
+        snowGroundGeTrace = addCount(counts, Column.SNOW_GROUND,
+                ParameterFormatClimate.TRACE, true, true);
+        precipGe01 = addPrecipCounts(counts, Column.PRECIP, 0.01f, 0.005);
+        precipGe10 = addPrecipCounts(counts, Column.PRECIP, 0.1f, 0.005);
+        precipGe50 = addPrecipCounts(counts, Column.PRECIP, 0.5f, 0.005);
+        precipGe100 = addPrecipCounts(counts, Column.PRECIP, 1, 0.005);
+        snowGe1 = new ThresholdCount[] {
+                addCount(counts, Column.SNOW, 1, true, true) };
+        snowGeTrace = new ThresholdCount[] {
+                addCount(counts, Column.SNOW, ParameterFormatClimate.TRACE,
+                        false, true),
+                addCount(counts, Column.SNOW, 0.001, true, true) };
+
+        if (globalValues != null) {
+            maxGeT1 = addTempCount(counts, Column.MAX_TEMP,
+                    globalValues.getT1(), true);
+            maxGeT2 = addTempCount(counts, Column.MAX_TEMP,
+                    globalValues.getT2(), true);
+            maxLeT3 = addTempCount(counts, Column.MAX_TEMP,
+                    globalValues.getT3(), false);
+            minGeT4 = addTempCount(counts, Column.MIN_TEMP,
+                    globalValues.getT4(), true);
+            minLeT6 = addTempCount(counts, Column.MIN_TEMP,
+                    globalValues.getT6(), false);
+            if (globalValues.getT5() != ParameterFormatClimate.MISSING) {
+                /*
+                 * Legacy counts T5 over the begin date only; kept as is so
+                 * output matches the per-query path.
+                 */
+                minLeT5 = new ThresholdCount(Column.MIN_TEMP,
+                        globalValues.getT5(), false, false);
+            }
+            if (globalValues
+                    .getP1() != ParameterFormatClimate.MISSING_PRECIP) {
+                precipGeP1 = addPrecipCounts(counts, Column.PRECIP,
+                        globalValues.getP1(), 0.005);
+            }
+            if (globalValues
+                    .getP2() != ParameterFormatClimate.MISSING_PRECIP) {
+                precipGeP2 = addPrecipCounts(counts, Column.PRECIP,
+                        globalValues.getP2(), 0.005);
+            }
+            if (globalValues.getS1() != ParameterFormatClimate.MISSING_SNOW) {
+                snowGeS1 = addPrecipCounts(counts, Column.SNOW,
+                        globalValues.getS1(), 0.05);
+            }
+        }
+
+        ThresholdCount[] countArray = counts
+                .toArray(new ThresholdCount[counts.size()]);
+
+        float[] skyCover = values[Column.AVG_SKY_COVER.ordinal()];
+        float skyMissing = Column.AVG_SKY_COVER.getMissing();
+
+        for (int row = 0; row < numRows; row++) {
+            int key = dateKeys[row];
+            if (key > endKey) {
+                continue;
+            }
+
+            if (key >= july1Key) {
+                snowJuly1.accept(values[Column.SNOW.ordinal()][row]);
+                heatJuly1.accept(values[Column.HEAT.ordinal()][row]);
+            }
+            if (key >= jan1Key) {
+                coolJan1.accept(values[Column.COOL.ordinal()][row]);
+            }
+            if (key < beginKey) {
+                continue;
+            }
+
+            if (key == beginKey && minLeT5 != null) {
+                minLeT5.accept(values[Column.MIN_TEMP.ordinal()][row]);
+            }
+
+            for (int c = 0; c < COLUMNS.length; c++) {
+                stats[c].accept(values[c][row]);
+            }
+            for (ThresholdCount count : countArray) {
+                count.accept(values[count.column][row]);
+            }
+
+            float sky = skyCover[row];
+            if (!Float.isNaN(sky)) {
+                if (sky >= 0 && sky < 0.35) {
+                    numFair++;
+                } else if (sky >= 0.35 && sky < 0.75) {
+                    numPartlyCloudy++;
+                } else if (sky >= 0.75 && sky != skyMissing) {
+                    numMostlyCloudy++;
+                }
+            }
+        }
+    }
+
+    private ThresholdCount addCount(List<ThresholdCount> counts,
+            Column column, double threshold, boolean greaterOrLess,
+            boolean precipOrSnow) {
+        ThresholdCount count = new ThresholdCount(column, threshold,
+                greaterOrLess, precipOrSnow);
+        counts.add(count);
+        return count;
+    }
+
+    private ThresholdCount addTempCount(List<ThresholdCount> counts,
+            Column column, int threshold, boolean greaterOrLess) {
+        if (threshold == ParameterFormatClimate.MISSING) {
+            return null;
+        }
+        return addCount(counts, column, threshold, greaterOrLess, false);
+    }
+
+    /**
+     * Register the counts of
+     * {@code ClimatePeriodDAO#sumReportPrecipGreater} and
+     * {@code ClimatePeriodDAO#sumReportSnowGreaterS1}: a custom value below
+     * the negative trace bound counts both non-trace values past the bound and
+     * near-zero negative values.
+     */
+    private ThresholdCount[] addPrecipCounts(List<ThresholdCount> counts,
+            Column column, float threshold, double traceBound) {
+        if (threshold < -traceBound) {
+            return new ThresholdCount[] {
+                    addCount(counts, column, traceBound, true, true),
+                    addCount(counts, column, -traceBound, false, true) };
+        }
+        return new ThresholdCount[] {
+                addCount(counts, column, threshold, true, true) };
+    }
+
+    private static int sumCounts(ThresholdCount[] counts) {
+        if (counts == null) {
+            return ParameterFormatClimate.MISSING;
+        }
+        int sum = 0;
+        for (ThresholdCount count : counts) {
+            sum += count.count;
+        }
+        return sum;
+    }
+
+    private static int count(ThresholdCount count) {
+        return count == null ? ParameterFormatClimate.MISSING : count.count;
+    }
+
+    private ColumnStats stats(Column column) {
+        return stats[column.ordinal()];
+    }
+
+    /**
+     * @return number of daily rows loaded.
+     */
+    int getNumRows() {
+        return numRows;
+    }
+
+    int getMaxMaxTemp() {
+        return (int) stats(Column.MAX_TEMP)
+                .max(ParameterFormatClimate.MISSING);
+    }
+
+    int getMinMinTemp() {
+        return (int) stats(Column.MIN_TEMP)
+                .min(ParameterFormatClimate.MISSING);
+    }
+
+    float getAvgMaxTemp() {
+        return stats(Column.MAX_TEMP).avg(ParameterFormatClimate.MISSING);
+    }
+
+    float getAvgMinTemp() {
+        return stats(Column.MIN_TEMP).avg(ParameterFormatClimate.MISSING);
+    }
+
+    int getNumMaxGreaterThan90F() {
+        return count(maxGe90);
+    }
+
+    int getNumMaxLessThan32F() {
+        return count(maxLe32);
+    }
+
+    int getNumMaxGreaterThanT1F() {
+        return count(maxGeT1);
+    }
+
+    int getNumMaxGreaterThanT2F() {
+        return count(maxGeT2);
+    }
+
+    int getNumMaxLessThanT3F() {
+        return count(maxLeT3);
+    }
+
+    int getNumMinLessThan32F() {
+        return count(minLe32);
+    }
+
+    int getNumMinLessThan0F() {
+        return count(minLe0);
+    }
+
+    int getNumMinGreaterThanT4F() {
+        return count(minGeT4);
+    }
+
+    int getNumMinLessThanT5F() {
+        return count(minLeT5);
+    }
+
+    int getNumMinLessThanT6F() {
+        return count(minLeT6);
+    }
+
+    float getSumTotalPrecip() {
+        return stats(Column.PRECIP)
+                .sumPrecipOrSnow(ParameterFormatClimate.MISSING_PRECIP);
+    }
+
+    float getAvgTotalPrecip() {
+        return stats(Column.PRECIP)
+                .avgPrecipOrSnow(ParameterFormatClimate.MISSING_PRECIP);
+    }
+
+    float getMaxTotalPrecip() {
+        return stats(Column.PRECIP).max(ParameterFormatClimate.MISSING_PRECIP);
+    }
+
+    int getNumTotalPrecipTrace() {
+        return stats(Column.PRECIP).traceCount;
+    }
+
+    int getNumPrcpGreaterThan01() {
+        return sumCounts(precipGe01);
+    }
+
+    int getNumPrcpGreaterThan10() {
+        return sumCounts(precipGe10);
+    }
+
+    int getNumPrcpGreaterThan50() {
+        return sumCounts(precipGe50);
+    }
+
+    int getNumPrcpGreaterThan100() {
+        return sumCounts(precipGe100);
+    }
+
+    int getNumPrcpGreaterThanP1() {
+        return sumCounts(precipGeP1);
+    }
+
+    int getNumPrcpGreaterThanP2() {
+        return sumCounts(precipGeP2);
+    }
+
+    float getSumTotalSnow() {
+        return stats(Column.SNOW)
+                .sumPrecipOrSnow(ParameterFormatClimate.MISSING_SNOW);
+    }
+
+    float getSumTotalSnowSinceJuly1() {
+        return snowJuly1.sumPrecipOrSnow(ParameterFormatClimate.MISSING_SNOW);
+    }
+
+    float getMaxSnow() {
+        return stats(Column.SNOW).max(ParameterFormatClimate.MISSING_SNOW);
+    }
+
+    int getNumTotalSnowTrace() {
+        return stats(Column.SNOW).traceCount;
+    }
+
+    int getNumSnowGreaterThanTR() {
+        return sumCounts(snowGeTrace);
+    }
+
+    int getNumSnowGreaterThan1() {
+        return sumCounts(snowGe1);
+    }
+
+    int getNumSnowGreaterThanS1() {
+        return sumCounts(snowGeS1);
+    }
+
+    /**
+     * @return mean snow on ground over days with at least trace, as in
+     *         {@code ClimatePeriodDAO#getAvgMeanSnowOnGround} for daily data.
+     */
+    float getAvgMeanSnowOnGround() {
+        float snowGroundSum = stats(Column.SNOW_GROUND)
+                .sumPrecipOrSnow(ParameterFormatClimate.MISSING_SNOW);
+        float meanSnowOnGround;
+        if (snowGroundSum < 0) {
+            meanSnowOnGround = ParameterFormatClimate.TRACE;
+        } else if (snowGroundSum == ParameterFormatClimate.MISSING_SNOW) {
+            meanSnowOnGround = ParameterFormatClimate.MISSING_SNOW;
+        } else {
+            meanSnowOnGround = snowGroundSum / snowGroundGeTrace.count;
+        }
+
+        if (meanSnowOnGround == ParameterFormatClimate.MISSING_SNOW) {
+            return ParameterFormatClimate.MISSING_SNOW;
+        } else if (meanSnowOnGround >= 0) {
+            return ClimateUtilities.nint(meanSnowOnGround);
+        } else {
+            return ParameterFormatClimate.TRACE;
+        }
+    }
+
+    /**
+     * @return max snow on ground, or trace if the max is 0 and there are trace
+     *         days, as in {@code ClimatePeriodDAO#getMaxSnowGround}.
+     */
+    int getMaxSnowGround() {
+        ColumnStats snowGround = stats(Column.SNOW_GROUND);
+        float max = snowGround.max(ParameterFormatClimate.MISSING_SNOW_VALUE);
+        if (max == 0 && snowGround.traceCount > 0) {
+            max = ParameterFormatClimate.TRACE;
+        }
+        return (int) max;
+    }
+
+    int getSumHeatDegreeDays() {
+        return (int) stats(Column.HEAT)
+                .sum(ParameterFormatClimate.MISSING_DEGREE_DAY);
+    }
+
+    int getSumHeatDegreeDaysSinceJuly1() {
+        return (int) heatJuly1.sum(ParameterFormatClimate.MISSING_DEGREE_DAY);
+    }
+
+    int getSumCoolDegreeDays() {
+        return (int) stats(Column.COOL)
+                .sum(ParameterFormatClimate.MISSING_DEGREE_DAY);
+    }
+
+    int getSumCoolDegreeDaysSinceJan1() {
+        return (int) coolJan1.sum(ParameterFormatClimate.MISSING_DEGREE_DAY);
+    }
+
+    float getMaxWindSpeed() {
+        return stats(Column.MAX_WIND_SPD)
+                .max(ParameterFormatClimate.MISSING_SPEED);
+    }
+
+    float getMaxGustSpeed() {
+        return stats(Column.MAX_GUST_SPD)
+                .max(ParameterFormatClimate.MISSING_SPEED);
+    }
+
+    int getAvgPossSun() {
+        float possSun = stats(Column.PERCENT_POS_SUN)
+                .avg(ParameterFormatClimate.MISSING);
+        if (possSun == ParameterFormatClimate.MISSING) {
+            return ParameterFormatClimate.MISSING;
+        }
+        return ClimateUtilities.nint(possSun);
+    }
+
+    float getAvgMeanSkyCover() {
+        return stats(Column.AVG_SKY_COVER).avg(ParameterFormatClimate.MISSING);
+    }
+
+    int getNumFair() {
+        return numFair;
+    }
+
+    int getNumPartlyCloudy() {
+        return numPartlyCloudy;
+    }
+
+    int getNumMostlyCloudy() {
+        return numMostlyCloudy;
+    }
+
+    /**
+     * @param column
+     *            one of the weather type columns.
+     * @return number of days with the weather type, or missing.
+     */
+    int getSumWeather(Column column) {
+        return (int) stats(column).sum(ParameterFormatClimate.MISSING);
+    }
+
+    /**
+     * @return average of the max and min RH means, as in
+     *         {@code ClimatePeriodDAO#getAvgMeanRh}.
+     */
+    int getAvgMeanRh() {
+        float maxRhMean = stats(Column.MAX_RH)
+                .avg(ParameterFormatClimate.MISSING);
+        if (maxRhMean != ParameterFormatClimate.MISSING) {
+            float minRhMean = stats(Column.MIN_RH)
+                    .avg(ParameterFormatClimate.MISSING);
+            if (minRhMean != ParameterFormatClimate.MISSING) {
+                return ClimateUtilities.nint((minRhMean + maxRhMean) / 2);
+            }
+        }
+        return ParameterFormatClimate.MISSING;
+    }
+
+    float getAvgWindSpeed() {
+        return stats(Column.AVG_WIND_SPEED)
+                .avg(ParameterFormatClimate.MISSING_SPEED);
+    }
+
+    /**
+     * @param maxTemp
+     * @return dates in the period with the given max temperature.
+     */
+    List<ClimateDate> getMaxTempOccurrences(int maxTemp) {
+        List<Integer> rows = new ArrayList<>();
+        float[] column = values[Column.MAX_TEMP.ordinal()];
+        for (int row = firstRow(); row < numRows
+                && dateKeys[row] <= endKey; row++) {
+            if (isPresent(Column.MAX_TEMP, column[row])
+                    && column[row] >= maxTemp) {
+                rows.add(row);
+            }
+        }
+        return toDateList(sortRows(rows, column, true));
+    }
+
+    /**
+     * @param minTemp
+     * @return dates in the period with the given min temperature.
+     */
+    List<ClimateDate> getMinTempOccurrences(int minTemp) {
+        List<Integer> rows = new ArrayList<>();
+        float[] column = values[Column.MIN_TEMP.ordinal()];
+        for (int row = firstRow(); row < numRows
+                && dateKeys[row] <= endKey; row++) {
+            if (isPresent(Column.MIN_TEMP, column[row])
+                    && column[row] <= minTemp) {
+                rows.add(row);
+            }
+        }
+        return toDateList(sortRows(rows, column, false));
+    }
+
+    /**
+     * @param maxTotalPrecip
+     * @return single day date ranges with the given max precip (or trace).
+     */
+    List<ClimateDates> getMaxTotalPrecipOccurrences(float maxTotalPrecip) {
+        List<Integer> rows = new ArrayList<>();
+        float[] column = values[Column.PRECIP.ordinal()];
+        float target = ClimateUtilities.nint(maxTotalPrecip, ROUND_SCALE);
+        for (int row = firstRow(); row < numRows
+                && dateKeys[row] <= endKey; row++) {
+            float value = column[row];
+            if (!isPresent(Column.PRECIP, value)) {
+                continue;
+            }
+            if (maxTotalPrecip != ParameterFormatClimate.TRACE
+                    ? value >= target : value <= target) {
+                rows.add(row);
+            }
+        }
+        return toSingleDayDatesList(sortRows(rows, column, true));
+    }
+
+    /**
+     * @param maxTotalSnow
+     * @return single day date ranges with at least the given snow.
+     */
+    List<ClimateDates> getMaxTotalSnowOccurrences(float maxTotalSnow) {
+        List<Integer> rows = new ArrayList<>();
+        float[] column = values[Column.SNOW.ordinal()];
+        float target = ClimateUtilities.nint(maxTotalSnow, ROUND_SCALE);
+        for (int row = firstRow(); row < numRows
+                && dateKeys[row] <= endKey; row++) {
+            float value = column[row];
+            if (isPresent(Column.SNOW, value) && value >= target) {
+                rows.add(row);
+            }
+        }
+        return toSingleDayDatesList(sortRows(rows, column, true));
+    }
+
+    /**
+     * @param snowGround
+     * @return dates with at least the given snow on ground.
+     */
+    List<ClimateDate> getMaxSnowGroundOccurrences(int snowGround) {
+        return toDateList(getRoundedOccurrenceRows(Column.SNOW_GROUND,
+                ClimateUtilities.nint((double) snowGround, ROUND_SCALE)));
+    }
+
+    /**
+     * Add dates and directions of the given max wind speed to the given lists.
+     *
+     * @param maxWindSpeed
+     * @param dates
+     * @param winds
+     * @return number of dates whose direction was missing.
+     */
+    int getMaxWindSpeedOccurrencesAndDir(float maxWindSpeed,
+            List<ClimateDate> dates, List<ClimateWind> winds) {
+        return fillWindOccurrences(Column.MAX_WIND_SPD, Column.MAX_WIND_DIR,
+                maxWindSpeed, dates, winds);
+    }
+
+    /**
+     * Add dates and directions of the given max gust speed to the given lists.
+     *
+     * @param maxGustSpeed
+     * @param dates
+     * @param gusts
+     * @return number of dates whose direction was missing.
+     */
+    int getMaxGustSpeedOccurrencesAndDir(float maxGustSpeed,
+            List<ClimateDate> dates, List<ClimateWind> gusts) {
+        return fillWindOccurrences(Column.MAX_GUST_SPD, Column.MAX_GUST_DIR,
+                maxGustSpeed, dates, gusts);
+    }
+
+    private int fillWindOccurrences(Column speedColumn, Column dirColumn,
+            float maxSpeed, List<ClimateDate> dates, List<ClimateWind> winds) {
+        int missingDirs = 0;
+        float[] dirs = values[dirColumn.ordinal()];
+        for (int row : getRoundedOccurrenceRows(speedColumn,
+                ClimateUtilities.nint(maxSpeed, ROUND_SCALE))) {
+            dates.add(new ClimateDate(this.dates[row]));
+            float dir = dirs[row];
+            if (Float.isNaN(dir) || dir == ParameterFormatClimate.MISSING) {
+                missingDirs++;
+                winds.add(new ClimateWind(ParameterFormatClimate.MISSING,
+                        maxSpeed));
+            } else {
+                winds.add(new ClimateWind((int) dir, maxSpeed));
+            }
+        }
+        return missingDirs;
+    }
+
+    /**
+     * Rows where ROUND(column::numeric, 2) is at least the given value, in
+     * descending value order.
+     */
+    private List<Integer> getRoundedOccurrenceRows(Column column,
+            double target) {
+        List<Integer> rows = new ArrayList<>();
+        float[] columnValues = values[column.ordinal()];
+        for (int row = firstRow(); row < numRows
+                && dateKeys[row] <= endKey; row++) {
+            float value = columnValues[row];
+            if (isPresent(column, value) && roundNumeric(value) >= target) {
+                rows.add(row);
+            }
+        }
+        return sortRows(rows, columnValues, true);
+    }
+
+    /**
+     * @return index of the first row in the period.
+     */
+    private int firstRow() {
+        int row = 0;
+        while (row < numRows && dateKeys[row] < beginKey) {
+            row++;
+        }
+        return row;
+    }
+
+    private List<Integer> sortRows(List<Integer> rows, final float[] column,
+            final boolean descending) {
+        // stable sort, so equal values stay in date order
+        Collections.sort(rows, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                int result = Float.compare(column[o1], column[o2]);
+                return descending ? -result : result;
+            }
+        });
+        return rows;
+    }
+
+    private List<ClimateDate> toDateList(List<Integer> rows) {
+        List<ClimateDate> list = new ArrayList<>(rows.size());
+        for (int row : rows) {
+            list.add(new ClimateDate(dates[row]));
+        }
+        return list;
+    }
+
+    private List<ClimateDates> toSingleDayDatesList(List<Integer> rows) {
+        List<ClimateDates> list = new ArrayList<>(rows.size());
+        for (int row : rows) {
+            list.add(new ClimateDates(new ClimateDate(dates[row]),
+                    // make a copy for end date to ensure different references
+                    new ClimateDate(dates[row])));
+        }
+        return list;
+    }
+
+    private static boolean isPresent(Column column, float value) {
+        return !Float.isNaN(value) && value != column.getMissing();
+    }
+
+    /**
+     * Round a real the way ROUND(real::numeric, 2) does.
+     */
+    private static double roundNumeric(float value) {
+        return new BigDecimal(Float.toString(value)).round(REAL_TO_NUMERIC)
+                .setScale(ROUND_SCALE, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    /**
+     * @param date
+     * @return sortable integer key (yyyymmdd) of the date.
+     */
+    private static int dateKey(ClimateDate date) {
+        return (date.getYear() * 100 + date.getMon()) * 100 + date.getDay();
+    }
+}
@@ -3,6 +3,7 @@
  **/
 package gov.noaa.nws.ocp.edex.common.climate.dao;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -44,6 +45,36 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClima
  * @version 1.0
  */
 public class MonthClimateNormDAO extends ClimateDAO {
+    /**
+     * mon_climate_norm key columns.
+     */
+    private static final String[] MONTH_NORM_KEY_COLUMNS = { "station_id",
+            "month_of_year", "period_type" };
+
+    /**
+     * mon_climate_norm columns written by imports, in the order of
+     * {@link #getImportValues(PeriodClimo)}.
+     */
+    private static final String[] MONTH_NORM_IMPORT_COLUMNS = {
+            "max_temp_mean", "max_temp_record", "day_max_temp_rec1",
+            "day_max_temp_rec2", "day_max_temp_rec3", "min_temp_mean",
+            "min_temp_record", "day_min_temp_rec1", "day_min_temp_rec2",
+            "day_min_temp_rec3", "norm_mean_temp", "norm_mean_max_temp",
+            "norm_mean_min_temp", "num_max_ge_90f", "num_max_le_32f",
+            "num_min_le_32f", "num_min_le_0f", "precip_pd_mean",
+            "precip_pd_max", "precip_pd_max_yr1", "precip_pd_max_yr2",
+            "precip_pd_max_yr3", "precip_period_min", "precip_pd_min_yr1",
+            "precip_pd_min_yr2", "precip_pd_min_yr3", "precip_day_norm",
+            "num_prcp_ge_01", "num_prcp_ge_10", "num_prcp_ge_50",
+            "num_prcp_ge_100", "snow_pd_mean", "snow_pd_max",
+            "snow_pd_max_yr1", "snow_pd_max_yr2", "snow_pd_max_yr3",
+            "snow_max_24h_rec", "snow_24h_begin1", "snow_24h_end1",
+            "snow_24h_begin2", "snow_24h_end2", "snow_24h_begin3",
+            "snow_24h_end3", "snow_water_pd_norm", "snow_ground_norm",
+            "snow_ground_max", "day_snow_grnd_max1", "day_snow_grnd_max2",
+            "day_snow_grnd_max3", "num_snow_ge_tr", "num_snow_ge_1",
+            "heat_pd_mean", "cool_pd_mean" };
+
     /**
      * Constructor.
      */
@@ -101,8 +132,7 @@ public class MonthClimateNormDAO extends ClimateDAO {
         paramMap.put("type", periodType.getValue());
 
         try {
-            Object[] results = getDao().executeSQLQuery(sql.toString(),
-                    paramMap);
+            Object[] results = executeNormsQuery(sql.toString(), paramMap);
             if (results != null && results.length >= 1) {
                 Object result = results[0];
                 if (result instanceof Object[]) {
@@ -660,7 +690,7 @@ public class MonthClimateNormDAO extends ClimateDAO {
         queryParams.put("period_type", record.getPeriodType().getValue());
 
         try {
-            int numRow = getDao().executeSQLUpdate(sql.toString(), queryParams);
+            int numRow = executeNormsUpdate(sql.toString(), queryParams);
             return (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException("Failed to update table "
@@ -965,7 +995,7 @@ public class MonthClimateNormDAO extends ClimateDAO {
         queryParams.put("period_type", record.getPeriodType().getValue());
 
         try {
-            int numRow = getDao().executeSQLUpdate(sql.toString(), queryParams);
+            int numRow = executeNormsUpdate(sql.toString(), queryParams);
             return (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException("Failed to update table "
@@ -975,6 +1005,176 @@ public class MonthClimateNormDAO extends ClimateDAO {
         }
     }
 
+    /**
+     * Import month norms: insert each record whose row does not exist, else
+     * update only the columns with non-missing values, as
+     * {@link #updateClimateMonthNormNoMissing(PeriodClimo)} does. All records
+     * are written in one transaction, with a few set-based statements.
+     * 
+     * @param records
+     *            records to import, merged in order if a station, month and
+     *            period type appears more than once.
+     * @param errors
+     *            list to add a message to for each record that is invalid and
+     *            so not imported.
+     * @return the number of records imported.
+     * @throws ClimateQueryException
+     *             if the import failed, in which case no records were
+     *             imported.
+     */
+    public int importClimateMonthNormsNoMissing(List<PeriodClimo> records,
+            List<String> errors) throws ClimateQueryException {
+        String missing = String.valueOf(ParameterFormatClimate.MISSING);
+        String missingPrecip = String
+                .valueOf(ParameterFormatClimate.MISSING_PRECIP);
+        String missingSnow = String
+                .valueOf(ParameterFormatClimate.MISSING_SNOW);
+        // dates and years are written as null when missing
+        String[] missingValues = { missing, missing, null, null, null, missing,
+                missing, null, null, null, missing, missing, missing, missing,
+                missing, missing, missing, missingPrecip, missingPrecip, null,
+                null, null, missingPrecip, null, null, null, missingPrecip,
+                missing, missing, missing, missing, missingSnow, missingSnow,
+                null, null, null, missingSnow, null, null, null, null, null,
+                null, missingSnow, missingSnow, missingSnow, null, null, null,
+                missing, missing, missing, missing };
+
+        MultiRowInsertBatch batch = new MultiRowInsertBatch(
+                ClimateDAOValues.MONTH_CLIMATE_NORM_TABLE_NAME, "n",
+                MONTH_NORM_KEY_COLUMNS, MONTH_NORM_IMPORT_COLUMNS);
+        batch.setNoMissingMerge(missingValues);
+
+        for (PeriodClimo record : records) {
+            if (record.getPeriodType() == null) {
+                errors.add("No period type for record with station ID="
+                        + record.getInformId() + " and mon_of_year="
+                        + record.getMonthOfYear());
+                continue;
+            }
+
+            batch.add(
+                    new Object[] { record.getInformId(),
+                            record.getMonthOfYear(),
+                            record.getPeriodType().getValue() },
+                    getImportValues(record));
+        }
+
+        if (batch.size() == 0) {
+            return 0;
+        }
+
+        Map<String, Object> queryParams = new HashMap<>();
+        String sql = batch.toSQL(queryParams);
+        try {
+            executeNormsUpdate(sql, queryParams);
+        } catch (Exception e) {
+            throw new ClimateQueryException("Failed to import "
+                    + batch.size() + " records into table "
+                    + ClimateDAOValues.MONTH_CLIMATE_NORM_TABLE_NAME, e);
+        }
+        return batch.size();
+    }
+
+    /**
+     * @param record
+     * @return values of {@link #MONTH_NORM_IMPORT_COLUMNS} for the record,
+     *         with missing dates and years as null.
+     */
+    private static Object[] getImportValues(PeriodClimo record) {
+        List<Object> values = new ArrayList<>(
+                MONTH_NORM_IMPORT_COLUMNS.length);
+
+        values.add(record.getMaxTempNorm());
+        values.add(record.getMaxTempRecord());
+        addImportDates(values, record.getDayMaxTempRecordList());
+        values.add(record.getMinTempNorm());
+        values.add(record.getMinTempRecord());
+        addImportDates(values, record.getDayMinTempRecordList());
+
+        values.add(record.getNormMeanTemp());
+        values.add(record.getNormMeanMaxTemp());
+        values.add(record.getNormMeanMinTemp());
+        values.add(record.getNormNumMaxGE90F());
+        values.add(record.getNormNumMaxLE32F());
+        values.add(record.getNormNumMinLE32F());
+        values.add(record.getNormNumMinLE0F());
+
+        values.add(record.getPrecipPeriodNorm());
+        values.add(record.getPrecipPeriodMax());
+        addImportYears(values, record.getPrecipPeriodMaxYearList());
+        values.add(record.getPrecipPeriodMin());
+        addImportYears(values, record.getPrecipPeriodMinYearList());
+        values.add(record.getPrecipDayNorm());
+        values.add(record.getNumPrcpGE01Norm());
+        values.add(record.getNumPrcpGE10Norm());
+        values.add(record.getNumPrcpGE50Norm());
+        values.add(record.getNumPrcpGE100Norm());
+
+        values.add(record.getSnowPeriodNorm());
+        values.add(record.getSnowPeriodRecord());
+        addImportYears(values, record.getSnowPeriodMaxYearList());
+        values.add(record.getSnowMax24HRecord());
+        List<ClimateDates> dates = record.getSnow24HList();
+        for (int i = 0; i < 3; i++) {
+            ClimateDates period = (dates != null && i < dates.size())
+                    ? dates.get(i) : null;
+            values.add(period == null ? null
+                    : getImportDate(period.getStart()));
+            values.add(period == null ? null : getImportDate(period.getEnd()));
+        }
+        values.add(record.getSnowWaterPeriodNorm());
+        values.add(record.getSnowGroundNorm());
+        values.add(record.getSnowGroundMax());
+        addImportDates(values, record.getDaySnowGroundMaxList());
+        values.add(record.getNumSnowGETRNorm());
+        values.add(record.getNumSnowGE1Norm());
+
+        values.add(record.getNumHeatPeriodNorm());
+        values.add(record.getNumCoolPeriodNorm());
+
+        return values.toArray();
+    }
+
+    /**
+     * Add the first three dates of a list of record dates, as for an insert.
+     * 
+     * @param values
+     * @param dates
+     */
+    private static void addImportDates(List<Object> values,
+            List<ClimateDate> dates) {
+        for (int i = 0; i < 3; i++) {
+            values.add((dates != null && i < dates.size())
+                    ? getImportDate(dates.get(i)) : null);
+        }
+    }
+
+    /**
+     * Add the years of the first three dates of a list of record dates.
+     * 
+     * @param values
+     * @param dates
+     */
+    private static void addImportYears(List<Object> values,
+            List<ClimateDate> dates) {
+        for (int i = 0; i < 3; i++) {
+            ClimateDate date = (dates != null && i < dates.size())
+                    ? dates.get(i) : null;
+            values.add((date == null
+                    || date.getYear() == ParameterFormatClimate.MISSING) ? null
+                            : date.getYear());
+        }
+    }
+
+    /**
+     * @param date
+     * @return the date to write, or null if missing.
+     */
+    private static Object getImportDate(ClimateDate date) {
+        return (date == null || date.isPartialMissing()) ? null
+                : date.getCalendarFromClimateDate();
+    }
+
     /**
      * delete a record from mon_climate_norm
      * 
@@ -999,7 +1199,7 @@ public class MonthClimateNormDAO extends ClimateDAO {
 
         boolean isDeleted = false;
         try {
-            int numRow = getDao().executeSQLUpdate(sql.toString(), queryParams);
+            int numRow = executeNormsUpdate(sql.toString(), queryParams);
             isDeleted = (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException("Failed to delete a row. Query: ["
@@ -1361,7 +1561,7 @@ public class MonthClimateNormDAO extends ClimateDAO {
 
         boolean isInserted = false;
         try {
-            int numRow = getDao().executeSQLUpdate(sql.toString(), queryParams);
+            int numRow = executeNormsUpdate(sql.toString(), queryParams);
             isInserted = (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException("Failed to insert into table "
@@ -0,0 +1,435 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects rows for one climate table, and renders them as multi-row insert
+ * statements with bound parameters, for a script that is run with a single
+ * update call and so is committed or rolled back together.
+ *
+ * Rows are keyed on the given key columns. By default a key added again
+ * replaces the earlier row, since a plain insert cannot write the same key
+ * twice. If the batch merges into existing rows (see
+ * {@link #setNoMissingMerge(String[])}), a key added again is instead written
+ * by a later statement of the script, since one statement cannot update the
+ * same row twice, so the rows are merged in the order they were added.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public final class MultiRowInsertBatch {
+
+    /**
+     * A value to be written into the SQL as-is rather than bound.
+     */
+    private static final class Literal {
+        private final String sql;
+
+        private Literal(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    /**
+     * SQL NULL value. A null value is also written as NULL.
+     */
+    public static final Object NULL = new Literal("NULL");
+
+    /**
+     * Maximum bound parameters per insert statement, well under the JDBC
+     * limit of 32767 per statement.
+     */
+    private static final int MAX_PARAMS_PER_STATEMENT = 15000;
+
+    /**
+     * Alias of the table in a merge.
+     */
+    private static final String TABLE_ALIAS = "t";
+
+    /**
+     * Name of the imported rows in a merge.
+     */
+    private static final String VALUES_ALIAS = "v";
+
+    /**
+     * Name of the keys of the updated rows in a merge.
+     */
+    private static final String UPDATED_ALIAS = "u";
+
+    /**
+     * Table name.
+     */
+    private final String table;
+
+    /**
+     * Prefix for bound parameter names, unique within a script.
+     */
+    private final String paramPrefix;
+
+    /**
+     * Key column names.
+     */
+    private final String[] keyColumns;
+
+    /**
+     * Other column names, or null to insert whole rows in table column order.
+     */
+    private final String[] columns;
+
+    /**
+     * SQL expression of the merged value of each of {@link #columns}, or null
+     * if rows are not merged into existing rows.
+     */
+    private String[] mergeValues;
+
+    /**
+     * Keyed rows by key, in insertion order. Without a merge there is only
+     * one round.
+     */
+    private final List<Map<List<Object>, Object[]>> rounds = new ArrayList<>();
+
+    /**
+     * Whole rows, for a batch without columns.
+     */
+    private final List<Object[]> unkeyedRows = new ArrayList<>();
+
+    /**
+     * Number of rows added.
+     */
+    private int size;
+
+    /**
+     * Constructor for a batch of keyed rows.
+     *
+     * @param table
+     *            table name.
+     * @param paramPrefix
+     *            prefix for bound parameter names, unique within a script.
+     * @param keyColumns
+     *            key columns.
+     * @param columns
+     *            other columns.
+     */
+    public MultiRowInsertBatch(String table, String paramPrefix,
+            String[] keyColumns, String[] columns) {
+        this.table = table;
+        this.paramPrefix = paramPrefix;
+        this.keyColumns = keyColumns;
+        this.columns = columns;
+    }
+
+    /**
+     * Constructor for a batch of whole rows in table column order, all of
+     * which are inserted.
+     *
+     * @param table
+     *            table name.
+     * @param paramPrefix
+     *            prefix for bound parameter names, unique within a script.
+     */
+    public MultiRowInsertBatch(String table, String paramPrefix) {
+        this(table, paramPrefix, new String[0], null);
+    }
+
+    /**
+     * @param sql
+     *            SQL text.
+     * @return value to be written into the SQL as-is.
+     */
+    public static Object literal(String sql) {
+        return new Literal(sql);
+    }
+
+    /**
+     * Merge a row whose key already exists in the table into the existing
+     * row: columns given the missing value keep their current value, as in
+     * the legacy no-missing updates. Rows whose key does not exist are
+     * inserted whole. As in the legacy select-then-update, the key columns
+     * need not form a unique constraint of the table, and every row with the
+     * key is updated.
+     *
+     * @param missingValues
+     *            SQL literal of the missing value of each of the non-key
+     *            columns, or null where missing values are null.
+     */
+    public void setNoMissingMerge(String[] missingValues) {
+        if (columns == null || columns.length != missingValues.length) {
+            throw new IllegalArgumentException(
+                    (columns == null ? 0 : columns.length) + " columns but "
+                            + missingValues.length + " missing values");
+        }
+        mergeValues = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            String current = TABLE_ALIAS + "." + columns[i];
+            String imported = VALUES_ALIAS + "." + columns[i];
+            if (missingValues[i] == null) {
+                mergeValues[i] = "COALESCE(" + imported + "," + current + ")";
+            } else {
+                mergeValues[i] = "CASE WHEN " + imported + "="
+                        + missingValues[i] + " THEN " + current + " ELSE "
+                        + imported + " END";
+            }
+        }
+    }
+
+    /**
+     * @param key
+     *            key column values.
+     * @param values
+     *            other column values, in column order.
+     */
+    public void add(Object[] key, Object[] values) {
+        if (columns == null || key.length != keyColumns.length
+                || values.length != columns.length) {
+            throw new IllegalArgumentException("Expected "
+                    + keyColumns.length + " key values and "
+                    + (columns == null ? 0 : columns.length)
+                    + " values, got " + key.length + " and "
+                    + values.length);
+        }
+        Object[] row = Arrays.copyOf(key, key.length + values.length);
+        System.arraycopy(values, 0, row, key.length, values.length);
+
+        List<Object> keyList = Arrays.asList(key);
+        size++;
+        if (mergeValues == null && !rounds.isEmpty()) {
+            rounds.get(0).put(keyList, row);
+            return;
+        }
+        for (Map<List<Object>, Object[]> round : rounds) {
+            if (!round.containsKey(keyList)) {
+                round.put(keyList, row);
+                return;
+            }
+        }
+        Map<List<Object>, Object[]> round = new LinkedHashMap<>();
+        round.put(keyList, row);
+        rounds.add(round);
+    }
+
+    /**
+     * @param values
+     *            whole row, in table column order.
+     */
+    public void addRow(Object... values) {
+        if (columns != null) {
+            throw new IllegalStateException(
+                    "Rows of " + table + " must be added with a key");
+        }
+        size++;
+        unkeyedRows.add(values);
+    }
+
+    /**
+     * @return the number of rows added.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Render the batch as a script and fill in its parameters.
+     *
+     * @param params
+     *            parameter map to fill.
+     * @return the SQL script, empty if no rows were added.
+     */
+    public String toSQL(Map<String, Object> params) {
+        StringBuilder sql = new StringBuilder();
+        appendSQL(sql, params);
+        return sql.toString();
+    }
+
+    /**
+     * Append the insert statements of the batch to a script and fill in their
+     * parameters. Nothing is appended if no rows were added.
+     *
+     * @param sql
+     *            script to append to.
+     * @param params
+     *            parameter map to fill.
+     */
+    public void appendSQL(StringBuilder sql, Map<String, Object> params) {
+        List<List<Object[]>> rowSets = new ArrayList<>();
+        if (columns == null) {
+            rowSets.add(unkeyedRows);
+        } else {
+            for (Map<List<Object>, Object[]> round : rounds) {
+                rowSets.add(new ArrayList<>(round.values()));
+            }
+        }
+
+        int statement = 0;
+        for (List<Object[]> rows : rowSets) {
+            if (rows.isEmpty()) {
+                continue;
+            }
+            int width = rows.get(0).length;
+            int maxRows = Math.max(1, MAX_PARAMS_PER_STATEMENT / width);
+            for (int start = 0; start < rows.size();) {
+                int end = Math.min(rows.size(), start + maxRows);
+                String prefix = paramPrefix + statement + "_";
+                if (mergeValues == null) {
+                    appendInsert(sql, params, prefix,
+                            rows.subList(start, end));
+                } else {
+                    appendMerge(sql, params, prefix,
+                            rows.subList(start, end));
+                }
+                start = end;
+                statement++;
+            }
+        }
+    }
+
+    /**
+     * Append a comma-separated list of value tuples, binding each value
+     * other than null or a literal to a uniquely named parameter.
+     *
+     * @param sql
+     * @param params
+     * @param prefix
+     *            prefix for the bound parameter names.
+     * @param rows
+     */
+    public static void appendValues(StringBuilder sql,
+            Map<String, Object> params, String prefix, List<Object[]> rows) {
+        for (int row = 0; row < rows.size(); row++) {
+            if (row > 0) {
+                sql.append(",");
+            }
+            sql.append("(");
+            Object[] values = rows.get(row);
+            for (int col = 0; col < values.length; col++) {
+                if (col > 0) {
+                    sql.append(",");
+                }
+                if (values[col] == null) {
+                    sql.append("NULL");
+                } else if (values[col] instanceof Literal) {
+                    sql.append(((Literal) values[col]).sql);
+                } else {
+                    String name = prefix + row + "_" + col;
+                    sql.append(":").append(name);
+                    params.put(name, values[col]);
+                }
+            }
+            sql.append(")");
+        }
+    }
+
+    /**
+     * Append one insert.
+     *
+     * @param sql
+     * @param params
+     * @param prefix
+     *            prefix for the bound parameter names.
+     * @param rows
+     */
+    private void appendInsert(StringBuilder sql, Map<String, Object> params,
+            String prefix, List<Object[]> rows) {
+        sql.append("INSERT INTO ").append(table);
+        if (columns != null) {
+            sql.append(" (").append(String.join(",", getAllColumns()))
+                    .append(")");
+        }
+        sql.append(" VALUES ");
+        appendValues(sql, params, prefix, rows);
+        sql.append(";\n");
+    }
+
+    /**
+     * Append one statement that updates the existing rows with the keys of
+     * the given rows, then inserts the rows whose keys were not updated. The
+     * given rows must have distinct keys.
+     *
+     * The rows are read through a union with an empty select from the table,
+     * so that NULL values take the types of the table columns.
+     *
+     * @param sql
+     * @param params
+     * @param prefix
+     *            prefix for the bound parameter names.
+     * @param rows
+     */
+    private void appendMerge(StringBuilder sql, Map<String, Object> params,
+            String prefix, List<Object[]> rows) {
+        String allColumns = String.join(",", getAllColumns());
+
+        sql.append("WITH ").append(VALUES_ALIAS).append(" AS (SELECT ")
+                .append(allColumns).append(" FROM ").append(table)
+                .append(" WHERE false UNION ALL VALUES ");
+        appendValues(sql, params, prefix, rows);
+        sql.append("), ").append(UPDATED_ALIAS).append(" AS (UPDATE ")
+                .append(table).append(" AS ").append(TABLE_ALIAS)
+                .append(" SET ");
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(columns[i]).append("=").append(mergeValues[i]);
+        }
+        sql.append(" FROM ").append(VALUES_ALIAS).append(" WHERE ");
+        appendKeyMatch(sql, TABLE_ALIAS);
+        sql.append(" RETURNING ");
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i > 0) {
+                sql.append(",");
+            }
+            sql.append(TABLE_ALIAS).append(".").append(keyColumns[i]);
+        }
+        sql.append(") INSERT INTO ").append(table).append(" (")
+                .append(allColumns).append(") SELECT ").append(allColumns)
+                .append(" FROM ").append(VALUES_ALIAS)
+                .append(" WHERE NOT EXISTS (SELECT 1 FROM ")
+                .append(UPDATED_ALIAS).append(" WHERE ");
+        appendKeyMatch(sql, UPDATED_ALIAS);
+        sql.append(");\n");
+    }
+
+    /**
+     * Append the condition that the keys of the given relation match those
+     * of the imported rows.
+     *
+     * @param sql
+     * @param alias
+     *            alias of the relation.
+     */
+    private void appendKeyMatch(StringBuilder sql, String alias) {
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i > 0) {
+                sql.append(" AND ");
+            }
+            sql.append(alias).append(".").append(keyColumns[i]).append("=")
+                    .append(VALUES_ALIAS).append(".").append(keyColumns[i]);
+        }
+    }
+
+    /**
+     * @return the key columns followed by the other columns.
+     */
+    private String[] getAllColumns() {
+        String[] allColumns = Arrays.copyOf(keyColumns,
+                keyColumns.length + columns.length);
+        System.arraycopy(columns, 0, allColumns, keyColumns.length,
+                columns.length);
+        return allColumns;
+    }
+}
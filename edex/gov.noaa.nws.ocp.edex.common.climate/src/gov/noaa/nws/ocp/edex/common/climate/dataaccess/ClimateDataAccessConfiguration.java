@@ -35,6 +35,42 @@ public class ClimateDataAccessConfiguration {
      */
     private static final String ENV_CLIMATE_DB_NAME = "climate.db.name";
 
+    /**
+     * System property to enable (default) or disable building monthly period
+     * data from a single fetch of the daily climate rows instead of one query
+     * per element.
+     */
+    private static final String ENV_CLIMATE_PERIOD_SINGLE_PASS = "climate.period.singlepass";
+
+    /**
+     * System property for the maximum number of METAR reports written to the
+     * FSS tables in one transaction.
+     */
+    private static final String ENV_CLIMATE_FSS_BATCH_SIZE = "climate.fss.batch.size";
+
+    /**
+     * Default FSS insertion batch size.
+     */
+    private static final int DEFAULT_FSS_BATCH_SIZE = 50;
+
+    /**
+     * Largest allowed FSS insertion batch size, keeping a batch statement well
+     * under the database bind parameter limit.
+     */
+    private static final int MAX_FSS_BATCH_SIZE = 100;
+
+    /**
+     * System property for the longest time, in milliseconds, that decoded
+     * METAR reports are held to fill an FSS insertion batch across incoming
+     * messages.
+     */
+    private static final String ENV_CLIMATE_FSS_BATCH_DELAY = "climate.fss.batch.delay";
+
+    /**
+     * Default FSS insertion batch delay, in milliseconds.
+     */
+    private static final long DEFAULT_FSS_BATCH_DELAY = 1000;
+
     /**
      * Get the name of the Climate database, based on environment variable first
      * {@link ClimateDataAccessConfiguration#ENV_CLIMATE_DB_NAME}, and default
@@ -55,4 +91,67 @@ public class ClimateDataAccessConfiguration {
         // for now, use the A2 DB name
         return DEFAULT_CLIMATE_DB_NAME;
     }
+
+    /**
+     * Get whether monthly period data should be built from a single fetch of
+     * the daily climate rows, based on system property
+     * {@link ClimateDataAccessConfiguration#ENV_CLIMATE_PERIOD_SINGLE_PASS}.
+     * Defaults to false, using the legacy per-element queries; set the
+     * property to true to enable single-pass aggregation once it has been
+     * checked against a site's data.
+     * 
+     * @return true if single-pass period aggregation is enabled.
+     */
+    public static boolean isPeriodSinglePassEnabled() {
+        return Boolean.parseBoolean(
+                System.getProperty(ENV_CLIMATE_PERIOD_SINGLE_PASS, "false"));
+    }
+
+    /**
+     * Get the maximum number of METAR reports written to the FSS tables in one
+     * transaction, based on system property
+     * {@link ClimateDataAccessConfiguration#ENV_CLIMATE_FSS_BATCH_SIZE}.
+     * Defaults to {@link ClimateDataAccessConfiguration#DEFAULT_FSS_BATCH_SIZE}
+     * and is capped at
+     * {@link ClimateDataAccessConfiguration#MAX_FSS_BATCH_SIZE}. A value of 1
+     * writes each report in its own transaction.
+     * 
+     * @return FSS insertion batch size.
+     */
+    public static int getFSSBatchSize() {
+        String value = System.getProperty(ENV_CLIMATE_FSS_BATCH_SIZE, "");
+        if (!value.isEmpty()) {
+            try {
+                return Math.max(1, Math.min(MAX_FSS_BATCH_SIZE,
+                        Integer.parseInt(value.trim())));
+            } catch (NumberFormatException e) {
+                // fall through to default
+            }
+        }
+        return DEFAULT_FSS_BATCH_SIZE;
+    }
+
+    /**
+     * Get the longest time, in milliseconds, that decoded METAR reports are
+     * held to fill an FSS insertion batch across incoming messages, based on
+     * system property
+     * {@link ClimateDataAccessConfiguration#ENV_CLIMATE_FSS_BATCH_DELAY}.
+     * Defaults to
+     * {@link ClimateDataAccessConfiguration#DEFAULT_FSS_BATCH_DELAY}. A value
+     * of 0 writes the reports of each message before it is acknowledged, with
+     * no batching across messages.
+     * 
+     * @return FSS insertion batch delay in milliseconds.
+     */
+    public static long getFSSBatchDelay() {
+        String value = System.getProperty(ENV_CLIMATE_FSS_BATCH_DELAY, "");
+        if (!value.isEmpty()) {
+            try {
+                return Math.max(0, Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                // fall through to default
+            }
+        }
+        return DEFAULT_FSS_BATCH_DELAY;
+    }
 }
@@ -13,10 +13,12 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.raytheon.uf.common.localization.ILocalizationFile;
+import com.raytheon.uf.common.localization.ILocalizationPathObserver;
 import com.raytheon.uf.common.localization.IPathManager;
 import com.raytheon.uf.common.localization.LocalizationContext;
 import com.raytheon.uf.common.localization.LocalizationContext.LocalizationLevel;
@@ -101,11 +103,71 @@ public class ClimateGlobalConfiguration {
      */
     private static final String CPG_CRON_TIMEZONE_SPRING_PROPERTY = "climate.cpg.cron.timezone";
 
+    /**
+     * Globals last read or saved, or null if they must be read again. Never
+     * modified; callers get copies.
+     */
+    private static volatile ClimateGlobal cachedGlobal;
+
+    /**
+     * Incremented on every change to the globals file, so that globals read
+     * while the file was changing are not cached.
+     */
+    private static final AtomicInteger fileVersion = new AtomicInteger();
+
+    /**
+     * Whether the localization observer has been added.
+     */
+    private static boolean observing;
+
+    /**
+     * Drops the cached globals when the globals file changes at any level.
+     */
+    private static final ILocalizationPathObserver GLOBAL_DAY_OBSERVER = new ILocalizationPathObserver() {
+        @Override
+        public void fileChanged(ILocalizationFile file) {
+            if (file.getPath().equals(GLOBAL_DAY_PATH)) {
+                fileVersion.incrementAndGet();
+                cachedGlobal = null;
+            }
+        }
+    };
+
     /**
      * @return global configuration values from SITE-BASE in that
-     *         preference order; can be null on error.
+     *         preference order; can be null on error. The values are read
+     *         once and cached until the file changes, and each call returns
+     *         a new copy that may be modified.
      */
     public static ClimateGlobal getGlobal() {
+        ClimateGlobal global = cachedGlobal;
+        if (global == null) {
+            synchronized (ClimateGlobalConfiguration.class) {
+                global = cachedGlobal;
+                if (global == null) {
+                    if (!observing) {
+                        PathManagerFactory.getPathManager()
+                                .addLocalizationPathObserver(GLOBAL_DAY_PATH,
+                                        GLOBAL_DAY_OBSERVER);
+                        observing = true;
+                    }
+                    int version = fileVersion.get();
+                    global = readGlobal();
+                    // not cached on error, so that the next call tries again
+                    if (version == fileVersion.get()) {
+                        cachedGlobal = global;
+                    }
+                }
+            }
+        }
+        return global == null ? null : new ClimateGlobal(global);
+    }
+
+    /**
+     * @return global configuration values from SITE-BASE in that
+     *         preference order; can be null on error.
+     */
+    private static ClimateGlobal readGlobal() {
         ClimateGlobal resGlobal = new ClimateGlobal();
         Properties prop = new Properties();
 
@@ -308,6 +370,8 @@ public class ClimateGlobalConfiguration {
             // save properties
             prop.store(output, null);
             output.save();
+
+            cachedGlobal = new ClimateGlobal(global);
         } catch (Exception e) {
             logger.error("Error saving global day properties.", e);
             status = -1;
@@ -1010,6 +1010,37 @@ public final class ClimateDAOUtils {
 
     }
 
+    /**
+     * Set the derived fields that depend only on the day's own data: mean
+     * relative humidity and heating and cooling degree days, as
+     * {@link #buildDerivedData(ClimateDate, int, DailyClimateData)} does.
+     * The monthly, seasonal and yearly accumulations, which take a database
+     * query each, are not set.
+     * 
+     * @param cData
+     */
+    public static void buildDailyDerivedData(DailyClimateData cData) {
+        int maxRh = cData.getMaxRelHumid();
+        int minRh = cData.getMinRelHumid();
+
+        if (maxRh != ParameterFormatClimate.MISSING
+                && minRh != ParameterFormatClimate.MISSING) {
+            cData.setMeanRelHumid(ClimateUtilities.nint((maxRh + minRh) / 2.0));
+        } else {
+            cData.setMeanRelHumid(ParameterFormatClimate.MISSING);
+        }
+
+        if (cData.getMaxTemp() != ParameterFormatClimate.MISSING
+                && cData.getMinTemp() != ParameterFormatClimate.MISSING) {
+            float avgTemp = (cData.getMaxTemp() + cData.getMinTemp()) / 2.0f;
+            cData.setNumHeat(ClimateUtilities.calcHeatDays(avgTemp));
+            cData.setNumCool(ClimateUtilities.calcCoolDays(avgTemp));
+        } else {
+            cData.setNumHeat(ParameterFormatClimate.MISSING_DEGREE_DAY);
+            cData.setNumCool(ParameterFormatClimate.MISSING_DEGREE_DAY);
+        }
+    }
+
     /**
      * Overload method for when yClimate is not used.
      * 
@@ -0,0 +1,131 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.util;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+/**
+ * A fixed size pool of named daemon worker threads for climate work that is
+ * run concurrently, such as per-station work. The pool is created on first
+ * use and shared by everything holding the same instance. Idle threads time
+ * out, so an unused pool holds no threads.
+ *
+ * The pool size is read from a system property when the pool is created, and
+ * is at least 1. A pool size of 1 runs tasks one at a time.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public final class ClimateWorkerPool {
+
+    /** The logger */
+    private static final IUFStatusHandler logger = UFStatus
+            .getHandler(ClimateWorkerPool.class);
+
+    /**
+     * Seconds an idle worker thread is kept.
+     */
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * Worker thread name prefix.
+     */
+    private final String name;
+
+    /**
+     * System property for the pool size.
+     */
+    private final String threadsProperty;
+
+    /**
+     * Default pool size.
+     */
+    private final int defaultThreads;
+
+    /**
+     * The pool, created on first use.
+     */
+    private ThreadPoolExecutor executor;
+
+    /**
+     * Constructor.
+     *
+     * @param name
+     *            worker thread name prefix.
+     * @param threadsProperty
+     *            system property for the pool size.
+     * @param defaultThreads
+     *            pool size if the property is unset or invalid.
+     */
+    public ClimateWorkerPool(String name, String threadsProperty,
+            int defaultThreads) {
+        this.name = name;
+        this.threadsProperty = threadsProperty;
+        this.defaultThreads = defaultThreads;
+    }
+
+    /**
+     * @return the pool, creating it if needed.
+     */
+    public synchronized ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            int threads = Math.max(1,
+                    getIntProperty(threadsProperty, defaultThreads));
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads,
+                    KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                        private final AtomicInteger count = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r,
+                                    name + "-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+            logger.info("Climate worker pool [" + name + "] started with ["
+                    + threads + "] threads.");
+        }
+        return executor;
+    }
+
+    /**
+     * @param property
+     *            system property.
+     * @param defaultValue
+     * @return integer system property, or the default if unset or invalid.
+     */
+    public static int getIntProperty(String property, int defaultValue) {
+        String value = System.getProperty(property, "");
+        if (value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value [" + value + "] for property ["
+                    + property + "]. Using default [" + defaultValue + "].");
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,1183 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDates;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateGlobal;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateWind;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodDataMethod;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
+import gov.noaa.nws.ocp.edex.common.climate.dao.DailyClimatePeriodScan.Column;
+
+/**
+ * Checks that the monthly period data built by {@link DailyClimatePeriodScan}
+ * is the same as the period data built by the legacy per-element queries of
+ * ClimatePeriodDAO#buildPeriodObsClimo, for the elements taken from the
+ * daily_climate table.
+ *
+ * Each scenario is a station's daily rows from the July 1 before the period
+ * to a few days past it. The legacy path evaluates each per-element query
+ * (ClimateDAO#buildElement, #daysPastThresh, #buildElementEquality and the
+ * occurrence date queries) over the rows the way PostgreSQL would: NULL
+ * matches no condition, SUM and AVG of integer columns are exact, SUM of real
+ * columns accumulates as real, and dates with equal values come back in date
+ * order. The single-pass path reads the rows the scan query would return. Both
+ * paths fill a PeriodData in the order ClimatePeriodDAO does, and every
+ * getter of the two must be equal.
+ *
+ * Elements that come from other tables (the ASOS 24-hour precip search, the
+ * storm dates and the period max 24-hour snow) are left out, except that the
+ * period max 24-hour snow is given to both paths so that their trace and date
+ * handling is compared.
+ *
+ * Fixed scenarios cover months with no rows, only missing or NULL values,
+ * only trace or zero precip and snow, sky cover on the category bounds, trace
+ * custom thresholds, and the legacy count of min temp at most T5 over the
+ * first day only. Random scenarios cover other months, partial months and
+ * mixes of missing, NULL, trace and tied values. Any difference throws an
+ * exception.
+ *
+ * Usage: DailyClimatePeriodScanTest [random scenarios]
+ */
+public class DailyClimatePeriodScanTest {
+
+    /**
+     * Columns of integer type. The others are real.
+     */
+    private static final Set<Column> INTEGER_COLUMNS = EnumSet.of(
+            Column.MAX_TEMP, Column.MIN_TEMP, Column.HEAT, Column.COOL,
+            Column.MAX_WIND_DIR, Column.MAX_GUST_DIR, Column.MAX_RH,
+            Column.MIN_RH, Column.PERCENT_POS_SUN, Column.WX_1, Column.WX_2,
+            Column.WX_3, Column.WX_4, Column.WX_5, Column.WX_6, Column.WX_7,
+            Column.WX_8, Column.WX_9, Column.WX_10, Column.WX_11, Column.WX_12,
+            Column.WX_13, Column.WX_14, Column.WX_15);
+
+    private static final Column[] WEATHER = { Column.WX_1, Column.WX_2,
+            Column.WX_3, Column.WX_4, Column.WX_5, Column.WX_6, Column.WX_7,
+            Column.WX_8, Column.WX_9, Column.WX_10, Column.WX_11, Column.WX_12,
+            Column.WX_13, Column.WX_14, Column.WX_15 };
+
+    private static final float TRACE = ParameterFormatClimate.TRACE;
+
+    private enum Aggregate {
+        MAX, MIN, SUM, AVG
+    }
+
+    /**
+     * One daily_climate row; a null value is SQL NULL.
+     */
+    private static final class Row {
+        private final ClimateDate date;
+
+        private final Number[] values = new Number[Column.values().length];
+
+        private Row(ClimateDate date) {
+            this.date = date;
+        }
+
+        private Number get(Column column) {
+            return values[column.ordinal()];
+        }
+
+        private void set(Column column, Number value) {
+            values[column.ordinal()] = value;
+        }
+    }
+
+    /**
+     * A month of daily rows and the settings to build it with.
+     */
+    private static final class Scenario {
+        private final String name;
+
+        private final List<Row> rows = new ArrayList<>();
+
+        private ClimateDate beginDate;
+
+        private ClimateDate endDate;
+
+        private final ClimateGlobal globals = new ClimateGlobal();
+
+        /** Max 24-hour snow read from the period table. */
+        private float periodMaxSnow = ParameterFormatClimate.MISSING_SNOW;
+
+        private Scenario(String name, int month, int year, int endDay) {
+            this.name = name;
+            beginDate = new ClimateDate(1, month, year);
+            endDate = new ClimateDate(endDay, month, year);
+            globals.setT1(80);
+            globals.setT2(70);
+            globals.setT3(40);
+            globals.setT4(50);
+            globals.setT5(30);
+            globals.setT6(20);
+            globals.setP1(0.25f);
+            globals.setP2(2.0f);
+            globals.setS1(3.0f);
+        }
+
+        /**
+         * Add rows with every value missing from the July 1 before the
+         * period to three days past it.
+         */
+        private Scenario fillMissing() {
+            Calendar day = julyFirst(beginDate).getCalendarFromClimateDate();
+            Calendar last = endDate.getCalendarFromClimateDate();
+            last.add(Calendar.DATE, 3);
+            while (!day.after(last)) {
+                Row row = new Row(new ClimateDate(day));
+                for (Column column : Column.values()) {
+                    row.set(column, missing(column));
+                }
+                rows.add(row);
+                day.add(Calendar.DATE, 1);
+            }
+            return this;
+        }
+
+        private Row row(int day) {
+            ClimateDate date = new ClimateDate(day, beginDate.getMon(),
+                    beginDate.getYear());
+            for (Row row : rows) {
+                if (row.date.equals(date)) {
+                    return row;
+                }
+            }
+            throw new IllegalArgumentException("No row for " + date);
+        }
+    }
+
+    /**
+     * Number of per-element queries run by the legacy path.
+     */
+    private static int legacyQueries;
+
+    public static void main(String[] args) throws Exception {
+        int randomScenarios = args.length > 0 ? Integer.parseInt(args[0])
+                : 500;
+
+        List<Scenario> scenarios = getFixedScenarios();
+        Random random = new Random(20261017L);
+        for (int i = 0; i < randomScenarios; i++) {
+            scenarios.add(getRandomScenario(random, i));
+        }
+
+        int days = 0;
+        for (Scenario scenario : scenarios) {
+            PeriodData legacy = buildLegacy(scenario);
+            PeriodData singlePass = buildSinglePass(scenario);
+            compare(scenario, legacy, singlePass);
+            days += window(scenario, scenario.beginDate, scenario.endDate)
+                    .size();
+
+            if (scenario.name.equals("T5 over the first day")
+                    && legacy.getNumMinLessThanT5F() != 1) {
+                throw new IllegalStateException(
+                        "Expected the legacy T5 count over the first day only, got "
+                                + legacy.getNumMinLessThanT5F());
+            }
+        }
+
+        System.out.println("Scenarios: " + scenarios.size() + ", " + days
+                + " days in periods");
+        System.out.println("Queries: " + legacyQueries + " legacy, "
+                + scenarios.size() + " single-pass");
+        System.out.println("Single-pass period data matches the legacy period"
+                + " data");
+    }
+
+    private static List<Scenario> getFixedScenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+
+        scenarios.add(new Scenario("no rows", 2, 2024, 29));
+
+        scenarios.add(new Scenario("all missing", 3, 2023, 31).fillMissing());
+
+        Scenario nulls = new Scenario("all NULL", 4, 2023, 30).fillMissing();
+        for (Row row : nulls.rows) {
+            Arrays.fill(row.values, null);
+        }
+        scenarios.add(nulls);
+
+        Scenario trace = new Scenario("only trace or zero precip and snow", 1,
+                2022, 31).fillMissing();
+        trace.periodMaxSnow = 0;
+        for (Row row : trace.rows) {
+            int day = row.date.getDay();
+            row.set(Column.PRECIP, day % 3 == 0 ? 0f : TRACE);
+            row.set(Column.SNOW, day % 4 == 0 ? 0f : TRACE);
+            row.set(Column.SNOW_GROUND, day % 2 == 0 ? 0f : TRACE);
+        }
+        scenarios.add(trace);
+
+        Scenario zero = new Scenario("only zero precip and snow", 12, 2021, 31)
+                .fillMissing();
+        zero.periodMaxSnow = 0;
+        for (Row row : zero.rows) {
+            row.set(Column.PRECIP, 0f);
+            row.set(Column.SNOW, 0f);
+            row.set(Column.SNOW_GROUND, 0f);
+        }
+        scenarios.add(zero);
+
+        Scenario sky = new Scenario("sky cover on category bounds", 5, 2020,
+                31).fillMissing();
+        float[] skyCovers = { 0f, 0.34f, 0.35f, 0.74f, 0.75f, 1f, -0.1f,
+                ParameterFormatClimate.MISSING };
+        for (int i = 0; i < sky.rows.size(); i++) {
+            sky.rows.get(i).set(Column.AVG_SKY_COVER,
+                    skyCovers[i % skyCovers.length]);
+        }
+        scenarios.add(sky);
+
+        Scenario traceGlobals = new Scenario("trace custom thresholds", 11,
+                2019, 30).fillMissing();
+        traceGlobals.globals.setP1(TRACE);
+        traceGlobals.globals.setS1(TRACE);
+        traceGlobals.globals.setP2(ParameterFormatClimate.MISSING_PRECIP);
+        traceGlobals.globals.setT1(ParameterFormatClimate.MISSING);
+        traceGlobals.globals.setT5(ParameterFormatClimate.MISSING);
+        float[] amounts = { TRACE, 0f, 0.004f, 0.005f, 0.01f, 0.05f, 1f };
+        for (int i = 0; i < traceGlobals.rows.size(); i++) {
+            Row row = traceGlobals.rows.get(i);
+            row.set(Column.PRECIP, amounts[i % amounts.length]);
+            row.set(Column.SNOW, amounts[(i + 3) % amounts.length]);
+        }
+        scenarios.add(traceGlobals);
+
+        Scenario t5 = new Scenario("T5 over the first day", 2, 2023, 28)
+                .fillMissing();
+        for (Row row : t5.rows) {
+            row.set(Column.MIN_TEMP, 40);
+        }
+        t5.row(1).set(Column.MIN_TEMP, 25);
+        t5.row(2).set(Column.MIN_TEMP, 10);
+        t5.row(15).set(Column.MIN_TEMP, 30);
+        scenarios.add(t5);
+
+        return scenarios;
+    }
+
+    private static Scenario getRandomScenario(Random random, int index) {
+        int year = 2010 + random.nextInt(15);
+        int month = 1 + random.nextInt(12);
+        Calendar cal = new ClimateDate(1, month, year)
+                .getCalendarFromClimateDate();
+        int lastDay = cal.getActualMaximum(Calendar.DAY_OF_MONTH);
+        int endDay = random.nextInt(4) == 0 ? 1 + random.nextInt(lastDay)
+                : lastDay;
+        Scenario scenario = new Scenario("random " + index, month, year,
+                endDay);
+
+        float[] missingRates = { 0f, 0.1f, 0.5f, 1f };
+        float missingRate = missingRates[random.nextInt(missingRates.length)];
+        float nullRate = random.nextBoolean() ? 0f : 0.05f;
+        float[] traceRates = { 0f, 0.2f, 0.8f };
+        float traceRate = traceRates[random.nextInt(traceRates.length)];
+        float gapRate = random.nextBoolean() ? 0f : 0.05f;
+
+        scenario.fillMissing();
+        List<Row> rows = new ArrayList<>();
+        for (Row row : scenario.rows) {
+            if (random.nextFloat() < gapRate) {
+                continue;
+            }
+            for (Column column : Column.values()) {
+                Number value;
+                float draw = random.nextFloat();
+                if (draw < nullRate) {
+                    value = null;
+                } else if (draw < nullRate + missingRate * 0.5f) {
+                    value = missing(column);
+                } else {
+                    value = randomValue(random, column, traceRate);
+                }
+                row.set(column, value);
+            }
+            rows.add(row);
+        }
+        scenario.rows.clear();
+        scenario.rows.addAll(rows);
+
+        ClimateGlobal globals = scenario.globals;
+        int[] temps = { ParameterFormatClimate.MISSING, 0, 32, 55, 90 };
+        globals.setT1(temps[random.nextInt(temps.length)]);
+        globals.setT2(temps[random.nextInt(temps.length)]);
+        globals.setT3(temps[random.nextInt(temps.length)]);
+        globals.setT4(temps[random.nextInt(temps.length)]);
+        globals.setT5(temps[random.nextInt(temps.length)]);
+        globals.setT6(temps[random.nextInt(temps.length)]);
+        float[] precips = { ParameterFormatClimate.MISSING_PRECIP, TRACE,
+                0.01f, 0.25f, 2f };
+        globals.setP1(precips[random.nextInt(precips.length)]);
+        globals.setP2(precips[random.nextInt(precips.length)]);
+        float[] snows = { ParameterFormatClimate.MISSING_SNOW, TRACE, 0.1f,
+                3f };
+        globals.setS1(snows[random.nextInt(snows.length)]);
+
+        float[] periodSnows = { ParameterFormatClimate.MISSING_SNOW, 0f, 1.5f,
+                4f };
+        scenario.periodMaxSnow = periodSnows[random
+                .nextInt(periodSnows.length)];
+        return scenario;
+    }
+
+    /**
+     * @return a random value for the column, from a small set of values so
+     *         that maxima tie.
+     */
+    private static Number randomValue(Random random, Column column,
+            float traceRate) {
+        switch (column) {
+        case MAX_TEMP:
+            return 60 + random.nextInt(40);
+        case MIN_TEMP:
+            return -10 + random.nextInt(50);
+        case PRECIP:
+        case SNOW:
+        case SNOW_GROUND:
+            if (random.nextFloat() < traceRate) {
+                return TRACE;
+            }
+            float[] amounts = { 0f, 0f, 0.01f, 0.05f, 0.1f, 0.49f, 0.5f, 1f,
+                    1.5f, 4f };
+            return amounts[random.nextInt(amounts.length)];
+        case HEAT:
+        case COOL:
+            return random.nextInt(30);
+        case MAX_WIND_SPD:
+        case MAX_GUST_SPD:
+        case AVG_WIND_SPEED:
+            float[] speeds = { 5f, 12.5f, 23.4f, 23.45f, 30f };
+            return speeds[random.nextInt(speeds.length)];
+        case MAX_WIND_DIR:
+        case MAX_GUST_DIR:
+            return 10 * (1 + random.nextInt(36));
+        case MAX_RH:
+        case MIN_RH:
+        case PERCENT_POS_SUN:
+            return random.nextInt(101);
+        case AVG_SKY_COVER:
+            return random.nextInt(11) / 10f;
+        default:
+            // weather types
+            return random.nextInt(2);
+        }
+    }
+
+    private static Number missing(Column column) {
+        if (INTEGER_COLUMNS.contains(column)) {
+            return (int) column.getMissing();
+        }
+        return column.getMissing();
+    }
+
+    private static ClimateDate julyFirst(ClimateDate beginDate) {
+        return new ClimateDate(1, 7, beginDate.getMon() < 7
+                ? beginDate.getYear() - 1 : beginDate.getYear());
+    }
+
+    private static ClimateDate janFirst(ClimateDate beginDate) {
+        return new ClimateDate(1, 1, beginDate.getYear());
+    }
+
+    /**
+     * Build the period data with the single-pass scan, as
+     * ClimatePeriodDAO#buildMonthlyPeriodObsClimo does.
+     */
+    private static PeriodData buildSinglePass(Scenario scenario)
+            throws Exception {
+        ClimateDate beginDate = scenario.beginDate;
+        ClimateDate endDate = scenario.endDate;
+        ClimateDate july1Date = julyFirst(beginDate);
+        ClimateDate jan1Date = janFirst(beginDate);
+        ClimateDate scanBeginDate = july1Date.before(jan1Date) ? july1Date
+                : jan1Date;
+
+        // rows returned by the scan query
+        List<Object[]> results = new ArrayList<>();
+        for (Row row : window(scenario, scanBeginDate, endDate)) {
+            Object[] result = new Object[row.values.length + 1];
+            result[0] = new java.sql.Date(
+                    row.date.getCalendarFromClimateDate().getTimeInMillis());
+            System.arraycopy(row.values, 0, result, 1, row.values.length);
+            results.add(result);
+        }
+        DailyClimatePeriodScan scan = new DailyClimatePeriodScan(
+                results.toArray());
+        scan.aggregate(beginDate, endDate, july1Date, jan1Date,
+                scenario.globals);
+
+        PeriodData periodData = PeriodData.getMissingPeriodData();
+
+        periodData.setMaxTemp(scan.getMaxMaxTemp());
+        if (periodData.getMaxTemp() != ParameterFormatClimate.MISSING) {
+            periodData.setDayMaxTempList(
+                    scan.getMaxTempOccurrences(periodData.getMaxTemp()));
+        }
+        periodData.setMaxTempMean(scan.getAvgMaxTemp());
+        periodData.setNumMaxGreaterThan90F(scan.getNumMaxGreaterThan90F());
+        periodData.setNumMaxLessThan32F(scan.getNumMaxLessThan32F());
+        periodData.setNumMaxGreaterThanT1F(scan.getNumMaxGreaterThanT1F());
+        periodData.setNumMaxGreaterThanT2F(scan.getNumMaxGreaterThanT2F());
+        periodData.setNumMaxLessThanT3F(scan.getNumMaxLessThanT3F());
+
+        periodData.setMinTemp(scan.getMinMinTemp());
+        if (periodData.getMinTemp() != ParameterFormatClimate.MISSING) {
+            periodData.setDayMinTempList(
+                    scan.getMinTempOccurrences(periodData.getMinTemp()));
+        }
+        periodData.setMinTempMean(scan.getAvgMinTemp());
+        periodData.setNumMinLessThan32F(scan.getNumMinLessThan32F());
+        periodData.setNumMinLessThan0F(scan.getNumMinLessThan0F());
+        periodData.setNumMinGreaterThanT4F(scan.getNumMinGreaterThanT4F());
+        periodData.setNumMinLessThanT5F(scan.getNumMinLessThanT5F());
+        periodData.setNumMinLessThanT6F(scan.getNumMinLessThanT6F());
+        setMeanTemp(periodData);
+
+        periodData.setPrecipTotal(scan.getSumTotalPrecip());
+        float averagePrecip = scan.getAvgTotalPrecip();
+        periodData.setPrecipMeanDay(
+                averagePrecip != ParameterFormatClimate.MISSING_PRECIP
+                        ? averagePrecip : TRACE);
+        periodData.setNumPrcpGreaterThan01(scan.getNumPrcpGreaterThan01());
+        periodData.setNumPrcpGreaterThan10(scan.getNumPrcpGreaterThan10());
+        periodData.setNumPrcpGreaterThan50(scan.getNumPrcpGreaterThan50());
+        periodData.setNumPrcpGreaterThan100(scan.getNumPrcpGreaterThan100());
+        periodData.setNumPrcpGreaterThanP1(scan.getNumPrcpGreaterThanP1());
+        periodData.setNumPrcpGreaterThanP2(scan.getNumPrcpGreaterThanP2());
+
+        periodData.setPrecipMax24H(scan.getMaxTotalPrecip());
+        if (periodData.getPrecipMax24H() == 0) {
+            int traceReports = scan.getNumTotalPrecipTrace();
+            periodData.setPrecipMax24H((traceReports == 0)
+                    || (traceReports == ParameterFormatClimate.MISSING)
+                            ? ParameterFormatClimate.MISSING_PRECIP : TRACE);
+        }
+        if (periodData
+                .getPrecipMax24H() != ParameterFormatClimate.MISSING_PRECIP) {
+            periodData.setPrecip24HDates(scan
+                    .getMaxTotalPrecipOccurrences(periodData.getPrecipMax24H()));
+        }
+        periodData.setPrecipStormMax(scan.getMaxTotalPrecip());
+
+        periodData.setSnowTotal(scan.getSumTotalSnow());
+        setSnowWater(periodData);
+        periodData.setSnowJuly1(scan.getSumTotalSnowSinceJuly1());
+        setSnowWaterJuly1(periodData);
+        periodData.setNumSnowGreaterThanTR(scan.getNumSnowGreaterThanTR());
+        periodData.setNumSnowGreaterThan1(scan.getNumSnowGreaterThan1());
+        periodData.setNumSnowGreaterThanS1(scan.getNumSnowGreaterThanS1());
+
+        periodData.setSnowMax24H(scenario.periodMaxSnow);
+        if (periodData.getSnowMax24H() == 0) {
+            int traceReports = scan.getNumTotalSnowTrace();
+            if (traceReports != 0
+                    && traceReports != ParameterFormatClimate.MISSING) {
+                periodData.setSnowMax24H(TRACE);
+            }
+        }
+        if (hasSnow24HDates(periodData)) {
+            periodData.setSnow24HDates(scan
+                    .getMaxTotalSnowOccurrences(periodData.getSnowMax24H()));
+        }
+        periodData.setSnowMaxStorm(scan.getMaxSnow());
+
+        periodData.setSnowGroundMean(scan.getAvgMeanSnowOnGround());
+        periodData.setSnowGroundMax(scan.getMaxSnowGround());
+        if (hasSnowGroundDates(periodData)) {
+            periodData.setSnowGroundMaxDateList(scan
+                    .getMaxSnowGroundOccurrences(periodData.getSnowGroundMax()));
+        }
+
+        periodData.setNumHeatTotal(scan.getSumHeatDegreeDays());
+        periodData.setNumHeat1July(scan.getSumHeatDegreeDaysSinceJuly1());
+        periodData.setNumCoolTotal(scan.getSumCoolDegreeDays());
+        periodData.setNumCool1Jan(scan.getSumCoolDegreeDaysSinceJan1());
+
+        float maxWindSpeed = scan.getMaxWindSpeed();
+        if (maxWindSpeed != ParameterFormatClimate.MISSING_SPEED) {
+            scan.getMaxWindSpeedOccurrencesAndDir(maxWindSpeed,
+                    periodData.getMaxWindDayList(),
+                    periodData.getMaxWindList());
+        }
+        float maxGustSpeed = scan.getMaxGustSpeed();
+        if (maxGustSpeed != ParameterFormatClimate.MISSING_SPEED) {
+            scan.getMaxGustSpeedOccurrencesAndDir(maxGustSpeed,
+                    periodData.getMaxGustDayList(),
+                    periodData.getMaxGustList());
+        }
+
+        periodData.setPossSun(scan.getAvgPossSun());
+        periodData.setMeanSkyCover(scan.getAvgMeanSkyCover());
+        periodData.setNumMostlyCloudyDays(scan.getNumMostlyCloudy());
+        periodData.setNumPartlyCloudyDays(scan.getNumPartlyCloudy());
+        periodData.setNumFairDays(scan.getNumFair());
+
+        int[] weather = new int[WEATHER.length];
+        for (int i = 0; i < WEATHER.length; i++) {
+            weather[i] = scan.getSumWeather(WEATHER[i]);
+        }
+        setWeather(periodData, weather);
+
+        periodData.setMeanRh(scan.getAvgMeanRh());
+        periodData.setAvgWindSpd(scan.getAvgWindSpeed());
+        return periodData;
+    }
+
+    /**
+     * Build the period data with the legacy per-element queries, as the
+     * monthly path of ClimatePeriodDAO#buildPeriodObsClimo does.
+     */
+    private static PeriodData buildLegacy(Scenario s) {
+        ClimateDate begin = s.beginDate;
+        ClimateDate end = s.endDate;
+        ClimateGlobal globals = s.globals;
+        short missing = ParameterFormatClimate.MISSING;
+        float missingPrecip = ParameterFormatClimate.MISSING_PRECIP;
+        float missingSnow = ParameterFormatClimate.MISSING_SNOW;
+
+        PeriodData periodData = PeriodData.getMissingPeriodData();
+
+        periodData.setMaxTemp(buildElement(s, begin, end, Column.MAX_TEMP,
+                Aggregate.MAX, missing, false).intValue());
+        if (periodData.getMaxTemp() != missing) {
+            periodData.setDayMaxTempList(toDates(occurrences(s, Column.MAX_TEMP,
+                    false, periodData.getMaxTemp(), true, false)));
+        }
+        periodData.setMaxTempMean(buildElement(s, begin, end, Column.MAX_TEMP,
+                Aggregate.AVG, missing, false).floatValue());
+        periodData.setNumMaxGreaterThan90F(daysPastThresh(s, begin, end,
+                Column.MAX_TEMP, missing, 90, true, false));
+        periodData.setNumMaxLessThan32F(daysPastThresh(s, begin, end,
+                Column.MAX_TEMP, missing, 32, false, false));
+        periodData.setNumMaxGreaterThanT1F(
+                tempThresh(s, begin, end, Column.MAX_TEMP, globals.getT1(), true));
+        periodData.setNumMaxGreaterThanT2F(
+                tempThresh(s, begin, end, Column.MAX_TEMP, globals.getT2(), true));
+        periodData.setNumMaxLessThanT3F(tempThresh(s, begin, end,
+                Column.MAX_TEMP, globals.getT3(), false));
+
+        periodData.setMinTemp(buildElement(s, begin, end, Column.MIN_TEMP,
+                Aggregate.MIN, missing, false).intValue());
+        if (periodData.getMinTemp() != missing) {
+            periodData.setDayMinTempList(toDates(occurrences(s, Column.MIN_TEMP,
+                    false, periodData.getMinTemp(), false, false)));
+        }
+        periodData.setMinTempMean(buildElement(s, begin, end, Column.MIN_TEMP,
+                Aggregate.AVG, missing, false).floatValue());
+        periodData.setNumMinLessThan32F(daysPastThresh(s, begin, end,
+                Column.MIN_TEMP, missing, 32, false, false));
+        periodData.setNumMinLessThan0F(daysPastThresh(s, begin, end,
+                Column.MIN_TEMP, missing, 0, false, false));
+        periodData.setNumMinGreaterThanT4F(
+                tempThresh(s, begin, end, Column.MIN_TEMP, globals.getT4(), true));
+        // the legacy count over the begin date only
+        periodData.setNumMinLessThanT5F(tempThresh(s, begin, begin,
+                Column.MIN_TEMP, globals.getT5(), false));
+        periodData.setNumMinLessThanT6F(tempThresh(s, begin, end,
+                Column.MIN_TEMP, globals.getT6(), false));
+        setMeanTemp(periodData);
+
+        periodData.setPrecipTotal(buildElement(s, begin, end, Column.PRECIP,
+                Aggregate.SUM, missingPrecip, true).floatValue());
+        float averagePrecip = buildElement(s, begin, end, Column.PRECIP,
+                Aggregate.AVG, missingPrecip, true).floatValue();
+        periodData.setPrecipMeanDay(
+                averagePrecip != missingPrecip ? averagePrecip : TRACE);
+        periodData.setNumPrcpGreaterThan01(
+                precipThresh(s, begin, end, 0.01f));
+        periodData
+                .setNumPrcpGreaterThan10(precipThresh(s, begin, end, 0.1f));
+        periodData
+                .setNumPrcpGreaterThan50(precipThresh(s, begin, end, 0.5f));
+        periodData.setNumPrcpGreaterThan100(precipThresh(s, begin, end, 1));
+        periodData.setNumPrcpGreaterThanP1(
+                precipThresh(s, begin, end, globals.getP1()));
+        periodData.setNumPrcpGreaterThanP2(
+                precipThresh(s, begin, end, globals.getP2()));
+
+        periodData.setPrecipMax24H(buildElement(s, begin, end, Column.PRECIP,
+                Aggregate.MAX, missingPrecip, true).floatValue());
+        if (periodData.getPrecipMax24H() == 0) {
+            int traceReports = buildElementEquality(s, begin, end,
+                    Column.PRECIP, TRACE);
+            periodData.setPrecipMax24H(
+                    (traceReports == 0) || (traceReports == missing)
+                            ? missingPrecip : TRACE);
+        }
+        if (periodData.getPrecipMax24H() != missingPrecip) {
+            boolean isTrace = periodData.getPrecipMax24H() == TRACE;
+            periodData.setPrecip24HDates(toSingleDayDates(occurrences(s,
+                    Column.PRECIP, false,
+                    ClimateUtilities.nint(periodData.getPrecipMax24H(), 2),
+                    !isTrace, isTrace)));
+        }
+        periodData.setPrecipStormMax(buildElement(s, begin, end,
+                Column.PRECIP, Aggregate.MAX, missingPrecip, true)
+                        .floatValue());
+
+        periodData.setSnowTotal(buildElement(s, begin, end, Column.SNOW,
+                Aggregate.SUM, missingSnow, true).floatValue());
+        setSnowWater(periodData);
+        periodData.setSnowJuly1(buildElement(s, julyFirst(begin), end,
+                Column.SNOW, Aggregate.SUM, missingSnow, true).floatValue());
+        // getMax24HSnow, replaced by the period table value below
+        periodData.setSnowMax24H(buildElement(s, begin, end, Column.SNOW,
+                Aggregate.MAX, missingSnow, true).floatValue());
+        setSnowWaterJuly1(periodData);
+        periodData.setNumSnowGreaterThanTR(daysPastThresh(s, begin, end,
+                Column.SNOW, missingSnow, TRACE, false, true)
+                + daysPastThresh(s, begin, end, Column.SNOW, missingSnow,
+                        0.001, true, true));
+        periodData.setNumSnowGreaterThan1(daysPastThresh(s, begin, end,
+                Column.SNOW, missingSnow, 1, true, true));
+        float s1 = globals.getS1();
+        if (s1 == missingSnow) {
+            periodData.setNumSnowGreaterThanS1(missing);
+        } else if (s1 < -0.05) {
+            periodData.setNumSnowGreaterThanS1(daysPastThresh(s, begin, end,
+                    Column.SNOW, missingSnow, 0.05, true, true)
+                    + daysPastThresh(s, begin, end, Column.SNOW, missingSnow,
+                            -0.05, false, true));
+        } else {
+            periodData.setNumSnowGreaterThanS1(daysPastThresh(s, begin, end,
+                    Column.SNOW, missingSnow, s1, true, true));
+        }
+
+        periodData.setSnowMax24H(s.periodMaxSnow);
+        if (periodData.getSnowMax24H() == 0) {
+            int traceReports = buildElementEquality(s, begin, end,
+                    Column.SNOW, TRACE);
+            if (traceReports != 0 && traceReports != missing) {
+                periodData.setSnowMax24H(TRACE);
+            }
+        }
+        if (hasSnow24HDates(periodData)) {
+            periodData.setSnow24HDates(toSingleDayDates(occurrences(s,
+                    Column.SNOW, false,
+                    ClimateUtilities.nint(periodData.getSnowMax24H(), 2), true,
+                    false)));
+        }
+        periodData.setSnowMaxStorm(buildElement(s, begin, end, Column.SNOW,
+                Aggregate.MAX, missingSnow, true).floatValue());
+
+        float snowGroundSum = buildElement(s, begin, end, Column.SNOW_GROUND,
+                Aggregate.SUM, missingSnow, true).floatValue();
+        float meanSnowOnGround;
+        if (snowGroundSum < 0) {
+            meanSnowOnGround = TRACE;
+        } else if (snowGroundSum == missingSnow) {
+            meanSnowOnGround = missingSnow;
+        } else {
+            meanSnowOnGround = snowGroundSum / daysPastThresh(s, begin, end,
+                    Column.SNOW_GROUND, missingSnow, TRACE, true, true);
+        }
+        if (meanSnowOnGround == missingSnow) {
+            periodData.setSnowGroundMean(missingSnow);
+        } else if (meanSnowOnGround >= 0) {
+            periodData.setSnowGroundMean(
+                    ClimateUtilities.nint(meanSnowOnGround));
+        } else {
+            periodData.setSnowGroundMean(TRACE);
+        }
+        periodData.setSnowGroundMax(buildElement(s, begin, end,
+                Column.SNOW_GROUND, Aggregate.MAX,
+                ParameterFormatClimate.MISSING_SNOW_VALUE, true).intValue());
+        if (hasSnowGroundDates(periodData)) {
+            periodData.setSnowGroundMaxDateList(toDates(occurrences(s,
+                    Column.SNOW_GROUND, true, ClimateUtilities
+                            .nint(periodData.getSnowGroundMax(), 2),
+                    true, false)));
+        }
+
+        int missingDegreeDay = ParameterFormatClimate.MISSING_DEGREE_DAY;
+        periodData.setNumHeatTotal(buildElement(s, begin, end, Column.HEAT,
+                Aggregate.SUM, missingDegreeDay, false).intValue());
+        periodData.setNumHeat1July(buildElement(s, julyFirst(begin), end,
+                Column.HEAT, Aggregate.SUM, missingDegreeDay, false)
+                        .intValue());
+        periodData.setNumCoolTotal(buildElement(s, begin, end, Column.COOL,
+                Aggregate.SUM, missingDegreeDay, false).intValue());
+        periodData.setNumCool1Jan(buildElement(s, janFirst(begin), end,
+                Column.COOL, Aggregate.SUM, missingDegreeDay, false)
+                        .intValue());
+
+        float missingSpeed = ParameterFormatClimate.MISSING_SPEED;
+        float maxWindSpeed = buildElement(s, begin, end, Column.MAX_WIND_SPD,
+                Aggregate.MAX, missingSpeed, false).floatValue();
+        if (maxWindSpeed != missingSpeed) {
+            windOccurrences(s, Column.MAX_WIND_SPD, Column.MAX_WIND_DIR,
+                    maxWindSpeed, periodData.getMaxWindDayList(),
+                    periodData.getMaxWindList());
+        }
+        float maxGustSpeed = buildElement(s, begin, end, Column.MAX_GUST_SPD,
+                Aggregate.MAX, missingSpeed, false).floatValue();
+        if (maxGustSpeed != missingSpeed) {
+            windOccurrences(s, Column.MAX_GUST_SPD, Column.MAX_GUST_DIR,
+                    maxGustSpeed, periodData.getMaxGustDayList(),
+                    periodData.getMaxGustList());
+        }
+
+        float possSun = buildElement(s, begin, end, Column.PERCENT_POS_SUN,
+                Aggregate.AVG, (float) missing, false).floatValue();
+        periodData.setPossSun(possSun == missing ? missing
+                : ClimateUtilities.nint(possSun));
+        periodData.setMeanSkyCover(buildElement(s, begin, end,
+                Column.AVG_SKY_COVER, Aggregate.AVG, (float) missing, false)
+                        .floatValue());
+        int mostlyCloudy = 0;
+        int partlyCloudy = 0;
+        int fair = 0;
+        for (Row row : window(s, begin, end)) {
+            Number sky = row.get(Column.AVG_SKY_COVER);
+            if (sky == null) {
+                continue;
+            }
+            double value = sky.doubleValue();
+            if (value >= 0 && value < 0.35) {
+                fair++;
+            }
+            if (value >= 0.35 && value < 0.75) {
+                partlyCloudy++;
+            }
+            if (value >= 0.75 && value != missing) {
+                mostlyCloudy++;
+            }
+        }
+        legacyQueries += 3;
+        periodData.setNumMostlyCloudyDays(mostlyCloudy);
+        periodData.setNumPartlyCloudyDays(partlyCloudy);
+        periodData.setNumFairDays(fair);
+
+        int[] weather = new int[WEATHER.length];
+        for (int i = 0; i < WEATHER.length; i++) {
+            weather[i] = buildElement(s, begin, end, WEATHER[i], Aggregate.SUM,
+                    missing, false).intValue();
+        }
+        setWeather(periodData, weather);
+
+        float maxRhMean = buildElement(s, begin, end, Column.MAX_RH,
+                Aggregate.AVG, (float) missing, false).floatValue();
+        periodData.setMeanRh(missing);
+        if (maxRhMean != missing) {
+            float minRhMean = buildElement(s, begin, end, Column.MIN_RH,
+                    Aggregate.AVG, (float) missing, false).floatValue();
+            if (minRhMean != missing) {
+                periodData.setMeanRh(
+                        ClimateUtilities.nint((minRhMean + maxRhMean) / 2));
+            }
+        }
+        periodData.setAvgWindSpd(buildElement(s, begin, end,
+                Column.AVG_WIND_SPEED, Aggregate.AVG, missingSpeed, false)
+                        .floatValue());
+        return periodData;
+    }
+
+    private static void setMeanTemp(PeriodData periodData) {
+        if ((periodData
+                .getMaxTempMean() != (float) ParameterFormatClimate.MISSING)
+                && (periodData
+                        .getMinTempMean() != (float) ParameterFormatClimate.MISSING)) {
+            periodData.setMeanTemp(
+                    (periodData.getMaxTempMean() + periodData.getMinTempMean())
+                            / 2);
+        }
+    }
+
+    private static void setSnowWater(PeriodData periodData) {
+        if (ClimateUtilities.floatingEquals(periodData.getSnowTotal(),
+                TRACE)) {
+            periodData.setSnowWater(TRACE);
+        } else if (periodData
+                .getSnowTotal() != ParameterFormatClimate.MISSING_SNOW) {
+            periodData.setSnowWater(periodData.getSnowTotal() / 10);
+        } else {
+            periodData.setSnowWater(ParameterFormatClimate.MISSING_SNOW);
+        }
+    }
+
+    private static void setSnowWaterJuly1(PeriodData periodData) {
+        if (periodData.getSnowJuly1() != ParameterFormatClimate.MISSING_SNOW) {
+            periodData.setSnowWaterJuly1(periodData.getSnowJuly1() / 10);
+        } else {
+            periodData.setSnowWaterJuly1(ParameterFormatClimate.MISSING_SNOW);
+        }
+    }
+
+    private static boolean hasSnow24HDates(PeriodData periodData) {
+        return periodData.getSnowMax24H() != ParameterFormatClimate.MISSING_SNOW
+                && periodData.getSnowMax24H() != TRACE
+                && periodData.getSnowMax24H() != 0;
+    }
+
+    private static boolean hasSnowGroundDates(PeriodData periodData) {
+        return periodData
+                .getSnowGroundMax() != ParameterFormatClimate.MISSING_SNOW_VALUE
+                && (periodData.getSnowGroundMax() > 0
+                        || periodData.getSnowGroundMax() == TRACE);
+    }
+
+    private static void setWeather(PeriodData periodData, int[] weather) {
+        periodData.setNumThunderStorms(weather[0]);
+        periodData.setNumMixedPrecip(weather[1]);
+        periodData.setNumHeavyRain(weather[2]);
+        periodData.setNumRain(weather[3]);
+        periodData.setNumLightRain(weather[4]);
+        periodData.setNumFreezingRain(weather[5]);
+        periodData.setNumLightFreezingRain(weather[6]);
+        periodData.setNumHail(weather[7]);
+        periodData.setNumHeavySnow(weather[8]);
+        periodData.setNumSnow(weather[9]);
+        periodData.setNumLightSnow(weather[10]);
+        periodData.setNumIcePellets(weather[11]);
+        periodData.setNumFog(weather[12]);
+        periodData.setNumFogQuarterSM(weather[13]);
+        periodData.setNumHaze(weather[14]);
+    }
+
+    /**
+     * @return the scenario rows from begin to end, in date order.
+     */
+    private static List<Row> window(Scenario scenario, ClimateDate begin,
+            ClimateDate end) {
+        List<Row> rows = new ArrayList<>();
+        for (Row row : scenario.rows) {
+            if (!row.date.before(begin) && !end.before(row.date)) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * SQL {@code column != value}: false for NULL.
+     */
+    private static boolean notEqual(Number value, double other) {
+        return value != null && value.doubleValue() != other;
+    }
+
+    /**
+     * Evaluate an aggregate of the given values, null if there are none.
+     */
+    private static Number aggregate(Aggregate aggregate, boolean integer,
+            List<Number> values) {
+        if (values.isEmpty()) {
+            return null;
+        }
+        switch (aggregate) {
+        case MAX:
+        case MIN:
+            Number result = values.get(0);
+            for (Number value : values) {
+                int comparison = Double.compare(value.doubleValue(),
+                        result.doubleValue());
+                if (aggregate == Aggregate.MAX ? comparison > 0
+                        : comparison < 0) {
+                    result = value;
+                }
+            }
+            return result;
+        case SUM:
+            if (integer) {
+                long sum = 0;
+                for (Number value : values) {
+                    sum += value.longValue();
+                }
+                return sum;
+            }
+            // SUM(real) is real
+            float floatSum = 0;
+            for (Number value : values) {
+                floatSum += value.floatValue();
+            }
+            return floatSum;
+        default:
+            if (integer) {
+                // AVG(integer) is numeric
+                BigDecimal sum = BigDecimal.ZERO;
+                for (Number value : values) {
+                    sum = sum.add(BigDecimal.valueOf(value.longValue()));
+                }
+                return sum.divide(BigDecimal.valueOf(values.size()),
+                        new MathContext(20, RoundingMode.HALF_EVEN));
+            }
+            // AVG(real) is double precision
+            double doubleSum = 0;
+            for (Number value : values) {
+                doubleSum += value.doubleValue();
+            }
+            return doubleSum / values.size();
+        }
+    }
+
+    /**
+     * ClimateDAO#buildElement for the daily table.
+     */
+    private static Number buildElement(Scenario s, ClimateDate begin,
+            ClimateDate end, Column column, Aggregate aggregate,
+            Number missingValue, boolean precipOrSnow) {
+        boolean integer = INTEGER_COLUMNS.contains(column);
+        List<Number> base = new ArrayList<>();
+        List<Number> noTrace = new ArrayList<>();
+        for (Row row : window(s, begin, end)) {
+            Number value = row.get(column);
+            if (!notEqual(value, missingValue.doubleValue())) {
+                continue;
+            }
+            base.add(value);
+            if (aggregate == Aggregate.AVG) {
+                // CASE WHEN column = TRACE THEN 0 ELSE column END
+                noTrace.add(value.floatValue() == TRACE ? 0f : value);
+            } else if (value.floatValue() != TRACE) {
+                noTrace.add(value);
+            }
+        }
+        legacyQueries++;
+        Number baseResult = aggregate(aggregate, integer, base);
+        if (baseResult == null) {
+            baseResult = missingValue;
+        }
+
+        Number result = baseResult;
+        if ((aggregate == Aggregate.SUM || aggregate == Aggregate.AVG)
+                && precipOrSnow
+                && !ClimateUtilities.floatingEquals(baseResult.doubleValue(),
+                        missingValue.doubleValue())) {
+            legacyQueries++;
+            Number noTraceResult = aggregate(aggregate, integer, noTrace);
+            if (noTraceResult == null) {
+                noTraceResult = missingValue;
+            }
+            if ((noTraceResult.doubleValue() == 0 || ClimateUtilities
+                    .floatingEquals(noTraceResult.doubleValue(),
+                            missingValue.doubleValue()))
+                    && baseResult.doubleValue() < 0) {
+                result = TRACE;
+            } else {
+                result = noTraceResult;
+            }
+        }
+
+        if (result.doubleValue() == 0 && aggregate == Aggregate.MAX
+                && column == Column.SNOW_GROUND
+                && buildElementEquality(s, begin, end, column, TRACE) > 0) {
+            result = TRACE;
+        }
+        return result;
+    }
+
+    /**
+     * ClimateDAO#buildElementEquality for the daily table.
+     */
+    private static int buildElementEquality(Scenario s, ClimateDate begin,
+            ClimateDate end, Column column, float value) {
+        legacyQueries++;
+        int count = 0;
+        for (Row row : window(s, begin, end)) {
+            Number rowValue = row.get(column);
+            if (rowValue != null && rowValue.floatValue() == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * ClimateDAO#daysPastThresh for the daily table.
+     */
+    private static int daysPastThresh(Scenario s, ClimateDate begin,
+            ClimateDate end, Column column, Number missing, Number threshold,
+            boolean greaterOrLess, boolean precipOrSnow) {
+        legacyQueries++;
+        boolean excludeTrace = precipOrSnow && !threshold.equals(TRACE);
+        int count = 0;
+        for (Row row : window(s, begin, end)) {
+            Number value = row.get(column);
+            if (!notEqual(value, missing.doubleValue())) {
+                continue;
+            }
+            double v = value.doubleValue();
+            if ((greaterOrLess ? v >= threshold.doubleValue()
+                    : v <= threshold.doubleValue())
+                    && !(excludeTrace && value.floatValue() == TRACE)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The custom temperature counts, such as
+     * ClimatePeriodDAO#sumReportMaxTempGreaterT1F.
+     */
+    private static int tempThresh(Scenario s, ClimateDate begin,
+            ClimateDate end, Column column, int threshold,
+            boolean greaterOrLess) {
+        if (threshold == ParameterFormatClimate.MISSING) {
+            return ParameterFormatClimate.MISSING;
+        }
+        return daysPastThresh(s, begin, end, column,
+                ParameterFormatClimate.MISSING, threshold, greaterOrLess,
+                false);
+    }
+
+    /**
+     * ClimatePeriodDAO#sumReportPrecipGreater.
+     */
+    private static int precipThresh(Scenario s, ClimateDate begin,
+            ClimateDate end, float p) {
+        float missing = ParameterFormatClimate.MISSING_PRECIP;
+        if (p == missing) {
+            return ParameterFormatClimate.MISSING;
+        }
+        if (p < -0.005) {
+            return daysPastThresh(s, begin, end, Column.PRECIP, missing, 0.005,
+                    true, true)
+                    + daysPastThresh(s, begin, end, Column.PRECIP, missing,
+                            -0.005, false, true);
+        }
+        return daysPastThresh(s, begin, end, Column.PRECIP, missing, p, true,
+                true);
+    }
+
+    /**
+     * The occurrence date queries of the period: rows past the given value,
+     * ordered by value, ties in date order.
+     *
+     * @param round
+     *            compare ROUND(column::numeric, 2) rather than the column.
+     * @param greater
+     *            true for at least the value, false for at most the value.
+     * @param ascending
+     *            true to sort by ascending value, false for descending.
+     */
+    private static List<Row> occurrences(Scenario s, final Column column,
+            boolean round, double value, boolean greater, boolean ascending) {
+        legacyQueries++;
+        List<Row> rows = new ArrayList<>();
+        for (Row row : window(s, s.beginDate, s.endDate)) {
+            Number rowValue = row.get(column);
+            if (!notEqual(rowValue, column.getMissing())) {
+                continue;
+            }
+            double compared = round ? roundNumeric(rowValue.floatValue())
+                    : rowValue.doubleValue();
+            if (greater ? compared >= value : compared <= value) {
+                rows.add(row);
+            }
+        }
+        Comparator<Row> order = new Comparator<Row>() {
+            @Override
+            public int compare(Row o1, Row o2) {
+                return Double.compare(o1.get(column).doubleValue(),
+                        o2.get(column).doubleValue());
+            }
+        };
+        Collections.sort(rows,
+                ascending ? order : Collections.reverseOrder(order));
+        return rows;
+    }
+
+    /**
+     * Dates and directions of the max wind or gust speed, as in
+     * ClimatePeriodDAO#getMaxWindSpeedOccurrencesAndDir.
+     */
+    private static void windOccurrences(Scenario s, Column speedColumn,
+            Column dirColumn, float maxSpeed, List<ClimateDate> dates,
+            List<ClimateWind> winds) {
+        for (Row row : occurrences(s, speedColumn, true,
+                ClimateUtilities.nint(maxSpeed, 2), true, false)) {
+            dates.add(new ClimateDate(row.date));
+            legacyQueries++;
+            Number dir = row.get(dirColumn);
+            int direction = dir == null ? ParameterFormatClimate.MISSING
+                    : dir.intValue();
+            winds.add(new ClimateWind(direction, maxSpeed));
+        }
+    }
+
+    /**
+     * ROUND(value::numeric, 2): a real casts to numeric with 6 significant
+     * digits, and ROUND rounds half away from zero.
+     */
+    private static double roundNumeric(float value) {
+        return new BigDecimal(String.format("%.5e", value))
+                .setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    private static List<ClimateDate> toDates(List<Row> rows) {
+        List<ClimateDate> dates = new ArrayList<>();
+        for (Row row : rows) {
+            dates.add(new ClimateDate(row.date));
+        }
+        return dates;
+    }
+
+    private static List<ClimateDates> toSingleDayDates(List<Row> rows) {
+        List<ClimateDates> dates = new ArrayList<>();
+        for (Row row : rows) {
+            dates.add(new ClimateDates(new ClimateDate(row.date),
+                    new ClimateDate(row.date)));
+        }
+        return dates;
+    }
+
+    /**
+     * Compare every getter of the two period data, other than the data
+     * methods, which neither path sets.
+     */
+    private static void compare(Scenario scenario, PeriodData legacy,
+            PeriodData singlePass) throws Exception {
+        List<Method> getters = new ArrayList<>();
+        for (Method method : PeriodData.class.getMethods()) {
+            if (method.getDeclaringClass() == PeriodData.class
+                    && !Modifier.isStatic(method.getModifiers())
+                    && method.getParameterCount() == 0
+                    && method.getReturnType() != PeriodDataMethod.class
+                    && (method.getName().startsWith("get")
+                            || method.getName().startsWith("is"))) {
+                getters.add(method);
+            }
+        }
+        Collections.sort(getters, new Comparator<Method>() {
+            @Override
+            public int compare(Method o1, Method o2) {
+                return o1.getName().compareTo(o2.getName());
+            }
+        });
+
+        for (Method getter : getters) {
+            Object expected = getter.invoke(legacy);
+            Object actual = getter.invoke(singlePass);
+            if (!Objects.equals(expected, actual)) {
+                throw new IllegalStateException("Scenario [" + scenario.name
+                        + "] " + scenario.beginDate.toFullDateString() + " to "
+                        + scenario.endDate.toFullDateString() + ": "
+                        + getter.getName() + " is " + expected
+                        + " from the legacy queries but " + actual
+                        + " from the single-pass scan");
+            }
+        }
+    }
+}
@@ -0,0 +1,431 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TimeZone;
+
+import com.raytheon.uf.common.time.util.TimeUtil;
+
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateCreatorDAO.FSSReportResult;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateCreatorDAO.HourlyFSSResults;
+import gov.noaa.nws.ocp.edex.common.climate.util.MetarUtils;
+
+/**
+ * Checks that the hourly results of
+ * ClimateCreatorDAO#getHourlyFSSResults(int, Calendar, Calendar), whose
+ * reports come from one query over the UNION of fss_contin_real and
+ * fss_categ_single ordered by {@link ClimateCreatorDAO#HOURLY_REPORTS_ORDER},
+ * give the same values as the single hour queries
+ * ClimateCreatorDAO#getMetarConreal and #getMetarCategSingle, ordered by
+ * {@link ClimateCreatorDAO#HOUR_REPORT_ORDER}: the same value lists, and the
+ * same first METAR for the hour.
+ *
+ * Each scenario is a station's METAR, SPECI and other reports over a few days,
+ * with tied valid times, NULL and tied corrections and origin times, and
+ * missing elements and DQDs. Both orderings are parsed from the DAO and applied
+ * with PostgreSQL NULL ordering: NULL sorts last ascending and first
+ * descending. Rows tied on every single hour sort key are assumed to come back
+ * in report instance order. The bulk rows are shuffled before sorting, so the
+ * order of the element rows within a report does not matter.
+ *
+ * Scenarios are run with the JVM in UTC and in a zone with daylight saving
+ * time, outside its transitions, and are looked up with calendars in the JVM
+ * zone and in UTC. A time read from the database holds its fields in the JVM
+ * zone, as JDBC reads a timestamp without time zone. Any difference throws an
+ * exception.
+ *
+ * Usage: HourlyFSSResultsTest [scenarios]
+ */
+public class HourlyFSSResultsTest {
+
+    private static final int[] CONTIN_REAL_ELEMENTS = { MetarUtils.METAR_TEMP,
+            MetarUtils.METAR_WIND_SPEED, MetarUtils.METAR_1HR_PRECIP };
+
+    private static final int[] CATEG_SINGLE_ELEMENTS = {
+            MetarUtils.METAR_WIND_DIRECTION, MetarUtils.METAR_PEAK_WIND_DIR };
+
+    private static final String[] SUBTYPES = { "MTR", "MTR", "SPECI", "SYN" };
+
+    private static final String[] CORRECTIONS = { null, "CCA", "CCB" };
+
+    private static final String[] DQDS = { "V", "S", null };
+
+    private static final String[] ZONES = { "GMT", "America/New_York" };
+
+    private static final int HOURS = 72;
+
+    private static final int INFORM_ID = 1;
+
+    /**
+     * One fss_report row and its element rows.
+     */
+    private static final class Report {
+        private int instance;
+
+        private LocalDateTime nominal;
+
+        private String subtype;
+
+        private LocalDateTime valid;
+
+        private String correction;
+
+        private LocalDateTime origin;
+
+        /** Element values and DQDs by element ID, per table. */
+        private final Map<Integer, Object[]> continReal = new LinkedHashMap<>();
+
+        private final Map<Integer, Object[]> categSingle = new LinkedHashMap<>();
+
+        private Comparable<?> get(String column) {
+            switch (column) {
+            case "f.nominal_dtime":
+                return nominal;
+            case "f.valid_dtime":
+                return valid;
+            case "f.correction":
+                return correction;
+            case "f.origin_dtime":
+                return origin;
+            case "f.fss_rpt_instance":
+                return instance;
+            default:
+                throw new IllegalArgumentException(
+                        "Unexpected sort column " + column);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int scenarios = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+
+        Comparator<Report> hourOrder = parseOrder(
+                ClimateCreatorDAO.HOUR_REPORT_ORDER);
+        Comparator<Report> hourlyOrder = parseOrder(
+                ClimateCreatorDAO.HOURLY_REPORTS_ORDER);
+
+        TimeZone defaultZone = TimeZone.getDefault();
+        int lookups = 0;
+        try {
+            for (String zone : ZONES) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                Random random = new Random(20261017L);
+                for (int i = 0; i < scenarios; i++) {
+                    lookups += checkScenario(random, hourOrder, hourlyOrder);
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+
+        System.out.println("Scenarios: " + scenarios * ZONES.length
+                + ", lookups: " + lookups);
+        System.out.println(
+                "Hourly results match the single hour queries");
+    }
+
+    /**
+     * Parse an ORDER BY list into a comparator with PostgreSQL NULL ordering.
+     */
+    private static Comparator<Report> parseOrder(String order) {
+        Comparator<Report> comparator = null;
+        for (String key : order.split(",")) {
+            String[] parts = key.trim().split("\\s+");
+            final String column = parts[0];
+            final boolean descending = parts.length > 1
+                    && parts[1].equalsIgnoreCase("DESC");
+            Comparator<Report> keyComparator = new Comparator<Report>() {
+                @Override
+                @SuppressWarnings({ "unchecked", "rawtypes" })
+                public int compare(Report o1, Report o2) {
+                    Comparable v1 = o1.get(column);
+                    Comparable v2 = o2.get(column);
+                    // NULL is larger than any value
+                    int result;
+                    if (v1 == null || v2 == null) {
+                        result = v1 == v2 ? 0 : v1 == null ? 1 : -1;
+                    } else {
+                        result = v1.compareTo(v2);
+                    }
+                    return descending ? -result : result;
+                }
+            };
+            comparator = comparator == null ? keyComparator
+                    : comparator.thenComparing(keyComparator);
+        }
+        return comparator;
+    }
+
+    /**
+     * Build a scenario and compare every lookup of it.
+     *
+     * @return the number of lookups compared.
+     */
+    private static int checkScenario(Random random,
+            Comparator<Report> hourOrder, Comparator<Report> hourlyOrder)
+            throws Exception {
+        // a day without daylight saving time transitions
+        LocalDateTime start = LocalDateTime.of(2020 + random.nextInt(5),
+                random.nextBoolean() ? 1 : 7, 1 + random.nextInt(20), 0, 0);
+        LocalDateTime end = start.plusHours(HOURS - 1);
+
+        List<Report> reports = new ArrayList<>();
+        int instance = random.nextInt(1000);
+        for (int hour = -1; hour <= HOURS; hour++) {
+            int count = random.nextInt(5);
+            for (int i = 0; i < count; i++) {
+                reports.add(randomReport(random, start.plusHours(hour),
+                        instance++));
+            }
+        }
+        // report instances are not in time order
+        Collections.shuffle(reports, random);
+
+        HourlyFSSResults hourlyResults = new HourlyFSSResults(null,
+                INFORM_ID, HourlyFSSResults.getNominalKey(calendar(start, false)),
+                HourlyFSSResults.getNominalKey(calendar(end, false)));
+        for (Object[] row : getHourlyRows(random, reports, start, end,
+                hourlyOrder)) {
+            hourlyResults.addRow(row);
+        }
+
+        int lookups = 0;
+        for (int hour = 0; hour < HOURS; hour++) {
+            LocalDateTime nominal = start.plusHours(hour);
+            List<Report> hourReports = getHourReports(reports, nominal,
+                    hourOrder);
+            for (boolean utc : new boolean[] { false, true }) {
+                Calendar dateTime = calendar(nominal, utc);
+                for (int elementID : CONTIN_REAL_ELEMENTS) {
+                    for (boolean includeSPECI : new boolean[] { false,
+                            true }) {
+                        List<Object[]> expected = getMetarConreal(hourReports,
+                                elementID, includeSPECI);
+                        List<FSSReportResult> actual = hourlyResults
+                                .getMetarConreal(elementID, dateTime,
+                                        includeSPECI);
+                        compare(nominal, elementID, expected, actual);
+                        lookups++;
+                    }
+                    FSSReportResult first = hourlyResults
+                            .getMetarConreal(elementID, dateTime);
+                    List<Object[]> expected = getMetarConreal(hourReports,
+                            elementID, false);
+                    compare(nominal, elementID,
+                            expected.isEmpty() ? expected
+                                    : expected.subList(0, 1),
+                            first.isMissing() ? new ArrayList<>()
+                                    : Collections.singletonList(first));
+                    lookups++;
+                }
+                for (int elementID : CATEG_SINGLE_ELEMENTS) {
+                    Object[] expected = getMetarCategSingle(hourReports,
+                            elementID);
+                    FSSReportResult actual = hourlyResults
+                            .getMetarCategSingle(elementID, dateTime, "");
+                    compare(nominal, elementID,
+                            expected == null ? new ArrayList<>()
+                                    : Collections.singletonList(expected),
+                            actual.isMissing() ? new ArrayList<>()
+                                    : Collections.singletonList(actual));
+                    lookups++;
+                }
+            }
+        }
+        return lookups;
+    }
+
+    private static Report randomReport(Random random, LocalDateTime nominal,
+            int instance) {
+        Report report = new Report();
+        report.instance = instance;
+        report.nominal = nominal;
+        report.subtype = SUBTYPES[random.nextInt(SUBTYPES.length)];
+        // few distinct times, so that reports tie
+        report.valid = nominal.minusMinutes(5 * random.nextInt(3));
+        report.correction = CORRECTIONS[random.nextInt(CORRECTIONS.length)];
+        report.origin = random.nextInt(4) == 0 ? null
+                : nominal.plusMinutes(random.nextInt(3));
+        for (int elementID : CONTIN_REAL_ELEMENTS) {
+            if (random.nextInt(4) > 0) {
+                report.continReal.put(elementID, randomValue(random));
+            }
+        }
+        for (int elementID : CATEG_SINGLE_ELEMENTS) {
+            if (random.nextInt(4) > 0) {
+                report.categSingle.put(elementID, randomValue(random));
+            }
+        }
+        return report;
+    }
+
+    /**
+     * @return a real element value, as a double, and a DQD.
+     */
+    private static Object[] randomValue(Random random) {
+        return new Object[] {
+                (double) (float) (random.nextInt(4000) / 10.0 - 50),
+                DQDS[random.nextInt(DQDS.length)] };
+    }
+
+    /**
+     * @param utc
+     *            true for a calendar in UTC, false for the JVM zone.
+     * @return a calendar with the fields of the given time.
+     */
+    private static Calendar calendar(LocalDateTime time, boolean utc) {
+        Calendar cal = utc ? TimeUtil.newGmtCalendar()
+                : TimeUtil.newCalendar();
+        cal.clear();
+        cal.set(time.getYear(), time.getMonthValue() - 1,
+                time.getDayOfMonth(), time.getHour(), time.getMinute());
+        return cal;
+    }
+
+    /**
+     * The rows of the hourly query: a row per element of either table, or a
+     * row without an element for a report with none, in the query order.
+     */
+    private static List<Object[]> getHourlyRows(Random random,
+            List<Report> reports, LocalDateTime start, LocalDateTime end,
+            final Comparator<Report> hourlyOrder) {
+        List<Object[]> rows = new ArrayList<>();
+        final Map<Object[], Report> rowReports = new LinkedHashMap<>();
+        for (Report report : reports) {
+            if (report.nominal.isBefore(start) || report.nominal.isAfter(end)
+                    || !(report.subtype.equals("MTR")
+                            || report.subtype.equals("SPECI"))) {
+                continue;
+            }
+            List<Object[]> reportRows = new ArrayList<>();
+            for (Map.Entry<Integer, Object[]> element : report.continReal
+                    .entrySet()) {
+                reportRows.add(row(report, "contin_real", element));
+            }
+            for (Map.Entry<Integer, Object[]> element : report.categSingle
+                    .entrySet()) {
+                reportRows.add(row(report, "categ_single", element));
+            }
+            if (reportRows.isEmpty()) {
+                reportRows.add(row(report, null, null));
+            }
+            for (Object[] row : reportRows) {
+                rows.add(row);
+                rowReports.put(row, report);
+            }
+        }
+        Collections.shuffle(rows, random);
+        Collections.sort(rows, new Comparator<Object[]>() {
+            @Override
+            public int compare(Object[] o1, Object[] o2) {
+                return hourlyOrder.compare(rowReports.get(o1),
+                        rowReports.get(o2));
+            }
+        });
+        return rows;
+    }
+
+    private static Object[] row(Report report, String tableName,
+            Map.Entry<Integer, Object[]> element) {
+        return new Object[] { report.instance,
+                Timestamp.valueOf(report.nominal), report.subtype, tableName,
+                element == null ? null : element.getKey(),
+                element == null ? null : element.getValue()[0],
+                element == null ? null : element.getValue()[1] };
+    }
+
+    /**
+     * @return the reports of the nominal time in the single hour query order,
+     *         ties in report instance order.
+     */
+    private static List<Report> getHourReports(List<Report> reports,
+            LocalDateTime nominal, Comparator<Report> hourOrder) {
+        List<Report> hourReports = new ArrayList<>();
+        for (Report report : reports) {
+            if (report.nominal.equals(nominal)) {
+                hourReports.add(report);
+            }
+        }
+        Collections.sort(hourReports, new Comparator<Report>() {
+            @Override
+            public int compare(Report o1, Report o2) {
+                return Integer.compare(o1.instance, o2.instance);
+            }
+        });
+        Collections.sort(hourReports, hourOrder);
+        return hourReports;
+    }
+
+    /**
+     * ClimateCreatorDAO#getMetarConreal(int, int, Calendar, boolean).
+     */
+    private static List<Object[]> getMetarConreal(List<Report> hourReports,
+            int elementID, boolean includeSPECI) {
+        List<Object[]> results = new ArrayList<>();
+        for (Report report : hourReports) {
+            if (report.subtype.equals("MTR")
+                    || (includeSPECI && report.subtype.equals("SPECI"))) {
+                Object[] value = report.continReal.get(elementID);
+                if (value != null) {
+                    results.add(value);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * ClimateCreatorDAO#getMetarCategSingle: the element of the first METAR
+     * of the hour.
+     *
+     * @return the value and DQD, or null for the missing value.
+     */
+    private static Object[] getMetarCategSingle(List<Report> hourReports,
+            int elementID) {
+        for (Report report : hourReports) {
+            if (report.subtype.equals("MTR")) {
+                return report.categSingle.get(elementID);
+            }
+        }
+        return null;
+    }
+
+    private static void compare(LocalDateTime nominal, int elementID,
+            List<?> expected, List<?> actual) {
+        boolean same = expected.size() == actual.size();
+        for (int i = 0; same && i < expected.size(); i++) {
+            Object[] value = expected.get(i) instanceof Object[]
+                    ? (Object[]) expected.get(i) : null;
+            FSSReportResult result = (FSSReportResult) actual.get(i);
+            String dqd = value[1] == null ? "" : (String) value[1];
+            same = (Double) value[0] == result.getValue()
+                    && dqd.equals(result.getDqd());
+        }
+        if (!same) {
+            StringBuilder expectedText = new StringBuilder();
+            for (Object value : expected) {
+                expectedText.append(((Object[]) value)[0]).append(" ");
+            }
+            StringBuilder actualText = new StringBuilder();
+            for (Object result : actual) {
+                actualText.append(((FSSReportResult) result).getValue())
+                        .append(" ");
+            }
+            throw new IllegalStateException("Element " + elementID + " at "
+                    + nominal + " in " + TimeZone.getDefault().getID()
+                    + ": single hour queries give [" + expectedText
+                    + "] but hourly results give [" + actualText + "]");
+        }
+    }
+}
@@ -0,0 +1,388 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+
+/**
+ * Checks that a {@link MultiRowInsertBatch} with
+ * {@link MultiRowInsertBatch#setNoMissingMerge(String[])}, as used by the
+ * daily and monthly norms imports, leaves a table with the same rows as the
+ * legacy no-missing updates, such as
+ * ClimateDailyNormDAO#updateClimateDayNormNoMissing: each record is inserted
+ * whole if no row has its key, and otherwise only its non-missing columns are
+ * written to every row with its key.
+ *
+ * Both paths import the same records, in order, into the same in-memory
+ * table. The legacy path applies each record directly; the batch path parses
+ * and runs the rendered script with its bound parameters. The table has no
+ * unique constraint. It starts with rows holding NULL columns and a key held
+ * by two rows. The records cover new and existing keys, missing values of
+ * each kind, NULL values of columns whose missing value is NULL, records
+ * with every value missing, keys repeated within the import, and enough rows
+ * to split the import into several statements. Any difference throws an
+ * exception.
+ *
+ * Usage: MultiRowInsertBatchTest [records]
+ */
+public class MultiRowInsertBatchTest {
+
+    private static final String TABLE = "day_climate_norm";
+
+    private static final String[] KEY_COLUMNS = { "station_id",
+            "day_of_year" };
+
+    private static final String[] COLUMNS = { "mean_temp", "max_temp_rec_yr1",
+            "precip_mean", "snow_mean", "max_temp_rec_date" };
+
+    /**
+     * Missing value of each of {@link #COLUMNS}, as SQL, or null where a
+     * missing value is NULL, as in the monthly norms import.
+     */
+    private static final String[] MISSING_VALUES = {
+            String.valueOf(ParameterFormatClimate.MISSING),
+            String.valueOf(ParameterFormatClimate.MISSING),
+            String.valueOf(ParameterFormatClimate.MISSING_PRECIP),
+            String.valueOf(ParameterFormatClimate.MISSING_SNOW), null };
+
+    private static final Pattern MERGE = Pattern.compile("WITH v AS \\(SELECT "
+            + "([\\w,]+) FROM (\\w+) WHERE false UNION ALL VALUES (.*)\\), "
+            + "u AS \\(UPDATE \\2 AS t SET (.*) FROM v WHERE (.*) RETURNING "
+            + "([\\w.,]+)\\) INSERT INTO \\2 \\(\\1\\) SELECT \\1 FROM v "
+            + "WHERE NOT EXISTS \\(SELECT 1 FROM u WHERE (.*)\\)",
+            Pattern.DOTALL);
+
+    private static final Pattern CASE = Pattern.compile(
+            "(\\w+)=CASE WHEN v\\.\\1=(-?[\\d.]+) THEN t\\.\\1 ELSE v\\.\\1 END");
+
+    private static final Pattern COALESCE = Pattern
+            .compile("(\\w+)=COALESCE\\(v\\.\\1,t\\.\\1\\)");
+
+    private static final Pattern VALUE = Pattern.compile(":\\w+|NULL");
+
+    /**
+     * Rows of the table, each in key then column order.
+     */
+    private static final class Table {
+        private final List<Object[]> rows = new ArrayList<>();
+
+        private int statements;
+
+        private List<Object[]> find(Object[] key) {
+            List<Object[]> found = new ArrayList<>();
+            for (Object[] row : rows) {
+                if (Arrays.equals(Arrays.copyOf(row, key.length), key)) {
+                    found.add(row);
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Table
+                    && toString().equals(((Table) obj).toString());
+        }
+
+        @Override
+        public int hashCode() {
+            return toString().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (Object[] row : rows) {
+                sb.append(Arrays.toString(row)).append("\n");
+            }
+            return sb.toString();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+
+        List<Object[]> imports = getRecords(records);
+
+        Table legacy = getInitialTable();
+        for (Object[] record : imports) {
+            importLegacy(legacy, record);
+        }
+
+        MultiRowInsertBatch batch = new MultiRowInsertBatch(TABLE, "n",
+                KEY_COLUMNS, COLUMNS);
+        batch.setNoMissingMerge(MISSING_VALUES);
+        for (Object[] record : imports) {
+            batch.add(Arrays.copyOf(record, KEY_COLUMNS.length),
+                    Arrays.copyOfRange(record, KEY_COLUMNS.length,
+                            record.length));
+        }
+        Map<String, Object> params = new HashMap<>();
+        String sql = batch.toSQL(params);
+        Table merged = getInitialTable();
+        run(merged, sql, params);
+
+        System.out.println("Rows: " + legacy.rows.size() + " legacy, "
+                + merged.rows.size() + " batch");
+        System.out.println("Statements: " + legacy.statements + " legacy, "
+                + merged.statements + " batch, " + params.size()
+                + " bound parameters");
+
+        if (!legacy.equals(merged)) {
+            for (int i = 0; i < Math.max(legacy.rows.size(),
+                    merged.rows.size()); i++) {
+                String expected = i < legacy.rows.size()
+                        ? Arrays.toString(legacy.rows.get(i)) : null;
+                String actual = i < merged.rows.size()
+                        ? Arrays.toString(merged.rows.get(i)) : null;
+                if (expected == null || !expected.equals(actual)) {
+                    throw new IllegalStateException("Row " + i
+                            + " differs: legacy " + expected + " but batch "
+                            + actual);
+                }
+            }
+        }
+        System.out.println("Batch rows match the legacy rows");
+    }
+
+    /**
+     * @return the table before the import: rows with NULL columns, and one key
+     *         held by two rows.
+     */
+    private static Table getInitialTable() {
+        Table table = new Table();
+        table.rows.add(new Object[] { 1, "01-01", 30, 1987, 0.12f, 1.5f,
+                "1987-01-01" });
+        table.rows.add(new Object[] { 1, "01-02", null, null, null, null,
+                null });
+        table.rows.add(new Object[] { 2, "01-01", 31, 1990, 0.1f, 0f, null });
+        table.rows.add(new Object[] { 2, "01-01", 29, 1991, 0.2f, 0.3f,
+                "1991-01-01" });
+        table.rows.add(new Object[] { 3, "02-29", 40, 1960, 0f, 0f,
+                "1960-02-29" });
+        return table;
+    }
+
+    /**
+     * @return records to import, in key then column order: special cases,
+     *         then new rows to fill several statements.
+     */
+    private static List<Object[]> getRecords(int records) {
+        short missing = ParameterFormatClimate.MISSING;
+        float missingPrecip = ParameterFormatClimate.MISSING_PRECIP;
+        float missingSnow = ParameterFormatClimate.MISSING_SNOW;
+
+        List<Object[]> imports = new ArrayList<>();
+        // existing row, some values missing
+        imports.add(new Object[] { 1, "01-01", (int) missing, 1999,
+                missingPrecip, 2.5f, null });
+        // existing row of NULL columns
+        imports.add(new Object[] { 1, "01-02", 25, (int) missing, 0.05f,
+                missingSnow, "2001-01-02" });
+        // key held by two rows
+        imports.add(new Object[] { 2, "01-01", 33, (int) missing,
+                missingPrecip, 0.4f, "2002-01-01" });
+        // existing row, every value missing
+        imports.add(new Object[] { 3, "02-29", (int) missing, (int) missing,
+                missingPrecip, missingSnow, null });
+        // new row, every value missing, inserted as is
+        imports.add(new Object[] { 4, "03-01", (int) missing, (int) missing,
+                missingPrecip, missingSnow, null });
+        // new key repeated: inserted, then merged twice
+        imports.add(new Object[] { 5, "03-02", 50, 1950, 0.5f, missingSnow,
+                null });
+        imports.add(new Object[] { 5, "03-02", (int) missing, 1951,
+                missingPrecip, 0.7f, "1951-03-02" });
+        imports.add(new Object[] { 5, "03-02", 52, (int) missing, 0.8f,
+                missingSnow, null });
+        // existing key repeated
+        imports.add(new Object[] { 1, "01-01", 35, (int) missing, 0.3f,
+                missingSnow, "2003-01-01" });
+
+        for (int i = imports.size(); i < records; i++) {
+            int station = 100 + i % 97;
+            String day = String.format("%02d-%02d", 1 + i / 97 % 12,
+                    1 + i / 97 / 12 % 28);
+            imports.add(new Object[] { station, day,
+                    i % 5 == 0 ? (int) missing : i % 40,
+                    i % 7 == 0 ? (int) missing : 1900 + i % 120,
+                    i % 3 == 0 ? missingPrecip : i % 10 / 10f,
+                    i % 4 == 0 ? missingSnow : i % 8 / 4f,
+                    i % 6 == 0 ? null : (1900 + i % 120) + "-01-01" });
+        }
+        return imports;
+    }
+
+    /**
+     * Import one record as the legacy no-missing update does.
+     */
+    private static void importLegacy(Table table, Object[] record) {
+        Object[] key = Arrays.copyOf(record, KEY_COLUMNS.length);
+        // fetch
+        table.statements++;
+        List<Object[]> existing = table.find(key);
+        if (existing.isEmpty()) {
+            table.rows.add(record.clone());
+            table.statements++;
+            return;
+        }
+
+        boolean updated = false;
+        for (int i = 0; i < COLUMNS.length; i++) {
+            Object value = record[KEY_COLUMNS.length + i];
+            boolean isMissing = MISSING_VALUES[i] == null ? value == null
+                    : value != null && Double.parseDouble(
+                            MISSING_VALUES[i]) == ((Number) value)
+                                    .doubleValue();
+            if (!isMissing) {
+                for (Object[] row : existing) {
+                    row[KEY_COLUMNS.length + i] = value;
+                }
+                updated = true;
+            }
+        }
+        if (updated) {
+            table.statements++;
+        }
+    }
+
+    /**
+     * Run a script rendered by a merging MultiRowInsertBatch.
+     */
+    private static void run(Table table, String sql,
+            Map<String, Object> params) {
+        for (String statement : sql.split(";\n")) {
+            if (statement.isEmpty()) {
+                continue;
+            }
+            table.statements++;
+
+            Matcher merge = MERGE.matcher(statement);
+            if (!merge.matches()) {
+                throw new IllegalStateException(
+                        "Unexpected statement: " + statement);
+            }
+            List<String> allColumns = Arrays
+                    .asList(merge.group(1).split(","));
+            int keys = KEY_COLUMNS.length;
+            if (!allColumns.subList(0, keys)
+                    .equals(Arrays.asList(KEY_COLUMNS))) {
+                throw new IllegalStateException(
+                        "Unexpected key columns: " + allColumns);
+            }
+            checkKeyMatch(merge.group(5), "t");
+            checkKeyMatch(merge.group(7), "u");
+
+            /*
+             * Missing value of each column in the SET list; columns not set
+             * keep their values.
+             */
+            Map<Integer, String> setMissing = new HashMap<>();
+            Set<Integer> setCoalesce = new HashSet<>();
+            for (String assignment : merge.group(4).split(", ")) {
+                Matcher caseMatcher = CASE.matcher(assignment);
+                Matcher coalesce = COALESCE.matcher(assignment);
+                if (caseMatcher.matches()) {
+                    setMissing.put(allColumns.indexOf(caseMatcher.group(1)),
+                            caseMatcher.group(2));
+                } else if (coalesce.matches()) {
+                    setCoalesce.add(allColumns.indexOf(coalesce.group(1)));
+                } else {
+                    throw new IllegalStateException(
+                            "Unexpected assignment: " + assignment);
+                }
+            }
+
+            List<Object[]> values = tuples(merge.group(3), params);
+            Set<List<Object>> valueKeys = new HashSet<>();
+            List<Object[]> inserts = new ArrayList<>();
+            for (Object[] value : values) {
+                Object[] key = Arrays.copyOf(value, keys);
+                if (!valueKeys.add(Arrays.asList(key))) {
+                    throw new IllegalStateException("Key "
+                            + Arrays.toString(key)
+                            + " repeated within one statement");
+                }
+
+                // u: UPDATE ... FROM v, RETURNING the updated keys
+                List<Object[]> existing = table.find(key);
+                for (Object[] row : existing) {
+                    for (Map.Entry<Integer, String> set : setMissing
+                            .entrySet()) {
+                        Object imported = value[set.getKey()];
+                        if (imported == null || Double.parseDouble(
+                                set.getValue()) != ((Number) imported)
+                                        .doubleValue()) {
+                            row[set.getKey()] = imported;
+                        }
+                    }
+                    for (int column : setCoalesce) {
+                        if (value[column] != null) {
+                            row[column] = value[column];
+                        }
+                    }
+                }
+
+                // INSERT ... WHERE NOT EXISTS in u
+                if (existing.isEmpty()) {
+                    inserts.add(value);
+                }
+            }
+            table.rows.addAll(inserts);
+        }
+    }
+
+    private static void checkKeyMatch(String sql, String alias) {
+        StringBuilder expected = new StringBuilder();
+        for (String key : KEY_COLUMNS) {
+            if (expected.length() > 0) {
+                expected.append(" AND ");
+            }
+            expected.append(alias).append(".").append(key).append("=v.")
+                    .append(key);
+        }
+        if (!expected.toString().equals(sql)) {
+            throw new IllegalStateException("Unexpected key match: " + sql);
+        }
+    }
+
+    /**
+     * Parse a list of value tuples, resolving bound parameters.
+     */
+    private static List<Object[]> tuples(String sql,
+            Map<String, Object> params) {
+        List<Object[]> rows = new ArrayList<>();
+        for (String tuple : sql.substring(1, sql.length() - 1)
+                .split("\\),\\(")) {
+            String[] tokens = tuple.split(",");
+            Object[] row = new Object[tokens.length];
+            for (int i = 0; i < tokens.length; i++) {
+                if (!VALUE.matcher(tokens[i]).matches()) {
+                    throw new IllegalStateException(
+                            "Unexpected value: " + tokens[i]);
+                }
+                if (!"NULL".equals(tokens[i])) {
+                    String name = tokens[i].substring(1);
+                    if (!params.containsKey(name)) {
+                        throw new IllegalStateException(
+                                "Unbound parameter " + name);
+                    }
+                    row[i] = params.get(name);
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
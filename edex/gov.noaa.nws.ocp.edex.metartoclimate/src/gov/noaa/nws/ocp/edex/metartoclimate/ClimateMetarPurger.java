@@ -3,14 +3,27 @@
  **/
 package gov.noaa.nws.ocp.edex.metartoclimate;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
 
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAOValues;
+import gov.noaa.nws.ocp.edex.metartoclimate.dao.ClimatePartitionDAO;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.ClimateReportDAO;
 
 /**
  * Created to extract purge method from MetarToClimateSvr.
  * 
+ * Where the climate METAR tables are partitioned (see
+ * {@link ClimatePartitionDAO}), each purge also creates partitions ahead of
+ * time and drops partitions that hold only purged data. The remaining rpt rows
+ * older than the purge hours are then deleted, which only touches the oldest
+ * partition left. FSS partitions are dropped only if FSS purge days is set.
+ * 
  * <pre>
  *
  * SOFTWARE HISTORY
@@ -36,15 +49,49 @@ public class ClimateMetarPurger {
 
     private final ClimateReportDAO dao;
 
+    private final ClimatePartitionDAO partitionDAO;
+
     private int purgeHours = 48;
 
+    /**
+     * Days of daily partitions to keep created ahead, including today.
+     */
+    private int partitionDaysAhead = 3;
+
+    /**
+     * Days of FSS data to keep. 0 or less to never drop FSS partitions.
+     */
+    private int fssPurgeDays = 0;
+
+    /**
+     * Number of fss_rpt_instance values in an FSS element table partition.
+     */
+    private long fssInstanceBlockSize = 100000;
+
+    /**
+     * FSS element table partitions to keep created ahead of the current one.
+     */
+    private int fssInstanceBlocksAhead = 2;
+
     /**
      * Construct an instance of this transformer.
      * 
      * @param reportDAO
      */
     public ClimateMetarPurger(ClimateReportDAO reportDAO) {
+        this(reportDAO, new ClimatePartitionDAO());
+    }
+
+    /**
+     * Construct an instance of this transformer.
+     * 
+     * @param reportDAO
+     * @param partitionDAO
+     */
+    public ClimateMetarPurger(ClimateReportDAO reportDAO,
+            ClimatePartitionDAO partitionDAO) {
         dao = reportDAO;
+        this.partitionDAO = partitionDAO;
     }
 
     /**
@@ -53,7 +100,74 @@ public class ClimateMetarPurger {
     public void purgeClimateReport() {
         logger.info("Purge routine started, purge hours: [" + purgeHours + "]");
 
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        try {
+            maintainReportPartitions(
+                    now.minusHours(purgeHours).toLocalDate());
+        } catch (ClimateQueryException e) {
+            logger.error("Failed to maintain partitions of climate table ["
+                    + ClimateReportDAO.REPORT_TABLE_NAME + "]", e);
+        }
+
         dao.purgeTable(purgeHours);
+
+        try {
+            maintainFSSPartitions(now.toLocalDate().minusDays(fssPurgeDays));
+        } catch (ClimateQueryException e) {
+            logger.error("Failed to maintain partitions of climate FSS tables",
+                    e);
+        }
+    }
+
+    /**
+     * Create rpt partitions ahead and drop those older than the given day, if
+     * rpt is partitioned.
+     * 
+     * @param firstKeptDay
+     * @throws ClimateQueryException
+     */
+    private void maintainReportPartitions(LocalDate firstKeptDay)
+            throws ClimateQueryException {
+        String table = ClimateReportDAO.REPORT_TABLE_NAME;
+        if (!partitionDAO.isPartitioned(table)) {
+            return;
+        }
+
+        partitionDAO.createDailyPartitions(table, partitionDaysAhead);
+        int dropped = partitionDAO.dropDailyPartitionsBefore(table,
+                firstKeptDay);
+        logger.info("Dropped [" + dropped + "] partitions of climate table ["
+                + table + "] before [" + firstKeptDay + "]");
+    }
+
+    /**
+     * Create FSS partitions ahead, and if FSS purge days is set, drop those
+     * older than the given day, if the FSS tables are partitioned.
+     * 
+     * @param firstKeptDay
+     * @throws ClimateQueryException
+     */
+    private void maintainFSSPartitions(LocalDate firstKeptDay)
+            throws ClimateQueryException {
+        String table = ClimateDAOValues.FSS_REPORT_TABLE_NAME;
+        boolean reportPartitioned = partitionDAO.isPartitioned(table);
+        if (reportPartitioned) {
+            partitionDAO.createDailyPartitions(table, partitionDaysAhead);
+        }
+        partitionDAO.createFSSInstancePartitions(fssInstanceBlockSize,
+                fssInstanceBlocksAhead);
+
+        if (fssPurgeDays <= 0 || !reportPartitioned) {
+            return;
+        }
+
+        int dropped = partitionDAO.dropDailyPartitionsBefore(table,
+                firstKeptDay);
+        dropped += partitionDAO
+                .dropFSSInstancePartitions(fssInstanceBlockSize);
+        logger.info("Dropped [" + dropped
+                + "] partitions of climate FSS tables before [" + firstKeptDay
+                + "]");
     }
 
     /**
@@ -71,4 +185,64 @@ public class ClimateMetarPurger {
         this.purgeHours = purgeHours;
     }
 
+    /**
+     * @return the partitionDaysAhead
+     */
+    public int getPartitionDaysAhead() {
+        return partitionDaysAhead;
+    }
+
+    /**
+     * @param partitionDaysAhead
+     *            the partitionDaysAhead to set
+     */
+    public void setPartitionDaysAhead(int partitionDaysAhead) {
+        this.partitionDaysAhead = partitionDaysAhead;
+    }
+
+    /**
+     * @return the fssPurgeDays
+     */
+    public int getFssPurgeDays() {
+        return fssPurgeDays;
+    }
+
+    /**
+     * @param fssPurgeDays
+     *            the fssPurgeDays to set
+     */
+    public void setFssPurgeDays(int fssPurgeDays) {
+        this.fssPurgeDays = fssPurgeDays;
+    }
+
+    /**
+     * @return the fssInstanceBlockSize
+     */
+    public long getFssInstanceBlockSize() {
+        return fssInstanceBlockSize;
+    }
+
+    /**
+     * @param fssInstanceBlockSize
+     *            the fssInstanceBlockSize to set
+     */
+    public void setFssInstanceBlockSize(long fssInstanceBlockSize) {
+        this.fssInstanceBlockSize = fssInstanceBlockSize;
+    }
+
+    /**
+     * @return the fssInstanceBlocksAhead
+     */
+    public int getFssInstanceBlocksAhead() {
+        return fssInstanceBlocksAhead;
+    }
+
+    /**
+     * @param fssInstanceBlocksAhead
+     *            the fssInstanceBlocksAhead to set
+     */
+    public void setFssInstanceBlocksAhead(int fssInstanceBlocksAhead) {
+        this.fssInstanceBlocksAhead = fssInstanceBlocksAhead;
+    }
+
 }
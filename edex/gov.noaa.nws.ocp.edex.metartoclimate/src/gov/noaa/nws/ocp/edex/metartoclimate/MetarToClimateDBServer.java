@@ -3,18 +3,30 @@
  **/
 package gov.noaa.nws.ocp.edex.metartoclimate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import com.raytheon.edex.esb.Headers;
 import com.raytheon.uf.common.dataplugin.PluginDataObject;
 import com.raytheon.uf.common.dataplugin.obs.metar.MetarRecord;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.TimeUtil;
 import com.raytheon.uf.common.wmo.WMOHeader;
 
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateException;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateMetarDecodingException;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
-import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAOValues;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateStationIndex;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateStationsSetupDAO;
+import gov.noaa.nws.ocp.edex.common.climate.dataaccess.ClimateDataAccessConfiguration;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.ClimateFSSInsertionDAO;
+import gov.noaa.nws.ocp.edex.metartoclimate.dao.ClimateFSSInsertionDAO.FSSReportData;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.ClimateReport;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.ClimateReportDAO;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.MetarDecoder;
@@ -28,6 +40,17 @@ import gov.noaa.nws.ocp.edex.metartoclimate.dao.data.SurfaceObs;
  * This plugin is a copy of MetarToHMDBSrv, which redirect metar data to rpt
  * table in the climate database
  * 
+ * Only reports for climate stations (cli_sta_setup) are stored. Other reports
+ * are dropped against the cached station index before any database access, so
+ * they are no longer written to the rpt table either. The numbers of reports
+ * accepted and dropped are logged every hour.
+ * 
+ * Decoded reports are written to the FSS tables in batches, which are filled
+ * across incoming messages: a batch is written once it is full, or once the
+ * FSS batch delay has passed (see
+ * {@link ClimateDataAccessConfiguration#getFSSBatchDelay()}), by a timer
+ * thread. Held reports are written on shutdown.
+ * 
  * TODO: When hmdb retired, MetarToHMDBSrv plugin should be cleanup
  * 
  * <pre>
@@ -52,6 +75,12 @@ public class MetarToClimateDBServer {
     private static final transient IUFStatusHandler logger = UFStatus
             .getHandler(MetarToClimateDBServer.class);
 
+    /**
+     * Interval between logs of the accepted and dropped report counts, in
+     * milliseconds.
+     */
+    private static final long COUNT_LOG_INTERVAL = TimeUtil.MILLIS_PER_HOUR;
+
     /**
      * Report DAO.
      */
@@ -62,6 +91,38 @@ public class MetarToClimateDBServer {
      */
     private final ClimateFSSInsertionDAO fssInsertionDAO;
 
+    /**
+     * Climate stations dao.
+     */
+    private final ClimateStationsSetupDAO stationsDAO;
+
+    /**
+     * Reports for climate stations.
+     */
+    private final AtomicLong acceptedCount = new AtomicLong();
+
+    /**
+     * Reports dropped as not for climate stations.
+     */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * Decoded reports not yet written to the FSS tables. Guarded by itself.
+     */
+    private final List<FSSReportData> pendingFSSReports = new ArrayList<>();
+
+    /**
+     * Timer logging the report counts, and writing held reports once the FSS
+     * batch delay has passed.
+     */
+    private final ScheduledExecutorService timer;
+
+    /**
+     * True if decoded reports are held across messages until a batch is full
+     * or the FSS batch delay has passed.
+     */
+    private final boolean holdFSSReports;
+
     /**
      * Construct an instance of this transformer.
      * 
@@ -70,20 +131,86 @@ public class MetarToClimateDBServer {
      */
     public MetarToClimateDBServer(ClimateReportDAO reportDAO,
             ClimateFSSInsertionDAO fssInsertionDAO) {
+        this(reportDAO, fssInsertionDAO, new ClimateStationsSetupDAO());
+    }
+
+    /**
+     * Construct an instance of this transformer.
+     * 
+     * @param reportDAO
+     * @param fssInsertionDAO
+     * @param stationsDAO
+     */
+    public MetarToClimateDBServer(ClimateReportDAO reportDAO,
+            ClimateFSSInsertionDAO fssInsertionDAO,
+            ClimateStationsSetupDAO stationsDAO) {
         this.reportDAO = reportDAO;
 
         this.fssInsertionDAO = fssInsertionDAO;
+
+        this.stationsDAO = stationsDAO;
+
+        timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "MetarToClimateTimer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleAtFixedRate(this::logCounts, COUNT_LOG_INTERVAL,
+                COUNT_LOG_INTERVAL, TimeUnit.MILLISECONDS);
+
+        long delay = ClimateDataAccessConfiguration.getFSSBatchDelay();
+        holdFSSReports = delay > 0;
+        if (holdFSSReports) {
+            timer.scheduleWithFixedDelay(() -> {
+                try {
+                    flushFSSData();
+                } catch (RuntimeException e) {
+                    logger.error("Error writing held FSS data.", e);
+                }
+            }, delay, delay, TimeUnit.MILLISECONDS);
+        }
     }
 
     /**
+     * Store the reports, and queue the decoded reports to be written to the
+     * FSS tables in batches of up to
+     * {@link ClimateDataAccessConfiguration#getFSSBatchSize()} reports.
      * 
      * @param objects
      */
     public void process(PluginDataObject[] objects, Headers headers) {
+        int batchSize = ClimateDataAccessConfiguration.getFSSBatchSize();
+
+        ClimateStationIndex stations = null;
+        try {
+            stations = stationsDAO.getStationIndex();
+        } catch (ClimateQueryException e) {
+            logger.error(
+                    "Could not get climate stations. Each report's station will be queried instead.",
+                    e);
+        }
+
+        int accepted = 0;
+        int dropped = 0;
         for (PluginDataObject report : objects) {
             if (report instanceof MetarRecord) {
+                Integer stationID = null;
+                if (stations != null) {
+                    stationID = stations.getInformId(
+                            ((MetarRecord) report).getStationId());
+                    if (stationID == null) {
+                        dropped++;
+                        continue;
+                    }
+                }
+                accepted++;
+
                 try {
-                    writeObs((MetarRecord) report, headers);
+                    FSSReportData fssReport = writeObs((MetarRecord) report,
+                            headers, stationID);
+                    if (fssReport != null) {
+                        queueFSSData(fssReport, batchSize);
+                    }
                 } catch (Exception e) {
                     logger.error(
                             "Error processing METAR to Climate for report: ["
@@ -92,15 +219,130 @@ public class MetarToClimateDBServer {
                 }
             }
         }
+
+        if (!holdFSSReports) {
+            flushFSSData();
+        }
+
+        acceptedCount.addAndGet(accepted);
+        droppedCount.addAndGet(dropped);
+        logger.debug("Accepted [" + accepted + "] and dropped [" + dropped
+                + "] METAR reports for climate. Totals: accepted ["
+                + acceptedCount.get() + "], dropped [" + droppedCount.get()
+                + "].");
+    }
+
+    /**
+     * Log the numbers of reports accepted and dropped since startup.
+     */
+    private void logCounts() {
+        logger.info("METAR reports since startup: accepted ["
+                + acceptedCount.get() + "], dropped as not for climate"
+                + " stations [" + droppedCount.get() + "].");
+    }
+
+    /**
+     * Write any held decoded reports to the FSS tables, log the report counts,
+     * and stop the timer. Called on shutdown.
+     */
+    public void shutdown() {
+        timer.shutdown();
+        flushFSSData();
+        logCounts();
+    }
+
+    /**
+     * Hold a decoded report to be written to the FSS tables, and write the
+     * held reports if they fill a batch.
+     * 
+     * @param fssReport
+     * @param batchSize
+     */
+    private void queueFSSData(FSSReportData fssReport, int batchSize) {
+        List<FSSReportData> fssReports;
+        synchronized (pendingFSSReports) {
+            pendingFSSReports.add(fssReport);
+            if (pendingFSSReports.size() < batchSize) {
+                return;
+            }
+            fssReports = new ArrayList<>(pendingFSSReports);
+            pendingFSSReports.clear();
+        }
+        writeFSSData(fssReports);
+    }
+
+    /**
+     * Write all held decoded reports to the FSS tables, in batches of up to
+     * {@link ClimateDataAccessConfiguration#getFSSBatchSize()} reports.
+     */
+    private void flushFSSData() {
+        List<FSSReportData> fssReports;
+        synchronized (pendingFSSReports) {
+            if (pendingFSSReports.isEmpty()) {
+                return;
+            }
+            fssReports = new ArrayList<>(pendingFSSReports);
+            pendingFSSReports.clear();
+        }
+
+        int batchSize = ClimateDataAccessConfiguration.getFSSBatchSize();
+        for (int start = 0; start < fssReports.size(); start += batchSize) {
+            writeFSSData(fssReports.subList(start,
+                    Math.min(fssReports.size(), start + batchSize)));
+        }
+    }
+
+    /**
+     * Write a batch of decoded reports to the FSS tables. If the batch fails,
+     * it has been rolled back, so retry each report on its own to store all but
+     * the bad reports.
+     * 
+     * @param fssReports
+     */
+    private void writeFSSData(List<FSSReportData> fssReports) {
+        if (fssReports.isEmpty()) {
+            return;
+        }
+
+        try {
+            fssInsertionDAO.storeFSSData(fssReports);
+            return;
+        } catch (ClimateException e) {
+            if (fssReports.size() == 1) {
+                logger.error("Error writing FSS data using report: ["
+                        + fssReports.get(0).getReport() + "].", e);
+                return;
+            }
+            logger.warn("Error writing FSS data for a batch of ["
+                    + fssReports.size()
+                    + "] reports. Retrying each report separately.", e);
+        }
+
+        for (FSSReportData fssReport : fssReports) {
+            try {
+                fssInsertionDAO
+                        .storeFSSData(Collections.singletonList(fssReport));
+            } catch (ClimateException e) {
+                logger.error("Error writing FSS data using report: ["
+                        + fssReport.getReport() + "].", e);
+            }
+        }
     }
 
     /**
+     * Store the report, and decode it for the FSS tables.
+     * 
      * @param report
      * @param headers
+     * @param stationID
+     *            station ID (inform ID) of the report's climate station, or
+     *            null to query it.
+     * @return the decoded report to write to the FSS tables, or null if the
+     *         report is not for a climate station.
      * @throws ClimateException
      */
-    private void writeObs(MetarRecord report, Headers headers)
-            throws ClimateException {
+    private FSSReportData writeObs(MetarRecord report, Headers headers,
+            Integer stationID) throws ClimateException {
         ClimateReport rpt = new ClimateReport();
 
         // Get the report data. This contains both the
@@ -128,7 +370,7 @@ public class MetarToClimateDBServer {
             rpt.setReport(obsData);
         } else {
             // wmo_dd is a not_null field, so if we can't find it, exit now.
-            return;
+            return null;
         }
         rpt.setDate(report.getTimeObs());
         // We don't have the origin time available,
@@ -156,14 +398,15 @@ public class MetarToClimateDBServer {
              * decoding. However, decoding does take up processing time that
              * would be wasted if the METAR is not for a location that the
              * system has information on (stations in the cli_sta_setup table).
-             * So save time and do the station check first.
+             * So save time and do the station check first. Normally it was
+             * already done against the station index before storing.
              */
             // get station ID
-            Integer stationIDResult = reportDAO.getStationIDByCode(rpt.getIcao_loc_id());
+            Integer stationIDResult = stationID != null ? stationID
+                    : reportDAO.getStationIDByCode(rpt.getIcao_loc_id());
             if (stationIDResult == null) {
-                return;
+                return null;
             }
-            int stationID = stationIDResult;
 
             /*
              * In Legacy, get_METARs.c would call db_report.ecpp to get a list
@@ -190,24 +433,10 @@ public class MetarToClimateDBServer {
             MetarDecoderUtil.checkMetarQuality(surfaceObs);
 
             /*
-             * Get value of report instance serial.
+             * Report instance serials are allocated when the batch is written.
              */
-            String fssReportInstanceQuery = "SELECT NEXTVAL('"
-                    + ClimateDAOValues.FSS_REPORT_FSS_RPT_INSTANCE_SEQ + "')";
-            int fssReportInstance = ((Number) reportDAO.queryForOneValue(
-                    fssReportInstanceQuery, Integer.MIN_VALUE)).intValue();
-
-            if (fssReportInstance == Integer.MIN_VALUE) {
-                throw new ClimateQueryException(
-                        "Could not get valid fss_rpt_instance using: ["
-                                + fssReportInstanceQuery + "].");
-            }
-            logger.debug("Current FSS report instance for report: ["
-                    + report.getReport() + "] is: [" + fssReportInstance
-                    + "].");
-
-            fssInsertionDAO.storeFSSData(surfaceObs, stationID,
-                    fssReportInstance);
+            return new FSSReportData(surfaceObs, stationIDResult,
+                    report.getReport());
         } catch (ArrayIndexOutOfBoundsException e) {
             throw new ClimateException(
                     "Invalid indexing on decoding METAR report: [" + report
@@ -224,7 +453,7 @@ public class MetarToClimateDBServer {
                             + report + "].",
                     e);
         } catch (Exception e) {
-            throw new ClimateException("Error writing FSS data using report: ["
+            throw new ClimateException("Error decoding FSS data using report: ["
                     + report.getReport() + "].", e);
         }
     }
@@ -191,6 +191,61 @@ public class ClimateFSSInsertionDAO extends ClimateDAO {
      */
     private final Map<String, Integer> fssWeatherElements = new HashMap<>();
 
+    /**
+     * A decoded METAR report waiting to be written to the FSS tables.
+     */
+    public static class FSSReportData {
+        /**
+         * Decoded observation.
+         */
+        private final SurfaceObs surfaceObs;
+
+        /**
+         * Station ID.
+         */
+        private final int stationID;
+
+        /**
+         * Original report text, for logging.
+         */
+        private final String report;
+
+        /**
+         * Constructor.
+         * 
+         * @param surfaceObs
+         * @param stationID
+         * @param report
+         */
+        public FSSReportData(SurfaceObs surfaceObs, int stationID,
+                String report) {
+            this.surfaceObs = surfaceObs;
+            this.stationID = stationID;
+            this.report = report;
+        }
+
+        /**
+         * @return the decoded observation.
+         */
+        public SurfaceObs getSurfaceObs() {
+            return surfaceObs;
+        }
+
+        /**
+         * @return the station ID.
+         */
+        public int getStationID() {
+            return stationID;
+        }
+
+        /**
+         * @return the original report text.
+         */
+        public String getReport() {
+            return report;
+        }
+    }
+
     /**
      * Constructor.
      * 
@@ -290,774 +345,777 @@ public class ClimateFSSInsertionDAO extends ClimateDAO {
     public void storeFSSData(SurfaceObs surfaceObs, int stationID,
             int fssReportInstance) throws ClimateException {
         try {
-            /*
-             * Write the metar reports to the FSS (Fixed Surface Station)
-             * tables.
-             */
-            // figure out report subtype
-            String fssReportSubtype;
-            switch (surfaceObs.getSpeciFlag()) {
-            case 0:
-                /* This report is NOT a special (SPECI). */
-                fssReportSubtype = METAR_SUBTYPE;
-                break;
-            case 1:
-                /* This report is a special (SPECI). */
-                fssReportSubtype = SPECIAL_SUBTYPE;
-                break;
-            default:
-                /* Unknown if this is a SPECI or not */
-                fssReportSubtype = "";
-                break;
-            }
+            FSSInsertionBatch batch = new FSSInsertionBatch();
+            addFSSRows(batch, surfaceObs, stationID, fssReportInstance);
+            writeFSSBatch(batch);
+        } catch (ClimateQueryException e) {
+            throw new ClimateException(
+                    "Error with a query on decoding/inserting/updating METAR report.",
+                    e);
+        }
+    }
 
-            /*
-             * Determine the report augmentation (if any). There are three
-             * possible values here: MAN for a manned station, A01 for an
-             * automated station without a precipitation descriminator, and A02
-             * for an automated station with a precipitation descriminator.
-             */
-            String fssAugmentation;
-            switch (surfaceObs.getAutoFlag()) {
-            case 0:
-                /* The station is manned */
-                fssAugmentation = MANNED_STATION_AUGMENTATION;
-                break;
-            case 1:
-                /* The station is of type A01 */
-                fssAugmentation = MetarDecoderUtil.A01_INDICATOR_STRING_NUM;
-                break;
-            case 2:
-                /* The station is of type A02 */
-                fssAugmentation = MetarDecoderUtil.A02_INDICATOR_STRING_NUM;
-                break;
-            default:
-                /* Bad value or missing value */
-                fssAugmentation = "";
-                break;
+    /**
+     * With the given decoded reports, insert into Fixed Surface Station tables.
+     * Report instances are allocated in one block, and all rows are written in
+     * one transaction, so either all of the reports are stored or none are.
+     * 
+     * @param reports
+     * @throws ClimateException
+     */
+    public void storeFSSData(List<FSSReportData> reports)
+            throws ClimateException {
+        if (reports.isEmpty()) {
+            return;
+        }
+        try {
+            List<Integer> fssReportInstances = getFSSReportInstances(
+                    reports.size());
+
+            FSSInsertionBatch batch = new FSSInsertionBatch();
+            for (int i = 0; i < reports.size(); i++) {
+                FSSReportData report = reports.get(i);
+                logger.debug("Current FSS report instance for report: ["
+                        + report.getReport() + "] is: ["
+                        + fssReportInstances.get(i) + "].");
+                addFSSRows(batch, report.getSurfaceObs(),
+                        report.getStationID(), fssReportInstances.get(i));
             }
+            writeFSSBatch(batch);
+        } catch (ClimateQueryException e) {
+            throw new ClimateException("Error with a query on inserting ["
+                    + reports.size() + "] METAR reports.", e);
+        }
+    }
 
-            /*
-             * Determine whether or not the report is a correction (amendment)
-             * to a previous report or if the report originated from a fully
-             * automated ASOS site.
-             */
-            String fssCorrection;
-            switch (surfaceObs.getCorFlag()) {
-            case 0:
-                /* A non-corrected report */
-                fssCorrection = "F";
-                break;
-            case 1:
-                /* A corrected report */
-                fssCorrection = "T";
-                break;
-            case 2:
-                /*
-                 * A report from a fully automated station - cannot be corrected
-                 */
-                fssCorrection = "A";
-                break;
-            default:
-                /* Invalid Information */
-                fssCorrection = "";
-                break;
-            }
+    /**
+     * Get a block of new FSS report instance IDs in one query.
+     * 
+     * @param count
+     *            number of IDs.
+     * @return new report instance IDs.
+     * @throws ClimateQueryException
+     */
+    public List<Integer> getFSSReportInstances(int count)
+            throws ClimateQueryException {
+        Map<String, Object> queryParams = new HashMap<>();
+        String query = "SELECT NEXTVAL('"
+                + ClimateDAOValues.FSS_REPORT_FSS_RPT_INSTANCE_SEQ
+                + "') FROM generate_series(1, :count)";
+        queryParams.put("count", count);
 
-            /*
-             * Determine the origin time of the observation and convert it into
-             * the proper format. Optional field.
-             */
-            Calendar originCal = null;
-            if (surfaceObs.getOriginTime() != 0) {
-                originCal = TimeUtil.newCalendar();
-                originCal.setTimeInMillis(surfaceObs.getOriginTime());
-            } else {
-                logger.warn("Millis origin time: [" + surfaceObs.getOriginTime()
-                        + "] is not valid.");
+        List<Integer> instances = new ArrayList<>(count);
+        try {
+            Object[] results = getDao().executeSQLQuery(query, queryParams);
+            if (results != null) {
+                for (Object result : results) {
+                    instances.add(((Number) result).intValue());
+                }
             }
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Could not get valid fss_rpt_instance using: [" + query
+                            + "] and map: [" + queryParams + "].",
+                    e);
+        }
 
-            /*
-             * Determine the valid time of the observation and convert it into
-             * the proper format.
-             */
-            Calendar observationCal = TimeUtil.newCalendar();
-            observationCal.setTimeInMillis(surfaceObs.getObsTime());
+        if (instances.size() != count) {
+            throw new ClimateQueryException("Expected [" + count
+                    + "] fss_rpt_instance values but got [" + instances.size()
+                    + "] using: [" + query + "] and map: [" + queryParams
+                    + "].");
+        }
+        return instances;
+    }
 
-            /*
-             * Determine the nominal time of the observation and convert it into
-             * the proper INFORMIX format.
-             */
-            Calendar nominalCal = TimeUtil.newCalendar();
-            nominalCal.setTimeInMillis(surfaceObs.getNominalTime());
-
-            /* Determine the product version of the AEV (an integer) */
-            int fssProdVersion;
-            if (System.getenv("AEV_PROD_VERSION") == null) {
-                logger.warn(
-                        "'AEV_PROD_VERSION' is not set! Product Version in FSS Report table will be null.");
-                fssProdVersion = Integer.MIN_VALUE;
-            } else {
-                try {
-                    fssProdVersion = Integer
-                            .parseInt(System.getenv("AEV_PROD_VERSION"));
-                } catch (NumberFormatException e) {
-                    logger.error(
-                            "Could not parse FSS Product Version from system.",
-                            e);
-                    fssProdVersion = Integer.MIN_VALUE;
-                }
-            }
+    /**
+     * Write all rows of the batch in a single update call, and so in a single
+     * transaction.
+     * 
+     * @param batch
+     * @throws ClimateQueryException
+     */
+    private void writeFSSBatch(FSSInsertionBatch batch)
+            throws ClimateQueryException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<String, Object> params = new HashMap<>();
+        String sql = batch.toSQL(params);
+        try {
+            getDao().executeSQLUpdate(sql, params);
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Error inserting FSS report data: [" + sql
+                            + "] and map: [" + params + "].",
+                    e);
+        }
+    }
+
+    /**
+     * Add the FSS table rows for the given decoded report to the batch.
+     * 
+     * @param batch
+     * @param surfaceObs
+     * @param stationID
+     * @param fssReportInstance
+     */
+    private void addFSSRows(FSSInsertionBatch batch, SurfaceObs surfaceObs,
+            int stationID, int fssReportInstance) {
+        /*
+         * Write the metar reports to the FSS (Fixed Surface Station)
+         * tables.
+         */
+        // figure out report subtype
+        String fssReportSubtype;
+        switch (surfaceObs.getSpeciFlag()) {
+        case 0:
+            /* This report is NOT a special (SPECI). */
+            fssReportSubtype = METAR_SUBTYPE;
+            break;
+        case 1:
+            /* This report is a special (SPECI). */
+            fssReportSubtype = SPECIAL_SUBTYPE;
+            break;
+        default:
+            /* Unknown if this is a SPECI or not */
+            fssReportSubtype = "";
+            break;
+        }
 
-            /* Process the source_status of the METAR report. */
-            int fssSourceStatus = MetarDecoderUtil
-                    .checkSourceStatus(surfaceObs.getQcMetar());
+        /*
+         * Determine the report augmentation (if any). There are three
+         * possible values here: MAN for a manned station, A01 for an
+         * automated station without a precipitation descriminator, and A02
+         * for an automated station with a precipitation descriminator.
+         */
+        String fssAugmentation;
+        switch (surfaceObs.getAutoFlag()) {
+        case 0:
+            /* The station is manned */
+            fssAugmentation = MANNED_STATION_AUGMENTATION;
+            break;
+        case 1:
+            /* The station is of type A01 */
+            fssAugmentation = MetarDecoderUtil.A01_INDICATOR_STRING_NUM;
+            break;
+        case 2:
+            /* The station is of type A02 */
+            fssAugmentation = MetarDecoderUtil.A02_INDICATOR_STRING_NUM;
+            break;
+        default:
+            /* Bad value or missing value */
+            fssAugmentation = "";
+            break;
+        }
 
-            /* Count the number of cloud layers in the report. */
+        /*
+         * Determine whether or not the report is a correction (amendment)
+         * to a previous report or if the report originated from a fully
+         * automated ASOS site.
+         */
+        String fssCorrection;
+        switch (surfaceObs.getCorFlag()) {
+        case 0:
+            /* A non-corrected report */
+            fssCorrection = "F";
+            break;
+        case 1:
+            /* A corrected report */
+            fssCorrection = "T";
+            break;
+        case 2:
             /*
-             * Task #29187: legacy does not count numbered cloud layers for base
-             * report
+             * A report from a fully automated station - cannot be corrected
              */
-            int fssCloudLayers = 0;
+            fssCorrection = "A";
+            break;
+        default:
+            /* Invalid Information */
+            fssCorrection = "";
+            break;
+        }
 
-            if (surfaceObs
-                    .getLowCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA) {
-                fssCloudLayers++;
-            }
+        /*
+         * Determine the origin time of the observation and convert it into
+         * the proper format. Optional field.
+         */
+        Calendar originCal = null;
+        if (surfaceObs.getOriginTime() != 0) {
+            originCal = TimeUtil.newCalendar();
+            originCal.setTimeInMillis(surfaceObs.getOriginTime());
+        } else {
+            logger.warn("Millis origin time: [" + surfaceObs.getOriginTime()
+                    + "] is not valid.");
+        }
 
-            if (surfaceObs
-                    .getMidCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA) {
-                fssCloudLayers++;
-            }
+        /*
+         * Determine the valid time of the observation and convert it into
+         * the proper format.
+         */
+        Calendar observationCal = TimeUtil.newCalendar();
+        observationCal.setTimeInMillis(surfaceObs.getObsTime());
 
-            if (surfaceObs
-                    .getHighCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA) {
-                fssCloudLayers++;
+        /*
+         * Determine the nominal time of the observation and convert it into
+         * the proper INFORMIX format.
+         */
+        Calendar nominalCal = TimeUtil.newCalendar();
+        nominalCal.setTimeInMillis(surfaceObs.getNominalTime());
+
+        /* Determine the product version of the AEV (an integer) */
+        int fssProdVersion;
+        if (System.getenv("AEV_PROD_VERSION") == null) {
+            logger.warn(
+                    "'AEV_PROD_VERSION' is not set! Product Version in FSS Report table will be null.");
+            fssProdVersion = Integer.MIN_VALUE;
+        } else {
+            try {
+                fssProdVersion = Integer
+                        .parseInt(System.getenv("AEV_PROD_VERSION"));
+            } catch (NumberFormatException e) {
+                logger.error(
+                        "Could not parse FSS Product Version from system.",
+                        e);
+                fssProdVersion = Integer.MIN_VALUE;
             }
+        }
 
-            // insert into FSS tables
-            Map<String, Object> fssReportInsertParams = new HashMap<>();
-            StringBuilder fssReportInsert = new StringBuilder("INSERT INTO ")
-                    .append(ClimateDAOValues.FSS_REPORT_TABLE_NAME)
-                    .append(" VALUES(:fssReportInstance,");
-            fssReportInsertParams.put("fssReportInstance", fssReportInstance);
-            fssReportInsert.append(":stationID,");
-            fssReportInsertParams.put("stationID", stationID);
-            fssReportInsert.append("'").append(FSS_REPORT_TYPE).append("',");
-            fssReportInsert.append(":fssReportSubtype,");
-            fssReportInsertParams.put("fssReportSubtype", fssReportSubtype);
-            fssReportInsert.append(":fssAugmentation,");
-            fssReportInsertParams.put("fssAugmentation", fssAugmentation);
-            fssReportInsert.append(":fssCorrection,");
-            fssReportInsertParams.put("fssCorrection", fssCorrection);
-            fssReportInsert.append(":observationCal,");
-            fssReportInsertParams.put("observationCal", observationCal);
-            fssReportInsert.append(":nominalCal,");
-            fssReportInsertParams.put("nominalCal", nominalCal);
-
-            if (originCal != null) {
-                fssReportInsert.append(":originCal,");
-                fssReportInsertParams.put("originCal", originCal);
-            } else {
-                fssReportInsert.append("NULL,");
-            }
+        /* Process the source_status of the METAR report. */
+        int fssSourceStatus = MetarDecoderUtil
+                .checkSourceStatus(surfaceObs.getQcMetar());
 
-            fssReportInsert.append("'").append(FSS_TIME_ZONE_ID).append("',");
-            fssReportInsert.append("NULL,");
+        /* Count the number of cloud layers in the report. */
+        /*
+         * Task #29187: legacy does not count numbered cloud layers for base
+         * report
+         */
+        int fssCloudLayers = 0;
 
-            if (fssProdVersion != Integer.MIN_VALUE) {
-                fssReportInsert.append(":fssProdVersion,");
-                fssReportInsertParams.put("fssProdVersion", fssProdVersion);
-            } else {
-                fssReportInsert.append("NULL,");
-            }
+        if (surfaceObs
+                .getLowCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA) {
+            fssCloudLayers++;
+        }
 
-            fssReportInsert.append("NULL,");
-            fssReportInsert.append("NULL,");
-            fssReportInsert.append("NULL,");
-            fssReportInsert.append(":fssCloudLayers)");
-            fssReportInsertParams.put("fssCloudLayers", fssCloudLayers);
+        if (surfaceObs
+                .getMidCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA) {
+            fssCloudLayers++;
+        }
 
-            try {
-                getDao().executeSQLUpdate(fssReportInsert.toString(),
-                        fssReportInsertParams);
-            } catch (Exception e) {
-                throw new ClimateQueryException(
-                        "Error inserting basic FSS report data: ["
-                                + fssReportInsert.toString() + "] and map: ["
-                                + fssReportInsertParams + "].",
-                        e);
-            }
+        if (surfaceObs
+                .getHighCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA) {
+            fssCloudLayers++;
+        }
 
-            /*
-             * Now store the individual decoded METAR elements for this report
-             * in the appropriate FSS tables. From
-             * store_METAR_report.c#store_METAR_data.
-             */
-            int nominalHour = nominalCal.get(Calendar.HOUR_OF_DAY);
-            /*
-             * Loop through the element_ids, writing out the METAR data that
-             * corresponds to each id.
-             */
-            boolean cloudsProcessed = false;
-            QCMetar qcMetar = surfaceObs.getQcMetar();
-            for (int hydrometID : hydrometIDs) {
-                switch (hydrometID) {
+        // insert into FSS tables
+        batch.addReport(fssReportInstance, stationID, FSS_REPORT_TYPE,
+                fssReportSubtype, fssAugmentation, fssCorrection,
+                observationCal, nominalCal,
+                originCal != null ? originCal : FSSInsertionBatch.NULL,
+                FSS_TIME_ZONE_ID, FSSInsertionBatch.NULL,
+                fssProdVersion != Integer.MIN_VALUE ? fssProdVersion
+                        : FSSInsertionBatch.NULL,
+                FSSInsertionBatch.NULL, FSSInsertionBatch.NULL,
+                FSSInsertionBatch.NULL, fssCloudLayers);
 
-                case MetarUtils.METAR_TEMP:
-                    if (surfaceObs
-                            .getTemp() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getTemp(), qcMetar.getTempDqd());
-                    }
-                    break;
+        /*
+         * Now store the individual decoded METAR elements for this report
+         * in the appropriate FSS tables. From
+         * store_METAR_report.c#store_METAR_data.
+         */
+        int nominalHour = nominalCal.get(Calendar.HOUR_OF_DAY);
+        /*
+         * Loop through the element_ids, writing out the METAR data that
+         * corresponds to each id.
+         */
+        boolean cloudsProcessed = false;
+        QCMetar qcMetar = surfaceObs.getQcMetar();
+        for (int hydrometID : hydrometIDs) {
+            switch (hydrometID) {
+
+            case MetarUtils.METAR_TEMP:
+                if (surfaceObs
+                        .getTemp() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getTemp(), qcMetar.getTempDqd());
+                }
+                break;
 
-                case MetarUtils.METAR_TEMP_2_TENTHS:
-                    if (surfaceObs
-                            .getTemp2Tenths() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getTemp2Tenths(),
-                                qcMetar.getTemp2TenthsDqd());
+            case MetarUtils.METAR_TEMP_2_TENTHS:
+                if (surfaceObs
+                        .getTemp2Tenths() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getTemp2Tenths(),
+                            qcMetar.getTemp2TenthsDqd());
+                }
+                break;
+
+            case MetarUtils.METAR_1HR_PRECIP:
+                if (surfaceObs
+                        .getPrecip1hr() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    /*
+                     * If the rain amount is a trace (0.00), then reset the
+                     * rain amount to TRACE. This is done for purposes of
+                     * better representation in the verification database.
+                     */
+                    if (surfaceObs.getPrecip1hr() == 0) {
+                        surfaceObs.setPrecip1hr(MetarUtils.FSS_CONTIN_TRACE);
                     }
-                    break;
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getPrecip1hr(),
+                            qcMetar.getPrecip1hrDqd());
+                } else if (surfaceObs.getPrecipPresent() == 0) {
+                    /*
+                     * If the rain amount is missing and the PNO indicator
+                     * is present in the METAR report, then write out a
+                     * value of PNO_PRESENT to the database to indicate that
+                     * the precipitation sensor was not working.
+                     */
+                    surfaceObs.setPrecip1hr(MetarUtils.PNO_PRESENT);
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getPrecip1hr(),
+                            qcMetar.getPrecip1hrDqd());
+                }
+                break;
 
-                case MetarUtils.METAR_1HR_PRECIP:
+            case MetarUtils.METAR_3HR_PRECIP:
+                /*
+                 * make sure nominal hour is correct for 3-hour precip.
+                 * METAR report makes no distinction between a 3 and 6
+                 * hourly precip value; they are the same field.
+                 */
+                if ((nominalHour % 6 != 0) && (nominalHour % 3 == 0)) {
                     if (surfaceObs
-                            .getPrecip1hr() != (float) MetarDecoderUtil.MISSING_DATA) {
+                            .getPrecip6hr() != (float) MetarDecoderUtil.MISSING_DATA) {
                         /*
-                         * If the rain amount is a trace (0.00), then reset the
-                         * rain amount to TRACE. This is done for purposes of
-                         * better representation in the verification database.
+                         * If the rain amount is a trace (0.00), then reset
+                         * the rain amount to TRACE. This is done for
+                         * purposes of better representation in the
+                         * verification database.
                          */
-                        if (surfaceObs.getPrecip1hr() == 0) {
-                            surfaceObs.setPrecip1hr(MetarUtils.FSS_CONTIN_TRACE);
+                        if (surfaceObs.getPrecip6hr() == 0) {
+                            surfaceObs.setPrecip6hr(MetarUtils.FSS_CONTIN_TRACE);
                         }
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getPrecip1hr(),
-                                qcMetar.getPrecip1hrDqd());
+
+                        writeFSSContinuousReal(batch, fssReportInstance,
+                                hydrometID, surfaceObs.getPrecip6hr(),
+                                qcMetar.getPrecip3hrDqd());
                     } else if (surfaceObs.getPrecipPresent() == 0) {
                         /*
-                         * If the rain amount is missing and the PNO indicator
-                         * is present in the METAR report, then write out a
-                         * value of PNO_PRESENT to the database to indicate that
-                         * the precipitation sensor was not working.
+                         * If the rain amount is missing and the PNO
+                         * indicator is present in the METAR report, then
+                         * write out a value of PNO_PRESENT to the database
+                         * to indicate that the precipitation sensor was not
+                         * working at the time of this observation.
                          */
-                        surfaceObs.setPrecip1hr(MetarUtils.PNO_PRESENT);
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getPrecip1hr(),
-                                qcMetar.getPrecip1hrDqd());
+                        surfaceObs.setPrecip6hr(MetarUtils.PNO_PRESENT);
+                        writeFSSContinuousReal(batch, fssReportInstance,
+                                hydrometID, surfaceObs.getPrecip6hr(),
+                                qcMetar.getPrecip3hrDqd());
                     }
-                    break;
-
-                case MetarUtils.METAR_3HR_PRECIP:
-                    /*
-                     * make sure nominal hour is correct for 3-hour precip.
-                     * METAR report makes no distinction between a 3 and 6
-                     * hourly precip value; they are the same field.
-                     */
-                    if ((nominalHour % 6 != 0) && (nominalHour % 3 == 0)) {
-                        if (surfaceObs
-                                .getPrecip6hr() != (float) MetarDecoderUtil.MISSING_DATA) {
-                            /*
-                             * If the rain amount is a trace (0.00), then reset
-                             * the rain amount to TRACE. This is done for
-                             * purposes of better representation in the
-                             * verification database.
-                             */
-                            if (surfaceObs.getPrecip6hr() == 0) {
-                                surfaceObs.setPrecip6hr(MetarUtils.FSS_CONTIN_TRACE);
-                            }
-
-                            writeFSSContinuousReal(fssReportInstance,
-                                    hydrometID, surfaceObs.getPrecip6hr(),
-                                    qcMetar.getPrecip3hrDqd());
-                        } else if (surfaceObs.getPrecipPresent() == 0) {
-                            /*
-                             * If the rain amount is missing and the PNO
-                             * indicator is present in the METAR report, then
-                             * write out a value of PNO_PRESENT to the database
-                             * to indicate that the precipitation sensor was not
-                             * working at the time of this observation.
-                             */
-                            surfaceObs.setPrecip6hr(MetarUtils.PNO_PRESENT);
-                            writeFSSContinuousReal(fssReportInstance,
-                                    hydrometID, surfaceObs.getPrecip6hr(),
-                                    qcMetar.getPrecip3hrDqd());
-                        }
-                    }
-                    break;
+                }
+                break;
 
-                case MetarUtils.METAR_6HR_PRECIP:
-                    /*
-                     * make sure nominal hour is correct for 6-hour precip
-                     */
-                    if (nominalHour % 6 == 0) {
-                        if (surfaceObs
-                                .getPrecip6hr() != (float) MetarDecoderUtil.MISSING_DATA) {
-                            /*
-                             * If the rain amount is a trace (0.00), then reset
-                             * the rain amount to TRACE. This is done for
-                             * purposes of better representation in the
-                             * verification database.
-                             */
-                            if (surfaceObs.getPrecip6hr() == 0) {
-                                surfaceObs.setPrecip6hr(MetarUtils.FSS_CONTIN_TRACE);
-                            }
-
-                            writeFSSContinuousReal(fssReportInstance,
-                                    hydrometID, surfaceObs.getPrecip6hr(),
-                                    qcMetar.getPrecip6hrDqd());
-
-                        } else if (surfaceObs.getPrecipPresent() == 0) {
-                            /*
-                             * If the rain amount is missing and the PNO
-                             * indicator is present in the METAR report, then
-                             * write out a value of PNO_PRESENT to the database
-                             * to indicate that the precipitation sensor was not
-                             * working at the time of this observation.
-                             */
-                            surfaceObs.setPrecip6hr(MetarUtils.PNO_PRESENT);
-                            writeFSSContinuousReal(fssReportInstance,
-                                    hydrometID, surfaceObs.getPrecip6hr(),
-                                    qcMetar.getPrecip6hrDqd());
-                        }
-                    }
-                    break;
-                case MetarUtils.METAR_24HR_PRECIP:
+            case MetarUtils.METAR_6HR_PRECIP:
+                /*
+                 * make sure nominal hour is correct for 6-hour precip
+                 */
+                if (nominalHour % 6 == 0) {
                     if (surfaceObs
-                            .getPrecip24hr() != (float) MetarDecoderUtil.MISSING_DATA) {
+                            .getPrecip6hr() != (float) MetarDecoderUtil.MISSING_DATA) {
                         /*
-                         * If the rain amount is a trace (0.00), then reset the
-                         * rain amount to TRACE. This is done for purposes of
-                         * better representation in the verification database.
+                         * If the rain amount is a trace (0.00), then reset
+                         * the rain amount to TRACE. This is done for
+                         * purposes of better representation in the
+                         * verification database.
                          */
-                        if (surfaceObs.getPrecip24hr() == 0) {
-                            surfaceObs.setPrecip24hr(MetarUtils.FSS_CONTIN_TRACE);
+                        if (surfaceObs.getPrecip6hr() == 0) {
+                            surfaceObs.setPrecip6hr(MetarUtils.FSS_CONTIN_TRACE);
                         }
 
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getPrecip24hr(),
-                                qcMetar.getPrecip24hrDqd());
+                        writeFSSContinuousReal(batch, fssReportInstance,
+                                hydrometID, surfaceObs.getPrecip6hr(),
+                                qcMetar.getPrecip6hrDqd());
 
                     } else if (surfaceObs.getPrecipPresent() == 0) {
                         /*
-                         * If the rain amount is missing and the PNO indicator
-                         * is present in the METAR report, then write out a
-                         * value of PNO_PRESENT to the database to indicate that
-                         * the precipitation sensor was not working at the time
-                         * of this observation.
+                         * If the rain amount is missing and the PNO
+                         * indicator is present in the METAR report, then
+                         * write out a value of PNO_PRESENT to the database
+                         * to indicate that the precipitation sensor was not
+                         * working at the time of this observation.
                          */
-                        surfaceObs.setPrecip24hr(MetarUtils.PNO_PRESENT);
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getPrecip24hr(),
-                                qcMetar.getPrecip24hrDqd());
+                        surfaceObs.setPrecip6hr(MetarUtils.PNO_PRESENT);
+                        writeFSSContinuousReal(batch, fssReportInstance,
+                                hydrometID, surfaceObs.getPrecip6hr(),
+                                qcMetar.getPrecip6hrDqd());
                     }
-                    break;
-                case MetarUtils.METAR_WX:
-                    fssSourceStatus = writeFSSCategoryMulti(fssReportInstance,
-                            hydrometID, surfaceObs.getPresentWx(),
-                            fssSourceStatus);
-
+                }
+                break;
+            case MetarUtils.METAR_24HR_PRECIP:
+                if (surfaceObs
+                        .getPrecip24hr() != (float) MetarDecoderUtil.MISSING_DATA) {
                     /*
-                     * Determine if there was any information regarding the
-                     * begin and end times of precipitation in the remarks
-                     * section of the METAR. If there was, then write this
-                     * information out to the wx_period table in the climate
-                     * database. From write_wx_period.ecpp.
+                     * If the rain amount is a trace (0.00), then reset the
+                     * rain amount to TRACE. This is done for purposes of
+                     * better representation in the verification database.
                      */
-                    fssSourceStatus = writeWxPeriod(fssReportInstance,
-                            hydrometID, surfaceObs.getWeatherBeginEnd(),
-                            fssSourceStatus);
-                    break;
-                case MetarUtils.METAR_WIND_SPEED:
-                    if (surfaceObs
-                            .getWindSpd() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getWindSpd(),
-                                qcMetar.getWindSpdDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_WIND_DIRECTION:
-                    if (surfaceObs
-                            .getWindDir() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSCategorySingle(fssReportInstance, hydrometID,
-                                surfaceObs.getWindDir(), METAR_WIND_DIR_SCALE,
-                                qcMetar.getWindDirDqd());
-                    } else if (surfaceObs.getVariableWindFlag() == 1) {
-                        writeFSSCategorySingle(fssReportInstance, hydrometID,
-                                VARIABLE_WIND_DIR_VALUE, METAR_WIND_DIR_SCALE,
-                                qcMetar.getWindDirDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_PEAK_WIND_SPEED:
-                    if (surfaceObs
-                            .getPeakWindSpeed() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getPeakWindSpeed(),
-                                qcMetar.getPeakWindSpdDqd());
+                    if (surfaceObs.getPrecip24hr() == 0) {
+                        surfaceObs.setPrecip24hr(MetarUtils.FSS_CONTIN_TRACE);
                     }
-                    break;
-                case MetarUtils.METAR_PEAK_WIND_DIR:
-                    if (surfaceObs
-                            .getPeakWindDir() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSCategorySingle(fssReportInstance, hydrometID,
-                                surfaceObs.getPeakWindDir(),
-                                METAR_WIND_DIR_SCALE,
-                                qcMetar.getPeakWindDirDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_PEAK_WIND_TIME:
-                    if (surfaceObs
-                            .getPeakWindHHMM() != MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getPeakWindHHMM(),
-                                qcMetar.getPeakWindTimeDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_SUNSHINE_DURATION:
-                    if (surfaceObs
-                            .getSunshineDur() != MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getSunshineDur(),
-                                qcMetar.getSunshineDurDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_CLOUD_COVER:
-                case MetarUtils.METAR_CLOUD_HEIGHT:
-                case MetarUtils.METAR_CLOUD_TYPE:
-                    if (!cloudsProcessed) {
-                        /*
-                         * From store_METAR_report.c#process_cloud_layers.
-                         */
-                        int cloudLayers = 0;
-                        boolean isClear = false;
-
-                        if ((surfaceObs
-                                .getLowCloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getLowCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getLowCloudType() != MetarDecoderUtil.MISSING_DATA)) {
-                            if ((surfaceObs.getLowCloudCover() == 0)
-                                    && (surfaceObs
-                                            .getLowCloudHeight() == (float) MetarDecoderUtil.MISSING_DATA)) {
-                                isClear = true;
-                            }
-
-                            cloudLayers++;
-
-                            writeFSSCloudLayer(fssReportInstance,
-                                    surfaceObs.getLowCloudHeight(),
-                                    surfaceObs.getLowCloudCover(),
-                                    surfaceObs.getLowCloudType(), cloudLayers,
-                                    qcMetar.getLowCloudHgtDqd(),
-                                    qcMetar.getLowCloudCoverDqd(),
-                                    qcMetar.getLowCloudTypeDqd());
-                        }
 
-                        if (((surfaceObs
-                                .getMidCloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getMidCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getMidCloudType() != MetarDecoderUtil.MISSING_DATA))
-                                && !isClear) {
-
-                            cloudLayers++;
-
-                            writeFSSCloudLayer(fssReportInstance,
-                                    surfaceObs.getMidCloudHeight(),
-                                    surfaceObs.getMidCloudCover(),
-                                    surfaceObs.getMidCloudType(), cloudLayers,
-                                    qcMetar.getMidCloudHgtDqd(),
-                                    qcMetar.getMidCloudCoverDqd(),
-                                    qcMetar.getMidCloudTypeDqd());
-                        }
-
-                        if (((surfaceObs
-                                .getHighCloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getHighCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getHighCloudType() != MetarDecoderUtil.MISSING_DATA))
-                                && !isClear) {
-
-                            cloudLayers++;
-
-                            writeFSSCloudLayer(fssReportInstance,
-                                    surfaceObs.getHighCloudHeight(),
-                                    surfaceObs.getHighCloudCover(),
-                                    surfaceObs.getHighCloudType(), cloudLayers,
-                                    qcMetar.getHighCloudHgtDqd(),
-                                    qcMetar.getHighCloudCoverDqd(),
-                                    qcMetar.getHighCloudTypeDqd());
-                        }
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getPrecip24hr(),
+                            qcMetar.getPrecip24hrDqd());
 
-                        if (((surfaceObs
-                                .getLayer4CloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getLayer4CloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getLayer4CloudType() != MetarDecoderUtil.MISSING_DATA))
-                                && !isClear) {
-
-                            cloudLayers++;
-
-                            writeFSSCloudLayer(fssReportInstance,
-                                    surfaceObs.getLayer4CloudHeight(),
-                                    surfaceObs.getLayer4CloudCover(),
-                                    surfaceObs.getLayer4CloudType(),
-                                    cloudLayers, qcMetar.getLayer4CloudHgtDqd(),
-                                    qcMetar.getLayer4CloudCoverDqd(),
-                                    qcMetar.getLayer4CloudTypeDqd());
-                        }
+                } else if (surfaceObs.getPrecipPresent() == 0) {
+                    /*
+                     * If the rain amount is missing and the PNO indicator
+                     * is present in the METAR report, then write out a
+                     * value of PNO_PRESENT to the database to indicate that
+                     * the precipitation sensor was not working at the time
+                     * of this observation.
+                     */
+                    surfaceObs.setPrecip24hr(MetarUtils.PNO_PRESENT);
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getPrecip24hr(),
+                            qcMetar.getPrecip24hrDqd());
+                }
+                break;
+            case MetarUtils.METAR_WX:
+                fssSourceStatus = writeFSSCategoryMulti(batch,
+                        fssReportInstance, hydrometID,
+                        surfaceObs.getPresentWx(), fssSourceStatus);
 
-                        if (((surfaceObs
-                                .getLayer5CloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getLayer5CloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getLayer5CloudType() != MetarDecoderUtil.MISSING_DATA))
-                                && !isClear) {
-
-                            cloudLayers++;
-
-                            writeFSSCloudLayer(fssReportInstance,
-                                    surfaceObs.getLayer5CloudHeight(),
-                                    surfaceObs.getLayer5CloudCover(),
-                                    surfaceObs.getLayer5CloudType(),
-                                    cloudLayers, qcMetar.getLayer5CloudHgtDqd(),
-                                    qcMetar.getLayer5CloudCoverDqd(),
-                                    qcMetar.getLayer5CloudTypeDqd());
+                /*
+                 * Determine if there was any information regarding the
+                 * begin and end times of precipitation in the remarks
+                 * section of the METAR. If there was, then write this
+                 * information out to the wx_period table in the climate
+                 * database. From write_wx_period.ecpp.
+                 */
+                fssSourceStatus = writeWxPeriod(batch, fssReportInstance,
+                        hydrometID, surfaceObs.getWeatherBeginEnd(),
+                        fssSourceStatus);
+                break;
+            case MetarUtils.METAR_WIND_SPEED:
+                if (surfaceObs
+                        .getWindSpd() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getWindSpd(), qcMetar.getWindSpdDqd());
+                }
+                break;
+            case MetarUtils.METAR_WIND_DIRECTION:
+                if (surfaceObs
+                        .getWindDir() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSCategorySingle(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getWindDir(), METAR_WIND_DIR_SCALE,
+                            qcMetar.getWindDirDqd());
+                } else if (surfaceObs.getVariableWindFlag() == 1) {
+                    writeFSSCategorySingle(batch, fssReportInstance, hydrometID,
+                            VARIABLE_WIND_DIR_VALUE, METAR_WIND_DIR_SCALE,
+                            qcMetar.getWindDirDqd());
+                }
+                break;
+            case MetarUtils.METAR_PEAK_WIND_SPEED:
+                if (surfaceObs
+                        .getPeakWindSpeed() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getPeakWindSpeed(),
+                            qcMetar.getPeakWindSpdDqd());
+                }
+                break;
+            case MetarUtils.METAR_PEAK_WIND_DIR:
+                if (surfaceObs
+                        .getPeakWindDir() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSCategorySingle(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getPeakWindDir(), METAR_WIND_DIR_SCALE,
+                            qcMetar.getPeakWindDirDqd());
+                }
+                break;
+            case MetarUtils.METAR_PEAK_WIND_TIME:
+                if (surfaceObs
+                        .getPeakWindHHMM() != MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getPeakWindHHMM(),
+                            qcMetar.getPeakWindTimeDqd());
+                }
+                break;
+            case MetarUtils.METAR_SUNSHINE_DURATION:
+                if (surfaceObs
+                        .getSunshineDur() != MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getSunshineDur(),
+                            qcMetar.getSunshineDurDqd());
+                }
+                break;
+            case MetarUtils.METAR_CLOUD_COVER:
+            case MetarUtils.METAR_CLOUD_HEIGHT:
+            case MetarUtils.METAR_CLOUD_TYPE:
+                if (!cloudsProcessed) {
+                    /*
+                     * From store_METAR_report.c#process_cloud_layers.
+                     */
+                    int cloudLayers = 0;
+                    boolean isClear = false;
+
+                    if ((surfaceObs
+                            .getLowCloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getLowCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getLowCloudType() != MetarDecoderUtil.MISSING_DATA)) {
+                        if ((surfaceObs.getLowCloudCover() == 0)
+                                && (surfaceObs
+                                        .getLowCloudHeight() == (float) MetarDecoderUtil.MISSING_DATA)) {
+                            isClear = true;
                         }
 
-                        if (((surfaceObs
-                                .getLayer6CloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getLayer6CloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
-                                || (surfaceObs
-                                        .getLayer6CloudType() != MetarDecoderUtil.MISSING_DATA))
-                                && !isClear) {
-
-                            cloudLayers++;
-
-                            writeFSSCloudLayer(fssReportInstance,
-                                    surfaceObs.getLayer6CloudHeight(),
-                                    surfaceObs.getLayer6CloudCover(),
-                                    surfaceObs.getLayer6CloudType(),
-                                    cloudLayers, qcMetar.getLayer6CloudHgtDqd(),
-                                    qcMetar.getLayer6CloudCoverDqd(),
-                                    qcMetar.getLayer6CloudTypeDqd());
-                        }
+                        cloudLayers++;
 
-                        cloudsProcessed = true;
-                    }
-                    break;
-                case MetarUtils.METAR_VISIB:
-                    if (surfaceObs
-                            .getVisibility() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSCategorySingle(fssReportInstance, hydrometID,
-                                surfaceObs.getVisibility(),
-                                METAR_HORIZ_VISIB_INSERT_SCALE,
-                                qcMetar.getVsbyDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_SNOW_DEPTH:
-                    if (surfaceObs
-                            .getSnowDepth() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getSnowDepth(),
-                                qcMetar.getSnowDepthDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_VERT_VISIB:
-                    if (surfaceObs
-                            .getVerticalVisibility() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSCloudLayer(fssReportInstance,
-                                surfaceObs.getVerticalVisibility()
-                                        * MetarDecoderUtil.M_TO_100S_OF_FT,
-                                VERT_VISIB_CLOUD_COVER_VALUE,
-                                MetarDecoderUtil.MISSING_DATA,
-                                METAR_VERT_VISIB_SCALE,
-                                qcMetar.getVertVsbyDqd(),
-                                QCMetar.COARSE_CHECKS_PASSED,
-                                QCMetar.NO_QC_PERFORMED);
-                    }
-                    break;
-                case MetarUtils.METAR_MSL_PRESS:
-                    if (surfaceObs
-                            .getSlp() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getSlp(), qcMetar.getSLPDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_ALT_SETTING:
-                    if (surfaceObs
-                            .getAltSetting() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getAltSetting(),
-                                qcMetar.getAltSettingDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_3HR_PRESS_CHNG:
-                    if (surfaceObs
-                            .getPressureChange3hr() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getPressureChange3hr(),
-                                qcMetar.getPresChg3hrDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_3HR_PRESS_TREND:
-                    if (surfaceObs
-                            .getPressureTendency() != MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSCategorySingle(fssReportInstance, hydrometID,
-                                surfaceObs.getPressureTendency(),
-                                METAR_3HR_PRESS_TEND_SCALE,
-                                qcMetar.getPresChg3hrDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_DEWPOINT:
-                    if (surfaceObs
-                            .getDewPt() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getDewPt(), qcMetar.getDewPtDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_DEWPOINT_2_TENTHS:
-                    if (surfaceObs
-                            .getDewPt2Tenths() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getDewPt2Tenths(),
-                                qcMetar.getDewPt2TenthsDqd());
+                        writeFSSCloudLayer(batch, fssReportInstance,
+                                surfaceObs.getLowCloudHeight(),
+                                surfaceObs.getLowCloudCover(),
+                                surfaceObs.getLowCloudType(), cloudLayers,
+                                qcMetar.getLowCloudHgtDqd(),
+                                qcMetar.getLowCloudCoverDqd(),
+                                qcMetar.getLowCloudTypeDqd());
                     }
-                    break;
-                case MetarUtils.METAR_6HR_MAXTEMP:
-                    if (surfaceObs
-                            .getMaxTemp6hr() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getMaxTemp6hr(),
-                                qcMetar.getMaxTemp6hrDqd());
-                    }
-                    break;
-                case MetarUtils.METAR_6HR_MINTEMP:
-                    if (surfaceObs
-                            .getMinTemp6hr() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getMinTemp6hr(),
-                                qcMetar.getMinTemp6hrDqd());
+
+                    if (((surfaceObs
+                            .getMidCloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getMidCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getMidCloudType() != MetarDecoderUtil.MISSING_DATA))
+                            && !isClear) {
+
+                        cloudLayers++;
+
+                        writeFSSCloudLayer(batch, fssReportInstance,
+                                surfaceObs.getMidCloudHeight(),
+                                surfaceObs.getMidCloudCover(),
+                                surfaceObs.getMidCloudType(), cloudLayers,
+                                qcMetar.getMidCloudHgtDqd(),
+                                qcMetar.getMidCloudCoverDqd(),
+                                qcMetar.getMidCloudTypeDqd());
                     }
-                    break;
-                case MetarUtils.METAR_24HR_MAXTEMP:
-                    if (surfaceObs
-                            .getMax24temp() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getMax24temp(),
-                                qcMetar.getMaxTemp24hrDqd());
+
+                    if (((surfaceObs
+                            .getHighCloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getHighCloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getHighCloudType() != MetarDecoderUtil.MISSING_DATA))
+                            && !isClear) {
+
+                        cloudLayers++;
+
+                        writeFSSCloudLayer(batch, fssReportInstance,
+                                surfaceObs.getHighCloudHeight(),
+                                surfaceObs.getHighCloudCover(),
+                                surfaceObs.getHighCloudType(), cloudLayers,
+                                qcMetar.getHighCloudHgtDqd(),
+                                qcMetar.getHighCloudCoverDqd(),
+                                qcMetar.getHighCloudTypeDqd());
                     }
-                    break;
-                case MetarUtils.METAR_24HR_MINTEMP:
-                    if (surfaceObs
-                            .getMin24temp() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getMin24temp(),
-                                qcMetar.getMinTemp24hrDqd());
+
+                    if (((surfaceObs
+                            .getLayer4CloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getLayer4CloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getLayer4CloudType() != MetarDecoderUtil.MISSING_DATA))
+                            && !isClear) {
+
+                        cloudLayers++;
+
+                        writeFSSCloudLayer(batch, fssReportInstance,
+                                surfaceObs.getLayer4CloudHeight(),
+                                surfaceObs.getLayer4CloudCover(),
+                                surfaceObs.getLayer4CloudType(), cloudLayers,
+                                qcMetar.getLayer4CloudHgtDqd(),
+                                qcMetar.getLayer4CloudCoverDqd(),
+                                qcMetar.getLayer4CloudTypeDqd());
                     }
-                    break;
-                case MetarUtils.METAR_MAX_WIND_GUST:
-                    if (surfaceObs
-                            .getGustSpd() != (float) MetarDecoderUtil.MISSING_DATA) {
-                        writeFSSContinuousReal(fssReportInstance, hydrometID,
-                                surfaceObs.getGustSpd(),
-                                qcMetar.getGustSpdDqd());
+
+                    if (((surfaceObs
+                            .getLayer5CloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getLayer5CloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getLayer5CloudType() != MetarDecoderUtil.MISSING_DATA))
+                            && !isClear) {
+
+                        cloudLayers++;
+
+                        writeFSSCloudLayer(batch, fssReportInstance,
+                                surfaceObs.getLayer5CloudHeight(),
+                                surfaceObs.getLayer5CloudCover(),
+                                surfaceObs.getLayer5CloudType(), cloudLayers,
+                                qcMetar.getLayer5CloudHgtDqd(),
+                                qcMetar.getLayer5CloudCoverDqd(),
+                                qcMetar.getLayer5CloudTypeDqd());
                     }
-                    break;
-                default:
-                    logger.warn("Unexpected hydromet element ID: [" + hydrometID
-                            + "] for report instance: [" + fssReportInstance
-                            + "]");
-                    break;
-                }
-            }
 
-            /* Update the weather element count info */
-            // get the count
-            Map<String, Object> wxEleCountParams = new HashMap<>();
-
-            StringBuilder wxElementCountQuery = new StringBuilder(
-                    "SELECT MAX(wx_ele_number) FROM ")
-                            .append(ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME)
-                            .append(" WHERE fss_rpt_instance=:fssReportInstance")
-                            .append(" AND element_id=")
-                            .append(MetarUtils.METAR_WX).append(" AND dqd='")
-                            .append(QCMetar.COARSE_CHECKS_PASSED).append("'");
-
-            wxEleCountParams.put("fssReportInstance", fssReportInstance);
-
-            int wxElementCount = ((Number) queryForOneValue(
-                    wxElementCountQuery.toString(), wxEleCountParams,
-                    Integer.MAX_VALUE)).intValue();
-            if (wxElementCount == Integer.MAX_VALUE) {
-                logger.debug("Query: [" + wxElementCountQuery.toString()
-                        + "] and map: [" + wxEleCountParams
-                        + "] returned no results.");
-                wxElementCount = 0;
-            }
+                    if (((surfaceObs
+                            .getLayer6CloudCover() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getLayer6CloudHeight() != (float) MetarDecoderUtil.MISSING_DATA)
+                            || (surfaceObs
+                                    .getLayer6CloudType() != MetarDecoderUtil.MISSING_DATA))
+                            && !isClear) {
+
+                        cloudLayers++;
+
+                        writeFSSCloudLayer(batch, fssReportInstance,
+                                surfaceObs.getLayer6CloudHeight(),
+                                surfaceObs.getLayer6CloudCover(),
+                                surfaceObs.getLayer6CloudType(), cloudLayers,
+                                qcMetar.getLayer6CloudHgtDqd(),
+                                qcMetar.getLayer6CloudCoverDqd(),
+                                qcMetar.getLayer6CloudTypeDqd());
+                    }
 
-            /*
-             * From update_wx_count.ecpp.
-             */
-            Map<String, Object> wxEleCountUpdateParams = new HashMap<>();
-
-            StringBuilder wxElementCountUpdate = new StringBuilder("UPDATE ")
-                    .append(ClimateDAOValues.FSS_REPORT_TABLE_NAME)
-                    .append(" SET wx_ele_count=:wxElementCount");
-            wxEleCountUpdateParams.put("wxElementCount", wxElementCount);
-            wxElementCountUpdate
-                    .append(" WHERE fss_rpt_instance=:fssReportInstance");
-            wxEleCountUpdateParams.put("fssReportInstance", fssReportInstance);
-            try {
-                getDao().executeSQLUpdate(wxElementCountUpdate.toString(),
-                        wxEleCountUpdateParams);
-            } catch (Exception e) {
-                throw new ClimateQueryException(
-                        "Error with query: [" + wxElementCountUpdate
-                                + "] and map: [" + wxEleCountUpdateParams + "]",
-                        e);
+                    cloudsProcessed = true;
+                }
+                break;
+            case MetarUtils.METAR_VISIB:
+                if (surfaceObs
+                        .getVisibility() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSCategorySingle(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getVisibility(),
+                            METAR_HORIZ_VISIB_INSERT_SCALE,
+                            qcMetar.getVsbyDqd());
+                }
+                break;
+            case MetarUtils.METAR_SNOW_DEPTH:
+                if (surfaceObs
+                        .getSnowDepth() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getSnowDepth(),
+                            qcMetar.getSnowDepthDqd());
+                }
+                break;
+            case MetarUtils.METAR_VERT_VISIB:
+                if (surfaceObs
+                        .getVerticalVisibility() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSCloudLayer(batch, fssReportInstance,
+                            surfaceObs.getVerticalVisibility() * MetarDecoderUtil.M_TO_100S_OF_FT,
+                            VERT_VISIB_CLOUD_COVER_VALUE,
+                            MetarDecoderUtil.MISSING_DATA,
+                            METAR_VERT_VISIB_SCALE, qcMetar.getVertVsbyDqd(),
+                            QCMetar.COARSE_CHECKS_PASSED,
+                            QCMetar.NO_QC_PERFORMED);
+                }
+                break;
+            case MetarUtils.METAR_MSL_PRESS:
+                if (surfaceObs
+                        .getSlp() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getSlp(), qcMetar.getSLPDqd());
+                }
+                break;
+            case MetarUtils.METAR_ALT_SETTING:
+                if (surfaceObs
+                        .getAltSetting() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getAltSetting(),
+                            qcMetar.getAltSettingDqd());
+                }
+                break;
+            case MetarUtils.METAR_3HR_PRESS_CHNG:
+                if (surfaceObs
+                        .getPressureChange3hr() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getPressureChange3hr(),
+                            qcMetar.getPresChg3hrDqd());
+                }
+                break;
+            case MetarUtils.METAR_3HR_PRESS_TREND:
+                if (surfaceObs
+                        .getPressureTendency() != MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSCategorySingle(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getPressureTendency(),
+                            METAR_3HR_PRESS_TEND_SCALE,
+                            qcMetar.getPresChg3hrDqd());
+                }
+                break;
+            case MetarUtils.METAR_DEWPOINT:
+                if (surfaceObs
+                        .getDewPt() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getDewPt(), qcMetar.getDewPtDqd());
+                }
+                break;
+            case MetarUtils.METAR_DEWPOINT_2_TENTHS:
+                if (surfaceObs
+                        .getDewPt2Tenths() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getDewPt2Tenths(),
+                            qcMetar.getDewPt2TenthsDqd());
+                }
+                break;
+            case MetarUtils.METAR_6HR_MAXTEMP:
+                if (surfaceObs
+                        .getMaxTemp6hr() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getMaxTemp6hr(),
+                            qcMetar.getMaxTemp6hrDqd());
+                }
+                break;
+            case MetarUtils.METAR_6HR_MINTEMP:
+                if (surfaceObs
+                        .getMinTemp6hr() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getMinTemp6hr(),
+                            qcMetar.getMinTemp6hrDqd());
+                }
+                break;
+            case MetarUtils.METAR_24HR_MAXTEMP:
+                if (surfaceObs
+                        .getMax24temp() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getMax24temp(),
+                            qcMetar.getMaxTemp24hrDqd());
+                }
+                break;
+            case MetarUtils.METAR_24HR_MINTEMP:
+                if (surfaceObs
+                        .getMin24temp() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getMin24temp(),
+                            qcMetar.getMinTemp24hrDqd());
+                }
+                break;
+            case MetarUtils.METAR_MAX_WIND_GUST:
+                if (surfaceObs
+                        .getGustSpd() != (float) MetarDecoderUtil.MISSING_DATA) {
+                    writeFSSContinuousReal(batch, fssReportInstance, hydrometID,
+                            surfaceObs.getGustSpd(), qcMetar.getGustSpdDqd());
+                }
+                break;
+            default:
+                logger.warn("Unexpected hydromet element ID: [" + hydrometID
+                        + "] for report instance: [" + fssReportInstance
+                        + "]");
+                break;
             }
+        }
 
-            /* Update the decoder exit status */
-            int decodeStatus = surfaceObs.getDecodeStatus();
-            if (decodeStatus != 0) {
-                decodeStatus = decodeStatus
-                        | MetarDecoderUtil.DECODER_ERROR_SOURCE_STATUS;
-            }
+        /* Update the weather element count info */
+        int wxElementCount = batch
+                .getWeatherElementCount(fssReportInstance);
 
-            /*
-             * From update_source_status.ecpp.
-             */
-            Map<String, Object> sourceStatusParams = new HashMap<>();
-
-            StringBuilder sourceStatusUpdate = new StringBuilder("UPDATE ")
-                    .append(ClimateDAOValues.FSS_REPORT_TABLE_NAME)
-                    .append(" SET source_status=:decodeStatus");
-            sourceStatusParams.put("decodeStatus", decodeStatus);
-            sourceStatusUpdate
-                    .append(" WHERE fss_rpt_instance=:fssReportInstance");
-            sourceStatusParams.put("fssReportInstance", fssReportInstance);
-            try {
-                getDao().executeSQLUpdate(sourceStatusUpdate.toString(),
-                        sourceStatusParams);
-            } catch (Exception e) {
-                throw new ClimateQueryException(
-                        "Error with query: [" + sourceStatusUpdate
-                                + "] and map: [" + sourceStatusParams + "]",
-                        e);
-            }
-        } catch (ClimateQueryException e) {
-            throw new ClimateException(
-                    "Error with a query on decoding/inserting/updating METAR report.",
-                    e);
+        /* Update the decoder exit status */
+        int decodeStatus = surfaceObs.getDecodeStatus();
+        if (decodeStatus != 0) {
+            decodeStatus = decodeStatus
+                    | MetarDecoderUtil.DECODER_ERROR_SOURCE_STATUS;
         }
+
+        batch.setReportStatus(fssReportInstance, wxElementCount,
+                decodeStatus);
     }
 
     /**
@@ -1075,6 +1133,7 @@ public class ClimateFSSInsertionDAO extends ClimateDAO {
      *
      * </pre>
      * 
+     * @param batch
      * @param reportInstance
      * @param cloudHeight
      * @param cloudCover
@@ -1083,124 +1142,32 @@ public class ClimateFSSInsertionDAO extends ClimateDAO {
      * @param cloudHgtDqd
      * @param cloudCoverDqd
      * @param cloudTypeDqd
-     * @throws ClimateQueryException
      */
 
-    private void writeFSSCloudLayer(int reportInstance, float cloudHeight,
-            float cloudCover, int cloudType, int cloudLayers,
-            String cloudHgtDqd, String cloudCoverDqd, String cloudTypeDqd)
-                    throws ClimateQueryException {
+    private void writeFSSCloudLayer(FSSInsertionBatch batch,
+            int reportInstance, float cloudHeight, float cloudCover,
+            int cloudType, int cloudLayers, String cloudHgtDqd,
+            String cloudCoverDqd, String cloudTypeDqd) {
         /* Write the cloud height information to the FSS_cloud_layer table. */
         if (cloudHeight != (float) MetarDecoderUtil.MISSING_DATA) {
-            try {
-                writeFSSCloudLayerSupport(reportInstance,
-                        MetarUtils.METAR_CLOUD_HEIGHT, cloudLayers,
-                        ClimateUtilities.nint(cloudHeight), cloudHgtDqd);
-            } catch (Exception e) {
-                throw new ClimateQueryException(
-                        "Error inserting FSS cloud layer height report data.",
-                        e);
-            }
+            batch.addCloudLayer(reportInstance, MetarUtils.METAR_CLOUD_HEIGHT,
+                    cloudLayers, ClimateUtilities.nint(cloudHeight),
+                    cloudHgtDqd);
         }
 
         /* Process the cloud cover information. */
         if (cloudCover != (float) MetarDecoderUtil.MISSING_DATA) {
-            try {
-                writeFSSCloudLayerSupport(reportInstance,
-                        MetarUtils.METAR_CLOUD_COVER, cloudLayers,
-                        ClimateUtilities.nint(cloudCover
-                                * MetarDecoderUtil.METAR_CLOUD_COVER_SCALE),
-                        cloudCoverDqd);
-            } catch (Exception e) {
-                throw new ClimateQueryException(
-                        "Error inserting FSS cloud layer cover report data.",
-                        e);
-            }
+            batch.addCloudLayer(reportInstance, MetarUtils.METAR_CLOUD_COVER,
+                    cloudLayers,
+                    ClimateUtilities.nint(cloudCover
+                            * MetarDecoderUtil.METAR_CLOUD_COVER_SCALE),
+                    cloudCoverDqd);
         }
 
         /* Process the cloud type information (if there is any). */
         if (cloudType != MetarDecoderUtil.MISSING_DATA) {
-            try {
-                writeFSSCloudLayerSupport(reportInstance,
-                        MetarUtils.METAR_CLOUD_TYPE, cloudLayers, cloudType,
-                        cloudTypeDqd);
-            } catch (Exception e) {
-                throw new ClimateQueryException(
-                        "Error inserting FSS cloud layer type report data.", e);
-            }
-        }
-    }
-
-    /**
-     * Support for writing cloud layer data, checking if insert or update is
-     * appropriate.
-     * 
-     * @param reportInstance
-     * @param elementID
-     * @param layerNumber
-     * @param elementValue
-     * @param dqd
-     * @throws ClimateQueryException
-     */
-    private void writeFSSCloudLayerSupport(int reportInstance, int elementID,
-            int layerNumber, int elementValue, String dqd)
-                    throws ClimateQueryException {
-        Map<String, Object> queryParams = new HashMap<>();
-
-        StringBuilder query = new StringBuilder("SELECT * FROM ")
-                .append(ClimateDAOValues.FSS_CLOUD_LAYER_TABLE_NAME)
-                .append(" WHERE fss_rpt_instance=:fss_rpt_instance");
-        queryParams.put("fss_rpt_instance", reportInstance);
-        query.append(" AND element_id=:element_id");
-        queryParams.put("element_id", elementID);
-        query.append(" AND layer_number=:layer_number");
-        queryParams.put("layer_number", layerNumber);
-
-        try {
-            Object[] results = getDao().executeSQLQuery(query.toString(),
-                    queryParams);
-
-            Map<String, Object> insertParams = new HashMap<>();
-            insertParams.put("fss_rpt_instance", reportInstance);
-            insertParams.put("element_id", elementID);
-            insertParams.put("layer_number", layerNumber);
-            insertParams.put("element_value", elementValue);
-            insertParams.put("dqd", dqd);
-
-            StringBuilder insert;
-            if ((results != null) && (results.length >= 1)) {
-                // update
-                insert = new StringBuilder("UPDATE ")
-                        .append(ClimateDAOValues.FSS_CLOUD_LAYER_TABLE_NAME)
-                        .append(" SET element_value=:element_value, dqd=:dqd ")
-                        .append(" WHERE fss_rpt_instance=:fss_rpt_instance")
-                        .append(" AND element_id=:element_id")
-                        .append(" AND layer_number=:layer_number");
-            } else {
-                // insert
-                insert = new StringBuilder("INSERT INTO ")
-                        .append(ClimateDAOValues.FSS_CLOUD_LAYER_TABLE_NAME)
-                        .append(" VALUES(:fss_rpt_instance,")
-                        .append(":element_id,").append(":layer_number,")
-                        .append(":element_value,").append(":dqd)");
-            }
-
-            try {
-                getDao().executeSQLUpdate(insert.toString(), insertParams);
-            } catch (Exception e) {
-                throw new ClimateQueryException(
-                        "Error inserting FSS cloud layer report data: ["
-                                + insert.toString() + "] and map: ["
-                                + insertParams + "].",
-                        e);
-            }
-        } catch (ClimateQueryException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new ClimateQueryException(
-                    "Error querying for report existence with query: [" + query
-                            + "] and map: [" + queryParams + "]",
-                    e);
+            batch.addCloudLayer(reportInstance, MetarUtils.METAR_CLOUD_TYPE,
+                    cloudLayers, cloudType, cloudTypeDqd);
         }
     }
 
@@ -1217,77 +1184,26 @@ public class ClimateFSSInsertionDAO extends ClimateDAO {
      * 
      * </pre>
      * 
+     * @param batch
      * @param reportInstance
      * @param elementID
      * @param value
      * @param scale
      * @param dqd
-     * @throws ClimateQueryException
      */
 
-    private void writeFSSCategorySingle(int reportInstance, int elementID,
-            float value, float scale, String dqd) throws ClimateQueryException {
-        Map<String, Object> queryParams = new HashMap<>();
-
-        StringBuilder query = new StringBuilder("SELECT * FROM ")
-                .append(ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME)
-                .append(" WHERE fss_rpt_instance=:fss_rpt_instance");
-        queryParams.put("fss_rpt_instance", reportInstance);
-        query.append(" AND element_id=:element_id");
-        queryParams.put("element_id", elementID);
-
-        try {
-            Object[] results = getDao().executeSQLQuery(query.toString(),
-                    queryParams);
-
-            Map<String, Object> insertParams = new HashMap<>();
-            insertParams.put("reportInstance", reportInstance);
-            insertParams.put("elementID", elementID);
-            insertParams.put("value", (int) (value * scale));
-            insertParams.put("dqd", dqd);
-
-            StringBuilder insert;
-            if ((results != null) && (results.length >= 1)) {
-                // update
-                insert = new StringBuilder("UPDATE ")
-                        .append(ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME)
-                        .append(" SET element_value=:value, dqd=:dqd WHERE ")
-                        .append(" fss_rpt_instance=:reportInstance AND element_id=:elementID");
-            } else {
-                // insert
-                insert = new StringBuilder("INSERT INTO ")
-                        .append(ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME)
-                        .append(" VALUES(");
-                insert.append(":reportInstance,");
-                insert.append(":elementID,");
-                insert.append(":value,");
-                insert.append(":dqd)");
-
-            }
-            try {
-                getDao().executeSQLUpdate(insert.toString(), insertParams);
-            } catch (Exception e) {
-                throw new ClimateQueryException(
-                        "Error inserting FSS category single report data: ["
-                                + insert.toString() + "] and map: ["
-                                + insertParams + "].",
-                        e);
-            }
-        } catch (ClimateQueryException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new ClimateQueryException(
-                    "Error querying for report existence with query: [" + query
-                            + "] and map: [" + queryParams + "]",
-                    e);
-        }
+    private void writeFSSCategorySingle(FSSInsertionBatch batch,
+            int reportInstance, int elementID, float value, float scale,
+            String dqd) {
+        batch.addCategorySingle(reportInstance, elementID,
+                (int) (value * scale), dqd);
     }
 
     /**
      * Write out decoded weather period METAR data to fss_wx_period table. Very
      * similar logic to
-     * {@link #writeFSSCategoryMulti(int, int, List, String[], int)}. From
-     * write_wx_period.ecpp.
+     * {@link #writeFSSCategoryMulti(FSSInsertionBatch, int, int, String[], int)}.
+     * From write_wx_period.ecpp.
      * 
      * <pre>
      * MODULE NUMBER: 1
@@ -1312,17 +1228,17 @@ public class ClimateFSSInsertionDAO extends ClimateDAO {
      *                AWIPS.
      * </pre>
      * 
+     * @param batch
      * @param reportInstance
      * @param elementID
      * @param decodedWeatherElements
      * @param sourceStatus
      * @return new source status, as it may have changed.
-     * @throws ClimateQueryException
      */
 
-    private int writeWxPeriod(int reportInstance, int elementID,
-            RecentWx[] decodedWeatherElements, int sourceStatus)
-                    throws ClimateQueryException {
+    private int writeWxPeriod(FSSInsertionBatch batch, int reportInstance,
+            int elementID, RecentWx[] decodedWeatherElements,
+            int sourceStatus) {
         int weatherElementCount = 0;
 
         for (int i = 0; (i < decodedWeatherElements.length)
@@ -1411,74 +1327,9 @@ public class ClimateFSSInsertionDAO extends ClimateDAO {
                         endTime = "NULL";
                     }
 
-                    Map<String, Object> queryParams = new HashMap<>();
-
-                    StringBuilder query = new StringBuilder("SELECT * FROM ")
-                            .append(ClimateDAOValues.FSS_WX_PERIOD_TABLE_NAME)
-                            .append(" WHERE fss_rpt_instance=:fss_rpt_instance");
-                    queryParams.put("fss_rpt_instance", reportInstance);
-                    query.append(" AND element_id=:element_id");
-                    queryParams.put("element_id", elementID);
-                    query.append(" AND element_value=:element_value");
-                    queryParams.put("element_value", fssElementValue);
-                    query.append(" AND element_num=:element_num");
-                    queryParams.put("element_num", weatherElementNumber);
-
-                    try {
-                        Object[] results = getDao()
-                                .executeSQLQuery(query.toString(), queryParams);
-
-                        Map<String, Object> insertParams = new HashMap<>();
-                        insertParams.put("reportInstance", reportInstance);
-                        insertParams.put("elementID", elementID);
-                        insertParams.put("fssElementValue", fssElementValue);
-                        insertParams.put("weatherElementNumber",
-                                weatherElementNumber);
-
-                        StringBuilder insert;
-                        if ((results != null) && (results.length >= 1)) {
-                            // update
-                            insert = new StringBuilder("UPDATE ")
-                                    .append(ClimateDAOValues.FSS_WX_PERIOD_TABLE_NAME)
-                                    .append(" SET wx_begin_dtime=")
-                                    .append(beginTime).append(", wx_end_dtime=")
-                                    .append(endTime)
-                                    .append(" WHERE fss_rpt_instance=:reportInstance")
-                                    .append(" AND element_id=:elementID")
-                                    .append(" AND element_value=:fssElementValue")
-                                    .append(" AND element_num=:weatherElementNumber");
-                        } else {
-                            // insert
-                            insert = new StringBuilder("INSERT INTO ")
-                                    .append(ClimateDAOValues.FSS_WX_PERIOD_TABLE_NAME)
-                                    .append(" VALUES(");
-                            insert.append(":reportInstance,");
-                            insert.append(":elementID,");
-                            insert.append(":fssElementValue,");
-                            insert.append(":weatherElementNumber,");
-                            insert.append(beginTime).append(",");
-                            insert.append(endTime).append(")");
-                        }
-
-                        try {
-                            getDao().executeSQLUpdate(insert.toString(),
-                                    insertParams);
-                        } catch (Exception e) {
-                            throw new ClimateQueryException(
-                                    "Error inserting FSS wx period data: ["
-                                            + insert.toString() + "] and map: ["
-                                            + insertParams + "].",
-                                    e);
-                        }
-                    } catch (ClimateQueryException e) {
-                        throw e;
-                    } catch (Exception e) {
-                        throw new ClimateQueryException(
-                                "Error querying for report existence with query: ["
-                                        + query + "] and map: [" + queryParams
-                                        + "]",
-                                e);
-                    }
+                    batch.addWxPeriod(reportInstance, elementID,
+                            fssElementValue, weatherElementNumber, beginTime,
+                            endTime);
                 }
 
                 passes++;
@@ -1517,17 +1368,17 @@ public class ClimateFSSInsertionDAO extends ClimateDAO {
      *                +RA, SN.
      * </pre>
      * 
+     * @param batch
      * @param reportInstance
      * @param elementID
      * @param decodedWeatherElements
      * @param sourceStatus
      * @return new source status, as it may have changed.
-     * @throws ClimateQueryException
      */
 
-    private int writeFSSCategoryMulti(int reportInstance, int elementID,
-            String[] decodedWeatherElements, int sourceStatus)
-                    throws ClimateQueryException {
+    private int writeFSSCategoryMulti(FSSInsertionBatch batch,
+            int reportInstance, int elementID, String[] decodedWeatherElements,
+            int sourceStatus) {
 
         int weatherElementCount = 0;
 
@@ -1597,72 +1448,9 @@ public class ClimateFSSInsertionDAO extends ClimateDAO {
                     int weatherElementNumber = weatherElementCount;
                     int fssElementValue = fssWeatherElementID;
 
-                    Map<String, Object> queryParams = new HashMap<>();
-
-                    StringBuilder query = new StringBuilder("SELECT * FROM ")
-                            .append(ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME)
-                            .append(" WHERE fss_rpt_instance=:fss_rpt_instance");
-                    queryParams.put("fss_rpt_instance", reportInstance);
-                    query.append(" AND element_id=:element_id");
-                    queryParams.put("element_id", elementID);
-                    query.append(" AND wx_ele_number=:wx_ele_number");
-                    queryParams.put("wx_ele_number", weatherElementNumber);
-
-                    try {
-                        Object[] results = getDao()
-                                .executeSQLQuery(query.toString(), queryParams);
-
-                        Map<String, Object> insertParams = new HashMap<>();
-                        insertParams.put("reportInstance", reportInstance);
-                        insertParams.put("elementID", elementID);
-                        insertParams.put("weatherElementNumber",
-                                weatherElementNumber);
-                        insertParams.put("fssElementValue", fssElementValue);
-
-                        StringBuilder insert;
-                        if ((results != null) && (results.length >= 1)) {
-                            // update
-                            insert = new StringBuilder("UPDATE ")
-                                    .append(ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME)
-                                    .append(" SET element_value=:fssElementValue,")
-                                    .append(" dqd='")
-                                    .append(QCMetar.COARSE_CHECKS_PASSED)
-                                    .append("'")
-                                    .append(" WHERE fss_rpt_instance=:reportInstance")
-                                    .append(" AND element_id=:elementID")
-                                    .append(" AND wx_ele_number=:weatherElementNumber");
-                        } else {
-                            // insert
-                            insert = new StringBuilder("INSERT INTO ")
-                                    .append(ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME)
-                                    .append(" VALUES(");
-                            insert.append(":reportInstance,");
-                            insert.append(":elementID,");
-                            insert.append(":weatherElementNumber,");
-                            insert.append(":fssElementValue,");
-                            insert.append("'")
-                                    .append(QCMetar.COARSE_CHECKS_PASSED)
-                                    .append("')");
-                        }
-                        try {
-                            getDao().executeSQLUpdate(insert.toString(),
-                                    insertParams);
-                        } catch (Exception e) {
-                            throw new ClimateQueryException(
-                                    "Error inserting FSS multi category data: ["
-                                            + insert.toString() + "] and map: ["
-                                            + insertParams + "].",
-                                    e);
-                        }
-                    } catch (ClimateQueryException e) {
-                        throw e;
-                    } catch (Exception e) {
-                        throw new ClimateQueryException(
-                                "Error querying for report existence with query: ["
-                                        + query + "] and map: [" + queryParams
-                                        + "]",
-                                e);
-                    }
+                    batch.addCategoryMulti(reportInstance, elementID,
+                            weatherElementNumber, fssElementValue,
+                            QCMetar.COARSE_CHECKS_PASSED);
                 }
 
                 passes++;
@@ -1703,67 +1491,14 @@ public class ClimateFSSInsertionDAO extends ClimateDAO {
     *   Input  char        dqd                  The data quality descriptor flag.
      * </pre>
      * 
+     * @param batch
      * @param reportInstance
      * @param elementID
      * @param value
      * @param dqd
-     * @throws ClimateQueryException
      */
-    private void writeFSSContinuousReal(int reportInstance, int elementID,
-            float value, String dqd) throws ClimateQueryException {
-        Map<String, Object> queryParams = new HashMap<>();
-
-        StringBuilder query = new StringBuilder("SELECT * FROM ")
-                .append(ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME)
-                .append(" WHERE fss_rpt_instance=:fss_rpt_instance");
-        queryParams.put("fss_rpt_instance", reportInstance);
-        query.append(" AND element_id=:element_id");
-        queryParams.put("element_id", elementID);
-
-        try {
-            Object[] results = getDao().executeSQLQuery(query.toString(),
-                    queryParams);
-
-            Map<String, Object> insertParams = new HashMap<>();
-            insertParams.put("reportInstance", reportInstance);
-            insertParams.put("elementID", elementID);
-            insertParams.put("value", value);
-            insertParams.put("dqd", dqd);
-
-            StringBuilder insert;
-            if ((results != null) && (results.length >= 1)) {
-                // update
-                insert = new StringBuilder("UPDATE ")
-                        .append(ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME)
-                        .append(" SET element_value=:value, dqd=:dqd WHERE ")
-                        .append(" fss_rpt_instance=:reportInstance AND element_id=:elementID");
-            } else {
-                // insert
-                insert = new StringBuilder("INSERT INTO ")
-                        .append(ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME)
-                        .append(" VALUES(");
-                insert.append(":reportInstance,");
-                insert.append(":elementID,");
-                insert.append(":value,");
-                insert.append(":dqd)");
-
-            }
-            try {
-                getDao().executeSQLUpdate(insert.toString(), insertParams);
-            } catch (Exception e) {
-                throw new ClimateQueryException(
-                        "Error inserting FSS real report data: ["
-                                + insert.toString() + "] and map: ["
-                                + insertParams + "].",
-                        e);
-            }
-        } catch (ClimateQueryException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new ClimateQueryException(
-                    "Error querying for report existence with query: [" + query
-                            + "] and map: [" + queryParams + "]",
-                    e);
-        }
+    private void writeFSSContinuousReal(FSSInsertionBatch batch,
+            int reportInstance, int elementID, float value, String dqd) {
+        batch.addContinuousReal(reportInstance, elementID, value, dqd);
     }
 }
@@ -0,0 +1,340 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.metartoclimate.dao;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAO;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAOValues;
+
+/**
+ * Maintains range partitions of the climate METAR tables, for sites whose
+ * tables have been converted to partitioned tables. Old data is then purged by
+ * dropping whole partitions rather than deleting rows, which leaves nothing
+ * for vacuum to clean up.
+ *
+ * The rpt and fss_report tables are partitioned by day, on nominal and
+ * nominal_dtime respectively. Their partitions are named
+ * table_pYYYYMMDD and hold that UTC day.
+ *
+ * The FSS element tables have no time column, and are looked up by
+ * fss_rpt_instance, so they are partitioned into fixed size blocks of
+ * fss_rpt_instance. Their partitions are named table_iNNNNNNNNNN by the first
+ * instance of the block. A block is dropped once every fss_report row it could
+ * belong to has been purged.
+ *
+ * Tables that are not partitioned are left alone, and partitions not named as
+ * above are never dropped.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public class ClimatePartitionDAO extends ClimateDAO {
+
+    /**
+     * FSS element tables, partitioned by fss_rpt_instance.
+     */
+    public static final List<String> FSS_ELEMENT_TABLE_NAMES = Collections
+            .unmodifiableList(Arrays.asList(
+                    ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME,
+                    ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME,
+                    ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME,
+                    ClimateDAOValues.FSS_CLOUD_LAYER_TABLE_NAME,
+                    ClimateDAOValues.FSS_WX_PERIOD_TABLE_NAME));
+
+    /**
+     * Suffix of a daily partition name.
+     */
+    private static final String DAY_SUFFIX = "_p";
+
+    /**
+     * Suffix of an instance block partition name.
+     */
+    private static final String BLOCK_SUFFIX = "_i";
+
+    /**
+     * Date format of a daily partition name.
+     */
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter
+            .ofPattern("yyyyMMdd");
+
+    /**
+     * Constructor.
+     */
+    public ClimatePartitionDAO() {
+        super();
+    }
+
+    /**
+     * @param table
+     * @return true if the table is a partitioned table.
+     * @throws ClimateQueryException
+     */
+    public boolean isPartitioned(String table) throws ClimateQueryException {
+        String query = "SELECT COUNT(*) FROM pg_partitioned_table p"
+                + " JOIN pg_class c ON c.oid = p.partrelid"
+                + " WHERE c.relname = :table AND pg_table_is_visible(c.oid)";
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("table", table);
+
+        try {
+            Object[] results = getDao().executeSQLQuery(query, queryParams);
+            return results != null && results.length > 0
+                    && ((Number) results[0]).intValue() > 0;
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Could not check partitioning of table [" + table
+                            + "] using: [" + query + "] and map: ["
+                            + queryParams + "].",
+                    e);
+        }
+    }
+
+    /**
+     * Create the daily partitions of a table for the given number of UTC days,
+     * starting today, if they do not exist.
+     *
+     * @param table
+     *            table partitioned by day.
+     * @param days
+     *            number of days.
+     * @throws ClimateQueryException
+     */
+    public void createDailyPartitions(String table, int days)
+            throws ClimateQueryException {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        for (int i = 0; i < days; i++) {
+            LocalDate day = today.plusDays(i);
+            createPartition(table, table + DAY_SUFFIX + day.format(DAY_FORMAT),
+                    "'" + day + "'", "'" + day.plusDays(1) + "'");
+        }
+    }
+
+    /**
+     * Drop the daily partitions of a table that hold only data older than the
+     * given UTC day.
+     *
+     * @param table
+     *            table partitioned by day.
+     * @param firstKeptDay
+     *            first day to keep.
+     * @return number of partitions dropped.
+     * @throws ClimateQueryException
+     */
+    public int dropDailyPartitionsBefore(String table, LocalDate firstKeptDay)
+            throws ClimateQueryException {
+        int dropped = 0;
+        for (String partition : getPartitions(table, DAY_SUFFIX)) {
+            String suffix = partition
+                    .substring(table.length() + DAY_SUFFIX.length());
+            LocalDate day;
+            try {
+                day = LocalDate.parse(suffix, DAY_FORMAT);
+            } catch (DateTimeParseException e) {
+                logger.debug("Partition [" + partition
+                        + "] is not a daily partition and will not be dropped.");
+                continue;
+            }
+
+            if (day.isBefore(firstKeptDay)) {
+                dropPartition(partition);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Create the fss_rpt_instance block partitions of the FSS element tables,
+     * from the block of the last instance issued through the given number of
+     * blocks after it, if they do not exist.
+     *
+     * @param blockSize
+     *            number of instances in a block.
+     * @param blocksAhead
+     *            number of blocks to create after the current one.
+     * @throws ClimateQueryException
+     */
+    public void createFSSInstancePartitions(long blockSize, int blocksAhead)
+            throws ClimateQueryException {
+        String query = "SELECT last_value FROM "
+                + ClimateDAOValues.FSS_REPORT_FSS_RPT_INSTANCE_SEQ;
+        long lastInstance;
+        try {
+            Object[] results = getDao().executeSQLQuery(query);
+            lastInstance = ((Number) results[0]).longValue();
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Could not get last fss_rpt_instance using: [" + query
+                            + "].",
+                    e);
+        }
+
+        long firstBlock = lastInstance / blockSize;
+        for (String table : FSS_ELEMENT_TABLE_NAMES) {
+            if (!isPartitioned(table)) {
+                continue;
+            }
+            for (long block = firstBlock; block <= firstBlock
+                    + blocksAhead; block++) {
+                long start = block * blockSize;
+                createPartition(table,
+                        table + BLOCK_SUFFIX + String.format("%010d", start),
+                        String.valueOf(start),
+                        String.valueOf(start + blockSize));
+            }
+        }
+    }
+
+    /**
+     * Drop the fss_rpt_instance block partitions of the FSS element tables
+     * that end at or before the lowest instance left in fss_report. Nothing is
+     * dropped while fss_report is empty.
+     *
+     * @param blockSize
+     *            number of instances in a block, as the blocks were created.
+     * @return number of partitions dropped.
+     * @throws ClimateQueryException
+     */
+    public int dropFSSInstancePartitions(long blockSize)
+            throws ClimateQueryException {
+        String query = "SELECT MIN(fss_rpt_instance) FROM "
+                + ClimateDAOValues.FSS_REPORT_TABLE_NAME;
+        Number minInstance;
+        try {
+            Object[] results = getDao().executeSQLQuery(query);
+            minInstance = results == null || results.length == 0 ? null
+                    : (Number) results[0];
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Could not get first fss_rpt_instance using: [" + query
+                            + "].",
+                    e);
+        }
+        if (minInstance == null) {
+            return 0;
+        }
+
+        int dropped = 0;
+        for (String table : FSS_ELEMENT_TABLE_NAMES) {
+            for (String partition : getPartitions(table, BLOCK_SUFFIX)) {
+                long start;
+                try {
+                    start = Long.parseLong(partition
+                            .substring(table.length() + BLOCK_SUFFIX.length()));
+                } catch (NumberFormatException e) {
+                    logger.debug("Partition [" + partition
+                            + "] is not an instance block partition and will not be dropped.");
+                    continue;
+                }
+
+                if (start + blockSize <= minInstance.longValue()) {
+                    dropPartition(partition);
+                    dropped++;
+                }
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * @param table
+     * @param suffix
+     * @return names of the partitions of the table whose names start with the
+     *         table name and suffix.
+     * @throws ClimateQueryException
+     */
+    private List<String> getPartitions(String table, String suffix)
+            throws ClimateQueryException {
+        String query = "SELECT c.relname FROM pg_inherits i"
+                + " JOIN pg_class c ON c.oid = i.inhrelid"
+                + " JOIN pg_class p ON p.oid = i.inhparent"
+                + " WHERE p.relname = :table AND pg_table_is_visible(p.oid)"
+                + " ORDER BY c.relname";
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("table", table);
+
+        List<String> partitions = new ArrayList<>();
+        try {
+            Object[] results = getDao().executeSQLQuery(query, queryParams);
+            if (results != null) {
+                String prefix = table + suffix;
+                for (Object result : results) {
+                    String name = (String) result;
+                    if (name.startsWith(prefix)) {
+                        partitions.add(name);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Could not get partitions of table [" + table
+                            + "] using: [" + query + "] and map: ["
+                            + queryParams + "].",
+                    e);
+        }
+        return partitions;
+    }
+
+    /**
+     * Create a range partition if it does not exist.
+     *
+     * @param table
+     * @param partition
+     * @param from
+     *            inclusive lower bound, as SQL.
+     * @param to
+     *            exclusive upper bound, as SQL.
+     * @throws ClimateQueryException
+     */
+    private void createPartition(String table, String partition, String from,
+            String to) throws ClimateQueryException {
+        String sql = "CREATE TABLE IF NOT EXISTS " + partition
+                + " PARTITION OF " + table + " FOR VALUES FROM (" + from
+                + ") TO (" + to + ")";
+        try {
+            getDao().executeSQLUpdate(sql);
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Could not create partition using: [" + sql + "].", e);
+        }
+    }
+
+    /**
+     * Drop a partition, and with it all of its rows.
+     *
+     * @param partition
+     * @throws ClimateQueryException
+     */
+    private void dropPartition(String partition)
+            throws ClimateQueryException {
+        String sql = "DROP TABLE IF EXISTS " + partition;
+        try {
+            getDao().executeSQLUpdate(sql);
+            logger.info("Dropped climate partition [" + partition + "]");
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Could not drop partition using: [" + sql + "].", e);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.metartoclimate.dao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAOValues;
+import gov.noaa.nws.ocp.edex.common.climate.dao.MultiRowInsertBatch;
+import gov.noaa.nws.ocp.edex.common.climate.util.MetarUtils;
+import gov.noaa.nws.ocp.edex.metartoclimate.dao.data.QCMetar;
+
+/**
+ * Collects the FSS table rows for a micro-batch of decoded METAR reports, and
+ * renders them as a single SQL script: one multi-row insert per table,
+ * followed by one update of the per-report counts. The script is run with a
+ * single update call, so the whole batch is committed or rolled back together.
+ *
+ * Every report in a batch has a newly issued fss_rpt_instance, and its
+ * fss_report row is inserted by the same script, so no element table can
+ * already hold a row for it. The legacy select-then-update logic could only
+ * ever find rows written earlier for the same report, and those are merged in
+ * memory instead: rows written twice with the same key within a batch keep the
+ * last value. The script therefore needs no unique constraints on the element
+ * tables.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+final class FSSInsertionBatch {
+
+    /**
+     * SQL NULL value.
+     */
+    static final Object NULL = MultiRowInsertBatch.NULL;
+
+    /**
+     * Key columns of the single valued element tables.
+     */
+    private static final String[] ELEMENT_KEY = { "fss_rpt_instance",
+            "element_id" };
+
+    /**
+     * New fss_report rows, in the table's column order.
+     */
+    private final MultiRowInsertBatch reports = new MultiRowInsertBatch(
+            ClimateDAOValues.FSS_REPORT_TABLE_NAME, "rpt");
+
+    /**
+     * fss_contin_real rows.
+     */
+    private final MultiRowInsertBatch continuousReals = new MultiRowInsertBatch(
+            ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME, "cr", ELEMENT_KEY,
+            new String[] { "element_value", "dqd" });
+
+    /**
+     * fss_categ_single rows.
+     */
+    private final MultiRowInsertBatch categorySingles = new MultiRowInsertBatch(
+            ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME, "cs",
+            ELEMENT_KEY, new String[] { "element_value", "dqd" });
+
+    /**
+     * fss_categ_multi rows.
+     */
+    private final MultiRowInsertBatch categoryMultis = new MultiRowInsertBatch(
+            ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME, "cm",
+            new String[] { "fss_rpt_instance", "element_id",
+                    "wx_ele_number" },
+            new String[] { "element_value", "dqd" });
+
+    /**
+     * fss_cloud_layer rows.
+     */
+    private final MultiRowInsertBatch cloudLayers = new MultiRowInsertBatch(
+            ClimateDAOValues.FSS_CLOUD_LAYER_TABLE_NAME, "cl",
+            new String[] { "fss_rpt_instance", "element_id", "layer_number" },
+            new String[] { "element_value", "dqd" });
+
+    /**
+     * fss_wx_period rows.
+     */
+    private final MultiRowInsertBatch wxPeriods = new MultiRowInsertBatch(
+            ClimateDAOValues.FSS_WX_PERIOD_TABLE_NAME, "wp",
+            new String[] { "fss_rpt_instance", "element_id",
+                    "element_value", "element_num" },
+            new String[] { "wx_begin_dtime", "wx_end_dtime" });
+
+    /**
+     * Weather element count and source status for each report, by report
+     * instance.
+     */
+    private final Map<Integer, int[]> reportStatuses = new LinkedHashMap<>();
+
+    /**
+     * Highest present weather element number that passed coarse checks, for
+     * each report, by report instance.
+     */
+    private final Map<Integer, Integer> weatherElementCounts = new HashMap<>();
+
+    /**
+     * @param sql
+     *            SQL text.
+     * @return value to be written into the SQL as-is.
+     */
+    static Object literal(String sql) {
+        return MultiRowInsertBatch.literal(sql);
+    }
+
+    /**
+     * @param values
+     *            fss_report column values, in table column order.
+     */
+    void addReport(Object... values) {
+        reports.addRow(values);
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param value
+     * @param dqd
+     */
+    void addContinuousReal(int reportInstance, int elementID, float value,
+            String dqd) {
+        continuousReals.add(new Object[] { reportInstance, elementID },
+                new Object[] { value, dqd });
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param value
+     *            scaled value.
+     * @param dqd
+     */
+    void addCategorySingle(int reportInstance, int elementID, int value,
+            String dqd) {
+        categorySingles.add(new Object[] { reportInstance, elementID },
+                new Object[] { value, dqd });
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param weatherElementNumber
+     * @param value
+     * @param dqd
+     */
+    void addCategoryMulti(int reportInstance, int elementID,
+            int weatherElementNumber, int value, String dqd) {
+        categoryMultis.add(
+                new Object[] { reportInstance, elementID,
+                        weatherElementNumber },
+                new Object[] { value, dqd });
+        if (elementID != MetarUtils.METAR_WX
+                || !QCMetar.COARSE_CHECKS_PASSED.equals(dqd)) {
+            return;
+        }
+        Integer count = weatherElementCounts.get(reportInstance);
+        if (count == null || count < weatherElementNumber) {
+            weatherElementCounts.put(reportInstance, weatherElementNumber);
+        }
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param layerNumber
+     * @param value
+     * @param dqd
+     */
+    void addCloudLayer(int reportInstance, int elementID, int layerNumber,
+            int value, String dqd) {
+        cloudLayers.add(
+                new Object[] { reportInstance, elementID, layerNumber },
+                new Object[] { value, dqd });
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param value
+     * @param weatherElementNumber
+     * @param beginTime
+     *            begin time SQL, as a quoted time literal or NULL.
+     * @param endTime
+     *            end time SQL, as a quoted time literal or NULL.
+     */
+    void addWxPeriod(int reportInstance, int elementID, int value,
+            int weatherElementNumber, String beginTime, String endTime) {
+        wxPeriods.add(
+                new Object[] { reportInstance, elementID, value,
+                        weatherElementNumber },
+                new Object[] { literal(beginTime), literal(endTime) });
+    }
+
+    /**
+     * @param reportInstance
+     * @return highest present weather element number that passed coarse
+     *         checks written for the report in this batch, or 0 if none, as
+     *         the legacy MAX(wx_ele_number) query.
+     */
+    int getWeatherElementCount(int reportInstance) {
+        Integer count = weatherElementCounts.get(reportInstance);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * @param reportInstance
+     * @param weatherElementCount
+     * @param sourceStatus
+     */
+    void setReportStatus(int reportInstance, int weatherElementCount,
+            int sourceStatus) {
+        reportStatuses.put(reportInstance,
+                new int[] { weatherElementCount, sourceStatus });
+    }
+
+    /**
+     * @return true if no reports have been added.
+     */
+    boolean isEmpty() {
+        return reports.size() == 0;
+    }
+
+    /**
+     * Render the batch as a script and fill in its parameters.
+     *
+     * @param params
+     *            parameter map to fill.
+     * @return the SQL script.
+     */
+    String toSQL(Map<String, Object> params) {
+        StringBuilder sql = new StringBuilder();
+
+        reports.appendSQL(sql, params);
+        continuousReals.appendSQL(sql, params);
+        categorySingles.appendSQL(sql, params);
+        categoryMultis.appendSQL(sql, params);
+        cloudLayers.appendSQL(sql, params);
+        wxPeriods.appendSQL(sql, params);
+
+        /*
+         * From update_wx_count.ecpp and update_source_status.ecpp.
+         */
+        if (!reportStatuses.isEmpty()) {
+            List<Object[]> statuses = new ArrayList<>();
+            for (Map.Entry<Integer, int[]> entry : reportStatuses.entrySet()) {
+                statuses.add(new Object[] { entry.getKey(),
+                        entry.getValue()[0], entry.getValue()[1] });
+            }
+            sql.append("UPDATE ").append(ClimateDAOValues.FSS_REPORT_TABLE_NAME)
+                    .append(" SET wx_ele_count=v.wx_ele_count,")
+                    .append(" source_status=v.source_status FROM (VALUES ");
+            MultiRowInsertBatch.appendValues(sql, params, "st", statuses);
+            sql.append(") AS v(fss_rpt_instance, wx_ele_count, source_status)")
+                    .append(" WHERE ")
+                    .append(ClimateDAOValues.FSS_REPORT_TABLE_NAME)
+                    .append(".fss_rpt_instance=v.fss_rpt_instance;\n");
+        }
+
+        return sql.toString();
+    }
+}
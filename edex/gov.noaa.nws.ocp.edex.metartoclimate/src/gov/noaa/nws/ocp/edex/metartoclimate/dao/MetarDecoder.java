@@ -6,7 +6,6 @@ package gov.noaa.nws.ocp.edex.metartoclimate.dao;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
-import java.util.regex.Pattern;
 
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
@@ -130,7 +129,8 @@ public final class MetarDecoder {
          * Legacy split just by space, but instead we should split by all
          * consecutive whitespaces.
          */
-        String[] reportArray = filteredReportText.split("\\s+");
+        String[] reportArray = MetarDecoderUtil
+                .splitReportGroups(filteredReportText);
 
         int reportIndex = 0;
         /*
@@ -162,7 +162,7 @@ public final class MetarDecoder {
             decodedMetar.getCmnData().setNil(true);
             logger.info("Found NIL METAR report: [" + report.getReport()
                     + "]. Will not decode further.");
-        } else if (nilOrTime.matches(MetarDecoderUtil.DATETIME_REGEX)) {
+        } else if (MetarDecoderUtil.DATETIME_PATTERN.matches(nilOrTime)) {
             // not NIL, so must be time
             /*
              * From hmPED_TimeUTC.c.
@@ -336,7 +336,7 @@ public final class MetarDecoder {
              * convert the value from mb to Hg.
              */
             String altimeter = reportArray[reportIndex++];
-            if (altimeter.matches(MetarDecoderUtil.ALTIMETER_REGEX)) {
+            if (MetarDecoderUtil.ALTIMETER_PATTERN.matches(altimeter)) {
 
                 float multiplier;
                 if (altimeter
@@ -400,8 +400,8 @@ public final class MetarDecoder {
             ClimateReport report, String[] reportArray, int reportIndex) {
         if (reportIndex < reportArray.length) {
             String tempAndDew = reportArray[reportIndex++];
-            if (Pattern.compile(MetarDecoderUtil.STARTING_TEMP_AND_DEW_REGEX)
-                    .matcher(tempAndDew).find()) {
+            if (MetarDecoderUtil.STARTING_TEMP_AND_DEW_PATTERN
+                    .find(tempAndDew)) {
                 /*
                  * Legacy allowed for only the temperature portion to be good
                  * (including the slash)
@@ -418,7 +418,7 @@ public final class MetarDecoder {
                             .setTemp(Integer.parseInt(tempAndDewSplitArray[0]));
                 }
 
-                if (tempAndDew.matches(MetarDecoderUtil.TEMP_AND_DEW_REGEX)) {
+                if (MetarDecoderUtil.TEMP_AND_DEW_PATTERN.matches(tempAndDew)) {
 
                     // dewpoint
                     if (tempAndDewSplitArray[1].startsWith("M")) {
@@ -571,12 +571,12 @@ public final class MetarDecoder {
                          */
                         int heightDigits;
                         if (currCCWithoutType.length() >= 4
-                                && currCCWithoutType.substring(0, 4).matches(
-                                        MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                                && MetarDecoderUtil.NUM_ONLY_PATTERN
+                                        .matches(currCCWithoutType.substring(0, 4))) {
                             // 4 digits
                             heightDigits = 4;
-                        } else if (currCCWithoutType.substring(0, 3)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                        } else if (MetarDecoderUtil.NUM_ONLY_PATTERN
+                                .matches(currCCWithoutType.substring(0, 3))) {
                             // 3 digits
                             heightDigits = 3;
                         } else {
@@ -797,7 +797,8 @@ public final class MetarDecoder {
                 if (runwayVisualRange
                         .startsWith(MetarDecoderUtil.RUNWAY_VISUAL_RANGE_PREFIX)
                         && runwayVisualRange.length() >= 7) {
-                    if (runwayVisualRange.matches(MetarDecoderUtil.RVR_REGEX)) {
+                    if (MetarDecoderUtil.RVR_PATTERN
+                            .matches(runwayVisualRange)) {
                         String[] currSplitRvrArray = runwayVisualRange
                                 .split(MetarDecoderUtil.SLASH_DIVIDER);
 
@@ -955,8 +956,8 @@ public final class MetarDecoder {
                 logger.debug("Visibility flag is: [" + visibility + "].");
                 reportIndex++;
                 return reportIndex;
-            } else if (visibility.matches(
-                    MetarDecoderUtil.SINGLE_OR_DOUBLE_DIGIT_VISIB_REGEX)) {
+            } else if (MetarDecoderUtil.SINGLE_OR_DOUBLE_DIGIT_VISIB_PATTERN
+                    .matches(visibility)) {
                 // simple visibility, single or double digit and units
                 // conversion to SM
                 float multiplier = 1;
@@ -965,8 +966,8 @@ public final class MetarDecoder {
                 }
 
                 float value;
-                if (visibility.substring(0, 2)
-                        .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                if (MetarDecoderUtil.NUM_ONLY_PATTERN
+                        .matches(visibility.substring(0, 2))) {
                     value = Float.parseFloat(visibility.substring(0, 2));
                 } else {
                     value = Float.parseFloat(visibility.substring(0, 1));
@@ -976,17 +977,17 @@ public final class MetarDecoder {
                         .setPrevailingVisibilitySM(multiplier * value);
                 reportIndex++;
                 return reportIndex;
-            } else if (visibility
-                    .matches(MetarDecoderUtil.BAD_FRACTIONAL_VISIB_REGEX)
-                    || visibility.matches(
-                            MetarDecoderUtil.UNITLESS_BAD_FRACTIONAL_VISIB_REGEX)) {
+            } else if (MetarDecoderUtil.BAD_FRACTIONAL_VISIB_PATTERN
+                    .matches(visibility)
+                    || MetarDecoderUtil.UNITLESS_BAD_FRACTIONAL_VISIB_PATTERN
+                            .matches(visibility)) {
                 logger.warn("Improperly formatted mixed fraction visibility: ["
                         + visibility + "].");
 
                 // conversion to SM
                 float multiplier;
-                if (visibility
-                        .matches(MetarDecoderUtil.BAD_FRACTIONAL_VISIB_REGEX)) {
+                if (MetarDecoderUtil.BAD_FRACTIONAL_VISIB_PATTERN
+                        .matches(visibility)) {
                     if (visibility.endsWith(MetarDecoderUtil.KILOMETERS_ABBR)) {
                         multiplier = MetarDecoderUtil.KM_TO_SM;
                     } else {
@@ -1028,8 +1029,8 @@ public final class MetarDecoder {
                  * numerator digit.
                  */
                 int wholeNumberPortion;
-                if (visibility.substring(0, 3)
-                        .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                if (MetarDecoderUtil.NUM_ONLY_PATTERN
+                        .matches(visibility.substring(0, 3))) {
                     wholeNumberPortion = 2;
                 } else {
                     wholeNumberPortion = 1;
@@ -1050,7 +1051,7 @@ public final class MetarDecoder {
                         multiplier * visibilityValue);
                 reportIndex++;
                 return reportIndex;
-            } else if (visibility.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+            } else if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(visibility)) {
                 /*
                  * the whole number has been split from the fraction and units.
                  */
@@ -1078,10 +1079,10 @@ public final class MetarDecoder {
 
                             reportIndex++;
                             return reportIndex;
-                        } else if (visibility.matches(
-                                MetarDecoderUtil.FRACTIONAL_VISIB_REGEX)
-                                || visibility.matches(
-                                        MetarDecoderUtil.UNITLESS_FRACTIONAL_VISIB_REGEX)) {
+                        } else if (MetarDecoderUtil.FRACTIONAL_VISIB_PATTERN
+                                .matches(visibility)
+                                || MetarDecoderUtil.UNITLESS_FRACTIONAL_VISIB_PATTERN
+                                        .matches(visibility)) {
                             /*
                              * must be fractional visib remaining, or visibility
                              * is not present
@@ -1092,8 +1093,8 @@ public final class MetarDecoder {
                             float denominator;
                             // denominator may be 1 or 2 digits
                             if (visibility.length() >= 4
-                                    && visibility.substring(2, 4).matches(
-                                            MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                                    && MetarDecoderUtil.NUM_ONLY_PATTERN
+                                            .matches(visibility.substring(2, 4))) {
                                 // 2 digits
                                 denominator = Float
                                         .parseFloat(visibility.substring(2, 4));
@@ -1106,8 +1107,8 @@ public final class MetarDecoder {
 
                             // conversion to SM
                             float multiplier;
-                            if (visibility.matches(
-                                    MetarDecoderUtil.FRACTIONAL_VISIB_REGEX)) {
+                            if (MetarDecoderUtil.FRACTIONAL_VISIB_PATTERN
+                                    .matches(visibility)) {
                                 if (visibility.endsWith(
                                         MetarDecoderUtil.KILOMETERS_ABBR)) {
                                     multiplier = MetarDecoderUtil.KM_TO_SM;
@@ -1196,16 +1197,17 @@ public final class MetarDecoder {
                     reportIndex++;
                     return reportIndex;
                 }
-            } else if (visibility
-                    .matches(MetarDecoderUtil.FRACTIONAL_VISIB_REGEX)
-                    || visibility.matches(
-                            MetarDecoderUtil.UNITLESS_FRACTIONAL_VISIB_REGEX)) {
+            } else if (MetarDecoderUtil.FRACTIONAL_VISIB_PATTERN
+                    .matches(visibility)
+                    || MetarDecoderUtil.UNITLESS_FRACTIONAL_VISIB_PATTERN
+                            .matches(visibility)) {
                 // get numerator
                 float numerator = Float.parseFloat(visibility.substring(0, 1));
                 float denominator;
                 // denominator may be 1 or 2 digits
-                if (visibility.length() >= 4 && visibility.substring(2, 4)
-                        .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                if (visibility.length() >= 4
+                        && MetarDecoderUtil.NUM_ONLY_PATTERN
+                                .matches(visibility.substring(2, 4))) {
                     // 2 digits
                     denominator = Float.parseFloat(visibility.substring(2, 4));
                 } else {
@@ -1215,8 +1217,8 @@ public final class MetarDecoder {
 
                 // conversion to SM
                 float multiplier;
-                if (visibility
-                        .matches(MetarDecoderUtil.FRACTIONAL_VISIB_REGEX)) {
+                if (MetarDecoderUtil.FRACTIONAL_VISIB_PATTERN
+                        .matches(visibility)) {
                     if (visibility.endsWith(MetarDecoderUtil.KILOMETERS_ABBR)) {
                         multiplier = MetarDecoderUtil.KM_TO_SM;
                     } else {
@@ -1283,8 +1285,8 @@ public final class MetarDecoder {
             // do not increment index right away, as this is an optional
             // field
             String variableWindDirection = reportArray[reportIndex];
-            if (variableWindDirection
-                    .matches(MetarDecoderUtil.VAR_WIND_DIR_REGEX)) {
+            if (MetarDecoderUtil.VAR_WIND_DIR_PATTERN
+                    .matches(variableWindDirection)) {
                 decodedMetar.setMinWnDir(Integer
                         .parseInt(variableWindDirection.substring(0, 3)));
                 decodedMetar.setMaxWnDir(
@@ -1328,8 +1330,9 @@ public final class MetarDecoder {
             if (regularWind.startsWith("VRB")) {
                 // variable direction
                 decodedMetar.getCmnData().getWinData().setWindVrb(true);
-            } else if (regularWind.length() >= 3 && regularWind.substring(0, 3)
-                    .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+            } else if (regularWind.length() >= 3
+                    && MetarDecoderUtil.NUM_ONLY_PATTERN
+                            .matches(regularWind.substring(0, 3))) {
                 // 3-digit direction
                 decodedMetar.getCmnData().getWinData().setWindDir(
                         Integer.parseInt(regularWind.substring(0, 3)));
@@ -1345,15 +1348,16 @@ public final class MetarDecoder {
             String windWithoutDirection = regularWind.substring(3);
             // speed, 2 or 3 digits
             String windWithoutSpeed;
-            if (windWithoutDirection.length() >= 3 && windWithoutDirection
-                    .substring(0, 3).matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+            if (windWithoutDirection.length() >= 3
+                    && MetarDecoderUtil.NUM_ONLY_PATTERN
+                            .matches(windWithoutDirection.substring(0, 3))) {
                 // 3 digit speed
                 decodedMetar.getCmnData().getWinData().setWindSpeed(
                         Integer.parseInt(windWithoutDirection.substring(0, 3)));
                 windWithoutSpeed = windWithoutDirection.substring(3);
             } else if (windWithoutDirection.length() >= 2
-                    && windWithoutDirection.substring(0, 2)
-                            .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                    && MetarDecoderUtil.NUM_ONLY_PATTERN
+                            .matches(windWithoutDirection.substring(0, 2))) {
                 // 2 digit speed
                 decodedMetar.getCmnData().getWinData().setWindSpeed(
                         Integer.parseInt(windWithoutDirection.substring(0, 2)));
@@ -1374,15 +1378,15 @@ public final class MetarDecoder {
                 windWithoutSpeed = windWithoutSpeed.substring(1);
                 // gust speed, 2 or 3 digits
                 if (windWithoutSpeed.length() >= 3
-                        && windWithoutSpeed.substring(0, 3)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                        && MetarDecoderUtil.NUM_ONLY_PATTERN
+                                .matches(windWithoutSpeed.substring(0, 3))) {
                     // 3 digit speed
                     decodedMetar.getCmnData().getWinData().setWindGust(
                             Integer.parseInt(windWithoutSpeed.substring(0, 3)));
                     windWithoutSpeed = windWithoutSpeed.substring(3);
                 } else if (windWithoutSpeed.length() >= 2
-                        && windWithoutSpeed.substring(0, 2)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                        && MetarDecoderUtil.NUM_ONLY_PATTERN
+                                .matches(windWithoutSpeed.substring(0, 2))) {
                     // 2 digit speed
                     decodedMetar.getCmnData().getWinData().setWindGust(
                             Integer.parseInt(windWithoutSpeed.substring(0, 2)));
@@ -1481,7 +1485,7 @@ public final class MetarDecoder {
             String[] reportArray, int reportIndex)
             throws ClimateMetarDecodingException {
         String stationID = reportArray[reportIndex++];
-        if (stationID.matches(MetarDecoderUtil.STATION_ID_REGEX)) {
+        if (MetarDecoderUtil.STATION_ID_PATTERN.matches(stationID)) {
             decodedMetar.getCmnData().setStationID(stationID);
             logger.debug("Got station ID for METAR: [" + stationID + "]");
         } else {
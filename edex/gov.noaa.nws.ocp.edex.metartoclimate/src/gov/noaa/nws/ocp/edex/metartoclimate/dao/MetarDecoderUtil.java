@@ -402,14 +402,29 @@ public final class MetarDecoderUtil {
      * UPE1250SNB05E35B43
      */
     protected static final String RECENT_WX_REGEX = "^((\\+|-)?[A-Z]{2,6}?((B|E)([0-9]{2,4}))+)+$";
+    /**
+     * Compiled {@link #RECENT_WX_REGEX}.
+     */
+    protected static final MetarPattern RECENT_WX_PATTERN = new MetarPattern(
+            RECENT_WX_REGEX);
     /**
      * Recent weather individual event regex.
      */
     protected static final String SINGLE_RECENT_WX_REGEX = "((\\+|-)?[A-Z]{2,6}?((B|E)([0-9]{2,4}))+)";
+    /**
+     * Compiled {@link #SINGLE_RECENT_WX_REGEX}.
+     */
+    protected static final MetarPattern SINGLE_RECENT_WX_PATTERN = new MetarPattern(
+            SINGLE_RECENT_WX_REGEX);
     /**
      * Recent weather individual time regex.
      */
     protected static final String SINGLE_RECENT_WX_TIME_REGEX = "(B|E)([0-9]{2,4})";
+    /**
+     * Compiled {@link #SINGLE_RECENT_WX_TIME_REGEX}.
+     */
+    protected static final MetarPattern SINGLE_RECENT_WX_TIME_PATTERN = new MetarPattern(
+            SINGLE_RECENT_WX_TIME_REGEX);
     /**
      * All valid relative location symbols, from hmPED_validloc.c.
      */
@@ -467,74 +482,159 @@ public final class MetarDecoderUtil {
      * Station ID regex. 4 alphanumeric characters.
      */
     protected static final String STATION_ID_REGEX = "^[a-zA-Z0-9]{4}$";
+    /**
+     * Compiled {@link #STATION_ID_REGEX}.
+     */
+    protected static final MetarPattern STATION_ID_PATTERN = new MetarPattern(
+            STATION_ID_REGEX);
     /**
      * Any alphanumeric pattern regex.
      */
     protected static final String ALPHANUMERIC_REGEX = "^[0-9a-zA-Z]+$";
+    /**
+     * Compiled {@link #ALPHANUMERIC_REGEX}.
+     */
+    protected static final MetarPattern ALPHANUMERIC_PATTERN = new MetarPattern(
+            ALPHANUMERIC_REGEX);
     /**
      * Datetime regex. 6 numbers followed by Z.
      */
     protected static final String DATETIME_REGEX = "^[0-9]{6}Z$";
+    /**
+     * Compiled {@link #DATETIME_REGEX}.
+     */
+    protected static final MetarPattern DATETIME_PATTERN = new MetarPattern(
+            DATETIME_REGEX);
     /**
      * Numeric-only regex.
      */
     protected static final String NUM_ONLY_REGEX = "^[0-9]+$";
+    /**
+     * Compiled {@link #NUM_ONLY_REGEX}.
+     */
+    protected static final MetarPattern NUM_ONLY_PATTERN = new MetarPattern(
+            NUM_ONLY_REGEX);
     /**
      * Variable wind direction regex.
      */
     protected static final String VAR_WIND_DIR_REGEX = "^[0-9]{3}V[0-9]{3}$";
+    /**
+     * Compiled {@link #VAR_WIND_DIR_REGEX}.
+     */
+    protected static final MetarPattern VAR_WIND_DIR_PATTERN = new MetarPattern(
+            VAR_WIND_DIR_REGEX);
     /**
      * Ceiling height (CIG) variability regex.
      */
     protected static final String CIG_VAR_REGEX = "^[0-9]{3}V[0-9]{3}$";
+    /**
+     * Compiled {@link #CIG_VAR_REGEX}.
+     */
+    protected static final MetarPattern CIG_VAR_PATTERN = new MetarPattern(
+            CIG_VAR_REGEX);
     /**
      * Obscuration sky cover regex.
      */
     protected static final String OBSCUR_SKY_COVER_REGEX = "^(FEW|SCT|BKN|OVC)[0-9]{3}$";
+    /**
+     * Compiled {@link #OBSCUR_SKY_COVER_REGEX}.
+     */
+    protected static final MetarPattern OBSCUR_SKY_COVER_PATTERN = new MetarPattern(
+            OBSCUR_SKY_COVER_REGEX);
     /**
      * Basic single or double digit visibility regex.
      */
     protected static final String SINGLE_OR_DOUBLE_DIGIT_VISIB_REGEX = "^[0-9]{1,2}(SM|KM)$";
+    /**
+     * Compiled {@link #SINGLE_OR_DOUBLE_DIGIT_VISIB_REGEX}.
+     */
+    protected static final MetarPattern SINGLE_OR_DOUBLE_DIGIT_VISIB_PATTERN = new MetarPattern(
+            SINGLE_OR_DOUBLE_DIGIT_VISIB_REGEX);
     /**
      * Improperly formatted fractional visibility regex, where the whole number
      * was not separated from the fraction.
      */
     protected static final String BAD_FRACTIONAL_VISIB_REGEX = "^[0-9]{2,3}\\/[0-9]{1,2}(SM|KM)$";
+    /**
+     * Compiled {@link #BAD_FRACTIONAL_VISIB_REGEX}.
+     */
+    protected static final MetarPattern BAD_FRACTIONAL_VISIB_PATTERN = new MetarPattern(
+            BAD_FRACTIONAL_VISIB_REGEX);
     /**
      * Unitless improperly formatted fractional visibility regex, where the
      * whole number was not separated from the fraction.
      */
     protected static final String UNITLESS_BAD_FRACTIONAL_VISIB_REGEX = "^[0-9]{2,3}\\/[0-9]{1,2}$";
+    /**
+     * Compiled {@link #UNITLESS_BAD_FRACTIONAL_VISIB_REGEX}.
+     */
+    protected static final MetarPattern UNITLESS_BAD_FRACTIONAL_VISIB_PATTERN = new MetarPattern(
+            UNITLESS_BAD_FRACTIONAL_VISIB_REGEX);
     /**
      * Fractional visibility regex.
      */
     protected static final String FRACTIONAL_VISIB_REGEX = "^[0-9]\\/[0-9]{1,2}(SM|KM)$";
+    /**
+     * Compiled {@link #FRACTIONAL_VISIB_REGEX}.
+     */
+    protected static final MetarPattern FRACTIONAL_VISIB_PATTERN = new MetarPattern(
+            FRACTIONAL_VISIB_REGEX);
     /**
      * Unitless fractional visibility regex.
      */
     protected static final String UNITLESS_FRACTIONAL_VISIB_REGEX = "^[0-9]\\/[0-9]{1,2}$";
+    /**
+     * Compiled {@link #UNITLESS_FRACTIONAL_VISIB_REGEX}.
+     */
+    protected static final MetarPattern UNITLESS_FRACTIONAL_VISIB_PATTERN = new MetarPattern(
+            UNITLESS_FRACTIONAL_VISIB_REGEX);
     /**
      * Improperly formatted temp and dew regex, where some invalid parts may
      * have taken the place of the dew values. The first part of the temp/dew
      * regex only.
      */
     protected static final String STARTING_TEMP_AND_DEW_REGEX = "^M?[0-9]{2,3}\\/";
+    /**
+     * Compiled {@link #STARTING_TEMP_AND_DEW_REGEX}.
+     */
+    protected static final MetarPattern STARTING_TEMP_AND_DEW_PATTERN = new MetarPattern(
+            STARTING_TEMP_AND_DEW_REGEX);
     /**
      * Temperature and dewpoint regex.
      */
     protected static final String TEMP_AND_DEW_REGEX = "^M?[0-9]{2,3}\\/M?[0-9]{2,3}$";
+    /**
+     * Compiled {@link #TEMP_AND_DEW_REGEX}.
+     */
+    protected static final MetarPattern TEMP_AND_DEW_PATTERN = new MetarPattern(
+            TEMP_AND_DEW_REGEX);
     /**
      * Altimeter regex.
      */
     protected static final String ALTIMETER_REGEX = "^(A|Q)[0-9]{4}$";
+    /**
+     * Compiled {@link #ALTIMETER_REGEX}.
+     */
+    protected static final MetarPattern ALTIMETER_PATTERN = new MetarPattern(
+            ALTIMETER_REGEX);
     /**
      * Peak wind regex.
      */
     protected static final String PEAK_WIND_REGEX = "^[0-9]{3}[0-9]{2,3}\\/[0-9]{2}([0-9]{2})?$";
+    /**
+     * Compiled {@link #PEAK_WIND_REGEX}.
+     */
+    protected static final MetarPattern PEAK_WIND_PATTERN = new MetarPattern(
+            PEAK_WIND_REGEX);
     /**
      * Fraction regex.
      */
     protected static final String FRACTION_REGEX = "^[0-9]+\\/[0-9]+$";
+    /**
+     * Compiled {@link #FRACTION_REGEX}.
+     */
+    protected static final MetarPattern FRACTION_PATTERN = new MetarPattern(
+            FRACTION_REGEX);
     /**
      * Synoptic cloud types prefix.
      */
@@ -543,6 +643,11 @@ public final class MetarDecoderUtil {
      * Synoptic cloud types regex.
      */
     protected static final String SYNOP_CLOUD_TYPES_REGEX = "^8\\/([0-9]|\\/){3}$";
+    /**
+     * Compiled {@link #SYNOP_CLOUD_TYPES_REGEX}.
+     */
+    protected static final MetarPattern SYNOP_CLOUD_TYPES_PATTERN = new MetarPattern(
+            SYNOP_CLOUD_TYPES_REGEX);
     /**
      * Sunshine duration prefix.
      */
@@ -551,14 +656,29 @@ public final class MetarDecoderUtil {
      * Sunshine duration regex.
      */
     protected static final String SUNSHINE_REGEX = "^98([0-9]{3}|\\/{3})$";
+    /**
+     * Compiled {@link #SUNSHINE_REGEX}.
+     */
+    protected static final MetarPattern SUNSHINE_PATTERN = new MetarPattern(
+            SUNSHINE_REGEX);
     /**
      * 6-hourly max temp regex.
      */
     protected static final String MAX_TEMP_6_HOUR_REGEX = "^1(0|1)[0-9]{3}$";
+    /**
+     * Compiled {@link #MAX_TEMP_6_HOUR_REGEX}.
+     */
+    protected static final MetarPattern MAX_TEMP_6_HOUR_PATTERN = new MetarPattern(
+            MAX_TEMP_6_HOUR_REGEX);
     /**
      * 6-hourly min temp regex.
      */
     protected static final String MIN_TEMP_6_HOUR_REGEX = "^2(0|1)[0-9]{3}$";
+    /**
+     * Compiled {@link #MIN_TEMP_6_HOUR_REGEX}.
+     */
+    protected static final MetarPattern MIN_TEMP_6_HOUR_PATTERN = new MetarPattern(
+            MIN_TEMP_6_HOUR_REGEX);
     /**
      * 24-hour max and min temp prefix.
      */
@@ -571,6 +691,11 @@ public final class MetarDecoderUtil {
      * 3-hourly pressure tendency regex.
      */
     protected static final String PRESS_TEND_3_HOUR_REGEX = "^5[0-8][0-9]{3}$";
+    /**
+     * Compiled {@link #PRESS_TEND_3_HOUR_REGEX}.
+     */
+    protected static final MetarPattern PRESS_TEND_3_HOUR_PATTERN = new MetarPattern(
+            PRESS_TEND_3_HOUR_REGEX);
     /**
      * Runway visual range regex.
      * 
@@ -583,10 +708,20 @@ public final class MetarDecoderUtil {
      * R07/4500VP6000FT
      */
     protected static final String RVR_REGEX = "^R[0-9]{2}(R|L|C)?\\/(((M|P)?[0-9]{3,4})(V(M|P)?[0-9]{3,4})?)(FT)?(\\/(U|D|N))?$";
+    /**
+     * Compiled {@link #RVR_REGEX}.
+     */
+    protected static final MetarPattern RVR_PATTERN = new MetarPattern(
+            RVR_REGEX);
     /**
      * Core variable visibility regex.
      */
     protected static final String CORE_VARIABLE_VISIBILITY_REGEX = "^[0-9]+(\\/[0-9]+)?V[0-9]+(\\/[0-9]+)?$";
+    /**
+     * Compiled {@link #CORE_VARIABLE_VISIBILITY_REGEX}.
+     */
+    protected static final MetarPattern CORE_VARIABLE_VISIBILITY_PATTERN = new MetarPattern(
+            CORE_VARIABLE_VISIBILITY_REGEX);
     /**
      * Overcast clouds string.
      */
@@ -991,6 +1126,61 @@ public final class MetarDecoderUtil {
         return filteredReportText.toString();
     }
 
+    /**
+     * Split filtered report text into its groups, on runs of spaces. Gives the
+     * same groups as splitting on the regex "\\s+", without the regex; control
+     * characters have already been removed by
+     * {@link #stripControlAndPunctuation(String)}, so spaces are the only
+     * whitespace left. The groups are counted first, so that the only
+     * allocations are the returned array and one string per group.
+     * 
+     * @param reportText
+     *            filtered report text.
+     * @return report groups.
+     */
+    protected static String[] splitReportGroups(String reportText) {
+        if (reportText.indexOf(' ') < 0) {
+            return new String[] { reportText };
+        }
+
+        // trailing spaces give no group, as String#split drops trailing empty
+        // groups
+        int end = reportText.length();
+        while ((end > 0) && (reportText.charAt(end - 1) == ' ')) {
+            end--;
+        }
+
+        // a leading run of spaces gives an empty first group, as in
+        // String#split
+        int count = (end > 0) ? 1 : 0;
+        for (int i = 0; i < end; i++) {
+            if ((reportText.charAt(i) == ' ')
+                    && ((i == 0) || (reportText.charAt(i - 1) != ' '))) {
+                count++;
+            }
+        }
+
+        String[] groups = new String[count];
+        int group = 0;
+        int groupStart = 0;
+        int i = 0;
+        while (i < end) {
+            if (reportText.charAt(i) == ' ') {
+                groups[group++] = reportText.substring(groupStart, i);
+                while ((i < end) && (reportText.charAt(i) == ' ')) {
+                    i++;
+                }
+                groupStart = i;
+            } else {
+                i++;
+            }
+        }
+        if (end > 0) {
+            groups[group] = reportText.substring(groupStart, end);
+        }
+        return groups;
+    }
+
     /**
      * Based off C++ #iscntrl method as used by hmHMU_stripcntl.c. Based off
      * table in http://en.cppreference.com/w/cpp/string/byte/iscntrl.
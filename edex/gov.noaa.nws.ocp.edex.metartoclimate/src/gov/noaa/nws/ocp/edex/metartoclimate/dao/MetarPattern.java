@@ -0,0 +1,81 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.metartoclimate.dao;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A METAR decoding regex, compiled once, with a {@link Matcher} kept per
+ * thread and reset for each check. Replaces {@link String#matches(String)},
+ * which compiles the regex again on every call.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation.
+ * </pre>
+ *
+ * @author agent
+ */
+final class MetarPattern {
+
+    /**
+     * The compiled regex.
+     */
+    private final Pattern pattern;
+
+    /**
+     * Matcher for the calling thread, reset for each check.
+     */
+    private final ThreadLocal<Matcher> threadMatcher;
+
+    /**
+     * Constructor.
+     *
+     * @param regex
+     */
+    MetarPattern(String regex) {
+        pattern = Pattern.compile(regex);
+        threadMatcher = new ThreadLocal<Matcher>() {
+            @Override
+            protected Matcher initialValue() {
+                return pattern.matcher("");
+            }
+        };
+    }
+
+    /**
+     * @param input
+     * @return true if the entire input matches.
+     */
+    boolean matches(CharSequence input) {
+        return threadMatcher.get().reset(input).matches();
+    }
+
+    /**
+     * @param input
+     * @return true if some part of the input matches.
+     */
+    boolean find(CharSequence input) {
+        return threadMatcher.get().reset(input).find();
+    }
+
+    /**
+     * @param input
+     * @return a new matcher for iterating over matches in the input. Not
+     *         shared, so it may be used while other checks run.
+     */
+    Matcher matcher(CharSequence input) {
+        return pattern.matcher(input);
+    }
+
+    @Override
+    public String toString() {
+        return pattern.pattern();
+    }
+}
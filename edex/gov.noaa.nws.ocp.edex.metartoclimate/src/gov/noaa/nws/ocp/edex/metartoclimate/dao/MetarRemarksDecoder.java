@@ -5,7 +5,6 @@ package gov.noaa.nws.ocp.edex.metartoclimate.dao;
 
 import java.util.Arrays;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
@@ -268,8 +267,8 @@ public final class MetarRemarksDecoder {
                 reportIndex = parseLightningFrequency(decodedMetar, reportArray,
                         reportIndex, currReportSection);
                 // end lightning section
-            } else if (currReportSection
-                    .matches(MetarDecoderUtil.RECENT_WX_REGEX)) {
+            } else if (MetarDecoderUtil.RECENT_WX_PATTERN
+                    .matches(currReportSection)) {
                 /*
                  * Recent weather string section. One long string with coded
                  * weather + either start or end time. Can be written in any
@@ -409,16 +408,16 @@ public final class MetarRemarksDecoder {
                 // end sunshine duration
             } else if (currReportSection
                     .startsWith(MetarDecoderUtil.TEMP_AND_DEW_PREFIX)
-                    && currReportSection
-                            .matches(MetarDecoderUtil.ALPHANUMERIC_REGEX)) {
+                    && MetarDecoderUtil.ALPHANUMERIC_PATTERN
+                            .matches(currReportSection)) {
                 /*
                  * Temperature and dew point section
                  */
                 reportIndex = parseTempAndDew(decodedMetar, reportIndex,
                         currReportSection);
                 // end temperature and dew point
-            } else if (currReportSection
-                    .matches(MetarDecoderUtil.MAX_TEMP_6_HOUR_REGEX)) {
+            } else if (MetarDecoderUtil.MAX_TEMP_6_HOUR_PATTERN
+                    .matches(currReportSection)) {
                 /*
                  * 6-hourly max temp section. From hmPED_MaxTemp.c.
                  */
@@ -428,8 +427,8 @@ public final class MetarRemarksDecoder {
                     decodedMetar.setMaxTemp(decodedMetar.getMaxTemp() * -1);
                 }
                 // end 6-hourly max temp
-            } else if (currReportSection
-                    .matches(MetarDecoderUtil.MIN_TEMP_6_HOUR_REGEX)) {
+            } else if (MetarDecoderUtil.MIN_TEMP_6_HOUR_PATTERN
+                    .matches(currReportSection)) {
                 /*
                  * 6-hourly min temp section. From hmPED_MinTemp.c.
                  */
@@ -624,8 +623,8 @@ public final class MetarRemarksDecoder {
      */
     private static void parse3HourPressureTendency(DecodedMetar decodedMetar,
             String currReportSection) {
-        if (currReportSection
-                .matches(MetarDecoderUtil.PRESS_TEND_3_HOUR_REGEX)) {
+        if (MetarDecoderUtil.PRESS_TEND_3_HOUR_PATTERN
+                .matches(currReportSection)) {
             decodedMetar.setCharPressureTendency(
                     Integer.parseInt(currReportSection.substring(1, 2)));
             decodedMetar.setPressure3HourTendency(
@@ -661,8 +660,8 @@ public final class MetarRemarksDecoder {
 
     private static void parse24HourMaxMinTemps(DecodedMetar decodedMetar,
             String currReportSection) {
-        if (currReportSection.substring(1, 5)
-                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)
+        if (MetarDecoderUtil.NUM_ONLY_PATTERN
+                .matches(currReportSection.substring(1, 5))
                 && (currReportSection.substring(1, 2).equals("0")
                         || currReportSection.substring(1, 2).equals("1"))) {
             decodedMetar.setMax24Temp(
@@ -677,8 +676,8 @@ public final class MetarRemarksDecoder {
                     + currReportSection + "] has invalid max temp.");
         }
 
-        if (currReportSection.substring(5)
-                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)
+        if (MetarDecoderUtil.NUM_ONLY_PATTERN
+                .matches(currReportSection.substring(5))
                 && (currReportSection.substring(5, 6).equals("0")
                         || currReportSection.substring(5, 6).equals("1"))) {
             decodedMetar.setMin24Temp(
@@ -801,9 +800,9 @@ public final class MetarRemarksDecoder {
 
     private static void parseSunshineDuration(DecodedMetar decodedMetar,
             String currReportSection) {
-        if (currReportSection.matches(MetarDecoderUtil.SUNSHINE_REGEX)) {
-            if (currReportSection.substring(2)
-                    .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.SUNSHINE_PATTERN.matches(currReportSection)) {
+            if (MetarDecoderUtil.NUM_ONLY_PATTERN
+                    .matches(currReportSection.substring(2))) {
                 /* Store the sushine duration value. */
                 decodedMetar.setSunshineDur(
                         Integer.parseInt(currReportSection.substring(2)));
@@ -844,8 +843,8 @@ public final class MetarRemarksDecoder {
 
     private static void parseSynopClouds(DecodedMetar decodedMetar,
             String currReportSection) {
-        if (currReportSection
-                .matches(MetarDecoderUtil.SYNOP_CLOUD_TYPES_REGEX)) {
+        if (MetarDecoderUtil.SYNOP_CLOUD_TYPES_PATTERN
+                .matches(currReportSection)) {
             decodedMetar.setSynopticCloudType(currReportSection);
             decodedMetar.setCloudLow(currReportSection.substring(2, 3));
             decodedMetar.setCloudMedium(currReportSection.substring(3, 4));
@@ -884,7 +883,7 @@ public final class MetarRemarksDecoder {
         String waterEquivString = currReportSection
                 .substring(MetarDecoderUtil.WATER_EQUIV_PREFIX.length());
 
-        if (waterEquivString.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(waterEquivString)) {
             decodedMetar.setWaterEquivSnow(
                     Float.parseFloat(waterEquivString) / 10f);
         } else {
@@ -919,7 +918,7 @@ public final class MetarRemarksDecoder {
         String snowDepthString = currReportSection
                 .substring(MetarDecoderUtil.SNOW_DEPTH_PREFIX.length());
 
-        if (snowDepthString.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(snowDepthString)) {
             decodedMetar.setSnowDepth(Integer.parseInt(snowDepthString));
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
@@ -958,7 +957,7 @@ public final class MetarRemarksDecoder {
          */
         if (precipValueString.equals(MetarDecoderUtil.MISSING_VALUE_SLASHES)) {
             decodedMetar.setPrecip24Amt((float) Integer.MAX_VALUE);
-        } else if (precipValueString.matches(MetarDecoderUtil.NUM_ONLY_REGEX)
+        } else if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(precipValueString)
                 && precipValueString.length() == 4) {
             decodedMetar
                     .setPrecip24Amt(Float.parseFloat(precipValueString) / 100);
@@ -1000,7 +999,7 @@ public final class MetarRemarksDecoder {
          */
         if (precipValueString.equals(MetarDecoderUtil.MISSING_VALUE_SLASHES)) {
             decodedMetar.setPrecipAmt((float) Integer.MAX_VALUE);
-        } else if (precipValueString.matches(MetarDecoderUtil.NUM_ONLY_REGEX)
+        } else if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(precipValueString)
                 && precipValueString.length() == 4) {
             decodedMetar
                     .setPrecipAmt(Float.parseFloat(precipValueString) / 100);
@@ -1037,7 +1036,7 @@ public final class MetarRemarksDecoder {
         String precipValueString = currReportSection
                 .substring(MetarDecoderUtil.HOURLY_PRECIP_PREFIX.length());
 
-        if (precipValueString.matches(MetarDecoderUtil.NUM_ONLY_REGEX)
+        if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(precipValueString)
                 && precipValueString.length() == 4) {
             decodedMetar.setHourlyPrecip(
                     Float.parseFloat(precipValueString) * 0.01f);
@@ -1082,7 +1081,7 @@ public final class MetarRemarksDecoder {
         if (reportIndex < reportArray.length) {
             String currReportSection = reportArray[reportIndex];
 
-            if (currReportSection.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+            if (MetarDecoderUtil.FRACTION_PATTERN.matches(currReportSection)) {
                 String[] fractionSplit = currReportSection
                         .split(MetarDecoderUtil.SLASH_DIVIDER);
 
@@ -1163,8 +1162,8 @@ public final class MetarRemarksDecoder {
                     return reportIndex;
                 }
 
-                if (currReportSection
-                        .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                if (MetarDecoderUtil.NUM_ONLY_PATTERN
+                        .matches(currReportSection)) {
                     pressure = Integer.parseInt(currReportSection);
                 } else {
                     decodedMetar.getCmnData().setDecodeStatus(
@@ -1566,8 +1565,8 @@ public final class MetarRemarksDecoder {
             return reportIndex;
         }
 
-        if (currReportSection
-                .matches(MetarDecoderUtil.OBSCUR_SKY_COVER_REGEX)) {
+        if (MetarDecoderUtil.OBSCUR_SKY_COVER_PATTERN
+                .matches(currReportSection)) {
             decodedMetar.setObscurationSkyCondition(
                     currReportSection.substring(0, 3));
             // in hundreds of feet
@@ -1605,7 +1604,7 @@ public final class MetarRemarksDecoder {
             String currReportSection = reportArray[reportIndex];
 
             /* Retrieve the min and max ceiling values. */
-            if (currReportSection.matches(MetarDecoderUtil.CIG_VAR_REGEX)) {
+            if (MetarDecoderUtil.CIG_VAR_PATTERN.matches(currReportSection)) {
                 /*
                  * CIG section
                  */
@@ -1614,8 +1613,8 @@ public final class MetarRemarksDecoder {
                 // end CIG section
             } else if (currReportSection
                     .equalsIgnoreCase(MetarDecoderUtil.FOG_RGD_INDICATOR)
-                    || currReportSection
-                            .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                    || MetarDecoderUtil.NUM_ONLY_PATTERN
+                            .matches(currReportSection)) {
                 /*
                  * CIG second site section
                  */
@@ -1837,8 +1836,8 @@ public final class MetarRemarksDecoder {
                     decodedMetar.setHailSize(
                             MetarDecoderUtil.HAIL_MINIMUM_SIZE_VALUE);
                     decodedMetar.setHail(true);
-                } else if (currReportSection
-                        .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                } else if (MetarDecoderUtil.FRACTION_PATTERN
+                        .matches(currReportSection)) {
                     /* check for a fraction for hail diameter */
                     decodedMetar
                             .setHailSize(Float
@@ -1869,8 +1868,8 @@ public final class MetarRemarksDecoder {
                 if (reportIndex < reportArray.length) {
                     currReportSection = reportArray[reportIndex];
 
-                    if (currReportSection
-                            .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                    if (MetarDecoderUtil.FRACTION_PATTERN
+                            .matches(currReportSection)) {
                         String[] fractionSplit = currReportSection
                                 .split(MetarDecoderUtil.SLASH_DIVIDER);
                         decodedMetar.setHailSize(decodedMetar.getHailSize()
@@ -2111,8 +2110,7 @@ public final class MetarRemarksDecoder {
             String currReportSection) {
         // parse all matches for each individual weather event
 
-        Matcher weatherGroupMatcher = Pattern
-                .compile(MetarDecoderUtil.SINGLE_RECENT_WX_REGEX)
+        Matcher weatherGroupMatcher = MetarDecoderUtil.SINGLE_RECENT_WX_PATTERN
                 .matcher(currReportSection);
         while (weatherGroupMatcher.find()) {
             // single weather event ww..w(B|E)(hh)mm or
@@ -2127,8 +2125,7 @@ public final class MetarRemarksDecoder {
              * time, and either E or B could be first. Additionally, multiple
              * time pairs or singlets could follow a single recent weather.
              */
-            Matcher weatherTimeMatcher = Pattern
-                    .compile(MetarDecoderUtil.SINGLE_RECENT_WX_TIME_REGEX)
+            Matcher weatherTimeMatcher = MetarDecoderUtil.SINGLE_RECENT_WX_TIME_PATTERN
                     .matcher(weatherEventString);
 
             /*
@@ -2580,24 +2577,24 @@ public final class MetarRemarksDecoder {
                 return parseSectorVisibility(decodedMetar, reportArray,
                         reportIndex, currReportSection);
                 // end sector visibility
-            } else if (currReportSection
-                    .matches(MetarDecoderUtil.CORE_VARIABLE_VISIBILITY_REGEX)
-                    || (currReportSection
-                            .matches(MetarDecoderUtil.NUM_ONLY_REGEX)
-                            && nextWord.matches(
-                                    MetarDecoderUtil.CORE_VARIABLE_VISIBILITY_REGEX))) {
+            } else if (MetarDecoderUtil.CORE_VARIABLE_VISIBILITY_PATTERN
+                    .matches(currReportSection)
+                    || (MetarDecoderUtil.NUM_ONLY_PATTERN
+                            .matches(currReportSection)
+                            && MetarDecoderUtil.CORE_VARIABLE_VISIBILITY_PATTERN
+                                    .matches(nextWord))) {
                 return parseVariableVisibility(decodedMetar, reportArray,
                         reportIndex, currReportSection);
                 // end variable visibility
-            } else if ((currReportSection
-                    .matches(MetarDecoderUtil.FRACTION_REGEX)
+            } else if ((MetarDecoderUtil.FRACTION_PATTERN
+                    .matches(currReportSection)
                     && (nextWord.startsWith(MetarDecoderUtil.RUNWAY_RY_STRING)
                             || nextWord.startsWith(
                                     MetarDecoderUtil.RUNWAY_RWY_STRING)))
-                    || (currReportSection
-                            .matches(MetarDecoderUtil.NUM_ONLY_REGEX)
-                            && (nextWord
-                                    .matches(MetarDecoderUtil.FRACTION_REGEX)
+                    || (MetarDecoderUtil.NUM_ONLY_PATTERN
+                            .matches(currReportSection)
+                            && (MetarDecoderUtil.FRACTION_PATTERN
+                                    .matches(nextWord)
                                     || (nextWord.startsWith(
                                             MetarDecoderUtil.RUNWAY_RY_STRING)
                                             || nextWord.startsWith(
@@ -2663,7 +2660,7 @@ public final class MetarRemarksDecoder {
          */
         // could start with whole number
         float secondSiteVisibility = 0f;
-        if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(currReportSection)) {
             secondSiteVisibility = Float.parseFloat(currReportSection);
 
             // check next word
@@ -2680,7 +2677,7 @@ public final class MetarRemarksDecoder {
         }
 
         // fractional part
-        if (currReportSection.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+        if (MetarDecoderUtil.FRACTION_PATTERN.matches(currReportSection)) {
             String[] fractionSplit = currReportSection
                     .split(MetarDecoderUtil.SLASH_DIVIDER);
 
@@ -2710,8 +2707,8 @@ public final class MetarRemarksDecoder {
         if (currReportSection.startsWith(MetarDecoderUtil.RUNWAY_RY_STRING)
                 || currReportSection
                         .startsWith(MetarDecoderUtil.RUNWAY_RWY_STRING)) {
-            if (currReportSection
-                    .matches(MetarDecoderUtil.ALPHANUMERIC_REGEX)) {
+            if (MetarDecoderUtil.ALPHANUMERIC_PATTERN
+                    .matches(currReportSection)) {
                 decodedMetar.setVsby2ndSiteLoc(currReportSection);
             } else {
                 decodedMetar.getCmnData().setDecodeStatus(
@@ -2775,7 +2772,7 @@ public final class MetarRemarksDecoder {
          * first value may be whole number or fractional minimum visibility, or
          * the core visibility pattern
          */
-        if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(currReportSection)) {
             decodedMetar.setMinVsby(Float.parseFloat(currReportSection));
 
             /*
@@ -2803,10 +2800,11 @@ public final class MetarRemarksDecoder {
                 .split(MetarDecoderUtil.VARIABLE_DATA_FLAG);
         // finish min visibility
         String coreMinVisibility = coreVisibilityArray[0];
-        if (coreMinVisibility.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(coreMinVisibility)) {
             // whole number
             decodedMetar.setMinVsby(Float.parseFloat(coreMinVisibility));
-        } else if (coreMinVisibility.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+        } else if (MetarDecoderUtil.FRACTION_PATTERN
+                .matches(coreMinVisibility)) {
             // fraction
             String[] minVisSplit = coreMinVisibility
                     .split(MetarDecoderUtil.SLASH_DIVIDER);
@@ -2827,7 +2825,7 @@ public final class MetarRemarksDecoder {
 
         // start max visibility
         String coreMaxVisibility = coreVisibilityArray[1];
-        if (coreMaxVisibility.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+        if (MetarDecoderUtil.FRACTION_PATTERN.matches(coreMaxVisibility)) {
             // fractional
             String[] maxVisSplit = coreMaxVisibility
                     .split(MetarDecoderUtil.SLASH_DIVIDER);
@@ -2843,8 +2841,8 @@ public final class MetarRemarksDecoder {
             if (reportIndex < reportArray.length) {
                 currReportSection = reportArray[reportIndex];
 
-                if (currReportSection
-                        .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                if (MetarDecoderUtil.FRACTION_PATTERN
+                        .matches(currReportSection)) {
                     String[] maxVisSplit = currReportSection
                             .split(MetarDecoderUtil.SLASH_DIVIDER);
                     decodedMetar.setMaxVsby(decodedMetar.getMaxVsby()
@@ -2914,7 +2912,7 @@ public final class MetarRemarksDecoder {
          * visibility is either a fraction, a whole number and then a fraction,
          * or just a whole number
          */
-        if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(currReportSection)) {
             // whole number, which may be followed by a fraction
             decodedMetar.setSectorVsby(Float.parseFloat(currReportSection));
 
@@ -2923,8 +2921,8 @@ public final class MetarRemarksDecoder {
             if (reportIndex < reportArray.length) {
                 currReportSection = reportArray[reportIndex];
 
-                if (currReportSection
-                        .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                if (MetarDecoderUtil.FRACTION_PATTERN
+                        .matches(currReportSection)) {
                     String[] fractionSplit = currReportSection
                             .split(MetarDecoderUtil.SLASH_DIVIDER);
                     decodedMetar.setSectorVsby(decodedMetar.getSectorVsby()
@@ -2940,7 +2938,8 @@ public final class MetarRemarksDecoder {
                         "Only whole number present for sector visibility. End of remarks.");
                 return reportIndex;
             }
-        } else if (currReportSection.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+        } else if (MetarDecoderUtil.FRACTION_PATTERN
+                .matches(currReportSection)) {
             // fraction
             String[] fractionSplit = currReportSection
                     .split(MetarDecoderUtil.SLASH_DIVIDER);
@@ -3022,7 +3021,7 @@ public final class MetarRemarksDecoder {
         }
 
         // expect either a lone digits or a fraction
-        if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(currReportSection)) {
             // lone digits
             decodedMetar.setSfcVsby(Float.parseFloat(currReportSection));
 
@@ -3032,8 +3031,8 @@ public final class MetarRemarksDecoder {
             if (reportIndex < reportArray.length) {
                 currReportSection = reportArray[reportIndex];
 
-                if (currReportSection
-                        .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                if (MetarDecoderUtil.FRACTION_PATTERN
+                        .matches(currReportSection)) {
                     String[] fractionArray = currReportSection
                             .split(MetarDecoderUtil.SLASH_DIVIDER);
                     decodedMetar.setSfcVsby(decodedMetar.getSfcVsby()
@@ -3049,7 +3048,8 @@ public final class MetarRemarksDecoder {
                         "No fractional part after whole number present in METAR remarks after SFC VIS prefix. End of remarks.");
                 return reportIndex;
             }
-        } else if (currReportSection.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+        } else if (MetarDecoderUtil.FRACTION_PATTERN
+                .matches(currReportSection)) {
             // fraction
             String[] fractionArray = currReportSection
                     .split(MetarDecoderUtil.SLASH_DIVIDER);
@@ -3121,7 +3121,7 @@ public final class MetarRemarksDecoder {
             }
 
             // expect either a lone digits or a fraction
-            if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+            if (MetarDecoderUtil.NUM_ONLY_PATTERN.matches(currReportSection)) {
                 // lone digits
                 decodedMetar.setTwrVsby(Float.parseFloat(currReportSection));
 
@@ -3131,8 +3131,8 @@ public final class MetarRemarksDecoder {
                 if (reportIndex < reportArray.length) {
                     currReportSection = reportArray[reportIndex];
 
-                    if (currReportSection
-                            .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                    if (MetarDecoderUtil.FRACTION_PATTERN
+                            .matches(currReportSection)) {
                         String[] fractionArray = currReportSection
                                 .split(MetarDecoderUtil.SLASH_DIVIDER);
                         decodedMetar.setTwrVsby(decodedMetar.getTwrVsby()
@@ -3149,8 +3149,8 @@ public final class MetarRemarksDecoder {
                     return reportIndex;
                 }
 
-            } else if (currReportSection
-                    .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+            } else if (MetarDecoderUtil.FRACTION_PATTERN
+                    .matches(currReportSection)) {
                 // fraction
                 String[] fractionArray = currReportSection
                         .split(MetarDecoderUtil.SLASH_DIVIDER);
@@ -3204,7 +3204,7 @@ public final class MetarRemarksDecoder {
         if (reportIndex < reportArray.length) {
             String currReportSection = reportArray[reportIndex];
 
-            if (!currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+            if (!MetarDecoderUtil.NUM_ONLY_PATTERN.matches(currReportSection)) {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
                 logger.error(
@@ -3308,7 +3308,8 @@ public final class MetarRemarksDecoder {
                 }
             }
 
-            if (!currReportSection.matches(MetarDecoderUtil.PEAK_WIND_REGEX)) {
+            if (!MetarDecoderUtil.PEAK_WIND_PATTERN
+                    .matches(currReportSection)) {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
                 logger.error("Peak wind section: [" + currReportSection
@@ -3438,8 +3439,8 @@ public final class MetarRemarksDecoder {
                 // (hour and minutes)
                 int beginTimeDigits = 2;
                 if ((currReportSection.length() >= 5)
-                        && (currReportSection.substring(1, 5)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX))) {
+                        && (MetarDecoderUtil.NUM_ONLY_PATTERN
+                                .matches(currReportSection.substring(1, 5)))) {
                     // four digit time
                     decodedMetar.setbTornadicHour(Integer
                             .parseInt(currReportSection.substring(1, 3)));
@@ -3447,8 +3448,8 @@ public final class MetarRemarksDecoder {
                             .parseInt(currReportSection.substring(3, 5)));
                     beginTimeDigits = 4;
                 } else if (currReportSection.length() >= 3
-                        && currReportSection.substring(1, 3)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                        && MetarDecoderUtil.NUM_ONLY_PATTERN
+                                .matches(currReportSection.substring(1, 3))) {
                     // two digit time
                     decodedMetar.setbTornadicMinute(Integer
                             .parseInt(currReportSection.substring(1, 3)));
@@ -3471,16 +3472,16 @@ public final class MetarRemarksDecoder {
                 // time is either 2 digits (minutes only) or 4 digits
                 // (hour and minutes)
                 if ((currReportSection.length() >= 5)
-                        && (currReportSection.substring(1, 5)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX))) {
+                        && (MetarDecoderUtil.NUM_ONLY_PATTERN
+                                .matches(currReportSection.substring(1, 5)))) {
                     // four digit time
                     decodedMetar.seteTornadicHour(Integer
                             .parseInt(currReportSection.substring(1, 3)));
                     decodedMetar.seteTornadicMinute(Integer
                             .parseInt(currReportSection.substring(3, 5)));
                 } else if (currReportSection.length() >= 3
-                        && currReportSection.substring(1, 3)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                        && MetarDecoderUtil.NUM_ONLY_PATTERN
+                                .matches(currReportSection.substring(1, 3))) {
                     // two digit time
                     decodedMetar.seteTornadicMinute(Integer
                             .parseInt(currReportSection.substring(1, 3)));
@@ -3554,7 +3555,8 @@ public final class MetarRemarksDecoder {
                     return reportIndex;
                 }
             }
-        } else if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        } else if (MetarDecoderUtil.NUM_ONLY_PATTERN
+                .matches(currReportSection)) {
             /* Check for a numerical location as well */
             decodedMetar.setTornadicLocNum(Integer.parseInt(currReportSection));
 
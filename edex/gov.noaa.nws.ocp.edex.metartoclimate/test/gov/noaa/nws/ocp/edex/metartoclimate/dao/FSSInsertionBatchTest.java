@@ -0,0 +1,598 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.metartoclimate.dao;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAOValues;
+import gov.noaa.nws.ocp.edex.common.climate.util.MetarUtils;
+import gov.noaa.nws.ocp.edex.metartoclimate.dao.data.QCMetar;
+
+/**
+ * Checks that the script built by {@link FSSInsertionBatch} leaves the FSS
+ * tables with the same rows as the legacy per-element statements of
+ * ClimateFSSInsertionDAO: a SELECT by key followed by an UPDATE or an INSERT
+ * for every element, the MAX(wx_ele_number) weather count query, and the
+ * separate wx_ele_count and source_status updates.
+ *
+ * Both paths write the same reports into empty in-memory tables. The legacy
+ * path applies each legacy statement directly; the batch path parses and runs
+ * the rendered script with its bound parameters. A plain insert of a key that
+ * is already in a table fails, as it would against a primary key. The
+ * reports cover every FSS table, elements written twice with the same key,
+ * NULL and quoted weather period times, categorical rows that are not counted
+ * as present weather, and enough rows to split the inserts into several
+ * statements. Any difference throws an exception.
+ *
+ * Usage: FSSInsertionBatchTest [reports]
+ */
+public class FSSInsertionBatchTest {
+
+    private static final String QUOTED = "'(?:[^']|'')*'";
+
+    private static final Pattern INSERT = Pattern.compile(
+            "INSERT INTO (\\w+) (?:\\(([\\w,]+)\\) )?VALUES (.*)",
+            Pattern.DOTALL);
+
+    private static final Pattern UPDATE_FROM_VALUES = Pattern.compile(
+            "UPDATE (\\w+) SET (.*) FROM \\(VALUES (.*)\\) AS v\\(([\\w, ]+)\\)"
+                    + " WHERE \\w+\\.(\\w+)=v\\.(\\w+)",
+            Pattern.DOTALL);
+
+    private static final Pattern VALUE = Pattern
+            .compile(":\\w+|NULL|" + QUOTED);
+
+    /**
+     * Columns of each FSS table in table order, with the number of leading
+     * key columns. fss_report rows are inserted whole, so its columns other
+     * than the two set by the status update are kept by position.
+     */
+    private static final Map<String, Object[]> TABLES = new HashMap<>();
+
+    static {
+        String[] report = new String[16];
+        report[0] = "fss_rpt_instance";
+        for (int i = 1; i < report.length; i++) {
+            report[i] = "$" + i;
+        }
+        TABLES.put(ClimateDAOValues.FSS_REPORT_TABLE_NAME,
+                new Object[] { report, 1 });
+        TABLES.put(ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME,
+                new Object[] { new String[] { "fss_rpt_instance",
+                        "element_id", "element_value", "dqd" }, 2 });
+        TABLES.put(ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME,
+                new Object[] { new String[] { "fss_rpt_instance",
+                        "element_id", "element_value", "dqd" }, 2 });
+        TABLES.put(ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME,
+                new Object[] { new String[] { "fss_rpt_instance",
+                        "element_id", "wx_ele_number", "element_value",
+                        "dqd" }, 3 });
+        TABLES.put(ClimateDAOValues.FSS_CLOUD_LAYER_TABLE_NAME,
+                new Object[] { new String[] { "fss_rpt_instance",
+                        "element_id", "layer_number", "element_value",
+                        "dqd" }, 3 });
+        TABLES.put(ClimateDAOValues.FSS_WX_PERIOD_TABLE_NAME,
+                new Object[] { new String[] { "fss_rpt_instance",
+                        "element_id", "element_value", "element_num",
+                        "wx_begin_dtime", "wx_end_dtime" }, 4 });
+    }
+
+    /**
+     * Calls made by ClimateFSSInsertionDAO for each decoded report.
+     */
+    private interface FSSWriter {
+        void report(Object... values);
+
+        void continuousReal(int instance, int elementID, float value,
+                String dqd);
+
+        void categorySingle(int instance, int elementID, int value,
+                String dqd);
+
+        void categoryMulti(int instance, int elementID, int number, int value,
+                String dqd);
+
+        void cloudLayer(int instance, int elementID, int layer, int value,
+                String dqd);
+
+        void wxPeriod(int instance, int elementID, int value, int number,
+                String beginTime, String endTime);
+
+        void status(int instance, int sourceStatus);
+    }
+
+    /**
+     * In-memory tables: rows by table name, each row keyed by column name.
+     */
+    private static final class Tables {
+        private final Map<String, List<Map<String, Object>>> rows = new TreeMap<>();
+
+        private int statements;
+
+        private List<Map<String, Object>> rows(String table) {
+            if (!TABLES.containsKey(table)) {
+                throw new IllegalStateException("Unknown table " + table);
+            }
+            List<Map<String, Object>> tableRows = rows.get(table);
+            if (tableRows == null) {
+                tableRows = new ArrayList<>();
+                rows.put(table, tableRows);
+            }
+            return tableRows;
+        }
+
+        private Map<String, Object> find(String table, Map<String, Object> key) {
+            for (Map<String, Object> row : rows(table)) {
+                boolean match = true;
+                for (Map.Entry<String, Object> entry : key.entrySet()) {
+                    if (!equal(row.get(entry.getKey()), entry.getValue())) {
+                        match = false;
+                        break;
+                    }
+                }
+                if (match) {
+                    return row;
+                }
+            }
+            return null;
+        }
+
+        void insert(String table, String[] columns, List<Object> values) {
+            Object[] schema = TABLES.get(table);
+            String[] tableColumns = (String[]) schema[0];
+            if (columns == null) {
+                columns = tableColumns;
+            }
+            if (columns.length != values.size()) {
+                throw new IllegalStateException(table + ": " + columns.length
+                        + " columns but " + values.size() + " values");
+            }
+            Map<String, Object> row = new TreeMap<>();
+            for (int i = 0; i < columns.length; i++) {
+                row.put(columns[i], normalize(values.get(i)));
+            }
+            Map<String, Object> key = new LinkedHashMap<>();
+            for (int i = 0; i < (Integer) schema[1]; i++) {
+                key.put(tableColumns[i], row.get(tableColumns[i]));
+            }
+            if (find(table, key) != null) {
+                throw new IllegalStateException(
+                        "Duplicate key " + key + " inserted into " + table);
+            }
+            rows(table).add(row);
+        }
+
+        /**
+         * @return the number of rows updated.
+         */
+        int update(String table, Map<String, Object> key,
+                Map<String, Object> values) {
+            Map<String, Object> row = find(table, key);
+            if (row == null) {
+                return 0;
+            }
+            for (Map.Entry<String, Object> entry : values.entrySet()) {
+                row.put(entry.getKey(), normalize(entry.getValue()));
+            }
+            return 1;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Tables
+                    && rows.toString().equals(((Tables) obj).rows.toString());
+        }
+
+        @Override
+        public int hashCode() {
+            return rows.toString().hashCode();
+        }
+    }
+
+    /**
+     * The legacy path: each element is looked up by key, then updated or
+     * inserted, and the report counts are queried and updated one at a time.
+     */
+    private static final class LegacyWriter implements FSSWriter {
+        private final Tables tables = new Tables();
+
+        private void write(String table, Object[] key, Object[] values) {
+            String[] columns = (String[]) TABLES.get(table)[0];
+            Map<String, Object> keyMap = new LinkedHashMap<>();
+            for (int i = 0; i < key.length; i++) {
+                keyMap.put(columns[i], key[i]);
+            }
+            // SELECT * ... WHERE <key>
+            tables.statements++;
+            if (tables.find(table, keyMap) != null) {
+                Map<String, Object> set = new LinkedHashMap<>();
+                for (int i = 0; i < values.length; i++) {
+                    set.put(columns[key.length + i], values[i]);
+                }
+                tables.update(table, keyMap, set);
+            } else {
+                List<Object> row = new ArrayList<>();
+                for (Object value : key) {
+                    row.add(value);
+                }
+                for (Object value : values) {
+                    row.add(value);
+                }
+                tables.insert(table, null, row);
+            }
+            tables.statements++;
+        }
+
+        @Override
+        public void report(Object... values) {
+            List<Object> row = new ArrayList<>();
+            for (Object value : values) {
+                row.add(value == FSSInsertionBatch.NULL ? null : value);
+            }
+            tables.insert(ClimateDAOValues.FSS_REPORT_TABLE_NAME, null, row);
+            tables.statements++;
+        }
+
+        @Override
+        public void continuousReal(int instance, int elementID, float value,
+                String dqd) {
+            write(ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME,
+                    new Object[] { instance, elementID },
+                    new Object[] { value, dqd });
+        }
+
+        @Override
+        public void categorySingle(int instance, int elementID, int value,
+                String dqd) {
+            write(ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME,
+                    new Object[] { instance, elementID },
+                    new Object[] { value, dqd });
+        }
+
+        @Override
+        public void categoryMulti(int instance, int elementID, int number,
+                int value, String dqd) {
+            write(ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME,
+                    new Object[] { instance, elementID, number },
+                    new Object[] { value, dqd });
+        }
+
+        @Override
+        public void cloudLayer(int instance, int elementID, int layer,
+                int value, String dqd) {
+            write(ClimateDAOValues.FSS_CLOUD_LAYER_TABLE_NAME,
+                    new Object[] { instance, elementID, layer },
+                    new Object[] { value, dqd });
+        }
+
+        @Override
+        public void wxPeriod(int instance, int elementID, int value,
+                int number, String beginTime, String endTime) {
+            write(ClimateDAOValues.FSS_WX_PERIOD_TABLE_NAME,
+                    new Object[] { instance, elementID, value, number },
+                    new Object[] { literal(beginTime), literal(endTime) });
+        }
+
+        @Override
+        public void status(int instance, int sourceStatus) {
+            // SELECT MAX(wx_ele_number) ... AND element_id=METAR_WX AND dqd='C'
+            tables.statements++;
+            int count = 0;
+            for (Map<String, Object> row : tables
+                    .rows(ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME)) {
+                if (equal(row.get("fss_rpt_instance"), instance)
+                        && equal(row.get("element_id"), MetarUtils.METAR_WX)
+                        && QCMetar.COARSE_CHECKS_PASSED
+                                .equals(row.get("dqd"))) {
+                    count = Math.max(count,
+                            ((Number) row.get("wx_ele_number")).intValue());
+                }
+            }
+            Map<String, Object> key = new HashMap<>();
+            key.put("fss_rpt_instance", instance);
+            Map<String, Object> set = new HashMap<>();
+            set.put("wx_ele_count", count);
+            tables.update(ClimateDAOValues.FSS_REPORT_TABLE_NAME, key, set);
+            tables.statements++;
+            set.clear();
+            set.put("source_status", sourceStatus);
+            tables.update(ClimateDAOValues.FSS_REPORT_TABLE_NAME, key, set);
+            tables.statements++;
+        }
+    }
+
+    /**
+     * The batch path, as called by ClimateFSSInsertionDAO#addFSSRows.
+     */
+    private static final class BatchWriter implements FSSWriter {
+        private final FSSInsertionBatch batch = new FSSInsertionBatch();
+
+        @Override
+        public void report(Object... values) {
+            batch.addReport(values);
+        }
+
+        @Override
+        public void continuousReal(int instance, int elementID, float value,
+                String dqd) {
+            batch.addContinuousReal(instance, elementID, value, dqd);
+        }
+
+        @Override
+        public void categorySingle(int instance, int elementID, int value,
+                String dqd) {
+            batch.addCategorySingle(instance, elementID, value, dqd);
+        }
+
+        @Override
+        public void categoryMulti(int instance, int elementID, int number,
+                int value, String dqd) {
+            batch.addCategoryMulti(instance, elementID, number, value, dqd);
+        }
+
+        @Override
+        public void cloudLayer(int instance, int elementID, int layer,
+                int value, String dqd) {
+            batch.addCloudLayer(instance, elementID, layer, value, dqd);
+        }
+
+        @Override
+        public void wxPeriod(int instance, int elementID, int value,
+                int number, String beginTime, String endTime) {
+            batch.addWxPeriod(instance, elementID, value, number, beginTime,
+                    endTime);
+        }
+
+        @Override
+        public void status(int instance, int sourceStatus) {
+            batch.setReportStatus(instance,
+                    batch.getWeatherElementCount(instance), sourceStatus);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int reports = args.length > 0 ? Integer.parseInt(args[0]) : 1500;
+
+        LegacyWriter legacy = new LegacyWriter();
+        write(legacy, reports);
+
+        BatchWriter batchWriter = new BatchWriter();
+        write(batchWriter, reports);
+        Map<String, Object> params = new HashMap<>();
+        String sql = batchWriter.batch.toSQL(params);
+        Tables batch = run(sql, params);
+
+        for (String table : legacy.tables.rows.keySet()) {
+            int legacyRows = legacy.tables.rows(table).size();
+            int batchRows = batch.rows(table).size();
+            System.out.println(table + ": " + legacyRows + " legacy rows, "
+                    + batchRows + " batch rows");
+        }
+        System.out.println("Statements: " + legacy.tables.statements
+                + " legacy, " + batch.statements + " batch, " + params.size()
+                + " bound parameters");
+
+        if (!legacy.tables.equals(batch)) {
+            for (String table : legacy.tables.rows.keySet()) {
+                List<Map<String, Object>> expected = legacy.tables
+                        .rows(table);
+                List<Map<String, Object>> actual = batch.rows(table);
+                if (!expected.toString().equals(actual.toString())) {
+                    throw new IllegalStateException(table + " differs: legacy "
+                            + expected + " but batch " + actual);
+                }
+            }
+            throw new IllegalStateException("Tables differ");
+        }
+        System.out.println("Batch rows match the legacy rows");
+    }
+
+    /**
+     * Write the test reports: the first few exercise each special case, the
+     * rest fill the batch past one statement per table.
+     */
+    private static void write(FSSWriter writer, int reports) {
+        Calendar nominal = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
+        nominal.clear();
+        nominal.set(2026, Calendar.OCTOBER, 17, 18, 0, 0);
+
+        for (int r = 0; r < reports; r++) {
+            int instance = 1000 + r;
+            Calendar observation = (Calendar) nominal.clone();
+            observation.add(Calendar.MINUTE, -7 + r % 5);
+            writer.report(instance, 40 + r % 7, "MTR", r % 2 == 0 ? "M" : "S",
+                    "AUTO", r % 3 == 0 ? "COR" : "", observation, nominal,
+                    r % 4 == 0 ? FSSInsertionBatch.NULL : observation,
+                    "Z", FSSInsertionBatch.NULL,
+                    r % 5 == 0 ? FSSInsertionBatch.NULL : r % 9,
+                    FSSInsertionBatch.NULL, FSSInsertionBatch.NULL,
+                    FSSInsertionBatch.NULL, r % 4);
+
+            writer.continuousReal(instance, MetarUtils.METAR_TEMP,
+                    20.5f + r % 10, QCMetar.COARSE_CHECKS_PASSED);
+            writer.continuousReal(instance, MetarUtils.METAR_DEWPOINT,
+                    10.25f - r % 7, QCMetar.COARSE_CHECKS_PASSED);
+            writer.categorySingle(instance, MetarUtils.METAR_3HR_PRESS_TREND,
+                    r % 9, QCMetar.COARSE_CHECKS_PASSED);
+            writer.cloudLayer(instance, MetarUtils.METAR_CLOUD_HEIGHT, 1,
+                    25 + r % 40, QCMetar.COARSE_CHECKS_PASSED);
+            writer.cloudLayer(instance, MetarUtils.METAR_CLOUD_COVER, 1,
+                    r % 5, QCMetar.COARSE_CHECKS_PASSED);
+
+            if (r % 3 == 0) {
+                writer.categoryMulti(instance, MetarUtils.METAR_WX, 1, 61,
+                        QCMetar.COARSE_CHECKS_PASSED);
+                writer.categoryMulti(instance, MetarUtils.METAR_WX, 2, 10,
+                        QCMetar.COARSE_CHECKS_PASSED);
+            }
+
+            if (r < 10) {
+                // Element written twice, as the legacy update path allowed
+                writer.continuousReal(instance, MetarUtils.METAR_TEMP, -3.5f,
+                        "Z");
+                writer.cloudLayer(instance, MetarUtils.METAR_CLOUD_HEIGHT, 1,
+                        12, "Z");
+                writer.categorySingle(instance, MetarUtils.METAR_3HR_PRESS_TREND,
+                        4, "Z");
+                writer.categoryMulti(instance, MetarUtils.METAR_WX, 1, 62,
+                        QCMetar.COARSE_CHECKS_PASSED);
+
+                // Rows not counted as present weather
+                writer.categoryMulti(instance, MetarUtils.METAR_WX, 5, 80,
+                        "Z");
+                writer.categoryMulti(instance, MetarUtils.METAR_CLOUD_TYPE,
+                        7, 3, QCMetar.COARSE_CHECKS_PASSED);
+
+                // Weather periods, NULL or quoted, one written twice
+                writer.wxPeriod(instance, MetarUtils.METAR_WX, 61, 1,
+                        "'17:05'", "NULL");
+                writer.wxPeriod(instance, MetarUtils.METAR_WX, 61, 2,
+                        "NULL", "'17:40'");
+                writer.wxPeriod(instance, MetarUtils.METAR_WX, 61, 1,
+                        "'17:05'", "'17:52'");
+            }
+
+            writer.status(instance, r % 6 == 0 ? 0 : r % 6);
+        }
+    }
+
+    /**
+     * Run a script rendered by FSSInsertionBatch on empty tables.
+     */
+    private static Tables run(String sql, Map<String, Object> params) {
+        Tables tables = new Tables();
+        for (String statement : sql.split(";\n")) {
+            if (statement.isEmpty()) {
+                continue;
+            }
+            tables.statements++;
+
+            Matcher insert = INSERT.matcher(statement);
+            if (insert.matches()) {
+                String[] columns = insert.group(2) == null ? null
+                        : insert.group(2).split(",");
+                for (List<Object> row : tuples(insert.group(3), params)) {
+                    tables.insert(insert.group(1), columns, row);
+                }
+                continue;
+            }
+
+            Matcher update = UPDATE_FROM_VALUES.matcher(statement);
+            if (update.matches()) {
+                String[] valueColumns = update.group(4).split(", *");
+                Map<String, String> set = new LinkedHashMap<>();
+                for (String assignment : update.group(2).split(", *")) {
+                    String[] parts = assignment.trim().split("=v\\.");
+                    set.put(parts[0], parts[1]);
+                }
+                for (List<Object> row : tuples(update.group(3), params)) {
+                    Map<String, Object> v = new HashMap<>();
+                    for (int i = 0; i < valueColumns.length; i++) {
+                        v.put(valueColumns[i], row.get(i));
+                    }
+                    Map<String, Object> key = new HashMap<>();
+                    key.put(update.group(5), v.get(update.group(6)));
+                    Map<String, Object> values = new HashMap<>();
+                    for (Map.Entry<String, String> entry : set.entrySet()) {
+                        values.put(entry.getKey(), v.get(entry.getValue()));
+                    }
+                    if (tables.update(update.group(1), key, values) != 1) {
+                        throw new IllegalStateException(
+                                "No row to update for " + key);
+                    }
+                }
+                continue;
+            }
+
+            throw new IllegalStateException(
+                    "Unexpected statement: " + statement);
+        }
+        return tables;
+    }
+
+    /**
+     * Parse a list of value tuples, resolving bound parameters.
+     */
+    private static List<List<Object>> tuples(String sql,
+            Map<String, Object> params) {
+        List<List<Object>> rows = new ArrayList<>();
+        int pos = 0;
+        while (pos < sql.length()) {
+            if (sql.charAt(pos) != '(') {
+                throw new IllegalStateException(
+                        "Expected ( at " + pos + " of " + sql);
+            }
+            pos++;
+            List<Object> row = new ArrayList<>();
+            Matcher value = VALUE.matcher(sql);
+            while (true) {
+                if (!value.find(pos) || value.start() != pos) {
+                    throw new IllegalStateException(
+                            "Expected a value at " + pos + " of " + sql);
+                }
+                String token = value.group();
+                if (token.startsWith(":")) {
+                    String name = token.substring(1);
+                    if (!params.containsKey(name)) {
+                        throw new IllegalStateException(
+                                "Unbound parameter " + name);
+                    }
+                    row.add(params.get(name));
+                } else {
+                    row.add(literal(token));
+                }
+                pos = value.end();
+                char next = sql.charAt(pos++);
+                if (next == ')') {
+                    break;
+                }
+                if (next != ',') {
+                    throw new IllegalStateException(
+                            "Expected , or ) at " + (pos - 1) + " of " + sql);
+                }
+            }
+            rows.add(row);
+            if (pos < sql.length() && sql.charAt(pos) == ',') {
+                pos++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * @return the value of a NULL or quoted SQL literal.
+     */
+    private static Object literal(String sql) {
+        if ("NULL".equals(sql)) {
+            return null;
+        }
+        if (!sql.matches(QUOTED)) {
+            throw new IllegalStateException("Unexpected literal " + sql);
+        }
+        return sql.substring(1, sql.length() - 1).replace("''", "'");
+    }
+
+    private static Object normalize(Object value) {
+        if (value == FSSInsertionBatch.NULL) {
+            return null;
+        }
+        if (value instanceof Calendar) {
+            return ((Calendar) value).getTimeInMillis();
+        }
+        return value;
+    }
+
+    private static boolean equal(Object a, Object b) {
+        return a == null ? b == null : a.equals(normalize(b));
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.metartoclimate.dao;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the old and new METAR group checks on a corpus of METAR reports:
+ * splitting the filtered report with String#split("\\s+") against
+ * {@link MetarDecoderUtil#splitReportGroups(String)}, and checking every
+ * group with String#matches on each *_REGEX against the matching compiled
+ * *_PATTERN. Both paths must give the same results; the time and bytes
+ * allocated per report of each are printed.
+ *
+ * Usage: MetarDecoderBenchmark [iterations] [METAR file, one report per line]
+ *
+ * Without a file, a built-in corpus of observed METAR and SPECI reports is
+ * used.
+ */
+public class MetarDecoderBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+
+    private static final String[] CORPUS = {
+            "METAR KOUN 171753Z AUTO 19012G21KT 10SM CLR 27/12 A2996 RMK AO2 SLP134 T02670117 10272 20189 58011",
+            "METAR KOKC 171752Z 18014G24KT 10SM FEW250 28/11 A2995 RMK AO2 SLP131 T02830111 10289 20194 58010",
+            "METAR KDFW 171753Z 17011KT 10SM SCT045 BKN250 30/17 A2994 RMK AO2 SLP130 T03000167 10306 20233 58008",
+            "SPECI KMCI 171812Z 21008KT 3SM -TSRA BR FEW020 BKN035CB OVC080 22/19 A2987 RMK AO2 TSB05 OCNL LTGICCG OHD TS OHD MOV E P0012",
+            "METAR KORD 171751Z 24009KT 10SM BKN038 OVC250 17/08 A3002 RMK AO2 SLP167 T01720083 10178 20133 53012",
+            "METAR KDEN 171753Z 05007KT 10SM FEW090 SCT140 BKN200 19/M01 A3011 RMK AO2 SLP132 T01941011 10200 21033 58005",
+            "METAR KSEA 171753Z 20006KT 8SM -RA FEW012 BKN025 OVC045 13/11 A3004 RMK AO2 RAB05 SLP173 P0002 60010 T01330111 10133 20106 53004",
+            "METAR KBOS 171754Z 27015G25KT 10SM FEW045 14/03 A2991 RMK AO2 PK WND 28029/1721 SLP128 T01390028 10144 20089 51014",
+            "METAR KMIA 171753Z 09011KT 10SM FEW025 SCT200 30/23 A3001 RMK AO2 SLP162 T03000228 10306 20256 53006",
+            "METAR KPHX 171751Z 26005KT 10SM SKC 33/M04 A2986 RMK AO2 SLP085 T03331044 10339 20200 58012",
+            "METAR KMSP 171753Z 31016G27KT 10SM SCT050 BKN090 11/02 A2998 RMK AO2 PK WND 31031/1716 SLP163 T01110022 10117 20067 51020",
+            "SPECI KATL 171829Z 16005KT 1 1/2SM R26R/4500VP6000FT +RA BR SCT008 BKN020 OVC040 21/20 A3006 RMK AO2 VIS 1V3 P0041",
+            "METAR KSLC 171754Z 33009KT 60SM FEW120 SCT200 18/M03 A3004 RMK AO2 SLP150 T01831028 10189 20056 58008",
+            "METAR KBIS 171756Z AUTO 29019G29KT 1/4SM +SN FZFG VV004 M03/M04 A2977 RMK AO2 PK WND 30033/1733 SNB30 SLP113 P0004 T10281039",
+            "METAR KLAS 171756Z VRB04KT 10SM FEW150 31/M06 A2981 RMK AO2 SLP073 T03111061 10317 20211 58011",
+            "METAR KSTL 171751Z 22013G22KT 10SM SCT060 24/14 A2990 RMK AO2 SLP121 CB DSNT NE T02440139 10250 20150 58017",
+            "METAR KIAH 171753Z 15010KT 7SM VCSH SCT018 BKN030 28/23 A2996 RMK AO2 RAE12 SLP143 P0000 T02830228 10289 20233 58006",
+            "METAR KJFK 171751Z 23012KT 10SM FEW055 SCT250 19/07 A2998 RMK AO2 SLP153 T01940067 10200 20139 53009",
+            "METAR KABQ 171752Z 12008KT 10SM FEW070 SCT120 22/M02 A3009 RMK AO2 SLP128 VIRGA W-NW T02171017 10222 20100 58004",
+            "METAR KANC 171753Z 01005KT 10SM SCT045 OVC070 06/01 A2972 RMK AO2 SLP064 T00560011 10061 20028 56006",
+            "METAR KGRR 171753Z NIL" };
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+
+        List<String> reports = args.length > 1
+                ? Files.readAllLines(Paths.get(args[1]),
+                        StandardCharsets.US_ASCII)
+                : Arrays.asList(CORPUS);
+        String[] filtered = new String[reports.size()];
+        for (int i = 0; i < filtered.length; i++) {
+            filtered[i] = MetarDecoderUtil
+                    .stripControlAndPunctuation(reports.get(i));
+        }
+
+        List<String> regexes = new ArrayList<>();
+        List<MetarPattern> patterns = new ArrayList<>();
+        for (Field field : MetarDecoderUtil.class.getDeclaredFields()) {
+            String name = field.getName();
+            if (name.endsWith("_REGEX")) {
+                regexes.add((String) field.get(null));
+                patterns.add((MetarPattern) MetarDecoderUtil.class
+                        .getDeclaredField(name.replaceAll("_REGEX$",
+                                "_PATTERN"))
+                        .get(null));
+            }
+        }
+
+        verify(filtered, regexes, patterns);
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            splitOld(filtered);
+            splitNew(filtered);
+            matchOld(filtered, regexes);
+            matchNew(filtered, patterns);
+        }
+
+        System.out.println(filtered.length + " reports, " + regexes.size()
+                + " regexes, " + iterations + " iterations");
+        long reportCount = (long) filtered.length * iterations;
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int run = 0; run < 4; run++) {
+            long startBytes = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            long checks = 0;
+            for (int i = 0; i < iterations; i++) {
+                switch (run) {
+                case 0:
+                    checks += splitOld(filtered);
+                    break;
+                case 1:
+                    checks += splitNew(filtered);
+                    break;
+                case 2:
+                    checks += matchOld(filtered, regexes);
+                    break;
+                default:
+                    checks += matchNew(filtered, patterns);
+                    break;
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            long allocated = threads.getThreadAllocatedBytes(threadId)
+                    - startBytes;
+
+            String label = new String[] { "split(\"\\\\s+\")",
+                    "splitReportGroups", "String.matches(*_REGEX)",
+                    "*_PATTERN.matches" }[run];
+            System.out.println(label + ": "
+                    + String.format("%.3f", elapsed / 1e3 / reportCount)
+                    + " us/report, " + (allocated / reportCount)
+                    + " bytes/report (" + checks + ")");
+        }
+    }
+
+    /**
+     * Check that the old and new paths give the same results.
+     *
+     * @param filtered
+     * @param regexes
+     * @param patterns
+     */
+    private static void verify(String[] filtered, List<String> regexes,
+            List<MetarPattern> patterns) {
+        for (String report : filtered) {
+            String[] groups = report.split("\\s+");
+            if (!Arrays.equals(groups,
+                    MetarDecoderUtil.splitReportGroups(report))) {
+                throw new IllegalStateException(
+                        "Groups differ for report [" + report + "]");
+            }
+            for (String group : groups) {
+                for (int i = 0; i < regexes.size(); i++) {
+                    if (group.matches(regexes.get(i)) != patterns.get(i)
+                            .matches(group)) {
+                        throw new IllegalStateException("Match differs for ["
+                                + group + "] and [" + regexes.get(i) + "]");
+                    }
+                }
+            }
+        }
+    }
+
+    private static long splitOld(String[] filtered) {
+        long groups = 0;
+        for (String report : filtered) {
+            groups += report.split("\\s+").length;
+        }
+        return groups;
+    }
+
+    private static long splitNew(String[] filtered) {
+        long groups = 0;
+        for (String report : filtered) {
+            groups += MetarDecoderUtil.splitReportGroups(report).length;
+        }
+        return groups;
+    }
+
+    private static long matchOld(String[] filtered, List<String> regexes) {
+        long matches = 0;
+        for (String report : filtered) {
+            for (String group : report.split("\\s+")) {
+                for (String regex : regexes) {
+                    if (group.matches(regex)) {
+                        matches++;
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static long matchNew(String[] filtered,
+            List<MetarPattern> patterns) {
+        long matches = 0;
+        for (String report : filtered) {
+            for (String group : MetarDecoderUtil.splitReportGroups(report)) {
+                for (MetarPattern pattern : patterns) {
+                    if (pattern.matches(group)) {
+                        matches++;
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+}
@@ -263,13 +263,11 @@ public class ClimateASOSMessageDecoder {
         }
 
         // Persist to the climate database
-        for (ClimateASOSMessageRecord record : records) {
-            try {
-                dao.storeToTable(record);
-            } catch (Exception e) {
-                logger.error("Error storing ASOS record: [" + record.toString()
-                        + "]", e);
-            }
+        try {
+            dao.storeToTables(records);
+        } catch (Exception e) {
+            logger.error("Error storing ASOS records from the file ["
+                    + ingestFile.getName() + "].", e);
         }
     }
 }
@@ -182,6 +182,11 @@ public class DailySummaryMessageParser extends ASOSMessageParser {
              */
             + "(?:/(?<remarks>((?:ET|Epr|EP|EW|ES|ESw|ESd|EC)\\s?){1,8}))?";
 
+    /**
+     * Compiled message pattern, shared by all parsers.
+     */
+    private static final Pattern DSMRAW_PATTERN = Pattern.compile(DSMRAW_REGEX);
+
     /**
      * Set of named groups.
      */
@@ -205,8 +210,7 @@ public class DailySummaryMessageParser extends ASOSMessageParser {
 
     @Override
     public DailySummaryRecord parse(String message) {
-        Pattern dsmPattern = Pattern.compile(DSMRAW_REGEX);
-        final Matcher matcher = dsmPattern.matcher(message);
+        final Matcher matcher = DSMRAW_PATTERN.matcher(message);
 
         Map<String, String> namedAsosMap = new HashMap<>();
 
@@ -166,6 +166,11 @@ public class MonthlySummaryMessageParser extends ASOSMessageParser {
             // 1-8 remarks from the given list
             + "(?:/\\s?(?<remarks>((?:ET|Epr|EPR|EP|ES|ESw|ESd|EC)\\s?){1,8}))?";
 
+    /**
+     * Compiled message pattern, shared by all parsers.
+     */
+    private static final Pattern MSMRAW_PATTERN = Pattern.compile(MSMRAW_REGEX);
+
     /**
      * Set of named groups.
      */
@@ -189,8 +194,7 @@ public class MonthlySummaryMessageParser extends ASOSMessageParser {
 
     @Override
     public ClimateASOSMessageRecord parse(String message) {
-        Pattern msmPattern = Pattern.compile(MSMRAW_REGEX);
-        final Matcher matcher = msmPattern.matcher(message);
+        final Matcher matcher = MSMRAW_PATTERN.matcher(message);
 
         Map<String, String> namedAsosMap = new HashMap<>();
 
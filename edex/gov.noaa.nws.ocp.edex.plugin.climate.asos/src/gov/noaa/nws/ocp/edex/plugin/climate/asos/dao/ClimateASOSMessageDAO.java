@@ -3,8 +3,15 @@
  **/
 package gov.noaa.nws.ocp.edex.plugin.climate.asos.dao;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import gov.noaa.nws.ocp.common.dataplugin.climate.asos.ClimateASOSMessageRecord;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateInvalidParameterException;
@@ -33,6 +40,18 @@ import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAO;
 
 public class ClimateASOSMessageDAO extends ClimateDAO {
 
+    /**
+     * Named query parameter, not matching a "::" cast.
+     */
+    private static final Pattern PARAM_NAME_PATTERN = Pattern
+            .compile("(?<!:):(\\w+)");
+
+    /**
+     * Maximum number of records whose existing records are counted in one
+     * query.
+     */
+    private static final int COUNT_BATCH_SIZE = 500;
+
     /**
      * Constructor.
      * 
@@ -66,21 +85,10 @@ public class ClimateASOSMessageDAO extends ClimateDAO {
             long count = ((Number) queryForOneValue(queryExisting,
                     queryExistingParams, -1l)).longValue();
 
-            String updateQuery = null;
-
             Map<String, Object> queryUpdateParams = new HashMap<>();
 
-            if (count > 0) {
-                logger.info("Record ASOS matching station code: ["
-                        + record.getStationCode()
-                        + "] for the given date already exists. Updating.");
-                updateQuery = record.toUpdateSQL(queryUpdateParams);
-            } else {
-                logger.info("No ASOS record matching station code: ["
-                        + record.getStationCode()
-                        + "] for the given date exists. Inserting new record.");
-                updateQuery = record.toInsertSQL(queryUpdateParams);
-            }
+            String updateQuery = getStoreSQL(record, count > 0,
+                    queryUpdateParams);
 
             if (updateQuery != null && !updateQuery.isEmpty()) {
                 try {
@@ -113,4 +121,233 @@ public class ClimateASOSMessageDAO extends ClimateDAO {
         }
     }
 
+    /**
+     * Save DSM / MSM records to db tables. As in
+     * {@link #storeToTable(ClimateASOSMessageRecord)}, each record is inserted
+     * if no record exists for its station and date, and updated otherwise, so
+     * no unique constraint is needed on the tables. The existing records are
+     * counted with one query per {@link #COUNT_BATCH_SIZE} records, and all
+     * inserts and updates are run as one script, in one transaction. A record
+     * repeated within the batch updates the earlier one. If the batch fails,
+     * the records are stored one at a time so that a bad record does not lose
+     * the rest.
+     * 
+     * @param records
+     * @return number of records stored.
+     * @throws ClimateQueryException
+     *             if some records could not be stored; the others are stored.
+     */
+    public int storeToTables(List<ClimateASOSMessageRecord> records)
+            throws ClimateQueryException {
+        List<ClimateASOSMessageRecord> toStore = new ArrayList<>();
+        List<String> existingQueries = new ArrayList<>();
+        List<Map<String, Object>> existingKeys = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (ClimateASOSMessageRecord record : records) {
+            if (record == null) {
+                continue;
+            }
+            Map<String, Object> existingParams = new HashMap<>();
+            try {
+                existingQueries
+                        .add(record.queryExistingRecordSQL(existingParams));
+            } catch (RuntimeException e) {
+                logger.error("Failed to store ASOS record for station code: ["
+                        + record.getStationCode() + "]", e);
+                errors.add(e.getMessage());
+                continue;
+            }
+            existingKeys.add(existingParams);
+            toStore.add(record);
+        }
+
+        List<ClimateASOSMessageRecord> storeIndividually = Collections
+                .emptyList();
+        long[] counts = null;
+        try {
+            counts = countExistingRecords(existingQueries, existingKeys);
+        } catch (ClimateQueryException e) {
+            logger.warn("Failed to count existing records for batch of ["
+                    + toStore.size()
+                    + "] ASOS records. Storing records individually.", e);
+            storeIndividually = toStore;
+        }
+
+        int stored = 0;
+        if (counts != null) {
+            StringBuilder script = new StringBuilder();
+            Map<String, Object> scriptParams = new HashMap<>();
+            List<ClimateASOSMessageRecord> batched = new ArrayList<>();
+            Set<Map<String, Object>> insertedKeys = new HashSet<>();
+
+            for (int i = 0; i < toStore.size(); i++) {
+                ClimateASOSMessageRecord record = toStore.get(i);
+                boolean exists = counts[i] > 0
+                        || insertedKeys.contains(existingKeys.get(i));
+
+                Map<String, Object> queryParams = new HashMap<>();
+                String storeQuery;
+                try {
+                    storeQuery = getStoreSQL(record, exists, queryParams);
+                } catch (RuntimeException e) {
+                    logger.error("Failed to store ASOS record for station code: ["
+                            + record.getStationCode() + "]", e);
+                    errors.add(e.getMessage());
+                    continue;
+                }
+                if (storeQuery == null || storeQuery.isEmpty()) {
+                    errors.add("No update query applicable for ASOS message for station code: ["
+                            + record.getStationCode()
+                            + "], as either station or date information may be missing.");
+                    continue;
+                }
+                if (!exists) {
+                    insertedKeys.add(existingKeys.get(i));
+                }
+
+                appendPrefixed(script, scriptParams,
+                        "r" + batched.size() + "_", storeQuery, queryParams);
+                script.append(";\n");
+                batched.add(record);
+            }
+
+            if (!batched.isEmpty()) {
+                try {
+                    getDao().executeSQLUpdate(script.toString(),
+                            scriptParams);
+                    stored = batched.size();
+                } catch (Exception e) {
+                    logger.warn("Failed to store batch of [" + batched.size()
+                            + "] ASOS records. Storing records individually.",
+                            e);
+                    storeIndividually = batched;
+                }
+            }
+        }
+
+        for (ClimateASOSMessageRecord record : storeIndividually) {
+            try {
+                storeToTable(record);
+                stored++;
+            } catch (ClimateInvalidParameterException
+                    | ClimateQueryException e) {
+                logger.error("Failed to store ASOS record for station code: ["
+                        + record.getStationCode() + "]", e);
+                errors.add(e.getMessage());
+            }
+        }
+
+        logger.info("Stored [" + stored + "] of [" + records.size()
+                + "] ASOS records.");
+
+        if (!errors.isEmpty()) {
+            throw new ClimateQueryException("Failed to store ["
+                    + errors.size() + "] ASOS records: " + errors);
+        }
+
+        return stored;
+    }
+
+    /**
+     * Run the existing record count queries of many records, with one query
+     * per {@link #COUNT_BATCH_SIZE} records.
+     * 
+     * @param existingQueries
+     *            existing record count query of each record.
+     * @param existingParams
+     *            parameters of each query.
+     * @return the number of existing records for each record.
+     * @throws ClimateQueryException
+     */
+    private long[] countExistingRecords(List<String> existingQueries,
+            List<Map<String, Object>> existingParams)
+            throws ClimateQueryException {
+        long[] counts = new long[existingQueries.size()];
+        for (int start = 0; start < counts.length; start += COUNT_BATCH_SIZE) {
+            int end = Math.min(counts.length, start + COUNT_BATCH_SIZE);
+
+            /*
+             * One row holding the count of each record as a scalar subquery.
+             */
+            StringBuilder query = new StringBuilder("SELECT ");
+            Map<String, Object> queryParams = new HashMap<>();
+            for (int i = start; i < end; i++) {
+                if (i > start) {
+                    query.append(", ");
+                }
+                query.append("(");
+                appendPrefixed(query, queryParams, "c" + i + "_",
+                        existingQueries.get(i), existingParams.get(i));
+                query.append(")");
+            }
+
+            Object[] results;
+            try {
+                results = getDao().executeSQLQuery(query.toString(),
+                        queryParams);
+            } catch (Exception e) {
+                throw new ClimateQueryException("Error with query: [" + query
+                        + "] and map: [" + queryParams + "]", e);
+            }
+            if (results == null || results.length != 1) {
+                throw new ClimateQueryException("Query: [" + query
+                        + "] and map: [" + queryParams
+                        + "] expected to return 1 row, but returned: ["
+                        + (results == null ? 0 : results.length) + "] rows.");
+            }
+
+            Object[] row = results[0] instanceof Object[]
+                    ? (Object[]) results[0] : new Object[] { results[0] };
+            for (int i = start; i < end; i++) {
+                counts[i] = ((Number) row[i - start]).longValue();
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * @param record
+     * @param exists
+     *            true if a record for the station and date already exists.
+     * @param queryParams
+     *            query map to fill out with parameters.
+     * @return parameterized query to update the existing record, or to insert
+     *         the record, or null if the record cannot be stored.
+     */
+    private String getStoreSQL(ClimateASOSMessageRecord record, boolean exists,
+            Map<String, Object> queryParams) {
+        if (exists) {
+            logger.debug("Record ASOS matching station code: ["
+                    + record.getStationCode()
+                    + "] for the given date already exists. Updating.");
+            return record.toUpdateSQL(queryParams);
+        }
+        logger.debug("No ASOS record matching station code: ["
+                + record.getStationCode()
+                + "] for the given date exists. Inserting new record.");
+        return record.toInsertSQL(queryParams);
+    }
+
+    /**
+     * Append a query whose parameters are renamed with a prefix, to keep them
+     * apart from those of other queries in the same statement or script.
+     * 
+     * @param sb
+     *            query to append to.
+     * @param allParams
+     *            map to add the renamed parameters to.
+     * @param prefix
+     * @param query
+     * @param queryParams
+     */
+    private static void appendPrefixed(StringBuilder sb,
+            Map<String, Object> allParams, String prefix, String query,
+            Map<String, Object> queryParams) {
+        sb.append(PARAM_NAME_PATTERN.matcher(query)
+                .replaceAll(":" + prefix + "$1"));
+        for (Entry<String, Object> param : queryParams.entrySet()) {
+            allParams.put(prefix + param.getKey(), param.getValue());
+        }
+    }
+
 }
@@ -3,6 +3,8 @@
  **/
 package gov.noaa.nws.ocp.edex.psh.dao;
 
+import java.util.Map.Entry;
+
 import com.raytheon.uf.common.dataplugin.PluginException;
 import com.raytheon.uf.common.dataplugin.persist.IPersistable;
 import com.raytheon.uf.common.datastorage.IDataStore;
@@ -45,9 +47,31 @@ public class PshDataDAO extends PluginDao {
 
         StormDataRecord record = (StormDataRecord) obj;
 
-        AbstractStorageRecord storageRecord = new StringDataRecord(
-                StormDataRecord.STORMDATA_XML, record.getDataURI(),
-                new String[] { record.getStormDataXML() });
+        if (record.getStormDataXML() != null) {
+            addStringRecord(dataStore, record, StormDataRecord.STORMDATA_XML,
+                    new String[] { record.getStormDataXML() });
+        }
+
+        for (Entry<String, String> part : record.getStormDataParts()
+                .entrySet()) {
+            addStringRecord(dataStore, record, part.getKey(),
+                    new String[] { part.getValue() });
+        }
+
+        if (record.getStormDataVersions() != null) {
+            addStringRecord(dataStore, record,
+                    StormDataRecord.STORMDATA_VERSIONS,
+                    record.getStormDataVersions());
+        }
+
+        return true;
+    }
+
+    private static void addStringRecord(IDataStore dataStore,
+            StormDataRecord record, String name, String[] data)
+            throws Exception {
+        AbstractStorageRecord storageRecord = new StringDataRecord(name,
+                record.getDataURI(), data);
 
         StorageProperties props = new StorageProperties();
 
@@ -55,8 +79,6 @@ public class PshDataDAO extends PluginDao {
         storageRecord.setCorrelationObject(record);
         dataStore.addDataRecord(storageRecord,
                 new DataUriMetadataIdentifier(record));
-
-        return true;
     }
 
 }
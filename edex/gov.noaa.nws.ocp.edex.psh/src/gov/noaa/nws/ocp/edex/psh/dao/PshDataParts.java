@@ -0,0 +1,332 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.psh.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.raytheon.uf.common.datastorage.DataStoreFactory;
+import com.raytheon.uf.common.datastorage.IDataStore;
+import com.raytheon.uf.common.datastorage.Request;
+import com.raytheon.uf.common.datastorage.records.IDataRecord;
+import com.raytheon.uf.common.datastorage.records.StringDataRecord;
+import com.raytheon.uf.common.serialization.SerializationException;
+import com.raytheon.uf.common.serialization.SingleTypeJAXBManager;
+
+import gov.noaa.nws.ocp.common.dataplugin.psh.EffectStormData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.FloodingStormData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.MarineStormData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.MetarStormData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.NonMetarStormData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
+import gov.noaa.nws.ocp.common.dataplugin.psh.RainfallStormData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
+import gov.noaa.nws.ocp.common.dataplugin.psh.TornadoStormData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.WaterLevelStormData;
+
+/**
+ * Splits PSH storm data into separately stored parts: a header with the storm
+ * information and issuances, and one part for the entries of each data
+ * category. Each part is a PshData XML document holding only that part, and
+ * is stored in its own dataset of the storm's data store group, so a save
+ * rewrites only the parts that changed and a retrieve can read only the
+ * categories it needs.
+ *
+ * The versions dataset has one "part version hash" entry for each stored
+ * part, the hash being of the part's XML.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public final class PshDataParts {
+
+    /**
+     * Name of the header part.
+     */
+    public static final String HEADER = "HEADER";
+
+    /**
+     * Categories stored as parts.
+     */
+    public static final List<PshDataCategory> CATEGORIES = Arrays.asList(
+            PshDataCategory.METAR, PshDataCategory.NON_METAR,
+            PshDataCategory.MARINE, PshDataCategory.RAINFALL,
+            PshDataCategory.FLOODING, PshDataCategory.WATER_LEVEL,
+            PshDataCategory.TORNADO, PshDataCategory.EFFECT);
+
+    private PshDataParts() {
+    }
+
+    /**
+     * Marshal each part of the data. The data is left as it was, except that
+     * missing categories are filled in with empty ones.
+     *
+     * @param pdata
+     * @param jaxb
+     * @return the XML of each part, by part name.
+     * @throws SerializationException
+     */
+    public static Map<String, String> marshal(PshData pdata,
+            SingleTypeJAXBManager<PshData> jaxb)
+            throws SerializationException {
+        Map<String, String> parts = new LinkedHashMap<>();
+
+        Object[] entries = new Object[CATEGORIES.size()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = getCategory(pdata, CATEGORIES.get(i));
+        }
+
+        try {
+            for (PshDataCategory category : CATEGORIES) {
+                setCategory(pdata, category, null);
+            }
+            parts.put(HEADER, jaxb.marshalToXml(pdata));
+        } finally {
+            for (int i = 0; i < entries.length; i++) {
+                setCategory(pdata, CATEGORIES.get(i), entries[i]);
+            }
+        }
+
+        for (int i = 0; i < entries.length; i++) {
+            PshData part = new PshData();
+            setCategory(part, CATEGORIES.get(i), entries[i]);
+            parts.put(CATEGORIES.get(i).name(), jaxb.marshalToXml(part));
+        }
+
+        return parts;
+    }
+
+    /**
+     * Select the parts that differ from the stored versions, and update the
+     * versions for them.
+     *
+     * @param parts
+     *            XML of each part, by part name.
+     * @param versions
+     *            stored versions, as read by {@link #retrieveVersions}. Updated
+     *            for the changed parts.
+     * @return the XML of the changed parts, by dataset name.
+     */
+    public static Map<String, String> selectChanged(Map<String, String> parts,
+            Map<String, String[]> versions) {
+        Map<String, String> changed = new LinkedHashMap<>();
+        for (Entry<String, String> part : parts.entrySet()) {
+            String hash = hash(part.getValue());
+            String[] version = versions.get(part.getKey());
+            if (version == null || !version[1].equals(hash)) {
+                int number = version == null ? 1
+                        : Integer.parseInt(version[0]) + 1;
+                versions.put(part.getKey(),
+                        new String[] { Integer.toString(number), hash });
+                changed.put(StormDataRecord.getPartDataset(part.getKey()),
+                        part.getValue());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Read the stored part versions of a storm.
+     *
+     * @param dataStore
+     * @param dataURI
+     * @return the version number and hash of each stored part, by part name;
+     *         null if the storm has no stored parts.
+     */
+    public static Map<String, String[]> retrieveVersions(IDataStore dataStore,
+            String dataURI) {
+        IDataRecord record;
+        try {
+            record = dataStore.retrieve(dataURI,
+                    StormDataRecord.STORMDATA_VERSIONS, Request.ALL);
+        } catch (Exception e) {
+            // Not stored yet, or stored as a single document.
+            return null;
+        }
+
+        Map<String, String[]> versions = new HashMap<>();
+        for (String entry : ((StringDataRecord) record).getStringData()) {
+            String[] fields = entry.split(" ");
+            if (fields.length == 3) {
+                versions.put(fields[0],
+                        new String[] { fields[1], fields[2] });
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * @param versions
+     *            version number and hash of each part, by part name.
+     * @return the versions dataset entries.
+     */
+    public static String[] toVersionEntries(Map<String, String[]> versions) {
+        List<String> entries = new ArrayList<>(versions.size());
+        for (Entry<String, String[]> version : versions.entrySet()) {
+            entries.add(version.getKey() + " " + version.getValue()[0] + " "
+                    + version.getValue()[1]);
+        }
+        return entries.toArray(new String[entries.size()]);
+    }
+
+    /**
+     * Read the header and the given categories of a storm in one request, and
+     * combine them.
+     *
+     * @param dataStore
+     * @param dataURI
+     * @param versions
+     *            stored versions, as read by {@link #retrieveVersions}.
+     * @param categories
+     *            categories to read.
+     * @param jaxb
+     * @return the storm data, with empty entries for the categories not read.
+     * @throws Exception
+     */
+    public static PshData retrieve(IDataStore dataStore, String dataURI,
+            Map<String, String[]> versions,
+            Collection<PshDataCategory> categories,
+            SingleTypeJAXBManager<PshData> jaxb) throws Exception {
+        List<String> partNames = new ArrayList<>();
+        partNames.add(HEADER);
+        for (PshDataCategory category : categories) {
+            if (versions.containsKey(category.name())) {
+                partNames.add(category.name());
+            }
+        }
+
+        String[] paths = new String[partNames.size()];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = dataURI + DataStoreFactory.DEF_SEPARATOR
+                    + StormDataRecord.getPartDataset(partNames.get(i));
+        }
+        IDataRecord[] records = dataStore.retrieveDatasets(paths, Request.ALL);
+
+        PshData pdata = null;
+        Map<PshDataCategory, PshData> categoryParts = new HashMap<>();
+        for (IDataRecord record : records) {
+            PshData part = jaxb.unmarshalFromXml(
+                    ((StringDataRecord) record).getStringData()[0]);
+            String name = record.getName();
+            if (name.equals(StormDataRecord.getPartDataset(HEADER))) {
+                pdata = part;
+            } else {
+                for (PshDataCategory category : CATEGORIES) {
+                    if (name.equals(StormDataRecord
+                            .getPartDataset(category.name()))) {
+                        categoryParts.put(category, part);
+                    }
+                }
+            }
+        }
+
+        if (pdata == null) {
+            throw new Exception("No PSH header stored for " + dataURI);
+        }
+        for (Entry<PshDataCategory, PshData> part : categoryParts
+                .entrySet()) {
+            setCategory(pdata, part.getKey(),
+                    getCategory(part.getValue(), part.getKey()));
+        }
+        return pdata;
+    }
+
+    /**
+     * @param xml
+     * @return hex SHA-256 hash of the XML.
+     */
+    private static String hash(String xml) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Required of every Java platform.
+            throw new IllegalStateException(e);
+        }
+        byte[] bytes = digest.digest(xml.getBytes(StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static Object getCategory(PshData pdata,
+            PshDataCategory category) {
+        switch (category) {
+        case METAR:
+            return pdata.getMetar();
+        case NON_METAR:
+            return pdata.getNonmetar();
+        case MARINE:
+            return pdata.getMarine();
+        case RAINFALL:
+            return pdata.getRainfall();
+        case FLOODING:
+            return pdata.getFlooding();
+        case WATER_LEVEL:
+            return pdata.getWaterLevel();
+        case TORNADO:
+            return pdata.getTornado();
+        case EFFECT:
+            return pdata.getEffect();
+        default:
+            throw new IllegalArgumentException(
+                    "No PSH data for category " + category);
+        }
+    }
+
+    private static void setCategory(PshData pdata, PshDataCategory category,
+            Object entries) {
+        switch (category) {
+        case METAR:
+            pdata.setMetar((MetarStormData) entries);
+            break;
+        case NON_METAR:
+            pdata.setNonmetar((NonMetarStormData) entries);
+            break;
+        case MARINE:
+            pdata.setMarine((MarineStormData) entries);
+            break;
+        case RAINFALL:
+            pdata.setRainfall((RainfallStormData) entries);
+            break;
+        case FLOODING:
+            pdata.setFlooding((FloodingStormData) entries);
+            break;
+        case WATER_LEVEL:
+            pdata.setWaterLevel((WaterLevelStormData) entries);
+            break;
+        case TORNADO:
+            pdata.setTornado((TornadoStormData) entries);
+            break;
+        case EFFECT:
+            pdata.setEffect((EffectStormData) entries);
+            break;
+        default:
+            throw new IllegalArgumentException(
+                    "No PSH data for category " + category);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package gov.noaa.nws.ocp.edex.psh.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.raytheon.uf.common.serialization.comm.IRequestHandler;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+import gov.noaa.nws.ocp.common.dataplugin.psh.MetarDataEntry;
+import gov.noaa.nws.ocp.common.dataplugin.psh.request.MetarStormDataMultiRetrieveRequest;
+import gov.noaa.nws.ocp.common.dataplugin.psh.request.MetarStormDataRetrieveRequest;
+
+/**
+ * MetarStormDataMultiRetrieveHandler
+ * 
+ * Retrieves the Metar storm data of several stations, in parallel. The number
+ * of stations retrieved concurrently is read from system property
+ * {@value #THREADS_PROPERTY} (default {@value #DEFAULT_THREADS}).
+ * 
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public class MetarStormDataMultiRetrieveHandler
+        implements IRequestHandler<MetarStormDataMultiRetrieveRequest> {
+
+    private static final IUFStatusHandler logger = UFStatus
+            .getHandler(MetarStormDataMultiRetrieveHandler.class);
+
+    /**
+     * System property for the number of stations retrieved concurrently.
+     */
+    public static final String THREADS_PROPERTY = "psh.metar.retrieve.threads";
+
+    /**
+     * Default number of stations retrieved concurrently.
+     */
+    public static final int DEFAULT_THREADS = 4;
+
+    /**
+     * Worker pool for station retrievals, created on first use.
+     */
+    private static ExecutorService executor;
+
+    @Override
+    public List<MetarDataEntry> handleRequest(
+            MetarStormDataMultiRetrieveRequest request) throws Exception {
+
+        List<MetarStormDataRetrieveRequest> stationRequests = request
+                .getStationRequests();
+
+        ExecutorService pool = getExecutor();
+        List<Future<MetarDataEntry>> futures = new ArrayList<>(
+                stationRequests.size());
+        for (MetarStormDataRetrieveRequest stationRequest : stationRequests) {
+            futures.add(pool.submit(() -> MetarStormDataRetrieveHandler
+                    .retrieve(stationRequest)));
+        }
+
+        List<MetarDataEntry> entries = new ArrayList<>(stationRequests.size());
+        for (int i = 0; i < futures.size(); i++) {
+            MetarStormDataRetrieveRequest stationRequest = stationRequests
+                    .get(i);
+            MetarDataEntry entry;
+            try {
+                entry = futures.get(i).get();
+            } catch (ExecutionException e) {
+                logger.error("Failed to retrieve Metar storm data for station "
+                        + stationRequest.getStation(), e.getCause());
+                entry = new MetarDataEntry();
+                entry.setSite(stationRequest.getStation());
+                entry.setLat(stationRequest.getLat());
+                entry.setLon(stationRequest.getLon());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Future<MetarDataEntry> future : futures) {
+                    future.cancel(true);
+                }
+                throw e;
+            }
+            entries.add(entry);
+        }
+
+        return entries;
+    }
+
+    /**
+     * @return the worker pool, creating it if needed.
+     */
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            Integer threads = Integer.getInteger(THREADS_PROPERTY);
+            if (threads == null || threads < 1) {
+                if (threads != null) {
+                    logger.warn("Invalid " + THREADS_PROPERTY + " [" + threads
+                            + "]; using " + DEFAULT_THREADS);
+                }
+                threads = DEFAULT_THREADS;
+            }
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads,
+                    60, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+                    new ThreadFactory() {
+                        private final AtomicInteger count = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r,
+                                    "pshMetar-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+        return executor;
+    }
+
+}
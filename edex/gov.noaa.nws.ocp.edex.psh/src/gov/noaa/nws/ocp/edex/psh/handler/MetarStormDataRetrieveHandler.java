@@ -2,13 +2,13 @@ package gov.noaa.nws.ocp.edex.psh.handler;
 
 import java.util.List;
 
-import com.raytheon.uf.common.dataplugin.text.db.StdTextProduct;
 import com.raytheon.uf.common.serialization.comm.IRequestHandler;
 
 import gov.noaa.nws.ocp.common.dataplugin.psh.MetarDataEntry;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.MetarStormDataRetrieveRequest;
+import gov.noaa.nws.ocp.edex.psh.parser.MetarProductCache;
 import gov.noaa.nws.ocp.edex.psh.parser.MetarStormDataParser;
-import gov.noaa.nws.ocp.edex.psh.textdb.dao.PshTextDB;
+import gov.noaa.nws.ocp.edex.psh.parser.MetarStormDataParser.ParsedProduct;
 
 /**
  * MetarStormDataRetrieveHandler
@@ -33,11 +33,25 @@ public class MetarStormDataRetrieveHandler
     public MetarDataEntry handleRequest(MetarStormDataRetrieveRequest request)
             throws Exception {
 
-        List<StdTextProduct> mtrSet = PshTextDB.retrieveMetarProduct(
-                request.getNode(), request.getStation(), null, true);
+        return retrieve(request);
 
-        return new MetarStormDataParser().parse(mtrSet, request.getStation(),
-                request.getLat(), request.getLon(), request.getPeriod());
+    }
+
+    /**
+     * Retrieve and parse the Metar storm data of one station.
+     * 
+     * @param request
+     * @return the storm data of the station
+     */
+    static MetarDataEntry retrieve(MetarStormDataRetrieveRequest request) {
+
+        List<ParsedProduct> products = MetarProductCache.getInstance()
+                .getParsedProducts(request.getNode(), request.getStation(),
+                        true);
+
+        return new MetarStormDataParser().parseProducts(products,
+                request.getStation(), request.getLat(), request.getLon(),
+                request.getPeriod());
 
     }
 
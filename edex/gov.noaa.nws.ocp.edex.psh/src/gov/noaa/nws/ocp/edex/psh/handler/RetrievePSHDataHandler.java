@@ -3,6 +3,9 @@
  **/
 package gov.noaa.nws.ocp.edex.psh.handler;
 
+import java.util.List;
+import java.util.Map;
+
 import com.raytheon.uf.common.datastorage.IDataStore;
 import com.raytheon.uf.common.datastorage.Request;
 import com.raytheon.uf.common.datastorage.records.IDataRecord;
@@ -13,8 +16,10 @@ import com.raytheon.uf.edex.database.plugin.PluginDao;
 import com.raytheon.uf.edex.database.plugin.PluginFactory;
 
 import gov.noaa.nws.ocp.common.dataplugin.psh.PshData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
 import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.RetrievePSHDataRequest;
+import gov.noaa.nws.ocp.edex.psh.dao.PshDataParts;
 import gov.noaa.nws.ocp.edex.psh.util.PshEdexUtil;
 
 /**
@@ -58,6 +63,18 @@ public class RetrievePSHDataHandler
 
             IDataStore dataStore = dao.getDataStore(record);
 
+            Map<String, String[]> versions = PshDataParts
+                    .retrieveVersions(dataStore, record.getDataURI());
+            if (versions != null) {
+                List<PshDataCategory> categories = request.getCategories();
+                if (categories == null || categories.isEmpty()) {
+                    categories = PshDataParts.CATEGORIES;
+                }
+                return PshDataParts.retrieve(dataStore, record.getDataURI(),
+                        versions, categories, jaxb);
+            }
+
+            // Stored as a single document before parts were used.
             records = dataStore.retrieve(record.getDataURI(),
                     StormDataRecord.STORMDATA_XML, Request.ALL);
 
@@ -4,6 +4,9 @@
 package gov.noaa.nws.ocp.edex.psh.handler;
 
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.raytheon.uf.common.datastorage.StorageStatus;
 import com.raytheon.uf.common.serialization.SingleTypeJAXBManager;
@@ -18,6 +21,7 @@ import gov.noaa.nws.ocp.common.dataplugin.psh.PshData;
 import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.SavePSHDataRequest;
 import gov.noaa.nws.ocp.common.localization.psh.PshConfigurationManager;
+import gov.noaa.nws.ocp.edex.psh.dao.PshDataParts;
 import gov.noaa.nws.ocp.edex.psh.util.PshEdexUtil;
 
 /**
@@ -48,6 +52,14 @@ public class SavePSHDataHandler implements IRequestHandler<SavePSHDataRequest> {
 
     private final static String PSH = "psh";
 
+    /**
+     * Locks by storm data URI. A save reads the stored part versions, then
+     * writes the parts that changed and the new versions; saves of the same
+     * storm hold its lock so that one does not write versions read before the
+     * other's write. There is one lock per storm saved.
+     */
+    private static final Map<String, Object> saveLocks = new ConcurrentHashMap<>();
+
     /**
      * Logger.
      */
@@ -66,9 +78,9 @@ public class SavePSHDataHandler implements IRequestHandler<SavePSHDataRequest> {
                 pdata.getBasinName(), pdata.getYear(), pdata.getStormName());
         rec.setForecaster(pdata.getForecaster());
 
-        String xmlString = "";
+        Map<String, String> parts;
         try {
-            xmlString = jaxb.marshalToXml(pdata);
+            parts = PshDataParts.marshal(pdata, jaxb);
         } catch (Exception e1) {
             throw new Exception(
                     "SavePshDataHandler - Failed to marshal PshObject to XML "
@@ -76,34 +88,47 @@ public class SavePSHDataHandler implements IRequestHandler<SavePSHDataRequest> {
                     e1);
         }
 
-        rec.setStormDataXML(xmlString);
-
-        // Current date time
-        Calendar now = TimeUtil.newCalendar();
-        rec.setInsertTime(now);
-
-        rec.setOverwriteAllowed(true);
-
-        StormDataRecord[] records = new StormDataRecord[1];
-        records[0] = rec;
-        try {
-            StorageStatus status = dao.persistToHDF5(records);
-
-            if (status.getExceptions().length > 0) {
-                logger.warn(status.getExceptions().toString());
-
-                return false;
-            } else {
-                dao.persistToDatabase(records);
+        Object saveLock = saveLocks.computeIfAbsent(rec.getDataURI(),
+                k -> new Object());
+        synchronized (saveLock) {
+            // Write only the parts that changed since the last save.
+            Map<String, String[]> versions = PshDataParts
+                    .retrieveVersions(dao.getDataStore(rec), rec.getDataURI());
+            if (versions == null) {
+                versions = new HashMap<>();
+            }
+            rec.setStormDataParts(PshDataParts.selectChanged(parts, versions));
+            rec.setStormDataVersions(PshDataParts.toVersionEntries(versions));
+
+            // Current date time
+            Calendar now = TimeUtil.newCalendar();
+            rec.setInsertTime(now);
+
+            rec.setOverwriteAllowed(true);
+
+            StormDataRecord[] records = new StormDataRecord[1];
+            records[0] = rec;
+            try {
+                StorageStatus status = dao.persistToHDF5(records);
+
+                if (status.getExceptions().length > 0) {
+                    logger.warn(status.getExceptions().toString());
+
+                    return false;
+                } else {
+                    dao.persistToDatabase(records);
+                }
+            } catch (Exception e) {
+                throw new Exception("SavePshDataHandler - Failed to store "
+                        + rec.getDataURI(), e);
             }
-        } catch (Exception e) {
-            throw new Exception(
-                    "SavePshDataHandler - Failed to store " + rec.getDataURI(),
-                    e);
         }
 
         // Export if desired.
-        PshEdexUtil.exportProduct(xmlString, pdata, PshEdexUtil.PSH_XML_FILE);
+        if (PshEdexUtil.isExportEnabled()) {
+            PshEdexUtil.exportProduct(jaxb.marshalToXml(pdata), pdata,
+                    PshEdexUtil.PSH_XML_FILE);
+        }
 
         return true;
     }
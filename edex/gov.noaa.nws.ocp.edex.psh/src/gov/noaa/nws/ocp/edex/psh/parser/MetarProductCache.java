@@ -0,0 +1,315 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ */
+package gov.noaa.nws.ocp.edex.psh.parser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.raytheon.uf.common.dataplugin.text.db.StdTextProduct;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+
+import gov.noaa.nws.ocp.edex.psh.parser.MetarStormDataParser.ParsedProduct;
+import gov.noaa.nws.ocp.edex.psh.textdb.dao.PshTextDB;
+
+/**
+ * Cache of parsed Metar products by station, so that retrieving storm data
+ * again for a station only reads and parses the products stored since the
+ * last retrieval. Newer products are read one version at a time, back to the
+ * newest cached product; all products are read when the station is not
+ * cached, or has more new products than are worth reading one at a time.
+ *
+ * Each station keeps only the products within {@link #RETENTION_HOURS} of its
+ * latest product, which covers the longest storm period. Stations not
+ * retrieved for {@link #STATION_IDLE_HOURS} are dropped, and at most
+ * {@value #DEFAULT_MAX_STATIONS} stations (system property
+ * {@value #MAX_STATIONS_PROPERTY}) are kept, least recently retrieved dropped
+ * first.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public class MetarProductCache {
+
+    private static final IUFStatusHandler logger = UFStatus
+            .getHandler(MetarProductCache.class);
+
+    /**
+     * System property for the maximum number of stations cached.
+     */
+    public static final String MAX_STATIONS_PROPERTY = "psh.metar.cache.stations";
+
+    /**
+     * Default maximum number of stations cached.
+     */
+    public static final int DEFAULT_MAX_STATIONS = 200;
+
+    /**
+     * Hours of products kept before a station's latest product: the longest
+     * storm period of 72 hours, and a day to spare.
+     */
+    public static final long RETENTION_HOURS = 96;
+
+    /**
+     * Hours after which a station not retrieved is dropped.
+     */
+    public static final long STATION_IDLE_HOURS = 24;
+
+    /**
+     * Most product versions read one at a time before reading all products
+     * instead.
+     */
+    private static final int MAX_VERSIONS_READ = 12;
+
+    private static final MetarProductCache instance = new MetarProductCache();
+
+    /**
+     * A parsed product and its text database insert time.
+     */
+    private static final class CachedProduct {
+
+        private final long insertTime;
+
+        private final String text;
+
+        private final ParsedProduct parsed;
+
+        private CachedProduct(long insertTime, String text,
+                ParsedProduct parsed) {
+            this.insertTime = insertTime;
+            this.text = text;
+            this.parsed = parsed;
+        }
+    }
+
+    /**
+     * The cached products of one station. Lock it while using it.
+     */
+    private static final class StationProducts {
+
+        /**
+         * Products, latest first.
+         */
+        private List<CachedProduct> products = new ArrayList<>();
+
+        private long lastUsed;
+    }
+
+    /**
+     * Cached stations by node and station, least recently retrieved first.
+     */
+    private final LinkedHashMap<String, StationProducts> stations = new LinkedHashMap<>(
+            16, 0.75f, true);
+
+    private final int maxStations;
+
+    private MetarProductCache() {
+        Integer max = Integer.getInteger(MAX_STATIONS_PROPERTY);
+        if (max == null || max < 1) {
+            if (max != null) {
+                logger.warn("Invalid " + MAX_STATIONS_PROPERTY + " [" + max
+                        + "]; using " + DEFAULT_MAX_STATIONS);
+            }
+            max = DEFAULT_MAX_STATIONS;
+        }
+        maxStations = max;
+    }
+
+    /**
+     * @return the cache instance
+     */
+    public static MetarProductCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Get the parsed products of a station, reading and parsing only products
+     * stored since the previous retrieval for the station.
+     *
+     * @param node
+     * @param station
+     * @param operationalMode
+     * @return the parsed products, latest first.
+     */
+    public List<ParsedProduct> getParsedProducts(String node, String station,
+            boolean operationalMode) {
+        StationProducts entry = getStation(node + station);
+        synchronized (entry) {
+            List<StdTextProduct> newProducts = readNewProducts(entry, node,
+                    station, operationalMode);
+            if (newProducts == null) {
+                entry.products = parse(PshTextDB.retrieveMetarProduct(node,
+                        station, null, operationalMode), entry.products);
+            } else if (!newProducts.isEmpty()) {
+                List<CachedProduct> products = parse(newProducts,
+                        entry.products);
+                products.addAll(entry.products);
+                entry.products = products;
+            }
+            trim(entry);
+
+            List<ParsedProduct> parsed = new ArrayList<>(
+                    entry.products.size());
+            for (CachedProduct product : entry.products) {
+                parsed.add(product.parsed);
+            }
+            return parsed;
+        }
+    }
+
+    /**
+     * Remove all cached products.
+     */
+    public synchronized void clear() {
+        stations.clear();
+    }
+
+    /**
+     * Get the entry of a station, creating it if needed, and drop idle and
+     * least recently retrieved stations.
+     *
+     * @param key
+     *            node and station
+     * @return the entry
+     */
+    private synchronized StationProducts getStation(String key) {
+        long now = System.currentTimeMillis();
+        long idleCutoff = now - TimeUnit.HOURS.toMillis(STATION_IDLE_HOURS);
+        Iterator<StationProducts> iter = stations.values().iterator();
+        while (iter.hasNext()) {
+            if (iter.next().lastUsed < idleCutoff) {
+                iter.remove();
+            }
+        }
+
+        StationProducts entry = stations.get(key);
+        if (entry == null) {
+            entry = new StationProducts();
+            stations.put(key, entry);
+        }
+        entry.lastUsed = now;
+
+        iter = stations.values().iterator();
+        while (stations.size() > maxStations && iter.hasNext()) {
+            iter.next();
+            iter.remove();
+        }
+        return entry;
+    }
+
+    /**
+     * Read the products stored since the latest cached product, one version
+     * at a time.
+     *
+     * @param entry
+     * @param node
+     * @param station
+     * @param operationalMode
+     * @return the new products, latest first, or null if all products must
+     *         be read instead.
+     */
+    private static List<StdTextProduct> readNewProducts(StationProducts entry,
+            String node, String station, boolean operationalMode) {
+        if (entry.products.isEmpty()) {
+            return null;
+        }
+        long latest = entry.products.get(0).insertTime;
+        if (latest < 0) {
+            return null;
+        }
+
+        List<StdTextProduct> newProducts = new ArrayList<>();
+        for (int version = 0; version < MAX_VERSIONS_READ; version++) {
+            List<StdTextProduct> found = PshTextDB.retrieveMetarProductVersion(
+                    node, station, version, operationalMode);
+            if (found == null || found.isEmpty()) {
+                return newProducts;
+            }
+            long insertTime = getInsertTime(found.get(0));
+            if (insertTime < 0) {
+                return null;
+            }
+            if (insertTime <= latest) {
+                return newProducts;
+            }
+            newProducts.add(found.get(0));
+        }
+        return null;
+    }
+
+    /**
+     * Parse products, reusing those already parsed.
+     *
+     * @param metarProducts
+     * @param cached
+     *            products already parsed.
+     * @return the parsed products, in the order of metarProducts.
+     */
+    private static List<CachedProduct> parse(
+            List<StdTextProduct> metarProducts, List<CachedProduct> cached) {
+        Map<String, ParsedProduct> known = new HashMap<>();
+        for (CachedProduct product : cached) {
+            known.put(product.text, product.parsed);
+        }
+
+        List<CachedProduct> parsed = new ArrayList<>(metarProducts.size());
+        for (StdTextProduct stp : metarProducts) {
+            String text = stp.getProduct();
+            ParsedProduct product = known.get(text);
+            if (product == null) {
+                product = MetarStormDataParser.parseProduct(text);
+                known.put(text, product);
+            }
+            parsed.add(new CachedProduct(getInsertTime(stp), text, product));
+        }
+        return parsed;
+    }
+
+    /**
+     * Drop products more than {@link #RETENTION_HOURS} older than the latest
+     * product of the station.
+     *
+     * @param entry
+     */
+    private static void trim(StationProducts entry) {
+        if (entry.products.isEmpty()
+                || entry.products.get(0).insertTime < 0) {
+            return;
+        }
+        long cutoff = entry.products.get(0).insertTime
+                - TimeUnit.HOURS.toMillis(RETENTION_HOURS);
+        Iterator<CachedProduct> iter = entry.products.iterator();
+        while (iter.hasNext()) {
+            long insertTime = iter.next().insertTime;
+            if (insertTime >= 0 && insertTime < cutoff) {
+                iter.remove();
+            }
+        }
+    }
+
+    /**
+     * @param stp
+     * @return the insert time of the product in milliseconds, or -1 if not
+     *         known.
+     */
+    private static long getInsertTime(StdTextProduct stp) {
+        return stp.getInsertTime() == null ? -1
+                : stp.getInsertTime().getTimeInMillis();
+    }
+}
@@ -94,6 +94,65 @@ public class MetarStormDataParser {
      */
     public MetarDataEntry parse(List<StdTextProduct> metarProducts,
             String station, float lat, float lon, int period) {
+        List<ParsedProduct> products = new ArrayList<>(metarProducts.size());
+        for (StdTextProduct stp : metarProducts) {
+            products.add(parseProduct(stp.getProduct()));
+        }
+        return parseProducts(products, station, lat, lon, period);
+    }
+
+    /**
+     * Parse the text of one Metar product.
+     * 
+     * @param product
+     *            product text
+     * @return the parsed product
+     */
+    public static ParsedProduct parseProduct(String product) {
+        String[] lineArray = product.split(NEW_LINE);
+
+        // each line of text product
+        MetarTextLine mline = null;
+        int startTime = -1;
+        int startDay = -1;
+        for (int i = 0; i < lineArray.length; i++) {
+
+            if (METAR_SPECI_EXP.matcher(lineArray[i]).find()) {
+                mline = new MetarTextLine(lineArray[i]);
+
+                // Get the time of the first entry
+                if (startTime == -1 || startDay == -1) {
+                    startTime = mline.getHhmm();
+                    startDay = mline.getDay();
+                }
+            } else if (mline != null) {
+                mline.mergeToOneLine(lineArray[i]);
+            }
+        }
+
+        if (mline == null) {
+            logger.warn("Could not parse Metar product:\n [" + product + "]");
+        } else {
+            mline.determineContentType();
+        }
+
+        return new ParsedProduct(mline, startDay, startTime);
+    }
+
+    /**
+     * Parse the latest Metar products based on given period
+     * 
+     * @param products
+     *            products parsed by {@link #parseProduct(String)}, latest
+     *            first.
+     * @param station
+     * @param lat
+     * @param lon
+     * @param period
+     * @return
+     */
+    public MetarDataEntry parseProducts(List<ParsedProduct> products,
+            String station, float lat, float lon, int period) {
         MetarDataEntry osd = new MetarDataEntry();
         // osd.setCategory(PshDataCategory.METAR);
         osd.setSite(station);
@@ -109,35 +168,18 @@ public class MetarStormDataParser {
         int startDay = -1;
 
         // each product
-        for (StdTextProduct stp : metarProducts) {
-
-            String[] lineArray = stp.getProduct().split(NEW_LINE);
-
-            // each line of text product
-            MetarTextLine mline = null;
-            for (int i = 0; i < lineArray.length; i++) {
-
-                if (METAR_SPECI_EXP.matcher(lineArray[i]).find()) {
-                    mline = new MetarTextLine(lineArray[i]);
-
-                    // Get the start time. Assumes the latest entry has the
-                    // latest date-time.
-                    if (startTime == -1 || startDay == -1) {
-                        startTime = mline.getHhmm();
-                        startDay = mline.getDay();
-                    }
-                } else if (mline != null) {
-                    mline.mergeToOneLine(lineArray[i]);
-                }
-            }
-
+        for (ParsedProduct product : products) {
+            MetarTextLine mline = product.getLine();
             if (mline == null) {
-                logger.warn("Could not parse Metar product:\n ["
-                        + stp.getProduct() + "]");
                 continue;
             }
 
-            mline.determineContentType();
+            // Get the start time. Assumes the latest entry has the latest
+            // date-time.
+            if (startTime == -1 || startDay == -1) {
+                startTime = product.getStartTime();
+                startDay = product.getStartDay();
+            }
 
             // Add into list
             if (mline.isContainSLP()) {
@@ -185,7 +227,7 @@ public class MetarStormDataParser {
 
         for (int i = 0; i < length; i++) {
             MetarTextLine mtl = sortedSLPList.get(i);
-            String[] elems = mtl.getTextLine().split("\\s+");
+            String[] elems = mtl.getElements();
             boolean updateSLP = false;
 
             // Extract the SLP value
@@ -287,7 +329,7 @@ public class MetarStormDataParser {
             int windHHMM = 0;
 
             MetarTextLine mtl = sortedWindList.get(i);
-            String[] elems = mtl.getTextLine().split("\\s+");
+            String[] elems = mtl.getElements();
 
             // Extract the wind values
             for (int j = 0; j < elems.length; j++) {
@@ -473,4 +515,46 @@ public class MetarStormDataParser {
 
     }
 
+    /**
+     * A Metar product parsed once: its last Metar entry merged with the lines
+     * that follow it, and the time of its first Metar entry. Parsed products
+     * are not modified afterwards, so they may be shared between requests.
+     */
+    public static class ParsedProduct {
+
+        private final MetarTextLine line;
+
+        private final int startDay;
+
+        private final int startTime;
+
+        private ParsedProduct(MetarTextLine line, int startDay,
+                int startTime) {
+            this.line = line;
+            this.startDay = startDay;
+            this.startTime = startTime;
+        }
+
+        /**
+         * @return the last Metar entry, or null if the product has none
+         */
+        public MetarTextLine getLine() {
+            return line;
+        }
+
+        /**
+         * @return the day of the first Metar entry
+         */
+        public int getStartDay() {
+            return startDay;
+        }
+
+        /**
+         * @return the hhmm of the first Metar entry
+         */
+        public int getStartTime() {
+            return startTime;
+        }
+    }
+
 }
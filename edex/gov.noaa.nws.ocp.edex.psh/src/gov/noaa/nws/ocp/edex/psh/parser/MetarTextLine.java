@@ -36,6 +36,11 @@ public class MetarTextLine {
 
     private String textLine;
 
+    /**
+     * Elements of the text line, split on white space.
+     */
+    private String[] elements;
+
     private static final IUFStatusHandler logger = UFStatus
             .getHandler(MetarTextLine.class);
 
@@ -84,6 +89,7 @@ public class MetarTextLine {
      */
     public void mergeToOneLine(String line) {
         this.textLine = this.textLine + " " + line.trim();
+        this.elements = null;
     }
 
     /**
@@ -92,6 +98,7 @@ public class MetarTextLine {
      */
     public void determineContentType() {
         if (textLine != null) {
+            this.elements = textLine.split("\\s+");
 
             if (MetarStormDataParser.WIND_GROUP_EXP_KT.matcher(this.textLine)
                     .find()) {
@@ -104,6 +111,16 @@ public class MetarTextLine {
         }
     }
 
+    /**
+     * @return the elements of the text line, split on white space
+     */
+    public String[] getElements() {
+        if (elements == null) {
+            elements = textLine.split("\\s+");
+        }
+        return elements;
+    }
+
     /**
      * @return the day
      */
@@ -177,6 +194,7 @@ public class MetarTextLine {
      */
     public void setTextLine(String textLine) {
         this.textLine = textLine;
+        this.elements = null;
     }
 
 }
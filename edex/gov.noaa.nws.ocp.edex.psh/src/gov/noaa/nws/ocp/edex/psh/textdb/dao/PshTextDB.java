@@ -55,6 +55,30 @@ public class PshTextDB {
 
     }
 
+    /**
+     * Retrieve one version of the Metar product of a station
+     * 
+     * @param node
+     * @param station
+     * @param version
+     *            0 for the latest product, 1 for the one before it, and so on
+     * @param operationalMode
+     * @return the product, or an empty list if there is no such version
+     */
+    public static List<StdTextProduct> retrieveMetarProductVersion(
+            String node, String station, int version,
+            boolean operationalMode) {
+        StringBuilder sb = new StringBuilder();
+        if (version > 0) {
+            sb.append("-").append(version).append(":");
+        }
+        sb.append(node);
+        sb.append("MTR");
+        sb.append(station);
+
+        return tdb.executeAFOSCommand(sb.toString(), null, operationalMode);
+    }
+
     /**
      * Retrieve LSR products
      * 
@@ -106,6 +106,17 @@ public class PshEdexUtil {
                 msgBody, null);
     }
 
+    /**
+     * @return true if PSH products are configured to be exported.
+     */
+    public static boolean isExportEnabled() {
+        PshExportType export = PshConfigurationManager.getInstance()
+                .getConfigHeader().getExportProduct();
+
+        return export == PshExportType.LOCALIZATION
+                || export == PshExportType.USER;
+    }
+
     /**
      * Export PSH product content to the configured directory. If any part of
      * the directory path does not exist, create it. If the file does not exist,
@@ -119,11 +130,7 @@ public class PshEdexUtil {
     public static void exportProduct(String product, PshData pdata,
             String fileName) {
 
-        PshExportType export = PshConfigurationManager.getInstance()
-                .getConfigHeader().getExportProduct();
-
-        if (export == PshExportType.LOCALIZATION
-                || export == PshExportType.USER) {
+        if (isExportEnabled()) {
 
             String dir = PshConfigurationManager.getInstance().getConfigHeader()
                     .getExportDir();
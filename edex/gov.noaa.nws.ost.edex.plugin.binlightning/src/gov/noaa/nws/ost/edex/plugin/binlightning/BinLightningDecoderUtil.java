@@ -78,122 +78,156 @@ public class BinLightningDecoderUtil {
     static final byte OTHER_RPT = (byte)0xD0;
     static final byte COMM_RPT = (byte)0xD1;
 
+    /* Offsets of the little-endian fields within a lightning data record */
+    private static final int SECONDS_OFFSET = 2;
+
+    private static final int MILLISECONDS_OFFSET = 6;
+
+    private static final int LAT_OFFSET = 8;
+
+    private static final int LON_OFFSET = 12;
+
+    private static final int VENDOR_OFFSET = 16;
+
+    private static final int STROKE_TYPE_OFFSET = 18;
+
+    private static final int KILO_AMPS_OFFSET = 20;
+
+    private static final int MULTIPLICITY_OFFSET = 22;
+
     private static IUFStatusHandler logger = UFStatus
             .getHandler(BinLightningDecoderUtil.class);
 
+    /**
+     * decode the new bin lightning data, after the data record is decrypted,
+     * and it is not keep-alive record
+     * 
+     * Fields are read in place from a single little-endian view of the data,
+     * rather than copying each record into its own buffer.
+     * 
+     * @param data
+     * @return all strikes in the data
+     */
+    public static List<LightningStrikePoint> decodeDecryptedBinLightningData(
+            byte[] data) {
+        int recordCount = data.length / BINLIGHTNING_RECORD_SIZE;
+        List<LightningStrikePoint> strikes = new ArrayList<LightningStrikePoint>(
+                recordCount);
+        if (recordCount == 0) {
+            return strikes;
+        }
 
-	
-	/**
-	 * decode the new bin lightning data, after the data record is decrypted, and it is not keep-alive record
-	 * @param pdata
-	 * @return
-	 */
-	public static List<LightningStrikePoint> decodeDecryptedBinLightningData(byte[] data) {
-		List<LightningStrikePoint> strikes = new ArrayList<LightningStrikePoint>();
-		
-		int offset = 0;
-		// length of data to be put in ByteBuffer for easier reading of the little-endian data
-		//   data put into ByteBuffer would be byte 2 to byte 27 (skipping leading 2 type bytes and trailing 4 terminator bytes) 
-		int dataLen = BINLIGHTNING_RECORD_SIZE - 2 - LAST_TERM_BYTES.length;
-		
-		for (int i = 0; i < data.length / BINLIGHTNING_RECORD_SIZE; i++) {
-			ByteBuffer buffer = ByteBuffer.allocate(dataLen);
-			buffer.order(ByteOrder.LITTLE_ENDIAN);
-	
-			// put the data into ByteBuffer
-			offset = i * BINLIGHTNING_RECORD_SIZE;
-			buffer.put(data, offset + 2, dataLen);
-
-			// Reset buffer position to read in data we just stored.
-			buffer.position(0);
-			
-			// Do NOT change the read order below
-			// read signed 16 bit integer as short and assigned to short
-			// read other 16 bit (unsigned) integer as short, but assign to int after bit & with 0xffff, so no negatives when first bit is 1 
-			// Read count of seconds first
-			long epochSeconds = buffer.getInt() & 0xffffffffL;
-			// Convert to millisecond and add on millisecond offset
-			int miliseconds = buffer.getShort() & 0xffff; // valid range: 0 to 999
-			long epochTime = epochSeconds * 1000 + miliseconds;
-	
-			// read lat/lon as float 
-			float lat = buffer.getFloat(); // valid range: -90.0 to 90.0
-			float lon = buffer.getFloat(); // valid range: -180.0 to 180.0
-	
-			// vendor, 0x01 for CONUS, i.e. NLD data;
-			//         0x02 for long range source, GLD360? 
-			int vendor = buffer.getShort() & 0xffff; // valid values: 0x0001 (CONUS) or 0x0002 (long range source)
-
-			int strokeType = buffer.getShort() & 0xffff; // 0x0000 for cloud-to-ground, 0x00ff for cloud-to-cloud, 0xffff for total flash
-			short strokeKiloAmps = buffer.getShort(); // valid range: -254 to 254, specifically 16 bit signed integer
-			int strokeMultiplicity = buffer.getShort() & 0xffff; // i.e. stroke count, valid range: 0 to 15
-            // int strokeDuration = buffer.getShort() & 0xffff; // valid range:
-            // 0 to 65535 (i.e., looks like unsigned short)
-            // int reserved = buffer.getShort() & 0xffff;
-
-            // Create the strike record from the report info and base time information. 
-			Calendar cal = Calendar.getInstance();
-			cal.setTimeInMillis(epochTime);
-			
-            /*
-             * new spec does not seem to have lightning message type indicator
-             * such as FL (Flash Lightning) or RT (Real Time flash lightning)
-             * The source of lightning data in the vendor specific data bytes
-             * (byte 16-17) may related to this (???),
-             * and it is used here for now. 04/182/013 Wufeng Zhou
-             */
-			/** 05/02/2013, found DSI-9603 Spec (http://www1.ncdc.noaa.gov/pub/data/documentlibrary/tddoc/td9603.pdf) on NLDN lightning data format,
-			 *   on Message Type and Stroke Type:
-			 *    POS: 37-38 Message Type
-			 *         This field identifies whether this record was U.S. continental data or an international location.
-			 *         Values are “FL” and “RT”.
-			 *         A value of “FL” stands for FLASH and identifies this record as U.S. data.
-			 *         A value of “RT” stands for Real-Time data type and identifies this record as international data.
-			 *    POS: 40-41 Stroke Type
-			 *         This field identifies whether this lightning stroke was cloud-to-ground or cloud-to-cloud.
-			 *         Values are “CG” for cloud-to-ground and “CC” for cloud-to-cloud. FLASH (FL) data are always cloud-to-ground 
-			 *         while REAL-TIME (RT) data can be either type. 
-			 */
-			LtgMsgType msgType = LtgMsgType.STRIKE_MSG_FL; // as default
-			if (vendor == ((short)0x0001)) { // CONUS source
-				msgType = LtgMsgType.STRIKE_MSG_FL; 
-			} else if (vendor == ((short)0x0002)) { // long range source 
-				msgType = LtgMsgType.STRIKE_MSG_RT;
-			}
-			
-            LightningStrikePoint lsp = new LightningStrikePoint(lat, lon, cal,
-                    msgType);
-            LtgStrikeType ltgStrikeType = LtgStrikeType.CLOUD_TO_GROUND; // default ??
-            if (strokeType == 0x0000) {
-            	ltgStrikeType = LtgStrikeType.CLOUD_TO_GROUND;
-            } else if (strokeType == 0x00ff) {
-            	ltgStrikeType = LtgStrikeType.CLOUD_TO_CLOUD;
-            } else if (strokeType == 0xffff) {
-            	ltgStrikeType = LtgStrikeType.TOTAL_FLASH;
-            }
-            lsp.setType(ltgStrikeType);
-            
-            /*
-             * as of OB13.3 for World Wide Lightning Location Network (WWLLN)
-             * data (decoded by textlightning though, not this bin lightning
-             * decoder), added lightning source field in LightningStrikePoint,
-             * as well as column in binlightning database table defaults to NLDN
-             */
-			if (vendor == ((short)0x0001)) { // CONUS source
-				lsp.setLightSource("NLDN"); 
-			} else if (vendor == ((short)0x0002)) { // long range source, i.e., GLD360. 
-				// However, since the database table column for lightning source is 5 characters  
-				lsp.setLightSource("GLD"); 
-			}
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(
+                ByteOrder.LITTLE_ENDIAN);
+        /*
+         * Each strike keeps its own Calendar; cloning a template is much
+         * cheaper than resolving the default time zone and locale for every
+         * strike with Calendar.getInstance()
+         */
+        Calendar template = Calendar.getInstance();
 
-            lsp.setPulseCount(strokeMultiplicity);
-            lsp.setStrikeStrength(strokeKiloAmps);
-            // stroke duration does not seem to be used
-            
-            strikes.add(lsp);
-		}
-		return strikes;
-	}
+        for (int i = 0; i < recordCount; i++) {
+            strikes.add(decodeRecord(buffer, i * BINLIGHTNING_RECORD_SIZE,
+                    template));
+        }
+        return strikes;
+    }
+
+    /**
+     * decode a single decrypted lightning data record
+     * 
+     * @param buffer
+     *            little-endian view of the decrypted data
+     * @param offset
+     *            start of the record, including the 2 type bytes
+     * @param template
+     *            calendar to clone for the strike time
+     * @return the strike
+     */
+    private static LightningStrikePoint decodeRecord(ByteBuffer buffer,
+            int offset, Calendar template) {
+        // read signed 16 bit integer as short and assigned to short
+        // read other 16 bit (unsigned) integer as short, but assign to int after bit & with 0xffff, so no negatives when first bit is 1 
+        // Read count of seconds first
+        long epochSeconds = buffer.getInt(offset + SECONDS_OFFSET) & 0xffffffffL;
+        // Convert to millisecond and add on millisecond offset
+        int miliseconds = buffer.getShort(offset + MILLISECONDS_OFFSET) & 0xffff; // valid range: 0 to 999
+        long epochTime = epochSeconds * 1000 + miliseconds;
+
+        // read lat/lon as float 
+        float lat = buffer.getFloat(offset + LAT_OFFSET); // valid range: -90.0 to 90.0
+        float lon = buffer.getFloat(offset + LON_OFFSET); // valid range: -180.0 to 180.0
+
+        // vendor, 0x01 for CONUS, i.e. NLD data;
+        //         0x02 for long range source, GLD360? 
+        int vendor = buffer.getShort(offset + VENDOR_OFFSET) & 0xffff; // valid values: 0x0001 (CONUS) or 0x0002 (long range source)
+
+        int strokeType = buffer.getShort(offset + STROKE_TYPE_OFFSET) & 0xffff; // 0x0000 for cloud-to-ground, 0x00ff for cloud-to-cloud, 0xffff for total flash
+        short strokeKiloAmps = buffer.getShort(offset + KILO_AMPS_OFFSET); // valid range: -254 to 254, specifically 16 bit signed integer
+        int strokeMultiplicity = buffer.getShort(offset + MULTIPLICITY_OFFSET) & 0xffff; // i.e. stroke count, valid range: 0 to 15
+        // stroke duration (unsigned short) and reserved bytes follow, not used
+
+        // Create the strike record from the report info and base time information. 
+        Calendar cal = (Calendar) template.clone();
+        cal.setTimeInMillis(epochTime);
+
+        /*
+         * new spec does not seem to have lightning message type indicator
+         * such as FL (Flash Lightning) or RT (Real Time flash lightning)
+         * The source of lightning data in the vendor specific data bytes
+         * (byte 16-17) may related to this (???),
+         * and it is used here for now. 04/182/013 Wufeng Zhou
+         */
+        /** 05/02/2013, found DSI-9603 Spec (http://www1.ncdc.noaa.gov/pub/data/documentlibrary/tddoc/td9603.pdf) on NLDN lightning data format,
+         *   on Message Type and Stroke Type:
+         *    POS: 37-38 Message Type
+         *         This field identifies whether this record was U.S. continental data or an international location.
+         *         Values are “FL” and “RT”.
+         *         A value of “FL” stands for FLASH and identifies this record as U.S. data.
+         *         A value of “RT” stands for Real-Time data type and identifies this record as international data.
+         *    POS: 40-41 Stroke Type
+         *         This field identifies whether this lightning stroke was cloud-to-ground or cloud-to-cloud.
+         *         Values are “CG” for cloud-to-ground and “CC” for cloud-to-cloud. FLASH (FL) data are always cloud-to-ground 
+         *         while REAL-TIME (RT) data can be either type. 
+         */
+        LtgMsgType msgType = LtgMsgType.STRIKE_MSG_FL; // as default
+        if (vendor == ((short)0x0001)) { // CONUS source
+            msgType = LtgMsgType.STRIKE_MSG_FL; 
+        } else if (vendor == ((short)0x0002)) { // long range source 
+            msgType = LtgMsgType.STRIKE_MSG_RT;
+        }
+        
+        LightningStrikePoint lsp = new LightningStrikePoint(lat, lon, cal,
+                msgType);
+        LtgStrikeType ltgStrikeType = LtgStrikeType.CLOUD_TO_GROUND; // default ??
+        if (strokeType == 0x0000) {
+            ltgStrikeType = LtgStrikeType.CLOUD_TO_GROUND;
+        } else if (strokeType == 0x00ff) {
+            ltgStrikeType = LtgStrikeType.CLOUD_TO_CLOUD;
+        } else if (strokeType == 0xffff) {
+            ltgStrikeType = LtgStrikeType.TOTAL_FLASH;
+        }
+        lsp.setType(ltgStrikeType);
+        
+        /*
+         * as of OB13.3 for World Wide Lightning Location Network (WWLLN)
+         * data (decoded by textlightning though, not this bin lightning
+         * decoder), added lightning source field in LightningStrikePoint,
+         * as well as column in binlightning database table defaults to NLDN
+         */
+        if (vendor == ((short)0x0001)) { // CONUS source
+            lsp.setLightSource("NLDN"); 
+        } else if (vendor == ((short)0x0002)) { // long range source, i.e., GLD360. 
+            // However, since the database table column for lightning source is 5 characters  
+            lsp.setLightSource("GLD"); 
+        }
+
+        lsp.setPulseCount(strokeMultiplicity);
+        lsp.setStrikeStrength(strokeKiloAmps);
+        // stroke duration does not seem to be used
+        
+        return lsp;
+    }
 	
 
 	
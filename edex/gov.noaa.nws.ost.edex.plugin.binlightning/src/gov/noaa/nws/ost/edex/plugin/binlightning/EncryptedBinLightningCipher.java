@@ -50,25 +50,38 @@ public class EncryptedBinLightningCipher {
 	/** Maximum size of the encrypted block, determined by 3 byte length field in the header */
 	private static final int MAX_SIZE_ENCRYPTED_BLOCK = 0xffffff;
 	    
-    private static final Map<String, Map<String, Cipher>> decryptCipherMapCache = new ConcurrentHashMap<String, Map<String, Cipher>>(
+    /**
+     * Cipher maps by datatype properties file prefix. Cipher instances are not
+     * thread safe, so each decoding thread has its own.
+     */
+    private static final ThreadLocal<Map<String, Map<String, Cipher>>> decryptCipherMapCache = new ThreadLocal<Map<String, Map<String, Cipher>>>() {
+        @Override
+        protected Map<String, Map<String, Cipher>> initialValue() {
+            return new HashMap<String, Map<String, Cipher>>(2);
+        }
+    };
+
+    /**
+     * Alias of the key that last decrypted data successfully, by datatype
+     * properties file prefix. Keys are rotated rarely, so it is tried first.
+     */
+    private static final Map<String, String> lastGoodKeyAliases = new ConcurrentHashMap<String, String>(
             2);
-	
+
     /**
-     * Get cipher map using cache
+     * Get cipher map for the calling thread using cache
      * 
      * @param propertyPrefix
      *            datatype properties file prefix
      * @return
      */
     private static Map<String, Cipher> getCachedCipherMap(String propertyPrefix) {
-        Map<String, Cipher> rval = decryptCipherMapCache.get(propertyPrefix);
+        Map<String, Map<String, Cipher>> threadCache = decryptCipherMapCache
+                .get();
+        Map<String, Cipher> rval = threadCache.get(propertyPrefix);
         if (rval == null) {
-            synchronized (decryptCipherMapCache) {
-                if (rval == null) {
-                    rval = createCipherMap(propertyPrefix);
-                    decryptCipherMapCache.put(propertyPrefix, rval);
-                }
-            }
+            rval = createCipherMap(propertyPrefix);
+            threadCache.put(propertyPrefix, rval);
         }
         return rval;
     }
@@ -178,6 +191,8 @@ public class EncryptedBinLightningCipher {
 		if (preferredKeyList == null || preferredKeyList.size() == 0) {
 			throw new BinLightningDataDecryptionException("No AES key found to decrypt data. Please make sure keystore is properly configured with key(s).");
 		}
+        preferredKeyList = moveLastGoodKeyFirst(preferredKeyList,
+                propertyPrefix);
 		
 		// try to decrypt the data using ciphers in the list until successful
 		byte[] decryptedData = null;
@@ -199,30 +214,15 @@ public class EncryptedBinLightningCipher {
                                     + " is not valid keep-alive or binLightning records.",
                             decryptedData);
 				}				
-                logger.info("Data (" + data.length + " bytes) decrypted to "
+                logger.debug("Data (" + data.length + " bytes) decrypted to "
                         + decryptedData.length + " bytes with key: " + alias);
+                lastGoodKeyAliases.put(propertyPrefix, alias);
 				break; // decrypt ok, break out
-			} catch (IllegalBlockSizeException e) {
-				// ignore exception if not the last, and try next cipher
-                logger.info("Fail to decrypt data (" + data.length
-                        + " bytes) with key: " + alias + " - " + e.getMessage()
-                        + ", will try other available key");
-				if (i == (preferredKeyList.size() - 1)) {
-					logger.error("Fail to decrypt with all known keys, either data is not encrypted or is invalid: " + e.getMessage()); 
-					throw e;
-				}
-			} catch (BadPaddingException e) {
+            } catch (IllegalBlockSizeException | BadPaddingException
+                    | BinLightningDataDecryptionException e) {
 				// ignore exception if not the last, and try next cipher
-                logger.info("Fail to decrypt data (" + data.length
-                        + " bytes) with key: " + alias + " - " + e.getMessage()
-                        + ", will try other available key");
-				if (i == (preferredKeyList.size() - 1)) {
-					logger.error("Fail to decrypt with all known keys, either data is not encrypted or is invalid: " + e.getMessage()); 
-					throw e;
-				}
-			} catch (BinLightningDataDecryptionException e) {
-				// ignore exception if not the last, and try next cipher
-                logger.info("Fail to decrypt data (" + data.length
+                decryptedData = null;
+                logger.debug("Fail to decrypt data (" + data.length
                         + " bytes) with key: " + alias + " - " + e.getMessage()
                         + ", will try other available key");
 				if (i == (preferredKeyList.size() - 1)) {
@@ -238,6 +238,35 @@ public class EncryptedBinLightningCipher {
 		return decryptedData;
 	}
 	
+    /**
+     * Move the key that last decrypted data of this type successfully to the
+     * front of the list, so that it is normally the only key tried
+     * 
+     * @param keyList
+     * @param propertyPrefix
+     *            prefix for lightning type configuration
+     * @return key list with the last good key first
+     */
+    private List<BinLightningAESKey> moveLastGoodKeyFirst(
+            List<BinLightningAESKey> keyList, String propertyPrefix) {
+        String lastGoodAlias = lastGoodKeyAliases.get(propertyPrefix);
+        if (lastGoodAlias == null
+                || lastGoodAlias.equals(keyList.get(0).getAlias())) {
+            return keyList;
+        }
+        for (int i = 1; i < keyList.size(); i++) {
+            if (lastGoodAlias.equals(keyList.get(i).getAlias())) {
+                List<BinLightningAESKey> reordered = new ArrayList<BinLightningAESKey>(
+                        keyList.size());
+                reordered.add(keyList.get(i));
+                reordered.addAll(keyList.subList(0, i));
+                reordered.addAll(keyList.subList(i + 1, keyList.size()));
+                return reordered;
+            }
+        }
+        return keyList;
+    }
+
     /**
      * Assuming the best keys to decrypt data should be issued before the data
      * observation date, so if there were many keys issued, this hopefully will
@@ -10,6 +10,7 @@
 
 package gov.noaa.nws.ost.edex.plugin.regionalsat.decoder;
 
+import java.io.File;
 import java.util.Calendar;
 import java.util.TimeZone;
 
@@ -27,6 +28,7 @@ import com.raytheon.uf.common.time.util.TimeUtil;
 
 import gov.noaa.nws.ost.edex.plugin.regionalsat.util.RegionalSatLookups;
 import gov.noaa.nws.ost.edex.plugin.regionalsat.util.RegionalSatLookups.PhysicalElementValue;
+import ucar.ma2.Array;
 import ucar.nc2.Attribute;
 import ucar.nc2.NetcdfFile;
 
@@ -94,236 +96,289 @@ public class RegionalSatDecoder extends AbstractDecoder {
      */
     public PluginDataObject[] decode(byte[] data) throws Exception {
 
-        PluginDataObject[] retData = null;
-
         SatelliteRecord record = null;
 
-        NetcdfFile netCdfFile = null;
-
         if ((data != null) && (data.length > 0)) {
+            NetcdfFile netCdfFile = NetcdfFile.openInMemory(filename, data);
+            try {
+                record = decode(netCdfFile);
+            } finally {
+                netCdfFile.close();
+            }
+        }
 
-            Calendar calendar = Calendar
-                    .getInstance(TimeZone.getTimeZone("GMT"));
-
-            record = new SatelliteRecord();
+        return toPluginDataObjects(record);
+    }
 
-            // String filename = "alaska_netcdf3"; // dummy filename; TODO: get
-            // filename from camel context?
-            netCdfFile = NetcdfFile.openInMemory(filename, data);
+    /**
+     * Decode a netcdf3 file in place, as {@link #decode(byte[])} does for the
+     * file contents. Only the metadata and the image section are read from the
+     * file, so the image is held in memory once rather than also as part of a
+     * copy of the whole file.
+     *
+     * @param file
+     *            The netcdf3 file to be decoded.
+     * @return The decoded data record(s).
+     */
+    public PluginDataObject[] decodeFile(File file) throws Exception {
 
-            // set the source; Alaska Region
-            String gaSourceStr = "Unknown";
-            Attribute gaSource = netCdfFile.findGlobalAttribute("source");
-            if (gaSource != null) {
-                gaSourceStr = gaSource.getStringValue().trim();
-            }
-            // lookup source value
-            record.setSource(getSource(gaSourceStr).replace("/", " "));
-
-            // set the creating entity
-            Attribute satName = netCdfFile.findGlobalAttribute("satelliteName");
-            // "HRPT"; "GOESR-PG"; "Blended2";
-            String entity = null;
-            if (satName != null) {
-                entity = satName.getStringValue().trim();
-            }
+        SatelliteRecord record = null;
 
-            if (entity != null) {
-                String parsed = getCreatingEntity(entity);
-                if ((parsed != null) && (parsed.length() > 0)) {
-                    record.setCreatingEntity(parsed.replace("/", " "));
-                } else {
-                    record.setCreatingEntity(entity.replace("/", " "));
-                }
-            } else {
-                record.setCreatingEntity("Unknown");
+        if ((file != null) && (file.length() > 0)) {
+            NetcdfFile netCdfFile = NetcdfFile.open(file.getPath());
+            try {
+                record = decode(netCdfFile);
+            } finally {
+                netCdfFile.close();
             }
+        }
 
-            // read the sector ID, may need to change to use satelliteSector
-            // attribute?
-            String sector = netCdfFile.findGlobalAttribute("depictorName")
-                    .getStringValue().trim();
-            record.setSectorID(sector);
-
-            // read and set the physical element
-            PhysicalElementValue pev = null;
-            Attribute chan = netCdfFile.findGlobalAttribute("channel");
-            if (chan != null) {
-                String channel = chan.getStringValue().trim();
-
-                pev = getPhysicalElement(entity, channel);
-                String element = pev.name;
-                if (pev.name != null) {
-                    record.setPhysicalElement(element.replace("/", " "));
-                } else {
-                    record.setPhysicalElement(channel.replace("/", " "));
-                }
-            } else {
-                record.setPhysicalElement("Imager Visible");
-            }
+        return toPluginDataObjects(record);
+    }
 
-            // read and set the units (IRPixel, GenericPixel, ...)
-            // defined in physicalElements.xml lookup file
-            if (pev != null) {
-                String units = pev.units;
-                if (pev.units != null) {
-                    record.setUnits(units);
-                }
-            }
+    /**
+     * @param netCdfFile
+     *            The open netcdf3 file.
+     * @return The decoded record, or null if no data record could be created.
+     */
+    private SatelliteRecord decode(NetcdfFile netCdfFile) throws Exception {
 
-            // read the number of records
-            int numRecords = netCdfFile.findDimension("y").getLength();
+        Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
 
-            // read the size of each record
-            int recordSize = netCdfFile.findDimension("x").getLength();
+        RegionalSatLookups lookups = RegionalSatLookups.getInstance();
 
-            // read the valid time in seconds and store the time in milliseconds
-            long time = netCdfFile.findVariable("validTime").readScalarLong();
-            calendar.setTimeInMillis(time * TimeUtil.MILLIS_PER_SECOND);
+        SatelliteRecord record = new SatelliteRecord();
 
-            /*
-             * Date date = new Date(); // used for setting the test data time
-             * long time = date.getTime(); calendar.setTimeInMillis(time); //
-             * need to convert seconds to millisconds
-             */
+        // set the source; Alaska Region
+        String gaSourceStr = "Unknown";
+        Attribute gaSource = netCdfFile.findGlobalAttribute("source");
+        if (gaSource != null) {
+            gaSourceStr = gaSource.getStringValue().trim();
+        }
+        // lookup source value
+        record.setSource(getSource(lookups, gaSourceStr).replace("/", " "));
+
+        // set the creating entity
+        Attribute satName = netCdfFile.findGlobalAttribute("satelliteName");
+        // "HRPT"; "GOESR-PG"; "Blended2";
+        String entity = null;
+        if (satName != null) {
+            entity = satName.getStringValue().trim();
+        }
 
-            record.setDataTime(new DataTime(calendar));
+        if (entity != null) {
+            String parsed = getCreatingEntity(lookups, entity);
+            if ((parsed != null) && (parsed.length() > 0)) {
+                record.setCreatingEntity(parsed.replace("/", " "));
+            } else {
+                record.setCreatingEntity(entity.replace("/", " "));
+            }
+        } else {
+            record.setCreatingEntity("Unknown");
+        }
 
-            // set lov to central lon
-            float lov = netCdfFile.findGlobalAttribute("centralLon")
-                    .getNumericValue().floatValue();
+        // read the sector ID, may need to change to use satelliteSector
+        // attribute?
+        String sector = netCdfFile.findGlobalAttribute("depictorName")
+                .getStringValue().trim();
+        record.setSectorID(sector);
+
+        // read and set the physical element
+        PhysicalElementValue pev = null;
+        Attribute chan = netCdfFile.findGlobalAttribute("channel");
+        if (chan != null) {
+            String channel = chan.getStringValue().trim();
+
+            pev = getPhysicalElement(lookups, entity, channel);
+            String element = pev.name;
+            if (pev.name != null) {
+                record.setPhysicalElement(element.replace("/", " "));
+            } else {
+                record.setPhysicalElement(channel.replace("/", " "));
+            }
+        } else {
+            record.setPhysicalElement("Imager Visible");
+        }
 
-            // STEREOGRAPHIC projection default
-            int mapProjection = SatSpatialFactory.PROJ_POLAR;
-            // set to zero for Stereographic projections
-            float latin = 0.0f;
-            Attribute rot = netCdfFile.findGlobalAttribute("rotation");
-            float rotation = 0.0f;
-
-            // read the projection
-            String projection = netCdfFile.findGlobalAttribute("projName")
-                    .getStringValue().trim();
-            if (!"STEREOGRAPHIC".equalsIgnoreCase(projection)) {
-                // get latin for projection from data
-                latin = netCdfFile.findGlobalAttribute("centralLat")
-                        .getNumericValue().floatValue();
-                if ("LAMBERT".equalsIgnoreCase(projection)
-                        || "LAMBERT_CONFORMAL".equalsIgnoreCase(projection)) {
-                    mapProjection = SatSpatialFactory.PROJ_LAMBERT;
-                    if (rot != null) {
-                        rotation = rot.getNumericValue().floatValue();
-                    }
-                } else if ("MERCATOR".equalsIgnoreCase(projection)) {
-                    mapProjection = SatSpatialFactory.PROJ_MERCATOR;
-                } else if ("CYLINDRICAL_EQUIDISTANT"
-                        .equalsIgnoreCase(projection)) {
-                    mapProjection = SatSpatialFactory.PROJ_CYLIN_EQUIDISTANT;
-                }
+        // read and set the units (IRPixel, GenericPixel, ...)
+        // defined in physicalElements.xml lookup file
+        if (pev != null) {
+            String units = pev.units;
+            if (pev.units != null) {
+                record.setUnits(units);
+            }
+        }
 
-            } else {
+        // read the number of records
+        int numRecords = netCdfFile.findDimension("y").getLength();
+
+        // read the size of each record
+        int recordSize = netCdfFile.findDimension("x").getLength();
+
+        // read the valid time in seconds and store the time in milliseconds
+        long time = netCdfFile.findVariable("validTime").readScalarLong();
+        calendar.setTimeInMillis(time * TimeUtil.MILLIS_PER_SECOND);
+
+        /*
+         * Date date = new Date(); // used for setting the test data time
+         * long time = date.getTime(); calendar.setTimeInMillis(time); //
+         * need to convert seconds to millisconds
+         */
+
+        record.setDataTime(new DataTime(calendar));
+
+        // set lov to central lon
+        float lov = netCdfFile.findGlobalAttribute("centralLon")
+                .getNumericValue().floatValue();
+
+        // STEREOGRAPHIC projection default
+        int mapProjection = SatSpatialFactory.PROJ_POLAR;
+        // set to zero for Stereographic projections
+        float latin = 0.0f;
+        Attribute rot = netCdfFile.findGlobalAttribute("rotation");
+        float rotation = 0.0f;
+
+        // read the projection
+        String projection = netCdfFile.findGlobalAttribute("projName")
+                .getStringValue().trim();
+        if (!"STEREOGRAPHIC".equalsIgnoreCase(projection)) {
+            // get latin for projection from data
+            latin = netCdfFile.findGlobalAttribute("centralLat")
+                    .getNumericValue().floatValue();
+            if ("LAMBERT".equalsIgnoreCase(projection)
+                    || "LAMBERT_CONFORMAL".equalsIgnoreCase(projection)) {
+                mapProjection = SatSpatialFactory.PROJ_LAMBERT;
                 if (rot != null) {
                     rotation = rot.getNumericValue().floatValue();
-                    // STEREOGRAPHIC projection add rotation to lov
-                    lov += rotation;
                 }
+            } else if ("MERCATOR".equalsIgnoreCase(projection)) {
+                mapProjection = SatSpatialFactory.PROJ_MERCATOR;
+            } else if ("CYLINDRICAL_EQUIDISTANT"
+                    .equalsIgnoreCase(projection)) {
+                mapProjection = SatSpatialFactory.PROJ_CYLIN_EQUIDISTANT;
             }
 
-            // declare and initialize
-            float dx = 0.0f, dy = 0.0f, lo1 = 0.0f, la1 = 0.0f, lo2 = 0.0f,
-                    la2 = 0.0f;
-            int nx = 0, ny = 0;
-
-            // Do specialized decoding and retrieve spatial data for projections
-            if ((mapProjection == SatSpatialFactory.PROJ_MERCATOR)
-                    || (mapProjection == SatSpatialFactory.PROJ_LAMBERT)
-                    || (mapProjection == SatSpatialFactory.PROJ_POLAR)
-                    || (mapProjection == SatSpatialFactory.PROJ_CYLIN_EQUIDISTANT)) {
-
-                // set number of points along x-axis
-                nx = recordSize;
-                // set number of points along y-axis
-                ny = numRecords;
-
-                // read the image as byte data and store as byte array
-                record.setMessageData(netCdfFile.readSection("image")
-                        .get1DJavaArray(Byte.class));
-
-                // get the latitude of the first point, upper left corner
-                la1 = netCdfFile.findGlobalAttribute("lat00").getNumericValue()
-                        .floatValue();
-
-                // get longitude of the first point, upper left corner
-                lo1 = (netCdfFile.findGlobalAttribute("lon00").getNumericValue()
-                        .floatValue());
-
-                // get the pixel spacing
-                dx = netCdfFile.findGlobalAttribute("dxKm").getNumericValue()
-                        .floatValue();
-                // convert to meters from km
-                dx *= 1000f;
-                dy = netCdfFile.findGlobalAttribute("dyKm").getNumericValue()
-                        .floatValue();
-                // convert to meters from km
-                dy *= 1000f;
-
-                la2 = netCdfFile.findGlobalAttribute("latNxNy")
-                        .getNumericValue().floatValue();
-                lo2 = netCdfFile.findGlobalAttribute("lonNxNy")
-                        .getNumericValue().floatValue();
-            } else {
-                throw new DecoderException(
-                        "Unable to decode Satellite: Encountered Unknown projection");
+        } else {
+            if (rot != null) {
+                rotation = rot.getNumericValue().floatValue();
+                // STEREOGRAPHIC projection add rotation to lov
+                lov += rotation;
             }
+        }
 
-            SatMapCoverage mapCoverage;
-            if (mapProjection == SatSpatialFactory.PROJ_LAMBERT && rot != null
-                    && rotation != latin) {
-                mapCoverage = SatSpatialFactory.getInstance()
-                        .getCoverageTwoCorners(mapProjection, nx, ny, lov,
-                                latin, rotation, la1, lo1, la2, lo2);
-            } else {
-                mapCoverage = SatSpatialFactory.getInstance()
-                        .getCoverageTwoCorners(mapProjection, nx, ny, lov,
-                                latin, la1, lo1, la2, lo2);
-            }
+        // declare and initialize
+        float dx = 0.0f, dy = 0.0f, lo1 = 0.0f, la1 = 0.0f, lo2 = 0.0f,
+                la2 = 0.0f;
+        int nx = 0, ny = 0;
+
+        // Do specialized decoding and retrieve spatial data for projections
+        if ((mapProjection == SatSpatialFactory.PROJ_MERCATOR)
+                || (mapProjection == SatSpatialFactory.PROJ_LAMBERT)
+                || (mapProjection == SatSpatialFactory.PROJ_POLAR)
+                || (mapProjection == SatSpatialFactory.PROJ_CYLIN_EQUIDISTANT)) {
+
+            // set number of points along x-axis
+            nx = recordSize;
+            // set number of points along y-axis
+            ny = numRecords;
+
+            // read the image as byte data and store as byte array
+            record.setMessageData(readImage(netCdfFile));
+
+            // get the latitude of the first point, upper left corner
+            la1 = netCdfFile.findGlobalAttribute("lat00").getNumericValue()
+                    .floatValue();
+
+            // get longitude of the first point, upper left corner
+            lo1 = (netCdfFile.findGlobalAttribute("lon00").getNumericValue()
+                    .floatValue());
+
+            // get the pixel spacing
+            dx = netCdfFile.findGlobalAttribute("dxKm").getNumericValue()
+                    .floatValue();
+            // convert to meters from km
+            dx *= 1000f;
+            dy = netCdfFile.findGlobalAttribute("dyKm").getNumericValue()
+                    .floatValue();
+            // convert to meters from km
+            dy *= 1000f;
+
+            la2 = netCdfFile.findGlobalAttribute("latNxNy")
+                    .getNumericValue().floatValue();
+            lo2 = netCdfFile.findGlobalAttribute("lonNxNy")
+                    .getNumericValue().floatValue();
+        } else {
+            throw new DecoderException(
+                    "Unable to decode Satellite: Encountered Unknown projection");
+        }
 
-            record.setCoverage(mapCoverage);
-            record.setPersistenceTime(TimeUtil.newDate());
+        SatMapCoverage mapCoverage;
+        if (mapProjection == SatSpatialFactory.PROJ_LAMBERT && rot != null
+                && rotation != latin) {
+            mapCoverage = SatSpatialFactory.getInstance()
+                    .getCoverageTwoCorners(mapProjection, nx, ny, lov,
+                            latin, rotation, la1, lo1, la2, lo2);
+        } else {
+            mapCoverage = SatSpatialFactory.getInstance()
+                    .getCoverageTwoCorners(mapProjection, nx, ny, lov,
+                            latin, la1, lo1, la2, lo2);
+        }
 
-            // Set the data into the IDataRecord
-            IDataRecord dataRec = SatelliteRecord.getDataRecord(record);
-            if (dataRec != null) {
-                record.setMessageData(dataRec);
-            } else {
-                handler.error(
-                        String.format("Could not create datarecord for %s"),
-                        record.getDataURI());
-                record = null;
-            }
+        record.setCoverage(mapCoverage);
+        record.setPersistenceTime(TimeUtil.newDate());
 
+        // Set the data into the IDataRecord
+        IDataRecord dataRec = SatelliteRecord.getDataRecord(record);
+        if (dataRec != null) {
+            record.setMessageData(dataRec);
+        } else {
+            handler.error(
+                    String.format("Could not create datarecord for %s"),
+                    record.getDataURI());
+            record = null;
         }
 
+        return record;
+    }
+
+    /**
+     * Read the image as a byte array. The array read for the whole variable is
+     * already in canonical order, so its storage is used as is rather than
+     * copied.
+     *
+     * @param netCdfFile
+     * @return the image data.
+     */
+    private static byte[] readImage(NetcdfFile netCdfFile) throws Exception {
+        Array image = netCdfFile.findVariable("image").read();
+        Object storage = image.getStorage();
+        if (storage instanceof byte[]) {
+            return (byte[]) storage;
+        }
+        return (byte[]) image.get1DJavaArray(Byte.class);
+    }
+
+    private static PluginDataObject[] toPluginDataObjects(
+            SatelliteRecord record) {
         if (record == null) {
-            retData = new PluginDataObject[0];
-        } else {
-            retData = new PluginDataObject[] { record };
+            return new PluginDataObject[0];
         }
-        return retData;
+        return new PluginDataObject[] { record };
     }
 
     // uses lookup map instead of database to store creating entity parameter
     // configuration
-    private String getCreatingEntity(String name) {
-        String value = RegionalSatLookups.getInstance().getCreatingEntity(name);
+    private String getCreatingEntity(RegionalSatLookups lookups, String name) {
+        String value = lookups.getCreatingEntity(name);
         return value != null ? value : String.format("Unknown-%s", name);
     }
 
     // uses lookup map instead of database to store physical element parameter
     // configuration
-    private PhysicalElementValue getPhysicalElement(String satName,
-            String channel) {
-        PhysicalElementValue value = RegionalSatLookups.getInstance()
-                .getPhysicalElement(satName, channel);
+    private PhysicalElementValue getPhysicalElement(RegionalSatLookups lookups,
+            String satName, String channel) {
+        PhysicalElementValue value = lookups.getPhysicalElement(satName,
+                channel);
         return value != null ? value
                 : new PhysicalElementValue(String.format("Unknown-%s", channel),
                         null);
@@ -331,8 +386,8 @@ public class RegionalSatDecoder extends AbstractDecoder {
 
     // uses lookup map instead of database to store source parameter
     // configuration
-    private String getSource(String name) {
-        String value = RegionalSatLookups.getInstance().getSource(name);
+    private String getSource(RegionalSatLookups lookups, String name) {
+        String value = lookups.getSource(name);
         return value != null ? value : String.format("Unknown-%s", name);
     }
 
@@ -317,12 +317,23 @@ public class RegionalSatLookups {
         return sourceLookup.map.get(source);
     }
 
-    private static RegionalSatLookups instance;
-
-    public static synchronized RegionalSatLookups getInstance() {
-        if (instance == null)
-            instance = new RegionalSatLookups();
-        return instance;
+    /**
+     * Loaded lookups, reused by every decode until reloaded.
+     */
+    private static volatile RegionalSatLookups instance;
+
+    public static RegionalSatLookups getInstance() {
+        RegionalSatLookups lookups = instance;
+        if (lookups == null) {
+            synchronized (RegionalSatLookups.class) {
+                lookups = instance;
+                if (lookups == null) {
+                    lookups = new RegionalSatLookups();
+                    instance = lookups;
+                }
+            }
+        }
+        return lookups;
     }
 
     public static synchronized void reload() {
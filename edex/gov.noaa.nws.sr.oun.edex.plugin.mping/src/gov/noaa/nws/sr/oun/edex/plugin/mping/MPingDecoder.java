@@ -4,18 +4,20 @@ import gov.noaa.nws.sr.oun.dataplugin.mping.MPingReport;
 import gov.noaa.nws.sr.oun.edex.plugin.mping.dao.MPingReportDao;
 
 import java.io.File;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.io.StringReader;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
 import com.raytheon.edex.plugin.AbstractDecoder;
 import com.raytheon.uf.common.dataplugin.PluginDataObject;
 import com.raytheon.uf.common.pointdata.PointDataContainer;
@@ -30,15 +32,15 @@ import org.locationtech.jts.geom.GeometryFactory;
 
 /**
  * Decoder for mPING Reports
- * 
+ *
  * <pre>
- * 
+ *
  * SOFTWARE HISTORY
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Jun 25, 2015            aanderson   Initial creation of history
  * </pre>
- * 
+ *
  * @author Aaron Anderson
  * @version 1.0
  */
@@ -47,15 +49,46 @@ public class MPingDecoder extends AbstractDecoder {
 	private static IUFStatusHandler logger = UFStatus
 			.getHandler(MPingDecoder.class);
 
-	GeometryFactory geomFact = new GeometryFactory();
+	/**
+	 * Report time format, "yyyy-MM-dd HH:mm:ss" followed by an offset such as
+	 * "Z", "-05", "-0500" or "-05:00".
+	 */
+	private static final DateTimeFormatter REPORT_TIME_FORMAT = new DateTimeFormatterBuilder()
+			.appendPattern("yyyy-MM-dd HH:mm:ss").optionalStart()
+			.appendOffset("+HH:MM", "Z").optionalEnd().optionalStart()
+			.appendOffset("+HHMM", "Z").optionalEnd().optionalStart()
+			.appendOffset("+HH", "Z").optionalEnd().toFormatter();
+
+	/**
+	 * Shared factory; readers are created per decode. DTDs and external
+	 * entities are not needed for mPING pulls and are not resolved.
+	 */
+	private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory
+			.newInstance();
+
+	static {
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD,
+				Boolean.FALSE);
+		XML_INPUT_FACTORY.setProperty(
+				XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING,
+				Boolean.TRUE);
+	}
+
+	/**
+	 * Element depths of the document root, its results section, and the
+	 * reports in it.
+	 */
+	private static final int RESULTS_DEPTH = 2;
 
-	DateFormat reportTimeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ssX");
+	private static final int REPORT_DEPTH = 3;
+
+	GeometryFactory geomFact = new GeometryFactory();
 
 	MPingReportDao dao;
 
 	private PointDataDescription pointDataDescription = null;
 
-	private Map<File, PointDataContainer> containerMap = new HashMap<File, PointDataContainer>();
 	private final String pluginName = "mping";
 
 	public MPingDecoder() {
@@ -77,83 +110,162 @@ public class MPingDecoder extends AbstractDecoder {
 	public PluginDataObject[] decode(String input) throws Exception {
 		logger.info("Starting Decode of mPING xml");
 		ArrayList<MPingReport> list = new ArrayList<MPingReport>();
+		// Containers for the reports of this pull only, by HDF5 file.
+		Map<File, PointDataContainer> containerMap = new HashMap<File, PointDataContainer>();
+		XMLStreamReader reader = null;
 		try {
-			// Parse the text input into a Document so that we can extract out
-			// the root element.
-			Document document = DocumentHelper.parseText(input);
-			// Get root element of the document in xml
-			Element e = document.getRootElement();
-			// grab the results section of the kml file
-			Element results = e.element("results");
-			// iterate over the items in the Document section and only grab
-			// report items.
-			Iterator<Element> i = results.elementIterator("report");
-			while (i.hasNext()) {
-				// Grab next report
-				Element report = i.next();
-				try {
-					// pull out the description_id tag
-					Element description_id = report.element("description_id");
-					// If there actually is mPING data then process it.
-					if (description_id != null) {
-						// Get individual items of report
-						Element idElement = report.element("id");
-						Element description = report.element("description");
-						Element category = report.element("category");
-						Element timeElement = report.element("obtime");
-						Date reportTime = reportTimeFormat.parse(timeElement
-								.getText());
-						Element geom = report.element("geom");
-						Element coordinates = geom.element("coordinates");
-						Element lon = coordinates.element("longitude");
-						Element lat = coordinates.element("latitude");
-						
-						// Create mping record
-						MPingReport record = new MPingReport();
-
-						// set the description and categories
-						record.setDescription_id(Integer
-								.parseInt(description_id.getText()));
-						record.setDescription(description.getText());
-						record.setCategory(category.getText());
-						// Create new SurfaceObsLocation
-						SurfaceObsLocation obsLoc = new SurfaceObsLocation();
-						// Use id from mPING xml as stationid as this provides
-						// for an always
-						// unique value
-						obsLoc.setStationId(idElement.getText());
-						// Set geometry of report
-						obsLoc.setGeometry(geomFact.createPoint(new Coordinate(
-								Float.parseFloat(lon.getText()), Float
-										.parseFloat(lat.getText()))));
-						record.setLocation(obsLoc);
-
-						// Add our DataTime
-						record.setDataTime(new DataTime(reportTime));
-
-						PointDataContainer pdc = getContainer(record);
-
-						// Populate the point data.
-						PointDataView view = pdc.append();
-						view.setLong("description_id",
-								record.getDescription_id());
-
-						record.setPointDataView(view);
-
-						// Add the record to the list
-						list.add(record);
+			reader = XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(
+					input));
+			boolean inResults = false;
+			int depth = 0;
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.END_ELEMENT) {
+					depth--;
+					if (depth < RESULTS_DEPTH) {
+						inResults = false;
+					}
+				} else if (event == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					String name = reader.getLocalName();
+					if (depth == RESULTS_DEPTH) {
+						// grab the results section of the xml
+						inResults = "results".equals(name);
+					} else if (depth == REPORT_DEPTH && inResults
+							&& "report".equals(name)) {
+						MPingReport record = readReport(reader, containerMap);
+						// readReport consumes the report's end element
+						depth--;
+						if (record != null) {
+							// Add the record to the list
+							list.add(record);
+						}
 					}
-				} catch (Exception ex) {
-					logger.error("Error Creating Mping Record", ex);	
 				}
 			}
-		} catch (DocumentException ex) {
+		} catch (XMLStreamException ex) {
 			logger.error("Error parsing Mping XML", ex);
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (XMLStreamException e) {
+					logger.debug("Error closing Mping XML reader", e);
+				}
+			}
 		}
 		// Process the list and send back an array of PluginDataObjects
 		return (list.toArray(new PluginDataObject[list.size()]));
 	}
 
+	/**
+	 * Read one report, leaving the reader at the report's end element.
+	 *
+	 * @param reader
+	 *            reader positioned at the report's start element.
+	 * @param containerMap
+	 *            point data containers of this decode.
+	 * @return the record, or null if the report has no mPING data or is
+	 *         invalid.
+	 * @throws XMLStreamException
+	 *             if the document is malformed.
+	 */
+	private MPingReport readReport(XMLStreamReader reader,
+			Map<File, PointDataContainer> containerMap)
+			throws XMLStreamException {
+		String id = null;
+		String descriptionId = null;
+		String description = null;
+		String category = null;
+		String obTime = null;
+		String lon = null;
+		String lat = null;
+
+		// Element names of the path below the report.
+		String child = null;
+		String grandchild = null;
+		int depth = 0;
+		while (depth >= 0) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			} else if (event == XMLStreamConstants.START_ELEMENT) {
+				String name = reader.getLocalName();
+				if (depth == 0) {
+					child = name;
+					if ("id".equals(name)) {
+						id = reader.getElementText();
+					} else if ("description_id".equals(name)) {
+						descriptionId = reader.getElementText();
+					} else if ("description".equals(name)) {
+						description = reader.getElementText();
+					} else if ("category".equals(name)) {
+						category = reader.getElementText();
+					} else if ("obtime".equals(name)) {
+						obTime = reader.getElementText();
+					} else {
+						depth++;
+					}
+				} else if (depth == 1) {
+					grandchild = name;
+					depth++;
+				} else if (depth == 2 && "geom".equals(child)
+						&& "coordinates".equals(grandchild)
+						&& "longitude".equals(name)) {
+					lon = reader.getElementText();
+				} else if (depth == 2 && "geom".equals(child)
+						&& "coordinates".equals(grandchild)
+						&& "latitude".equals(name)) {
+					lat = reader.getElementText();
+				} else {
+					depth++;
+				}
+			}
+		}
+
+		// If there actually is mPING data then process it.
+		if (descriptionId == null) {
+			return null;
+		}
+
+		try {
+			Date reportTime = Date.from(OffsetDateTime.parse(obTime,
+					REPORT_TIME_FORMAT).toInstant());
+
+			// Create mping record
+			MPingReport record = new MPingReport();
+
+			// set the description and categories
+			record.setDescription_id(Integer.parseInt(descriptionId));
+			record.setDescription(description);
+			record.setCategory(category);
+			// Create new SurfaceObsLocation
+			SurfaceObsLocation obsLoc = new SurfaceObsLocation();
+			// Use id from mPING xml as stationid as this provides for an
+			// always unique value
+			obsLoc.setStationId(id);
+			// Set geometry of report
+			obsLoc.setGeometry(geomFact.createPoint(new Coordinate(Float
+					.parseFloat(lon), Float.parseFloat(lat))));
+			record.setLocation(obsLoc);
+
+			// Add our DataTime
+			record.setDataTime(new DataTime(reportTime));
+
+			PointDataContainer pdc = getContainer(record, containerMap);
+
+			// Populate the point data.
+			PointDataView view = pdc.append();
+			view.setLong("description_id", record.getDescription_id());
+
+			record.setPointDataView(view);
+			return record;
+		} catch (Exception ex) {
+			logger.error("Error Creating Mping Record", ex);
+			return null;
+		}
+	}
+
 	public MPingReportDao getDao() {
 		return dao;
 	}
@@ -163,11 +275,14 @@ public class MPingDecoder extends AbstractDecoder {
 	}
 
 	/**
-	 * 
+	 *
 	 * @param mpingData
+	 * @param containerMap
+	 *            point data containers of this decode.
 	 * @return
 	 */
-	private PointDataContainer getContainer(MPingReport mpingData) {
+	private PointDataContainer getContainer(MPingReport mpingData,
+			Map<File, PointDataContainer> containerMap) {
 
 		File file = dao.getFullFilePath(mpingData);
 		PointDataContainer container = containerMap.get(file);
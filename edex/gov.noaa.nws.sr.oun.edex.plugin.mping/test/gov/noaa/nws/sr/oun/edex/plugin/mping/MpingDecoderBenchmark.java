@@ -0,0 +1,90 @@
+package gov.noaa.nws.sr.oun.edex.plugin.mping;
+
+import java.lang.management.ManagementFactory;
+
+import com.raytheon.uf.common.dataplugin.PluginDataObject;
+
+/**
+ * Measures mPING decode time and bytes allocated per report on a synthetic
+ * pull. Every report of the pull must be decoded; the time, throughput and
+ * bytes allocated per report are printed.
+ *
+ * Usage: MpingDecoderBenchmark [reports per pull] [iterations]
+ */
+public class MpingDecoderBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int reports = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        String input = buildPull(reports);
+        MPingDecoder decoder = new MPingDecoder();
+
+        int decodedReports = decoder.decode(input).length;
+        if (decodedReports != reports) {
+            throw new IllegalStateException("Decoded " + decodedReports
+                    + " of " + reports + " reports");
+        }
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            decoder.decode(input);
+        }
+
+        System.out.println(reports + " reports, " + iterations + " iterations");
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long decoded = 0;
+        long startBytes = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            PluginDataObject[] obj = decoder.decode(input);
+            decoded += obj.length;
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId)
+                - startBytes;
+
+        System.out.println("Decode: "
+                + String.format("%.3f", elapsed / 1e3 / decoded)
+                + " us/report, "
+                + String.format("%.0f", decoded * 1e9 / elapsed)
+                + " reports/sec, " + (allocated / decoded) + " bytes/report");
+    }
+
+    /**
+     * @param reports
+     *            number of reports.
+     * @return an mPING pull with the given number of reports.
+     */
+    private static String buildPull(int reports) {
+        StringBuilder sb = new StringBuilder(reports * 400);
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        sb.append("<root><count>").append(reports).append("</count><results>");
+        for (int i = 0; i < reports; i++) {
+            sb.append("<report>");
+            sb.append("<id>").append(1000000 + i).append("</id>");
+            sb.append("<obtime>2015-02-16 ")
+                    .append(String.format("%02d:%02d:%02d", (i / 3600) % 24,
+                            (i / 60) % 60, i % 60))
+                    .append("Z</obtime>");
+            sb.append("<category>Rain/Snow</category>");
+            sb.append("<description>Snow</description>");
+            sb.append("<description_id>").append(2 + (i % 10))
+                    .append("</description_id>");
+            sb.append("<geom><type>Point</type><coordinates>");
+            sb.append("<longitude>").append(-100.0 + (i % 400) * 0.05)
+                    .append("</longitude>");
+            sb.append("<latitude>").append(30.0 + (i % 300) * 0.05)
+                    .append("</latitude>");
+            sb.append("</coordinates></geom>");
+            sb.append("</report>");
+        }
+        sb.append("</results></root>");
+        return sb.toString();
+    }
+
+}
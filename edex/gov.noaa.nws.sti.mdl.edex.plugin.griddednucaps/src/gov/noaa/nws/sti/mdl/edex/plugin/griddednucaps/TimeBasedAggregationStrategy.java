@@ -3,6 +3,10 @@ package gov.noaa.nws.sti.mdl.edex.plugin.griddednucaps;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.CamelContext;
@@ -16,6 +20,10 @@ import org.apache.camel.builder.ExchangeBuilder;
 import org.apache.camel.processor.aggregate.AggregateProcessor;
 import org.apache.camel.support.ExchangeHelper;
 
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.status.UFStatus.Priority;
+
 /**
 * Class to aggregate the incoming files by satellite and time. Also handles times when incomplete list of files arrives.
 *
@@ -48,10 +56,55 @@ import org.apache.camel.support.ExchangeHelper;
  * satellite the aggregation should just be active during the couple times a day
  * when data is downlinked. As more satellites become active the down-time for
  * the aggregation should decrease.
+ *
+ * Holders are indexed by satellite and time bucket, and are changed only
+ * within atomic map updates, so the aggregation thread and the timer thread
+ * never lose or duplicate a file between them. Batches are emitted outside of
+ * those updates.
  */
 public class TimeBasedAggregationStrategy
         implements AggregationStrategy, StagedListener, StatefulService {
 
+    private final IUFStatusHandler statusHandler = UFStatus
+            .getHandler(TimeBasedAggregationStrategy.class);
+
+    /**
+     * Key for the holder of a satellite's files within one time bucket of
+     * millisInBatch milliseconds, matching the bounds checked by
+     * {@link FileHolder#checkFileToProcess(FileToProcess)}.
+     */
+    private static final class HolderKey {
+
+        /** The satellite id. */
+        private final String satelliteId;
+
+        /** The start time of the bucket divided by millisInBatch. */
+        private final long bucket;
+
+        private HolderKey(String satelliteId, long bucket) {
+            this.satelliteId = satelliteId;
+            this.bucket = bucket;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(satelliteId, bucket);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof HolderKey)) {
+                return false;
+            }
+            HolderKey other = (HolderKey) obj;
+            return bucket == other.bucket
+                    && satelliteId.equals(other.satelliteId);
+        }
+    }
+
     /**
      * The camel context used to look up processor for pushing finished
      * aggregation.
@@ -59,7 +112,7 @@ public class TimeBasedAggregationStrategy
     private CamelContext camelContext;
 
     /** The aggregate processor used to push aggregated list of files. */
-    private AggregateProcessor _aggregateProcessor;
+    private volatile AggregateProcessor _aggregateProcessor;
 
     /** The aggregate processor id. */
     private String aggregateProcessorId;
@@ -79,10 +132,28 @@ public class TimeBasedAggregationStrategy
     /** The timed checker that makes sure files are unendlessly piling up. */
     TimedChecker checker;
 
-    /** The holders holding aggregated files. */
-    List<FileHolder> holders = new ArrayList<>();
+    /** The holders holding aggregated files, by satellite and time bucket. */
+    final ConcurrentMap<HolderKey, FileHolder> holders = new ConcurrentHashMap<>();
+
+    volatile ServiceStatus serviceStatus;
+
+    /** The number of batches emitted. */
+    private final AtomicLong batchCount = new AtomicLong();
+
+    /** The number of batches emitted because they were full. */
+    private final AtomicLong fullBatchCount = new AtomicLong();
+
+    /** The number of files emitted in batches. */
+    private final AtomicLong fileCount = new AtomicLong();
+
+    /**
+     * The total milliseconds from the first file of each batch being ingested
+     * to the batch being emitted.
+     */
+    private final AtomicLong totalLatencyMillis = new AtomicLong();
 
-    ServiceStatus serviceStatus;
+    /** The longest latency of any batch in milliseconds. */
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
 
     /*
      * Messages arrive to this method from the pipeline
@@ -108,9 +179,6 @@ public class TimeBasedAggregationStrategy
      */
     protected void appendMessage(Exchange aggregateExchange, Message message) {
 
-        if (!checker.isRunning()) {
-            checker.start();
-        }
         String satelliteId = (String) message.getHeader("satelliteId");
         String filePath = (String) message.getHeader("filePath");
         Date maxTime = new Date((Long) message.getHeader("maxTime"));
@@ -119,28 +187,32 @@ public class TimeBasedAggregationStrategy
         FileToProcess fileToProcess = new FileToProcess(filePath, minTime,
                 maxTime, ingestTime, satelliteId);
 
-        FileHolder holder = findHolder(fileToProcess);
-        if (holder == null) {
-            FileHolder newHolder = new FileHolder(fileToProcess, millisInBatch);
-            holders.add(newHolder);
-        } else {
-            holder.add(fileToProcess);
-            checkHolder(holder);
-        }
-
-    }
+        HolderKey key = new HolderKey(satelliteId,
+                minTime.getTime() / millisInBatch);
+        FileHolder[] fullHolder = new FileHolder[1];
+        holders.compute(key, (k, holder) -> {
+            if (holder == null) {
+                holder = new FileHolder(fileToProcess, millisInBatch);
+            } else {
+                holder.add(fileToProcess);
+            }
+            if (holder.getSize() >= filesInBatch) {
+                // Full, remove it so no more files are added
+                fullHolder[0] = holder;
+                return null;
+            }
+            return holder;
+        });
 
-    /**
-     * Check holder the to see if it is full.
-     *
-     * @param holder
-     *            the holder
-     */
-    private void checkHolder(FileHolder holder) {
-        int size = holder.getSize();
-        if (size >= filesInBatch) {
-            holders.remove(holder);
-            processFileBatch(holder);
+        if (fullHolder[0] != null) {
+            fullBatchCount.incrementAndGet();
+            processFileBatch(fullHolder[0]);
+        } else {
+            /*
+             * Start after adding, so that a checker stopping for lack of
+             * holders either sees this one or is restarted here.
+             */
+            checker.start();
         }
 
     }
@@ -150,15 +222,17 @@ public class TimeBasedAggregationStrategy
      * gotten a file.
      *
      * @param holder
-     *            the holder
+     *            the holder, no longer in the holders map
      */
     private void processFileBatch(FileHolder holder) {
 
-        List<String> filePaths = new ArrayList<>();
-        List<Long> ingestTimes = new ArrayList<>();
-        for (FileToProcess file : holder.getFileToProcess()) {
+        FileToProcess[] files = holder.getFileToProcess();
+        List<String> filePaths = new ArrayList<>(files.length);
+        long firstIngestTime = Long.MAX_VALUE;
+        for (FileToProcess file : files) {
             filePaths.add(file.getFilePath());
-            ingestTimes.add(file.getIngestTime().getTime());
+            firstIngestTime = Math.min(firstIngestTime,
+                    file.getIngestTime().getTime());
         }
         String listOfFiles = String.join(",", filePaths);
         if (filePaths.size() > 0) {
@@ -167,7 +241,8 @@ public class TimeBasedAggregationStrategy
                             camelContext);
             exchangeToBeEmitted.getOut().setBody(listOfFiles);
             exchangeToBeEmitted.getOut().setHeader("enqueueTime",
-                    holder.getFileToProcess()[0].ingestTime.getTime());
+                    files[0].ingestTime.getTime());
+            recordBatch(files.length, firstIngestTime);
             try {
                 for (Processor processor : _aggregateProcessor().next()) {
                     processor.process(exchangeToBeEmitted);
@@ -180,20 +255,94 @@ public class TimeBasedAggregationStrategy
     }
 
     /**
-     * Find holder to push the files.
+     * Record the metrics for an emitted batch.
      *
-     * @param fileToProcess
-     *            the file to process
-     * @return the file holder
+     * @param size
+     *            the number of files in the batch
+     * @param firstIngestTime
+     *            the earliest ingest time of the files in the batch
      */
-    private FileHolder findHolder(FileToProcess fileToProcess) {
-        for (FileHolder holder : holders) {
-            boolean isMatch = holder.checkFileToProcess(fileToProcess);
-            if (isMatch) {
-                return holder;
-            }
+    private void recordBatch(int size, long firstIngestTime) {
+        long latency = System.currentTimeMillis() - firstIngestTime;
+        batchCount.incrementAndGet();
+        fileCount.addAndGet(size);
+        totalLatencyMillis.addAndGet(latency);
+        maxLatencyMillis.accumulateAndGet(latency, Math::max);
+        if (statusHandler.isPriorityEnabled(Priority.DEBUG)) {
+            statusHandler.debug("Emitting NUCAPS batch of " + size
+                    + " files, " + latency + " ms after first ingest. "
+                    + getMetrics());
         }
-        return null;
+    }
+
+    /**
+     * Gets the number of batches emitted.
+     *
+     * @return the batch count
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Gets the number of batches emitted because they were full.
+     *
+     * @return the full batch count
+     */
+    public long getFullBatchCount() {
+        return fullBatchCount.get();
+    }
+
+    /**
+     * Gets the number of files emitted in batches.
+     *
+     * @return the file count
+     */
+    public long getFileCount() {
+        return fileCount.get();
+    }
+
+    /**
+     * Gets the average number of files per batch.
+     *
+     * @return the average batch size
+     */
+    public double getAverageBatchSize() {
+        long batches = batchCount.get();
+        return batches == 0 ? 0 : (double) fileCount.get() / batches;
+    }
+
+    /**
+     * Gets the average milliseconds from the first file of a batch being
+     * ingested to the batch being emitted.
+     *
+     * @return the average batch latency
+     */
+    public long getAverageBatchLatency() {
+        long batches = batchCount.get();
+        return batches == 0 ? 0 : totalLatencyMillis.get() / batches;
+    }
+
+    /**
+     * Gets the longest latency of any batch in milliseconds.
+     *
+     * @return the max batch latency
+     */
+    public long getMaxBatchLatency() {
+        return maxLatencyMillis.get();
+    }
+
+    /**
+     * Gets a summary of the batch metrics.
+     *
+     * @return the metrics summary
+     */
+    public String getMetrics() {
+        return "Batches: " + getBatchCount() + " (" + getFullBatchCount()
+                + " full), files: " + getFileCount() + ", average size: "
+                + String.format("%.1f", getAverageBatchSize())
+                + ", average latency: " + getAverageBatchLatency()
+                + " ms, max latency: " + getMaxBatchLatency() + " ms";
     }
 
     /*
@@ -207,20 +356,26 @@ public class TimeBasedAggregationStrategy
     public void notifyEvent() {
         // Check all holders and see if any contain anything that needs to be
         // processed.
-        int size = holders.size();
-        List<FileHolder> toRemove = new ArrayList<>();
-        for (int i = 0; i < size; ++i) {
-            if (holders.get(i).getLastAddedFile().getTime() >= lastFileMaxAge) {
-                toRemove.add(holders.get(i));
+        long now = System.currentTimeMillis();
+        for (HolderKey key : holders.keySet()) {
+            FileHolder[] staleHolder = new FileHolder[1];
+            holders.computeIfPresent(key, (k, holder) -> {
+                long age = now - holder.getLastAddedFile().getTime();
+                if (age >= lastFileMaxAge) {
+                    staleHolder[0] = holder;
+                    return null;
+                }
+                return holder;
+            });
+            if (staleHolder[0] != null) {
+                emitRemovedHolder(staleHolder[0]);
             }
         }
-        for (FileHolder holderToRemove : toRemove) {
-            holders.remove(holderToRemove);
-            processFileBatch(holderToRemove);
-        }
 
-        if (holders.size() == 0) {
-            checker.stop();
+        synchronized (checker) {
+            if (holders.isEmpty()) {
+                checker.stop();
+            }
         }
 
     }
@@ -230,13 +385,29 @@ public class TimeBasedAggregationStrategy
      */
     private void flushAllHolders() {
 
-        int size = holders.size();
-        for (int i = 0; i < size; ++i) {
-            FileHolder holderToRemove = holders.remove(i);
-            if (holderToRemove.getSize() > 0) {
-                processFileBatch(holderToRemove);
+        for (HolderKey key : holders.keySet()) {
+            FileHolder holderToRemove = holders.remove(key);
+            if (holderToRemove != null && holderToRemove.getSize() > 0) {
+                emitRemovedHolder(holderToRemove);
             }
         }
+        statusHandler.info("Flushed NUCAPS aggregation. " + getMetrics());
+    }
+
+    /**
+     * Process a holder already removed from the holders map, logging rather
+     * than throwing a failure so the remaining holders are still processed.
+     *
+     * @param holder
+     *            the holder
+     */
+    private void emitRemovedHolder(FileHolder holder) {
+        try {
+            processFileBatch(holder);
+        } catch (RuntimeException e) {
+            statusHandler.error("Failed to process NUCAPS batch of "
+                    + holder.getSize() + " files", e);
+        }
     }
 
     /**
@@ -348,6 +519,7 @@ public class TimeBasedAggregationStrategy
     @Override
     public void shutdown() {
         serviceStatus = ServiceStatus.Stopping;
+        checker.stop();
         flushAllHolders();
         serviceStatus = ServiceStatus.Stopped;
     }
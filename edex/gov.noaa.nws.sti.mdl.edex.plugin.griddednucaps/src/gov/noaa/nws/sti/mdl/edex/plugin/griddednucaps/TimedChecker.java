@@ -1,7 +1,9 @@
 package gov.noaa.nws.sti.mdl.edex.plugin.griddednucaps;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Timer that will send message at specific interval, and during downtime can be
@@ -21,18 +23,20 @@ import java.util.TimerTask;
  */
 public class TimedChecker {
 
-    /** The timer thread. */
-    Timer timer = new Timer();
+    /** The thread that notifies the listener, shared by all start/stops. */
+    private final ScheduledExecutorService executor = Executors
+            .newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "griddedNucapsTimedChecker");
+                thread.setDaemon(true);
+                return thread;
+            });
 
-    /** The task that fires back a notification to the listener. */
-    TimerTask task;
+    /** The scheduled notification while running, otherwise null. */
+    private ScheduledFuture<?> task;
 
     /** The listener to notify time has passed. */
     StagedListener listener;
 
-    /** The running state variable */
-    boolean running = false;
-
     /** The delay for periodic firing in milliseconds. */
     long delay;
 
@@ -51,34 +55,22 @@ public class TimedChecker {
     }
 
     /**
-     * Stop the thread and task.
+     * Stop the periodic notification.
      */
-    public void stop() {
-        if (running) {
-            if (timer != null)
-                timer.cancel();
-            timer = null;
-            if (task != null)
-                task.cancel();
+    public synchronized void stop() {
+        if (task != null) {
+            task.cancel(false);
             task = null;
-            running = false;
         }
     }
 
     /**
-     * Start the timer and task.
+     * Start the periodic notification.
      */
-    public void start() {
-        if (!running) {
-            timer = new Timer();
-            task = new TimerTask() {
-                @Override
-                public void run() {
-                    fire();
-                }
-            };
-            timer.scheduleAtFixedRate(task, delay, delay);
-            running = true;
+    public synchronized void start() {
+        if (task == null) {
+            task = executor.scheduleAtFixedRate(this::fire, delay, delay,
+                    TimeUnit.MILLISECONDS);
         }
     }
 
@@ -94,8 +86,8 @@ public class TimedChecker {
      *
      * @return true, if is running
      */
-    public boolean isRunning() {
-        return running;
+    public synchronized boolean isRunning() {
+        return task != null;
     }
 
 }
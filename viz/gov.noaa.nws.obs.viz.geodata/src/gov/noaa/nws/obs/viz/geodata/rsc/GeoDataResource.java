@@ -10,10 +10,11 @@ import java.util.Set;
 
 import org.eclipse.swt.graphics.RGB;
 import org.locationtech.jts.geom.Coordinate;
-import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.index.strtree.STRtree;
 import org.opengis.referencing.FactoryException;
 import org.opengis.referencing.crs.CoordinateReferenceSystem;
 import org.opengis.referencing.datum.PixelInCell;
@@ -144,6 +145,39 @@ public class GeoDataResource
     private static final GeometryPreferences defaultPrefs = new GeometryPreferences(
             Float.valueOf(1.f), WHITE, Double.valueOf(5.0));
 
+    /* Sample cutoff, in pixels, if the StyleRule does not determine one. */
+    private static final double DEFAULT_SAMPLE_CUTOFF = 5.0;
+
+    /* Factory for the pointer location checked against Polygons. */
+    private static final GeometryFactory geometryFactory = new GeometryFactory();
+
+    /*
+     * StyleRules already looked up, by the criteria they were looked up with.
+     * Records of the same source and product share criteria, so StyleManager
+     * is only asked once for each. A null value means no StyleRule matched.
+     */
+    private final Map<GeoDataRecordCriteria, StyleRule> styleRules = new HashMap<>();
+
+    /**
+     * The location a GeoDataRecord is sampled at: the pixel of its Geometry's
+     * centroid, and the distance within which it can be sampled.
+     */
+    private static class SampleLocation {
+
+        private final GeoDataRecord record;
+
+        private final Coordinate pixel;
+
+        private final double cutoff;
+
+        private SampleLocation(GeoDataRecord record, Coordinate pixel,
+                double cutoff) {
+            this.record = record;
+            this.pixel = pixel;
+            this.cutoff = cutoff;
+        }
+    }
+
     /**
      * The default constructor. Generates the GeoDataResource from the
      * associated resourceData and loadProperties. getDefaultPrefs
@@ -332,8 +366,7 @@ public class GeoDataResource
             return "";
         }
 
-        GeoDataRecord closestRecord = getClosestRecord(coord,
-                frame.getRecords());
+        GeoDataRecord closestRecord = frame.getClosestRecord(coord);
 
         String sampleString = "";
 
@@ -344,24 +377,8 @@ public class GeoDataResource
              * matching StyleRule, which contains the unit conversion for any
              * applicable Float/Integer/StringAttribute(s).
              */
-            StyleRule closestRecordRule = null;
-            GeometryPreferences closestRecordPrefs = defaultPrefs;
-            try {
-                GeoDataRecordCriteria closestRecordCriteria = new GeoDataRecordCriteria(
-                        closestRecord);
-                closestRecordRule = StyleManager.getInstance().getStyleRule(
-                        StyleManager.StyleType.GEOMETRY, closestRecordCriteria);
-            } catch (StyleException e) {
-                throw new VizException(e);
-            }
-
-            if (closestRecordRule != null) {
-                if (closestRecordRule
-                        .getPreferences() instanceof GeometryPreferences) {
-                    closestRecordPrefs = (GeometryPreferences) closestRecordRule
-                            .getPreferences();
-                }
-            }
+            GeometryPreferences closestRecordPrefs = getGeometryPreferences(
+                    getStyleRule(closestRecord));
 
             /*
              * Generate the sampleString from the closestRecord and its matching
@@ -471,100 +488,156 @@ public class GeoDataResource
         try {
             Coordinate pointer = coord.asGridCell(descriptor.getGridGeometry(),
                     PixelInCell.CELL_CENTER);
+            Point point = geometryFactory.createPoint(coord.asLatLon());
 
-            double sampleCutoff = 5.0;
+            double closestDist = Double.MAX_VALUE;
             GeoDataRecord closestRecord = null;
-            StyleRule sr = null;
 
             for (GeoDataRecord record : records) {
 
-                Geometry geometry = record.getGeometry();
-
                 /*
                  * If the record Geometry is Polygon, determine if the pointer
                  * is within that Geometry. If so, return that record
                  * immediately.
                  */
-                if (geometry instanceof Polygon) {
-                    Point point = new GeometryFactory()
-                            .createPoint(coord.asLatLon());
-                    if (geometry.contains(point)) {
-                        return record;
-                    }
+                if (record.getGeometry() instanceof Polygon
+                        && record.getGeometry().contains(point)) {
+                    return record;
                 }
 
-                /* Get the best matching style rule for this record. */
-                GeometryPreferences prefs = defaultPrefs;
-                try {
-                    GeoDataRecordCriteria recordCriteria = new GeoDataRecordCriteria(
-                            record);
-                    sr = StyleManager.getInstance().getStyleRule(
-                            StyleManager.StyleType.GEOMETRY, recordCriteria);
-                } catch (StyleException e) {
-                    throw new VizException(e);
-                }
-
-                if (sr != null) {
-                    if (sr.getPreferences() instanceof GeometryPreferences) {
-                        prefs = (GeometryPreferences) sr.getPreferences();
+                SampleLocation location = getSampleLocation(record);
+                if (location != null) {
+                    double recordDist = location.pixel.distance(pointer);
+                    if (recordDist < location.cutoff
+                            && recordDist < closestDist) {
+                        closestDist = recordDist;
+                        closestRecord = record;
                     }
                 }
+            }
 
-                /*
-                 * If we are working with a GeometryPreferences, then the
-                 * sampleCutoff value (or Attribute that holds the value) may be
-                 * defined. Need to determine the value if that is the case.
-                 */
-                if (prefs.getSampleCutoff() instanceof Double) {
-                    sampleCutoff = ((Double) prefs.getSampleCutoff())
-                            .doubleValue();
-                } else if (prefs.getSampleCutoff() instanceof FloatAttribute) {
-                    FloatAttribute sampleAtt = (FloatAttribute) prefs
-                            .getSampleCutoff();
-
-                    for (FloatAttribute att : record.getFloatAtt()) {
-                        if (att.getName().equals(sampleAtt.getName())) {
-                            sampleCutoff = att.getValue();
-                            break;
-                        }
-                    }
-                } else if (prefs
-                        .getSampleCutoff() instanceof IntegerAttribute) {
-                    IntegerAttribute sampleAtt = (IntegerAttribute) prefs
-                            .getSampleCutoff();
-
-                    for (IntegerAttribute att : record.getIntegerAtt()) {
-                        if (att.getName().equals(sampleAtt.getName())) {
-                            sampleCutoff = att.getValue();
-                            break;
-                        }
-                    }
-                }
+            return closestRecord;
+        } catch (FactoryException | TransformException e) {
+            throw new VizException("Error retrieving the closes GeoDataRecord.",
+                    e);
+        }
 
-                Coordinate geomCenter = geometry.getCentroid().getCoordinate();
+    }
 
-                double[] pixel = descriptor.worldToPixel(
-                        new double[] { geomCenter.x, geomCenter.y });
+    /**
+     * Determine where a GeoDataRecord is sampled, in descriptor pixel space.
+     *
+     * @param record
+     *            The GeoDataRecord to locate.
+     * @return The SampleLocation, or null if the record's centroid cannot be
+     *         projected.
+     * @throws VizException
+     *             If there is an error looking up the record's StyleRule.
+     */
+    private SampleLocation getSampleLocation(GeoDataRecord record)
+            throws VizException {
+        Coordinate geomCenter = record.getGeometry().getCentroid()
+                .getCoordinate();
+        double[] pixel = descriptor
+                .worldToPixel(new double[] { geomCenter.x, geomCenter.y });
+        if (pixel == null) {
+            return null;
+        }
+        double cutoff = getSampleCutoff(record,
+                getGeometryPreferences(getStyleRule(record)));
+        return new SampleLocation(record, new Coordinate(pixel[0], pixel[1]),
+                Math.max(0.0, cutoff));
+    }
 
-                Coordinate recordLoc = new Coordinate(pixel[0], pixel[1]);
-                double recordDist = recordLoc.distance(pointer);
-                if (recordDist < sampleCutoff) {
-                    sampleCutoff = recordDist;
-                    closestRecord = record;
+    /**
+     * If we are working with a GeometryPreferences, then the sampleCutoff value
+     * (or Attribute that holds the value) may be defined. Determine the value
+     * if that is the case.
+     *
+     * @param record
+     *            The GeoDataRecord that may hold the sampleCutoff Attribute.
+     * @param prefs
+     *            The GeometryPreferences matching the record.
+     * @return The sampleCutoff in pixels.
+     */
+    private double getSampleCutoff(GeoDataRecord record,
+            GeometryPreferences prefs) {
+        if (prefs.getSampleCutoff() instanceof Double) {
+            return ((Double) prefs.getSampleCutoff()).doubleValue();
+        } else if (prefs.getSampleCutoff() instanceof FloatAttribute) {
+            FloatAttribute sampleAtt = (FloatAttribute) prefs.getSampleCutoff();
+
+            for (FloatAttribute att : record.getFloatAtt()) {
+                if (att.getName().equals(sampleAtt.getName())) {
+                    return att.getValue();
                 }
             }
+        } else if (prefs.getSampleCutoff() instanceof IntegerAttribute) {
+            IntegerAttribute sampleAtt = (IntegerAttribute) prefs
+                    .getSampleCutoff();
 
-            return closestRecord;
-        } catch (FactoryException | TransformException e) {
-            throw new VizException("Error retrieving the closes GeoDataRecord.",
-                    e);
+            for (IntegerAttribute att : record.getIntegerAtt()) {
+                if (att.getName().equals(sampleAtt.getName())) {
+                    return att.getValue();
+                }
+            }
         }
+        return DEFAULT_SAMPLE_CUTOFF;
+    }
+
+    /**
+     * Get the best matching StyleRule for a GeoDataRecord, looking it up only
+     * once for each distinct GeoDataRecordCriteria.
+     *
+     * @param record
+     *            The GeoDataRecord to match.
+     * @return The matching StyleRule, or null if none matched.
+     * @throws VizException
+     *             If there is an error looking up the StyleRule.
+     */
+    private StyleRule getStyleRule(GeoDataRecord record) throws VizException {
+        GeoDataRecordCriteria recordCriteria = new GeoDataRecordCriteria(
+                record);
+        synchronized (styleRules) {
+            if (styleRules.containsKey(recordCriteria)) {
+                return styleRules.get(recordCriteria);
+            }
+        }
+
+        StyleRule styleRule;
+        try {
+            styleRule = StyleManager.getInstance().getStyleRule(
+                    StyleManager.StyleType.GEOMETRY, recordCriteria);
+        } catch (StyleException e) {
+            throw new VizException(e);
+        }
+
+        synchronized (styleRules) {
+            styleRules.put(recordCriteria, styleRule);
+        }
+        return styleRule;
+    }
 
+    /**
+     * @param styleRule
+     *            A matching StyleRule, or null.
+     * @return The StyleRule's GeometryPreferences, or the default preferences
+     *         if it has none.
+     */
+    private GeometryPreferences getGeometryPreferences(StyleRule styleRule) {
+        if (styleRule != null
+                && styleRule.getPreferences() instanceof GeometryPreferences) {
+            return (GeometryPreferences) styleRule.getPreferences();
+        }
+        return defaultPrefs;
     }
 
     @Override
     public void project(CoordinateReferenceSystem crs) throws VizException {
-        /* Dispose of the shapes used to draw Points/Polygons */
+        /*
+         * Dispose of the shapes used to draw Points/Polygons, and the sample
+         * index, which is in the old projection's pixel space.
+         */
         if (frames != null) {
             for (DataFrame frame : frames.values()) {
                 frame.dispose();
@@ -674,6 +747,16 @@ public class GeoDataResource
          */
         Map<GeoDataRecord, IRenderable> map = new HashMap<>();
 
+        /*
+         * Index of the records' SampleLocations, by the pixel envelope within
+         * which each can be sampled. Built when first sampled after the
+         * records or projection change.
+         */
+        private STRtree sampleIndex;
+
+        /* Index of the Polygon records, by lat/lon envelope. */
+        private STRtree polygonIndex;
+
         /**
          * Add a GeoDataRecord:IRenderable pair to the DataFrame mapping
          *
@@ -689,15 +772,7 @@ public class GeoDataResource
 
                 /* Get the matching style rule for the given record. */
                 GeometryPreferences prefs = defaultPrefs;
-                StyleRule styleRule = null;
-                try {
-                    GeoDataRecordCriteria recordCriteria = new GeoDataRecordCriteria(
-                            record);
-                    styleRule = StyleManager.getInstance().getStyleRule(
-                            StyleManager.StyleType.GEOMETRY, recordCriteria);
-                } catch (StyleException e) {
-                    throw new VizException(e);
-                }
+                StyleRule styleRule = getStyleRule(record);
 
                 /*
                  * Determine if there are any ColorMapParameters for coloring
@@ -879,6 +954,7 @@ public class GeoDataResource
                             lineWidth, alpha, LineStyle.SOLID, descriptor));
                 }
             }
+            invalidateIndex();
             /* Apply the magnification to PointDrawables. */
             if (minPointSize != maxPointSize) {
                 if (minMagSize != maxMagSize) {
@@ -907,7 +983,92 @@ public class GeoDataResource
                 }
             }
             map.clear();
+            invalidateIndex();
+
+        }
 
+        /**
+         * Find the GeoDataRecord closest to the mouse pointer, using the
+         * spatial indexes rather than checking every record. A Polygon
+         * containing the pointer is returned first; otherwise the record whose
+         * centroid is nearest the pointer, within its sample cutoff.
+         *
+         * @param coord
+         *            The coordinate of the mouse pointer.
+         * @return The closest GeoDataRecord, or null if none is in range.
+         * @throws VizException
+         *             If there is an error calculating the closest record.
+         */
+        public synchronized GeoDataRecord getClosestRecord(
+                ReferencedCoordinate coord) throws VizException {
+            if (sampleIndex == null) {
+                buildIndex();
+            }
+
+            try {
+                Coordinate latLon = coord.asLatLon();
+                Point point = geometryFactory.createPoint(latLon);
+                for (Object item : polygonIndex.query(new Envelope(latLon))) {
+                    GeoDataRecord record = (GeoDataRecord) item;
+                    if (record.getGeometry().contains(point)) {
+                        return record;
+                    }
+                }
+
+                Coordinate pointer = coord.asGridCell(
+                        descriptor.getGridGeometry(), PixelInCell.CELL_CENTER);
+                double closestDist = Double.MAX_VALUE;
+                GeoDataRecord closestRecord = null;
+                for (Object item : sampleIndex.query(new Envelope(pointer))) {
+                    SampleLocation location = (SampleLocation) item;
+                    double recordDist = location.pixel.distance(pointer);
+                    if (recordDist < location.cutoff
+                            && recordDist < closestDist) {
+                        closestDist = recordDist;
+                        closestRecord = location.record;
+                    }
+                }
+                return closestRecord;
+            } catch (FactoryException | TransformException e) {
+                throw new VizException(
+                        "Error retrieving the closes GeoDataRecord.", e);
+            }
+        }
+
+        /**
+         * Build the spatial indexes of the records in this DataFrame.
+         *
+         * @throws VizException
+         *             If there is an error looking up a record's StyleRule.
+         */
+        private synchronized void buildIndex() throws VizException {
+            STRtree samples = new STRtree();
+            STRtree polygons = new STRtree();
+            for (GeoDataRecord record : map.keySet()) {
+                if (record.getGeometry() instanceof Polygon) {
+                    polygons.insert(
+                            record.getGeometry().getEnvelopeInternal(),
+                            record);
+                }
+                SampleLocation location = getSampleLocation(record);
+                if (location != null) {
+                    Envelope env = new Envelope(location.pixel);
+                    env.expandBy(location.cutoff);
+                    samples.insert(env, location);
+                }
+            }
+            samples.build();
+            polygons.build();
+            sampleIndex = samples;
+            polygonIndex = polygons;
+        }
+
+        /**
+         * Discard the spatial indexes, to be rebuilt when next sampled.
+         */
+        private synchronized void invalidateIndex() {
+            sampleIndex = null;
+            polygonIndex = null;
         }
 
         /**
@@ -937,6 +1098,7 @@ public class GeoDataResource
          */
         public void remove(GeoDataRecord record) {
             IRenderable renderable = map.remove(record);
+            invalidateIndex();
             if (renderable instanceof PointDrawable) {
                 ((PointDrawable) renderable).dispose();
             } else if (renderable instanceof GeoDrawable) {
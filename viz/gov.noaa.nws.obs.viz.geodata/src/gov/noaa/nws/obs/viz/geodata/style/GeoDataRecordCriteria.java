@@ -3,6 +3,7 @@ package gov.noaa.nws.obs.viz.geodata.style;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -191,6 +192,25 @@ public class GeoDataRecordCriteria extends MatchCriteria {
         this.sources = sources;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(attributeNames, products, sources);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        GeoDataRecordCriteria other = (GeoDataRecordCriteria) obj;
+        return Objects.equals(attributeNames, other.attributeNames)
+                && Objects.equals(products, other.products)
+                && Objects.equals(sources, other.sources);
+    }
+
     @Override
     public String toString() {
 
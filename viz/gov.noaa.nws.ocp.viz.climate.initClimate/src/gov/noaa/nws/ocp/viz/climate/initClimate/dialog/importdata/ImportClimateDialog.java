@@ -3,12 +3,17 @@
  **/
 package gov.noaa.nws.ocp.viz.climate.initClimate.dialog.importdata;
 
+import java.lang.reflect.InvocationTargetException;
 import java.text.DateFormatSymbols;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.dialogs.ProgressMonitorDialog;
+import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
 import org.eclipse.swt.events.DisposeListener;
@@ -42,8 +47,8 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodClimo;
 import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
 import gov.noaa.nws.ocp.common.dataplugin.climate.request.ClimateRequest;
 import gov.noaa.nws.ocp.common.dataplugin.climate.request.ClimateRequest.RequestType;
-import gov.noaa.nws.ocp.common.dataplugin.climate.request.initclimate.UpdateClimateDayNormNoMissingRequest;
-import gov.noaa.nws.ocp.common.dataplugin.climate.request.monclimatenorm.UpdateClimateMonthNormNoMissingRequest;
+import gov.noaa.nws.ocp.common.dataplugin.climate.request.initclimate.ImportClimateNormsRequest;
+import gov.noaa.nws.ocp.common.dataplugin.climate.response.ImportClimateNormsResponse;
 import gov.noaa.nws.ocp.viz.climate.initClimate.dialog.ClimateInitDialog;
 import gov.noaa.nws.ocp.viz.common.climate.comp.ClimateLayoutValues;
 import gov.noaa.nws.ocp.viz.common.climate.dialog.ClimateCaveDialog;
@@ -74,6 +79,17 @@ import gov.noaa.nws.ocp.viz.common.climate.handbook.Handbook;
  * 
  */
 public class ImportClimateDialog extends ClimateCaveDialog {
+    /**
+     * Records sent to EDEX per import request. The records of each request are
+     * saved in one transaction.
+     */
+    private static final int IMPORT_BATCH_SIZE = 500;
+
+    /**
+     * Maximum import errors listed in the results message.
+     */
+    private static final int MAX_ERRORS_SHOWN = 10;
+
     /**
      * date formats
      */
@@ -1171,50 +1187,58 @@ public class ImportClimateDialog extends ClimateCaveDialog {
         ClimateDataReader cdr = new ClimateDataReader(shell);
 
         for (FileData fileData : fileDataMap.values()) {
-            int savedCount = 0;
+            java.util.List<ClimateDayNorm> dayRecords = null;
+            java.util.List<PeriodClimo> monthRecords = null;
             if (fileData.isDaily()) {
                 // read file for climate_day
-                java.util.List<ClimateDayNorm> dayRecords = cdr
-                        .readClimateDay(fileData);
+                dayRecords = cdr.readClimateDay(fileData);
+            } else {// Monthly
+                monthRecords = cdr.readClimateMonth(fileData);
+            }
+
+            java.util.List<ImportClimateNormsRequest> requests = new ArrayList<>();
+            int recordCount = dayRecords != null ? dayRecords.size()
+                    : (monthRecords != null ? monthRecords.size() : 0);
+            for (int start = 0; start < recordCount;) {
+                int end = Math.min(recordCount, start + IMPORT_BATCH_SIZE);
                 if (dayRecords != null) {
-                    for (ClimateDayNorm dayRecord : dayRecords) {
-                        UpdateClimateDayNormNoMissingRequest request = new UpdateClimateDayNormNoMissingRequest(
-                                dayRecord);
-                        try {
-                            ThriftClient.sendRequest(request);
-                            savedCount++;
-                        } catch (VizException e) {
-                            logger.error(
-                                    "Failed to save record with station ID="
-                                            + dayRecord.getStationId()
-                                            + " and day_of_year="
-                                            + dayRecord.getDayOfYear(),
-                                    e);
-                        }
-                    }
+                    requests.add(new ImportClimateNormsRequest(
+                            new ArrayList<>(dayRecords.subList(start, end)),
+                            new ArrayList<PeriodClimo>()));
+                } else {
+                    requests.add(new ImportClimateNormsRequest(
+                            new ArrayList<ClimateDayNorm>(),
+                            new ArrayList<>(monthRecords.subList(start, end))));
                 }
-            } else {// Monthly
-                java.util.List<PeriodClimo> monthRecords = cdr
-                        .readClimateMonth(fileData);
-                if (monthRecords != null) {
-                    for (PeriodClimo monthRecord : monthRecords) {
-                        UpdateClimateMonthNormNoMissingRequest request = new UpdateClimateMonthNormNoMissingRequest(
-                                monthRecord);
-                        try {
-                            ThriftClient.sendRequest(request);
-                            savedCount++;
-                        } catch (VizException e) {
-                            logger.error("Failed save record with station ID="
-                                    + monthRecord.getInformId()
-                                    + " and mon_of_year="
-                                    + monthRecord.getMonthOfYear(), e);
-                        }
+                start = end;
+            }
+
+            java.util.List<String> errors = new ArrayList<>();
+            int savedCount = sendImportRequests(fileData.getFileName(),
+                    requests, recordCount, errors);
+
+            StringBuilder message = new StringBuilder();
+            message.append(savedCount)
+                    .append(" record(s) saved to DB for file ")
+                    .append(fileData.getFileName());
+            if (errors.isEmpty()) {
+                MessageDialog.openInformation(shell, "Save results",
+                        message.toString());
+            } else {
+                message.append("\n").append(errors.size())
+                        .append(" error(s):");
+                for (int i = 0; i < errors.size(); i++) {
+                    logger.error(errors.get(i));
+                    if (i < MAX_ERRORS_SHOWN) {
+                        message.append("\n").append(errors.get(i));
                     }
                 }
+                if (errors.size() > MAX_ERRORS_SHOWN) {
+                    message.append("\n...\nSee the log for all errors.");
+                }
+                MessageDialog.openWarning(shell, "Save results",
+                        message.toString());
             }
-            MessageDialog.openInformation(shell, "Save results",
-                    savedCount + " record(s) saved to DB for file "
-                            + fileData.getFileName());
         }
 
         infoTable.removeAll();
@@ -1227,6 +1251,72 @@ public class ImportClimateDialog extends ClimateCaveDialog {
         climateInitDialog.refreshSelection();
     }
 
+    /**
+     * Send import requests to EDEX in turn, showing progress.
+     * 
+     * @param fileName
+     *            file the records were read from.
+     * @param requests
+     *            requests to send.
+     * @param recordCount
+     *            total records in the requests.
+     * @param errors
+     *            list to add error messages to.
+     * @return the number of records saved.
+     */
+    private int sendImportRequests(final String fileName,
+            final java.util.List<ImportClimateNormsRequest> requests,
+            final int recordCount, final java.util.List<String> errors) {
+        final int[] savedCount = { 0 };
+        if (requests.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            new ProgressMonitorDialog(shell).run(true, false,
+                    new IRunnableWithProgress() {
+                        @Override
+                        public void run(IProgressMonitor monitor) {
+                            monitor.beginTask("Saving " + recordCount
+                                    + " record(s) from " + fileName,
+                                    recordCount);
+                            int first = 1;
+                            for (ImportClimateNormsRequest request : requests) {
+                                int size = request.getDayRecords().size()
+                                        + request.getMonthRecords().size();
+                                String range = "Records " + first + " to "
+                                        + (first + size - 1);
+                                try {
+                                    ImportClimateNormsResponse response = (ImportClimateNormsResponse) ThriftClient
+                                            .sendRequest(request);
+                                    savedCount[0] += response.getSavedCount();
+                                    errors.addAll(response.getErrors());
+                                    String message = response.getMessage();
+                                    if (message != null
+                                            && !message.isEmpty()) {
+                                        errors.add(range + " not saved: "
+                                                + message);
+                                    }
+                                } catch (VizException e) {
+                                    logger.error(range + " of file " + fileName
+                                            + " not saved", e);
+                                    errors.add(range + " not saved: "
+                                            + e.getMessage());
+                                }
+                                first += size;
+                                monitor.worked(size);
+                            }
+                            monitor.done();
+                        }
+                    });
+        } catch (InvocationTargetException | InterruptedException e) {
+            logger.error("Failed to save records from file " + fileName, e);
+            errors.add("Failed to save records: " + e.getMessage());
+        }
+
+        return savedCount[0];
+    }
+
     @Override
     public boolean shouldClose() {
         if (!fileDataMap.isEmpty()) {
@@ -1903,10 +1903,10 @@ public class ClimateProdGenerationView extends ViewPart
             // Retrieve the CPG session to find status for NWR and NWWS.
             ClimateProdGenerateSessionDataForView sess = retrieveCPGSession(
                     currentSession);
-            ProductSetStatus nwrSetStatus = sess.getProd_data()
-                    .getProductSetLevelStatus(ClimateProductType.NWR);
-            ProductSetStatus nwwsSetStatus = sess.getProd_data()
-                    .getProductSetLevelStatus(ClimateProductType.NWWS);
+            ProductSetStatus nwrSetStatus = sess
+                    .getProductSetStatus(ClimateProductType.NWR);
+            ProductSetStatus nwwsSetStatus = sess
+                    .getProductSetStatus(ClimateProductType.NWWS);
 
             /*
              * Update text/color for NWR buttons to indicate status. For NWR,
@@ -2212,10 +2212,10 @@ public class ClimateProdGenerationView extends ViewPart
                         || cpgSession.getStateStatus().getStatus()
                                 .equals(StateStatus.Status.SUCCESS)) {
 
-                    ProductSetStatus nwrSetStatus = cpgSession.getProd_data()
-                            .getProductSetLevelStatus(ClimateProductType.NWR);
-                    ProductSetStatus nwwsSetStatus = cpgSession.getProd_data()
-                            .getProductSetLevelStatus(ClimateProductType.NWWS);
+                    ProductSetStatus nwrSetStatus = cpgSession
+                            .getProductSetStatus(ClimateProductType.NWR);
+                    ProductSetStatus nwwsSetStatus = cpgSession
+                            .getProductSetStatus(ClimateProductType.NWWS);
 
                     if (nwrSetStatus == ProductSetStatus.SENT
                             || nwrSetStatus == ProductSetStatus.DELETED) {
@@ -2282,8 +2282,7 @@ public class ClimateProdGenerationView extends ViewPart
     private void disableProdReview(
             ClimateProdGenerateSessionDataForView curSess) {
 
-        if (curSess.getProd_data().getNwrProducts() == null
-                || curSess.getProd_data().getNwrProducts().isEmpty()) {
+        if (!curSess.hasProducts(ClimateProductType.NWR)) {
             reviewNWRBtn.setEnabled(false);
             reviewNWRBtn.setBackground(colorGreen);
 
@@ -2291,8 +2290,7 @@ public class ClimateProdGenerationView extends ViewPart
             sendNWRBtn.setBackground(colorGreen);
         }
 
-        if (curSess.getProd_data().getNwwsProducts() == null
-                || curSess.getProd_data().getNwwsProducts().isEmpty()) {
+        if (!curSess.hasProducts(ClimateProductType.NWWS)) {
             reviewNWWSBtn.setEnabled(false);
             reviewNWWSBtn.setBackground(colorGreen);
 
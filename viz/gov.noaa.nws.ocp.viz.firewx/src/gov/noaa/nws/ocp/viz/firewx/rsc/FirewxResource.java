@@ -10,8 +10,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.swt.graphics.RGB;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
 
 import com.raytheon.uf.common.dataplugin.PluginDataObject;
 import com.raytheon.uf.common.dataplugin.bufrua.UAObs;
@@ -57,8 +59,58 @@ public class FirewxResource
     /** all records */
     private Collection<UAObs> allRecords = new HashSet<>();
 
-    /** all records grouped by time */
-    private Map<DataTime, Collection<UAObs>> groupedRecords = new HashMap<>();
+    /**
+     * all records grouped by time. A frame's collection is replaced, never
+     * modified, when records are added to it, so paint can use it unlocked.
+     */
+    private final Map<DataTime, Collection<UAObs>> groupedRecords = new ConcurrentHashMap<>();
+
+    /** circles drawn for each frame, in the current projection */
+    private final Map<DataTime, FrameCircles> frameCircles = new ConcurrentHashMap<>();
+
+    /**
+     * The circles for the records of one frame, projected to pixel space once
+     * and reused by every paint of the frame.
+     */
+    private static class FrameCircles {
+
+        /** records the circles were made for */
+        private final Collection<UAObs> records;
+
+        private final DrawableCircle[] circles;
+
+        /** color set on the circles */
+        private RGB color;
+
+        /** radius set on the circles */
+        private double radius = Double.NaN;
+
+        private FrameCircles(Collection<UAObs> records,
+                DrawableCircle[] circles) {
+            this.records = records;
+            this.circles = circles;
+        }
+
+        /**
+         * Set color and radius on the circles, if changed since the last
+         * paint.
+         *
+         * @param newColor
+         * @param newRadius
+         */
+        private void setStyle(RGB newColor, double newRadius) {
+            if (newColor.equals(color) && newRadius == radius) {
+                return;
+            }
+            for (DrawableCircle circle : circles) {
+                circle.screenRadius = newRadius;
+                circle.numberOfPoints = (int) (newRadius * 4);
+                circle.basics.color = newColor;
+            }
+            color = newColor;
+            radius = newRadius;
+        }
+    }
 
     protected FirewxResource(FirewxResourceData resourceData,
             LoadProperties loadProperties) {
@@ -92,31 +144,35 @@ public class FirewxResource
      * @param records
      */
     public synchronized void addRecords(PluginDataObject... records) {
+        // bin only the records not already added
+        Map<DataTime, List<UAObs>> newRecords = new HashMap<>();
         for (PluginDataObject record : records) {
-            if (record instanceof UAObs) {
-                allRecords.add((UAObs) record);
-            }
-        }
-
-        Map<DataTime, Collection<UAObs>> newGroupedRecords = new HashMap<>();
-        for (PluginDataObject record : allRecords) {
-            if (record instanceof UAObs) {
+            if (record instanceof UAObs && allRecords.add((UAObs) record)) {
                 UAObs uaObs = (UAObs) record;
                 DataTime normTime = getNormalizedTime(uaObs.getDataTime());
-                Collection<UAObs> uaObsList = newGroupedRecords.get(normTime);
+                List<UAObs> uaObsList = newRecords.get(normTime);
                 if (uaObsList == null) {
                     uaObsList = new ArrayList<>();
-                    uaObsList.add(uaObs);
-                    newGroupedRecords.put(normTime, uaObsList);
-                } else {
-                    uaObsList.add(uaObs);
+                    newRecords.put(normTime, uaObsList);
                 }
+                uaObsList.add(uaObs);
+            }
+        }
+
+        for (Map.Entry<DataTime, List<UAObs>> entry : newRecords.entrySet()) {
+            Collection<UAObs> uaObsList = groupedRecords.get(entry.getKey());
+            if (uaObsList != null) {
+                List<UAObs> merged = new ArrayList<>(
+                        uaObsList.size() + entry.getValue().size());
+                merged.addAll(uaObsList);
+                merged.addAll(entry.getValue());
+                groupedRecords.put(entry.getKey(), merged);
+            } else {
+                groupedRecords.put(entry.getKey(), entry.getValue());
             }
         }
 
-        this.dataTimes.retainAll(groupedRecords.keySet());
-        this.dataTimes.addAll(groupedRecords.keySet());
-        this.groupedRecords = newGroupedRecords;
+        this.dataTimes.addAll(newRecords.keySet());
     }
 
     /**
@@ -139,6 +195,7 @@ public class FirewxResource
         if (records != null) {
             allRecords.removeAll(records);
         }
+        frameCircles.remove(dataTime);
         super.remove(dataTime);
     }
 
@@ -170,22 +227,34 @@ public class FirewxResource
             return;
         }
 
-        RGB color = getCapability(ColorableCapability.class).getColor();
-        List<DrawableCircle> circles = new ArrayList<>(records.size());
-        for (UAObs record : records) {
-            double lat = record.getLatitude();
-            double lon = record.getLongitude();
-            double[] pixel = descriptor.worldToPixel(new double[] { lon, lat });
-            DrawableCircle circle = new DrawableCircle();
-            circle.setCoordinates(pixel[0], pixel[1]);
-            circle.screenRadius = getRadius();
-            circle.numberOfPoints = (int) (circle.screenRadius * 4);
-            circle.basics.color = color;
-            circle.filled = true;
-            circles.add(circle);
+        FrameCircles frame = frameCircles.get(time);
+        if (frame == null || frame.records != records) {
+            DrawableCircle[] circles = new DrawableCircle[records.size()];
+            int i = 0;
+            for (UAObs record : records) {
+                double lat = record.getLatitude();
+                double lon = record.getLongitude();
+                double[] pixel = descriptor
+                        .worldToPixel(new double[] { lon, lat });
+                DrawableCircle circle = new DrawableCircle();
+                circle.setCoordinates(pixel[0], pixel[1]);
+                circle.filled = true;
+                circles[i++] = circle;
+            }
+            frame = new FrameCircles(records, circles);
+            frameCircles.put(time, frame);
         }
-        target.drawCircle(circles.toArray(new DrawableCircle[0]));
 
+        frame.setStyle(getCapability(ColorableCapability.class).getColor(),
+                getRadius());
+        target.drawCircle(frame.circles);
+
+    }
+
+    @Override
+    public void project(CoordinateReferenceSystem crs) throws VizException {
+        // the circles are in the old projection's pixel space
+        frameCircles.clear();
     }
 
     @Override
@@ -4,6 +4,7 @@
 package gov.noaa.nws.ocp.viz.psh.ui.generator.tab.table;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,11 +51,13 @@ import gov.noaa.nws.ocp.common.dataplugin.psh.RainfallDataEntry;
 import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataEntry;
 import gov.noaa.nws.ocp.common.dataplugin.psh.TornadoDataEntry;
 import gov.noaa.nws.ocp.common.dataplugin.psh.WaterLevelDataEntry;
+import gov.noaa.nws.ocp.common.dataplugin.psh.request.MetarStormDataMultiRetrieveRequest;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.MetarStormDataRetrieveRequest;
 import gov.noaa.nws.ocp.common.localization.psh.PshCities;
 import gov.noaa.nws.ocp.common.localization.psh.PshCity;
 import gov.noaa.nws.ocp.common.localization.psh.PshConfigurationManager;
 import gov.noaa.nws.ocp.common.localization.psh.PshStation;
+import gov.noaa.nws.ocp.common.localization.psh.PshStations;
 import gov.noaa.nws.ocp.viz.psh.PshUtil;
 import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.PshTabComp;
 import gov.noaa.nws.ocp.viz.psh.ui.validation.PshAbstractControl;
@@ -184,6 +187,10 @@ public abstract class PshTable {
 
     private Button radioButton72;
 
+    private Button retrieveButton;
+
+    private Button retrieveAllButton;
+
     private Button saveButton;
 
     private Button revertButton;
@@ -278,14 +285,17 @@ public abstract class PshTable {
                 }
             });
 
-            Button retrieveButton = new Button(metarRangeComp, SWT.PUSH);
+            retrieveButton = new Button(metarRangeComp, SWT.PUSH);
             retrieveButton.setText("Retrieve Data");
             retrieveButton.addSelectionListener(retrieveListener());
 
-            metarRangeComp.setEnabled(false);
-            for (Control metarControl : metarRangeComp.getChildren()) {
-                metarControl.setEnabled(false);
-            }
+            retrieveAllButton = new Button(metarRangeComp, SWT.PUSH);
+            retrieveAllButton.setText("Retrieve All");
+            retrieveAllButton.setToolTipText(
+                    "Retrieve data for every station in the table");
+            retrieveAllButton.addSelectionListener(retrieveAllListener());
+
+            setMetarRetrieveEnabled(false);
         }
 
     }
@@ -309,25 +319,11 @@ public abstract class PshTable {
                         PshStation selectedStation = metarStations
                                 .get(stationCombo.getSelectionIndex());
 
-                        String node = selectedStation.getNode();
-                        String station = selectedStation.getCode().substring(1);
-
-                        int period;
-                        if (radioButton48 != null
-                                && radioButton48.getSelection()) {
-                            period = 48;
-                        } else if (radioButton72 != null
-                                && radioButton72.getSelection()) {
-                            period = 72;
-                        } else {
-                            period = 24;
-                        }
                         try {
                             // retrieve metar data from the textdb
-                            MetarDataEntry metarData = (MetarDataEntry) ThriftClient
-                                    .sendRequest(
-                                            new MetarStormDataRetrieveRequest(
-                                                    node, period, station));
+                            MetarDataEntry metarData = retrieveMetarData(
+                                    Arrays.asList(selectedStation),
+                                    getMetarPeriod()).get(0);
 
                             Text minSLPText = (Text) currentEditorRow.get(3)
                                     .getEditor();
@@ -371,6 +367,119 @@ public abstract class PshTable {
         };
     }
 
+    /**
+     * @return a SelectionListener attached to the Retrieve All button, which
+     *         retrieves the data of every station in the table in one request.
+     */
+    private SelectionListener retrieveAllListener() {
+        return new SelectionAdapter() {
+
+            @Override
+            public void widgetSelected(SelectionEvent e) {
+                PshStations metarStations = PshConfigurationManager
+                        .getInstance().getMetarStations();
+                if (metarStations == null
+                        || metarStations.getStations() == null) {
+                    return;
+                }
+
+                List<TableItem> items = new ArrayList<>();
+                List<PshStation> stations = new ArrayList<>();
+                for (TableItem item : tableData.keySet()) {
+                    for (PshStation station : metarStations.getStations()) {
+                        if (PshUtil.buildStationFullName(station)
+                                .equalsIgnoreCase(item.getText(0))) {
+                            items.add(item);
+                            stations.add(station);
+                            break;
+                        }
+                    }
+                }
+                if (stations.isEmpty()) {
+                    return;
+                }
+
+                try {
+                    // retrieve metar data from the textdb
+                    List<MetarDataEntry> metarData = retrieveMetarData(
+                            stations, getMetarPeriod());
+
+                    for (int ii = 0; ii < items.size(); ii++) {
+                        TableItem item = items.get(ii);
+                        MetarDataEntry data = metarData.get(ii);
+
+                        if (data.getMinSeaLevelPres() != null) {
+                            item.setText(3, data.getMinSeaLevelPres());
+                            item.setText(4, data.getMinSeaLevelPresTime());
+                        }
+                        if (data.getSustWind() != null) {
+                            item.setText(6, data.getSustWind());
+                            item.setText(7, data.getSustWindTime());
+                        }
+                        if (data.getPeakWind() != null) {
+                            item.setText(9, data.getPeakWind());
+                            item.setText(10, data.getPeakWindTime());
+                        }
+                        setData(item);
+                    }
+                } catch (VizException e1) {
+                    logger.error(e1.getMessage(), e1);
+                }
+            }
+        };
+    }
+
+    /**
+     * Retrieve the Metar storm data of several stations in one request.
+     * 
+     * @param stations
+     * @param period
+     *            24, 48 or 72 hours
+     * @return the data of each station, in the order of the stations
+     * @throws VizException
+     */
+    @SuppressWarnings("unchecked")
+    private List<MetarDataEntry> retrieveMetarData(List<PshStation> stations,
+            int period) throws VizException {
+        List<MetarStormDataRetrieveRequest> requests = new ArrayList<>();
+        for (PshStation station : stations) {
+            requests.add(new MetarStormDataRetrieveRequest(station.getNode(),
+                    period, station.getCode().substring(1)));
+        }
+        return (List<MetarDataEntry>) ThriftClient
+                .sendRequest(new MetarStormDataMultiRetrieveRequest(requests));
+    }
+
+    /**
+     * @return the selected Metar time range in hours
+     */
+    private int getMetarPeriod() {
+        if (radioButton48 != null && radioButton48.getSelection()) {
+            return 48;
+        } else if (radioButton72 != null && radioButton72.getSelection()) {
+            return 72;
+        }
+        return 24;
+    }
+
+    /**
+     * Enable the Metar time range controls: Retrieve Data while a row is being
+     * edited, Retrieve All otherwise.
+     * 
+     * @param editing
+     *            true if a row is being edited
+     */
+    private void setMetarRetrieveEnabled(boolean editing) {
+        if (metarRangeComp != null) {
+            metarRangeComp.setEnabled(true);
+            for (Control metarControl : metarRangeComp.getChildren()) {
+                metarControl.setEnabled(true);
+            }
+            retrieveButton.setEnabled(editing);
+            retrieveAllButton.setEnabled(!editing);
+        }
+    }
+
     /**
      * Create the table widget.
      * 
@@ -630,13 +739,7 @@ public abstract class PshTable {
                         cancelButton.setVisible(true);
                     }
 
-                    if (metarRangeComp != null) {
-                        metarRangeComp.setEnabled(true);
-                        for (Control metarControl : metarRangeComp
-                                .getChildren()) {
-                            metarControl.setEnabled(true);
-                        }
-                    }
+                    setMetarRetrieveEnabled(true);
 
                     int index = table.getSelectionIndex();
                     currentSelection = index;
@@ -785,13 +888,7 @@ public abstract class PshTable {
                         cancelButton.setVisible(false);
                     }
 
-                    if (metarRangeComp != null) {
-                        metarRangeComp.setEnabled(false);
-                        for (Control metarControl : metarRangeComp
-                                .getChildren()) {
-                            metarControl.setEnabled(false);
-                        }
-                    }
+                    setMetarRetrieveEnabled(false);
 
                     // save row that was being edited and dispose controls.
                     setRow();
@@ -927,12 +1024,7 @@ public abstract class PshTable {
                 if (cancelButton != null) {
                     cancelButton.setVisible(false);
                 }
-                if (metarRangeComp != null) {
-                    metarRangeComp.setEnabled(false);
-                    for (Control metarControl : metarRangeComp.getChildren()) {
-                        metarControl.setEnabled(false);
-                    }
-                }
+                setMetarRetrieveEnabled(false);
 
                 for (int ii = 0; ii < currentEditorRow.size(); ii++) {
                     currentEditorRow.get(ii).getEditor().dispose();